@@ -0,0 +1,83 @@
+#!/usr/bin/env bash
+# Benchmark de arranque: compara el modo clásico, el modo rápido (Spring AOT + CDS)
+# y, si existe, el ejecutable nativo de GraalVM.
+#
+# Mide por corrida:
+#   - listo:            desde el inicio del proceso hasta /actuator/health = UP
+#   - primera petición: desde el inicio hasta la primera respuesta de la API
+#                       (incluye la inicialización perezosa del DispatcherServlet)
+#   - RSS:              memoria residente del proceso después de la primera petición
+#
+# Requisitos: ./gradlew arranqueRapido -Paot (genera build/arranque/ y app.jsa),
+# la base de datos levantada y las variables DB_* exportadas como para bootRun.
+# Para el modo nativo: ./gradlew nativeCompile -Pnative (build/native/nativeCompile/oss-backend).
+#
+# Uso: scripts/benchmark-arranque.sh [corridas]   (por defecto 5)
+set -euo pipefail
+
+CORRIDAS="${1:-5}"
+PUERTO="${SERVER_PORT:-8080}"
+BASE="http://localhost:${PUERTO}"
+BUILD="$(cd "$(dirname "$0")/.." && pwd)/build"
+DIR="$BUILD/arranque"
+NATIVO="$BUILD/native/nativeCompile/oss-backend"
+JAR="$(find "$DIR" -maxdepth 1 -name '*.jar' | head -n 1)"
+JAVA="${JAVA_HOME:+$JAVA_HOME/bin/}java"
+
+if [[ -z "$JAR" || ! -f "$DIR/app.jsa" ]]; then
+  echo "Falta build/arranque: ejecutar primero ./gradlew arranqueRapido -Paot" >&2
+  exit 1
+fi
+
+ahora_ms() { date +%s%3N; }
+
+# Ejecuta una corrida del comando recibido y escribe "<ms listo> <ms primera petición> <KB RSS>"
+corrida() {
+  local inicio listo primera rss pid
+  inicio=$(ahora_ms)
+  (cd "$DIR" && exec "$@" >/dev/null 2>&1) &
+  pid=$!
+  until curl -sf "$BASE/actuator/health" 2>/dev/null | grep -q '"UP"'; do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "La aplicación terminó antes de estar lista" >&2
+      exit 1
+    fi
+    sleep 0.02
+  done
+  listo=$(ahora_ms)
+  curl -sf -o /dev/null "$BASE/api/v1/catalogos/sedes"
+  primera=$(ahora_ms)
+  rss=$(awk '/^VmRSS:/ { print $2 }' "/proc/$pid/status")
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+  echo "$((listo - inicio)) $((primera - inicio)) $rss"
+}
+
+medir() {
+  local modo="$1"; shift
+  local listo=() primera=() rss=() salida resultado
+  corrida "$@" >/dev/null   # calienta la cache de disco del sistema operativo
+  for ((i = 1; i <= CORRIDAS; i++)); do
+    salida=$(corrida "$@")
+    read -r -a resultado <<< "$salida"
+    listo+=("${resultado[0]}")
+    primera+=("${resultado[1]}")
+    rss+=("${resultado[2]}")
+  done
+  printf '%-8s listo: %5d ms   primera petición: %5d ms   RSS: %4d MB   (medianas; listo: %s)\n' \
+    "$modo" "$(mediana "${listo[@]}")" "$(mediana "${primera[@]}")" \
+    "$(( $(mediana "${rss[@]}") / 1024 ))" "${listo[*]}"
+}
+
+mediana() {
+  printf '%s\n' "$@" | sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : int((v[NR / 2] + v[NR / 2 + 1]) / 2) }'
+}
+
+echo "Corridas por modo: $CORRIDAS"
+medir "clasico" "$JAVA" -jar "$(basename "$JAR")"
+medir "rapido" "$JAVA" -XX:SharedArchiveFile=app.jsa -Dspring.aot.enabled=true -jar "$(basename "$JAR")"
+if [[ -x "$NATIVO" ]]; then
+  medir "nativo" "$NATIVO"
+else
+  echo "nativo   (omitido: no existe $NATIVO)"
+fi
@@ -0,0 +1,120 @@
+package pe.edu.upc.oss.group1.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import pe.edu.upc.oss.group1.dto.mapper.CatMarcaMapper;
+import pe.edu.upc.oss.group1.dto.mapper.DispositivoMapper;
+import pe.edu.upc.oss.group1.dto.response.DispositivoResponse;
+import pe.edu.upc.oss.group1.entity.Dispositivo;
+import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoDispositivo;
+import pe.edu.upc.oss.group1.entity.catalogo.CatMarca;
+import pe.edu.upc.oss.group1.entity.catalogo.CatProveedor;
+import pe.edu.upc.oss.group1.entity.catalogo.CatTipoDispositivo;
+import pe.edu.upc.oss.group1.mapper.CatEstadoDispositivoMapper;
+import pe.edu.upc.oss.group1.mapper.CatProveedorMapper;
+import pe.edu.upc.oss.group1.mapper.CatTipoDispositivoMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compara el mapeo anterior (stream + LocalDate.now() y DTOs de catálogo por fila)
+ * con DispositivoMapper.toResponseList (lista pre-dimensionada y MapeoContexto).
+ *
+ * Ejecutar: ./gradlew jmh -PjmhIncludes=DispositivoMapperBenchmark
+ * y comparar gc.alloc.rate.norm entre ambos métodos (bytes por lista mapeada).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DispositivoMapperBenchmark {
+
+    @Param({"100", "1000"})
+    private int filas;
+
+    private List<Dispositivo> dispositivos;
+
+    @Setup
+    public void setUp() {
+        CatTipoDispositivo laptop = new CatTipoDispositivo();
+        laptop.setId(1);
+        laptop.setCodigo("LAPTOP");
+        laptop.setNombre("Laptop");
+
+        CatEstadoDispositivo disponible = new CatEstadoDispositivo();
+        disponible.setId(1);
+        disponible.setCodigo("DISPONIBLE");
+        disponible.setNombre("Disponible");
+        disponible.setDisponibleAsignacion(true);
+
+        CatProveedor proveedor = new CatProveedor();
+        proveedor.setId(1);
+        proveedor.setCodigo("PROV-01");
+        proveedor.setRazonSocial("Proveedor SAC");
+
+        CatMarca[] marcas = new CatMarca[5];
+        for (int i = 0; i < marcas.length; i++) {
+            marcas[i] = new CatMarca();
+            marcas[i].setId(i + 1);
+            marcas[i].setCodigo("M" + i);
+            marcas[i].setNombre("Marca " + i);
+        }
+
+        dispositivos = new ArrayList<>(filas);
+        for (int i = 0; i < filas; i++) {
+            Dispositivo d = new Dispositivo();
+            d.setId(i + 1);
+            d.setCodigoActivo("ACT-" + i);
+            d.setNumeroSerie("SN-" + i);
+            d.setModelo("Modelo " + (i % 10));
+            d.setTipoDispositivo(laptop);
+            d.setMarca(marcas[i % marcas.length]);
+            d.setEstadoDispositivo(disponible);
+            d.setProveedor(proveedor);
+            d.setFechaAdquisicion(LocalDate.of(2020, 1, 1).plusDays(i));
+            d.setValorAdquisicion(BigDecimal.valueOf(1500));
+            dispositivos.add(d);
+        }
+    }
+
+    @Benchmark
+    public List<DispositivoResponse> mapeoAnterior() {
+        return dispositivos.stream()
+                .map(DispositivoMapperBenchmark::toResponseAnterior)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<DispositivoResponse> mapeoConContexto() {
+        return DispositivoMapper.toResponseList(dispositivos);
+    }
+
+    /**
+     * Copia del mapeo por fila previo a MapeoContexto, usada como línea base.
+     */
+    private static DispositivoResponse toResponseAnterior(Dispositivo entity) {
+        Integer antiguedad = entity.getFechaAdquisicion() == null ? 0
+                : Period.between(entity.getFechaAdquisicion(), LocalDate.now()).getYears();
+        return DispositivoResponse.builder()
+                .id(entity.getId())
+                .codigoActivo(entity.getCodigoActivo())
+                .numeroSerie(entity.getNumeroSerie())
+                .tipoDispositivo(CatTipoDispositivoMapper.toResponse(entity.getTipoDispositivo()))
+                .marca(CatMarcaMapper.toResponse(entity.getMarca()))
+                .modelo(entity.getModelo())
+                .especificaciones(entity.getEspecificaciones())
+                .fechaAdquisicion(entity.getFechaAdquisicion())
+                .valorAdquisicion(entity.getValorAdquisicion())
+                .proveedor(CatProveedorMapper.toResponse(entity.getProveedor()))
+                .observaciones(entity.getObservaciones())
+                .estadoDispositivo(CatEstadoDispositivoMapper.toResponse(entity.getEstadoDispositivo()))
+                .antiguedadEnAnios(antiguedad)
+                .disponibleParaAsignacion(entity.isDisponibleParaAsignacion())
+                .fechaCreacion(entity.getFechaCreacion())
+                .build();
+    }
+}
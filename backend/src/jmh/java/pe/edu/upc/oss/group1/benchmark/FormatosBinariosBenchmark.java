@@ -0,0 +1,227 @@
+package pe.edu.upc.oss.group1.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import pe.edu.upc.oss.group1.dto.mapper.AsignacionDispositivoMapper;
+import pe.edu.upc.oss.group1.dto.mapper.DispositivoMapper;
+import pe.edu.upc.oss.group1.dto.mapper.HistorialDispositivoMapper;
+import pe.edu.upc.oss.group1.entity.AsignacionDispositivo;
+import pe.edu.upc.oss.group1.entity.DatosHistorial;
+import pe.edu.upc.oss.group1.entity.Dispositivo;
+import pe.edu.upc.oss.group1.entity.Empleado;
+import pe.edu.upc.oss.group1.entity.HistorialDispositivo;
+import pe.edu.upc.oss.group1.entity.Usuario;
+import pe.edu.upc.oss.group1.entity.catalogo.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara JSON con CBOR y Smile (ver FormatosBinariosConfig) al serializar páginas de 10 000
+ * filas de los listados que consumen las integraciones.
+ *
+ * Ejecutar: ./gradlew jmh -PjmhIncludes=FormatosBinariosBenchmark
+ * El tiempo por página, gc.alloc.rate.norm y el tamaño de cada respuesta (contador auxiliar
+ * bytesPorPagina) salen del reporte de JMH, en la misma tabla para cada página y formato.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FormatosBinariosBenchmark {
+
+    private static final int FILAS = 10_000;
+
+    @Param({"dispositivos", "asignaciones", "historial"})
+    private String pagina;
+
+    @Param({"json", "cbor", "smile"})
+    private String formato;
+
+    private ObjectMapper mapper;
+    private List<?> respuesta;
+
+    @Setup
+    public void setUp() throws Exception {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        mapper = switch (formato) {
+            case "cbor" -> builder.factory(new CBORFactory()).build();
+            case "smile" -> builder.factory(SmileFactory.builder()
+                    .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                    .build()).build();
+            default -> builder.build();
+        };
+
+        List<Dispositivo> dispositivos = dispositivos();
+        respuesta = switch (pagina) {
+            case "asignaciones" -> AsignacionDispositivoMapper.toResponseList(asignaciones(dispositivos));
+            case "historial" -> HistorialDispositivoMapper.toResponseList(historial(dispositivos));
+            default -> DispositivoMapper.toResponseList(dispositivos);
+        };
+    }
+
+    @Benchmark
+    public byte[] serializar(Tamanio tamanio) throws Exception {
+        byte[] serializado = mapper.writeValueAsBytes(respuesta);
+        tamanio.bytesPorPagina = serializado.length;
+        return serializado;
+    }
+
+    /**
+     * Tamaño de la respuesta serializada. EVENTS no se divide por el tiempo: se reporta el
+     * valor tal cual, que es el mismo en cada invocación.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Tamanio {
+
+        public long bytesPorPagina;
+
+        @Setup(Level.Iteration)
+        public void reiniciar() {
+            bytesPorPagina = 0;
+        }
+    }
+
+    private static List<Dispositivo> dispositivos() {
+        CatTipoDispositivo laptop = new CatTipoDispositivo();
+        laptop.setId(1);
+        laptop.setCodigo("LAPTOP");
+        laptop.setNombre("Laptop");
+        laptop.setDescripcion("Computadora portátil");
+
+        CatEstadoDispositivo asignado = new CatEstadoDispositivo();
+        asignado.setId(2);
+        asignado.setCodigo("ASIGNADO");
+        asignado.setNombre("Asignado");
+        asignado.setDisponibleAsignacion(false);
+
+        CatProveedor proveedor = new CatProveedor();
+        proveedor.setId(1);
+        proveedor.setCodigo("PROV-01");
+        proveedor.setRazonSocial("Proveedor SAC");
+        proveedor.setRuc("20123456789");
+
+        CatMarca[] marcas = new CatMarca[5];
+        for (int i = 0; i < marcas.length; i++) {
+            marcas[i] = new CatMarca();
+            marcas[i].setId(i + 1);
+            marcas[i].setCodigo("M" + i);
+            marcas[i].setNombre("Marca " + i);
+        }
+
+        List<Dispositivo> dispositivos = new ArrayList<>(FILAS);
+        for (int i = 0; i < FILAS; i++) {
+            Dispositivo d = new Dispositivo();
+            d.setId(i + 1);
+            d.setCodigoActivo("ACT-" + i);
+            d.setNumeroSerie("SN-" + i);
+            d.setModelo("Modelo " + (i % 10));
+            d.setEspecificaciones("16 GB RAM, 512 GB SSD");
+            d.setTipoDispositivo(laptop);
+            d.setMarca(marcas[i % marcas.length]);
+            d.setEstadoDispositivo(asignado);
+            d.setProveedor(proveedor);
+            d.setFechaAdquisicion(LocalDate.of(2020, 1, 1).plusDays(i % 1500));
+            d.setValorAdquisicion(BigDecimal.valueOf(1500));
+            d.setFechaCreacion(LocalDateTime.of(2024, 1, 1, 8, 0).plusMinutes(i));
+            dispositivos.add(d);
+        }
+        return dispositivos;
+    }
+
+    private static List<AsignacionDispositivo> asignaciones(List<Dispositivo> dispositivos) {
+        CatArea area = new CatArea();
+        area.setId(1);
+        area.setCodigo("TI");
+        area.setNombre("Tecnología");
+        CatPuesto puesto = new CatPuesto();
+        puesto.setId(1);
+        puesto.setCodigo("DEV");
+        puesto.setNombre("Desarrollador");
+        CatSede sede = new CatSede();
+        sede.setId(1);
+        sede.setCodigo("LIM");
+        sede.setNombre("Lima");
+        CatEstadoEmpleado activo = new CatEstadoEmpleado();
+        activo.setId(1);
+        activo.setCodigo("ACTIVO");
+        activo.setNombre("Activo");
+        CatEstadoAsignacion vigente = new CatEstadoAsignacion();
+        vigente.setId(1);
+        vigente.setCodigo("ACTIVA");
+        vigente.setNombre("Activa");
+
+        Usuario operador = usuario();
+        List<Empleado> empleados = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            Empleado e = new Empleado();
+            e.setId(i + 1);
+            e.setCodigoEmpleado("EMP-" + i);
+            e.setNombre("Nombre " + i);
+            e.setApellidoPaterno("Paterno");
+            e.setApellidoMaterno("Materno");
+            e.setEmail("empleado" + i + "@empresa.pe");
+            e.setArea(area);
+            e.setPuesto(puesto);
+            e.setSede(sede);
+            e.setEstadoEmpleado(activo);
+            e.setFechaIngreso(LocalDate.of(2019, 3, 1));
+            empleados.add(e);
+        }
+
+        List<AsignacionDispositivo> asignaciones = new ArrayList<>(FILAS);
+        for (int i = 0; i < FILAS; i++) {
+            AsignacionDispositivo a = new AsignacionDispositivo();
+            a.setId(i + 1);
+            a.setDispositivo(dispositivos.get(i));
+            a.setEmpleado(empleados.get(i % empleados.size()));
+            a.setFechaAsignacion(LocalDate.of(2024, 1, 1).plusDays(i % 365));
+            a.setUsuarioAsigna(operador);
+            a.setEstadoAsignacion(vigente);
+            a.setObservacionesAsignacion("Entrega con cargador");
+            asignaciones.add(a);
+        }
+        return asignaciones;
+    }
+
+    private static List<HistorialDispositivo> historial(List<Dispositivo> dispositivos) {
+        CatTipoMovimiento asignacion = new CatTipoMovimiento();
+        asignacion.setId(1);
+        asignacion.setCodigo("ASIGNACION");
+        asignacion.setNombre("Asignación");
+
+        Usuario operador = usuario();
+        List<HistorialDispositivo> historial = new ArrayList<>(FILAS);
+        for (int i = 0; i < FILAS; i++) {
+            HistorialDispositivo h = new HistorialDispositivo();
+            h.setId(i + 1);
+            h.setDispositivo(dispositivos.get(i));
+            h.setTipoMovimiento(asignacion);
+            h.setUsuario(operador);
+            h.setFechaMovimiento(LocalDateTime.of(2024, 1, 1, 8, 0).plusMinutes(i));
+            h.setDescripcion("Asignado al empleado " + (i % 2_000 + 1));
+            h.setDatos(DatosHistorial.deEmpleado(i % 2_000 + 1));
+            historial.add(h);
+        }
+        return historial;
+    }
+
+    private static Usuario usuario() {
+        Usuario usuario = new Usuario();
+        usuario.setId(1);
+        usuario.setUsername("operador");
+        usuario.setEmail("operador@empresa.pe");
+        usuario.setNombreCompleto("Operador de Inventario");
+        return usuario;
+    }
+}
@@ -0,0 +1,133 @@
+package pe.edu.upc.oss.group1.benchmark;
+
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import pe.edu.upc.oss.group1.OssBackendApplication;
+import pe.edu.upc.oss.group1.dto.mapper.DispositivoMapper;
+import pe.edu.upc.oss.group1.dto.response.DispositivoResponse;
+import pe.edu.upc.oss.group1.entity.Dispositivo;
+import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoDispositivo;
+import pe.edu.upc.oss.group1.entity.catalogo.CatMarca;
+import pe.edu.upc.oss.group1.entity.catalogo.CatProveedor;
+import pe.edu.upc.oss.group1.entity.catalogo.CatTipoDispositivo;
+import pe.edu.upc.oss.group1.repository.DispositivoRepository;
+import pe.edu.upc.oss.group1.service.DispositivoService;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Heap por petición del listado de dispositivos (GET /api/v1/dispositivos), con la aplicación
+ * levantada sobre H2 en memoria:
+ * - contextoPersistencia: findAll del repositorio en una transacción readOnly, como antes.
+ *   Sin snapshot, pero cada fila registra su EntityEntry y un CollectionEntry por colección.
+ * - sinEstado: DispositivoService.findAll (LecturaSinEstado, StatelessSession).
+ * Ambos incluyen el mapeo a DispositivoResponse.
+ *
+ * Ejecutar: ./gradlew jmh -PjmhIncludes=LecturaSinEstadoBenchmark
+ * y comparar gc.alloc.rate.norm entre ambos métodos (bytes por petición de 5.000 filas).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LecturaSinEstadoBenchmark {
+
+    private static final int FILAS = 5000;
+
+    private ConfigurableApplicationContext contexto;
+    private DispositivoRepository dispositivoRepository;
+    private DispositivoService dispositivoService;
+    private TransactionTemplate lectura;
+
+    @Setup
+    public void setUp() {
+        contexto = new SpringApplicationBuilder(OssBackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.flyway.enabled=false",
+                        "app.cache.invalidacion.pg-notify.enabled=false",
+                        "app.inventario.snapshot.cron=-",
+                        "app.escaneo.indice.enabled=false",
+                        "app.escaneo.indice.recarga-cron=-",
+                        "app.idempotencia.depuracion-cron=-",
+                        "app.sincronizacion.depuracion-cron=-")
+                .run();
+        dispositivoRepository = contexto.getBean(DispositivoRepository.class);
+        dispositivoService = contexto.getBean(DispositivoService.class);
+        PlatformTransactionManager transactionManager = contexto.getBean(PlatformTransactionManager.class);
+        lectura = new TransactionTemplate(transactionManager);
+        lectura.setReadOnly(true);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                cargarDispositivos(contexto.getBean(EntityManager.class)));
+    }
+
+    @TearDown
+    public void tearDown() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public List<DispositivoResponse> contextoPersistencia() {
+        return lectura.execute(status -> DispositivoMapper.toResponseList(dispositivoRepository.findAll()));
+    }
+
+    @Benchmark
+    public List<DispositivoResponse> sinEstado() {
+        return DispositivoMapper.toResponseList(dispositivoService.findAll());
+    }
+
+    private static void cargarDispositivos(EntityManager entityManager) {
+        CatTipoDispositivo laptop = new CatTipoDispositivo();
+        laptop.setCodigo("LAPTOP");
+        laptop.setNombre("Laptop");
+        entityManager.persist(laptop);
+
+        CatEstadoDispositivo disponible = new CatEstadoDispositivo();
+        disponible.setCodigo("DISPONIBLE");
+        disponible.setNombre("Disponible");
+        disponible.setDisponibleAsignacion(true);
+        entityManager.persist(disponible);
+
+        CatProveedor proveedor = new CatProveedor();
+        proveedor.setCodigo("PROV-01");
+        proveedor.setRazonSocial("Proveedor SAC");
+        entityManager.persist(proveedor);
+
+        CatMarca[] marcas = new CatMarca[5];
+        for (int i = 0; i < marcas.length; i++) {
+            marcas[i] = new CatMarca();
+            marcas[i].setCodigo("M" + i);
+            marcas[i].setNombre("Marca " + i);
+            entityManager.persist(marcas[i]);
+        }
+
+        for (int i = 0; i < FILAS; i++) {
+            Dispositivo d = new Dispositivo();
+            d.setCodigoActivo("ACT-" + i);
+            d.setNumeroSerie("SN-" + i);
+            d.setModelo("Modelo " + (i % 10));
+            d.setEspecificaciones("16 GB RAM, 512 GB SSD");
+            d.setTipoDispositivo(laptop);
+            d.setMarca(marcas[i % marcas.length]);
+            d.setEstadoDispositivo(disponible);
+            d.setProveedor(i % 2 == 0 ? proveedor : null);
+            d.setFechaAdquisicion(LocalDate.of(2020, 1, 1).plusDays(i % 1500));
+            d.setValorAdquisicion(BigDecimal.valueOf(1500));
+            entityManager.persist(d);
+        }
+    }
+}
@@ -2,8 +2,12 @@ package pe.edu.upc.oss.group1;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
+@ImportRuntimeHints(OssRuntimeHints.class)
 public class OssBackendApplication {
 
 	public static void main(String[] args) {
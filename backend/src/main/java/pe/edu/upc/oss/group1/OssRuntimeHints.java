@@ -0,0 +1,50 @@
+package pe.edu.upc.oss.group1;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import pe.edu.upc.oss.group1.entity.DatosHistorial;
+import pe.edu.upc.oss.group1.escaneo.ResumenEscaneo;
+import pe.edu.upc.oss.group1.service.CambiosSincronizacion;
+import pe.edu.upc.oss.group1.service.DispositivoEscaneado;
+import pe.edu.upc.oss.group1.service.PerfilEmpleado;
+import pe.edu.upc.oss.group1.service.ResultadoEjecucionReemplazo;
+import pe.edu.upc.oss.group1.service.ResultadoLote;
+import pe.edu.upc.oss.group1.service.TenenciaHistorica;
+
+import java.sql.Connection;
+
+/**
+ * Metadatos para el ejecutable nativo que Spring AOT no puede deducir del contexto.
+ * Las entidades, repositorios, DTOs de los controllers y @ConfigurationProperties
+ * los registra Spring AOT; aquí solo va lo que se usa por reflexión fuera de eso.
+ */
+public class OssRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // Payload JSONB de historial: Hibernate lo (de)serializa con Jackson, sin pasar por un controller
+        hints.reflection()
+                .registerType(DatosHistorial.class, MemberCategory.values())
+                .registerType(DatosHistorial.Cambio.class, MemberCategory.values());
+
+        // SELECT new ResumenEscaneo(...) en DispositivoRepository: Hibernate invoca el constructor por reflexión
+        hints.reflection().registerType(ResumenEscaneo.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+        // Records que devuelven los servicios: GrafoLectura los recorre con getRecordComponents()
+        // e invoca sus accessors para inicializar las asociaciones dentro de la transacción
+        for (Class<?> registro : new Class<?>[] {
+                TenenciaHistorica.class, PerfilEmpleado.class, PerfilEmpleado.Tenencia.class,
+                ResultadoLote.class, DispositivoEscaneado.class, ResumenEscaneo.class,
+                CambiosSincronizacion.class, ResultadoEjecucionReemplazo.class}) {
+            hints.reflection().registerType(registro,
+                    MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+
+        // Proxy de RetencionConexionDataSource
+        hints.proxies().registerJdkProxy(Connection.class);
+
+        // Configuración por script de Flyway (p. ej. executeInTransaction=false)
+        hints.resources().registerPattern("db/migration/*.sql.conf");
+    }
+}
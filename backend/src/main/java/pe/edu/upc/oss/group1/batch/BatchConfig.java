@@ -0,0 +1,104 @@
+package pe.edu.upc.oss.group1.batch;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import pe.edu.upc.oss.group1.dto.mapper.AsignacionDispositivoMapper;
+import pe.edu.upc.oss.group1.dto.mapper.DetalleDevolucionMapper;
+import pe.edu.upc.oss.group1.dto.mapper.ReemplazoDispositivoMapper;
+import pe.edu.upc.oss.group1.dto.mapper.SolicitudDevolucionMapper;
+import pe.edu.upc.oss.group1.dto.request.AsignacionDispositivoRequest;
+import pe.edu.upc.oss.group1.dto.request.DetalleDevolucionRequest;
+import pe.edu.upc.oss.group1.dto.request.ReemplazoDispositivoRequest;
+import pe.edu.upc.oss.group1.dto.request.SolicitudDevolucionRequest;
+import pe.edu.upc.oss.group1.service.AsignacionDispositivoService;
+import pe.edu.upc.oss.group1.service.DetalleDevolucionService;
+import pe.edu.upc.oss.group1.service.ReemplazoDispositivoService;
+import pe.edu.upc.oss.group1.service.SolicitudDevolucionService;
+
+import java.util.List;
+
+/**
+ * Operaciones disponibles en POST /api/v1/batch.
+ *
+ * Cada operación se nombra recurso.acción según el endpoint al que equivale; el cuerpo es el
+ * mismo DTO de request y los parámetros son sus variables de ruta y de consulta.
+ */
+@Configuration
+public class BatchConfig {
+
+    @Bean
+    public EjecutorBatch ejecutorBatch(
+            AsignacionDispositivoService asignacionService,
+            SolicitudDevolucionService solicitudService,
+            DetalleDevolucionService detalleService,
+            ReemplazoDispositivoService reemplazoService,
+            TransactionTemplate transactionTemplate,
+            EntityManager entityManager,
+            ObjectMapper objectMapper,
+            Validator validator) {
+        List<OperacionBatch> operaciones = List.of(
+                // POST /api/v1/asignaciones
+                new OperacionBatch("asignaciones.crear", HttpStatus.CREATED, entrada ->
+                        AsignacionDispositivoMapper.toResponse(asignacionService.crear(
+                                AsignacionDispositivoMapper.toEntity(entrada.cuerpo(AsignacionDispositivoRequest.class))))),
+                // POST /api/v1/asignaciones/{id}/devolucion
+                new OperacionBatch("asignaciones.devolucion", HttpStatus.OK, entrada ->
+                        AsignacionDispositivoMapper.toResponse(asignacionService.registrarDevolucion(
+                                entrada.entero("id"), entrada.textoOpcional("observaciones"),
+                                entrada.enteroOpcional("usuarioRecibeId")))),
+                // DELETE /api/v1/asignaciones/{id}
+                new OperacionBatch("asignaciones.cancelar", HttpStatus.NO_CONTENT, entrada -> {
+                    asignacionService.cancelar(entrada.entero("id"), entrada.texto("motivo"));
+                    return null;
+                }),
+                // POST /api/v1/solicitudes-devolucion
+                new OperacionBatch("solicitudes-devolucion.crear", HttpStatus.CREATED, entrada ->
+                        SolicitudDevolucionMapper.toResponse(solicitudService.crear(
+                                SolicitudDevolucionMapper.toEntity(entrada.cuerpo(SolicitudDevolucionRequest.class))))),
+                // PUT /api/v1/solicitudes-devolucion/{id}
+                new OperacionBatch("solicitudes-devolucion.actualizar", HttpStatus.OK, entrada ->
+                        SolicitudDevolucionMapper.toResponse(solicitudService.update(entrada.entero("id"),
+                                SolicitudDevolucionMapper.toEntity(entrada.cuerpo(SolicitudDevolucionRequest.class))))),
+                // POST /api/v1/solicitudes-devolucion/{id}/completar
+                new OperacionBatch("solicitudes-devolucion.completar", HttpStatus.OK, entrada ->
+                        SolicitudDevolucionMapper.toResponse(solicitudService.completar(
+                                entrada.entero("id"), entrada.enteroOpcional("usuarioRecibeId")))),
+                // DELETE /api/v1/solicitudes-devolucion/{id}
+                new OperacionBatch("solicitudes-devolucion.cancelar", HttpStatus.NO_CONTENT, entrada -> {
+                    solicitudService.cancelar(entrada.entero("id"), entrada.texto("motivo"));
+                    return null;
+                }),
+                // POST /api/v1/detalles-devolucion
+                new OperacionBatch("detalles-devolucion.agregar", HttpStatus.CREATED, entrada ->
+                        DetalleDevolucionMapper.toResponse(detalleService.agregar(
+                                DetalleDevolucionMapper.toEntity(entrada.cuerpo(DetalleDevolucionRequest.class))))),
+                // PUT /api/v1/detalles-devolucion/{id}
+                new OperacionBatch("detalles-devolucion.actualizar-condicion", HttpStatus.OK, entrada ->
+                        DetalleDevolucionMapper.toResponse(detalleService.updateCondicion(entrada.entero("id"),
+                                DetalleDevolucionMapper.toEntity(entrada.cuerpo(DetalleDevolucionRequest.class))))),
+                // DELETE /api/v1/detalles-devolucion/{id}
+                new OperacionBatch("detalles-devolucion.eliminar", HttpStatus.NO_CONTENT, entrada -> {
+                    detalleService.delete(entrada.entero("id"));
+                    return null;
+                }),
+                // POST /api/v1/reemplazos
+                new OperacionBatch("reemplazos.crear", HttpStatus.CREATED, entrada ->
+                        ReemplazoDispositivoMapper.toResponse(reemplazoService.crear(
+                                ReemplazoDispositivoMapper.toEntity(entrada.cuerpo(ReemplazoDispositivoRequest.class))))),
+                // POST /api/v1/reemplazos/{id}/ejecutar
+                new OperacionBatch("reemplazos.ejecutar", HttpStatus.OK, entrada ->
+                        ReemplazoDispositivoMapper.toResponse(reemplazoService.ejecutarReemplazo(entrada.entero("id")))),
+                // DELETE /api/v1/reemplazos/{id}
+                new OperacionBatch("reemplazos.cancelar", HttpStatus.NO_CONTENT, entrada -> {
+                    reemplazoService.cancelar(entrada.entero("id"), entrada.texto("motivo"));
+                    return null;
+                }));
+
+        return new EjecutorBatch(operaciones, transactionTemplate, entityManager, objectMapper, validator);
+    }
+}
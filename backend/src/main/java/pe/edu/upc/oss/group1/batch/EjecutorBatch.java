@@ -0,0 +1,218 @@
+package pe.edu.upc.oss.group1.batch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import pe.edu.upc.oss.group1.exception.BusinessValidationException;
+import pe.edu.upc.oss.group1.exception.DuplicateResourceException;
+import pe.edu.upc.oss.group1.exception.ErrorResponse;
+import pe.edu.upc.oss.group1.exception.ResourceNotFoundException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Ejecuta una secuencia de operaciones de escritura en una sola petición HTTP.
+ *
+ * Las operaciones se ejecutan en orden y llaman a los mismos servicios que sus endpoints, que
+ * se unen a la transacción del batch. Después de cada operación se hace flush y se vacía el
+ * contexto de persistencia: la siguiente lee lo que quedó en la base, igual que si fuera otra
+ * petición (por ejemplo, completar una solicitud ve los detalles agregados en el mismo batch).
+ *
+ * - TODO_O_NADA: una transacción para todo el batch. La primera operación que falla la revierte,
+ *   las anteriores quedan REVERTIDA y las siguientes NO_EJECUTADA.
+ * - POR_OPERACION: una transacción por operación. Una operación que referencia el resultado de
+ *   otra que falló también falla (424) sin ejecutarse.
+ *
+ * Se registra como bean en BatchConfig, que declara las operaciones disponibles.
+ */
+@Slf4j
+public class EjecutorBatch {
+
+    public static final int MAXIMO_OPERACIONES = 50;
+
+    private final Map<String, OperacionBatch> operaciones = new LinkedHashMap<>();
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    public EjecutorBatch(List<OperacionBatch> operaciones, TransactionTemplate transactionTemplate,
+                         EntityManager entityManager, ObjectMapper objectMapper, Validator validator) {
+        operaciones.forEach(operacion -> this.operaciones.put(operacion.nombre(), operacion));
+        this.transactionTemplate = transactionTemplate;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+    }
+
+    /**
+     * Nombres de operación aceptados, en el orden en que se declararon.
+     */
+    public Set<String> getOperaciones() {
+        return operaciones.keySet();
+    }
+
+    public ResultadoBatch ejecutar(List<OperacionSolicitada> solicitadas, ModoBatch modo) {
+        validar(solicitadas);
+        log.info("Ejecutando batch {} con {} operaciones", modo, solicitadas.size());
+
+        Map<String, JsonNode> valores = new HashMap<>();
+        Set<String> fallidas = new HashSet<>();
+        List<ResultadoOperacion> resultados = new ArrayList<>(solicitadas.size());
+
+        if (modo == ModoBatch.TODO_O_NADA) {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = 0; i < solicitadas.size(); i++) {
+                    ResultadoOperacion resultado = ejecutarOperacion(i, solicitadas.get(i), valores, fallidas);
+                    resultados.add(resultado);
+                    if (resultado.estado() == EstadoOperacion.FALLIDA) {
+                        status.setRollbackOnly();
+                        return;
+                    }
+                }
+            });
+            if (resultados.get(resultados.size() - 1).estado() == EstadoOperacion.FALLIDA) {
+                revertir(resultados, solicitadas);
+            }
+        } else {
+            for (int i = 0; i < solicitadas.size(); i++) {
+                int indice = i;
+                resultados.add(transactionTemplate.execute(status -> {
+                    ResultadoOperacion resultado = ejecutarOperacion(indice, solicitadas.get(indice), valores, fallidas);
+                    if (resultado.estado() == EstadoOperacion.FALLIDA) {
+                        status.setRollbackOnly();
+                    }
+                    return resultado;
+                }));
+            }
+        }
+
+        ResultadoBatch batch = new ResultadoBatch(modo, resultados);
+        log.info("Batch {}: {} de {} operaciones exitosas", modo,
+                batch.contar(EstadoOperacion.EXITOSA), solicitadas.size());
+        return batch;
+    }
+
+    /**
+     * Rechaza el batch completo antes de ejecutar nada si nombra operaciones desconocidas,
+     * repite ids o referencia operaciones que no la preceden.
+     */
+    private void validar(List<OperacionSolicitada> solicitadas) {
+        if (solicitadas.isEmpty() || solicitadas.size() > MAXIMO_OPERACIONES) {
+            throw new BusinessValidationException(
+                    "El batch debe tener entre 1 y " + MAXIMO_OPERACIONES + " operaciones");
+        }
+        Set<String> anteriores = new HashSet<>();
+        for (int i = 0; i < solicitadas.size(); i++) {
+            OperacionSolicitada solicitada = solicitadas.get(i);
+            if (!operaciones.containsKey(solicitada.operacion())) {
+                throw new BusinessValidationException("Operación " + i + ": '" + solicitada.operacion()
+                        + "' no existe. Operaciones disponibles: " + String.join(", ", operaciones.keySet()));
+            }
+            for (JsonNode nodo : new JsonNode[]{solicitada.cuerpo(), solicitada.parametros()}) {
+                for (String referenciada : ReferenciasBatch.referenciadas(nodo)) {
+                    if (!anteriores.contains(referenciada)) {
+                        throw new BusinessValidationException("Operación " + i + ": la referencia a '" + referenciada
+                                + "' no corresponde a una operación anterior del batch");
+                    }
+                }
+            }
+            anteriores.add(String.valueOf(i));
+            if (solicitada.id() != null && !anteriores.add(solicitada.id())) {
+                throw new BusinessValidationException("Operación " + i + ": el id '" + solicitada.id()
+                        + "' está repetido en el batch");
+            }
+        }
+    }
+
+    private ResultadoOperacion ejecutarOperacion(int indice, OperacionSolicitada solicitada,
+                                                 Map<String, JsonNode> valores, Set<String> fallidas) {
+        OperacionBatch operacion = operaciones.get(solicitada.operacion());
+        try {
+            EntradaOperacion entrada = new EntradaOperacion(
+                    ReferenciasBatch.resolver(solicitada.cuerpo(), valores),
+                    ReferenciasBatch.resolver(solicitada.parametros(), valores),
+                    objectMapper, validator);
+
+            Object cuerpo = operacion.ejecucion().apply(entrada);
+            entityManager.flush();
+            entityManager.clear();
+
+            JsonNode valor = objectMapper.valueToTree(cuerpo);
+            valores.put(String.valueOf(indice), valor);
+            if (solicitada.id() != null) {
+                valores.put(solicitada.id(), valor);
+            }
+            return new ResultadoOperacion(indice, solicitada.id(), solicitada.operacion(), EstadoOperacion.EXITOSA,
+                    operacion.estadoExito().value(), cuerpo, null);
+        } catch (RuntimeException e) {
+            fallidas.add(String.valueOf(indice));
+            if (solicitada.id() != null) {
+                fallidas.add(solicitada.id());
+            }
+            ErrorResponse error = error(e, fallidas);
+            log.warn("Operación {} ({}) del batch fallida: {}", indice, solicitada.operacion(), error.getMessage());
+            return new ResultadoOperacion(indice, solicitada.id(), solicitada.operacion(), EstadoOperacion.FALLIDA,
+                    error.getStatus(), null, error);
+        }
+    }
+
+    private static void revertir(List<ResultadoOperacion> resultados, List<OperacionSolicitada> solicitadas) {
+        for (int i = 0; i < resultados.size() - 1; i++) {
+            resultados.set(i, resultados.get(i).con(EstadoOperacion.REVERTIDA));
+        }
+        for (int i = resultados.size(); i < solicitadas.size(); i++) {
+            OperacionSolicitada solicitada = solicitadas.get(i);
+            resultados.add(new ResultadoOperacion(i, solicitada.id(), solicitada.operacion(),
+                    EstadoOperacion.NO_EJECUTADA, 0, null, null));
+        }
+    }
+
+    /**
+     * Mismo formato y códigos que GlobalExceptionHandler para el endpoint individual.
+     */
+    private static ErrorResponse error(RuntimeException e, Set<String> fallidas) {
+        HttpStatus estado;
+        String codigo;
+        String mensaje = e.getMessage();
+        if (e instanceof ReferenciasBatch.ReferenciaException referencia) {
+            boolean dependenciaFallida = fallidas.contains(referencia.getOperacion());
+            estado = dependenciaFallida ? HttpStatus.FAILED_DEPENDENCY : HttpStatus.BAD_REQUEST;
+            codigo = dependenciaFallida ? "DEPENDENCY_FAILED" : "REFERENCE_ERROR";
+            if (dependenciaFallida) {
+                mensaje = "La operación '" + referencia.getOperacion() + "' de la que depende falló";
+            }
+        } else if (e instanceof ResourceNotFoundException) {
+            estado = HttpStatus.NOT_FOUND;
+            codigo = "RESOURCE_NOT_FOUND";
+        } else if (e instanceof DuplicateResourceException) {
+            estado = HttpStatus.CONFLICT;
+            codigo = "DUPLICATE_RESOURCE";
+        } else if (e instanceof BusinessValidationException) {
+            estado = HttpStatus.BAD_REQUEST;
+            codigo = "BUSINESS_VALIDATION_ERROR";
+        } else {
+            log.error("Error interno no manejado en operación de batch: ", e);
+            estado = HttpStatus.INTERNAL_SERVER_ERROR;
+            codigo = "INTERNAL_SERVER_ERROR";
+            mensaje = "Ha ocurrido un error interno. Por favor contacte al administrador.";
+        }
+        return ErrorResponse.builder()
+                .status(estado.value())
+                .error(codigo)
+                .message(mensaje)
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,98 @@
+package pe.edu.upc.oss.group1.batch;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import pe.edu.upc.oss.group1.exception.BusinessValidationException;
+
+import java.util.Comparator;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Cuerpo y parámetros de una operación del batch, con las referencias ya resueltas.
+ * El cuerpo se convierte al mismo DTO de request del endpoint y se valida igual que con @Valid.
+ */
+public class EntradaOperacion {
+
+    private final JsonNode cuerpo;
+    private final JsonNode parametros;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    EntradaOperacion(JsonNode cuerpo, JsonNode parametros, ObjectMapper objectMapper, Validator validator) {
+        this.cuerpo = cuerpo;
+        this.parametros = parametros;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+    }
+
+    public <T> T cuerpo(Class<T> tipo) {
+        if (cuerpo == null || cuerpo.isNull()) {
+            throw new BusinessValidationException("La operación requiere un cuerpo");
+        }
+        T request;
+        try {
+            request = objectMapper.treeToValue(cuerpo, tipo);
+        } catch (JsonProcessingException e) {
+            throw new BusinessValidationException("Cuerpo de la operación inválido: " + e.getOriginalMessage());
+        }
+        Set<ConstraintViolation<T>> errores = validator.validate(request);
+        if (!errores.isEmpty()) {
+            throw new BusinessValidationException(errores.stream()
+                    .sorted(Comparator.comparing(error -> error.getPropertyPath().toString()))
+                    .map(ConstraintViolation::getMessage)
+                    .collect(Collectors.joining("; ")));
+        }
+        return request;
+    }
+
+    public Integer entero(String nombre) {
+        Integer valor = enteroOpcional(nombre);
+        if (valor == null) {
+            throw new BusinessValidationException("El parámetro '" + nombre + "' es obligatorio");
+        }
+        return valor;
+    }
+
+    public Integer enteroOpcional(String nombre) {
+        JsonNode valor = parametro(nombre);
+        if (valor == null) {
+            return null;
+        }
+        if (valor.isIntegralNumber() && valor.canConvertToInt()) {
+            return valor.intValue();
+        }
+        if (valor.isTextual()) {
+            try {
+                return Integer.valueOf(valor.asText().strip());
+            } catch (NumberFormatException e) {
+                // se informa abajo
+            }
+        }
+        throw new BusinessValidationException("El parámetro '" + nombre + "' debe ser un número entero");
+    }
+
+    public String texto(String nombre) {
+        String valor = textoOpcional(nombre);
+        if (valor == null || valor.isBlank()) {
+            throw new BusinessValidationException("El parámetro '" + nombre + "' es obligatorio");
+        }
+        return valor;
+    }
+
+    public String textoOpcional(String nombre) {
+        JsonNode valor = parametro(nombre);
+        return valor != null ? valor.asText() : null;
+    }
+
+    private JsonNode parametro(String nombre) {
+        if (parametros == null) {
+            return null;
+        }
+        JsonNode valor = parametros.get(nombre);
+        return valor == null || valor.isNull() ? null : valor;
+    }
+}
@@ -0,0 +1,14 @@
+package pe.edu.upc.oss.group1.batch;
+
+/**
+ * Resultado de una operación dentro de un batch.
+ */
+public enum EstadoOperacion {
+
+    EXITOSA,
+    FALLIDA,
+    /** Se ejecutó, pero otra operación falló y el batch TODO_O_NADA se revirtió completo. */
+    REVERTIDA,
+    /** No llegó a ejecutarse porque una operación anterior falló en un batch TODO_O_NADA. */
+    NO_EJECUTADA
+}
@@ -0,0 +1,13 @@
+package pe.edu.upc.oss.group1.batch;
+
+/**
+ * Cómo se confirma un batch.
+ */
+public enum ModoBatch {
+
+    /** Una sola transacción: la primera operación fallida revierte todas y detiene el batch. */
+    TODO_O_NADA,
+
+    /** Cada operación se confirma por separado; una fallida no afecta a las demás. */
+    POR_OPERACION
+}
@@ -0,0 +1,13 @@
+package pe.edu.upc.oss.group1.batch;
+
+import org.springframework.http.HttpStatus;
+
+import java.util.function.Function;
+
+/**
+ * Operación que se puede incluir en un batch: equivale a un endpoint de escritura y llama al
+ * mismo método de servicio. La ejecución devuelve el DTO de respuesta del endpoint (o null si
+ * el endpoint responde sin cuerpo).
+ */
+public record OperacionBatch(String nombre, HttpStatus estadoExito, Function<EntradaOperacion, Object> ejecucion) {
+}
@@ -0,0 +1,14 @@
+package pe.edu.upc.oss.group1.batch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Operación pedida en un batch, tal como llega del cliente.
+ *
+ * @param id         nombre opcional para referenciar su resultado desde operaciones posteriores
+ * @param operacion  nombre de la operación registrada en BatchConfig (p. ej. solicitudes-devolucion.crear)
+ * @param cuerpo     cuerpo equivalente al del endpoint individual; puede contener referencias
+ * @param parametros variables de ruta y parámetros de consulta del endpoint individual
+ */
+public record OperacionSolicitada(String id, String operacion, JsonNode cuerpo, JsonNode parametros) {
+}
@@ -0,0 +1,110 @@
+package pe.edu.upc.oss.group1.batch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Referencias a resultados de operaciones anteriores del mismo batch.
+ *
+ * Un valor de texto que es exactamente "${sol.id}" se reemplaza por el campo id del resultado
+ * de la operación "sol" (su id en el batch o su índice, "${0.id}"), conservando el tipo: un
+ * número queda como número. Los campos anidados se recorren con puntos ("${sol.empleado.id}").
+ */
+final class ReferenciasBatch {
+
+    static final Pattern REFERENCIA = Pattern.compile("^\\$\\{([A-Za-z0-9_-]+)((?:\\.[A-Za-z0-9_]+)+)}$");
+
+    private ReferenciasBatch() {
+    }
+
+    /**
+     * Operaciones (id o índice) referenciadas en cualquier nivel del nodo.
+     */
+    static Set<String> referenciadas(JsonNode nodo) {
+        Set<String> nombres = new LinkedHashSet<>();
+        recorrer(nodo, nombres);
+        return nombres;
+    }
+
+    /**
+     * Copia del nodo con las referencias reemplazadas por los valores de los resultados.
+     *
+     * @param resultados resultado de cada operación exitosa, por id y por índice
+     * @throws ReferenciaException si la operación no tiene resultado o no tiene ese campo
+     */
+    static JsonNode resolver(JsonNode nodo, Map<String, JsonNode> resultados) {
+        if (nodo == null) {
+            return null;
+        }
+        if (nodo.isTextual()) {
+            Matcher matcher = REFERENCIA.matcher(nodo.textValue());
+            return matcher.matches() ? valor(matcher.group(1), matcher.group(2), resultados) : nodo;
+        }
+        if (nodo.isObject()) {
+            ObjectNode copia = ((ObjectNode) nodo).objectNode();
+            nodo.fields().forEachRemaining(campo -> copia.set(campo.getKey(), resolver(campo.getValue(), resultados)));
+            return copia;
+        }
+        if (nodo.isArray()) {
+            ArrayNode copia = ((ArrayNode) nodo).arrayNode();
+            nodo.forEach(elemento -> copia.add(resolver(elemento, resultados)));
+            return copia;
+        }
+        return nodo;
+    }
+
+    private static JsonNode valor(String operacion, String ruta, Map<String, JsonNode> resultados) {
+        JsonNode actual = resultados.get(operacion);
+        if (actual == null) {
+            throw new ReferenciaException(operacion, "La operación '" + operacion + "' no tiene resultado");
+        }
+        for (String campo : ruta.substring(1).split("\\.")) {
+            actual = actual.isArray() && campo.chars().allMatch(Character::isDigit)
+                    ? actual.get(Integer.parseInt(campo))
+                    : actual.get(campo);
+            if (actual == null || actual.isNull()) {
+                throw new ReferenciaException(operacion,
+                        "El resultado de la operación '" + operacion + "' no tiene el campo '" + ruta.substring(1) + "'");
+            }
+        }
+        return actual;
+    }
+
+    private static void recorrer(JsonNode nodo, Set<String> nombres) {
+        if (nodo == null) {
+            return;
+        }
+        if (nodo.isTextual()) {
+            Matcher matcher = REFERENCIA.matcher(nodo.textValue());
+            if (matcher.matches()) {
+                nombres.add(matcher.group(1));
+            }
+        } else if (nodo.isContainerNode()) {
+            nodo.forEach(hijo -> recorrer(hijo, nombres));
+        }
+    }
+
+    /**
+     * Referencia que no se pudo resolver; operacion es el id o índice referenciado.
+     */
+    static class ReferenciaException extends RuntimeException {
+
+        private final String operacion;
+
+        ReferenciaException(String operacion, String message) {
+            super(message);
+            this.operacion = operacion;
+        }
+
+        String getOperacion() {
+            return operacion;
+        }
+    }
+}
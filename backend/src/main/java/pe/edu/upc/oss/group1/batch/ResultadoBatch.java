@@ -0,0 +1,27 @@
+package pe.edu.upc.oss.group1.batch;
+
+import java.util.List;
+
+/**
+ * Resultados de un batch, uno por operación solicitada y en el mismo orden.
+ */
+public record ResultadoBatch(ModoBatch modo, List<ResultadoOperacion> resultados) {
+
+    public boolean isExitoso() {
+        return resultados.stream().allMatch(resultado -> resultado.estado() == EstadoOperacion.EXITOSA);
+    }
+
+    public long contar(EstadoOperacion estado) {
+        return resultados.stream().filter(resultado -> resultado.estado() == estado).count();
+    }
+
+    /**
+     * La operación que hizo fallar el batch, o null si todas fueron exitosas.
+     */
+    public ResultadoOperacion getPrimeraFallida() {
+        return resultados.stream()
+                .filter(resultado -> resultado.estado() == EstadoOperacion.FALLIDA)
+                .findFirst()
+                .orElse(null);
+    }
+}
@@ -0,0 +1,14 @@
+package pe.edu.upc.oss.group1.batch;
+
+import pe.edu.upc.oss.group1.exception.ErrorResponse;
+
+/**
+ * Resultado de una operación: el estado HTTP y el cuerpo que habría devuelto su endpoint.
+ */
+public record ResultadoOperacion(int indice, String id, String operacion, EstadoOperacion estado,
+                                 int estadoHttp, Object cuerpo, ErrorResponse error) {
+
+    ResultadoOperacion con(EstadoOperacion nuevoEstado) {
+        return new ResultadoOperacion(indice, id, operacion, nuevoEstado, estadoHttp, cuerpo, error);
+    }
+}
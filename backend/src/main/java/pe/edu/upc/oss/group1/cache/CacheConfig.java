@@ -0,0 +1,19 @@
+package pe.edu.upc.oss.group1.cache;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuración de caches locales con invalidación coherente entre instancias.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager(InvalidacionCacheBus invalidacionCacheBus) {
+        return new ClusterCacheManager(invalidacionCacheBus);
+    }
+}
@@ -0,0 +1,48 @@
+package pe.edu.upc.oss.group1.cache;
+
+import java.util.List;
+
+/**
+ * Nombres de las regiones de cache locales de cada instancia.
+ *
+ * Cada región se invalida completa (allEntries) y la invalidación se propaga
+ * al resto de nodos vía PostgreSQL LISTEN/NOTIFY (ver InvalidacionCacheBus).
+ * CAT_AREA y CAT_PUESTO solo se invalidan, no se cachean sus listados: tienen relaciones LAZY
+ * que no pueden leerse desde una instancia cacheada fuera de su sesión.
+ */
+public final class CacheNames {
+
+    public static final String CAT_AREA = "cat_area";
+    public static final String CAT_CONDICION_DEVOLUCION = "cat_condicion_devolucion";
+    public static final String CAT_ESTADO_ASIGNACION = "cat_estado_asignacion";
+    public static final String CAT_ESTADO_DISPOSITIVO = "cat_estado_dispositivo";
+    public static final String CAT_ESTADO_EMPLEADO = "cat_estado_empleado";
+    public static final String CAT_ESTADO_REEMPLAZO = "cat_estado_reemplazo";
+    public static final String CAT_ESTADO_SOLICITUD = "cat_estado_solicitud";
+    public static final String CAT_MARCA = "cat_marca";
+    public static final String CAT_MOTIVO_REEMPLAZO = "cat_motivo_reemplazo";
+    public static final String CAT_PROVEEDOR = "cat_proveedor";
+    public static final String CAT_PUESTO = "cat_puesto";
+    public static final String CAT_SEDE = "cat_sede";
+    public static final String CAT_TIPO_DISPOSITIVO = "cat_tipo_dispositivo";
+    public static final String CAT_TIPO_MOVIMIENTO = "cat_tipo_movimiento";
+
+    /** Estado de dispositivos (disponibilidad, datos maestros). */
+    public static final String DISPOSITIVOS = "dispositivos";
+
+    /** Asignaciones, devoluciones y reemplazos. */
+    public static final String ASIGNACIONES = "asignaciones";
+
+    /** Claves usadas por los listados de catálogos cacheados. */
+    public static final String KEY_TODOS = "'todos'";
+    public static final String KEY_ACTIVOS = "'activos'";
+
+    public static final List<String> TODAS = List.of(
+            CAT_AREA, CAT_CONDICION_DEVOLUCION, CAT_ESTADO_ASIGNACION, CAT_ESTADO_DISPOSITIVO,
+            CAT_ESTADO_EMPLEADO, CAT_ESTADO_REEMPLAZO, CAT_ESTADO_SOLICITUD, CAT_MARCA,
+            CAT_MOTIVO_REEMPLAZO, CAT_PROVEEDOR, CAT_PUESTO, CAT_SEDE, CAT_TIPO_DISPOSITIVO,
+            CAT_TIPO_MOVIMIENTO, DISPOSITIVOS, ASIGNACIONES);
+
+    private CacheNames() {
+    }
+}
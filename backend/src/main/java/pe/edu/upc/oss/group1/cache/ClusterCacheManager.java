@@ -0,0 +1,130 @@
+package pe.edu.upc.oss.group1.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * CacheManager cuyas caches propagan las invalidaciones (@CacheEvict) al cluster
+ * a través de InvalidacionCacheBus. Las lecturas y escrituras son locales.
+ *
+ * Las invalidaciones son por región completa: evict(key) equivale a clear().
+ *
+ * Un @Cacheable que no encuentra la clave lee la base y luego hace put. Si entre la
+ * lectura y el put llega una invalidación, el valor leído ya es viejo: cada cache recuerda
+ * la generación de la región (InvalidacionCacheBus.getGeneracion) al fallar la búsqueda y
+ * descarta el put si cambió.
+ */
+public class ClusterCacheManager implements CacheManager {
+
+    private final InvalidacionCacheBus bus;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public ClusterCacheManager(InvalidacionCacheBus bus) {
+        this.bus = bus;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache local = bus.getCacheLocal().getCache(name);
+        if (local == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, n -> new ClusterCache(local, bus));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return bus.getCacheLocal().getCacheNames();
+    }
+
+    private static final class ClusterCache extends AbstractValueAdaptingCache {
+
+        private final Cache local;
+        private final InvalidacionCacheBus bus;
+        private final ThreadLocal<Lectura> lectura = new ThreadLocal<>();
+
+        private ClusterCache(Cache local, InvalidacionCacheBus bus) {
+            super(true);
+            this.local = local;
+            this.bus = bus;
+        }
+
+        @Override
+        public String getName() {
+            return local.getName();
+        }
+
+        @Override
+        public Object getNativeCache() {
+            return local.getNativeCache();
+        }
+
+        @Override
+        protected Object lookup(Object key) {
+            // Antes de buscar: el valor que se cargue tras un fallo es posterior a esta generación
+            long generacion = bus.getGeneracion(getName());
+            ValueWrapper wrapper = local.get(key);
+            if (wrapper != null) {
+                lectura.remove();
+                return toStoreValue(wrapper.get());
+            }
+            lectura.set(new Lectura(key, generacion));
+            return null;
+        }
+
+        @Override
+        public <T> T get(Object key, Callable<T> valueLoader) {
+            long generacion = bus.getGeneracion(getName());
+            T valor = local.get(key, valueLoader);
+            descartarSiInvalidada(key, generacion);
+            return valor;
+        }
+
+        /**
+         * Guarda el valor salvo que la región se haya invalidado desde la búsqueda fallida
+         * de la misma clave en este hilo. Sin búsqueda previa (p. ej. @CachePut) se guarda.
+         */
+        @Override
+        public void put(Object key, Object value) {
+            Lectura previa = lectura.get();
+            lectura.remove();
+            if (previa == null || !previa.clave().equals(key)) {
+                local.put(key, value);
+                return;
+            }
+            if (previa.generacion() != bus.getGeneracion(getName())) {
+                return;
+            }
+            local.put(key, value);
+            descartarSiInvalidada(key, previa.generacion());
+        }
+
+        /**
+         * Una invalidación entre la comprobación y el put pudo limpiar la región antes del put.
+         */
+        private void descartarSiInvalidada(Object key, long generacion) {
+            if (generacion != bus.getGeneracion(getName())) {
+                local.evict(key);
+            }
+        }
+
+        @Override
+        public void evict(Object key) {
+            bus.invalidar(getName());
+        }
+
+        @Override
+        public void clear() {
+            bus.invalidar(getName());
+        }
+    }
+
+    private record Lectura(Object clave, long generacion) {
+    }
+}
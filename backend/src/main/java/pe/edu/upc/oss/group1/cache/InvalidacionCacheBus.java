@@ -0,0 +1,129 @@
+package pe.edu.upc.oss.group1.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bus de invalidación de caches coherente entre instancias.
+ *
+ * Dentro de una transacción, la invalidación se difunde con pg_notify en la misma transacción
+ * (PostgreSQL solo entrega la notificación si hace commit) y la cache local se limpia
+ * después del commit. Los demás nodos la reciben en PgNotifyInvalidacionListener.
+ *
+ * El payload es "nodoId|region": cada nodo ignora sus propias notificaciones porque
+ * ya limpió su cache en afterCommit.
+ */
+@Component
+@Slf4j
+public class InvalidacionCacheBus {
+
+    public static final String CANAL = "oss_cache_invalidacion";
+    private static final String SEPARADOR = "|";
+
+    private final ConcurrentMapCacheManager cacheLocal = new ConcurrentMapCacheManager();
+    private final Map<String, AtomicLong> generaciones = new ConcurrentHashMap<>();
+    private final String nodoId = UUID.randomUUID().toString();
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectProvider<InvalidacionCacheListener> listeners;
+    private final boolean pgNotifyHabilitado;
+
+    public InvalidacionCacheBus(
+            JdbcTemplate jdbcTemplate,
+            ObjectProvider<InvalidacionCacheListener> listeners,
+            @Value("${app.cache.invalidacion.pg-notify.enabled:true}") boolean pgNotifyHabilitado) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.listeners = listeners;
+        this.pgNotifyHabilitado = pgNotifyHabilitado;
+        this.cacheLocal.setCacheNames(CacheNames.TODAS);
+    }
+
+    /**
+     * Invalida una región en este nodo y en el resto del cluster.
+     */
+    public void invalidar(String region) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    notificarCluster(region);
+                }
+
+                @Override
+                public void afterCommit() {
+                    evictLocal(region);
+                }
+            });
+        } else {
+            evictLocal(region);
+            notificarCluster(region);
+        }
+    }
+
+    /**
+     * Procesa una notificación recibida por LISTEN.
+     */
+    public void recibir(String payload) {
+        int separador = payload.indexOf(SEPARADOR);
+        if (separador < 0) {
+            log.warn("Notificación de cache con formato inválido: {}", payload);
+            return;
+        }
+        if (nodoId.equals(payload.substring(0, separador))) {
+            return;
+        }
+        String region = payload.substring(separador + 1);
+        log.debug("Invalidación remota de la región {}", region);
+        evictLocal(region);
+    }
+
+    /**
+     * Limpia todas las regiones locales. Se usa al reconectar el listener,
+     * ya que las notificaciones emitidas mientras estuvo caído se pierden.
+     */
+    public void evictTodoLocal() {
+        CacheNames.TODAS.forEach(this::evictLocal);
+    }
+
+    public ConcurrentMapCacheManager getCacheLocal() {
+        return cacheLocal;
+    }
+
+    /**
+     * Generación de la región en este nodo: aumenta con cada invalidación local o remota.
+     * ClusterCache la usa para descartar valores leídos antes de una invalidación.
+     */
+    public long getGeneracion(String region) {
+        return generaciones.computeIfAbsent(region, r -> new AtomicLong()).get();
+    }
+
+    private void evictLocal(String region) {
+        // Primero la generación: un put que la leyó antes ya no coincide y se descarta
+        generaciones.computeIfAbsent(region, r -> new AtomicLong()).incrementAndGet();
+        Cache cache = cacheLocal.getCache(region);
+        if (cache != null) {
+            cache.clear();
+        }
+        listeners.orderedStream()
+                .filter(listener -> listener.getRegiones().contains(region))
+                .forEach(listener -> listener.onInvalidacion(region));
+    }
+
+    private void notificarCluster(String region) {
+        if (!pgNotifyHabilitado) {
+            return;
+        }
+        jdbcTemplate.queryForRowSet("SELECT pg_notify(?, ?)", CANAL, nodoId + SEPARADOR + region);
+    }
+}
@@ -0,0 +1,22 @@
+package pe.edu.upc.oss.group1.cache;
+
+import java.util.Set;
+
+/**
+ * Estructura en memoria (índices, contadores, etc.) que debe descartarse cuando
+ * se invalida una región, tanto por escrituras locales como de otros nodos.
+ */
+public interface InvalidacionCacheListener {
+
+    /**
+     * Regiones a las que está suscrito (ver CacheNames).
+     */
+    Set<String> getRegiones();
+
+    /**
+     * Se invoca después del commit local o al recibir la notificación de otro nodo.
+     *
+     * @param region región invalidada, una de getRegiones()
+     */
+    void onInvalidacion(String region);
+}
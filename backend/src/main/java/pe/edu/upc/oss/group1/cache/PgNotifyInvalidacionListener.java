@@ -0,0 +1,136 @@
+package pe.edu.upc.oss.group1.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Escucha el canal de invalidación de caches (LISTEN) y aplica las invalidaciones de otros nodos.
+ *
+ * Usa una conexión dedicada fuera del pool de Hikari, ya que queda abierta mientras vive la aplicación.
+ * Si la conexión se pierde, limpia todas las caches locales (las notificaciones emitidas
+ * mientras estuvo desconectado no se reciben) y reintenta con backoff.
+ */
+@Component
+@ConditionalOnProperty(name = "app.cache.invalidacion.pg-notify.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class PgNotifyInvalidacionListener implements SmartLifecycle {
+
+    private static final int ESPERA_NOTIFICACION_MS = 5_000;
+    private static final long BACKOFF_MAXIMO_MS = 30_000;
+
+    private final InvalidacionCacheBus bus;
+    private final DataSourceProperties dataSourceProperties;
+
+    private volatile boolean activo;
+    private volatile boolean escuchando;
+    private volatile Connection conexion;
+    private Thread hilo;
+
+    public PgNotifyInvalidacionListener(InvalidacionCacheBus bus, DataSourceProperties dataSourceProperties) {
+        this.bus = bus;
+        this.dataSourceProperties = dataSourceProperties;
+    }
+
+    @Override
+    public void start() {
+        activo = true;
+        hilo = Thread.ofPlatform()
+                .name("pg-cache-invalidacion")
+                .daemon(true)
+                .start(this::escuchar);
+    }
+
+    @Override
+    public void stop() {
+        activo = false;
+        cerrarConexion();
+        if (hilo != null) {
+            hilo.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return activo;
+    }
+
+    /**
+     * Indica si el LISTEN está activo; mientras es false este nodo no recibe invalidaciones remotas.
+     */
+    public boolean isEscuchando() {
+        return escuchando;
+    }
+
+    private void escuchar() {
+        long backoff = 1_000;
+        while (activo) {
+            try {
+                conectar();
+                backoff = 1_000;
+                PGConnection pgConnection = conexion.unwrap(PGConnection.class);
+                while (activo) {
+                    PGNotification[] notificaciones = pgConnection.getNotifications(ESPERA_NOTIFICACION_MS);
+                    if (notificaciones == null) {
+                        continue;
+                    }
+                    for (PGNotification notificacion : notificaciones) {
+                        bus.recibir(notificacion.getParameter());
+                    }
+                }
+            } catch (SQLException e) {
+                if (!activo) {
+                    return;
+                }
+                escuchando = false;
+                log.warn("Conexión LISTEN de invalidación de caches perdida: {}. Reintentando en {} ms",
+                        e.getMessage(), backoff);
+                cerrarConexion();
+                bus.evictTodoLocal();
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                backoff = Math.min(backoff * 2, BACKOFF_MAXIMO_MS);
+            }
+        }
+    }
+
+    private void conectar() throws SQLException {
+        conexion = DriverManager.getConnection(
+                dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(),
+                dataSourceProperties.determinePassword());
+        try (Statement statement = conexion.createStatement()) {
+            statement.execute("LISTEN " + InvalidacionCacheBus.CANAL);
+        }
+        // Lo modificado entre el arranque (o la caída) y el LISTEN no fue notificado
+        bus.evictTodoLocal();
+        escuchando = true;
+        log.info("Escuchando invalidaciones de cache en el canal {}", InvalidacionCacheBus.CANAL);
+    }
+
+    private void cerrarConexion() {
+        escuchando = false;
+        Connection actual = conexion;
+        conexion = null;
+        if (actual != null) {
+            try {
+                actual.close();
+            } catch (SQLException e) {
+                log.debug("Error cerrando conexión LISTEN: {}", e.getMessage());
+            }
+        }
+    }
+}
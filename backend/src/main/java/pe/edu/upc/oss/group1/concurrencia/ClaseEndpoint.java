@@ -0,0 +1,17 @@
+package pe.edu.upc.oss.group1.concurrencia;
+
+/**
+ * Clases de endpoint con límite de concurrencia (bulkhead) independiente.
+ * Así un pico de listados pesados no consume las conexiones que necesitan las consultas puntuales.
+ */
+public enum ClaseEndpoint {
+
+    /** Consultas puntuales (por ID, código, páginas): deben mantener su latencia bajo carga. */
+    INTERACTIVO,
+
+    /** Listados sin paginar y reportes que recorren tablas completas. */
+    LISTADO,
+
+    /** POST, PUT, PATCH y DELETE. */
+    ESCRITURA
+}
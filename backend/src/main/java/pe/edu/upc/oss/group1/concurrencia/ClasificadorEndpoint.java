@@ -0,0 +1,49 @@
+package pe.edu.upc.oss.group1.concurrencia;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+
+/**
+ * Asigna a cada petición su {@link ClaseEndpoint} según el método y los patrones configurados.
+ * Se evalúa antes del DispatcherServlet, por eso usa la ruta y no el handler.
+ */
+public class ClasificadorEndpoint {
+
+    private final List<PathPattern> listados;
+    private final List<PathPattern> excluidos;
+
+    public ClasificadorEndpoint(List<String> listados, List<String> excluidos) {
+        this.listados = parsear(listados);
+        this.excluidos = parsear(excluidos);
+    }
+
+    /**
+     * Retorna la clase de la petición, o null si la ruta no se limita.
+     */
+    public ClaseEndpoint clasificar(String metodo, String ruta) {
+        PathContainer path = PathContainer.parsePath(ruta);
+        if (coincide(excluidos, path)) {
+            return null;
+        }
+        if (!"GET".equals(metodo) && !"HEAD".equals(metodo)) {
+            return ClaseEndpoint.ESCRITURA;
+        }
+        return coincide(listados, path) ? ClaseEndpoint.LISTADO : ClaseEndpoint.INTERACTIVO;
+    }
+
+    private static boolean coincide(List<PathPattern> patrones, PathContainer path) {
+        for (PathPattern patron : patrones) {
+            if (patron.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<PathPattern> parsear(List<String> patrones) {
+        return patrones.stream().map(PathPatternParser.defaultInstance::parse).toList();
+    }
+}
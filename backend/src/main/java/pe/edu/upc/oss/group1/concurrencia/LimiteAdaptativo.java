@@ -0,0 +1,97 @@
+package pe.edu.upc.oss.group1.concurrencia;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Límite de concurrencia que se ajusta según la latencia observada (algoritmo de gradiente).
+ *
+ * Se comparan dos promedios móviles de la latencia: uno corto (lo que pasa ahora) y uno
+ * largo (la línea base). Si la latencia corta sube respecto de la base, hay cola en algún
+ * recurso compartido (p. ej. el pool de conexiones) y el límite baja proporcionalmente;
+ * si se mantiene, el límite sube de a poco (+ raíz del límite por muestra suavizada).
+ * Las peticiones que exceden el límite se rechazan de inmediato, sin encolar.
+ */
+public class LimiteAdaptativo {
+
+    /** Peso de cada muestra en el promedio corto. */
+    private static final double ALFA_CORTO = 0.2;
+    /** Peso de cada muestra en el promedio largo (~500 muestras). */
+    private static final double ALFA_LARGO = 0.002;
+    /** Latencia corta aceptada sobre la base antes de reducir el límite. */
+    private static final double TOLERANCIA = 1.5;
+    /** Fracción del nuevo límite que se aplica en cada muestra. */
+    private static final double SUAVIZADO = 0.2;
+
+    private final int minimo;
+    private final int maximo;
+    private final AtomicInteger enCurso = new AtomicInteger();
+
+    private volatile double limite;
+    private double rttCorto;
+    private double rttLargo;
+
+    public LimiteAdaptativo(int inicial, int minimo, int maximo) {
+        if (minimo < 1 || maximo < minimo) {
+            throw new IllegalArgumentException("Límites de concurrencia inválidos: mínimo " + minimo + ", máximo " + maximo);
+        }
+        this.minimo = minimo;
+        this.maximo = maximo;
+        this.limite = Math.max(minimo, Math.min(maximo, inicial));
+    }
+
+    /**
+     * Intenta admitir una petición. Si retorna true, se debe llamar a {@link #liberar(long)} al terminar.
+     */
+    public boolean intentarAdmitir() {
+        while (true) {
+            int actual = enCurso.get();
+            if (actual >= (int) limite) {
+                return false;
+            }
+            if (enCurso.compareAndSet(actual, actual + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Libera una petición admitida y ajusta el límite con su latencia.
+     */
+    public void liberar(long rttNanos) {
+        int enCursoAlTerminar = enCurso.getAndDecrement();
+        actualizar(rttNanos, enCursoAlTerminar);
+    }
+
+    private synchronized void actualizar(long rttNanos, int enCursoAlTerminar) {
+        double rtt = rttNanos;
+        if (rttLargo == 0) {
+            rttCorto = rtt;
+            rttLargo = rtt;
+            return;
+        }
+        rttCorto += ALFA_CORTO * (rtt - rttCorto);
+        rttLargo += ALFA_LARGO * (rtt - rttLargo);
+        // Si la base quedó muy por encima (la carga bajó), se acerca rápido a la latencia actual
+        if (rttLargo > 2 * rttCorto) {
+            rttLargo *= 0.95;
+        }
+
+        // Con poca concurrencia la latencia no dice nada sobre el límite
+        if (enCursoAlTerminar < limite / 2) {
+            return;
+        }
+
+        double gradiente = Math.max(0.5, Math.min(1.0, TOLERANCIA * rttLargo / rttCorto));
+        double nuevo = limite * gradiente + Math.sqrt(limite);
+        nuevo = limite * (1 - SUAVIZADO) + nuevo * SUAVIZADO;
+        limite = Math.max(minimo, Math.min(maximo, nuevo));
+    }
+
+    public int getLimite() {
+        return (int) limite;
+    }
+
+    public int getEnCurso() {
+        return enCurso.get();
+    }
+}
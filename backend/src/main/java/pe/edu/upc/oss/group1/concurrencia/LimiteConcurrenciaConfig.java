@@ -0,0 +1,61 @@
+package pe.edu.upc.oss.group1.concurrencia;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Registra el filtro de control de admisión y sus métricas por clase de endpoint:
+ * - oss.concurrencia.limite: límite actual calculado a partir de la latencia.
+ * - oss.concurrencia.en_curso: peticiones admitidas que aún no terminan.
+ * - oss.concurrencia.rechazos: peticiones rechazadas con 503.
+ */
+@Configuration
+@EnableConfigurationProperties(LimiteConcurrenciaProperties.class)
+@ConditionalOnProperty(name = "app.concurrencia.habilitado", havingValue = "true", matchIfMissing = true)
+public class LimiteConcurrenciaConfig {
+
+    @Bean
+    public FilterRegistrationBean<LimiteConcurrenciaFilter> limiteConcurrenciaFilter(
+            LimiteConcurrenciaProperties properties, MeterRegistry meterRegistry, ObjectMapper objectMapper) {
+        Map<ClaseEndpoint, LimiteAdaptativo> limites = new EnumMap<>(ClaseEndpoint.class);
+        Map<ClaseEndpoint, Counter> rechazos = new EnumMap<>(ClaseEndpoint.class);
+        for (ClaseEndpoint clase : ClaseEndpoint.values()) {
+            LimiteConcurrenciaProperties.Limites config = properties.clases().get(clase);
+            LimiteAdaptativo limite = new LimiteAdaptativo(config.inicial(), config.minimo(), config.maximo());
+            limites.put(clase, limite);
+
+            String tag = clase.name().toLowerCase();
+            Gauge.builder("oss.concurrencia.limite", limite, LimiteAdaptativo::getLimite)
+                    .description("Límite de peticiones simultáneas ajustado por latencia")
+                    .tag("clase", tag)
+                    .register(meterRegistry);
+            Gauge.builder("oss.concurrencia.en_curso", limite, LimiteAdaptativo::getEnCurso)
+                    .description("Peticiones admitidas en curso")
+                    .tag("clase", tag)
+                    .register(meterRegistry);
+            rechazos.put(clase, Counter.builder("oss.concurrencia.rechazos")
+                    .description("Peticiones rechazadas con 503 por exceder el límite")
+                    .tag("clase", tag)
+                    .register(meterRegistry));
+        }
+
+        ClasificadorEndpoint clasificador = new ClasificadorEndpoint(properties.listados(), properties.excluidos());
+        FilterRegistrationBean<LimiteConcurrenciaFilter> registro = new FilterRegistrationBean<>(
+                new LimiteConcurrenciaFilter(clasificador, limites, rechazos, properties.retryAfter(), objectMapper));
+        registro.addUrlPatterns("/api/*");
+        // Antes que los demás filtros: una petición rechazada no debe hacer ningún trabajo
+        registro.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registro;
+    }
+}
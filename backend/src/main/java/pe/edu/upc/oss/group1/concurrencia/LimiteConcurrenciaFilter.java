@@ -0,0 +1,90 @@
+package pe.edu.upc.oss.group1.concurrencia;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import pe.edu.upc.oss.group1.exception.ErrorResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Control de admisión: cada clase de endpoint tiene su propio {@link LimiteAdaptativo}.
+ * Si la clase está en su límite la petición se rechaza de inmediato con 503 y Retry-After,
+ * en lugar de esperar una conexión del pool junto con las demás.
+ * Se registra en LimiteConcurrenciaConfig.
+ */
+@Slf4j
+public class LimiteConcurrenciaFilter extends OncePerRequestFilter {
+
+    private final ClasificadorEndpoint clasificador;
+    private final Map<ClaseEndpoint, LimiteAdaptativo> limites;
+    private final Map<ClaseEndpoint, Counter> rechazos;
+    private final String retryAfterSegundos;
+    private final ObjectMapper objectMapper;
+
+    public LimiteConcurrenciaFilter(ClasificadorEndpoint clasificador,
+                                    Map<ClaseEndpoint, LimiteAdaptativo> limites,
+                                    Map<ClaseEndpoint, Counter> rechazos,
+                                    Duration retryAfter,
+                                    ObjectMapper objectMapper) {
+        this.clasificador = clasificador;
+        this.limites = limites;
+        this.rechazos = rechazos;
+        this.retryAfterSegundos = String.valueOf(Math.max(1, retryAfter.toSeconds()));
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ClaseEndpoint clase = clasificador.clasificar(request.getMethod(),
+                request.getRequestURI().substring(request.getContextPath().length()));
+        if (clase == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        LimiteAdaptativo limite = limites.get(clase);
+        if (!limite.intentarAdmitir()) {
+            rechazos.get(clase).increment();
+            log.warn("Petición {} {} rechazada: límite de concurrencia {} alcanzado para {}",
+                    request.getMethod(), request.getRequestURI(), limite.getLimite(), clase);
+            rechazar(response, clase);
+            return;
+        }
+
+        long inicio = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            limite.liberar(System.nanoTime() - inicio);
+        }
+    }
+
+    private void rechazar(HttpServletResponse response, ClaseEndpoint clase) throws IOException {
+        ErrorResponse error = ErrorResponse.builder()
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error("SERVICE_OVERLOADED")
+                .message("El servidor está atendiendo demasiadas peticiones de tipo " + clase
+                        + ". Intente nuevamente en unos segundos")
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSegundos);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+}
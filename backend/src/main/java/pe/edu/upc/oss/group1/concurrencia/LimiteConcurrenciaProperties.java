@@ -0,0 +1,46 @@
+package pe.edu.upc.oss.group1.concurrencia;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuración del control de admisión (app.concurrencia.*).
+ *
+ * @param habilitado  si es false no se limita ninguna petición
+ * @param retryAfter  valor del header Retry-After en las respuestas 503
+ * @param listados    patrones de rutas GET que se tratan como {@link ClaseEndpoint#LISTADO}
+ * @param excluidos   patrones de rutas que no se limitan (streams, actuator)
+ * @param clases      límites por clase de endpoint
+ */
+@ConfigurationProperties("app.concurrencia")
+public record LimiteConcurrenciaProperties(
+        boolean habilitado,
+        Duration retryAfter,
+        List<String> listados,
+        List<String> excluidos,
+        Map<ClaseEndpoint, Limites> clases) {
+
+    public LimiteConcurrenciaProperties {
+        retryAfter = retryAfter != null ? retryAfter : Duration.ofSeconds(1);
+        listados = listados != null ? listados : List.of();
+        excluidos = excluidos != null ? excluidos : List.of();
+        Map<ClaseEndpoint, Limites> completas = new EnumMap<>(ClaseEndpoint.class);
+        for (ClaseEndpoint clase : ClaseEndpoint.values()) {
+            completas.put(clase, clases != null && clases.containsKey(clase) ? clases.get(clase) : Limites.PREDETERMINADO);
+        }
+        clases = completas;
+    }
+
+    /**
+     * Límite inicial, mínimo y máximo de peticiones simultáneas de una clase.
+     * El máximo actúa como bulkhead: la clase nunca ocupa más de esa cantidad de hilos/conexiones.
+     */
+    public record Limites(int inicial, int minimo, int maximo) {
+
+        static final Limites PREDETERMINADO = new Limites(10, 2, 50);
+    }
+}
@@ -11,10 +11,16 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import pe.edu.upc.oss.group1.dto.mapper.AsignacionDispositivoMapper;
+import pe.edu.upc.oss.group1.dto.mapper.ResultadoLoteMapper;
+import pe.edu.upc.oss.group1.dto.request.AsignacionAutomaticaRequest;
 import pe.edu.upc.oss.group1.dto.request.AsignacionDispositivoRequest;
 import pe.edu.upc.oss.group1.dto.response.AsignacionDispositivoResponse;
+import pe.edu.upc.oss.group1.dto.response.ResultadoLoteResponse;
 import pe.edu.upc.oss.group1.entity.AsignacionDispositivo;
+import pe.edu.upc.oss.group1.service.AsignacionAutomaticaService;
 import pe.edu.upc.oss.group1.service.AsignacionDispositivoService;
+import pe.edu.upc.oss.group1.service.ConsultaLote;
+import pe.edu.upc.oss.group1.service.ResultadoLote;
 
 import java.util.List;
 
@@ -29,6 +35,7 @@ import java.util.List;
 public class AsignacionDispositivoController {
 
     private final AsignacionDispositivoService asignacionService;
+    private final AsignacionAutomaticaService asignacionAutomaticaService;
 
     @GetMapping
     @Operation(summary = "Listar todas las asignaciones")
@@ -55,11 +62,24 @@ public class AsignacionDispositivoController {
     public ResponseEntity<Page<AsignacionDispositivoResponse>> findAllActivasPaginated(Pageable pageable) {
         log.info("GET /api/v1/asignaciones/activas/page - Obteniendo asignaciones activas con paginación");
         Page<AsignacionDispositivo> asignaciones = asignacionService.findAllActivas(pageable);
-        Page<AsignacionDispositivoResponse> response = asignaciones.map(AsignacionDispositivoMapper::toResponse);
+        Page<AsignacionDispositivoResponse> response = AsignacionDispositivoMapper.toResponsePage(asignaciones);
         log.info("Se encontraron {} asignaciones activas en página {}", response.getContent().size(), pageable.getPageNumber());
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/lote")
+    @Operation(summary = "Obtener varias asignaciones por ID")
+    public ResponseEntity<ResultadoLoteResponse<AsignacionDispositivoResponse>> findLote(
+            @RequestParam List<Integer> ids) {
+        log.info("GET /api/v1/asignaciones/lote - Obteniendo asignaciones por lote");
+        ResultadoLote<AsignacionDispositivo> resultado = asignacionService.findLote(ConsultaLote.deIds(ids));
+        ResultadoLoteResponse<AsignacionDispositivoResponse> response =
+                ResultadoLoteMapper.toResponseConContexto(resultado, AsignacionDispositivoMapper::toResponse);
+        log.info("Asignaciones por lote: {} encontradas, {} no encontradas",
+                response.getResultados().size(), response.getNoEncontrados().size());
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Obtener asignación por ID")
     public ResponseEntity<AsignacionDispositivoResponse> findById(@PathVariable Integer id) {
@@ -111,6 +131,23 @@ public class AsignacionDispositivoController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/automatica")
+    @Operation(summary = "Asignar cualquier dispositivo disponible de un tipo",
+            description = "Reserva el siguiente dispositivo disponible que cumpla tipo, marca y modelo y lo asigna; " +
+                    "operadores simultáneos reciben dispositivos distintos")
+    public ResponseEntity<AsignacionDispositivoResponse> createAutomatica(
+            @Valid @RequestBody AsignacionAutomaticaRequest request) {
+        log.info("POST /api/v1/asignaciones/automatica - Asignando dispositivo de tipo {} a empleado {}",
+                request.getTipoDispositivoId(), request.getEmpleadoId());
+        AsignacionDispositivo created = asignacionAutomaticaService.asignarDisponible(
+                request.getTipoDispositivoId(), request.getMarcaId(), request.getModelo(),
+                AsignacionDispositivoMapper.toEntity(request));
+        AsignacionDispositivoResponse response = AsignacionDispositivoMapper.toResponse(created);
+        log.info("Asignación automática creada con ID {} para el dispositivo {}",
+                response.getId(), created.getDispositivo().getId());
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     @PostMapping("/{id}/devolucion")
     @Operation(summary = "Registrar devolución de dispositivo asignado")
     public ResponseEntity<AsignacionDispositivoResponse> registrarDevolucion(
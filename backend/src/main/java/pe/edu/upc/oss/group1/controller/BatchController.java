@@ -0,0 +1,59 @@
+package pe.edu.upc.oss.group1.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import pe.edu.upc.oss.group1.batch.EjecutorBatch;
+import pe.edu.upc.oss.group1.batch.ModoBatch;
+import pe.edu.upc.oss.group1.batch.ResultadoBatch;
+import pe.edu.upc.oss.group1.batch.ResultadoOperacion;
+import pe.edu.upc.oss.group1.dto.mapper.BatchMapper;
+import pe.edu.upc.oss.group1.dto.request.BatchRequest;
+import pe.edu.upc.oss.group1.dto.response.BatchResponse;
+
+import java.util.Set;
+
+/**
+ * Controller REST para ejecutar varias operaciones de escritura en una sola petición.
+ *
+ * Pensado para secuencias como crear una solicitud de devolución, agregarle sus detalles y
+ * completarla: una operación puede usar el resultado de otra anterior con "${id.campo}".
+ */
+@RestController
+@RequestMapping("/api/v1/batch")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Batch", description = "Varias operaciones de escritura en una sola petición")
+public class BatchController {
+
+    private final EjecutorBatch ejecutorBatch;
+
+    @GetMapping("/operaciones")
+    @Operation(summary = "Listar las operaciones disponibles en un batch")
+    public ResponseEntity<Set<String>> findOperaciones() {
+        return ResponseEntity.ok(ejecutorBatch.getOperaciones());
+    }
+
+    @PostMapping
+    @Operation(summary = "Ejecutar un batch de operaciones",
+            description = "TODO_O_NADA ejecuta todo en una transacción y responde con el estado de la operación "
+                    + "que falló; POR_OPERACION confirma cada operación por separado y responde 200 "
+                    + "con el resultado de cada una")
+    public ResponseEntity<BatchResponse> ejecutar(@Valid @RequestBody BatchRequest request) {
+        log.info("POST /api/v1/batch - Ejecutando {} operaciones en modo {}",
+                request.getOperaciones().size(), request.getModo());
+        ResultadoBatch resultado = ejecutorBatch.ejecutar(BatchMapper.toOperaciones(request), request.getModo());
+        BatchResponse response = BatchMapper.toResponse(resultado);
+        log.info("Batch ejecutado: {} de {} operaciones exitosas", response.getExitosas(), response.getTotal());
+
+        ResultadoOperacion fallida = resultado.getPrimeraFallida();
+        if (request.getModo() == ModoBatch.TODO_O_NADA && fallida != null) {
+            return ResponseEntity.status(fallida.estadoHttp()).body(response);
+        }
+        return ResponseEntity.ok(response);
+    }
+}
@@ -8,9 +8,13 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import pe.edu.upc.oss.group1.dto.catalogo.request.CatAreaRequest;
 import pe.edu.upc.oss.group1.dto.catalogo.response.CatAreaResponse;
+import pe.edu.upc.oss.group1.dto.mapper.ResultadoLoteMapper;
+import pe.edu.upc.oss.group1.dto.response.ResultadoLoteResponse;
 import pe.edu.upc.oss.group1.entity.catalogo.CatArea;
 import pe.edu.upc.oss.group1.mapper.CatAreaMapper;
+import pe.edu.upc.oss.group1.service.ConsultaLote;
 import pe.edu.upc.oss.group1.service.CatAreaService;
+import pe.edu.upc.oss.group1.service.ResultadoLote;
 
 import java.util.List;
 
@@ -40,6 +44,15 @@ public class CatAreaController {
         return ResponseEntity.ok(CatAreaMapper.toResponseList(areas));
     }
 
+    @GetMapping("/lote")
+    public ResponseEntity<ResultadoLoteResponse<CatAreaResponse>> findLote(
+            @RequestParam(required = false) List<Integer> ids,
+            @RequestParam(required = false) List<String> codigos) {
+        log.debug("REST request to get areas by lote");
+        ResultadoLote<CatArea> resultado = catAreaService.findLote(ConsultaLote.de(ids, codigos));
+        return ResponseEntity.ok(ResultadoLoteMapper.toResponse(resultado, CatAreaMapper::toResponse));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<CatAreaResponse> findById(@PathVariable Integer id) {
         log.debug("REST request to get area by ID: {}", id);
@@ -8,9 +8,13 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import pe.edu.upc.oss.group1.dto.catalogo.request.CatCondicionDevolucionRequest;
 import pe.edu.upc.oss.group1.dto.catalogo.response.CatCondicionDevolucionResponse;
+import pe.edu.upc.oss.group1.dto.mapper.ResultadoLoteMapper;
+import pe.edu.upc.oss.group1.dto.response.ResultadoLoteResponse;
 import pe.edu.upc.oss.group1.entity.catalogo.CatCondicionDevolucion;
 import pe.edu.upc.oss.group1.mapper.CatCondicionDevolucionMapper;
+import pe.edu.upc.oss.group1.service.ConsultaLote;
 import pe.edu.upc.oss.group1.service.CatCondicionDevolucionService;
+import pe.edu.upc.oss.group1.service.ResultadoLote;
 
 import java.util.List;
 
@@ -40,6 +44,15 @@ public class CatCondicionDevolucionController {
         return ResponseEntity.ok(CatCondicionDevolucionMapper.toResponseList(condiciones));
     }
 
+    @GetMapping("/lote")
+    public ResponseEntity<ResultadoLoteResponse<CatCondicionDevolucionResponse>> findLote(
+            @RequestParam(required = false) List<Integer> ids,
+            @RequestParam(required = false) List<String> codigos) {
+        log.debug("REST request to get condiciones de devolucion by lote");
+        ResultadoLote<CatCondicionDevolucion> resultado = catCondicionDevolucionService.findLote(ConsultaLote.de(ids, codigos));
+        return ResponseEntity.ok(ResultadoLoteMapper.toResponse(resultado, CatCondicionDevolucionMapper::toResponse));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<CatCondicionDevolucionResponse> findById(@PathVariable Integer id) {
         log.debug("REST request to get condicion de devolucion by ID: {}", id);
@@ -8,9 +8,13 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import pe.edu.upc.oss.group1.dto.catalogo.request.CatEstadoAsignacionRequest;
 import pe.edu.upc.oss.group1.dto.catalogo.response.CatEstadoAsignacionResponse;
+import pe.edu.upc.oss.group1.dto.mapper.ResultadoLoteMapper;
+import pe.edu.upc.oss.group1.dto.response.ResultadoLoteResponse;
 import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoAsignacion;
 import pe.edu.upc.oss.group1.mapper.CatEstadoAsignacionMapper;
+import pe.edu.upc.oss.group1.service.ConsultaLote;
 import pe.edu.upc.oss.group1.service.CatEstadoAsignacionService;
+import pe.edu.upc.oss.group1.service.ResultadoLote;
 
 import java.util.List;
 
@@ -40,6 +44,15 @@ public class CatEstadoAsignacionController {
         return ResponseEntity.ok(CatEstadoAsignacionMapper.toResponseList(estados));
     }
 
+    @GetMapping("/lote")
+    public ResponseEntity<ResultadoLoteResponse<CatEstadoAsignacionResponse>> findLote(
+            @RequestParam(required = false) List<Integer> ids,
+            @RequestParam(required = false) List<String> codigos) {
+        log.debug("REST request to get estados de asignacion by lote");
+        ResultadoLote<CatEstadoAsignacion> resultado = catEstadoAsignacionService.findLote(ConsultaLote.de(ids, codigos));
+        return ResponseEntity.ok(ResultadoLoteMapper.toResponse(resultado, CatEstadoAsignacionMapper::toResponse));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<CatEstadoAsignacionResponse> findById(@PathVariable Integer id) {
         log.debug("REST request to get estado de asignacion by ID: {}", id);
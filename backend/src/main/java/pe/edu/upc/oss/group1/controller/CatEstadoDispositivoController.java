@@ -8,9 +8,13 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import pe.edu.upc.oss.group1.dto.catalogo.request.CatEstadoDispositivoRequest;
 import pe.edu.upc.oss.group1.dto.catalogo.response.CatEstadoDispositivoResponse;
+import pe.edu.upc.oss.group1.dto.mapper.ResultadoLoteMapper;
+import pe.edu.upc.oss.group1.dto.response.ResultadoLoteResponse;
 import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoDispositivo;
 import pe.edu.upc.oss.group1.mapper.CatEstadoDispositivoMapper;
+import pe.edu.upc.oss.group1.service.ConsultaLote;
 import pe.edu.upc.oss.group1.service.CatEstadoDispositivoService;
+import pe.edu.upc.oss.group1.service.ResultadoLote;
 
 import java.util.List;
 
@@ -40,6 +44,15 @@ public class CatEstadoDispositivoController {
         return ResponseEntity.ok(CatEstadoDispositivoMapper.toResponseList(estados));
     }
 
+    @GetMapping("/lote")
+    public ResponseEntity<ResultadoLoteResponse<CatEstadoDispositivoResponse>> findLote(
+            @RequestParam(required = false) List<Integer> ids,
+            @RequestParam(required = false) List<String> codigos) {
+        log.debug("REST request to get estados de dispositivo by lote");
+        ResultadoLote<CatEstadoDispositivo> resultado = catEstadoDispositivoService.findLote(ConsultaLote.de(ids, codigos));
+        return ResponseEntity.ok(ResultadoLoteMapper.toResponse(resultado, CatEstadoDispositivoMapper::toResponse));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<CatEstadoDispositivoResponse> findById(@PathVariable Integer id) {
         log.debug("REST request to get estado de dispositivo by ID: {}", id);
@@ -8,9 +8,13 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import pe.edu.upc.oss.group1.dto.catalogo.request.CatEstadoEmpleadoRequest;
 import pe.edu.upc.oss.group1.dto.catalogo.response.CatEstadoEmpleadoResponse;
+import pe.edu.upc.oss.group1.dto.mapper.ResultadoLoteMapper;
+import pe.edu.upc.oss.group1.dto.response.ResultadoLoteResponse;
 import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoEmpleado;
 import pe.edu.upc.oss.group1.mapper.CatEstadoEmpleadoMapper;
+import pe.edu.upc.oss.group1.service.ConsultaLote;
 import pe.edu.upc.oss.group1.service.CatEstadoEmpleadoService;
+import pe.edu.upc.oss.group1.service.ResultadoLote;
 
 import java.util.List;
 
@@ -40,6 +44,15 @@ public class CatEstadoEmpleadoController {
         return ResponseEntity.ok(CatEstadoEmpleadoMapper.toResponseList(estados));
     }
 
+    @GetMapping("/lote")
+    public ResponseEntity<ResultadoLoteResponse<CatEstadoEmpleadoResponse>> findLote(
+            @RequestParam(required = false) List<Integer> ids,
+            @RequestParam(required = false) List<String> codigos) {
+        log.debug("REST request to get estados de empleado by lote");
+        ResultadoLote<CatEstadoEmpleado> resultado = catEstadoEmpleadoService.findLote(ConsultaLote.de(ids, codigos));
+        return ResponseEntity.ok(ResultadoLoteMapper.toResponse(resultado, CatEstadoEmpleadoMapper::toResponse));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<CatEstadoEmpleadoResponse> findById(@PathVariable Integer id) {
         log.debug("REST request to get estado de empleado by ID: {}", id);
@@ -8,9 +8,13 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import pe.edu.upc.oss.group1.dto.catalogo.request.CatEstadoReemplazoRequest;
 import pe.edu.upc.oss.group1.dto.catalogo.response.CatEstadoReemplazoResponse;
+import pe.edu.upc.oss.group1.dto.mapper.ResultadoLoteMapper;
+import pe.edu.upc.oss.group1.dto.response.ResultadoLoteResponse;
 import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoReemplazo;
 import pe.edu.upc.oss.group1.mapper.CatEstadoReemplazoMapper;
+import pe.edu.upc.oss.group1.service.ConsultaLote;
 import pe.edu.upc.oss.group1.service.CatEstadoReemplazoService;
+import pe.edu.upc.oss.group1.service.ResultadoLote;
 
 import java.util.List;
 
@@ -40,6 +44,15 @@ public class CatEstadoReemplazoController {
         return ResponseEntity.ok(CatEstadoReemplazoMapper.toResponseList(estados));
     }
 
+    @GetMapping("/lote")
+    public ResponseEntity<ResultadoLoteResponse<CatEstadoReemplazoResponse>> findLote(
+            @RequestParam(required = false) List<Integer> ids,
+            @RequestParam(required = false) List<String> codigos) {
+        log.debug("REST request to get estados de reemplazo by lote");
+        ResultadoLote<CatEstadoReemplazo> resultado = catEstadoReemplazoService.findLote(ConsultaLote.de(ids, codigos));
+        return ResponseEntity.ok(ResultadoLoteMapper.toResponse(resultado, CatEstadoReemplazoMapper::toResponse));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<CatEstadoReemplazoResponse> findById(@PathVariable Integer id) {
         log.debug("REST request to get estado de reemplazo by ID: {}", id);
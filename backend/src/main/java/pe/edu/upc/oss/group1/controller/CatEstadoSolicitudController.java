@@ -8,9 +8,13 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import pe.edu.upc.oss.group1.dto.catalogo.request.CatEstadoSolicitudRequest;
 import pe.edu.upc.oss.group1.dto.catalogo.response.CatEstadoSolicitudResponse;
+import pe.edu.upc.oss.group1.dto.mapper.ResultadoLoteMapper;
+import pe.edu.upc.oss.group1.dto.response.ResultadoLoteResponse;
 import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoSolicitud;
 import pe.edu.upc.oss.group1.mapper.CatEstadoSolicitudMapper;
+import pe.edu.upc.oss.group1.service.ConsultaLote;
 import pe.edu.upc.oss.group1.service.CatEstadoSolicitudService;
+import pe.edu.upc.oss.group1.service.ResultadoLote;
 
 import java.util.List;
 
@@ -40,6 +44,15 @@ public class CatEstadoSolicitudController {
         return ResponseEntity.ok(CatEstadoSolicitudMapper.toResponseList(estados));
     }
 
+    @GetMapping("/lote")
+    public ResponseEntity<ResultadoLoteResponse<CatEstadoSolicitudResponse>> findLote(
+            @RequestParam(required = false) List<Integer> ids,
+            @RequestParam(required = false) List<String> codigos) {
+        log.debug("REST request to get estados de solicitud by lote");
+        ResultadoLote<CatEstadoSolicitud> resultado = catEstadoSolicitudService.findLote(ConsultaLote.de(ids, codigos));
+        return ResponseEntity.ok(ResultadoLoteMapper.toResponse(resultado, CatEstadoSolicitudMapper::toResponse));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<CatEstadoSolicitudResponse> findById(@PathVariable Integer id) {
         log.debug("REST request to get estado de solicitud by ID: {}", id);
@@ -8,9 +8,13 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import pe.edu.upc.oss.group1.dto.catalogo.request.CatMotivoReemplazoRequest;
 import pe.edu.upc.oss.group1.dto.catalogo.response.CatMotivoReemplazoResponse;
+import pe.edu.upc.oss.group1.dto.mapper.ResultadoLoteMapper;
+import pe.edu.upc.oss.group1.dto.response.ResultadoLoteResponse;
 import pe.edu.upc.oss.group1.entity.catalogo.CatMotivoReemplazo;
 import pe.edu.upc.oss.group1.mapper.CatMotivoReemplazoMapper;
+import pe.edu.upc.oss.group1.service.ConsultaLote;
 import pe.edu.upc.oss.group1.service.CatMotivoReemplazoService;
+import pe.edu.upc.oss.group1.service.ResultadoLote;
 
 import java.util.List;
 
@@ -40,6 +44,15 @@ public class CatMotivoReemplazoController {
         return ResponseEntity.ok(CatMotivoReemplazoMapper.toResponseList(motivos));
     }
 
+    @GetMapping("/lote")
+    public ResponseEntity<ResultadoLoteResponse<CatMotivoReemplazoResponse>> findLote(
+            @RequestParam(required = false) List<Integer> ids,
+            @RequestParam(required = false) List<String> codigos) {
+        log.debug("REST request to get motivos de reemplazo by lote");
+        ResultadoLote<CatMotivoReemplazo> resultado = catMotivoReemplazoService.findLote(ConsultaLote.de(ids, codigos));
+        return ResponseEntity.ok(ResultadoLoteMapper.toResponse(resultado, CatMotivoReemplazoMapper::toResponse));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<CatMotivoReemplazoResponse> findById(@PathVariable Integer id) {
         log.debug("REST request to get motivo de reemplazo by ID: {}", id);
@@ -8,9 +8,13 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import pe.edu.upc.oss.group1.dto.catalogo.request.CatProveedorRequest;
 import pe.edu.upc.oss.group1.dto.catalogo.response.CatProveedorResponse;
+import pe.edu.upc.oss.group1.dto.mapper.ResultadoLoteMapper;
+import pe.edu.upc.oss.group1.dto.response.ResultadoLoteResponse;
 import pe.edu.upc.oss.group1.entity.catalogo.CatProveedor;
 import pe.edu.upc.oss.group1.mapper.CatProveedorMapper;
+import pe.edu.upc.oss.group1.service.ConsultaLote;
 import pe.edu.upc.oss.group1.service.CatProveedorService;
+import pe.edu.upc.oss.group1.service.ResultadoLote;
 
 import java.util.List;
 
@@ -40,6 +44,15 @@ public class CatProveedorController {
         return ResponseEntity.ok(CatProveedorMapper.toResponseList(proveedores));
     }
 
+    @GetMapping("/lote")
+    public ResponseEntity<ResultadoLoteResponse<CatProveedorResponse>> findLote(
+            @RequestParam(required = false) List<Integer> ids,
+            @RequestParam(required = false) List<String> codigos) {
+        log.debug("REST request to get proveedores by lote");
+        ResultadoLote<CatProveedor> resultado = catProveedorService.findLote(ConsultaLote.de(ids, codigos));
+        return ResponseEntity.ok(ResultadoLoteMapper.toResponse(resultado, CatProveedorMapper::toResponse));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<CatProveedorResponse> findById(@PathVariable Integer id) {
         log.debug("REST request to get proveedor by ID: {}", id);
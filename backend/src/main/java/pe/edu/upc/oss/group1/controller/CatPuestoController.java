@@ -8,11 +8,15 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import pe.edu.upc.oss.group1.dto.catalogo.request.CatPuestoRequest;
 import pe.edu.upc.oss.group1.dto.catalogo.response.CatPuestoResponse;
+import pe.edu.upc.oss.group1.dto.mapper.ResultadoLoteMapper;
+import pe.edu.upc.oss.group1.dto.response.ResultadoLoteResponse;
 import pe.edu.upc.oss.group1.entity.catalogo.CatArea;
 import pe.edu.upc.oss.group1.entity.catalogo.CatPuesto;
 import pe.edu.upc.oss.group1.mapper.CatPuestoMapper;
 import pe.edu.upc.oss.group1.service.CatAreaService;
+import pe.edu.upc.oss.group1.service.ConsultaLote;
 import pe.edu.upc.oss.group1.service.CatPuestoService;
+import pe.edu.upc.oss.group1.service.ResultadoLote;
 
 import java.util.List;
 
@@ -43,6 +47,15 @@ public class CatPuestoController {
         return ResponseEntity.ok(CatPuestoMapper.toResponseList(puestos));
     }
 
+    @GetMapping("/lote")
+    public ResponseEntity<ResultadoLoteResponse<CatPuestoResponse>> findLote(
+            @RequestParam(required = false) List<Integer> ids,
+            @RequestParam(required = false) List<String> codigos) {
+        log.debug("REST request to get puestos by lote");
+        ResultadoLote<CatPuesto> resultado = catPuestoService.findLote(ConsultaLote.de(ids, codigos));
+        return ResponseEntity.ok(ResultadoLoteMapper.toResponse(resultado, CatPuestoMapper::toResponse));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<CatPuestoResponse> findById(@PathVariable Integer id) {
         log.debug("REST request to get puesto by ID: {}", id);
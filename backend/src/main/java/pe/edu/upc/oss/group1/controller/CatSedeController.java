@@ -8,9 +8,13 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import pe.edu.upc.oss.group1.dto.catalogo.request.CatSedeRequest;
 import pe.edu.upc.oss.group1.dto.catalogo.response.CatSedeResponse;
+import pe.edu.upc.oss.group1.dto.mapper.ResultadoLoteMapper;
+import pe.edu.upc.oss.group1.dto.response.ResultadoLoteResponse;
 import pe.edu.upc.oss.group1.entity.catalogo.CatSede;
 import pe.edu.upc.oss.group1.mapper.CatSedeMapper;
+import pe.edu.upc.oss.group1.service.ConsultaLote;
 import pe.edu.upc.oss.group1.service.CatSedeService;
+import pe.edu.upc.oss.group1.service.ResultadoLote;
 
 import java.util.List;
 
@@ -40,6 +44,15 @@ public class CatSedeController {
         return ResponseEntity.ok(CatSedeMapper.toResponseList(sedes));
     }
 
+    @GetMapping("/lote")
+    public ResponseEntity<ResultadoLoteResponse<CatSedeResponse>> findLote(
+            @RequestParam(required = false) List<Integer> ids,
+            @RequestParam(required = false) List<String> codigos) {
+        log.debug("REST request to get sedes by lote");
+        ResultadoLote<CatSede> resultado = catSedeService.findLote(ConsultaLote.de(ids, codigos));
+        return ResponseEntity.ok(ResultadoLoteMapper.toResponse(resultado, CatSedeMapper::toResponse));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<CatSedeResponse> findById(@PathVariable Integer id) {
         log.debug("REST request to get sede by ID: {}", id);
@@ -8,9 +8,13 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import pe.edu.upc.oss.group1.dto.catalogo.request.CatTipoDispositivoRequest;
 import pe.edu.upc.oss.group1.dto.catalogo.response.CatTipoDispositivoResponse;
+import pe.edu.upc.oss.group1.dto.mapper.ResultadoLoteMapper;
+import pe.edu.upc.oss.group1.dto.response.ResultadoLoteResponse;
 import pe.edu.upc.oss.group1.entity.catalogo.CatTipoDispositivo;
 import pe.edu.upc.oss.group1.mapper.CatTipoDispositivoMapper;
+import pe.edu.upc.oss.group1.service.ConsultaLote;
 import pe.edu.upc.oss.group1.service.CatTipoDispositivoService;
+import pe.edu.upc.oss.group1.service.ResultadoLote;
 
 import java.util.List;
 
@@ -40,6 +44,15 @@ public class CatTipoDispositivoController {
         return ResponseEntity.ok(CatTipoDispositivoMapper.toResponseList(tipos));
     }
 
+    @GetMapping("/lote")
+    public ResponseEntity<ResultadoLoteResponse<CatTipoDispositivoResponse>> findLote(
+            @RequestParam(required = false) List<Integer> ids,
+            @RequestParam(required = false) List<String> codigos) {
+        log.debug("REST request to get tipos de dispositivo by lote");
+        ResultadoLote<CatTipoDispositivo> resultado = catTipoDispositivoService.findLote(ConsultaLote.de(ids, codigos));
+        return ResponseEntity.ok(ResultadoLoteMapper.toResponse(resultado, CatTipoDispositivoMapper::toResponse));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<CatTipoDispositivoResponse> findById(@PathVariable Integer id) {
         log.debug("REST request to get tipo de dispositivo by ID: {}", id);
@@ -8,9 +8,13 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import pe.edu.upc.oss.group1.dto.catalogo.request.CatTipoMovimientoRequest;
 import pe.edu.upc.oss.group1.dto.catalogo.response.CatTipoMovimientoResponse;
+import pe.edu.upc.oss.group1.dto.mapper.ResultadoLoteMapper;
+import pe.edu.upc.oss.group1.dto.response.ResultadoLoteResponse;
 import pe.edu.upc.oss.group1.entity.catalogo.CatTipoMovimiento;
 import pe.edu.upc.oss.group1.mapper.CatTipoMovimientoMapper;
+import pe.edu.upc.oss.group1.service.ConsultaLote;
 import pe.edu.upc.oss.group1.service.CatTipoMovimientoService;
+import pe.edu.upc.oss.group1.service.ResultadoLote;
 
 import java.util.List;
 
@@ -40,6 +44,15 @@ public class CatTipoMovimientoController {
         return ResponseEntity.ok(CatTipoMovimientoMapper.toResponseList(tipos));
     }
 
+    @GetMapping("/lote")
+    public ResponseEntity<ResultadoLoteResponse<CatTipoMovimientoResponse>> findLote(
+            @RequestParam(required = false) List<Integer> ids,
+            @RequestParam(required = false) List<String> codigos) {
+        log.debug("REST request to get tipos de movimiento by lote");
+        ResultadoLote<CatTipoMovimiento> resultado = catTipoMovimientoService.findLote(ConsultaLote.de(ids, codigos));
+        return ResponseEntity.ok(ResultadoLoteMapper.toResponse(resultado, CatTipoMovimientoMapper::toResponse));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<CatTipoMovimientoResponse> findById(@PathVariable Integer id) {
         log.debug("REST request to get tipo de movimiento by ID: {}", id);
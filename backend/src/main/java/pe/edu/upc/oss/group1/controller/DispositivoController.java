@@ -7,17 +7,38 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import pe.edu.upc.oss.group1.dto.mapper.CambioEstadoMasivoMapper;
 import pe.edu.upc.oss.group1.dto.mapper.DispositivoMapper;
+import pe.edu.upc.oss.group1.dto.mapper.EscaneoMapper;
+import pe.edu.upc.oss.group1.dto.mapper.InventarioMapper;
+import pe.edu.upc.oss.group1.dto.mapper.ResultadoLoteMapper;
+import pe.edu.upc.oss.group1.dto.request.DispositivoLoteRequest;
 import pe.edu.upc.oss.group1.dto.request.DispositivoRequest;
+import pe.edu.upc.oss.group1.dto.request.DispositivoEstadoMasivoRequest;
 import pe.edu.upc.oss.group1.dto.request.DispositivoEstadoRequest;
+import pe.edu.upc.oss.group1.dto.response.CambioEstadoMasivoResponse;
 import pe.edu.upc.oss.group1.dto.response.DispositivoResponse;
+import pe.edu.upc.oss.group1.dto.response.EscaneoDispositivoResponse;
+import pe.edu.upc.oss.group1.dto.response.ResultadoLoteResponse;
+import pe.edu.upc.oss.group1.dto.response.TenenciaHistoricaResponse;
+import pe.edu.upc.oss.group1.entity.CambioEstadoMasivo;
 import pe.edu.upc.oss.group1.entity.Dispositivo;
+import pe.edu.upc.oss.group1.service.CambioEstadoMasivoService;
+import pe.edu.upc.oss.group1.service.ConsultaLote;
+import pe.edu.upc.oss.group1.service.DispositivoEscaneado;
 import pe.edu.upc.oss.group1.service.DispositivoService;
+import pe.edu.upc.oss.group1.service.EscaneoService;
+import pe.edu.upc.oss.group1.service.InventarioHistoricoService;
+import pe.edu.upc.oss.group1.service.ResultadoLote;
 
+import java.net.URI;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.UUID;
 
 /**
  * Controller REST para gestión de dispositivos IT.
@@ -30,6 +51,9 @@ import java.util.List;
 public class DispositivoController {
 
     private final DispositivoService dispositivoService;
+    private final InventarioHistoricoService inventarioService;
+    private final CambioEstadoMasivoService cambioEstadoMasivoService;
+    private final EscaneoService escaneoService;
 
     @GetMapping
     @Operation(summary = "Listar todos los dispositivos")
@@ -56,11 +80,25 @@ public class DispositivoController {
     public ResponseEntity<Page<DispositivoResponse>> findDisponiblesPaginated(Pageable pageable) {
         log.info("GET /api/v1/dispositivos/disponibles/page - Obteniendo dispositivos disponibles con paginación");
         Page<Dispositivo> dispositivos = dispositivoService.findDisponibles(pageable);
-        Page<DispositivoResponse> response = dispositivos.map(DispositivoMapper::toResponse);
+        Page<DispositivoResponse> response = DispositivoMapper.toResponsePage(dispositivos);
         log.info("Se encontraron {} dispositivos disponibles en página {}", response.getContent().size(), pageable.getPageNumber());
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/lote")
+    @Operation(summary = "Obtener varios dispositivos por ID o código de activo")
+    public ResponseEntity<ResultadoLoteResponse<DispositivoResponse>> findLote(
+            @RequestParam(required = false) List<Integer> ids,
+            @RequestParam(required = false) List<String> codigos) {
+        log.info("GET /api/v1/dispositivos/lote - Obteniendo dispositivos por lote");
+        ResultadoLote<Dispositivo> resultado = dispositivoService.findLote(ConsultaLote.de(ids, codigos));
+        ResultadoLoteResponse<DispositivoResponse> response =
+                ResultadoLoteMapper.toResponseConContexto(resultado, DispositivoMapper::toResponse);
+        log.info("Dispositivos por lote: {} encontrados, {} no encontrados",
+                response.getResultados().size(), response.getNoEncontrados().size());
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Obtener dispositivo por ID")
     public ResponseEntity<DispositivoResponse> findById(@PathVariable Integer id) {
@@ -70,6 +108,19 @@ public class DispositivoController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/{id}/tenencia")
+    @Operation(summary = "Obtener quién tenía el dispositivo al cierre de una fecha",
+            description = "Sin asOf se usa la fecha actual")
+    public ResponseEntity<TenenciaHistoricaResponse> findTenencia(
+            @PathVariable Integer id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf) {
+        LocalDate fecha = asOf != null ? asOf : LocalDate.now();
+        log.info("GET /api/v1/dispositivos/{}/tenencia?asOf={} - Obteniendo tenencia a la fecha", id, fecha);
+        TenenciaHistoricaResponse response =
+                InventarioMapper.toResponse(inventarioService.findTenenciaDispositivo(id, fecha));
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/codigo/{codigo}")
     @Operation(summary = "Obtener dispositivo por código de activo")
     public ResponseEntity<DispositivoResponse> findByCodigoActivo(@PathVariable String codigo) {
@@ -79,6 +130,16 @@ public class DispositivoController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/escaneo/{codigo}")
+    @Operation(summary = "Resolver la lectura de una etiqueta (código de activo o número de serie)")
+    public ResponseEntity<EscaneoDispositivoResponse> escanear(@PathVariable String codigo) {
+        // Ruta de alta frecuencia (estaciones de almacén): log en debug
+        DispositivoEscaneado escaneado = escaneoService.buscar(codigo);
+        log.debug("GET /api/v1/dispositivos/escaneo/{} - resuelto {}", codigo,
+                escaneado.desdeIndice() ? "en memoria" : "en base de datos");
+        return ResponseEntity.ok(EscaneoMapper.toResponse(escaneado));
+    }
+
     @GetMapping("/tipo/{tipoId}")
     @Operation(summary = "Listar dispositivos por tipo")
     public ResponseEntity<List<DispositivoResponse>> findByTipo(@PathVariable Integer tipoId) {
@@ -100,6 +161,20 @@ public class DispositivoController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/lote")
+    @Operation(summary = "Registrar varios dispositivos",
+            description = "Todo o nada: si algún código de activo o número de serie ya existe o se repite, " +
+                    "no se registra ninguno")
+    public ResponseEntity<List<DispositivoResponse>> createLote(@Valid @RequestBody DispositivoLoteRequest request) {
+        log.info("POST /api/v1/dispositivos/lote - Registrando {} dispositivos", request.getDispositivos().size());
+        List<Dispositivo> dispositivos = request.getDispositivos().stream()
+                .map(DispositivoMapper::toEntity)
+                .toList();
+        List<DispositivoResponse> response = DispositivoMapper.toResponseList(dispositivoService.createLote(dispositivos));
+        log.info("Se registraron {} dispositivos", response.size());
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Actualizar dispositivo")
     public ResponseEntity<DispositivoResponse> update(
@@ -125,6 +200,32 @@ public class DispositivoController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/estado-masivo")
+    @Operation(summary = "Cambiar el estado de varios dispositivos",
+            description = "Por lista de IDs o por filtro (tipo, marca, modelo, rango de fecha de adquisición). " +
+                    "Se procesa en segundo plano por lotes; el progreso se consulta en la URL del header Location")
+    public ResponseEntity<CambioEstadoMasivoResponse> updateEstadoMasivo(
+            @Valid @RequestBody DispositivoEstadoMasivoRequest request) {
+        log.info("POST /api/v1/dispositivos/estado-masivo - Cambiando estado a ID {}", request.getEstadoId());
+        CambioEstadoMasivo trabajo = cambioEstadoMasivoService.iniciar(
+                CambioEstadoMasivoMapper.toCriterios(request),
+                request.getEstadoId(), request.getUsuarioId(), request.getObservacion());
+        CambioEstadoMasivoResponse response = CambioEstadoMasivoMapper.toResponse(trabajo);
+        log.info("Cambio de estado masivo {} iniciado para {} dispositivos", response.getId(), response.getTotal());
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/dispositivos/estado-masivo/" + response.getId()))
+                .body(response);
+    }
+
+    @GetMapping("/estado-masivo/{trabajoId}")
+    @Operation(summary = "Consultar el progreso de un cambio de estado masivo")
+    public ResponseEntity<CambioEstadoMasivoResponse> findEstadoMasivo(@PathVariable UUID trabajoId) {
+        log.info("GET /api/v1/dispositivos/estado-masivo/{} - Consultando progreso", trabajoId);
+        CambioEstadoMasivoResponse response =
+                CambioEstadoMasivoMapper.toResponse(cambioEstadoMasivoService.findById(trabajoId));
+        return ResponseEntity.ok(response);
+    }
+
     @DeleteMapping("/{id}")
     @Operation(summary = "Eliminar dispositivo")
     public ResponseEntity<Void> delete(@PathVariable Integer id) {
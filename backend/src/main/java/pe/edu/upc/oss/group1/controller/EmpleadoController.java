@@ -11,10 +11,20 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import pe.edu.upc.oss.group1.dto.mapper.EmpleadoMapper;
+import pe.edu.upc.oss.group1.dto.mapper.PerfilEmpleadoMapper;
+import pe.edu.upc.oss.group1.dto.mapper.ResultadoLoteMapper;
+import pe.edu.upc.oss.group1.dto.mapper.TenenciaEmpleadoMapper;
 import pe.edu.upc.oss.group1.dto.request.EmpleadoRequest;
 import pe.edu.upc.oss.group1.dto.response.EmpleadoResponse;
+import pe.edu.upc.oss.group1.dto.response.PerfilEmpleadoResponse;
+import pe.edu.upc.oss.group1.dto.response.ResultadoLoteResponse;
+import pe.edu.upc.oss.group1.dto.response.TenenciaEmpleadoResponse;
 import pe.edu.upc.oss.group1.entity.Empleado;
+import pe.edu.upc.oss.group1.service.ConsultaLote;
 import pe.edu.upc.oss.group1.service.EmpleadoService;
+import pe.edu.upc.oss.group1.service.PerfilEmpleadoService;
+import pe.edu.upc.oss.group1.service.ResultadoLote;
+import pe.edu.upc.oss.group1.service.TenenciaEmpleadoService;
 
 import java.util.List;
 
@@ -29,6 +39,8 @@ import java.util.List;
 public class EmpleadoController {
 
     private final EmpleadoService empleadoService;
+    private final TenenciaEmpleadoService tenenciaService;
+    private final PerfilEmpleadoService perfilService;
 
     @GetMapping
     @Operation(summary = "Listar todos los empleados")
@@ -57,11 +69,25 @@ public class EmpleadoController {
             Pageable pageable) {
         log.info("GET /api/v1/empleados/search?q={} - Buscando empleados", query);
         Page<Empleado> empleados = empleadoService.search(query, pageable);
-        Page<EmpleadoResponse> response = empleados.map(EmpleadoMapper::toResponse);
+        Page<EmpleadoResponse> response = EmpleadoMapper.toResponsePage(empleados);
         log.info("Se encontraron {} empleados para búsqueda '{}'", response.getContent().size(), query);
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/lote")
+    @Operation(summary = "Obtener varios empleados por ID o código")
+    public ResponseEntity<ResultadoLoteResponse<EmpleadoResponse>> findLote(
+            @RequestParam(required = false) List<Integer> ids,
+            @RequestParam(required = false) List<String> codigos) {
+        log.info("GET /api/v1/empleados/lote - Obteniendo empleados por lote");
+        ResultadoLote<Empleado> resultado = empleadoService.findLote(ConsultaLote.de(ids, codigos));
+        ResultadoLoteResponse<EmpleadoResponse> response =
+                ResultadoLoteMapper.toResponseConContexto(resultado, EmpleadoMapper::toResponse);
+        log.info("Empleados por lote: {} encontrados, {} no encontrados",
+                response.getResultados().size(), response.getNoEncontrados().size());
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Obtener empleado por ID")
     public ResponseEntity<EmpleadoResponse> findById(@PathVariable Integer id) {
@@ -71,6 +97,28 @@ public class EmpleadoController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/{id}/perfil")
+    @Operation(summary = "Obtener perfil 360 del empleado",
+            description = "Datos, tenencia, asignaciones activas, reemplazos, solicitudes de devolución e historial "
+                    + "en una sola llamada. Las secciones que no responden a tiempo se omiten y se listan en "
+                    + "seccionesIncompletas")
+    public ResponseEntity<PerfilEmpleadoResponse> findPerfil(@PathVariable Integer id) {
+        log.info("GET /api/v1/empleados/{}/perfil - Obteniendo perfil del empleado", id);
+        PerfilEmpleadoResponse response = PerfilEmpleadoMapper.toResponse(perfilService.findByEmpleado(id));
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{id}/tenencia")
+    @Operation(summary = "Obtener resumen de dispositivos en poder del empleado",
+            description = "Cantidad, valor total e IDs de dispositivos por tipo, sin recorrer el historial de asignaciones")
+    public ResponseEntity<TenenciaEmpleadoResponse> findTenencia(@PathVariable Integer id) {
+        log.info("GET /api/v1/empleados/{}/tenencia - Obteniendo tenencia de dispositivos", id);
+        empleadoService.findById(id);
+        TenenciaEmpleadoResponse response = TenenciaEmpleadoMapper.toResponse(
+                tenenciaService.findByEmpleado(id), tenenciaService.findDispositivos(id));
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/codigo/{codigo}")
     @Operation(summary = "Obtener empleado por código")
     public ResponseEntity<EmpleadoResponse> findByCodigoEmpleado(@PathVariable String codigo) {
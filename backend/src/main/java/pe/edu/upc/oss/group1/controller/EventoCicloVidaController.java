@@ -0,0 +1,34 @@
+package pe.edu.upc.oss.group1.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import pe.edu.upc.oss.group1.evento.EventoCicloVidaStream;
+
+/**
+ * Controller REST para el stream (SSE) de eventos del ciclo de vida de dispositivos.
+ * Reemplaza el polling de /asignaciones/activas y /reemplazos/pendientes en los dashboards.
+ */
+@RestController
+@RequestMapping("/api/v1/eventos")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Eventos", description = "Stream de eventos del ciclo de vida de dispositivos")
+public class EventoCicloVidaController {
+
+    private final EventoCicloVidaStream eventoStream;
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Suscribirse a eventos de asignación, devolución, reemplazo, cambio de estado y solicitudes",
+            description = "Filtros opcionales por sede y área del empleado involucrado")
+    public SseEmitter stream(
+            @RequestParam(required = false) Integer sedeId,
+            @RequestParam(required = false) Integer areaId) {
+        log.info("GET /api/v1/eventos/stream - Nueva suscripción (sede: {}, área: {})", sedeId, areaId);
+        return eventoStream.suscribir(sedeId, areaId);
+    }
+}
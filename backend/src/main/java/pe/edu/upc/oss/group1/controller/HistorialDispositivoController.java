@@ -44,7 +44,7 @@ public class HistorialDispositivoController {
             Pageable pageable) {
         log.info("GET /api/v1/historial-dispositivos/dispositivo/{}/page - Obteniendo historial con paginación", dispositivoId);
         Page<HistorialDispositivo> historial = historialService.findByDispositivo(dispositivoId, pageable);
-        Page<HistorialDispositivoResponse> response = historial.map(HistorialDispositivoMapper::toResponse);
+        Page<HistorialDispositivoResponse> response = HistorialDispositivoMapper.toResponsePage(historial);
         log.info("Se encontraron {} registros de historial en página {} para el dispositivo {}",
                 response.getContent().size(), pageable.getPageNumber(), dispositivoId);
         return ResponseEntity.ok(response);
@@ -62,4 +62,14 @@ public class HistorialDispositivoController {
         log.info("Se obtuvieron {} movimientos recientes para el dispositivo {}", response.size(), dispositivoId);
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping("/empleado/{empleadoId}")
+    @Operation(summary = "Obtener movimientos en los que participó un empleado")
+    public ResponseEntity<List<HistorialDispositivoResponse>> findByEmpleado(@PathVariable Integer empleadoId) {
+        log.info("GET /api/v1/historial-dispositivos/empleado/{} - Obteniendo historial del empleado", empleadoId);
+        List<HistorialDispositivo> historial = historialService.findByEmpleado(empleadoId);
+        List<HistorialDispositivoResponse> response = HistorialDispositivoMapper.toResponseList(historial);
+        log.info("Se encontraron {} registros de historial para el empleado {}", response.size(), empleadoId);
+        return ResponseEntity.ok(response);
+    }
 }
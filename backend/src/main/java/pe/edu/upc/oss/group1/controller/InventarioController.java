@@ -0,0 +1,56 @@
+package pe.edu.upc.oss.group1.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import pe.edu.upc.oss.group1.dto.mapper.InventarioMapper;
+import pe.edu.upc.oss.group1.dto.response.InventarioSnapshotResponse;
+import pe.edu.upc.oss.group1.dto.response.TenenciaHistoricaResponse;
+import pe.edu.upc.oss.group1.service.InventarioHistoricoService;
+
+import java.time.LocalDate;
+
+/**
+ * Controller REST para consultar el inventario a una fecha pasada.
+ */
+@RestController
+@RequestMapping("/api/v1/inventario")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Inventario", description = "Inventario y tenencia de dispositivos a una fecha (as-of)")
+public class InventarioController {
+
+    private final InventarioHistoricoService inventarioService;
+
+    @GetMapping
+    @Operation(summary = "Obtener el inventario al cierre de una fecha con paginación",
+            description = "Dispositivos registrados a esa fecha y quién los tenía. Sin asOf se usa la fecha actual")
+    public ResponseEntity<Page<TenenciaHistoricaResponse>> findInventario(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf,
+            Pageable pageable) {
+        LocalDate fecha = asOf != null ? asOf : LocalDate.now();
+        log.info("GET /api/v1/inventario?asOf={} - Obteniendo inventario", fecha);
+        Page<TenenciaHistoricaResponse> response =
+                InventarioMapper.toResponsePage(inventarioService.findInventario(fecha, pageable));
+        log.info("Se encontraron {} dispositivos en página {} del inventario al {}",
+                response.getContent().size(), pageable.getPageNumber(), fecha);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/snapshots")
+    @Operation(summary = "Crear snapshot de tenencia al cierre de un día",
+            description = "Normalmente lo crea la tarea programada; sirve para crear snapshots de fechas pasadas")
+    public ResponseEntity<InventarioSnapshotResponse> crearSnapshot(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fechaCorte) {
+        log.info("POST /api/v1/inventario/snapshots?fechaCorte={} - Creando snapshot", fechaCorte);
+        InventarioSnapshotResponse response = InventarioMapper.toResponse(inventarioService.crearSnapshot(fechaCorte));
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+}
@@ -8,11 +8,16 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import pe.edu.upc.oss.group1.dto.mapper.EjecucionReemplazoLoteMapper;
 import pe.edu.upc.oss.group1.dto.mapper.ReemplazoDispositivoMapper;
 import pe.edu.upc.oss.group1.dto.request.ReemplazoDispositivoRequest;
+import pe.edu.upc.oss.group1.dto.request.ReemplazoEjecucionLoteRequest;
+import pe.edu.upc.oss.group1.dto.response.EjecucionReemplazoLoteResponse;
 import pe.edu.upc.oss.group1.dto.response.ReemplazoDispositivoResponse;
 import pe.edu.upc.oss.group1.entity.ReemplazoDispositivo;
+import pe.edu.upc.oss.group1.service.EjecucionReemplazoLoteService;
 import pe.edu.upc.oss.group1.service.ReemplazoDispositivoService;
+import pe.edu.upc.oss.group1.service.ResultadoEjecucionReemplazo;
 
 import java.util.List;
 
@@ -27,6 +32,7 @@ import java.util.List;
 public class ReemplazoDispositivoController {
 
     private final ReemplazoDispositivoService reemplazoService;
+    private final EjecucionReemplazoLoteService ejecucionLoteService;
 
     @GetMapping
     @Operation(summary = "Listar todos los reemplazos")
@@ -88,6 +94,19 @@ public class ReemplazoDispositivoController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/ejecucion-lote")
+    @Operation(summary = "Ejecutar varios reemplazos pendientes",
+            description = "Ejecuta los reemplazos por lotes y retorna el resultado de cada uno; "
+                    + "los que no pueden ejecutarse no impiden la ejecución del resto")
+    public ResponseEntity<EjecucionReemplazoLoteResponse> ejecutarLote(
+            @Valid @RequestBody ReemplazoEjecucionLoteRequest request) {
+        log.info("POST /api/v1/reemplazos/ejecucion-lote - Ejecutando {} reemplazos", request.getIds().size());
+        List<ResultadoEjecucionReemplazo> resultados = ejecucionLoteService.ejecutar(request.getIds());
+        EjecucionReemplazoLoteResponse response = EjecucionReemplazoLoteMapper.toResponse(resultados);
+        log.info("Ejecución en lote: {} de {} reemplazos ejecutados", response.getEjecutados(), response.getTotal());
+        return ResponseEntity.ok(response);
+    }
+
     @DeleteMapping("/{id}")
     @Operation(summary = "Cancelar solicitud de reemplazo")
     public ResponseEntity<Void> cancelar(
@@ -0,0 +1,49 @@
+package pe.edu.upc.oss.group1.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import pe.edu.upc.oss.group1.dto.mapper.SincronizacionMapper;
+import pe.edu.upc.oss.group1.dto.response.CambiosSincronizacionResponse;
+import pe.edu.upc.oss.group1.service.SincronizacionService;
+
+/**
+ * Controller REST para la sincronización incremental de clientes sin conexión (tablets de campo).
+ *
+ * Base URL: /api/v1/sincronizacion
+ *
+ * Endpoints:
+ * - GET /api/v1/sincronizacion/cambios?marca={marca}&limite=500
+ *
+ * Uso: la primera vez se llama sin marca y se recibe una copia completa. Mientras hayMas sea true
+ * se pide la siguiente página con la marca recibida; la marca de la última página se guarda y se
+ * envía en la siguiente sincronización, que trae solo lo creado, modificado o eliminado después.
+ */
+@RestController
+@RequestMapping("/api/v1/sincronizacion")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Sincronización", description = "Cambios incrementales para clientes sin conexión")
+public class SincronizacionController {
+
+    private final SincronizacionService sincronizacionService;
+
+    @GetMapping("/cambios")
+    @Operation(summary = "Obtener los cambios posteriores a una marca",
+            description = "Catálogos, empleados, dispositivos y asignaciones creados o modificados, y registros "
+                    + "eliminados. Sin marca, o con una marca demasiado antigua, devuelve una copia completa "
+                    + "con reiniciar=true en la primera página")
+    public ResponseEntity<CambiosSincronizacionResponse> findCambios(
+            @RequestParam(required = false) String marca,
+            @RequestParam(defaultValue = "500") int limite) {
+        log.info("GET /api/v1/sincronizacion/cambios?limite={} - Obteniendo cambios ({})",
+                limite, marca != null ? "incremental" : "copia completa");
+        CambiosSincronizacionResponse response =
+                SincronizacionMapper.toResponse(sincronizacionService.findCambios(marca, limite));
+        log.info("Sincronización: página con hayMas={} reiniciar={}", response.getHayMas(), response.getReiniciar());
+        return ResponseEntity.ok(response);
+    }
+}
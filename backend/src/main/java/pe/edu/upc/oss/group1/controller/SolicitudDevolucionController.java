@@ -55,7 +55,7 @@ public class SolicitudDevolucionController {
     public ResponseEntity<Page<SolicitudDevolucionResponse>> findPendientesPaginated(Pageable pageable) {
         log.info("GET /api/v1/solicitudes-devolucion/pendientes/page - Obteniendo solicitudes pendientes con paginación");
         Page<SolicitudDevolucion> solicitudes = solicitudService.findPendientes(pageable);
-        Page<SolicitudDevolucionResponse> response = solicitudes.map(SolicitudDevolucionMapper::toResponse);
+        Page<SolicitudDevolucionResponse> response = SolicitudDevolucionMapper.toResponsePage(solicitudes);
         log.info("Se encontraron {} solicitudes pendientes en página {}", response.getContent().size(), pageable.getPageNumber());
         return ResponseEntity.ok(response);
     }
@@ -7,9 +7,13 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import pe.edu.upc.oss.group1.dto.mapper.CatMarcaMapper;
+import pe.edu.upc.oss.group1.dto.mapper.ResultadoLoteMapper;
 import pe.edu.upc.oss.group1.dto.request.CatMarcaRequest;
 import pe.edu.upc.oss.group1.dto.response.CatMarcaResponse;
+import pe.edu.upc.oss.group1.dto.response.ResultadoLoteResponse;
 import pe.edu.upc.oss.group1.entity.catalogo.CatMarca;
+import pe.edu.upc.oss.group1.service.ConsultaLote;
+import pe.edu.upc.oss.group1.service.ResultadoLote;
 import pe.edu.upc.oss.group1.service.catalogo.CatMarcaService;
 
 import java.util.List;
@@ -22,6 +26,7 @@ import java.util.List;
  * Endpoints:
  * - GET    /api/v1/catalogos/marcas          → Listar todas las marcas
  * - GET    /api/v1/catalogos/marcas/activas  → Listar solo marcas activas
+ * - GET    /api/v1/catalogos/marcas/lote     → Obtener varias marcas por ID o código
  * - GET    /api/v1/catalogos/marcas/{id}     → Obtener marca por ID
  * - POST   /api/v1/catalogos/marcas          → Crear nueva marca
  * - PUT    /api/v1/catalogos/marcas/{id}     → Actualizar marca
@@ -82,6 +87,31 @@ public class CatMarcaController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * GET /api/v1/catalogos/marcas/lote?ids=1,2,3 o ?codigos=DELL,HP
+     *
+     * Obtiene varias marcas en una sola llamada, por ID o por código (no ambos).
+     * Los identificadores que no existen se devuelven en noEncontrados.
+     *
+     * @param ids IDs de las marcas
+     * @param codigos Códigos de las marcas
+     * @return Marcas encontradas indexadas por el identificador solicitado
+     */
+    @GetMapping("/lote")
+    public ResponseEntity<ResultadoLoteResponse<CatMarcaResponse>> findLote(
+            @RequestParam(required = false) List<Integer> ids,
+            @RequestParam(required = false) List<String> codigos) {
+        log.info("GET /api/v1/catalogos/marcas/lote - Obteniendo marcas por lote");
+
+        ResultadoLote<CatMarca> resultado = catMarcaService.findLote(ConsultaLote.de(ids, codigos));
+        ResultadoLoteResponse<CatMarcaResponse> response =
+                ResultadoLoteMapper.toResponse(resultado, CatMarcaMapper::toResponse);
+
+        log.info("Marcas por lote: {} encontradas, {} no encontradas",
+                response.getResultados().size(), response.getNoEncontrados().size());
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * GET /api/v1/catalogos/marcas/{id}
      *
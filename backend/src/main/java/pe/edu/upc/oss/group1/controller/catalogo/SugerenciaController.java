@@ -0,0 +1,58 @@
+package pe.edu.upc.oss.group1.controller.catalogo;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import pe.edu.upc.oss.group1.dto.mapper.SugerenciaMapper;
+import pe.edu.upc.oss.group1.dto.response.SugerenciaResponse;
+import pe.edu.upc.oss.group1.sugerencia.MotorSugerencias;
+
+import java.util.List;
+
+/**
+ * Controller REST para el autocompletado de los formularios sobre cualquier catálogo.
+ *
+ * Base URL: /api/v1/catalogos/sugerencias
+ *
+ * Endpoints:
+ * - GET /api/v1/catalogos/sugerencias/{catalogo}?q={texto}&limite=10&soloActivos=true
+ *
+ * {catalogo} es el segmento de URL del catálogo (areas, marcas, proveedores, tipos-dispositivo, ...).
+ * Se resuelve en memoria, sin distinguir mayúsculas ni tildes; los endpoints /buscar de cada
+ * catálogo siguen disponibles para búsquedas completas.
+ */
+@RestController
+@RequestMapping("/api/v1/catalogos/sugerencias")
+@RequiredArgsConstructor
+@Slf4j
+public class SugerenciaController {
+
+    private final MotorSugerencias motorSugerencias;
+
+    /**
+     * GET /api/v1/catalogos/sugerencias/{catalogo}?q={texto}
+     *
+     * Sugerencias ordenadas por relevancia: código exacto, prefijo del nombre o del código,
+     * prefijo de cada palabra y por último coincidencias internas.
+     *
+     * @param catalogo    Catálogo a consultar
+     * @param q           Texto escrito por el usuario
+     * @param limite      Cantidad máxima de sugerencias (1 a 50)
+     * @param soloActivos Si se excluyen los elementos desactivados
+     * @return Lista de sugerencias
+     */
+    @GetMapping("/{catalogo}")
+    public ResponseEntity<List<SugerenciaResponse>> sugerir(
+            @PathVariable String catalogo,
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limite,
+            @RequestParam(defaultValue = "true") boolean soloActivos) {
+        log.debug("GET /api/v1/catalogos/sugerencias/{} - q: '{}'", catalogo, q);
+
+        List<SugerenciaResponse> response = SugerenciaMapper.toResponseList(
+                motorSugerencias.sugerir(catalogo, q, limite, soloActivos));
+
+        return ResponseEntity.ok(response);
+    }
+}
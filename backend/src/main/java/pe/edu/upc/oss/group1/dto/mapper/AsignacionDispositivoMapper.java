@@ -1,5 +1,8 @@
 package pe.edu.upc.oss.group1.dto.mapper;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import pe.edu.upc.oss.group1.dto.request.AsignacionAutomaticaRequest;
 import pe.edu.upc.oss.group1.dto.request.AsignacionDispositivoRequest;
 import pe.edu.upc.oss.group1.dto.response.AsignacionDispositivoResponse;
 import pe.edu.upc.oss.group1.entity.AsignacionDispositivo;
@@ -8,8 +11,8 @@ import pe.edu.upc.oss.group1.entity.Empleado;
 import pe.edu.upc.oss.group1.entity.Usuario;
 import pe.edu.upc.oss.group1.mapper.CatEstadoAsignacionMapper;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Mapper para convertir entre AsignacionDispositivo entity y DTOs.
@@ -46,23 +49,49 @@ public class AsignacionDispositivoMapper {
         return asignacion;
     }
 
+    /**
+     * Convierte una solicitud de asignación automática; el dispositivo lo elige el servicio.
+     */
+    public static AsignacionDispositivo toEntity(AsignacionAutomaticaRequest request) {
+        if (request == null) {
+            return null;
+        }
+
+        AsignacionDispositivo asignacion = new AsignacionDispositivo();
+        asignacion.setObservacionesAsignacion(request.getObservacionesAsignacion());
+
+        Empleado empleado = new Empleado();
+        empleado.setId(request.getEmpleadoId());
+        asignacion.setEmpleado(empleado);
+
+        Usuario usuario = new Usuario();
+        usuario.setId(request.getUsuarioAsignaId());
+        asignacion.setUsuarioAsigna(usuario);
+
+        return asignacion;
+    }
+
     public static AsignacionDispositivoResponse toResponse(AsignacionDispositivo entity) {
+        return toResponse(entity, MapeoContexto.nuevo());
+    }
+
+    public static AsignacionDispositivoResponse toResponse(AsignacionDispositivo entity, MapeoContexto contexto) {
         if (entity == null) {
             return null;
         }
 
         return AsignacionDispositivoResponse.builder()
                 .id(entity.getId())
-                .dispositivo(DispositivoMapper.toResponse(entity.getDispositivo()))
-                .empleado(EmpleadoMapper.toResponse(entity.getEmpleado()))
+                .dispositivo(DispositivoMapper.toResponse(entity.getDispositivo(), contexto))
+                .empleado(contexto.reutilizar(entity.getEmpleado(), e -> EmpleadoMapper.toResponse(e, contexto)))
                 .fechaAsignacion(entity.getFechaAsignacion())
                 .fechaDevolucion(entity.getFechaDevolucion())
-                .estadoAsignacion(CatEstadoAsignacionMapper.toResponse(entity.getEstadoAsignacion()))
+                .estadoAsignacion(contexto.reutilizar(entity.getEstadoAsignacion(), CatEstadoAsignacionMapper::toResponse))
                 .observacionesAsignacion(entity.getObservacionesAsignacion())
                 .observacionesDevolucion(entity.getObservacionesDevolucion())
-                .usuarioAsigna(UsuarioMapper.toResponse(entity.getUsuarioAsigna()))
-                .usuarioRecibe(UsuarioMapper.toResponse(entity.getUsuarioRecibe()))
-                .diasAsignado(entity.getDiasAsignado())
+                .usuarioAsigna(contexto.reutilizar(entity.getUsuarioAsigna(), UsuarioMapper::toResponse))
+                .usuarioRecibe(contexto.reutilizar(entity.getUsuarioRecibe(), UsuarioMapper::toResponse))
+                .diasAsignado(entity.getDiasAsignado(contexto.getHoy()))
                 .activa(entity.isActiva())
                 .fechaCreacion(entity.getFechaCreacion())
                 .build();
@@ -73,8 +102,18 @@ public class AsignacionDispositivoMapper {
             return List.of();
         }
 
-        return entities.stream()
-                .map(AsignacionDispositivoMapper::toResponse)
-                .collect(Collectors.toList());
+        MapeoContexto contexto = MapeoContexto.nuevo();
+        List<AsignacionDispositivoResponse> responses = new ArrayList<>(entities.size());
+        for (AsignacionDispositivo entity : entities) {
+            responses.add(toResponse(entity, contexto));
+        }
+        return responses;
+    }
+
+    /**
+     * Convierte una página de entities compartiendo el contexto de mapeo entre sus filas.
+     */
+    public static Page<AsignacionDispositivoResponse> toResponsePage(Page<AsignacionDispositivo> page) {
+        return new PageImpl<>(toResponseList(page.getContent()), page.getPageable(), page.getTotalElements());
     }
 }
@@ -0,0 +1,49 @@
+package pe.edu.upc.oss.group1.dto.mapper;
+
+import pe.edu.upc.oss.group1.batch.EstadoOperacion;
+import pe.edu.upc.oss.group1.batch.OperacionSolicitada;
+import pe.edu.upc.oss.group1.batch.ResultadoBatch;
+import pe.edu.upc.oss.group1.batch.ResultadoOperacion;
+import pe.edu.upc.oss.group1.dto.request.BatchRequest;
+import pe.edu.upc.oss.group1.dto.response.BatchResponse;
+import pe.edu.upc.oss.group1.dto.response.ResultadoOperacionResponse;
+
+import java.util.List;
+
+/**
+ * Mapper para convertir entre los DTOs de batch y las operaciones del ejecutor.
+ */
+public class BatchMapper {
+
+    public static List<OperacionSolicitada> toOperaciones(BatchRequest request) {
+        return request.getOperaciones().stream()
+                .map(operacion -> new OperacionSolicitada(operacion.getId(), operacion.getOperacion(),
+                        operacion.getCuerpo(), operacion.getParametros()))
+                .toList();
+    }
+
+    public static BatchResponse toResponse(ResultadoBatch resultado) {
+        return BatchResponse.builder()
+                .modo(resultado.modo().name())
+                .exitoso(resultado.isExitoso())
+                .total(resultado.resultados().size())
+                .exitosas((int) resultado.contar(EstadoOperacion.EXITOSA))
+                .fallidas((int) resultado.contar(EstadoOperacion.FALLIDA))
+                .resultados(resultado.resultados().stream()
+                        .map(BatchMapper::toResponse)
+                        .toList())
+                .build();
+    }
+
+    private static ResultadoOperacionResponse toResponse(ResultadoOperacion resultado) {
+        return ResultadoOperacionResponse.builder()
+                .indice(resultado.indice())
+                .id(resultado.id())
+                .operacion(resultado.operacion())
+                .resultado(resultado.estado().name())
+                .status(resultado.estadoHttp() != 0 ? resultado.estadoHttp() : null)
+                .cuerpo(resultado.cuerpo())
+                .error(resultado.error())
+                .build();
+    }
+}
@@ -0,0 +1,45 @@
+package pe.edu.upc.oss.group1.dto.mapper;
+
+import pe.edu.upc.oss.group1.dto.request.DispositivoEstadoMasivoRequest;
+import pe.edu.upc.oss.group1.dto.response.CambioEstadoMasivoResponse;
+import pe.edu.upc.oss.group1.entity.CambioEstadoMasivo;
+import pe.edu.upc.oss.group1.service.CriteriosCambioEstado;
+
+/**
+ * Mapper para convertir cambios de estado masivos entre DTOs y el modelo del servicio.
+ */
+public class CambioEstadoMasivoMapper {
+
+    public static CriteriosCambioEstado toCriterios(DispositivoEstadoMasivoRequest request) {
+        if (request == null) {
+            return null;
+        }
+
+        return new CriteriosCambioEstado(
+                request.getIds(),
+                request.getTipoDispositivoId(),
+                request.getMarcaId(),
+                request.getModelo(),
+                request.getFechaAdquisicionDesde(),
+                request.getFechaAdquisicionHasta());
+    }
+
+    public static CambioEstadoMasivoResponse toResponse(CambioEstadoMasivo trabajo) {
+        if (trabajo == null) {
+            return null;
+        }
+
+        return CambioEstadoMasivoResponse.builder()
+                .id(trabajo.getId())
+                .estado(trabajo.getEstado().name())
+                .estadoDestinoId(trabajo.getEstadoDestinoId())
+                .total(trabajo.getTotal())
+                .procesados(trabajo.getProcesados())
+                .cambiados(trabajo.getCambiados())
+                .porcentaje(trabajo.getPorcentaje())
+                .error(trabajo.getError())
+                .fechaInicio(trabajo.getFechaInicio())
+                .fechaFin(trabajo.getFechaFin())
+                .build();
+    }
+}
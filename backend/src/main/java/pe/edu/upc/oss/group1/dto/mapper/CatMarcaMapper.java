@@ -4,8 +4,8 @@ import pe.edu.upc.oss.group1.dto.request.CatMarcaRequest;
 import pe.edu.upc.oss.group1.dto.response.CatMarcaResponse;
 import pe.edu.upc.oss.group1.entity.catalogo.CatMarca;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Mapper para convertir entre CatMarca entity y DTOs.
@@ -78,8 +78,10 @@ public class CatMarcaMapper {
             return List.of();
         }
 
-        return entities.stream()
-                .map(CatMarcaMapper::toResponse)
-                .collect(Collectors.toList());
+        List<CatMarcaResponse> responses = new ArrayList<>(entities.size());
+        for (CatMarca entity : entities) {
+            responses.add(toResponse(entity));
+        }
+        return responses;
     }
 }
@@ -8,8 +8,8 @@ import pe.edu.upc.oss.group1.entity.SolicitudDevolucion;
 import pe.edu.upc.oss.group1.entity.catalogo.CatCondicionDevolucion;
 import pe.edu.upc.oss.group1.mapper.CatCondicionDevolucionMapper;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Mapper para convertir entre DetalleDevolucion entity y DTOs.
@@ -46,16 +46,20 @@ public class DetalleDevolucionMapper {
     }
 
     public static DetalleDevolucionResponse toResponse(DetalleDevolucion entity) {
+        return toResponse(entity, MapeoContexto.nuevo());
+    }
+
+    public static DetalleDevolucionResponse toResponse(DetalleDevolucion entity, MapeoContexto contexto) {
         if (entity == null) {
             return null;
         }
 
         return DetalleDevolucionResponse.builder()
                 .id(entity.getId())
-                .solicitudDevolucion(SolicitudDevolucionMapper.toResponse(entity.getSolicitudDevolucion()))
-                .dispositivo(DispositivoMapper.toResponse(entity.getDispositivo()))
-                .asignacion(AsignacionDispositivoMapper.toResponse(entity.getAsignacion()))
-                .condicionDevolucion(CatCondicionDevolucionMapper.toResponse(entity.getCondicionDevolucion()))
+                .solicitudDevolucion(contexto.reutilizar(entity.getSolicitudDevolucion(), s -> SolicitudDevolucionMapper.toResponse(s, contexto)))
+                .dispositivo(DispositivoMapper.toResponse(entity.getDispositivo(), contexto))
+                .asignacion(AsignacionDispositivoMapper.toResponse(entity.getAsignacion(), contexto))
+                .condicionDevolucion(contexto.reutilizar(entity.getCondicionDevolucion(), CatCondicionDevolucionMapper::toResponse))
                 .observaciones(entity.getObservaciones())
                 .fechaCreacion(entity.getFechaCreacion())
                 .build();
@@ -66,8 +70,11 @@ public class DetalleDevolucionMapper {
             return List.of();
         }
 
-        return entities.stream()
-                .map(DetalleDevolucionMapper::toResponse)
-                .collect(Collectors.toList());
+        MapeoContexto contexto = MapeoContexto.nuevo();
+        List<DetalleDevolucionResponse> responses = new ArrayList<>(entities.size());
+        for (DetalleDevolucion entity : entities) {
+            responses.add(toResponse(entity, contexto));
+        }
+        return responses;
     }
 }
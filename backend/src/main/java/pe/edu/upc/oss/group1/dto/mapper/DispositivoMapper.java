@@ -1,5 +1,7 @@
 package pe.edu.upc.oss.group1.dto.mapper;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import pe.edu.upc.oss.group1.dto.request.DispositivoRequest;
 import pe.edu.upc.oss.group1.dto.response.DispositivoResponse;
 import pe.edu.upc.oss.group1.entity.Dispositivo;
@@ -11,8 +13,8 @@ import pe.edu.upc.oss.group1.mapper.CatEstadoDispositivoMapper;
 import pe.edu.upc.oss.group1.mapper.CatProveedorMapper;
 import pe.edu.upc.oss.group1.mapper.CatTipoDispositivoMapper;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Mapper para convertir entre Dispositivo entity y DTOs.
@@ -61,6 +63,10 @@ public class DispositivoMapper {
     }
 
     public static DispositivoResponse toResponse(Dispositivo entity) {
+        return toResponse(entity, MapeoContexto.nuevo());
+    }
+
+    public static DispositivoResponse toResponse(Dispositivo entity, MapeoContexto contexto) {
         if (entity == null) {
             return null;
         }
@@ -69,16 +75,16 @@ public class DispositivoMapper {
                 .id(entity.getId())
                 .codigoActivo(entity.getCodigoActivo())
                 .numeroSerie(entity.getNumeroSerie())
-                .tipoDispositivo(CatTipoDispositivoMapper.toResponse(entity.getTipoDispositivo()))
-                .marca(CatMarcaMapper.toResponse(entity.getMarca()))
+                .tipoDispositivo(contexto.reutilizar(entity.getTipoDispositivo(), CatTipoDispositivoMapper::toResponse))
+                .marca(contexto.reutilizar(entity.getMarca(), CatMarcaMapper::toResponse))
                 .modelo(entity.getModelo())
                 .especificaciones(entity.getEspecificaciones())
                 .fechaAdquisicion(entity.getFechaAdquisicion())
                 .valorAdquisicion(entity.getValorAdquisicion())
-                .proveedor(CatProveedorMapper.toResponse(entity.getProveedor()))
+                .proveedor(contexto.reutilizar(entity.getProveedor(), CatProveedorMapper::toResponse))
                 .observaciones(entity.getObservaciones())
-                .estadoDispositivo(CatEstadoDispositivoMapper.toResponse(entity.getEstadoDispositivo()))
-                .antiguedadEnAnios(entity.getAntiguedadEnAnios())
+                .estadoDispositivo(contexto.reutilizar(entity.getEstadoDispositivo(), CatEstadoDispositivoMapper::toResponse))
+                .antiguedadEnAnios(entity.getAntiguedadEnAnios(contexto.getHoy()))
                 .disponibleParaAsignacion(entity.isDisponibleParaAsignacion())
                 .fechaCreacion(entity.getFechaCreacion())
                 .build();
@@ -89,8 +95,18 @@ public class DispositivoMapper {
             return List.of();
         }
 
-        return entities.stream()
-                .map(DispositivoMapper::toResponse)
-                .collect(Collectors.toList());
+        MapeoContexto contexto = MapeoContexto.nuevo();
+        List<DispositivoResponse> responses = new ArrayList<>(entities.size());
+        for (Dispositivo entity : entities) {
+            responses.add(toResponse(entity, contexto));
+        }
+        return responses;
+    }
+
+    /**
+     * Convierte una página de entities compartiendo el contexto de mapeo entre sus filas.
+     */
+    public static Page<DispositivoResponse> toResponsePage(Page<Dispositivo> page) {
+        return new PageImpl<>(toResponseList(page.getContent()), page.getPageable(), page.getTotalElements());
     }
 }
@@ -0,0 +1,40 @@
+package pe.edu.upc.oss.group1.dto.mapper;
+
+import pe.edu.upc.oss.group1.dto.response.EjecucionReemplazoLoteResponse;
+import pe.edu.upc.oss.group1.dto.response.EjecucionReemplazoResponse;
+import pe.edu.upc.oss.group1.service.ResultadoEjecucionReemplazo;
+
+import java.util.List;
+
+/**
+ * Mapper para convertir los resultados de una ejecución de reemplazos en lote a DTOs.
+ */
+public class EjecucionReemplazoLoteMapper {
+
+    public static EjecucionReemplazoResponse toResponse(ResultadoEjecucionReemplazo resultado) {
+        if (resultado == null) {
+            return null;
+        }
+
+        return EjecucionReemplazoResponse.builder()
+                .reemplazoId(resultado.reemplazoId())
+                .resultado(resultado.resultado().name())
+                .asignacionId(resultado.asignacionId())
+                .mensaje(resultado.mensaje())
+                .build();
+    }
+
+    public static EjecucionReemplazoLoteResponse toResponse(List<ResultadoEjecucionReemplazo> resultados) {
+        if (resultados == null) {
+            return null;
+        }
+
+        int ejecutados = (int) resultados.stream().filter(ResultadoEjecucionReemplazo::isEjecutado).count();
+        return EjecucionReemplazoLoteResponse.builder()
+                .total(resultados.size())
+                .ejecutados(ejecutados)
+                .noEjecutados(resultados.size() - ejecutados)
+                .resultados(resultados.stream().map(EjecucionReemplazoLoteMapper::toResponse).toList())
+                .build();
+    }
+}
@@ -1,5 +1,7 @@
 package pe.edu.upc.oss.group1.dto.mapper;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import pe.edu.upc.oss.group1.dto.request.EmpleadoRequest;
 import pe.edu.upc.oss.group1.dto.response.EmpleadoResponse;
 import pe.edu.upc.oss.group1.entity.Empleado;
@@ -9,8 +11,8 @@ import pe.edu.upc.oss.group1.entity.catalogo.CatPuesto;
 import pe.edu.upc.oss.group1.entity.catalogo.CatSede;
 import pe.edu.upc.oss.group1.mapper.*;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Mapper para convertir entre Empleado entity y DTOs.
@@ -59,6 +61,10 @@ public class EmpleadoMapper {
     }
 
     public static EmpleadoResponse toResponse(Empleado entity) {
+        return toResponse(entity, MapeoContexto.nuevo());
+    }
+
+    public static EmpleadoResponse toResponse(Empleado entity, MapeoContexto contexto) {
         if (entity == null) {
             return null;
         }
@@ -70,13 +76,13 @@ public class EmpleadoMapper {
                 .apellidoPaterno(entity.getApellidoPaterno())
                 .apellidoMaterno(entity.getApellidoMaterno())
                 .nombreCompleto(entity.getNombreCompleto())
-                .area(CatAreaMapper.toResponse(entity.getArea()))
-                .puesto(CatPuestoMapper.toResponse(entity.getPuesto()))
-                .sede(CatSedeMapper.toResponse(entity.getSede()))
+                .area(contexto.reutilizar(entity.getArea(), CatAreaMapper::toResponse))
+                .puesto(contexto.reutilizar(entity.getPuesto(), CatPuestoMapper::toResponse))
+                .sede(contexto.reutilizar(entity.getSede(), CatSedeMapper::toResponse))
                 .email(entity.getEmail())
                 .telefono(entity.getTelefono())
                 .fechaIngreso(entity.getFechaIngreso())
-                .estadoEmpleado(CatEstadoEmpleadoMapper.toResponse(entity.getEstadoEmpleado()))
+                .estadoEmpleado(contexto.reutilizar(entity.getEstadoEmpleado(), CatEstadoEmpleadoMapper::toResponse))
                 .fechaCreacion(entity.getFechaCreacion())
                 .build();
     }
@@ -86,8 +92,18 @@ public class EmpleadoMapper {
             return List.of();
         }
 
-        return entities.stream()
-                .map(EmpleadoMapper::toResponse)
-                .collect(Collectors.toList());
+        MapeoContexto contexto = MapeoContexto.nuevo();
+        List<EmpleadoResponse> responses = new ArrayList<>(entities.size());
+        for (Empleado entity : entities) {
+            responses.add(toResponse(entity, contexto));
+        }
+        return responses;
+    }
+
+    /**
+     * Convierte una página de entities compartiendo el contexto de mapeo entre sus filas.
+     */
+    public static Page<EmpleadoResponse> toResponsePage(Page<Empleado> page) {
+        return new PageImpl<>(toResponseList(page.getContent()), page.getPageable(), page.getTotalElements());
     }
 }
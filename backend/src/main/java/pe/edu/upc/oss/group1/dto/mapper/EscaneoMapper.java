@@ -0,0 +1,29 @@
+package pe.edu.upc.oss.group1.dto.mapper;
+
+import pe.edu.upc.oss.group1.dto.response.EscaneoDispositivoResponse;
+import pe.edu.upc.oss.group1.escaneo.ResumenEscaneo;
+import pe.edu.upc.oss.group1.mapper.CatEstadoDispositivoMapper;
+import pe.edu.upc.oss.group1.mapper.CatTipoDispositivoMapper;
+import pe.edu.upc.oss.group1.service.DispositivoEscaneado;
+
+/**
+ * Mapper para convertir el resultado de un escaneo a DTO.
+ */
+public class EscaneoMapper {
+
+    public static EscaneoDispositivoResponse toResponse(DispositivoEscaneado escaneado) {
+        if (escaneado == null) {
+            return null;
+        }
+
+        ResumenEscaneo resumen = escaneado.resumen();
+        return EscaneoDispositivoResponse.builder()
+                .id(resumen.id())
+                .codigoActivo(resumen.codigoActivo())
+                .numeroSerie(resumen.numeroSerie())
+                .tipoDispositivo(CatTipoDispositivoMapper.toResponse(escaneado.tipoDispositivo()))
+                .marca(CatMarcaMapper.toResponse(escaneado.marca()))
+                .estadoDispositivo(CatEstadoDispositivoMapper.toResponse(escaneado.estadoDispositivo()))
+                .build();
+    }
+}
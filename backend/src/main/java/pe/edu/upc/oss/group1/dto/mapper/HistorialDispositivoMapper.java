@@ -1,11 +1,13 @@
 package pe.edu.upc.oss.group1.dto.mapper;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import pe.edu.upc.oss.group1.dto.response.HistorialDispositivoResponse;
 import pe.edu.upc.oss.group1.entity.HistorialDispositivo;
 import pe.edu.upc.oss.group1.mapper.CatTipoMovimientoMapper;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Mapper para convertir entre HistorialDispositivo entity y DTOs.
@@ -14,19 +16,22 @@ import java.util.stream.Collectors;
 public class HistorialDispositivoMapper {
 
     public static HistorialDispositivoResponse toResponse(HistorialDispositivo entity) {
+        return toResponse(entity, MapeoContexto.nuevo());
+    }
+
+    public static HistorialDispositivoResponse toResponse(HistorialDispositivo entity, MapeoContexto contexto) {
         if (entity == null) {
             return null;
         }
 
         return HistorialDispositivoResponse.builder()
                 .id(entity.getId())
-                .dispositivo(DispositivoMapper.toResponse(entity.getDispositivo()))
-                .tipoMovimiento(CatTipoMovimientoMapper.toResponse(entity.getTipoMovimiento()))
-                .usuario(UsuarioMapper.toResponse(entity.getUsuario()))
+                .dispositivo(contexto.reutilizar(entity.getDispositivo(), d -> DispositivoMapper.toResponse(d, contexto)))
+                .tipoMovimiento(contexto.reutilizar(entity.getTipoMovimiento(), CatTipoMovimientoMapper::toResponse))
+                .usuario(contexto.reutilizar(entity.getUsuario(), UsuarioMapper::toResponse))
                 .fechaMovimiento(entity.getFechaMovimiento())
-                .descripcion(entity.getDescripcion())
-                .datosAnteriores(entity.getDatosAnteriores())
-                .datosNuevos(entity.getDatosNuevos())
+                .descripcion(entity.getDescripcionLegible())
+                .datos(entity.getDatos())
                 .build();
     }
 
@@ -35,8 +40,18 @@ public class HistorialDispositivoMapper {
             return List.of();
         }
 
-        return entities.stream()
-                .map(HistorialDispositivoMapper::toResponse)
-                .collect(Collectors.toList());
+        MapeoContexto contexto = MapeoContexto.nuevo();
+        List<HistorialDispositivoResponse> responses = new ArrayList<>(entities.size());
+        for (HistorialDispositivo entity : entities) {
+            responses.add(toResponse(entity, contexto));
+        }
+        return responses;
+    }
+
+    /**
+     * Convierte una página de entities compartiendo el contexto de mapeo entre sus filas.
+     */
+    public static Page<HistorialDispositivoResponse> toResponsePage(Page<HistorialDispositivo> page) {
+        return new PageImpl<>(toResponseList(page.getContent()), page.getPageable(), page.getTotalElements());
     }
 }
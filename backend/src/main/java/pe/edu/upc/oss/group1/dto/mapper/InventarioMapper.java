@@ -0,0 +1,49 @@
+package pe.edu.upc.oss.group1.dto.mapper;
+
+import org.springframework.data.domain.Page;
+import pe.edu.upc.oss.group1.dto.response.InventarioSnapshotResponse;
+import pe.edu.upc.oss.group1.dto.response.TenenciaHistoricaResponse;
+import pe.edu.upc.oss.group1.entity.Empleado;
+import pe.edu.upc.oss.group1.entity.InventarioSnapshot;
+import pe.edu.upc.oss.group1.service.TenenciaHistorica;
+
+/**
+ * Mapper para convertir snapshots y tenencias a una fecha en DTOs.
+ */
+public class InventarioMapper {
+
+    public static TenenciaHistoricaResponse toResponse(TenenciaHistorica tenencia) {
+        if (tenencia == null) {
+            return null;
+        }
+
+        Empleado empleado = tenencia.empleado();
+        return TenenciaHistoricaResponse.builder()
+                .dispositivoId(tenencia.dispositivo().getId())
+                .codigoActivo(tenencia.dispositivo().getCodigoActivo())
+                .fecha(tenencia.fecha())
+                .asignacionId(tenencia.asignacionId())
+                .empleadoId(empleado != null ? empleado.getId() : null)
+                .codigoEmpleado(empleado != null ? empleado.getCodigoEmpleado() : null)
+                .nombreEmpleado(empleado != null ? empleado.getNombreCompleto() : null)
+                .fechaSnapshot(tenencia.fechaSnapshot())
+                .build();
+    }
+
+    public static Page<TenenciaHistoricaResponse> toResponsePage(Page<TenenciaHistorica> page) {
+        return page.map(InventarioMapper::toResponse);
+    }
+
+    public static InventarioSnapshotResponse toResponse(InventarioSnapshot snapshot) {
+        if (snapshot == null) {
+            return null;
+        }
+
+        return InventarioSnapshotResponse.builder()
+                .id(snapshot.getId())
+                .fechaCorte(snapshot.getFechaCorte())
+                .cantidadAsignados(snapshot.getCantidadAsignados())
+                .fechaCreacion(snapshot.getFechaCreacion())
+                .build();
+    }
+}
@@ -0,0 +1,59 @@
+package pe.edu.upc.oss.group1.dto.mapper;
+
+import java.time.LocalDate;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Contexto compartido durante el mapeo de un conjunto de entities a DTOs.
+ *
+ * - Calcula la fecha de referencia ("hoy") una sola vez por request,
+ *   en lugar de llamar a LocalDate.now() por cada fila.
+ * - Reutiliza el DTO de una entity relacionada que se repite entre filas
+ *   (marca, tipo, estado, usuario, etc.), evitando crear una copia por fila.
+ *
+ * No es thread-safe: se crea uno por cada llamada a toResponse/toResponseList.
+ */
+public final class MapeoContexto {
+
+    private final LocalDate hoy;
+    private Map<Object, Object> compartidos;
+
+    private MapeoContexto(LocalDate hoy) {
+        this.hoy = hoy;
+    }
+
+    public static MapeoContexto nuevo() {
+        return new MapeoContexto(LocalDate.now());
+    }
+
+    public static MapeoContexto conFecha(LocalDate hoy) {
+        return new MapeoContexto(hoy);
+    }
+
+    public LocalDate getHoy() {
+        return hoy;
+    }
+
+    /**
+     * Retorna el DTO ya mapeado para la misma instancia de entity,
+     * o lo mapea y lo guarda para las siguientes filas.
+     * Se compara por identidad: dentro de una sesión Hibernate garantiza una instancia por ID.
+     */
+    @SuppressWarnings("unchecked")
+    public <E, R> R reutilizar(E entity, Function<E, R> mapper) {
+        if (entity == null) {
+            return null;
+        }
+        if (compartidos == null) {
+            compartidos = new IdentityHashMap<>();
+        }
+        Object existente = compartidos.get(entity);
+        if (existente == null) {
+            existente = mapper.apply(entity);
+            compartidos.put(entity, existente);
+        }
+        return (R) existente;
+    }
+}
@@ -0,0 +1,40 @@
+package pe.edu.upc.oss.group1.dto.mapper;
+
+import pe.edu.upc.oss.group1.dto.response.PerfilEmpleadoResponse;
+import pe.edu.upc.oss.group1.service.PerfilEmpleado;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Mapper para convertir el perfil 360 de un empleado a DTO.
+ * Una sección ausente se mantiene en null (no como lista vacía) para distinguirla de una sección sin datos.
+ */
+public class PerfilEmpleadoMapper {
+
+    public static PerfilEmpleadoResponse toResponse(PerfilEmpleado perfil) {
+        if (perfil == null) {
+            return null;
+        }
+
+        Map<String, String> incompletas = new LinkedHashMap<>();
+        perfil.seccionesIncompletas().forEach((seccion, motivo) -> incompletas.put(seccion.name(), motivo));
+
+        return PerfilEmpleadoResponse.builder()
+                .empleado(EmpleadoMapper.toResponse(perfil.empleado()))
+                .tenencia(perfil.tenencia() != null
+                        ? TenenciaEmpleadoMapper.toResponse(perfil.tenencia().resumen(), perfil.tenencia().dispositivos())
+                        : null)
+                .asignacionesActivas(perfil.asignacionesActivas() != null
+                        ? AsignacionDispositivoMapper.toResponseList(perfil.asignacionesActivas()) : null)
+                .reemplazos(perfil.reemplazos() != null
+                        ? ReemplazoDispositivoMapper.toResponseList(perfil.reemplazos()) : null)
+                .solicitudes(perfil.solicitudes() != null
+                        ? SolicitudDevolucionMapper.toResponseList(perfil.solicitudes()) : null)
+                .historial(perfil.historial() != null
+                        ? HistorialDispositivoMapper.toResponseList(perfil.historial()) : null)
+                .completo(perfil.isCompleto())
+                .seccionesIncompletas(incompletas)
+                .build();
+    }
+}
@@ -10,8 +10,8 @@ import pe.edu.upc.oss.group1.entity.catalogo.CatMotivoReemplazo;
 import pe.edu.upc.oss.group1.mapper.CatEstadoReemplazoMapper;
 import pe.edu.upc.oss.group1.mapper.CatMotivoReemplazoMapper;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Mapper para convertir entre ReemplazoDispositivo entity y DTOs.
@@ -55,21 +55,25 @@ public class ReemplazoDispositivoMapper {
     }
 
     public static ReemplazoDispositivoResponse toResponse(ReemplazoDispositivo entity) {
+        return toResponse(entity, MapeoContexto.nuevo());
+    }
+
+    public static ReemplazoDispositivoResponse toResponse(ReemplazoDispositivo entity, MapeoContexto contexto) {
         if (entity == null) {
             return null;
         }
 
         return ReemplazoDispositivoResponse.builder()
                 .id(entity.getId())
-                .asignacionOriginal(AsignacionDispositivoMapper.toResponse(entity.getAsignacionOriginal()))
-                .dispositivoOriginal(DispositivoMapper.toResponse(entity.getDispositivoOriginal()))
-                .dispositivoReemplazo(DispositivoMapper.toResponse(entity.getDispositivoReemplazo()))
-                .empleado(EmpleadoMapper.toResponse(entity.getEmpleado()))
-                .motivoReemplazo(CatMotivoReemplazoMapper.toResponse(entity.getMotivoReemplazo()))
+                .asignacionOriginal(AsignacionDispositivoMapper.toResponse(entity.getAsignacionOriginal(), contexto))
+                .dispositivoOriginal(DispositivoMapper.toResponse(entity.getDispositivoOriginal(), contexto))
+                .dispositivoReemplazo(DispositivoMapper.toResponse(entity.getDispositivoReemplazo(), contexto))
+                .empleado(contexto.reutilizar(entity.getEmpleado(), e -> EmpleadoMapper.toResponse(e, contexto)))
+                .motivoReemplazo(contexto.reutilizar(entity.getMotivoReemplazo(), CatMotivoReemplazoMapper::toResponse))
                 .fechaReemplazo(entity.getFechaReemplazo())
                 .descripcionMotivo(entity.getDescripcionMotivo())
-                .estadoReemplazo(CatEstadoReemplazoMapper.toResponse(entity.getEstadoReemplazo()))
-                .usuarioRegistra(UsuarioMapper.toResponse(entity.getUsuarioRegistra()))
+                .estadoReemplazo(contexto.reutilizar(entity.getEstadoReemplazo(), CatEstadoReemplazoMapper::toResponse))
+                .usuarioRegistra(contexto.reutilizar(entity.getUsuarioRegistra(), UsuarioMapper::toResponse))
                 .pendiente(entity.isPendiente())
                 .fechaCreacion(entity.getFechaCreacion())
                 .build();
@@ -80,8 +84,11 @@ public class ReemplazoDispositivoMapper {
             return List.of();
         }
 
-        return entities.stream()
-                .map(ReemplazoDispositivoMapper::toResponse)
-                .collect(Collectors.toList());
+        MapeoContexto contexto = MapeoContexto.nuevo();
+        List<ReemplazoDispositivoResponse> responses = new ArrayList<>(entities.size());
+        for (ReemplazoDispositivo entity : entities) {
+            responses.add(toResponse(entity, contexto));
+        }
+        return responses;
     }
 }
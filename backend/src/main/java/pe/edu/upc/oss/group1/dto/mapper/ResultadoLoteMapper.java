@@ -0,0 +1,38 @@
+package pe.edu.upc.oss.group1.dto.mapper;
+
+import pe.edu.upc.oss.group1.dto.response.ResultadoLoteResponse;
+import pe.edu.upc.oss.group1.service.ResultadoLote;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Mapper para convertir el resultado de una consulta por lote a DTO.
+ */
+public class ResultadoLoteMapper {
+
+    public static <E, R> ResultadoLoteResponse<R> toResponse(ResultadoLote<E> resultado, Function<E, R> mapeo) {
+        return toResponseConContexto(resultado, (entity, contexto) -> mapeo.apply(entity));
+    }
+
+    /**
+     * Convierte compartiendo el contexto de mapeo entre los registros (catálogos repetidos, fecha de referencia).
+     */
+    public static <E, R> ResultadoLoteResponse<R> toResponseConContexto(ResultadoLote<E> resultado,
+                                                                        BiFunction<E, MapeoContexto, R> mapeo) {
+        if (resultado == null) {
+            return null;
+        }
+
+        MapeoContexto contexto = MapeoContexto.nuevo();
+        Map<String, R> resultados = new LinkedHashMap<>();
+        resultado.encontrados().forEach((clave, entity) -> resultados.put(clave, mapeo.apply(entity, contexto)));
+
+        return ResultadoLoteResponse.<R>builder()
+                .resultados(resultados)
+                .noEncontrados(resultado.noEncontrados())
+                .build();
+    }
+}
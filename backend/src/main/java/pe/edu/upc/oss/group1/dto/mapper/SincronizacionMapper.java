@@ -0,0 +1,73 @@
+package pe.edu.upc.oss.group1.dto.mapper;
+
+import pe.edu.upc.oss.group1.dto.response.CambiosSincronizacionResponse;
+import pe.edu.upc.oss.group1.dto.response.RegistroEliminadoResponse;
+import pe.edu.upc.oss.group1.entity.BaseEntity;
+import pe.edu.upc.oss.group1.entity.RegistroEliminado;
+import pe.edu.upc.oss.group1.entity.catalogo.*;
+import pe.edu.upc.oss.group1.mapper.*;
+import pe.edu.upc.oss.group1.service.CambiosSincronizacion;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mapper para convertir una página de cambios de sincronización a su DTO.
+ * Cada entity se convierte con el mismo mapper que su endpoint.
+ */
+public class SincronizacionMapper {
+
+    public static CambiosSincronizacionResponse toResponse(CambiosSincronizacion cambios) {
+        Map<String, List<Object>> catalogos = new LinkedHashMap<>();
+        cambios.catalogos().forEach((nombre, filas) -> {
+            List<Object> responses = new ArrayList<>(filas.size());
+            for (BaseEntity fila : filas) {
+                responses.add(toCatalogoResponse(fila));
+            }
+            catalogos.put(nombre, responses);
+        });
+
+        return CambiosSincronizacionResponse.builder()
+                .marca(cambios.marca())
+                .hayMas(cambios.hayMas())
+                .reiniciar(cambios.reiniciar())
+                .catalogos(catalogos)
+                .empleados(EmpleadoMapper.toResponseList(cambios.empleados()))
+                .dispositivos(DispositivoMapper.toResponseList(cambios.dispositivos()))
+                .asignaciones(AsignacionDispositivoMapper.toResponseList(cambios.asignaciones()))
+                .eliminados(cambios.eliminados().stream()
+                        .map(SincronizacionMapper::toResponse)
+                        .toList())
+                .build();
+    }
+
+    private static RegistroEliminadoResponse toResponse(RegistroEliminado registro) {
+        return RegistroEliminadoResponse.builder()
+                .entidad(registro.getEntidad())
+                .id(registro.getIdRegistro())
+                .fechaEliminacion(registro.getFechaEliminacion())
+                .build();
+    }
+
+    private static Object toCatalogoResponse(BaseEntity catalogo) {
+        return switch (catalogo) {
+            case CatArea area -> CatAreaMapper.toResponse(area);
+            case CatPuesto puesto -> CatPuestoMapper.toResponse(puesto);
+            case CatSede sede -> CatSedeMapper.toResponse(sede);
+            case CatEstadoEmpleado estado -> CatEstadoEmpleadoMapper.toResponse(estado);
+            case CatTipoDispositivo tipo -> CatTipoDispositivoMapper.toResponse(tipo);
+            case CatMarca marca -> CatMarcaMapper.toResponse(marca);
+            case CatEstadoDispositivo estado -> CatEstadoDispositivoMapper.toResponse(estado);
+            case CatProveedor proveedor -> CatProveedorMapper.toResponse(proveedor);
+            case CatEstadoAsignacion estado -> CatEstadoAsignacionMapper.toResponse(estado);
+            case CatMotivoReemplazo motivo -> CatMotivoReemplazoMapper.toResponse(motivo);
+            case CatEstadoReemplazo estado -> CatEstadoReemplazoMapper.toResponse(estado);
+            case CatEstadoSolicitud estado -> CatEstadoSolicitudMapper.toResponse(estado);
+            case CatCondicionDevolucion condicion -> CatCondicionDevolucionMapper.toResponse(condicion);
+            case CatTipoMovimiento tipo -> CatTipoMovimientoMapper.toResponse(tipo);
+            default -> throw new IllegalArgumentException("Catálogo sin mapper: " + catalogo.getClass().getSimpleName());
+        };
+    }
+}
@@ -1,5 +1,7 @@
 package pe.edu.upc.oss.group1.dto.mapper;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import pe.edu.upc.oss.group1.dto.request.SolicitudDevolucionRequest;
 import pe.edu.upc.oss.group1.dto.response.SolicitudDevolucionResponse;
 import pe.edu.upc.oss.group1.entity.Empleado;
@@ -7,8 +9,8 @@ import pe.edu.upc.oss.group1.entity.SolicitudDevolucion;
 import pe.edu.upc.oss.group1.entity.Usuario;
 import pe.edu.upc.oss.group1.mapper.CatEstadoSolicitudMapper;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Mapper para convertir entre SolicitudDevolucion entity y DTOs.
@@ -41,21 +43,25 @@ public class SolicitudDevolucionMapper {
     }
 
     public static SolicitudDevolucionResponse toResponse(SolicitudDevolucion entity) {
+        return toResponse(entity, MapeoContexto.nuevo());
+    }
+
+    public static SolicitudDevolucionResponse toResponse(SolicitudDevolucion entity, MapeoContexto contexto) {
         if (entity == null) {
             return null;
         }
 
         return SolicitudDevolucionResponse.builder()
                 .id(entity.getId())
-                .empleado(EmpleadoMapper.toResponse(entity.getEmpleado()))
+                .empleado(contexto.reutilizar(entity.getEmpleado(), e -> EmpleadoMapper.toResponse(e, contexto)))
                 .fechaSolicitud(entity.getFechaSolicitud())
                 .fechaTerminoEmpleado(entity.getFechaTerminoEmpleado())
                 .fechaDevolucionProgramada(entity.getFechaDevolucionProgramada())
                 .fechaDevolucionReal(entity.getFechaDevolucionReal())
-                .estadoSolicitud(CatEstadoSolicitudMapper.toResponse(entity.getEstadoSolicitud()))
+                .estadoSolicitud(contexto.reutilizar(entity.getEstadoSolicitud(), CatEstadoSolicitudMapper::toResponse))
                 .observaciones(entity.getObservaciones())
-                .usuarioSolicita(UsuarioMapper.toResponse(entity.getUsuarioSolicita()))
-                .usuarioRecibe(UsuarioMapper.toResponse(entity.getUsuarioRecibe()))
+                .usuarioSolicita(contexto.reutilizar(entity.getUsuarioSolicita(), UsuarioMapper::toResponse))
+                .usuarioRecibe(contexto.reutilizar(entity.getUsuarioRecibe(), UsuarioMapper::toResponse))
                 .pendiente(entity.isPendiente())
                 .completada(entity.isCompletada())
                 .fechaCreacion(entity.getFechaCreacion())
@@ -67,8 +73,18 @@ public class SolicitudDevolucionMapper {
             return List.of();
         }
 
-        return entities.stream()
-                .map(SolicitudDevolucionMapper::toResponse)
-                .collect(Collectors.toList());
+        MapeoContexto contexto = MapeoContexto.nuevo();
+        List<SolicitudDevolucionResponse> responses = new ArrayList<>(entities.size());
+        for (SolicitudDevolucion entity : entities) {
+            responses.add(toResponse(entity, contexto));
+        }
+        return responses;
+    }
+
+    /**
+     * Convierte una página de entities compartiendo el contexto de mapeo entre sus filas.
+     */
+    public static Page<SolicitudDevolucionResponse> toResponsePage(Page<SolicitudDevolucion> page) {
+        return new PageImpl<>(toResponseList(page.getContent()), page.getPageable(), page.getTotalElements());
     }
 }
@@ -0,0 +1,31 @@
+package pe.edu.upc.oss.group1.dto.mapper;
+
+import pe.edu.upc.oss.group1.dto.response.SugerenciaResponse;
+import pe.edu.upc.oss.group1.sugerencia.Sugerencia;
+
+import java.util.List;
+
+/**
+ * Mapper para convertir sugerencias de catálogo a DTO.
+ */
+public class SugerenciaMapper {
+
+    public static SugerenciaResponse toResponse(Sugerencia sugerencia) {
+        if (sugerencia == null) {
+            return null;
+        }
+
+        return SugerenciaResponse.builder()
+                .id(sugerencia.id())
+                .codigo(sugerencia.codigo())
+                .nombre(sugerencia.nombre())
+                .activo(sugerencia.activo())
+                .build();
+    }
+
+    public static List<SugerenciaResponse> toResponseList(List<Sugerencia> sugerencias) {
+        return sugerencias.stream()
+                .map(SugerenciaMapper::toResponse)
+                .toList();
+    }
+}
@@ -0,0 +1,40 @@
+package pe.edu.upc.oss.group1.dto.mapper;
+
+import pe.edu.upc.oss.group1.dto.response.TenenciaEmpleadoResponse;
+import pe.edu.upc.oss.group1.entity.TenenciaEmpleado;
+import pe.edu.upc.oss.group1.entity.TenenciaEmpleadoDispositivo;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mapper para convertir el resumen de tenencia de un empleado a DTO.
+ */
+public class TenenciaEmpleadoMapper {
+
+    /**
+     * Convierte el resumen y sus dispositivos (ordenados por tipo) a DTO.
+     */
+    public static TenenciaEmpleadoResponse toResponse(TenenciaEmpleado tenencia,
+                                                      List<TenenciaEmpleadoDispositivo> dispositivos) {
+        if (tenencia == null) {
+            return null;
+        }
+
+        Map<Integer, List<Integer>> porTipo = new LinkedHashMap<>();
+        for (TenenciaEmpleadoDispositivo dispositivo : dispositivos) {
+            porTipo.computeIfAbsent(dispositivo.getIdTipoDispositivo(), k -> new ArrayList<>())
+                    .add(dispositivo.getIdDispositivo());
+        }
+
+        return TenenciaEmpleadoResponse.builder()
+                .empleadoId(tenencia.getIdEmpleado())
+                .cantidadDispositivos(tenencia.getCantidadDispositivos())
+                .valorTotal(tenencia.getValorTotal())
+                .dispositivosPorTipo(porTipo)
+                .ultimaActualizacion(tenencia.getUltimaActualizacion())
+                .build();
+    }
+}
@@ -4,8 +4,8 @@ import pe.edu.upc.oss.group1.dto.request.UsuarioRequest;
 import pe.edu.upc.oss.group1.dto.response.UsuarioResponse;
 import pe.edu.upc.oss.group1.entity.Usuario;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Mapper para convertir entre Usuario entity y DTOs.
@@ -45,8 +45,10 @@ public class UsuarioMapper {
             return List.of();
         }
 
-        return entities.stream()
-                .map(UsuarioMapper::toResponse)
-                .collect(Collectors.toList());
+        List<UsuarioResponse> responses = new ArrayList<>(entities.size());
+        for (Usuario entity : entities) {
+            responses.add(toResponse(entity));
+        }
+        return responses;
     }
 }
@@ -0,0 +1,32 @@
+package pe.edu.upc.oss.group1.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * DTO para asignar a un empleado cualquier dispositivo disponible que cumpla el criterio.
+ * Marca y modelo son opcionales.
+ */
+@Getter
+@Setter
+public class AsignacionAutomaticaRequest {
+
+    @NotNull(message = "El tipo de dispositivo es obligatorio")
+    private Integer tipoDispositivoId;
+
+    private Integer marcaId;
+
+    @Size(max = 100, message = "El modelo debe tener máximo 100 caracteres")
+    private String modelo;
+
+    @NotNull(message = "El empleado es obligatorio")
+    private Integer empleadoId;
+
+    @Size(max = 500, message = "Las observaciones deben tener máximo 500 caracteres")
+    private String observacionesAsignacion;
+
+    @NotNull(message = "El usuario que asigna es obligatorio")
+    private Integer usuarioAsignaId;
+}
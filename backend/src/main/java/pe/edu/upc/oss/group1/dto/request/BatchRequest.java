@@ -0,0 +1,26 @@
+package pe.edu.upc.oss.group1.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+import pe.edu.upc.oss.group1.batch.ModoBatch;
+
+import java.util.List;
+
+/**
+ * DTO para ejecutar varias operaciones de escritura en una sola petición.
+ */
+@Getter
+@Setter
+public class BatchRequest {
+
+    @NotNull(message = "El modo es obligatorio")
+    private ModoBatch modo = ModoBatch.TODO_O_NADA;
+
+    @NotEmpty(message = "Debe indicar al menos una operación")
+    @Size(max = 50, message = "Se permiten máximo 50 operaciones por batch")
+    private List<@Valid @NotNull(message = "La operación es obligatoria") OperacionBatchRequest> operaciones;
+}
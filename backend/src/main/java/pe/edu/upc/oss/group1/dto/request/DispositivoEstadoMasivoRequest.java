@@ -0,0 +1,41 @@
+package pe.edu.upc.oss.group1.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO para cambiar el estado de varios dispositivos a la vez.
+ * Se indica una lista de IDs o al menos un criterio de filtro (tipo, marca, modelo, rango de adquisición).
+ */
+@Getter
+@Setter
+public class DispositivoEstadoMasivoRequest {
+
+    @NotNull(message = "El ID del estado es obligatorio")
+    private Integer estadoId;
+
+    @NotNull(message = "El usuario que registra es obligatorio")
+    private Integer usuarioId;
+
+    @Size(max = 500, message = "La observación debe tener máximo 500 caracteres")
+    private String observacion;
+
+    @Size(max = 10000, message = "Se permiten máximo 10000 IDs; para más use criterios de filtro")
+    private List<Integer> ids;
+
+    private Integer tipoDispositivoId;
+
+    private Integer marcaId;
+
+    @Size(max = 100, message = "El modelo debe tener máximo 100 caracteres")
+    private String modelo;
+
+    private LocalDate fechaAdquisicionDesde;
+
+    private LocalDate fechaAdquisicionHasta;
+}
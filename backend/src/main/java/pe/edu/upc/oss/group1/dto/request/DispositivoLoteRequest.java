@@ -0,0 +1,22 @@
+package pe.edu.upc.oss.group1.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * DTO para registrar varios dispositivos a la vez (p. ej. una orden de compra).
+ */
+@Getter
+@Setter
+public class DispositivoLoteRequest {
+
+    @NotEmpty(message = "Debe indicar al menos un dispositivo")
+    @Size(max = 500, message = "Se permiten máximo 500 dispositivos por solicitud")
+    private List<@Valid @NotNull(message = "El dispositivo es obligatorio") DispositivoRequest> dispositivos;
+}
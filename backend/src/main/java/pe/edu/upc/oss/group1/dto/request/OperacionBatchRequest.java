@@ -0,0 +1,35 @@
+package pe.edu.upc.oss.group1.dto.request;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * DTO de una operación dentro de un batch.
+ *
+ * Ejemplo:
+ * {
+ *   "id": "sol",
+ *   "operacion": "detalles-devolucion.agregar",
+ *   "cuerpo": { "solicitudDevolucionId": "${sol.id}", "dispositivoId": 12, "condicionDevolucionId": 1 }
+ * }
+ */
+@Getter
+@Setter
+public class OperacionBatchRequest {
+
+    @Size(max = 50, message = "El id de la operación debe tener máximo 50 caracteres")
+    @Pattern(regexp = "[A-Za-z][A-Za-z0-9_-]*",
+            message = "El id de la operación debe empezar con una letra y contener solo letras, números, '_' o '-'")
+    private String id;
+
+    @NotBlank(message = "La operación es obligatoria")
+    private String operacion;
+
+    private JsonNode cuerpo;
+
+    private JsonNode parametros;
+}
@@ -0,0 +1,21 @@
+package pe.edu.upc.oss.group1.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * DTO para ejecutar varios reemplazos pendientes a la vez.
+ */
+@Getter
+@Setter
+public class ReemplazoEjecucionLoteRequest {
+
+    @NotEmpty(message = "Debe indicar al menos un reemplazo")
+    @Size(max = 5000, message = "Se permiten máximo 5000 reemplazos por solicitud")
+    private List<@NotNull(message = "El ID del reemplazo es obligatorio") Integer> ids;
+}
@@ -0,0 +1,23 @@
+package pe.edu.upc.oss.group1.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * DTO con el resumen y el resultado de cada operación de un batch.
+ */
+@Getter
+@Setter
+@Builder
+public class BatchResponse {
+
+    private String modo;
+    private Boolean exitoso;
+    private Integer total;
+    private Integer exitosas;
+    private Integer fallidas;
+    private List<ResultadoOperacionResponse> resultados;
+}
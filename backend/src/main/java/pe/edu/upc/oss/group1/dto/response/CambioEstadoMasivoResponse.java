@@ -0,0 +1,28 @@
+package pe.edu.upc.oss.group1.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO para devolver el progreso de un cambio de estado masivo.
+ */
+@Getter
+@Setter
+@Builder
+public class CambioEstadoMasivoResponse {
+
+    private UUID id;
+    private String estado;
+    private Integer estadoDestinoId;
+    private Long total;
+    private Long procesados;
+    private Long cambiados;
+    private Integer porcentaje;
+    private String error;
+    private LocalDateTime fechaInicio;
+    private LocalDateTime fechaFin;
+}
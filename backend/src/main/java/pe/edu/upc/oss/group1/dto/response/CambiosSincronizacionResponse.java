@@ -0,0 +1,27 @@
+package pe.edu.upc.oss.group1.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO con una página de cambios de la sincronización incremental.
+ * Los catálogos se agrupan por el nombre de su endpoint (areas, marcas, estados-dispositivo, ...).
+ */
+@Getter
+@Setter
+@Builder
+public class CambiosSincronizacionResponse {
+
+    private String marca;
+    private Boolean hayMas;
+    private Boolean reiniciar;
+    private Map<String, List<Object>> catalogos;
+    private List<EmpleadoResponse> empleados;
+    private List<DispositivoResponse> dispositivos;
+    private List<AsignacionDispositivoResponse> asignaciones;
+    private List<RegistroEliminadoResponse> eliminados;
+}
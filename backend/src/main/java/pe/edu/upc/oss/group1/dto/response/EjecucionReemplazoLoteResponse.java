@@ -0,0 +1,21 @@
+package pe.edu.upc.oss.group1.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * DTO con el resumen y el detalle de una ejecución de reemplazos en lote.
+ */
+@Getter
+@Setter
+@Builder
+public class EjecucionReemplazoLoteResponse {
+
+    private Integer total;
+    private Integer ejecutados;
+    private Integer noEjecutados;
+    private List<EjecucionReemplazoResponse> resultados;
+}
@@ -0,0 +1,19 @@
+package pe.edu.upc.oss.group1.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * DTO con el resultado de un reemplazo dentro de una ejecución en lote.
+ */
+@Getter
+@Setter
+@Builder
+public class EjecucionReemplazoResponse {
+
+    private Integer reemplazoId;
+    private String resultado;
+    private Integer asignacionId;
+    private String mensaje;
+}
@@ -0,0 +1,23 @@
+package pe.edu.upc.oss.group1.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+import pe.edu.upc.oss.group1.dto.catalogo.response.CatEstadoDispositivoResponse;
+import pe.edu.upc.oss.group1.dto.catalogo.response.CatTipoDispositivoResponse;
+
+/**
+ * DTO para devolver el resumen de un dispositivo leído por código de barras / QR.
+ */
+@Getter
+@Setter
+@Builder
+public class EscaneoDispositivoResponse {
+
+    private Integer id;
+    private String codigoActivo;
+    private String numeroSerie;
+    private CatTipoDispositivoResponse tipoDispositivo;
+    private CatMarcaResponse marca;
+    private CatEstadoDispositivoResponse estadoDispositivo;
+}
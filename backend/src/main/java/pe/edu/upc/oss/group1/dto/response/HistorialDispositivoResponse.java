@@ -4,6 +4,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
 import pe.edu.upc.oss.group1.dto.catalogo.response.CatTipoMovimientoResponse;
+import pe.edu.upc.oss.group1.entity.DatosHistorial;
 
 import java.time.LocalDateTime;
 
@@ -21,6 +22,5 @@ public class HistorialDispositivoResponse {
     private UsuarioResponse usuario;
     private LocalDateTime fechaMovimiento;
     private String descripcion;
-    private String datosAnteriores;
-    private String datosNuevos;
+    private DatosHistorial datos;
 }
@@ -0,0 +1,22 @@
+package pe.edu.upc.oss.group1.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * DTO para devolver un snapshot de inventario en la API.
+ */
+@Getter
+@Setter
+@Builder
+public class InventarioSnapshotResponse {
+
+    private Integer id;
+    private LocalDate fechaCorte;
+    private Integer cantidadAsignados;
+    private LocalDateTime fechaCreacion;
+}
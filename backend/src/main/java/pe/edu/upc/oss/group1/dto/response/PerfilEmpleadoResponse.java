@@ -0,0 +1,27 @@
+package pe.edu.upc.oss.group1.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO con la vista 360 de un empleado.
+ * Las secciones que no se pudieron leer vienen en null y su motivo en seccionesIncompletas.
+ */
+@Getter
+@Setter
+@Builder
+public class PerfilEmpleadoResponse {
+
+    private EmpleadoResponse empleado;
+    private TenenciaEmpleadoResponse tenencia;
+    private List<AsignacionDispositivoResponse> asignacionesActivas;
+    private List<ReemplazoDispositivoResponse> reemplazos;
+    private List<SolicitudDevolucionResponse> solicitudes;
+    private List<HistorialDispositivoResponse> historial;
+    private Boolean completo;
+    private Map<String, String> seccionesIncompletas;
+}
@@ -0,0 +1,20 @@
+package pe.edu.upc.oss.group1.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO de un registro eliminado: el cliente borra su copia local.
+ */
+@Getter
+@Setter
+@Builder
+public class RegistroEliminadoResponse {
+
+    private String entidad;
+    private Integer id;
+    private LocalDateTime fechaEliminacion;
+}
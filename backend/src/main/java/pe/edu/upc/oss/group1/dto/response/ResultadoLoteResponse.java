@@ -0,0 +1,21 @@
+package pe.edu.upc.oss.group1.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO para devolver una consulta de varios registros por ID o código.
+ * Los resultados vienen indexados por el identificador pedido; los que no existen se listan aparte.
+ */
+@Getter
+@Setter
+@Builder
+public class ResultadoLoteResponse<T> {
+
+    private Map<String, T> resultados;
+    private List<String> noEncontrados;
+}
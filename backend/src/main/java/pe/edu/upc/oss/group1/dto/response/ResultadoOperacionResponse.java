@@ -0,0 +1,24 @@
+package pe.edu.upc.oss.group1.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+import pe.edu.upc.oss.group1.exception.ErrorResponse;
+
+/**
+ * DTO con el resultado de una operación dentro de un batch: el estado HTTP y el cuerpo o el
+ * error que habría devuelto su endpoint.
+ */
+@Getter
+@Setter
+@Builder
+public class ResultadoOperacionResponse {
+
+    private Integer indice;
+    private String id;
+    private String operacion;
+    private String resultado;
+    private Integer status;
+    private Object cuerpo;
+    private ErrorResponse error;
+}
@@ -0,0 +1,19 @@
+package pe.edu.upc.oss.group1.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * DTO para una opción del autocompletado de catálogos.
+ */
+@Getter
+@Setter
+@Builder
+public class SugerenciaResponse {
+
+    private Integer id;
+    private String codigo;
+    private String nombre;
+    private Boolean activo;
+}
@@ -0,0 +1,26 @@
+package pe.edu.upc.oss.group1.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO con el resumen de dispositivos en poder de un empleado.
+ * dispositivosPorTipo: ID de tipo de dispositivo -> IDs de dispositivos.
+ */
+@Getter
+@Setter
+@Builder
+public class TenenciaEmpleadoResponse {
+
+    private Integer empleadoId;
+    private Integer cantidadDispositivos;
+    private BigDecimal valorTotal;
+    private Map<Integer, List<Integer>> dispositivosPorTipo;
+    private LocalDateTime ultimaActualizacion;
+}
@@ -0,0 +1,26 @@
+package pe.edu.upc.oss.group1.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * DTO con quién tenía un dispositivo al cierre de una fecha.
+ * Los datos del empleado y la asignación son null si el dispositivo estaba libre.
+ */
+@Getter
+@Setter
+@Builder
+public class TenenciaHistoricaResponse {
+
+    private Integer dispositivoId;
+    private String codigoActivo;
+    private LocalDate fecha;
+    private Integer asignacionId;
+    private Integer empleadoId;
+    private String codigoEmpleado;
+    private String nombreEmpleado;
+    private LocalDate fechaSnapshot;
+}
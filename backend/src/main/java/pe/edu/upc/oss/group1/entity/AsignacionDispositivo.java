@@ -10,7 +10,6 @@ import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoAsignacion;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -68,10 +67,10 @@ public class AsignacionDispositivo {
     private LocalDateTime ultimaActualizacion;
 
     @OneToMany(mappedBy = "asignacionOriginal")
-    private List<ReemplazoDispositivo> reemplazos = new ArrayList<>();
+    private List<ReemplazoDispositivo> reemplazos;
 
     @OneToMany(mappedBy = "asignacion")
-    private List<DetalleDevolucion> detallesDevolucion = new ArrayList<>();
+    private List<DetalleDevolucion> detallesDevolucion;
 
     @PrePersist
     protected void onCreate() {
@@ -88,6 +87,13 @@ public class AsignacionDispositivo {
         return estadoAsignacion != null && "ACTIVA".equals(estadoAsignacion.getCodigo());
     }
 
+    /**
+     * Verifica si la asignación fue cancelada (no cuenta como tenencia en ninguna fecha).
+     */
+    public boolean isCancelada() {
+        return estadoAsignacion != null && "CANCELADA".equals(estadoAsignacion.getCodigo());
+    }
+
     /**
      * Verifica si la asignación ya fue devuelta.
      */
@@ -99,10 +105,17 @@ public class AsignacionDispositivo {
      * Calcula el número de días que el dispositivo ha estado o estuvo asignado.
      */
     public Integer getDiasAsignado() {
+        return getDiasAsignado(LocalDate.now());
+    }
+
+    /**
+     * Calcula los días asignado usando una fecha de referencia para asignaciones sin devolver.
+     */
+    public Integer getDiasAsignado(LocalDate referencia) {
         if (fechaAsignacion == null) {
             return 0;
         }
-        LocalDate fechaFin = fechaDevolucion != null ? fechaDevolucion : LocalDate.now();
+        LocalDate fechaFin = fechaDevolucion != null ? fechaDevolucion : referencia;
         return (int) ChronoUnit.DAYS.between(fechaAsignacion, fechaFin);
     }
 
@@ -8,7 +8,7 @@ import java.time.LocalDateTime;
 
 /**
  * Clase base para todas las entities del sistema.
- * Proporciona campos comunes como id y fecha_creacion.
+ * Proporciona campos comunes como id, fecha_creacion y ultima_actualizacion.
  *
  * Al usar @MappedSuperclass, esta clase no se mapea a una tabla,
  * sino que sus campos se incluyen en las tablas de las clases hijas.
@@ -25,6 +25,12 @@ public abstract class BaseEntity {
     @Column(name = "fecha_creacion", updatable = false)
     private LocalDateTime fechaCreacion;
 
+    /**
+     * La mantiene el trigger update_ultima_actualizacion (V15); la aplicación solo la lee.
+     */
+    @Column(name = "ultima_actualizacion", insertable = false, updatable = false)
+    private LocalDateTime ultimaActualizacion;
+
     /**
      * Este método se ejecuta automáticamente antes de persistir la entity.
      * Establece la fecha de creación al momento actual.
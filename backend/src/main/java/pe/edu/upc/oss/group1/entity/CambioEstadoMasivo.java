@@ -0,0 +1,112 @@
+package pe.edu.upc.oss.group1.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Progreso de un cambio de estado masivo ejecutado por CambioEstadoMasivoService.
+ *
+ * Se guarda en base de datos para que cualquier instancia responda la consulta de progreso,
+ * no solo la que ejecuta el trabajo. procesados/cambiados se actualizan en la transacción de
+ * cada lote, por lo que reflejan exactamente los lotes confirmados.
+ */
+@Entity
+@Table(name = "cambio_estado_masivo")
+@Getter
+@NoArgsConstructor
+public class CambioEstadoMasivo implements Persistable<UUID> {
+
+    public enum Estado { EN_CURSO, COMPLETADO, FALLIDO }
+
+    @Id
+    @Column(name = "id")
+    private UUID id;
+
+    @Column(name = "id_estado_destino", nullable = false, updatable = false)
+    private Integer estadoDestinoId;
+
+    @Column(name = "total", nullable = false, updatable = false)
+    private long total;
+
+    @Column(name = "procesados", nullable = false)
+    private long procesados;
+
+    @Column(name = "cambiados", nullable = false)
+    private long cambiados;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "estado", length = 20, nullable = false)
+    private Estado estado;
+
+    @Column(name = "error", length = 1000)
+    private String error;
+
+    @Column(name = "fecha_inicio", nullable = false, updatable = false)
+    private LocalDateTime fechaInicio;
+
+    @Column(name = "fecha_fin")
+    private LocalDateTime fechaFin;
+
+    @Transient
+    private boolean nuevo;
+
+    public CambioEstadoMasivo(Integer estadoDestinoId, long total) {
+        this.id = UUID.randomUUID();
+        this.estadoDestinoId = estadoDestinoId;
+        this.total = total;
+        this.estado = Estado.EN_CURSO;
+        this.fechaInicio = LocalDateTime.now();
+        this.nuevo = true;
+    }
+
+    /**
+     * Registra un lote confirmado: cuántos dispositivos se revisaron y cuántos cambiaron de estado.
+     */
+    public void registrarLote(int revisados, int cambiadosEnLote) {
+        procesados += revisados;
+        cambiados += cambiadosEnLote;
+    }
+
+    public void completar() {
+        fechaFin = LocalDateTime.now();
+        estado = Estado.COMPLETADO;
+    }
+
+    public void fallar(String mensaje) {
+        error = mensaje != null && mensaje.length() > 1000 ? mensaje.substring(0, 1000) : mensaje;
+        fechaFin = LocalDateTime.now();
+        estado = Estado.FALLIDO;
+    }
+
+    @Override
+    public boolean isNew() {
+        return nuevo;
+    }
+
+    /**
+     * La instancia sigue en uso en el hilo del trabajo: después del INSERT, save() debe hacer merge.
+     */
+    @PostPersist
+    void marcarGuardado() {
+        nuevo = false;
+    }
+
+    public boolean isTerminado() {
+        return estado != Estado.EN_CURSO;
+    }
+
+    /**
+     * Porcentaje de avance (0-100) sobre el total estimado al iniciar.
+     */
+    public int getPorcentaje() {
+        if (isTerminado() || total == 0) {
+            return isTerminado() ? 100 : 0;
+        }
+        return (int) Math.min(99, procesados * 100 / total);
+    }
+}
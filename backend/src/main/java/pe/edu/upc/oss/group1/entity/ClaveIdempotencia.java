@@ -0,0 +1,71 @@
+package pe.edu.upc.oss.group1.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Respuesta guardada para un Idempotency-Key (ver IdempotenciaFilter).
+ *
+ * Mientras estadoHttp es null la petición original sigue en curso. La clave la asigna el
+ * cliente, por eso implementa Persistable: save() hace un INSERT directo y una clave repetida
+ * falla por la clave primaria en lugar de convertirse en un merge.
+ */
+@Entity
+@Table(name = "clave_idempotencia")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ClaveIdempotencia implements Persistable<String> {
+
+    @Id
+    @Column(name = "clave", length = 255)
+    private String clave;
+
+    @Column(name = "huella", nullable = false, length = 32)
+    private byte[] huella;
+
+    @Column(name = "estado_http")
+    private Integer estadoHttp;
+
+    @Column(name = "tipo_contenido", length = 100)
+    private String tipoContenido;
+
+    @Column(name = "cuerpo", length = 1_048_576)
+    private byte[] cuerpo;
+
+    @Column(name = "fecha_creacion", nullable = false, updatable = false)
+    private LocalDateTime fechaCreacion;
+
+    @Column(name = "fecha_expiracion", nullable = false)
+    private LocalDateTime fechaExpiracion;
+
+    @Transient
+    private boolean nueva;
+
+    public ClaveIdempotencia(String clave, byte[] huella, LocalDateTime fechaCreacion, LocalDateTime fechaExpiracion) {
+        this.clave = clave;
+        this.huella = huella;
+        this.fechaCreacion = fechaCreacion;
+        this.fechaExpiracion = fechaExpiracion;
+        this.nueva = true;
+    }
+
+    @Override
+    public String getId() {
+        return clave;
+    }
+
+    @Override
+    public boolean isNew() {
+        return nueva;
+    }
+
+    public boolean isEnCurso() {
+        return estadoHttp == null;
+    }
+}
@@ -0,0 +1,55 @@
+package pe.edu.upc.oss.group1.entity;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Map;
+
+/**
+ * Payload de un registro de historial, almacenado como JSONB en historial_dispositivo.datos.
+ * Guarda solo ids y campos cambiados; la descripción legible se arma al leer.
+ * Los campos nulos no se serializan para mantener el payload compacto.
+ *
+ * @param empleadoId     empleado involucrado en el movimiento
+ * @param dispositivoId  otro dispositivo involucrado (p. ej. el de reemplazo)
+ * @param motivo         motivo indicado por el usuario
+ * @param observacion    texto libre indicado por el usuario
+ * @param cambios        campos modificados, por nombre de campo
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record DatosHistorial(
+        Integer empleadoId,
+        Integer dispositivoId,
+        String motivo,
+        String observacion,
+        Map<String, Cambio> cambios) {
+
+    public static DatosHistorial deEmpleado(Integer empleadoId) {
+        return new DatosHistorial(empleadoId, null, null, null, null);
+    }
+
+    public static DatosHistorial deReemplazo(Integer empleadoId, Integer dispositivoReemplazoId, String motivo) {
+        return new DatosHistorial(empleadoId, dispositivoReemplazoId, motivo, null, null);
+    }
+
+    public static DatosHistorial deObservacion(String observacion) {
+        return observacion != null ? new DatosHistorial(null, null, null, observacion, null) : null;
+    }
+
+    public static DatosHistorial deCambio(String campo, String de, String a, String observacion) {
+        return new DatosHistorial(null, null, null, observacion, Map.of(campo, new Cambio(de, a)));
+    }
+
+    /**
+     * Retorna el cambio registrado para el campo, o null si no cambió.
+     */
+    public Cambio cambio(String campo) {
+        return cambios != null ? cambios.get(campo) : null;
+    }
+
+    /**
+     * Valor anterior y nuevo de un campo.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Cambio(String de, String a) {
+    }
+}
@@ -11,7 +11,6 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.Period;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -19,7 +18,10 @@ import java.util.List;
  * Representa activos tecnológicos que pueden ser asignados a empleados.
  */
 @Entity
-@Table(name = "dispositivo")
+@Table(name = "dispositivo", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_dispositivo_codigo_activo", columnNames = "codigo_activo"),
+        @UniqueConstraint(name = "uk_dispositivo_numero_serie", columnNames = "numero_serie")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -30,10 +32,10 @@ public class Dispositivo {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Integer id;
 
-    @Column(name = "codigo_activo", length = 50, unique = true, nullable = false)
+    @Column(name = "codigo_activo", length = 50, nullable = false)
     private String codigoActivo;
 
-    @Column(name = "numero_serie", length = 100, unique = true)
+    @Column(name = "numero_serie", length = 100)
     private String numeroSerie;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -73,20 +75,21 @@ public class Dispositivo {
     @Column(name = "ultima_actualizacion")
     private LocalDateTime ultimaActualizacion;
 
+    // Lado inverso, solo lectura: sin inicializar, al cargar cada fila Hibernate asigna su propia colección
     @OneToMany(mappedBy = "dispositivo")
-    private List<AsignacionDispositivo> asignaciones = new ArrayList<>();
+    private List<AsignacionDispositivo> asignaciones;
 
     @OneToMany(mappedBy = "dispositivoOriginal")
-    private List<ReemplazoDispositivo> reemplazosComoOriginal = new ArrayList<>();
+    private List<ReemplazoDispositivo> reemplazosComoOriginal;
 
     @OneToMany(mappedBy = "dispositivoReemplazo")
-    private List<ReemplazoDispositivo> reemplazosComoReemplazo = new ArrayList<>();
+    private List<ReemplazoDispositivo> reemplazosComoReemplazo;
 
     @OneToMany(mappedBy = "dispositivo")
-    private List<DetalleDevolucion> detallesDevolucion = new ArrayList<>();
+    private List<DetalleDevolucion> detallesDevolucion;
 
     @OneToMany(mappedBy = "dispositivo")
-    private List<HistorialDispositivo> historial = new ArrayList<>();
+    private List<HistorialDispositivo> historial;
 
     @PrePersist
     protected void onCreate() {
@@ -97,10 +100,18 @@ public class Dispositivo {
      * Calcula la antigüedad del dispositivo en años desde su fecha de adquisición.
      */
     public Integer getAntiguedadEnAnios() {
+        return getAntiguedadEnAnios(LocalDate.now());
+    }
+
+    /**
+     * Calcula la antigüedad en años respecto a una fecha de referencia.
+     * Permite a los mappers calcular "hoy" una sola vez para toda una lista.
+     */
+    public Integer getAntiguedadEnAnios(LocalDate referencia) {
         if (fechaAdquisicion == null) {
             return 0;
         }
-        return Period.between(fechaAdquisicion, LocalDate.now()).getYears();
+        return Period.between(fechaAdquisicion, referencia).getYears();
     }
 
     /**
@@ -116,13 +127,13 @@ public class Dispositivo {
      * Genera una descripción corta del dispositivo para visualización.
      */
     public String getDescripcionCorta() {
-        StringBuilder descripcion = new StringBuilder();
-        if (marca != null) {
-            descripcion.append(marca.getNombre()).append(" ");
+        String nombreMarca = marca != null ? marca.getNombre() : null;
+        if (nombreMarca == null) {
+            return modelo != null ? modelo.trim() : "";
         }
-        if (modelo != null) {
-            descripcion.append(modelo);
+        if (modelo == null) {
+            return nombreMarca.trim();
         }
-        return descripcion.toString().trim();
+        return (nombreMarca + " " + modelo).trim();
     }
 }
@@ -12,7 +12,6 @@ import pe.edu.upc.oss.group1.entity.catalogo.CatSede;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -20,7 +19,10 @@ import java.util.List;
  * Representa a las personas que pueden tener dispositivos asignados.
  */
 @Entity
-@Table(name = "empleado")
+@Table(name = "empleado", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_empleado_codigo_empleado", columnNames = "codigo_empleado"),
+        @UniqueConstraint(name = "uk_empleado_email", columnNames = "email")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -31,7 +33,7 @@ public class Empleado {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Integer id;
 
-    @Column(name = "codigo_empleado", length = 20, unique = true, nullable = false)
+    @Column(name = "codigo_empleado", length = 20, nullable = false)
     private String codigoEmpleado;
 
     @Column(name = "nombre", length = 100, nullable = false)
@@ -43,7 +45,7 @@ public class Empleado {
     @Column(name = "apellido_materno", length = 100)
     private String apellidoMaterno;
 
-    @Column(name = "email", length = 100, unique = true, nullable = false)
+    @Column(name = "email", length = 100, nullable = false)
     private String email;
 
     @Column(name = "telefono", length = 20)
@@ -78,13 +80,13 @@ public class Empleado {
     private LocalDateTime ultimaActualizacion;
 
     @OneToMany(mappedBy = "empleado")
-    private List<AsignacionDispositivo> asignaciones = new ArrayList<>();
+    private List<AsignacionDispositivo> asignaciones;
 
     @OneToMany(mappedBy = "empleado")
-    private List<ReemplazoDispositivo> reemplazos = new ArrayList<>();
+    private List<ReemplazoDispositivo> reemplazos;
 
     @OneToMany(mappedBy = "empleado")
-    private List<SolicitudDevolucion> solicitudesDevolucion = new ArrayList<>();
+    private List<SolicitudDevolucion> solicitudesDevolucion;
 
     @PrePersist
     protected void onCreate() {
@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import pe.edu.upc.oss.group1.entity.catalogo.CatTipoMovimiento;
 
 import java.time.LocalDateTime;
@@ -37,18 +39,25 @@ public class HistorialDispositivo {
     @JoinColumn(name = "id_usuario", nullable = false)
     private Usuario usuario;
 
-    @Column(name = "descripcion", columnDefinition = "TEXT", nullable = false)
+    /**
+     * Descripción en texto de los registros anteriores a V9; los nuevos la dejan en null.
+     */
+    @Column(name = "descripcion", columnDefinition = "TEXT")
     private String descripcion;
 
-    @Column(name = "datos_anteriores", columnDefinition = "TEXT")
-    private String datosAnteriores;
-
-    @Column(name = "datos_nuevos", columnDefinition = "TEXT")
-    private String datosNuevos;
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "datos")
+    private DatosHistorial datos;
 
     @Column(name = "fecha_movimiento", nullable = false)
     private LocalDateTime fechaMovimiento;
 
+    /**
+     * Descripción armada al leer a partir de {@link #datos}; no se persiste.
+     */
+    @Transient
+    private String descripcionRenderizada;
+
     @PrePersist
     protected void onCreate() {
         if (fechaMovimiento == null) {
@@ -56,6 +65,13 @@ public class HistorialDispositivo {
         }
     }
 
+    /**
+     * Retorna la descripción legible: la almacenada (registros antiguos) o la armada al leer.
+     */
+    public String getDescripcionLegible() {
+        return descripcion != null ? descripcion : descripcionRenderizada;
+    }
+
     /**
      * Verifica si este registro de historial es de tipo asignación.
      */
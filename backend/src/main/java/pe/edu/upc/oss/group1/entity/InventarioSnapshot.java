@@ -0,0 +1,43 @@
+package pe.edu.upc.oss.group1.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Foto de la tenencia de dispositivos al cierre de un día (fecha de corte).
+ * Sus filas están en {@link InventarioSnapshotTenencia}.
+ */
+@Entity
+@Table(name = "inventario_snapshot")
+@Getter
+@Setter
+@NoArgsConstructor
+public class InventarioSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(name = "fecha_corte", nullable = false, unique = true)
+    private LocalDate fechaCorte;
+
+    @Column(name = "cantidad_asignados", nullable = false)
+    private Integer cantidadAsignados = 0;
+
+    @Column(name = "fecha_creacion", nullable = false, updatable = false)
+    private LocalDateTime fechaCreacion;
+
+    public InventarioSnapshot(LocalDate fechaCorte) {
+        this.fechaCorte = fechaCorte;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        fechaCreacion = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,48 @@
+package pe.edu.upc.oss.group1.entity;
+
+import jakarta.persistence.*;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+
+/**
+ * Dispositivo en poder de un empleado al cierre de la fecha de un snapshot.
+ * Solo se guardan ids: la fila se escribe una vez y no se modifica.
+ */
+@Entity
+@Table(name = "inventario_snapshot_tenencia")
+@IdClass(InventarioSnapshotTenencia.Clave.class)
+@Getter
+@Setter
+@NoArgsConstructor
+public class InventarioSnapshotTenencia {
+
+    @Id
+    @Column(name = "id_snapshot")
+    private Integer idSnapshot;
+
+    @Id
+    @Column(name = "id_dispositivo")
+    private Integer idDispositivo;
+
+    @Column(name = "id_empleado", nullable = false)
+    private Integer idEmpleado;
+
+    @Column(name = "id_asignacion", nullable = false)
+    private Integer idAsignacion;
+
+    /**
+     * Clave compuesta (snapshot, dispositivo).
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Clave implements Serializable {
+        private Integer idSnapshot;
+        private Integer idDispositivo;
+    }
+}
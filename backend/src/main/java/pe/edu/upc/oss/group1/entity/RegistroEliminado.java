@@ -0,0 +1,47 @@
+package pe.edu.upc.oss.group1.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Lápida de un registro eliminado físicamente. La sincronización incremental la entrega
+ * a los clientes para que borren su copia local.
+ */
+@Entity
+@Table(name = "registro_eliminado")
+@Getter
+@Setter
+@NoArgsConstructor
+public class RegistroEliminado {
+
+    public static final String DISPOSITIVOS = "dispositivos";
+    public static final String EMPLEADOS = "empleados";
+    public static final String ASIGNACIONES = "asignaciones";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "entidad", length = 30, nullable = false)
+    private String entidad;
+
+    @Column(name = "id_registro", nullable = false)
+    private Integer idRegistro;
+
+    @Column(name = "fecha_eliminacion", nullable = false)
+    private LocalDateTime fechaEliminacion;
+
+    public RegistroEliminado(String entidad, Integer idRegistro) {
+        this.entidad = entidad;
+        this.idRegistro = idRegistro;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        fechaEliminacion = LocalDateTime.now();
+    }
+}
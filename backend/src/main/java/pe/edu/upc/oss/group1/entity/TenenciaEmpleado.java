@@ -0,0 +1,47 @@
+package pe.edu.upc.oss.group1.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Resumen de los dispositivos en poder de un empleado.
+ * Se mantiene en la misma transacción que cada asignación, devolución, cancelación o reemplazo,
+ * para responder conteos y valor total sin recorrer asignacion_dispositivo.
+ */
+@Entity
+@Table(name = "tenencia_empleado")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TenenciaEmpleado {
+
+    @Id
+    @Column(name = "id_empleado")
+    private Integer idEmpleado;
+
+    @Column(name = "cantidad_dispositivos", nullable = false)
+    private Integer cantidadDispositivos = 0;
+
+    @Column(name = "valor_total", nullable = false, precision = 12, scale = 2)
+    private BigDecimal valorTotal = BigDecimal.ZERO;
+
+    @Column(name = "ultima_actualizacion", nullable = false)
+    private LocalDateTime ultimaActualizacion;
+
+    public TenenciaEmpleado(Integer idEmpleado) {
+        this.idEmpleado = idEmpleado;
+    }
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        ultimaActualizacion = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,65 @@
+package pe.edu.upc.oss.group1.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import java.math.BigDecimal;
+
+/**
+ * Dispositivo actualmente en poder de un empleado.
+ * La PK es el dispositivo: la base garantiza que no esté en poder de dos empleados a la vez.
+ */
+@Entity
+@Table(name = "tenencia_empleado_dispositivo")
+@Getter
+@Setter
+@NoArgsConstructor
+public class TenenciaEmpleadoDispositivo implements Persistable<Integer> {
+
+    @Id
+    @Column(name = "id_dispositivo")
+    private Integer idDispositivo;
+
+    @Column(name = "id_empleado", nullable = false)
+    private Integer idEmpleado;
+
+    @Column(name = "id_tipo_dispositivo", nullable = false)
+    private Integer idTipoDispositivo;
+
+    @Column(name = "valor", nullable = false, precision = 10, scale = 2)
+    private BigDecimal valor = BigDecimal.ZERO;
+
+    /**
+     * La PK es asignada (no generada): sin esto save() haría merge y podría
+     * sobrescribir la tenencia de otro empleado en lugar de fallar por PK duplicada.
+     */
+    @Transient
+    private boolean nuevo = true;
+
+    public TenenciaEmpleadoDispositivo(Integer idDispositivo, Integer idEmpleado,
+                                       Integer idTipoDispositivo, BigDecimal valor) {
+        this.idDispositivo = idDispositivo;
+        this.idEmpleado = idEmpleado;
+        this.idTipoDispositivo = idTipoDispositivo;
+        this.valor = valor;
+    }
+
+    @Override
+    public Integer getId() {
+        return idDispositivo;
+    }
+
+    @Override
+    public boolean isNew() {
+        return nuevo;
+    }
+
+    @PostLoad
+    @PostPersist
+    protected void marcarPersistido() {
+        nuevo = false;
+    }
+}
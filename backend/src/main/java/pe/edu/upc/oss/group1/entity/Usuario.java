@@ -7,7 +7,6 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -15,7 +14,10 @@ import java.util.List;
  * Usuarios pueden realizar asignaciones y recibir devoluciones de dispositivos.
  */
 @Entity
-@Table(name = "usuario")
+@Table(name = "usuario", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_usuario_username", columnNames = "username"),
+        @UniqueConstraint(name = "uk_usuario_email", columnNames = "email")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -26,13 +28,13 @@ public class Usuario {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Integer id;
 
-    @Column(name = "username", length = 50, unique = true, nullable = false)
+    @Column(name = "username", length = 50, nullable = false)
     private String username;
 
     @Column(name = "password_hash", length = 255, nullable = false)
     private String passwordHash;
 
-    @Column(name = "email", length = 100, unique = true, nullable = false)
+    @Column(name = "email", length = 100, nullable = false)
     private String email;
 
     @Column(name = "nombre_completo", length = 200, nullable = false)
@@ -48,22 +50,22 @@ public class Usuario {
     private LocalDateTime ultimaActualizacion;
 
     @OneToMany(mappedBy = "usuarioAsigna")
-    private List<AsignacionDispositivo> asignacionesRealizadas = new ArrayList<>();
+    private List<AsignacionDispositivo> asignacionesRealizadas;
 
     @OneToMany(mappedBy = "usuarioRecibe")
-    private List<AsignacionDispositivo> devolucionesRecibidas = new ArrayList<>();
+    private List<AsignacionDispositivo> devolucionesRecibidas;
 
     @OneToMany(mappedBy = "usuarioRegistra")
-    private List<ReemplazoDispositivo> reemplazosRegistrados = new ArrayList<>();
+    private List<ReemplazoDispositivo> reemplazosRegistrados;
 
     @OneToMany(mappedBy = "usuarioSolicita")
-    private List<SolicitudDevolucion> solicitudesRealizadas = new ArrayList<>();
+    private List<SolicitudDevolucion> solicitudesRealizadas;
 
     @OneToMany(mappedBy = "usuarioRecibe")
-    private List<SolicitudDevolucion> solicitudesRecibidas = new ArrayList<>();
+    private List<SolicitudDevolucion> solicitudesRecibidas;
 
     @OneToMany(mappedBy = "usuario")
-    private List<HistorialDispositivo> registrosHistorial = new ArrayList<>();
+    private List<HistorialDispositivo> registrosHistorial;
 
     @PrePersist
     protected void onCreate() {
@@ -17,14 +17,14 @@ import java.util.List;
  * La auto-relación permite crear árboles organizacionales de cualquier profundidad.
  */
 @Entity
-@Table(name = "cat_area")
+@Table(name = "cat_area", uniqueConstraints = @UniqueConstraint(name = "uk_cat_area_codigo", columnNames = "codigo"))
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class CatArea extends BaseEntity {
 
-    @Column(name = "codigo", length = 20, unique = true, nullable = false)
+    @Column(name = "codigo", length = 20, nullable = false)
     private String codigo;
 
     @Column(name = "nombre", length = 100, nullable = false)
@@ -3,6 +3,7 @@ package pe.edu.upc.oss.group1.entity.catalogo;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -14,14 +15,14 @@ import pe.edu.upc.oss.group1.entity.BaseEntity;
  * Ejemplos: PENDIENTE, APROBADO, EN_PROCESO, COMPLETADO, RECHAZADO
  */
 @Entity
-@Table(name = "cat_estado_reemplazo")
+@Table(name = "cat_estado_reemplazo", uniqueConstraints = @UniqueConstraint(name = "uk_cat_estado_reemplazo_codigo", columnNames = "codigo"))
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class CatEstadoReemplazo extends BaseEntity {
 
-    @Column(name = "codigo", length = 20, unique = true, nullable = false)
+    @Column(name = "codigo", length = 20, nullable = false)
     private String codigo;
 
     @Column(name = "nombre", length = 100, nullable = false)
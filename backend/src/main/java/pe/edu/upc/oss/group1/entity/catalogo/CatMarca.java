@@ -3,6 +3,7 @@ package pe.edu.upc.oss.group1.entity.catalogo;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -17,7 +18,7 @@ import pe.edu.upc.oss.group1.entity.BaseEntity;
  * ideal para empezar el desarrollo de la Fase 2.
  */
 @Entity
-@Table(name = "cat_marca")
+@Table(name = "cat_marca", uniqueConstraints = @UniqueConstraint(name = "uk_cat_marca_codigo", columnNames = "codigo"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -28,7 +29,7 @@ public class CatMarca extends BaseEntity {
      * Código único de la marca (ej: "DELL", "HP")
      * Se usa para búsquedas y referencias en código.
      */
-    @Column(name = "codigo", length = 20, unique = true, nullable = false)
+    @Column(name = "codigo", length = 20, nullable = false)
     private String codigo;
 
     /**
@@ -3,6 +3,7 @@ package pe.edu.upc.oss.group1.entity.catalogo;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -13,14 +14,17 @@ import pe.edu.upc.oss.group1.entity.BaseEntity;
  * Catálogo de proveedores de dispositivos.
  */
 @Entity
-@Table(name = "cat_proveedor")
+@Table(name = "cat_proveedor", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_cat_proveedor_codigo", columnNames = "codigo"),
+        @UniqueConstraint(name = "uk_cat_proveedor_ruc", columnNames = "ruc")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class CatProveedor extends BaseEntity {
 
-    @Column(name = "codigo", length = 20, unique = true, nullable = false)
+    @Column(name = "codigo", length = 20, nullable = false)
     private String codigo;
 
     @Column(name = "razon_social", length = 200, nullable = false)
@@ -13,14 +13,14 @@ import pe.edu.upc.oss.group1.entity.BaseEntity;
  * Ejemplo: "Desarrollador Senior" pertenece al área "TI-Desarrollo"
  */
 @Entity
-@Table(name = "cat_puesto")
+@Table(name = "cat_puesto", uniqueConstraints = @UniqueConstraint(name = "uk_cat_puesto_codigo", columnNames = "codigo"))
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class CatPuesto extends BaseEntity {
 
-    @Column(name = "codigo", length = 20, unique = true, nullable = false)
+    @Column(name = "codigo", length = 20, nullable = false)
     private String codigo;
 
     @Column(name = "nombre", length = 100, nullable = false)
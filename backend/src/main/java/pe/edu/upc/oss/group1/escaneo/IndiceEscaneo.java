@@ -0,0 +1,291 @@
+package pe.edu.upc.oss.group1.escaneo;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pe.edu.upc.oss.group1.cache.CacheNames;
+import pe.edu.upc.oss.group1.cache.InvalidacionCacheListener;
+import pe.edu.upc.oss.group1.evento.DispositivosModificados;
+import pe.edu.upc.oss.group1.evento.EventoCicloVida;
+import pe.edu.upc.oss.group1.repository.DispositivoRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Índice en memoria para resolver lecturas de etiquetas (código de activo o número de serie)
+ * sin ir a la base de datos.
+ *
+ * - La carga completa arma una TablaEscaneo (arreglos compactos) al iniciar y cada noche.
+ * - Los cambios posteriores se guardan en mapas chicos que tienen prioridad sobre la tabla.
+ * - Después del commit de un servicio que modifica dispositivos (EventoCicloVida o
+ *   DispositivosModificados), esos IDs quedan pendientes: hasta releerlos, buscar() no
+ *   responde por ellos y el llamador consulta la base. Así una lectura justo después de
+ *   una asignación nunca devuelve el estado anterior en este nodo.
+ * - Las invalidaciones de la región DISPOSITIVOS (otros nodos, procesos masivos) releen los
+ *   dispositivos con ultima_actualizacion reciente. Las bajas físicas hechas en otro nodo
+ *   se reflejan en la recarga completa.
+ *
+ * Todas las lecturas a la base y escrituras del índice se hacen en un único hilo, en orden;
+ * buscar() no bloquea.
+ */
+@Component
+@Slf4j
+public class IndiceEscaneo implements InvalidacionCacheListener, DisposableBean {
+
+    /** Solapamiento de la lectura incremental: transacciones largas y desfase de reloj con la BD. */
+    static final Duration MARGEN_INCREMENTAL = Duration.ofMinutes(2);
+
+    private static final int TAMANIO_REFRESCO = 500;
+
+    /** Marca un dispositivo eliminado en los cambios posteriores a la carga. */
+    private static final ResumenEscaneo ELIMINADO = new ResumenEscaneo(0, "", null, 0, 0, 0);
+
+    private final DispositivoRepository dispositivoRepository;
+    private final boolean habilitado;
+    private final int tamanioPagina;
+    private final Executor actualizador;
+
+    private final Map<Integer, Long> pendientes = new ConcurrentHashMap<>();
+    private final AtomicLong secuencia = new AtomicLong();
+    private final AtomicBoolean refrescoProgramado = new AtomicBoolean();
+    private final AtomicBoolean incrementalProgramado = new AtomicBoolean();
+
+    private volatile Vista vista;
+    private LocalDateTime ultimaLectura;
+
+    @Autowired
+    public IndiceEscaneo(DispositivoRepository dispositivoRepository,
+                         @Value("${app.escaneo.indice.enabled:true}") boolean habilitado,
+                         @Value("${app.escaneo.indice.tamanio-pagina:10000}") int tamanioPagina) {
+        this(dispositivoRepository, habilitado, tamanioPagina,
+                Executors.newSingleThreadExecutor(Thread.ofVirtual().name("indice-escaneo").factory()));
+    }
+
+    IndiceEscaneo(DispositivoRepository dispositivoRepository, boolean habilitado, int tamanioPagina,
+                  Executor actualizador) {
+        this.dispositivoRepository = dispositivoRepository;
+        this.habilitado = habilitado;
+        this.tamanioPagina = tamanioPagina;
+        this.actualizador = actualizador;
+    }
+
+    /**
+     * Busca por código de activo o número de serie.
+     * Vacío si no está en el índice, si el dispositivo tiene cambios sin releer
+     * o si el índice aún no se cargó: en todos esos casos se debe consultar la base.
+     */
+    public Optional<ResumenEscaneo> buscar(String texto) {
+        Vista actual = vista;
+        if (actual == null) {
+            return Optional.empty();
+        }
+        Integer id = actual.textosCambiados().get(texto);
+        if (id != null) {
+            ResumenEscaneo cambio = actual.cambios().get(id);
+            if (cambio != null && cambio != ELIMINADO && cambio.coincide(texto)) {
+                return vigente(cambio);
+            }
+        }
+        ResumenEscaneo resumen = actual.base().buscar(texto);
+        if (resumen == null || actual.cambios().containsKey(resumen.id())) {
+            return Optional.empty();
+        }
+        return vigente(resumen);
+    }
+
+    public boolean isCargado() {
+        return vista != null;
+    }
+
+    public int getCantidad() {
+        Vista actual = vista;
+        return actual != null ? actual.base().getCantidad() + actual.cambios().size() : 0;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciar() {
+        if (habilitado) {
+            actualizador.execute(this::cargar);
+        }
+    }
+
+    /**
+     * Recarga completa: compacta los cambios acumulados y descarta bajas hechas en otros nodos.
+     */
+    @Scheduled(cron = "${app.escaneo.indice.recarga-cron}")
+    public void recargar() {
+        if (habilitado) {
+            actualizador.execute(this::cargar);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEvento(EventoCicloVida evento) {
+        if (evento.getDispositivoId() != null) {
+            marcarPendientes(List.of(evento.getDispositivoId()));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDispositivosModificados(DispositivosModificados evento) {
+        marcarPendientes(evento.ids());
+    }
+
+    @Override
+    public Set<String> getRegiones() {
+        return Set.of(CacheNames.DISPOSITIVOS);
+    }
+
+    @Override
+    public void onInvalidacion(String region) {
+        if (habilitado && incrementalProgramado.compareAndSet(false, true)) {
+            actualizador.execute(() -> {
+                incrementalProgramado.set(false);
+                releerModificados();
+            });
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (actualizador instanceof ExecutorService executor) {
+            executor.shutdownNow();
+        }
+    }
+
+    private Optional<ResumenEscaneo> vigente(ResumenEscaneo resumen) {
+        return pendientes.containsKey(resumen.id()) ? Optional.empty() : Optional.of(resumen);
+    }
+
+    private void marcarPendientes(Collection<Integer> ids) {
+        if (!habilitado || ids.isEmpty()) {
+            return;
+        }
+        for (Integer id : ids) {
+            pendientes.put(id, secuencia.incrementAndGet());
+        }
+        if (refrescoProgramado.compareAndSet(false, true)) {
+            actualizador.execute(() -> {
+                refrescoProgramado.set(false);
+                refrescarPendientes();
+            });
+        }
+    }
+
+    private void cargar() {
+        try {
+            LocalDateTime inicio = LocalDateTime.now().minus(MARGEN_INCREMENTAL);
+            long comienzo = System.nanoTime();
+            TablaEscaneo.Constructor constructor = new TablaEscaneo.Constructor();
+            int ultimoId = 0;
+            List<ResumenEscaneo> pagina;
+            do {
+                pagina = dispositivoRepository.findResumenesEscaneo(ultimoId, PageRequest.of(0, tamanioPagina));
+                pagina.forEach(constructor::agregar);
+                if (!pagina.isEmpty()) {
+                    ultimoId = pagina.get(pagina.size() - 1).id();
+                }
+            } while (pagina.size() == tamanioPagina);
+
+            TablaEscaneo tabla = constructor.construir();
+            vista = new Vista(tabla, new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+            ultimaLectura = inicio;
+            log.info("Índice de escaneo cargado: {} dispositivos, ~{} KB en {} ms",
+                    tabla.getCantidad(), tabla.getBytes() / 1024, (System.nanoTime() - comienzo) / 1_000_000);
+            // Los marcados antes de terminar la carga no tuvieron dónde aplicarse
+            refrescarPendientes();
+        } catch (RuntimeException e) {
+            log.error("No se pudo cargar el índice de escaneo; las lecturas irán a la base de datos", e);
+        }
+    }
+
+    private void refrescarPendientes() {
+        Vista actual = vista;
+        if (actual == null) {
+            // Sin carga todavía: la carga en curso o la siguiente leerá el estado confirmado
+            return;
+        }
+        List<Map.Entry<Integer, Long>> lote = new ArrayList<>(pendientes.entrySet());
+        try {
+            for (int desde = 0; desde < lote.size(); desde += TAMANIO_REFRESCO) {
+                List<Map.Entry<Integer, Long>> bloque = lote.subList(desde, Math.min(desde + TAMANIO_REFRESCO, lote.size()));
+                Map<Integer, ResumenEscaneo> leidos = new HashMap<>();
+                for (ResumenEscaneo resumen : dispositivoRepository.findResumenesEscaneoPorIds(
+                        bloque.stream().map(Map.Entry::getKey).toList())) {
+                    leidos.put(resumen.id(), resumen);
+                }
+                for (Map.Entry<Integer, Long> pendiente : bloque) {
+                    aplicar(actual, pendiente.getKey(), leidos.getOrDefault(pendiente.getKey(), ELIMINADO));
+                    // Si se volvió a marcar mientras se leía, queda pendiente para la siguiente pasada
+                    pendientes.remove(pendiente.getKey(), pendiente.getValue());
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("No se pudieron releer {} dispositivos del índice de escaneo: {}", lote.size(), e.getMessage());
+        }
+    }
+
+    private void releerModificados() {
+        Vista actual = vista;
+        if (actual == null) {
+            return;
+        }
+        try {
+            LocalDateTime siguiente = LocalDateTime.now().minus(MARGEN_INCREMENTAL);
+            List<ResumenEscaneo> modificados = dispositivoRepository.findResumenesEscaneoModificadosDesde(ultimaLectura);
+            modificados.forEach(resumen -> aplicar(actual, resumen.id(), resumen));
+            ultimaLectura = siguiente;
+            log.debug("Índice de escaneo: {} dispositivos releídos por invalidación", modificados.size());
+        } catch (RuntimeException e) {
+            log.warn("No se pudo actualizar el índice de escaneo: {}", e.getMessage());
+        }
+    }
+
+    private static void aplicar(Vista vista, Integer id, ResumenEscaneo nuevo) {
+        ResumenEscaneo anterior = vista.cambios().get(id);
+        if (anterior == null) {
+            anterior = vista.base().buscarPorId(id);
+        }
+        if (anterior == null ? nuevo == ELIMINADO : Objects.equals(anterior, nuevo)) {
+            return;
+        }
+        vista.cambios().put(id, nuevo);
+        if (nuevo != ELIMINADO) {
+            vista.textosCambiados().put(nuevo.codigoActivo(), id);
+            if (nuevo.numeroSerie() != null) {
+                vista.textosCambiados().put(nuevo.numeroSerie(), id);
+            }
+        }
+    }
+
+    /**
+     * Tabla de la última carga más los cambios posteriores; se reemplaza completa al recargar.
+     */
+    private record Vista(TablaEscaneo base,
+                         Map<Integer, ResumenEscaneo> cambios,
+                         Map<String, Integer> textosCambiados) {
+    }
+}
@@ -0,0 +1,20 @@
+package pe.edu.upc.oss.group1.escaneo;
+
+/**
+ * Resumen inmutable de un dispositivo para la lectura de etiquetas (código de barras / QR).
+ * Solo IDs de catálogo: los nombres se resuelven con los catálogos cacheados.
+ */
+public record ResumenEscaneo(Integer id,
+                             String codigoActivo,
+                             String numeroSerie,
+                             Integer tipoDispositivoId,
+                             Integer marcaId,
+                             Integer estadoDispositivoId) {
+
+    /**
+     * Indica si el texto leído corresponde al código de activo o al número de serie.
+     */
+    public boolean coincide(String texto) {
+        return texto.equals(codigoActivo) || texto.equals(numeroSerie);
+    }
+}
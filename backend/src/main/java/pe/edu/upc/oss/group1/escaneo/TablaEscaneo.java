@@ -0,0 +1,198 @@
+package pe.edu.upc.oss.group1.escaneo;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Tabla inmutable y compacta con el resumen de todos los dispositivos.
+ *
+ * En lugar de un objeto por dispositivo y un HashMap por clave, guarda columnas de int,
+ * los códigos y números de serie concatenados en un único byte[] (UTF-8) y una tabla hash
+ * de direccionamiento abierto (int[]) que apunta a la fila y al campo (código o serie).
+ * Con 1M de dispositivos ocupa alrededor de 70 MB, frente a más de 250 MB con mapas de String.
+ *
+ * Los IDs se agregan en orden ascendente, lo que permite buscar por ID con búsqueda binaria.
+ */
+final class TablaEscaneo {
+
+    static final TablaEscaneo VACIA = new Constructor().construir();
+
+    private static final int CAMPO_CODIGO = 0;
+    private static final int CAMPO_SERIE = 1;
+
+    private final int cantidad;
+    private final int[] ids;
+    private final int[] tipos;
+    private final int[] marcas;
+    private final int[] estados;
+    private final byte[] textos;
+    /** Fila i: código en [inicios[2i], inicios[2i+1]), serie en [inicios[2i+1], inicios[2i+2]). */
+    private final int[] inicios;
+    /** Entrada = (fila << 1 | campo) + 1; 0 es vacío. */
+    private final int[] tablaHash;
+
+    private TablaEscaneo(int cantidad, int[] ids, int[] tipos, int[] marcas, int[] estados,
+                         byte[] textos, int[] inicios) {
+        this.cantidad = cantidad;
+        this.ids = ids;
+        this.tipos = tipos;
+        this.marcas = marcas;
+        this.estados = estados;
+        this.textos = textos;
+        this.inicios = inicios;
+        this.tablaHash = new int[capacidad(cantidad * 2)];
+        for (int fila = 0; fila < cantidad; fila++) {
+            indexar(fila, CAMPO_CODIGO);
+            if (longitud(fila, CAMPO_SERIE) > 0) {
+                indexar(fila, CAMPO_SERIE);
+            }
+        }
+    }
+
+    int getCantidad() {
+        return cantidad;
+    }
+
+    /**
+     * Memoria aproximada de los arreglos, para el log de carga.
+     */
+    long getBytes() {
+        return 4L * (ids.length + tipos.length + marcas.length + estados.length + inicios.length + tablaHash.length)
+                + textos.length;
+    }
+
+    /**
+     * Busca por código de activo o número de serie; si el texto es código de un dispositivo
+     * y serie de otro, gana el código.
+     */
+    ResumenEscaneo buscar(String texto) {
+        byte[] clave = texto.getBytes(StandardCharsets.UTF_8);
+        int mascara = tablaHash.length - 1;
+        int posicion = hash(clave, 0, clave.length) & mascara;
+        int porSerie = -1;
+        int entrada;
+        while ((entrada = tablaHash[posicion]) != 0) {
+            int fila = (entrada - 1) >>> 1;
+            int campo = (entrada - 1) & 1;
+            if (igual(clave, fila, campo)) {
+                if (campo == CAMPO_CODIGO) {
+                    return resumen(fila);
+                }
+                porSerie = fila;
+            }
+            posicion = (posicion + 1) & mascara;
+        }
+        return porSerie >= 0 ? resumen(porSerie) : null;
+    }
+
+    ResumenEscaneo buscarPorId(int id) {
+        int fila = Arrays.binarySearch(ids, 0, cantidad, id);
+        return fila >= 0 ? resumen(fila) : null;
+    }
+
+    private ResumenEscaneo resumen(int fila) {
+        int largoSerie = longitud(fila, CAMPO_SERIE);
+        return new ResumenEscaneo(
+                ids[fila],
+                new String(textos, inicios[2 * fila], longitud(fila, CAMPO_CODIGO), StandardCharsets.UTF_8),
+                largoSerie > 0 ? new String(textos, inicios[2 * fila + 1], largoSerie, StandardCharsets.UTF_8) : null,
+                tipos[fila], marcas[fila], estados[fila]);
+    }
+
+    private void indexar(int fila, int campo) {
+        int mascara = tablaHash.length - 1;
+        int desde = inicios[2 * fila + campo];
+        int posicion = hash(textos, desde, desde + longitud(fila, campo)) & mascara;
+        while (tablaHash[posicion] != 0) {
+            posicion = (posicion + 1) & mascara;
+        }
+        tablaHash[posicion] = ((fila << 1) | campo) + 1;
+    }
+
+    private int longitud(int fila, int campo) {
+        return inicios[2 * fila + campo + 1] - inicios[2 * fila + campo];
+    }
+
+    private boolean igual(byte[] clave, int fila, int campo) {
+        int desde = inicios[2 * fila + campo];
+        return Arrays.equals(clave, 0, clave.length, textos, desde, desde + longitud(fila, campo));
+    }
+
+    /** FNV-1a con mezcla final de los bits altos. */
+    private static int hash(byte[] datos, int desde, int hasta) {
+        int h = 0x811C9DC5;
+        for (int i = desde; i < hasta; i++) {
+            h ^= datos[i];
+            h *= 0x01000193;
+        }
+        return h ^ (h >>> 16);
+    }
+
+    /** Potencia de 2 con factor de carga máximo de 0.5. */
+    private static int capacidad(int claves) {
+        return Integer.highestOneBit(Math.max(4, claves * 2 - 1)) << 1;
+    }
+
+    /**
+     * Acumula filas en arreglos que crecen por duplicación y arma la tabla al final.
+     */
+    static final class Constructor {
+
+        private int cantidad;
+        private int[] ids = new int[16];
+        private int[] tipos = new int[16];
+        private int[] marcas = new int[16];
+        private int[] estados = new int[16];
+        private int[] inicios = new int[33];
+        private byte[] textos = new byte[256];
+        private int largoTextos;
+
+        Constructor agregar(ResumenEscaneo resumen) {
+            if (cantidad > 0 && resumen.id() <= ids[cantidad - 1]) {
+                throw new IllegalArgumentException("Los dispositivos deben agregarse en orden ascendente de ID");
+            }
+            if (cantidad == ids.length) {
+                int nuevo = cantidad * 2;
+                ids = Arrays.copyOf(ids, nuevo);
+                tipos = Arrays.copyOf(tipos, nuevo);
+                marcas = Arrays.copyOf(marcas, nuevo);
+                estados = Arrays.copyOf(estados, nuevo);
+                inicios = Arrays.copyOf(inicios, nuevo * 2 + 1);
+            }
+            ids[cantidad] = resumen.id();
+            tipos[cantidad] = valor(resumen.tipoDispositivoId());
+            marcas[cantidad] = valor(resumen.marcaId());
+            estados[cantidad] = valor(resumen.estadoDispositivoId());
+            inicios[2 * cantidad] = largoTextos;
+            copiar(resumen.codigoActivo());
+            inicios[2 * cantidad + 1] = largoTextos;
+            copiar(resumen.numeroSerie());
+            inicios[2 * cantidad + 2] = largoTextos;
+            cantidad++;
+            return this;
+        }
+
+        TablaEscaneo construir() {
+            return new TablaEscaneo(cantidad,
+                    Arrays.copyOf(ids, cantidad), Arrays.copyOf(tipos, cantidad),
+                    Arrays.copyOf(marcas, cantidad), Arrays.copyOf(estados, cantidad),
+                    Arrays.copyOf(textos, largoTextos), Arrays.copyOf(inicios, 2 * cantidad + 1));
+        }
+
+        private void copiar(String texto) {
+            if (texto == null || texto.isEmpty()) {
+                return;
+            }
+            byte[] bytes = texto.getBytes(StandardCharsets.UTF_8);
+            if (largoTextos + bytes.length > textos.length) {
+                textos = Arrays.copyOf(textos, Math.max(textos.length * 2, largoTextos + bytes.length));
+            }
+            System.arraycopy(bytes, 0, textos, largoTextos, bytes.length);
+            largoTextos += bytes.length;
+        }
+
+        private static int valor(Integer id) {
+            return id != null ? id : 0;
+        }
+    }
+}
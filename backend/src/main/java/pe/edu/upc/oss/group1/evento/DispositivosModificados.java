@@ -0,0 +1,21 @@
+package pe.edu.upc.oss.group1.evento;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Evento interno: los dispositivos indicados cambiaron (alta, datos, estado o baja física).
+ *
+ * Complementa a EventoCicloVida, que solo lleva un dispositivo y no se publica en las
+ * altas y ediciones. Se entrega después del commit (ver IndiceEscaneo).
+ */
+public record DispositivosModificados(List<Integer> ids) {
+
+    public static DispositivosModificados de(Integer... ids) {
+        return new DispositivosModificados(List.of(ids));
+    }
+
+    public static DispositivosModificados de(Collection<Integer> ids) {
+        return new DispositivosModificados(List.copyOf(ids));
+    }
+}
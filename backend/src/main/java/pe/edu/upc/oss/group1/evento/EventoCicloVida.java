@@ -0,0 +1,122 @@
+package pe.edu.upc.oss.group1.evento;
+
+import lombok.Builder;
+import lombok.Getter;
+import pe.edu.upc.oss.group1.entity.AsignacionDispositivo;
+import pe.edu.upc.oss.group1.entity.Dispositivo;
+import pe.edu.upc.oss.group1.entity.Empleado;
+import pe.edu.upc.oss.group1.entity.SolicitudDevolucion;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento del ciclo de vida de un dispositivo.
+ *
+ * Se construye dentro de la transacción del servicio copiando solo IDs y códigos,
+ * de modo que puede serializarse después del commit sin tocar entities ni proxies lazy.
+ * sedeId/areaId corresponden al empleado involucrado; son null cuando el evento
+ * no está asociado a un empleado (p. ej. cambio de estado de un equipo en almacén).
+ */
+@Getter
+@Builder
+public class EventoCicloVida {
+
+    private final TipoEventoCicloVida tipo;
+    private final Integer referenciaId;
+    private final Integer dispositivoId;
+    private final String codigoActivo;
+    private final Integer empleadoId;
+    private final Integer sedeId;
+    private final Integer areaId;
+    private final String estado;
+    private final LocalDateTime fecha;
+
+    public static EventoCicloVida deAsignacion(TipoEventoCicloVida tipo, AsignacionDispositivo asignacion) {
+        Dispositivo dispositivo = asignacion.getDispositivo();
+        return conEmpleado(tipo, asignacion.getEmpleado())
+                .referenciaId(asignacion.getId())
+                .dispositivoId(dispositivo.getId())
+                .codigoActivo(dispositivo.getCodigoActivo())
+                .estado(asignacion.getEstadoAsignacion() != null ? asignacion.getEstadoAsignacion().getCodigo() : null)
+                .build();
+    }
+
+    public static EventoCicloVida deDispositivo(TipoEventoCicloVida tipo, Dispositivo dispositivo, Empleado empleado) {
+        return conEmpleado(tipo, empleado)
+                .referenciaId(dispositivo.getId())
+                .dispositivoId(dispositivo.getId())
+                .codigoActivo(dispositivo.getCodigoActivo())
+                .estado(dispositivo.getEstadoDispositivo() != null ? dispositivo.getEstadoDispositivo().getCodigo() : null)
+                .build();
+    }
+
+    public static EventoCicloVida deSolicitud(TipoEventoCicloVida tipo, SolicitudDevolucion solicitud) {
+        return conEmpleado(tipo, solicitud.getEmpleado())
+                .referenciaId(solicitud.getId())
+                .estado(solicitud.getEstadoSolicitud() != null ? solicitud.getEstadoSolicitud().getCodigo() : null)
+                .build();
+    }
+
+    /**
+     * Evento de una asignación modificada con sentencias de conjunto (sin entity cargada),
+     * a partir de los IDs ya leídos en la misma transacción.
+     */
+    public static EventoCicloVida deAsignacion(TipoEventoCicloVida tipo, Integer asignacionId,
+                                               Integer dispositivoId, String codigoActivo,
+                                               Integer empleadoId, Integer sedeId, Integer areaId,
+                                               String estado) {
+        return EventoCicloVida.builder()
+                .tipo(tipo)
+                .fecha(LocalDateTime.now())
+                .referenciaId(asignacionId)
+                .dispositivoId(dispositivoId)
+                .codigoActivo(codigoActivo)
+                .empleadoId(empleadoId)
+                .sedeId(sedeId)
+                .areaId(areaId)
+                .estado(estado)
+                .build();
+    }
+
+    /**
+     * Evento de un dispositivo modificado con sentencias de conjunto (sin entity cargada),
+     * a partir de los IDs ya leídos en la misma transacción.
+     */
+    public static EventoCicloVida deDispositivo(TipoEventoCicloVida tipo, Integer dispositivoId,
+                                                String codigoActivo, Integer empleadoId,
+                                                Integer sedeId, Integer areaId, String estado) {
+        return EventoCicloVida.builder()
+                .tipo(tipo)
+                .fecha(LocalDateTime.now())
+                .referenciaId(dispositivoId)
+                .dispositivoId(dispositivoId)
+                .codigoActivo(codigoActivo)
+                .empleadoId(empleadoId)
+                .sedeId(sedeId)
+                .areaId(areaId)
+                .estado(estado)
+                .build();
+    }
+
+    private static EventoCicloVidaBuilder conEmpleado(TipoEventoCicloVida tipo, Empleado empleado) {
+        EventoCicloVidaBuilder builder = EventoCicloVida.builder()
+                .tipo(tipo)
+                .fecha(LocalDateTime.now());
+        if (empleado != null) {
+            builder.empleadoId(empleado.getId())
+                    .sedeId(empleado.getSede() != null ? empleado.getSede().getId() : null)
+                    .areaId(empleado.getArea() != null ? empleado.getArea().getId() : null);
+        }
+        return builder;
+    }
+
+    /**
+     * Un evento sin sede/área (inventario) se entrega a todos los suscriptores.
+     */
+    public boolean coincideCon(Integer filtroSedeId, Integer filtroAreaId) {
+        if (filtroSedeId != null && sedeId != null && !filtroSedeId.equals(sedeId)) {
+            return false;
+        }
+        return filtroAreaId == null || areaId == null || filtroAreaId.equals(areaId);
+    }
+}
@@ -0,0 +1,169 @@
+package pe.edu.upc.oss.group1.evento;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Registro de suscriptores SSE y distribución de eventos del ciclo de vida.
+ *
+ * Los eventos se reciben después del commit (nunca se publica algo que luego hizo rollback)
+ * y se encolan por suscriptor sin bloquear el hilo de la transacción.
+ * Cada suscriptor tiene un buffer acotado: si el cliente es lento y el buffer se llena,
+ * se descartan los eventos más antiguos y se le envía "eventos-descartados" con la cantidad,
+ * para que vuelva a consultar el estado completo por REST.
+ */
+@Component
+@Slf4j
+public class EventoCicloVidaStream implements DisposableBean {
+
+    static final String EVENTO_DESCARTADOS = "eventos-descartados";
+
+    private final Set<Suscriptor> suscriptores = ConcurrentHashMap.newKeySet();
+    private final AtomicLong secuencia = new AtomicLong();
+    private final int capacidadBuffer;
+    private final Supplier<SseEmitter> emitters;
+    private final Executor envios;
+
+    @Autowired
+    public EventoCicloVidaStream(
+            @Value("${app.eventos.sse.buffer:256}") int capacidadBuffer,
+            @Value("${app.eventos.sse.timeout-ms:1800000}") long timeoutMillis) {
+        this(capacidadBuffer, () -> new SseEmitter(timeoutMillis), Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    EventoCicloVidaStream(int capacidadBuffer, Supplier<SseEmitter> emitters, Executor envios) {
+        this.capacidadBuffer = capacidadBuffer;
+        this.emitters = emitters;
+        this.envios = envios;
+    }
+
+    /**
+     * Registra un nuevo suscriptor. sedeId/areaId null significa sin filtro.
+     */
+    public SseEmitter suscribir(Integer sedeId, Integer areaId) {
+        SseEmitter emitter = emitters.get();
+        Suscriptor suscriptor = new Suscriptor(emitter, sedeId, areaId, capacidadBuffer);
+
+        emitter.onCompletion(() -> suscriptores.remove(suscriptor));
+        emitter.onTimeout(() -> {
+            suscriptores.remove(suscriptor);
+            emitter.complete();
+        });
+        emitter.onError(e -> suscriptores.remove(suscriptor));
+
+        suscriptores.add(suscriptor);
+        log.debug("Nuevo suscriptor SSE (sede: {}, área: {}). Total: {}", sedeId, areaId, suscriptores.size());
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEvento(EventoCicloVida evento) {
+        if (suscriptores.isEmpty()) {
+            return;
+        }
+        Pendiente pendiente = new Pendiente(secuencia.incrementAndGet(), evento);
+        for (Suscriptor suscriptor : suscriptores) {
+            if (suscriptor.acepta(evento) && suscriptor.encolar(pendiente)) {
+                envios.execute(() -> drenar(suscriptor));
+            }
+        }
+    }
+
+    public int getCantidadSuscriptores() {
+        return suscriptores.size();
+    }
+
+    private void drenar(Suscriptor suscriptor) {
+        do {
+            try {
+                suscriptor.enviarPendientes();
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Suscriptor SSE desconectado: {}", e.getMessage());
+                suscriptores.remove(suscriptor);
+                suscriptor.emitter.completeWithError(e);
+                return;
+            } finally {
+                suscriptor.enviando.set(false);
+            }
+            // Un evento pudo encolarse entre el último poll y la liberación del flag
+        } while (!suscriptor.cola.isEmpty() && suscriptor.enviando.compareAndSet(false, true));
+    }
+
+    @Override
+    public void destroy() {
+        suscriptores.forEach(s -> s.emitter.complete());
+        suscriptores.clear();
+        if (envios instanceof ExecutorService executor) {
+            executor.shutdownNow();
+        }
+    }
+
+    record Pendiente(long id, EventoCicloVida evento) {
+    }
+
+    static final class Suscriptor {
+
+        private final SseEmitter emitter;
+        private final Integer sedeId;
+        private final Integer areaId;
+        private final BlockingQueue<Pendiente> cola;
+        private final AtomicBoolean enviando = new AtomicBoolean();
+        private final AtomicLong descartados = new AtomicLong();
+
+        Suscriptor(SseEmitter emitter, Integer sedeId, Integer areaId, int capacidad) {
+            this.emitter = emitter;
+            this.sedeId = sedeId;
+            this.areaId = areaId;
+            this.cola = new ArrayBlockingQueue<>(capacidad);
+        }
+
+        boolean acepta(EventoCicloVida evento) {
+            return evento.coincideCon(sedeId, areaId);
+        }
+
+        /**
+         * Encola sin bloquear; si el buffer está lleno descarta el más antiguo.
+         * Retorna true si el llamador debe iniciar el envío.
+         */
+        boolean encolar(Pendiente pendiente) {
+            while (!cola.offer(pendiente)) {
+                if (cola.poll() != null) {
+                    descartados.incrementAndGet();
+                }
+            }
+            return enviando.compareAndSet(false, true);
+        }
+
+        void enviarPendientes() throws IOException {
+            Pendiente pendiente;
+            while ((pendiente = cola.poll()) != null) {
+                long perdidos = descartados.getAndSet(0);
+                if (perdidos > 0) {
+                    emitter.send(SseEmitter.event().name(EVENTO_DESCARTADOS).data(perdidos));
+                }
+                emitter.send(SseEmitter.event()
+                        .id(Long.toString(pendiente.id()))
+                        .name(pendiente.evento().getTipo().name())
+                        .data(pendiente.evento()));
+            }
+        }
+    }
+}
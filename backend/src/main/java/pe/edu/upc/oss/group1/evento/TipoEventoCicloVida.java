@@ -0,0 +1,14 @@
+package pe.edu.upc.oss.group1.evento;
+
+/**
+ * Tipos de eventos del ciclo de vida de un dispositivo publicados por el stream SSE.
+ * El nombre se usa como "event:" en el stream, para que el cliente pueda suscribirse por tipo.
+ */
+public enum TipoEventoCicloVida {
+    ASIGNACION_CREADA,
+    DEVOLUCION_REGISTRADA,
+    ASIGNACION_CANCELADA,
+    REEMPLAZO_EJECUTADO,
+    ESTADO_CAMBIADO,
+    SOLICITUD_COMPLETADA
+}
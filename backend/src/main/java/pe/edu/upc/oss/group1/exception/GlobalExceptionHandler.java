@@ -90,6 +90,26 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
 
+    /**
+     * Maneja ServicioNoDisponibleException (HTTP 503 Service Unavailable).
+     * Se lanza cuando una lectura no termina a tiempo por falta de conexiones o por el plazo.
+     *
+     * Ejemplo: Perfil de empleado cuyos datos obligatorios no se leen dentro del plazo.
+     */
+    @ExceptionHandler(ServicioNoDisponibleException.class)
+    public ResponseEntity<ErrorResponse> handleServicioNoDisponible(ServicioNoDisponibleException ex) {
+        log.warn("Servicio no disponible: {}", ex.getMessage());
+
+        ErrorResponse error = ErrorResponse.builder()
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error("SERVICE_UNAVAILABLE")
+                .message(ex.getMessage())
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
+    }
+
     /**
      * Maneja MethodArgumentNotValidException (HTTP 400 Bad Request).
      * Se lanza automáticamente cuando falla la validación de @Valid en DTOs.
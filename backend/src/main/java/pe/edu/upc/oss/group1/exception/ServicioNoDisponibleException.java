@@ -0,0 +1,16 @@
+package pe.edu.upc.oss.group1.exception;
+
+/**
+ * Excepción lanzada cuando una lectura no puede completarse a tiempo por falta de capacidad
+ * (conexiones ocupadas o consulta que excede su plazo).
+ * Ejemplo: los datos obligatorios del perfil de un empleado no se leen dentro del plazo.
+ *
+ * Esta excepción será capturada por el GlobalExceptionHandler
+ * y devuelta como HTTP 503 Service Unavailable.
+ */
+public class ServicioNoDisponibleException extends RuntimeException {
+
+    public ServicioNoDisponibleException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
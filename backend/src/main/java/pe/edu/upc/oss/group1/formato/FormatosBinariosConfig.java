@@ -0,0 +1,47 @@
+package pe.edu.upc.oss.group1.formato;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Representaciones binarias de los mismos DTOs para integraciones de alto volumen, negociadas
+ * con el header Accept en cualquier endpoint que devuelve JSON:
+ * - application/cbor (RFC 8949): binario estándar, con librerías en casi cualquier lenguaje.
+ * - application/x-jackson-smile: además de los nombres de campo repite por referencia los
+ *   textos cortos ya enviados, así los catálogos anidados que se repiten fila a fila
+ *   (estado, tipo, marca, proveedor) se escriben una sola vez por respuesta.
+ *
+ * Sin Accept o con Accept: application/json la respuesta sigue siendo JSON. Ambos formatos
+ * codifican el mismo modelo de datos que JSON, así que el esquema de cada respuesta es el que
+ * publica /v3/api-docs a partir de las clases de dto/response.
+ *
+ * Los ObjectMapper salen del Jackson2ObjectMapperBuilder de Spring Boot, con la misma
+ * configuración (módulos, fechas) que el de JSON. Los converters reemplazan a los que Spring
+ * MVC registra por defecto al encontrar estas librerías, en la misma posición: después de JSON.
+ * Ver FormatosBinariosBenchmark para tamaños y tiempos frente a JSON.
+ */
+@Configuration
+public class FormatosBinariosConfig {
+
+    public static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        SmileFactory factory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(factory).build());
+    }
+}
@@ -0,0 +1,111 @@
+package pe.edu.upc.oss.group1.idempotencia;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import pe.edu.upc.oss.group1.entity.ClaveIdempotencia;
+import pe.edu.upc.oss.group1.repository.ClaveIdempotenciaRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+/**
+ * Reservas y respuestas guardadas por Idempotency-Key, en la tabla clave_idempotencia.
+ *
+ * La clave primaria hace de guarda entre peticiones simultáneas, también entre nodos: solo
+ * un INSERT gana y las demás ven la reserva en curso. Cada operación usa su propia transacción
+ * corta, independiente de la del servicio que atiende la petición.
+ *
+ * Se registra como bean en IdempotenciaConfig.
+ */
+@Slf4j
+public class AlmacenIdempotencia {
+
+    /** Reservar puede tener que descartar una reserva vencida y competir de nuevo por la clave. */
+    private static final int INTENTOS_RESERVA = 3;
+
+    private final ClaveIdempotenciaRepository repository;
+    private final Duration vigencia;
+    private final Duration enCursoMaximo;
+
+    public AlmacenIdempotencia(ClaveIdempotenciaRepository repository, Duration vigencia, Duration enCursoMaximo) {
+        this.repository = repository;
+        this.vigencia = vigencia;
+        this.enCursoMaximo = enCursoMaximo;
+    }
+
+    /**
+     * Resultado de reservar: la reserva propia, o el registro de otra petición con la misma clave.
+     */
+    public record Reserva(boolean nueva, ClaveIdempotencia registro) {
+    }
+
+    /**
+     * Reserva la clave para esta petición o devuelve el registro existente.
+     * Un reintento de una clave ya completada cuesta una búsqueda por clave primaria.
+     */
+    public Reserva reservar(String clave, byte[] huella) {
+        for (int intento = 0; intento < INTENTOS_RESERVA; intento++) {
+            LocalDateTime ahora = LocalDateTime.now();
+            Optional<ClaveIdempotencia> existente = repository.findById(clave);
+            if (existente.isPresent()) {
+                ClaveIdempotencia registro = existente.get();
+                if (!descartable(registro, ahora)) {
+                    return new Reserva(false, registro);
+                }
+                log.debug("Descartando reserva vencida o abandonada de la clave de idempotencia {}", clave);
+                repository.eliminar(clave, registro.getFechaCreacion());
+                continue;
+            }
+
+            // Precisión de microsegundos como la columna TIMESTAMP: la fecha identifica la reserva
+            LocalDateTime creacion = ahora.truncatedTo(ChronoUnit.MICROS);
+            ClaveIdempotencia reserva = new ClaveIdempotencia(clave, huella, creacion, creacion.plus(vigencia));
+            try {
+                repository.saveAndFlush(reserva);
+                return new Reserva(true, reserva);
+            } catch (DataIntegrityViolationException e) {
+                log.debug("Otra petición reservó primero la clave de idempotencia {}", clave);
+            }
+        }
+        return repository.findById(clave)
+                .map(registro -> new Reserva(false, registro))
+                .orElseThrow(() -> new IllegalStateException("No se pudo reservar la clave de idempotencia " + clave));
+    }
+
+    /**
+     * Guarda la respuesta de la petición que tiene la reserva.
+     */
+    public void completar(ClaveIdempotencia reserva, int estadoHttp, String tipoContenido, byte[] cuerpo) {
+        if (repository.completar(reserva.getClave(), reserva.getFechaCreacion(), estadoHttp, tipoContenido, cuerpo) == 0) {
+            log.warn("La reserva de la clave de idempotencia {} fue reemplazada antes de completarse", reserva.getClave());
+        }
+    }
+
+    /**
+     * Libera la reserva sin guardar respuesta: el siguiente reintento ejecuta la petición.
+     */
+    public void liberar(ClaveIdempotencia reserva) {
+        repository.eliminar(reserva.getClave(), reserva.getFechaCreacion());
+    }
+
+    /**
+     * Elimina las claves vencidas según app.idempotencia.depuracion-cron.
+     */
+    @Scheduled(cron = "${app.idempotencia.depuracion-cron}")
+    public void depurar() {
+        int eliminadas = repository.eliminarVencidas(LocalDateTime.now());
+        if (eliminadas > 0) {
+            log.info("Se depuraron {} claves de idempotencia vencidas", eliminadas);
+        }
+    }
+
+    private boolean descartable(ClaveIdempotencia registro, LocalDateTime ahora) {
+        if (registro.getFechaExpiracion().isBefore(ahora)) {
+            return true;
+        }
+        return registro.isEnCurso() && registro.getFechaCreacion().plus(enCursoMaximo).isBefore(ahora);
+    }
+}
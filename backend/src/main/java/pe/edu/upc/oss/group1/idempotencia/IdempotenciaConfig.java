@@ -0,0 +1,36 @@
+package pe.edu.upc.oss.group1.idempotencia;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import pe.edu.upc.oss.group1.repository.ClaveIdempotenciaRepository;
+
+/**
+ * Registra el almacén de claves y el filtro de Idempotency-Key.
+ */
+@Configuration
+@EnableConfigurationProperties(IdempotenciaProperties.class)
+@ConditionalOnProperty(name = "app.idempotencia.habilitado", havingValue = "true", matchIfMissing = true)
+public class IdempotenciaConfig {
+
+    @Bean
+    public AlmacenIdempotencia almacenIdempotencia(ClaveIdempotenciaRepository repository,
+                                                   IdempotenciaProperties properties) {
+        return new AlmacenIdempotencia(repository, properties.vigencia(), properties.enCursoMaximo());
+    }
+
+    @Bean
+    public FilterRegistrationBean<IdempotenciaFilter> idempotenciaFilter(
+            AlmacenIdempotencia almacen, IdempotenciaProperties properties, ObjectMapper objectMapper) {
+        FilterRegistrationBean<IdempotenciaFilter> registro = new FilterRegistrationBean<>(
+                new IdempotenciaFilter(almacen, properties.rutas(), properties.retryAfter(), objectMapper));
+        registro.addUrlPatterns("/api/*");
+        // Después del control de admisión: un reintento rechazado por sobrecarga no consulta el almacén
+        registro.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        return registro;
+    }
+}
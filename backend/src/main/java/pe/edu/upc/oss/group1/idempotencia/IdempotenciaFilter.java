@@ -0,0 +1,191 @@
+package pe.edu.upc.oss.group1.idempotencia;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import pe.edu.upc.oss.group1.entity.ClaveIdempotencia;
+import pe.edu.upc.oss.group1.exception.ErrorResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Soporte de Idempotency-Key para los POST configurados en app.idempotencia.rutas.
+ *
+ * - Primera petición con la clave: la reserva, ejecuta el controller y guarda el estado,
+ *   el tipo de contenido y el cuerpo de la respuesta.
+ * - Reintento con la misma clave y la misma petición: recibe la respuesta guardada con el
+ *   header Idempotent-Replayed, sin volver a ejecutar el servicio ni sus validaciones.
+ * - Reintento mientras la primera sigue en curso: 409 con Retry-After.
+ * - Misma clave con otra petición (otra ruta, parámetros o cuerpo): 422.
+ *
+ * Se guardan también las respuestas 4xx: un reintento de una petición rechazada recibe el
+ * mismo rechazo. No se guardan 408, 429 ni 5xx, que dependen del momento; en esos casos se
+ * libera la reserva y el siguiente reintento se ejecuta. Las peticiones sin el header no
+ * pasan por aquí. Se registra en IdempotenciaConfig.
+ */
+@Slf4j
+public class IdempotenciaFilter extends OncePerRequestFilter {
+
+    public static final String HEADER_CLAVE = "Idempotency-Key";
+    public static final String HEADER_REPETIDA = "Idempotent-Replayed";
+
+    static final int LARGO_MAXIMO_CLAVE = 255;
+
+    private final AlmacenIdempotencia almacen;
+    private final List<PathPattern> rutas;
+    private final String retryAfterSegundos;
+    private final ObjectMapper objectMapper;
+
+    public IdempotenciaFilter(AlmacenIdempotencia almacen, List<String> rutas, Duration retryAfter,
+                              ObjectMapper objectMapper) {
+        this.almacen = almacen;
+        this.rutas = rutas.stream().map(PathPatternParser.defaultInstance::parse).toList();
+        this.retryAfterSegundos = String.valueOf(Math.max(1, retryAfter.toSeconds()));
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!"POST".equals(request.getMethod()) || request.getHeader(HEADER_CLAVE) == null) {
+            return true;
+        }
+        PathContainer ruta = PathContainer.parsePath(
+                request.getRequestURI().substring(request.getContextPath().length()));
+        return rutas.stream().noneMatch(patron -> patron.matches(ruta));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String clave = request.getHeader(HEADER_CLAVE).strip();
+        if (clave.isEmpty() || clave.length() > LARGO_MAXIMO_CLAVE) {
+            responderError(response, HttpStatus.BAD_REQUEST, "IDEMPOTENCY_KEY_INVALID",
+                    "El header " + HEADER_CLAVE + " debe tener entre 1 y " + LARGO_MAXIMO_CLAVE + " caracteres");
+            return;
+        }
+
+        PeticionReleible peticion = new PeticionReleible(request);
+        byte[] huella = huella(peticion);
+        AlmacenIdempotencia.Reserva reserva = almacen.reservar(clave, huella);
+        if (!reserva.nueva()) {
+            responderExistente(reserva.registro(), huella, request, response);
+            return;
+        }
+
+        ContentCachingResponseWrapper respuesta = new ContentCachingResponseWrapper(response);
+        boolean guardada = false;
+        try {
+            chain.doFilter(peticion, respuesta);
+            if (reutilizable(respuesta.getStatus())) {
+                almacen.completar(reserva.registro(), respuesta.getStatus(), respuesta.getContentType(),
+                        respuesta.getContentAsByteArray());
+                guardada = true;
+            }
+        } finally {
+            if (!guardada) {
+                liberar(reserva.registro());
+            }
+            respuesta.copyBodyToResponse();
+        }
+    }
+
+    private void responderExistente(ClaveIdempotencia registro, byte[] huella,
+                                    HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (!MessageDigest.isEqual(registro.getHuella(), huella)) {
+            log.warn("Clave de idempotencia {} reutilizada con otra petición: {} {}",
+                    registro.getClave(), request.getMethod(), request.getRequestURI());
+            responderError(response, HttpStatus.UNPROCESSABLE_ENTITY, "IDEMPOTENCY_KEY_REUSED",
+                    "La clave " + HEADER_CLAVE + " ya se usó con una petición distinta");
+            return;
+        }
+        if (registro.isEnCurso()) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSegundos);
+            responderError(response, HttpStatus.CONFLICT, "IDEMPOTENCY_REQUEST_IN_PROGRESS",
+                    "La petición original con esta " + HEADER_CLAVE + " aún está en curso");
+            return;
+        }
+
+        log.info("Reintento con clave de idempotencia {}: se devuelve la respuesta guardada ({})",
+                registro.getClave(), registro.getEstadoHttp());
+        response.setStatus(registro.getEstadoHttp());
+        response.setHeader(HEADER_REPETIDA, "true");
+        if (registro.getTipoContenido() != null) {
+            response.setContentType(registro.getTipoContenido());
+        }
+        byte[] cuerpo = registro.getCuerpo() != null ? registro.getCuerpo() : new byte[0];
+        response.setContentLength(cuerpo.length);
+        response.getOutputStream().write(cuerpo);
+    }
+
+    private void liberar(ClaveIdempotencia reserva) {
+        try {
+            almacen.liberar(reserva);
+        } catch (RuntimeException e) {
+            // La reserva queda en curso hasta app.idempotencia.en-curso-maximo
+            log.warn("No se pudo liberar la clave de idempotencia {}: {}", reserva.getClave(), e.getMessage());
+        }
+    }
+
+    private static boolean reutilizable(int estado) {
+        return estado < 500 && estado != HttpStatus.REQUEST_TIMEOUT.value()
+                && estado != HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+
+    /**
+     * SHA-256 de método, ruta, Accept, parámetros y cuerpo. Los parámetros se ordenan por nombre
+     * para que el orden en la URL no cambie la huella. Accept entra porque la respuesta guardada
+     * se negoció con él: un reintento que pide otro formato es otra petición.
+     */
+    static byte[] huella(PeticionReleible peticion) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        digest.update((peticion.getMethod() + ' ' + peticion.getRequestURI() + '\n').getBytes(StandardCharsets.UTF_8));
+        List<String> accept = Collections.list(peticion.getHeaders(HttpHeaders.ACCEPT));
+        digest.update((HttpHeaders.ACCEPT + ": " + String.join(", ", accept) + '\n').getBytes(StandardCharsets.UTF_8));
+        Map<String, String[]> parametros = new TreeMap<>(peticion.getParameterMap());
+        parametros.forEach((nombre, valores) ->
+                digest.update((nombre + '=' + Arrays.toString(valores) + '\n').getBytes(StandardCharsets.UTF_8)));
+        digest.update(peticion.getCuerpo());
+        return digest.digest();
+    }
+
+    private void responderError(HttpServletResponse response, HttpStatus estado, String error, String mensaje)
+            throws IOException {
+        ErrorResponse body = ErrorResponse.builder()
+                .status(estado.value())
+                .error(error)
+                .message(mensaje)
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        response.setStatus(estado.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+}
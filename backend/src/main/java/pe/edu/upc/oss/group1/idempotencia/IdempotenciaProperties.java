@@ -0,0 +1,32 @@
+package pe.edu.upc.oss.group1.idempotencia;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Configuración de Idempotency-Key (app.idempotencia.*).
+ *
+ * @param habilitado    si es false el header se ignora
+ * @param vigencia      tiempo durante el cual un reintento recibe la respuesta guardada
+ * @param enCursoMaximo plazo tras el cual una petición en curso se considera abandonada
+ *                      (nodo caído) y otra con la misma clave puede ocupar su lugar
+ * @param retryAfter    valor del header Retry-After en las respuestas 409 por petición en curso
+ * @param rutas         patrones de rutas POST que aceptan el header
+ */
+@ConfigurationProperties("app.idempotencia")
+public record IdempotenciaProperties(
+        boolean habilitado,
+        Duration vigencia,
+        Duration enCursoMaximo,
+        Duration retryAfter,
+        List<String> rutas) {
+
+    public IdempotenciaProperties {
+        vigencia = vigencia != null ? vigencia : Duration.ofHours(24);
+        enCursoMaximo = enCursoMaximo != null ? enCursoMaximo : Duration.ofMinutes(1);
+        retryAfter = retryAfter != null ? retryAfter : Duration.ofSeconds(1);
+        rutas = rutas != null ? rutas : List.of();
+    }
+}
@@ -0,0 +1,84 @@
+package pe.edu.upc.oss.group1.idempotencia;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Petición con el cuerpo ya leído: el filtro calcula la huella y el controller lo vuelve a leer.
+ */
+class PeticionReleible extends HttpServletRequestWrapper {
+
+    private final byte[] cuerpo;
+
+    PeticionReleible(HttpServletRequest request) throws IOException {
+        super(request);
+        // Un cuerpo application/x-www-form-urlencoded se consume al leer los parámetros;
+        // se leen antes para que sigan disponibles y entren en la huella
+        request.getParameterMap();
+        this.cuerpo = request.getInputStream().readAllBytes();
+    }
+
+    byte[] getCuerpo() {
+        return cuerpo;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        ByteArrayInputStream entrada = new ByteArrayInputStream(cuerpo);
+        return new ServletInputStream() {
+            @Override
+            public int read() {
+                return entrada.read();
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                return entrada.read(b, off, len);
+            }
+
+            @Override
+            public boolean isFinished() {
+                return entrada.available() == 0;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            /**
+             * El cuerpo ya está en memoria: se avisa de inmediato que hay datos y, una vez
+             * leídos, que se leyó todo.
+             */
+            @Override
+            public void setReadListener(ReadListener listener) {
+                try {
+                    if (!isFinished()) {
+                        listener.onDataAvailable();
+                    }
+                    if (isFinished()) {
+                        listener.onAllDataRead();
+                    }
+                } catch (IOException e) {
+                    listener.onError(e);
+                }
+            }
+        };
+    }
+
+    @Override
+    public BufferedReader getReader() {
+        String encoding = getCharacterEncoding();
+        Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+        return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+    }
+}
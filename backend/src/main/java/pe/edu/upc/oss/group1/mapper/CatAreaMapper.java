@@ -4,8 +4,8 @@ import pe.edu.upc.oss.group1.dto.catalogo.request.CatAreaRequest;
 import pe.edu.upc.oss.group1.dto.catalogo.response.CatAreaResponse;
 import pe.edu.upc.oss.group1.entity.catalogo.CatArea;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Mapper para convertir entre entity, request DTO y response DTO.
@@ -47,8 +47,10 @@ public class CatAreaMapper {
      * Convierte una lista de entities a lista de response DTOs.
      */
     public static List<CatAreaResponse> toResponseList(List<CatArea> entities) {
-        return entities.stream()
-                .map(CatAreaMapper::toResponse)
-                .collect(Collectors.toList());
+        List<CatAreaResponse> responses = new ArrayList<>(entities.size());
+        for (CatArea entity : entities) {
+            responses.add(toResponse(entity));
+        }
+        return responses;
     }
 }
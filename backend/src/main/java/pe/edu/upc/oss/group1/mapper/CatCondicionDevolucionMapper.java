@@ -4,8 +4,8 @@ import pe.edu.upc.oss.group1.dto.catalogo.request.CatCondicionDevolucionRequest;
 import pe.edu.upc.oss.group1.dto.catalogo.response.CatCondicionDevolucionResponse;
 import pe.edu.upc.oss.group1.entity.catalogo.CatCondicionDevolucion;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Mapper para convertir entre entity, request DTO y response DTO.
@@ -43,8 +43,10 @@ public class CatCondicionDevolucionMapper {
      * Convierte una lista de entities a lista de response DTOs.
      */
     public static List<CatCondicionDevolucionResponse> toResponseList(List<CatCondicionDevolucion> entities) {
-        return entities.stream()
-                .map(CatCondicionDevolucionMapper::toResponse)
-                .collect(Collectors.toList());
+        List<CatCondicionDevolucionResponse> responses = new ArrayList<>(entities.size());
+        for (CatCondicionDevolucion entity : entities) {
+            responses.add(toResponse(entity));
+        }
+        return responses;
     }
 }
@@ -4,8 +4,8 @@ import pe.edu.upc.oss.group1.dto.catalogo.request.CatEstadoAsignacionRequest;
 import pe.edu.upc.oss.group1.dto.catalogo.response.CatEstadoAsignacionResponse;
 import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoAsignacion;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Mapper para convertir entre entity, request DTO y response DTO.
@@ -43,8 +43,10 @@ public class CatEstadoAsignacionMapper {
      * Convierte una lista de entities a lista de response DTOs.
      */
     public static List<CatEstadoAsignacionResponse> toResponseList(List<CatEstadoAsignacion> entities) {
-        return entities.stream()
-                .map(CatEstadoAsignacionMapper::toResponse)
-                .collect(Collectors.toList());
+        List<CatEstadoAsignacionResponse> responses = new ArrayList<>(entities.size());
+        for (CatEstadoAsignacion entity : entities) {
+            responses.add(toResponse(entity));
+        }
+        return responses;
     }
 }
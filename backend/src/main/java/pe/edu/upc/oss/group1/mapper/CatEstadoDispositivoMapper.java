@@ -4,8 +4,8 @@ import pe.edu.upc.oss.group1.dto.catalogo.request.CatEstadoDispositivoRequest;
 import pe.edu.upc.oss.group1.dto.catalogo.response.CatEstadoDispositivoResponse;
 import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoDispositivo;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Mapper para convertir entre entity, request DTO y response DTO.
@@ -48,8 +48,10 @@ public class CatEstadoDispositivoMapper {
      * Convierte una lista de entities a lista de response DTOs.
      */
     public static List<CatEstadoDispositivoResponse> toResponseList(List<CatEstadoDispositivo> entities) {
-        return entities.stream()
-                .map(CatEstadoDispositivoMapper::toResponse)
-                .collect(Collectors.toList());
+        List<CatEstadoDispositivoResponse> responses = new ArrayList<>(entities.size());
+        for (CatEstadoDispositivo entity : entities) {
+            responses.add(toResponse(entity));
+        }
+        return responses;
     }
 }
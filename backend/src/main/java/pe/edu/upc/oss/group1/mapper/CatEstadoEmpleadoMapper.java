@@ -4,8 +4,8 @@ import pe.edu.upc.oss.group1.dto.catalogo.request.CatEstadoEmpleadoRequest;
 import pe.edu.upc.oss.group1.dto.catalogo.response.CatEstadoEmpleadoResponse;
 import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoEmpleado;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Mapper para convertir entre entity, request DTO y response DTO.
@@ -43,8 +43,10 @@ public class CatEstadoEmpleadoMapper {
      * Convierte una lista de entities a lista de response DTOs.
      */
     public static List<CatEstadoEmpleadoResponse> toResponseList(List<CatEstadoEmpleado> entities) {
-        return entities.stream()
-                .map(CatEstadoEmpleadoMapper::toResponse)
-                .collect(Collectors.toList());
+        List<CatEstadoEmpleadoResponse> responses = new ArrayList<>(entities.size());
+        for (CatEstadoEmpleado entity : entities) {
+            responses.add(toResponse(entity));
+        }
+        return responses;
     }
 }
@@ -4,8 +4,8 @@ import pe.edu.upc.oss.group1.dto.catalogo.request.CatEstadoReemplazoRequest;
 import pe.edu.upc.oss.group1.dto.catalogo.response.CatEstadoReemplazoResponse;
 import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoReemplazo;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Mapper para convertir entre entity, request DTO y response DTO.
@@ -43,8 +43,10 @@ public class CatEstadoReemplazoMapper {
      * Convierte una lista de entities a lista de response DTOs.
      */
     public static List<CatEstadoReemplazoResponse> toResponseList(List<CatEstadoReemplazo> entities) {
-        return entities.stream()
-                .map(CatEstadoReemplazoMapper::toResponse)
-                .collect(Collectors.toList());
+        List<CatEstadoReemplazoResponse> responses = new ArrayList<>(entities.size());
+        for (CatEstadoReemplazo entity : entities) {
+            responses.add(toResponse(entity));
+        }
+        return responses;
     }
 }
@@ -4,8 +4,8 @@ import pe.edu.upc.oss.group1.dto.catalogo.request.CatEstadoSolicitudRequest;
 import pe.edu.upc.oss.group1.dto.catalogo.response.CatEstadoSolicitudResponse;
 import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoSolicitud;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Mapper para convertir entre entity, request DTO y response DTO.
@@ -43,8 +43,10 @@ public class CatEstadoSolicitudMapper {
      * Convierte una lista de entities a lista de response DTOs.
      */
     public static List<CatEstadoSolicitudResponse> toResponseList(List<CatEstadoSolicitud> entities) {
-        return entities.stream()
-                .map(CatEstadoSolicitudMapper::toResponse)
-                .collect(Collectors.toList());
+        List<CatEstadoSolicitudResponse> responses = new ArrayList<>(entities.size());
+        for (CatEstadoSolicitud entity : entities) {
+            responses.add(toResponse(entity));
+        }
+        return responses;
     }
 }
@@ -4,8 +4,8 @@ import pe.edu.upc.oss.group1.dto.catalogo.request.CatMotivoReemplazoRequest;
 import pe.edu.upc.oss.group1.dto.catalogo.response.CatMotivoReemplazoResponse;
 import pe.edu.upc.oss.group1.entity.catalogo.CatMotivoReemplazo;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Mapper para convertir entre entity, request DTO y response DTO.
@@ -43,8 +43,10 @@ public class CatMotivoReemplazoMapper {
      * Convierte una lista de entities a lista de response DTOs.
      */
     public static List<CatMotivoReemplazoResponse> toResponseList(List<CatMotivoReemplazo> entities) {
-        return entities.stream()
-                .map(CatMotivoReemplazoMapper::toResponse)
-                .collect(Collectors.toList());
+        List<CatMotivoReemplazoResponse> responses = new ArrayList<>(entities.size());
+        for (CatMotivoReemplazo entity : entities) {
+            responses.add(toResponse(entity));
+        }
+        return responses;
     }
 }
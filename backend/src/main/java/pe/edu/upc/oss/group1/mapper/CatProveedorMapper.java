@@ -4,8 +4,8 @@ import pe.edu.upc.oss.group1.dto.catalogo.request.CatProveedorRequest;
 import pe.edu.upc.oss.group1.dto.catalogo.response.CatProveedorResponse;
 import pe.edu.upc.oss.group1.entity.catalogo.CatProveedor;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Mapper para convertir entre entity, request DTO y response DTO.
@@ -52,8 +52,10 @@ public class CatProveedorMapper {
      * Convierte una lista de entities a lista de response DTOs.
      */
     public static List<CatProveedorResponse> toResponseList(List<CatProveedor> entities) {
-        return entities.stream()
-                .map(CatProveedorMapper::toResponse)
-                .collect(Collectors.toList());
+        List<CatProveedorResponse> responses = new ArrayList<>(entities.size());
+        for (CatProveedor entity : entities) {
+            responses.add(toResponse(entity));
+        }
+        return responses;
     }
 }
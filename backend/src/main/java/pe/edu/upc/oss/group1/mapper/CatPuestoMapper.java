@@ -4,8 +4,8 @@ import pe.edu.upc.oss.group1.dto.catalogo.request.CatPuestoRequest;
 import pe.edu.upc.oss.group1.dto.catalogo.response.CatPuestoResponse;
 import pe.edu.upc.oss.group1.entity.catalogo.CatPuesto;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Mapper para convertir entre entity, request DTO y response DTO.
@@ -47,8 +47,10 @@ public class CatPuestoMapper {
      * Convierte una lista de entities a lista de response DTOs.
      */
     public static List<CatPuestoResponse> toResponseList(List<CatPuesto> entities) {
-        return entities.stream()
-                .map(CatPuestoMapper::toResponse)
-                .collect(Collectors.toList());
+        List<CatPuestoResponse> responses = new ArrayList<>(entities.size());
+        for (CatPuesto entity : entities) {
+            responses.add(toResponse(entity));
+        }
+        return responses;
     }
 }
@@ -4,8 +4,8 @@ import pe.edu.upc.oss.group1.dto.catalogo.request.CatSedeRequest;
 import pe.edu.upc.oss.group1.dto.catalogo.response.CatSedeResponse;
 import pe.edu.upc.oss.group1.entity.catalogo.CatSede;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Mapper para convertir entre entity, request DTO y response DTO.
@@ -47,8 +47,10 @@ public class CatSedeMapper {
      * Convierte una lista de entities a lista de response DTOs.
      */
     public static List<CatSedeResponse> toResponseList(List<CatSede> entities) {
-        return entities.stream()
-                .map(CatSedeMapper::toResponse)
-                .collect(Collectors.toList());
+        List<CatSedeResponse> responses = new ArrayList<>(entities.size());
+        for (CatSede entity : entities) {
+            responses.add(toResponse(entity));
+        }
+        return responses;
     }
 }
@@ -4,8 +4,8 @@ import pe.edu.upc.oss.group1.dto.catalogo.request.CatTipoDispositivoRequest;
 import pe.edu.upc.oss.group1.dto.catalogo.response.CatTipoDispositivoResponse;
 import pe.edu.upc.oss.group1.entity.catalogo.CatTipoDispositivo;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Mapper para convertir entre entity, request DTO y response DTO.
@@ -48,8 +48,10 @@ public class CatTipoDispositivoMapper {
      * Convierte una lista de entities a lista de response DTOs.
      */
     public static List<CatTipoDispositivoResponse> toResponseList(List<CatTipoDispositivo> entities) {
-        return entities.stream()
-                .map(CatTipoDispositivoMapper::toResponse)
-                .collect(Collectors.toList());
+        List<CatTipoDispositivoResponse> responses = new ArrayList<>(entities.size());
+        for (CatTipoDispositivo entity : entities) {
+            responses.add(toResponse(entity));
+        }
+        return responses;
     }
 }
@@ -4,8 +4,8 @@ import pe.edu.upc.oss.group1.dto.catalogo.request.CatTipoMovimientoRequest;
 import pe.edu.upc.oss.group1.dto.catalogo.response.CatTipoMovimientoResponse;
 import pe.edu.upc.oss.group1.entity.catalogo.CatTipoMovimiento;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Mapper para convertir entre entity, request DTO y response DTO.
@@ -43,8 +43,10 @@ public class CatTipoMovimientoMapper {
      * Convierte una lista de entities a lista de response DTOs.
      */
     public static List<CatTipoMovimientoResponse> toResponseList(List<CatTipoMovimiento> entities) {
-        return entities.stream()
-                .map(CatTipoMovimientoMapper::toResponse)
-                .collect(Collectors.toList());
+        List<CatTipoMovimientoResponse> responses = new ArrayList<>(entities.size());
+        for (CatTipoMovimiento entity : entities) {
+            responses.add(toResponse(entity));
+        }
+        return responses;
     }
 }
@@ -0,0 +1,124 @@
+package pe.edu.upc.oss.group1.persistencia;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import org.hibernate.Hibernate;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import pe.edu.upc.oss.group1.entity.catalogo.CatArea;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Inicializa las asociaciones a-uno (ManyToOne/OneToOne) de las entities que devuelve un servicio,
+ * de forma recursiva, mientras la transacción del servicio sigue abierta.
+ *
+ * Con open-in-view deshabilitado los mappers se ejecutan sin sesión; todo lo que leen
+ * (catálogos, dispositivo, empleado, usuarios) son asociaciones a-uno, así que basta con
+ * dejarlas cargadas. Las colecciones (OneToMany) no se recorren: si un caso de uso las necesita
+ * debe traerlas con JOIN FETCH. Con hibernate.default_batch_fetch_size los proxies de una lista
+ * se cargan por lotes y no uno por fila.
+ *
+ * El recorrido se detiene en los catálogos: sus mappers solo leen id y nombre de sus propias
+ * asociaciones (CatAreaMapper con areaSuperior, CatPuestoMapper con area), así que esas se
+ * inicializan sin seguirlas. Sin este límite, cada área cargaba toda su cadena de áreas superiores.
+ */
+@Component
+public class GrafoLectura {
+
+    private static final String PAQUETE_CATALOGOS = CatArea.class.getPackageName();
+
+    private final Map<Class<?>, List<Field>> asociacionesPorEntity = new HashMap<>();
+
+    public GrafoLectura(EntityManagerFactory entityManagerFactory) {
+        for (EntityType<?> entity : entityManagerFactory.getMetamodel().getEntities()) {
+            List<Field> asociaciones = new ArrayList<>();
+            for (Attribute<?, ?> atributo : entity.getSingularAttributes()) {
+                if (atributo.isAssociation() && atributo.getJavaMember() instanceof Field campo) {
+                    campo.setAccessible(true);
+                    asociaciones.add(campo);
+                }
+            }
+            asociacionesPorEntity.put(entity.getJavaType(), List.copyOf(asociaciones));
+        }
+    }
+
+    /**
+     * Inicializa el resultado de un servicio: entity, colección, mapa, página u Optional de entities,
+     * o un record que agrupa alguno de ellos (p. ej. ResultadoLote).
+     */
+    public void inicializar(Object resultado) {
+        inicializar(resultado, Collections.newSetFromMap(new IdentityHashMap<>()));
+    }
+
+    private void inicializar(Object valor, Set<Object> visitados) {
+        if (valor == null) {
+            return;
+        }
+        if (valor instanceof Optional<?> opcional) {
+            opcional.ifPresent(v -> inicializar(v, visitados));
+            return;
+        }
+        if (valor instanceof Slice<?> pagina) {
+            inicializar(pagina.getContent(), visitados);
+            return;
+        }
+        if (valor instanceof Collection<?> coleccion) {
+            if (Hibernate.isInitialized(coleccion)) {
+                coleccion.forEach(elemento -> inicializar(elemento, visitados));
+            }
+            return;
+        }
+        if (valor instanceof Map<?, ?> mapa) {
+            if (Hibernate.isInitialized(mapa)) {
+                mapa.values().forEach(elemento -> inicializar(elemento, visitados));
+            }
+            return;
+        }
+        if (valor instanceof Record registro) {
+            for (RecordComponent componente : registro.getClass().getRecordComponents()) {
+                try {
+                    Method accessor = componente.getAccessor();
+                    accessor.setAccessible(true);
+                    inicializar(accessor.invoke(registro), visitados);
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalStateException("No se pudo leer el componente " + componente, e);
+                }
+            }
+            return;
+        }
+
+        List<Field> asociaciones = asociacionesPorEntity.get(Hibernate.getClass(valor));
+        if (asociaciones == null || !visitados.add(valor)) {
+            return;
+        }
+
+        Hibernate.initialize(valor);
+        Object entity = Hibernate.unproxy(valor);
+        boolean catalogo = entity.getClass().getPackageName().equals(PAQUETE_CATALOGOS);
+        for (Field campo : asociaciones) {
+            try {
+                Object asociada = campo.get(entity);
+                if (catalogo) {
+                    Hibernate.initialize(asociada);
+                } else {
+                    inicializar(asociada, visitados);
+                }
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("No se pudo leer la asociación " + campo, e);
+            }
+        }
+    }
+}
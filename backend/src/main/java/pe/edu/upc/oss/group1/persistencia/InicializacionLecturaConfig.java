@@ -0,0 +1,51 @@
+package pe.edu.upc.oss.group1.persistencia;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationClassFilter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+/**
+ * Hace que cada servicio devuelva sus entities con el grafo de lectura ya cargado,
+ * para que controllers y mappers trabajen sin sesión (spring.jpa.open-in-view=false).
+ *
+ * El interceptor se ordena dentro del de @Transactional: la inicialización ocurre antes
+ * del commit, con la misma conexión, y la conexión se devuelve al pool al salir del servicio.
+ */
+@Configuration
+@EnableTransactionManagement(proxyTargetClass = true, order = InicializacionLecturaConfig.ORDEN_TRANSACCION)
+public class InicializacionLecturaConfig {
+
+    static final int ORDEN_TRANSACCION = Ordered.LOWEST_PRECEDENCE - 100;
+
+    private static final String PAQUETE_SERVICIOS = "pe.edu.upc.oss.group1.service";
+
+    /**
+     * Estático y con ObjectProvider: los advisors se crean antes que el resto de beans
+     * y no deben forzar la inicialización temprana del EntityManagerFactory.
+     */
+    @Bean
+    public static Advisor inicializacionLecturaAdvisor(ObjectProvider<GrafoLectura> grafoLectura) {
+        ClassFilter serviciosPropios = clase -> clase.getPackageName().startsWith(PAQUETE_SERVICIOS);
+        ComposablePointcut pointcut = new ComposablePointcut(new AnnotationClassFilter(Service.class, true))
+                .intersection(serviciosPropios);
+
+        MethodInterceptor interceptor = invocation -> {
+            Object resultado = invocation.proceed();
+            grafoLectura.getObject().inicializar(resultado);
+            return resultado;
+        };
+
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(pointcut, interceptor);
+        advisor.setOrder(Ordered.LOWEST_PRECEDENCE);
+        return advisor;
+    }
+}
@@ -0,0 +1,71 @@
+package pe.edu.upc.oss.group1.persistencia;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.hibernate.StatelessSession;
+import org.hibernate.query.SelectionQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Lectura de listados con una StatelessSession sobre la conexión de la transacción en curso.
+ *
+ * Las entities devueltas no se registran en el contexto de persistencia de la transacción:
+ * sin EntityEntry, sin CollectionEntry por cada colección OneToMany y sin snapshot. Con
+ * readOnly = true Spring ya evita el snapshot, pero cada fila sigue registrando sus
+ * colecciones; en listados grandes eso es buena parte del heap de la petición.
+ *
+ * La consulta debe traer con JOIN FETCH todas las asociaciones a-uno que lee el mapper:
+ * los proxies de una StatelessSession no se pueden inicializar después (GrafoLectura fallaría).
+ * En los catálogos basta con el primer nivel (GrafoLectura no sigue sus asociaciones).
+ * Solo para lectura: cambios sobre estas entities no se guardan.
+ */
+@Component
+@RequiredArgsConstructor
+public class LecturaSinEstado {
+
+    private final EntityManager entityManager;
+
+    public <T> List<T> listar(String hql, Class<T> tipo) {
+        return listar(hql, tipo, Map.of());
+    }
+
+    public <T> List<T> listar(String hql, Class<T> tipo, Map<String, ?> parametros) {
+        return ejecutar(hql, tipo, parametros, SelectionQuery::getResultList);
+    }
+
+    /**
+     * Página de la consulta. El orden del Pageable se agrega sobre el alias de la entity raíz,
+     * como en las @Query paginadas de Spring Data; el total se cuenta sin los JOIN FETCH.
+     */
+    public <T> Page<T> paginar(String hql, Class<T> tipo, Map<String, ?> parametros, Pageable pageable) {
+        return ejecutar(QueryUtils.applySorting(hql, pageable.getSort()), tipo, parametros, query -> {
+            if (pageable.isPaged()) {
+                query.setFirstResult((int) pageable.getOffset()).setMaxResults(pageable.getPageSize());
+            }
+            return PageableExecutionUtils.getPage(query.getResultList(), pageable, query::getResultCount);
+        });
+    }
+
+    private <T, R> R ejecutar(String hql, Class<T> tipo, Map<String, ?> parametros,
+                              Function<SelectionQuery<T>, R> lectura) {
+        Session session = entityManager.unwrap(Session.class);
+        return session.doReturningWork(conexion -> {
+            // La conexión es de la transacción: cerrar la sesión no la devuelve al pool
+            try (StatelessSession sinEstado = session.getSessionFactory()
+                    .withStatelessOptions().connection(conexion).openStatelessSession()) {
+                SelectionQuery<T> query = sinEstado.createSelectionQuery(hql, tipo);
+                parametros.forEach(query::setParameter);
+                return lectura.apply(query);
+            }
+        });
+    }
+}
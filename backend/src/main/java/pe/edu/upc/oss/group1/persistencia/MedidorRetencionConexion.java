@@ -0,0 +1,80 @@
+package pe.edu.upc.oss.group1.persistencia;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Mide cuánto tiempo se retiene una conexión del pool.
+ *
+ * - oss.db.conexion.retencion: tiempo entre getConnection() y close() de cada conexión.
+ * - oss.http.conexion.retencion: suma de esos tiempos por petición HTTP (tags method y uri).
+ *
+ * La acumulación por petición usa un ThreadLocal que abre y cierra RetencionConexionFilter;
+ * las conexiones tomadas fuera de una petición solo cuentan en la métrica por conexión.
+ */
+@Component
+@Slf4j
+public class MedidorRetencionConexion {
+
+    static final String METRICA_CONEXION = "oss.db.conexion.retencion";
+    static final String METRICA_PETICION = "oss.http.conexion.retencion";
+
+    private static final ThreadLocal<Acumulado> PETICION_ACTUAL = new ThreadLocal<>();
+
+    private final MeterRegistry meterRegistry;
+    private final Timer porConexion;
+
+    public MedidorRetencionConexion(MeterRegistry meterRegistry, DataSource dataSource) throws SQLException {
+        this.meterRegistry = meterRegistry;
+        this.porConexion = Timer.builder(METRICA_CONEXION)
+                .description("Tiempo que una conexión permanece fuera del pool")
+                .register(meterRegistry);
+        if (dataSource.isWrapperFor(RetencionConexionDataSource.class)) {
+            dataSource.unwrap(RetencionConexionDataSource.class).setRegistro(this::registrar);
+        }
+    }
+
+    /**
+     * Registra la devolución de una conexión al pool tras retenerla el tiempo indicado.
+     */
+    public void registrar(long nanos) {
+        porConexion.record(Duration.ofNanos(nanos));
+        Acumulado acumulado = PETICION_ACTUAL.get();
+        if (acumulado != null) {
+            acumulado.nanos += nanos;
+            acumulado.conexiones++;
+        }
+    }
+
+    void iniciarPeticion() {
+        PETICION_ACTUAL.set(new Acumulado());
+    }
+
+    void finalizarPeticion(String metodo, String uri) {
+        Acumulado acumulado = PETICION_ACTUAL.get();
+        PETICION_ACTUAL.remove();
+        if (acumulado == null || acumulado.conexiones == 0) {
+            return;
+        }
+
+        Timer.builder(METRICA_PETICION)
+                .description("Tiempo total de conexiones retenidas durante una petición")
+                .tag("method", metodo)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(Duration.ofNanos(acumulado.nanos));
+        log.debug("{} {}: {} conexión(es) retenidas {} ms", metodo, uri, acumulado.conexiones,
+                Duration.ofNanos(acumulado.nanos).toMillis());
+    }
+
+    private static final class Acumulado {
+        private long nanos;
+        private int conexiones;
+    }
+}
@@ -0,0 +1,32 @@
+package pe.edu.upc.oss.group1.persistencia;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Envuelve el DataSource del pool para medir la retención de conexiones (ver MedidorRetencionConexion).
+ */
+@Configuration
+public class RetencionConexionConfig {
+
+    @Bean
+    public static BeanPostProcessor retencionConexionDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof RetencionConexionDataSource)) {
+                    return new RetencionConexionDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public RetencionConexionFilter retencionConexionFilter(MedidorRetencionConexion medidor) {
+        return new RetencionConexionFilter(medidor);
+    }
+}
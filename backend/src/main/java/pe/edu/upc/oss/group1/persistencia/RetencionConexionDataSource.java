@@ -0,0 +1,56 @@
+package pe.edu.upc.oss.group1.persistencia;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.function.LongConsumer;
+
+/**
+ * DataSource que informa cuánto tiempo se retuvo cada conexión (de getConnection() a close()).
+ * Hasta que se asigna el registro (lo hace MedidorRetencionConexion) las mediciones se descartan.
+ */
+public class RetencionConexionDataSource extends DelegatingDataSource {
+
+    private volatile LongConsumer registro = nanos -> { };
+
+    public RetencionConexionDataSource(DataSource destino) {
+        super(destino);
+    }
+
+    public void setRegistro(LongConsumer registro) {
+        this.registro = registro;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return medir(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return medir(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection medir(Connection conexion) {
+        long inicio = System.nanoTime();
+        boolean[] cerrada = {false};
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, metodo, args) -> {
+                    if ("close".equals(metodo.getName()) && !cerrada[0]) {
+                        cerrada[0] = true;
+                        registro.accept(System.nanoTime() - inicio);
+                    }
+                    try {
+                        return metodo.invoke(conexion, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+}
@@ -0,0 +1,34 @@
+package pe.edu.upc.oss.group1.persistencia;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Acumula el tiempo de retención de conexiones de cada petición HTTP.
+ * La uri se registra como el patrón del handler (/api/v1/dispositivos/{id}) para acotar los tags.
+ * Se registra en RetencionConexionConfig junto con el medidor.
+ */
+@RequiredArgsConstructor
+public class RetencionConexionFilter extends OncePerRequestFilter {
+
+    private final MedidorRetencionConexion medidor;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        medidor.iniciarPeticion();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            Object patron = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            medidor.finalizarPeticion(request.getMethod(), patron != null ? patron.toString() : "UNKNOWN");
+        }
+    }
+}
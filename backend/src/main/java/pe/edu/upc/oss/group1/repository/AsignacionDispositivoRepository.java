@@ -3,12 +3,15 @@ package pe.edu.upc.oss.group1.repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import pe.edu.upc.oss.group1.entity.AsignacionDispositivo;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -87,6 +90,26 @@ public interface AsignacionDispositivoRepository extends JpaRepository<Asignacio
            "WHERE a.id = :id")
     Optional<AsignacionDispositivo> findByIdWithRelations(@Param("id") Integer id);
 
+    /**
+     * Retorna varias asignaciones por ID con el dispositivo, el empleado y sus catálogos cargados.
+     */
+    @Query("SELECT a FROM AsignacionDispositivo a " +
+           "JOIN FETCH a.dispositivo d " +
+           "JOIN FETCH d.tipoDispositivo " +
+           "JOIN FETCH d.marca " +
+           "JOIN FETCH d.estadoDispositivo " +
+           "LEFT JOIN FETCH d.proveedor " +
+           "JOIN FETCH a.empleado e " +
+           "JOIN FETCH e.area " +
+           "JOIN FETCH e.puesto " +
+           "JOIN FETCH e.sede " +
+           "JOIN FETCH e.estadoEmpleado " +
+           "JOIN FETCH a.estadoAsignacion " +
+           "JOIN FETCH a.usuarioAsigna " +
+           "LEFT JOIN FETCH a.usuarioRecibe " +
+           "WHERE a.id IN :ids")
+    List<AsignacionDispositivo> findAllByIdInWithRelations(@Param("ids") Collection<Integer> ids);
+
     /**
      * Cuenta el número de dispositivos asignados a un empleado.
      */
@@ -101,4 +124,93 @@ public interface AsignacionDispositivoRepository extends JpaRepository<Asignacio
            "LEFT JOIN FETCH a.reemplazos r " +
            "WHERE a.id = :id")
     Optional<AsignacionDispositivo> findByIdWithReemplazos(@Param("id") Integer id);
+
+    /**
+     * Retorna las asignaciones de los dispositivos que se entregaron o devolvieron en el intervalo (desde, hasta].
+     * Son los movimientos a reproducir sobre un snapshot de tenencia. Incluye además las canceladas que
+     * el snapshot tomó cuando aún estaban activas: la cancelación no deja fecha de devolución y la
+     * reproducción las quita. Las demás canceladas no se leen, así el costo no crece con el historial.
+     * Sin snapshot (snapshotId null) no hay canceladas que quitar.
+     */
+    @Query("SELECT a FROM AsignacionDispositivo a WHERE " +
+           "a.dispositivo.id IN :dispositivoIds AND (" +
+           "(a.estadoAsignacion.codigo <> 'CANCELADA' AND (" +
+           "(a.fechaAsignacion > :desde AND a.fechaAsignacion <= :hasta) OR " +
+           "(a.fechaDevolucion > :desde AND a.fechaDevolucion <= :hasta))) OR " +
+           "(a.estadoAsignacion.codigo = 'CANCELADA' AND a.id IN (" +
+           "SELECT t.idAsignacion FROM InventarioSnapshotTenencia t " +
+           "WHERE t.idSnapshot = :snapshotId AND t.idDispositivo IN :dispositivoIds)))")
+    List<AsignacionDispositivo> findMovimientosEntre(
+            @Param("dispositivoIds") Collection<Integer> dispositivoIds,
+            @Param("snapshotId") Integer snapshotId,
+            @Param("desde") LocalDate desde,
+            @Param("hasta") LocalDate hasta);
+
+    /**
+     * Cierra como devueltas las asignaciones originales de los reemplazos indicados.
+     */
+    @Modifying
+    @Query(value = "UPDATE asignacion_dispositivo a SET id_estado_asignacion = :estadoDevueltaId, " +
+                   "fecha_devolucion = CURRENT_DATE " +
+                   "FROM reemplazo_dispositivo r " +
+                   "WHERE r.id IN (:reemplazoIds) AND a.id = r.id_asignacion_original",
+           nativeQuery = true)
+    int devolverPorReemplazo(
+            @Param("reemplazoIds") Collection<Integer> reemplazoIds,
+            @Param("estadoDevueltaId") Integer estadoDevueltaId);
+
+    /**
+     * Crea, en un solo INSERT ... SELECT, la asignación del dispositivo de reemplazo
+     * al empleado de la asignación original de cada reemplazo indicado.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO asignacion_dispositivo (id_dispositivo, id_empleado, fecha_asignacion, " +
+                   "id_usuario_asigna, id_estado_asignacion, observaciones_asignacion) " +
+                   "SELECT r.id_dispositivo_reemplazo, a.id_empleado, CURRENT_DATE, r.id_usuario_registra, " +
+                   ":estadoActivaId, 'Asignado por reemplazo del dispositivo ' || d.codigo_activo " +
+                   "FROM reemplazo_dispositivo r " +
+                   "JOIN asignacion_dispositivo a ON a.id = r.id_asignacion_original " +
+                   "JOIN dispositivo d ON d.id = r.id_dispositivo_original " +
+                   "WHERE r.id IN (:reemplazoIds)",
+           nativeQuery = true)
+    int crearPorReemplazo(
+            @Param("reemplazoIds") Collection<Integer> reemplazoIds,
+            @Param("estadoActivaId") Integer estadoActivaId);
+
+    /**
+     * Cierra como devueltas las asignaciones activas referenciadas por los detalles de la solicitud,
+     * copiando las observaciones de cada detalle.
+     */
+    @Modifying
+    @Query(value = "UPDATE asignacion_dispositivo a SET id_estado_asignacion = :estadoDevueltaId, " +
+                   "fecha_devolucion = CURRENT_DATE, " +
+                   "observaciones_devolucion = dd.observaciones, " +
+                   "id_usuario_recibe = COALESCE(:usuarioRecibeId, a.id_usuario_recibe) " +
+                   "FROM detalle_devolucion dd " +
+                   "WHERE dd.id_solicitud_devolucion = :solicitudId " +
+                   "AND a.id = dd.id_asignacion " +
+                   "AND a.id_estado_asignacion = :estadoActivaId",
+           nativeQuery = true)
+    int devolverPorSolicitud(
+            @Param("solicitudId") Integer solicitudId,
+            @Param("estadoActivaId") Integer estadoActivaId,
+            @Param("estadoDevueltaId") Integer estadoDevueltaId,
+            @Param("usuarioRecibeId") Integer usuarioRecibeId);
+
+    /**
+     * Asignaciones creados o modificados después de la posición (desde, desdeId), en orden
+     * de (actualización, id): keyset para la sincronización incremental (idx_asignacion_sincronizacion).
+     */
+    @Query("SELECT a FROM AsignacionDispositivo a " +
+           "JOIN FETCH a.dispositivo " +
+           "JOIN FETCH a.empleado " +
+           "JOIN FETCH a.estadoAsignacion " +
+           "JOIN FETCH a.usuarioAsigna " +
+           "LEFT JOIN FETCH a.usuarioRecibe " +
+           "WHERE COALESCE(a.ultimaActualizacion, a.fechaCreacion) >= :desde " +
+           "AND (COALESCE(a.ultimaActualizacion, a.fechaCreacion) > :desde OR a.id > :desdeId) " +
+           "ORDER BY COALESCE(a.ultimaActualizacion, a.fechaCreacion), a.id")
+    List<AsignacionDispositivo> findCambiosDesde(@Param("desde") LocalDateTime desde,
+                                                 @Param("desdeId") Integer desdeId,
+                                                 Pageable pageable);
 }
@@ -0,0 +1,30 @@
+package pe.edu.upc.oss.group1.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import pe.edu.upc.oss.group1.entity.CambioEstadoMasivo;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Repositorio del progreso de los cambios de estado masivos.
+ */
+@Repository
+public interface CambioEstadoMasivoRepository extends JpaRepository<CambioEstadoMasivo, UUID> {
+
+    /**
+     * Suma un lote al progreso del trabajo. Se ejecuta en la transacción del lote.
+     */
+    @Modifying
+    @Query("UPDATE CambioEstadoMasivo c SET c.procesados = c.procesados + :revisados, " +
+           "c.cambiados = c.cambiados + :cambiados WHERE c.id = :id")
+    int registrarLote(@Param("id") UUID id, @Param("revisados") long revisados, @Param("cambiados") long cambiados);
+
+    @Modifying
+    @Query("DELETE FROM CambioEstadoMasivo c WHERE c.fechaFin < :fecha")
+    int eliminarTerminadosAntesDe(@Param("fecha") LocalDateTime fecha);
+}
@@ -0,0 +1,44 @@
+package pe.edu.upc.oss.group1.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import pe.edu.upc.oss.group1.entity.ClaveIdempotencia;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repositorio de claves de idempotencia.
+ *
+ * Las operaciones de escritura identifican la reserva por clave y fecha de creación: si otra
+ * petición ya reemplazó una reserva vencida o abandonada, no la pisan.
+ */
+@Repository
+public interface ClaveIdempotenciaRepository extends JpaRepository<ClaveIdempotencia, String> {
+
+    /**
+     * Guarda la respuesta de la petición original.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE ClaveIdempotencia c SET c.estadoHttp = :estadoHttp, c.tipoContenido = :tipoContenido, " +
+           "c.cuerpo = :cuerpo WHERE c.clave = :clave AND c.fechaCreacion = :fechaCreacion")
+    int completar(@Param("clave") String clave,
+                  @Param("fechaCreacion") LocalDateTime fechaCreacion,
+                  @Param("estadoHttp") Integer estadoHttp,
+                  @Param("tipoContenido") String tipoContenido,
+                  @Param("cuerpo") byte[] cuerpo);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ClaveIdempotencia c WHERE c.clave = :clave AND c.fechaCreacion = :fechaCreacion")
+    int eliminar(@Param("clave") String clave, @Param("fechaCreacion") LocalDateTime fechaCreacion);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ClaveIdempotencia c WHERE c.fechaExpiracion < :fecha")
+    int eliminarVencidas(@Param("fecha") LocalDateTime fecha);
+}
@@ -55,4 +55,29 @@ public interface DetalleDevolucionRepository extends JpaRepository<DetalleDevolu
      * Verifica si un dispositivo ya está en una solicitud de devolución.
      */
     boolean existsBySolicitudDevolucionIdAndDispositivoId(Integer solicitudId, Integer dispositivoId);
+
+    /**
+     * Asignación aún activa de un detalle de la solicitud, con los datos del evento de devolución.
+     */
+    interface DevolucionPendiente {
+        Integer getAsignacionId();
+        Integer getDispositivoId();
+        String getCodigoActivo();
+    }
+
+    /**
+     * Retorna las asignaciones activas referenciadas por los detalles de la solicitud,
+     * bloqueándolas para que no se devuelvan o cancelen en paralelo mientras se completa.
+     */
+    @Query(value = "SELECT a.id AS asignacionId, d.id AS dispositivoId, d.codigo_activo AS codigoActivo " +
+                   "FROM detalle_devolucion dd " +
+                   "JOIN asignacion_dispositivo a ON a.id = dd.id_asignacion " +
+                   "JOIN dispositivo d ON d.id = a.id_dispositivo " +
+                   "WHERE dd.id_solicitud_devolucion = :solicitudId AND a.id_estado_asignacion = :estadoActivaId " +
+                   "ORDER BY a.id " +
+                   "FOR UPDATE OF a",
+           nativeQuery = true)
+    List<DevolucionPendiente> bloquearDevolucionesPendientes(
+            @Param("solicitudId") Integer solicitudId,
+            @Param("estadoActivaId") Integer estadoActivaId);
 }
@@ -3,11 +3,16 @@ package pe.edu.upc.oss.group1.repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import pe.edu.upc.oss.group1.entity.Dispositivo;
+import pe.edu.upc.oss.group1.escaneo.ResumenEscaneo;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +23,17 @@ import java.util.Optional;
 @Repository
 public interface DispositivoRepository extends JpaRepository<Dispositivo, Integer> {
 
+    /**
+     * Criterios opcionales del cambio de estado masivo (un parámetro null no filtra).
+     */
+    String FILTRO_CAMBIO_ESTADO =
+            "d.id_estado_dispositivo <> :estadoId " +
+            "AND (CAST(:tipoId AS INTEGER) IS NULL OR d.id_tipo_dispositivo = :tipoId) " +
+            "AND (CAST(:marcaId AS INTEGER) IS NULL OR d.id_marca = :marcaId) " +
+            "AND (CAST(:modelo AS VARCHAR) IS NULL OR d.modelo = :modelo) " +
+            "AND (CAST(:desde AS DATE) IS NULL OR d.fecha_adquisicion >= :desde) " +
+            "AND (CAST(:hasta AS DATE) IS NULL OR d.fecha_adquisicion <= :hasta) ";
+
     /**
      * Busca un dispositivo por su código de activo único.
      */
@@ -44,16 +60,31 @@ public interface DispositivoRepository extends JpaRepository<Dispositivo, Intege
     List<Dispositivo> findByEstadoDispositivoCodigo(String codigoEstado);
 
     /**
-     * Retorna dispositivos disponibles para asignación.
+     * Retorna dispositivos disponibles para asignación con paginación.
      */
     @Query("SELECT d FROM Dispositivo d WHERE d.estadoDispositivo.disponibleAsignacion = true")
-    List<Dispositivo> findDispositivosDisponibles();
+    Page<Dispositivo> findDispositivosDisponibles(Pageable pageable);
 
     /**
-     * Retorna dispositivos disponibles para asignación con paginación.
+     * Reserva el siguiente dispositivo disponible del tipo (y opcionalmente marca y modelo),
+     * bloqueando su fila hasta el fin de la transacción.
+     * SKIP LOCKED salta las filas que otra transacción ya reservó, así operadores concurrentes
+     * obtienen dispositivos distintos sin esperar ni fallar (solo PostgreSQL).
      */
-    @Query("SELECT d FROM Dispositivo d WHERE d.estadoDispositivo.disponibleAsignacion = true")
-    Page<Dispositivo> findDispositivosDisponibles(Pageable pageable);
+    @Query(value = "SELECT d.* FROM dispositivo d " +
+                   "WHERE d.id_tipo_dispositivo = :tipoId " +
+                   "AND d.id_estado_dispositivo IN (" +
+                   "  SELECT e.id FROM cat_estado_dispositivo e WHERE e.disponible_asignacion = true) " +
+                   "AND (CAST(:marcaId AS INTEGER) IS NULL OR d.id_marca = :marcaId) " +
+                   "AND (CAST(:modelo AS VARCHAR) IS NULL OR d.modelo = :modelo) " +
+                   "ORDER BY d.id " +
+                   "LIMIT 1 " +
+                   "FOR UPDATE OF d SKIP LOCKED",
+           nativeQuery = true)
+    Optional<Dispositivo> reservarSiguienteDisponible(
+            @Param("tipoId") Integer tipoId,
+            @Param("marcaId") Integer marcaId,
+            @Param("modelo") String modelo);
 
     /**
      * Búsqueda de dispositivos por texto en código, serie, modelo.
@@ -74,6 +105,18 @@ public interface DispositivoRepository extends JpaRepository<Dispositivo, Intege
      */
     boolean existsByNumeroSerie(String numeroSerie);
 
+    /**
+     * Códigos de activo de la lista que ya están registrados (registro masivo).
+     */
+    @Query("SELECT d.codigoActivo FROM Dispositivo d WHERE d.codigoActivo IN :codigos")
+    List<String> findCodigosActivoExistentes(@Param("codigos") Collection<String> codigos);
+
+    /**
+     * Números de serie de la lista que ya están registrados (registro masivo).
+     */
+    @Query("SELECT d.numeroSerie FROM Dispositivo d WHERE d.numeroSerie IN :series")
+    List<String> findNumerosSerieExistentes(@Param("series") Collection<String> series);
+
     /**
      * Retorna un dispositivo con sus asignaciones cargadas (evita N+1).
      */
@@ -101,6 +144,60 @@ public interface DispositivoRepository extends JpaRepository<Dispositivo, Intege
            "WHERE d.id = :id")
     Optional<Dispositivo> findByIdWithRelations(@Param("id") Integer id);
 
+    /**
+     * Retorna varios dispositivos por ID con las relaciones que usa el mapper (una consulta IN).
+     */
+    @Query("SELECT d FROM Dispositivo d " +
+           "JOIN FETCH d.tipoDispositivo " +
+           "JOIN FETCH d.marca " +
+           "JOIN FETCH d.estadoDispositivo " +
+           "LEFT JOIN FETCH d.proveedor " +
+           "WHERE d.id IN :ids")
+    List<Dispositivo> findAllByIdInWithRelations(@Param("ids") Collection<Integer> ids);
+
+    /**
+     * Retorna varios dispositivos por código de activo con las relaciones que usa el mapper.
+     */
+    @Query("SELECT d FROM Dispositivo d " +
+           "JOIN FETCH d.tipoDispositivo " +
+           "JOIN FETCH d.marca " +
+           "JOIN FETCH d.estadoDispositivo " +
+           "LEFT JOIN FETCH d.proveedor " +
+           "WHERE d.codigoActivo IN :codigos")
+    List<Dispositivo> findAllByCodigoActivoInWithRelations(@Param("codigos") Collection<String> codigos);
+
+    /**
+     * Resúmenes para el índice de escaneo, por páginas de ID (keyset sobre la PK).
+     */
+    @Query("SELECT new pe.edu.upc.oss.group1.escaneo.ResumenEscaneo(d.id, d.codigoActivo, d.numeroSerie, " +
+           "d.tipoDispositivo.id, d.marca.id, d.estadoDispositivo.id) FROM Dispositivo d " +
+           "WHERE d.id > :desdeId ORDER BY d.id")
+    List<ResumenEscaneo> findResumenesEscaneo(@Param("desdeId") Integer desdeId, Pageable pageable);
+
+    /**
+     * Resúmenes para el índice de escaneo de los dispositivos indicados.
+     */
+    @Query("SELECT new pe.edu.upc.oss.group1.escaneo.ResumenEscaneo(d.id, d.codigoActivo, d.numeroSerie, " +
+           "d.tipoDispositivo.id, d.marca.id, d.estadoDispositivo.id) FROM Dispositivo d WHERE d.id IN :ids")
+    List<ResumenEscaneo> findResumenesEscaneoPorIds(@Param("ids") Collection<Integer> ids);
+
+    /**
+     * Resúmenes de los dispositivos creados o modificados desde el instante indicado
+     * (ultima_actualizacion la mantiene el trigger trg_dispositivo_update).
+     */
+    @Query("SELECT new pe.edu.upc.oss.group1.escaneo.ResumenEscaneo(d.id, d.codigoActivo, d.numeroSerie, " +
+           "d.tipoDispositivo.id, d.marca.id, d.estadoDispositivo.id) FROM Dispositivo d " +
+           "WHERE COALESCE(d.ultimaActualizacion, d.fechaCreacion) >= :desde")
+    List<ResumenEscaneo> findResumenesEscaneoModificadosDesde(@Param("desde") LocalDateTime desde);
+
+    /**
+     * Resumen por código de activo o número de serie (lectura de etiqueta sin índice en memoria).
+     */
+    @Query("SELECT new pe.edu.upc.oss.group1.escaneo.ResumenEscaneo(d.id, d.codigoActivo, d.numeroSerie, " +
+           "d.tipoDispositivo.id, d.marca.id, d.estadoDispositivo.id) FROM Dispositivo d " +
+           "WHERE d.codigoActivo = :texto OR d.numeroSerie = :texto")
+    List<ResumenEscaneo> findResumenEscaneo(@Param("texto") String texto);
+
     /**
      * Retorna dispositivos por tipo con relaciones cargadas.
      */
@@ -110,4 +207,158 @@ public interface DispositivoRepository extends JpaRepository<Dispositivo, Intege
            "JOIN FETCH d.estadoDispositivo " +
            "WHERE d.tipoDispositivo.id = :tipoId")
     List<Dispositivo> findByTipoDispositivoIdWithRelations(@Param("tipoId") Integer tipoId);
+
+    /**
+     * Retorna con paginación los dispositivos registrados antes del instante indicado, ordenados por ID.
+     */
+    @Query(value = "SELECT d FROM Dispositivo d WHERE d.fechaCreacion < :limite ORDER BY d.id",
+           countQuery = "SELECT COUNT(d) FROM Dispositivo d WHERE d.fechaCreacion < :limite")
+    Page<Dispositivo> findRegistradosAntesDe(@Param("limite") LocalDateTime limite, Pageable pageable);
+
+    /**
+     * Cuenta los dispositivos que cumplen los criterios y aún no están en el estado destino.
+     */
+    @Query(value = "SELECT COUNT(*) FROM dispositivo d WHERE " + FILTRO_CAMBIO_ESTADO,
+           nativeQuery = true)
+    long countParaCambioEstado(
+            @Param("estadoId") Integer estadoId,
+            @Param("tipoId") Integer tipoId,
+            @Param("marcaId") Integer marcaId,
+            @Param("modelo") String modelo,
+            @Param("desde") LocalDate desde,
+            @Param("hasta") LocalDate hasta);
+
+    /**
+     * Siguiente lote de IDs que cumplen los criterios, a partir del ID indicado (paginación por clave).
+     */
+    @Query(value = "SELECT d.id FROM dispositivo d WHERE d.id > :despuesDeId AND " + FILTRO_CAMBIO_ESTADO +
+                   "ORDER BY d.id LIMIT :limite",
+           nativeQuery = true)
+    List<Integer> findIdsParaCambioEstado(
+            @Param("estadoId") Integer estadoId,
+            @Param("tipoId") Integer tipoId,
+            @Param("marcaId") Integer marcaId,
+            @Param("modelo") String modelo,
+            @Param("desde") LocalDate desde,
+            @Param("hasta") LocalDate hasta,
+            @Param("despuesDeId") Integer despuesDeId,
+            @Param("limite") Integer limite);
+
+    /**
+     * Dispositivo de un lote del cambio de estado masivo y el titular de su asignación activa.
+     */
+    interface FilaCambioEstado {
+        Integer getId();
+        String getCodigoActivo();
+        Integer getEmpleadoId();
+        Integer getSedeId();
+        Integer getAreaId();
+    }
+
+    /**
+     * Bloquea (en orden de ID, como cambiarEstadoConHistorial) los dispositivos del lote que
+     * aún no están en el estado destino y retorna su titular para los eventos de cambio de estado.
+     */
+    @Query(value = "SELECT d.id AS id, d.codigo_activo AS codigoActivo, " +
+                   "a.id_empleado AS empleadoId, e.id_sede AS sedeId, e.id_area AS areaId " +
+                   "FROM dispositivo d " +
+                   "LEFT JOIN asignacion_dispositivo a ON a.id_dispositivo = d.id AND a.id_estado_asignacion = " +
+                   "  (SELECT ea.id FROM cat_estado_asignacion ea WHERE ea.codigo = 'ACTIVA') " +
+                   "LEFT JOIN empleado e ON e.id = a.id_empleado " +
+                   "WHERE d.id IN (:ids) AND d.id_estado_dispositivo <> :estadoId " +
+                   "ORDER BY d.id " +
+                   "FOR UPDATE OF d",
+           nativeQuery = true)
+    List<FilaCambioEstado> bloquearParaCambioEstado(
+            @Param("ids") Collection<Integer> ids,
+            @Param("estadoId") Integer estadoId);
+
+    /**
+     * Cambia el estado de un lote de dispositivos y registra un CAMBIO_ESTADO por cada uno
+     * en la misma sentencia: las filas se bloquean en orden de ID, se actualizan, y el
+     * historial se inserta con un solo INSERT ... SELECT (payload igual a DatosHistorial.deCambio).
+     * Los que ya estaban en el estado destino se omiten. Retorna la cantidad de dispositivos cambiados.
+     */
+    @Modifying
+    @Query(value = "WITH objetivo AS (" +
+                   "  SELECT d.id, e.codigo AS estado_anterior FROM dispositivo d " +
+                   "  JOIN cat_estado_dispositivo e ON e.id = d.id_estado_dispositivo " +
+                   "  WHERE d.id IN (:ids) AND d.id_estado_dispositivo <> :estadoId " +
+                   "  ORDER BY d.id FOR UPDATE OF d), " +
+                   "actualizados AS (" +
+                   "  UPDATE dispositivo d SET id_estado_dispositivo = :estadoId, " +
+                   "    observaciones = COALESCE(CAST(:observacion AS TEXT), d.observaciones) " +
+                   "  FROM objetivo o WHERE d.id = o.id " +
+                   "  RETURNING d.id, o.estado_anterior) " +
+                   "INSERT INTO historial_dispositivo (id_dispositivo, id_tipo_movimiento, id_usuario, datos, fecha_movimiento) " +
+                   "SELECT a.id, :tipoMovimientoId, :usuarioId, " +
+                   "  jsonb_strip_nulls(jsonb_build_object(" +
+                   "    'observacion', CAST(:observacion AS TEXT), " +
+                   "    'cambios', jsonb_build_object('estado', jsonb_build_object(" +
+                   "      'de', a.estado_anterior, " +
+                   "      'a', (SELECT e.codigo FROM cat_estado_dispositivo e WHERE e.id = :estadoId))))), " +
+                   "  CURRENT_TIMESTAMP " +
+                   "FROM actualizados a",
+           nativeQuery = true)
+    int cambiarEstadoConHistorial(
+            @Param("ids") Collection<Integer> ids,
+            @Param("estadoId") Integer estadoId,
+            @Param("tipoMovimientoId") Integer tipoMovimientoId,
+            @Param("usuarioId") Integer usuarioId,
+            @Param("observacion") String observacion);
+
+    /**
+     * Deja disponible el dispositivo original y asignado el de reemplazo de cada reemplazo indicado.
+     */
+    @Modifying
+    @Query(value = "UPDATE dispositivo d SET id_estado_dispositivo = CASE " +
+                   "  WHEN d.id = r.id_dispositivo_original THEN :estadoDisponibleId " +
+                   "  ELSE :estadoAsignadoId END " +
+                   "FROM reemplazo_dispositivo r " +
+                   "WHERE r.id IN (:reemplazoIds) " +
+                   "AND d.id IN (r.id_dispositivo_original, r.id_dispositivo_reemplazo)",
+           nativeQuery = true)
+    int intercambiarPorReemplazo(
+            @Param("reemplazoIds") Collection<Integer> reemplazoIds,
+            @Param("estadoDisponibleId") Integer estadoDisponibleId,
+            @Param("estadoAsignadoId") Integer estadoAsignadoId);
+
+    /**
+     * Actualiza el estado de los dispositivos de las asignaciones activas de la solicitud según
+     * la condición de devolución del detalle: los devueltos en alguna de las condiciones indicadas
+     * pasan a revisión y el resto queda disponible. Debe ejecutarse antes de cerrar las asignaciones.
+     */
+    @Modifying
+    @Query(value = "UPDATE dispositivo d SET id_estado_dispositivo = CASE " +
+                   "  WHEN c.codigo IN (:condicionesRevision) THEN :estadoRevisionId " +
+                   "  ELSE :estadoDisponibleId END " +
+                   "FROM detalle_devolucion dd " +
+                   "JOIN asignacion_dispositivo a ON a.id = dd.id_asignacion " +
+                   "JOIN cat_condicion_devolucion c ON c.id = dd.id_condicion_devolucion " +
+                   "WHERE dd.id_solicitud_devolucion = :solicitudId " +
+                   "AND a.id_estado_asignacion = :estadoActivaId " +
+                   "AND d.id = a.id_dispositivo",
+           nativeQuery = true)
+    int liberarPorSolicitud(
+            @Param("solicitudId") Integer solicitudId,
+            @Param("estadoActivaId") Integer estadoActivaId,
+            @Param("condicionesRevision") Collection<String> condicionesRevision,
+            @Param("estadoRevisionId") Integer estadoRevisionId,
+            @Param("estadoDisponibleId") Integer estadoDisponibleId);
+
+    /**
+     * Dispositivos creados o modificados después de la posición (desde, desdeId), en orden
+     * de (actualización, id): keyset para la sincronización incremental (idx_dispositivo_sincronizacion).
+     */
+    @Query("SELECT d FROM Dispositivo d " +
+           "JOIN FETCH d.tipoDispositivo " +
+           "JOIN FETCH d.marca " +
+           "JOIN FETCH d.estadoDispositivo " +
+           "LEFT JOIN FETCH d.proveedor " +
+           "WHERE COALESCE(d.ultimaActualizacion, d.fechaCreacion) >= :desde " +
+           "AND (COALESCE(d.ultimaActualizacion, d.fechaCreacion) > :desde OR d.id > :desdeId) " +
+           "ORDER BY COALESCE(d.ultimaActualizacion, d.fechaCreacion), d.id")
+    List<Dispositivo> findCambiosDesde(@Param("desde") LocalDateTime desde,
+                                       @Param("desdeId") Integer desdeId,
+                                       Pageable pageable);
 }
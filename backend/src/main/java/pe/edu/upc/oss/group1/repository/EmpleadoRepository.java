@@ -8,6 +8,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import pe.edu.upc.oss.group1.entity.Empleado;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -88,4 +90,42 @@ public interface EmpleadoRepository extends JpaRepository<Empleado, Integer> {
            "JOIN FETCH e.estadoEmpleado " +
            "WHERE e.area.id = :areaId")
     List<Empleado> findByAreaIdWithRelations(@Param("areaId") Integer areaId);
+
+    /**
+     * Retorna varios empleados por ID con sus relaciones cargadas (una consulta IN).
+     */
+    @Query("SELECT e FROM Empleado e " +
+           "JOIN FETCH e.area " +
+           "JOIN FETCH e.puesto " +
+           "JOIN FETCH e.sede " +
+           "JOIN FETCH e.estadoEmpleado " +
+           "WHERE e.id IN :ids")
+    List<Empleado> findAllByIdInWithRelations(@Param("ids") Collection<Integer> ids);
+
+    /**
+     * Retorna varios empleados por código con sus relaciones cargadas.
+     */
+    @Query("SELECT e FROM Empleado e " +
+           "JOIN FETCH e.area " +
+           "JOIN FETCH e.puesto " +
+           "JOIN FETCH e.sede " +
+           "JOIN FETCH e.estadoEmpleado " +
+           "WHERE e.codigoEmpleado IN :codigos")
+    List<Empleado> findAllByCodigoEmpleadoInWithRelations(@Param("codigos") Collection<String> codigos);
+
+    /**
+     * Empleados creados o modificados después de la posición (desde, desdeId), en orden
+     * de (actualización, id): keyset para la sincronización incremental (idx_empleado_sincronizacion).
+     */
+    @Query("SELECT e FROM Empleado e " +
+           "JOIN FETCH e.area " +
+           "JOIN FETCH e.puesto " +
+           "JOIN FETCH e.sede " +
+           "JOIN FETCH e.estadoEmpleado " +
+           "WHERE COALESCE(e.ultimaActualizacion, e.fechaCreacion) >= :desde " +
+           "AND (COALESCE(e.ultimaActualizacion, e.fechaCreacion) > :desde OR e.id > :desdeId) " +
+           "ORDER BY COALESCE(e.ultimaActualizacion, e.fechaCreacion), e.id")
+    List<Empleado> findCambiosDesde(@Param("desde") LocalDateTime desde,
+                                    @Param("desdeId") Integer desdeId,
+                                    Pageable pageable);
 }
@@ -3,12 +3,14 @@ package pe.edu.upc.oss.group1.repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import pe.edu.upc.oss.group1.entity.HistorialDispositivo;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -88,4 +90,56 @@ public interface HistorialDispositivoRepository extends JpaRepository<HistorialD
     List<HistorialDispositivo> findUltimosMovimientos(
             @Param("dispositivoId") Integer dispositivoId,
             Pageable pageable);
+
+    /**
+     * Retorna el historial en el que participó un empleado, según el payload JSONB.
+     * Usa el índice GIN idx_historial_datos (jsonb_path_ops) mediante el operador @>.
+     */
+    @Query(value = "SELECT * FROM historial_dispositivo " +
+                   "WHERE datos @> jsonb_build_object('empleadoId', :empleadoId) " +
+                   "ORDER BY fecha_movimiento DESC",
+           nativeQuery = true)
+    List<HistorialDispositivo> findByEmpleadoInvolucrado(@Param("empleadoId") Integer empleadoId);
+
+    /**
+     * Registra en un solo INSERT el historial de los reemplazos indicados: REEMPLAZO sobre el
+     * dispositivo original y ASIGNACION sobre el de reemplazo (mismo payload que
+     * DatosHistorial.deReemplazo y DatosHistorial.deEmpleado).
+     */
+    @Modifying
+    @Query(value = "INSERT INTO historial_dispositivo (id_dispositivo, id_tipo_movimiento, id_usuario, datos, fecha_movimiento) " +
+                   "SELECT r.id_dispositivo_original, :tipoReemplazoId, r.id_usuario_registra, " +
+                   "  jsonb_build_object('empleadoId', r.id_empleado, 'dispositivoId', r.id_dispositivo_reemplazo, " +
+                   "    'motivo', m.nombre), CURRENT_TIMESTAMP " +
+                   "FROM reemplazo_dispositivo r JOIN cat_motivo_reemplazo m ON m.id = r.id_motivo_reemplazo " +
+                   "WHERE r.id IN (:reemplazoIds) " +
+                   "UNION ALL " +
+                   "SELECT r.id_dispositivo_reemplazo, :tipoAsignacionId, r.id_usuario_registra, " +
+                   "  jsonb_build_object('empleadoId', r.id_empleado), CURRENT_TIMESTAMP " +
+                   "FROM reemplazo_dispositivo r " +
+                   "WHERE r.id IN (:reemplazoIds)",
+           nativeQuery = true)
+    int registrarReemplazos(
+            @Param("reemplazoIds") Collection<Integer> reemplazoIds,
+            @Param("tipoReemplazoId") Integer tipoReemplazoId,
+            @Param("tipoAsignacionId") Integer tipoAsignacionId);
+
+    /**
+     * Registra en un solo INSERT la devolución de cada asignación activa de la solicitud
+     * (mismo payload que DatosHistorial.deEmpleado). Debe ejecutarse antes de cerrar las asignaciones.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO historial_dispositivo (id_dispositivo, id_tipo_movimiento, id_usuario, datos, fecha_movimiento) " +
+                   "SELECT a.id_dispositivo, :tipoDevolucionId, :usuarioId, " +
+                   "  jsonb_build_object('empleadoId', a.id_empleado), CURRENT_TIMESTAMP " +
+                   "FROM detalle_devolucion dd " +
+                   "JOIN asignacion_dispositivo a ON a.id = dd.id_asignacion " +
+                   "WHERE dd.id_solicitud_devolucion = :solicitudId " +
+                   "AND a.id_estado_asignacion = :estadoActivaId",
+           nativeQuery = true)
+    int registrarDevoluciones(
+            @Param("solicitudId") Integer solicitudId,
+            @Param("estadoActivaId") Integer estadoActivaId,
+            @Param("tipoDevolucionId") Integer tipoDevolucionId,
+            @Param("usuarioId") Integer usuarioId);
 }
@@ -0,0 +1,22 @@
+package pe.edu.upc.oss.group1.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import pe.edu.upc.oss.group1.entity.InventarioSnapshot;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Repositorio para los snapshots periódicos de tenencia.
+ */
+@Repository
+public interface InventarioSnapshotRepository extends JpaRepository<InventarioSnapshot, Integer> {
+
+    /**
+     * Retorna el snapshot más reciente con fecha de corte igual o anterior a la indicada.
+     */
+    Optional<InventarioSnapshot> findFirstByFechaCorteLessThanEqualOrderByFechaCorteDesc(LocalDate fecha);
+
+    boolean existsByFechaCorte(LocalDate fechaCorte);
+}
@@ -0,0 +1,46 @@
+package pe.edu.upc.oss.group1.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import pe.edu.upc.oss.group1.entity.InventarioSnapshotTenencia;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repositorio para las filas de tenencia de cada snapshot.
+ */
+@Repository
+public interface InventarioSnapshotTenenciaRepository
+        extends JpaRepository<InventarioSnapshotTenencia, InventarioSnapshotTenencia.Clave> {
+
+    /**
+     * Retorna la tenencia registrada en el snapshot para los dispositivos indicados.
+     */
+    List<InventarioSnapshotTenencia> findByIdSnapshotAndIdDispositivoIn(Integer idSnapshot,
+                                                                       Collection<Integer> idDispositivos);
+
+    /**
+     * Copia al snapshot las asignaciones vigentes al cierre de la fecha de corte, en una sola sentencia.
+     * Si por datos inconsistentes un dispositivo tiene más de una vigente, se toma la más reciente.
+     * Las asignaciones canceladas se consideran como nunca entregadas.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO inventario_snapshot_tenencia (id_snapshot, id_dispositivo, id_empleado, id_asignacion) " +
+                   "SELECT :idSnapshot, a.id_dispositivo, a.id_empleado, a.id " +
+                   "FROM asignacion_dispositivo a " +
+                   "WHERE a.id IN (" +
+                   "  SELECT MAX(v.id) FROM asignacion_dispositivo v " +
+                   "  JOIN cat_estado_asignacion e ON e.id = v.id_estado_asignacion " +
+                   "  WHERE e.codigo <> 'CANCELADA' " +
+                   "  AND v.fecha_asignacion <= :fechaCorte " +
+                   "  AND (v.fecha_devolucion IS NULL OR v.fecha_devolucion > :fechaCorte) " +
+                   "  GROUP BY v.id_dispositivo)",
+           nativeQuery = true)
+    int copiarAsignacionesVigentes(@Param("idSnapshot") Integer idSnapshot,
+                                   @Param("fechaCorte") LocalDate fechaCorte);
+}
@@ -1,12 +1,14 @@
 package pe.edu.upc.oss.group1.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import pe.edu.upc.oss.group1.entity.ReemplazoDispositivo;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -43,12 +45,6 @@ public interface ReemplazoDispositivoRepository extends JpaRepository<ReemplazoD
     @Query("SELECT r FROM ReemplazoDispositivo r WHERE r.estadoReemplazo.codigo = :codigoEstado")
     List<ReemplazoDispositivo> findByEstadoCodigo(@Param("codigoEstado") String codigoEstado);
 
-    /**
-     * Retorna todos los reemplazos pendientes.
-     */
-    @Query("SELECT r FROM ReemplazoDispositivo r WHERE r.estadoReemplazo.codigo = 'PENDIENTE'")
-    List<ReemplazoDispositivo> findReemplazosPendientes();
-
     /**
      * Retorna reemplazos en un rango de fechas.
      */
@@ -77,4 +73,73 @@ public interface ReemplazoDispositivoRepository extends JpaRepository<ReemplazoD
      */
     @Query("SELECT COUNT(r) FROM ReemplazoDispositivo r WHERE r.motivoReemplazo.id = :motivoId")
     Long countByMotivoReemplazo(@Param("motivoId") Integer motivoId);
+
+    /**
+     * Datos de un reemplazo necesarios para validarlo y ejecutarlo en lote.
+     */
+    interface FilaEjecucion {
+        Integer getId();
+        String getEstadoReemplazo();
+        String getEstadoAsignacion();
+        Integer getAsignacionOriginalId();
+        Integer getDispositivoOriginalId();
+        Integer getDispositivoReemplazoId();
+        String getCodigoDispositivoReemplazo();
+        Boolean getReemplazoDisponible();
+        Integer getEmpleadoId();
+        Integer getSedeId();
+        Integer getAreaId();
+    }
+
+    /**
+     * Reemplazo ejecutado y la asignación que se creó para el dispositivo de reemplazo.
+     */
+    interface AsignacionCreada {
+        Integer getReemplazoId();
+        Integer getAsignacionId();
+    }
+
+    /**
+     * Carga los reemplazos del lote bloqueando el reemplazo, la asignación original y el
+     * dispositivo de reemplazo (en orden de ID, para que lotes concurrentes no se bloqueen en cruz).
+     */
+    @Query(value = "SELECT r.id AS id, er.codigo AS estadoReemplazo, ea.codigo AS estadoAsignacion, " +
+                   "r.id_asignacion_original AS asignacionOriginalId, " +
+                   "r.id_dispositivo_original AS dispositivoOriginalId, " +
+                   "r.id_dispositivo_reemplazo AS dispositivoReemplazoId, " +
+                   "dr.codigo_activo AS codigoDispositivoReemplazo, " +
+                   "edr.disponible_asignacion AS reemplazoDisponible, " +
+                   "a.id_empleado AS empleadoId, e.id_sede AS sedeId, e.id_area AS areaId " +
+                   "FROM reemplazo_dispositivo r " +
+                   "JOIN cat_estado_reemplazo er ON er.id = r.id_estado_reemplazo " +
+                   "JOIN asignacion_dispositivo a ON a.id = r.id_asignacion_original " +
+                   "JOIN cat_estado_asignacion ea ON ea.id = a.id_estado_asignacion " +
+                   "JOIN dispositivo dr ON dr.id = r.id_dispositivo_reemplazo " +
+                   "JOIN cat_estado_dispositivo edr ON edr.id = dr.id_estado_dispositivo " +
+                   "JOIN empleado e ON e.id = a.id_empleado " +
+                   "WHERE r.id IN (:ids) " +
+                   "ORDER BY r.id " +
+                   "FOR UPDATE OF r, a, dr",
+           nativeQuery = true)
+    List<FilaEjecucion> bloquearParaEjecucion(@Param("ids") Collection<Integer> ids);
+
+    /**
+     * Retorna la asignación activa del dispositivo de reemplazo de cada reemplazo indicado.
+     */
+    @Query(value = "SELECT r.id AS reemplazoId, a.id AS asignacionId " +
+                   "FROM reemplazo_dispositivo r " +
+                   "JOIN asignacion_dispositivo a ON a.id_dispositivo = r.id_dispositivo_reemplazo " +
+                   "WHERE r.id IN (:ids) AND a.id_estado_asignacion = :estadoActivaId",
+           nativeQuery = true)
+    List<AsignacionCreada> findAsignacionesCreadas(
+            @Param("ids") Collection<Integer> ids,
+            @Param("estadoActivaId") Integer estadoActivaId);
+
+    /**
+     * Marca los reemplazos como completados.
+     */
+    @Modifying
+    @Query(value = "UPDATE reemplazo_dispositivo SET id_estado_reemplazo = :estadoId WHERE id IN (:ids)",
+           nativeQuery = true)
+    int actualizarEstado(@Param("ids") Collection<Integer> ids, @Param("estadoId") Integer estadoId);
 }
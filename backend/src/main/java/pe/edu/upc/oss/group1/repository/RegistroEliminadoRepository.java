@@ -0,0 +1,35 @@
+package pe.edu.upc.oss.group1.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import pe.edu.upc.oss.group1.entity.RegistroEliminado;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repositorio de lápidas de registros eliminados físicamente.
+ */
+@Repository
+public interface RegistroEliminadoRepository extends JpaRepository<RegistroEliminado, Long> {
+
+    /**
+     * Lápidas posteriores a la posición (desde, desdeId), en orden de (fecha, id).
+     */
+    @Query("SELECT r FROM RegistroEliminado r " +
+           "WHERE r.fechaEliminacion >= :desde AND (r.fechaEliminacion > :desde OR r.id > :desdeId) " +
+           "ORDER BY r.fechaEliminacion, r.id")
+    List<RegistroEliminado> findCambiosDesde(@Param("desde") LocalDateTime desde,
+                                             @Param("desdeId") Long desdeId,
+                                             Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RegistroEliminado r WHERE r.fechaEliminacion < :fecha")
+    int eliminarAnterioresA(@Param("fecha") LocalDateTime fecha);
+}
@@ -1,7 +1,5 @@
 package pe.edu.upc.oss.group1.repository;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -30,18 +28,6 @@ public interface SolicitudDevolucionRepository extends JpaRepository<SolicitudDe
     @Query("SELECT s FROM SolicitudDevolucion s WHERE s.estadoSolicitud.codigo = :codigoEstado")
     List<SolicitudDevolucion> findByEstadoCodigo(@Param("codigoEstado") String codigoEstado);
 
-    /**
-     * Retorna todas las solicitudes pendientes.
-     */
-    @Query("SELECT s FROM SolicitudDevolucion s WHERE s.estadoSolicitud.codigo = 'PENDIENTE'")
-    List<SolicitudDevolucion> findSolicitudesPendientes();
-
-    /**
-     * Retorna todas las solicitudes pendientes con paginación.
-     */
-    @Query("SELECT s FROM SolicitudDevolucion s WHERE s.estadoSolicitud.codigo = 'PENDIENTE'")
-    Page<SolicitudDevolucion> findSolicitudesPendientes(Pageable pageable);
-
     /**
      * Retorna solicitudes atrasadas (fecha programada pasada y sin devolución real).
      */
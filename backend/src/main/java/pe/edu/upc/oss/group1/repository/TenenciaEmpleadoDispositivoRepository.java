@@ -0,0 +1,56 @@
+package pe.edu.upc.oss.group1.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import pe.edu.upc.oss.group1.entity.TenenciaEmpleadoDispositivo;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repositorio para los dispositivos en poder de cada empleado.
+ */
+@Repository
+public interface TenenciaEmpleadoDispositivoRepository extends JpaRepository<TenenciaEmpleadoDispositivo, Integer> {
+
+    /**
+     * Retorna los dispositivos en poder de un empleado, ordenados por tipo.
+     */
+    List<TenenciaEmpleadoDispositivo> findByIdEmpleadoOrderByIdTipoDispositivoAscIdDispositivoAsc(Integer idEmpleado);
+
+    /**
+     * Pasa de los dispositivos originales a los de reemplazo la tenencia de los reemplazos indicados:
+     * elimina la fila del original (si estaba en poder del empleado) e inserta la del reemplazo.
+     */
+    @Modifying
+    @Query(value = "WITH liberados AS (" +
+                   "  DELETE FROM tenencia_empleado_dispositivo t " +
+                   "  USING reemplazo_dispositivo r JOIN asignacion_dispositivo a ON a.id = r.id_asignacion_original " +
+                   "  WHERE r.id IN (:reemplazoIds) " +
+                   "  AND t.id_dispositivo = r.id_dispositivo_original AND t.id_empleado = a.id_empleado) " +
+                   "INSERT INTO tenencia_empleado_dispositivo (id_dispositivo, id_empleado, id_tipo_dispositivo, valor) " +
+                   "SELECT d.id, a.id_empleado, d.id_tipo_dispositivo, COALESCE(d.valor_adquisicion, 0) " +
+                   "FROM reemplazo_dispositivo r " +
+                   "JOIN asignacion_dispositivo a ON a.id = r.id_asignacion_original " +
+                   "JOIN dispositivo d ON d.id = r.id_dispositivo_reemplazo " +
+                   "WHERE r.id IN (:reemplazoIds)",
+           nativeQuery = true)
+    int moverPorReemplazos(@Param("reemplazoIds") Collection<Integer> reemplazoIds);
+
+    /**
+     * Elimina de la tenencia los dispositivos de las asignaciones activas de la solicitud.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM tenencia_empleado_dispositivo t " +
+                   "USING detalle_devolucion dd JOIN asignacion_dispositivo a ON a.id = dd.id_asignacion " +
+                   "WHERE dd.id_solicitud_devolucion = :solicitudId " +
+                   "AND a.id_estado_asignacion = :estadoActivaId " +
+                   "AND t.id_dispositivo = a.id_dispositivo AND t.id_empleado = a.id_empleado",
+           nativeQuery = true)
+    int liberarPorSolicitud(
+            @Param("solicitudId") Integer solicitudId,
+            @Param("estadoActivaId") Integer estadoActivaId);
+}
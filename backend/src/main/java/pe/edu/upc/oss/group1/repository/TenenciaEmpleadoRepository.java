@@ -0,0 +1,98 @@
+package pe.edu.upc.oss.group1.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import pe.edu.upc.oss.group1.entity.TenenciaEmpleado;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+
+/**
+ * Repositorio para el resumen de tenencia de dispositivos por empleado.
+ */
+@Repository
+public interface TenenciaEmpleadoRepository extends JpaRepository<TenenciaEmpleado, Integer> {
+
+    /**
+     * Ajusta conteo y valor con un UPDATE atómico, sin leer la fila antes.
+     * Dos asignaciones concurrentes al mismo empleado no pierden actualizaciones.
+     * Retorna 0 si el empleado aún no tiene fila de tenencia (para sumar, ver sumar).
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE TenenciaEmpleado t SET " +
+           "t.cantidadDispositivos = t.cantidadDispositivos + :cantidad, " +
+           "t.valorTotal = t.valorTotal + :valor, " +
+           "t.ultimaActualizacion = CURRENT_TIMESTAMP " +
+           "WHERE t.idEmpleado = :empleadoId")
+    int ajustar(@Param("empleadoId") Integer empleadoId,
+                @Param("cantidad") int cantidad,
+                @Param("valor") BigDecimal valor);
+
+    /**
+     * Suma al empleado con un único INSERT ... ON CONFLICT: crea la fila si aún no existe y,
+     * si otra transacción la creó al mismo tiempo, ajusta la existente en vez de fallar por la PK.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO tenencia_empleado (id_empleado, cantidad_dispositivos, valor_total) " +
+                   "VALUES (:empleadoId, :cantidad, :valor) " +
+                   "ON CONFLICT (id_empleado) DO UPDATE SET " +
+                   "  cantidad_dispositivos = tenencia_empleado.cantidad_dispositivos + EXCLUDED.cantidad_dispositivos, " +
+                   "  valor_total = tenencia_empleado.valor_total + EXCLUDED.valor_total, " +
+                   "  ultima_actualizacion = CURRENT_TIMESTAMP",
+           nativeQuery = true)
+    int sumar(@Param("empleadoId") Integer empleadoId,
+              @Param("cantidad") int cantidad,
+              @Param("valor") BigDecimal valor);
+
+    /**
+     * Ajusta la tenencia de los empleados de los reemplazos indicados: suma el valor del
+     * dispositivo de reemplazo y resta el del original (el registrado al entregarlo).
+     * Si el original no figuraba en su poder, la cantidad sube en uno. Crea la fila si falta.
+     * Debe ejecutarse antes de mover las filas de tenencia_empleado_dispositivo.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO tenencia_empleado (id_empleado, cantidad_dispositivos, valor_total) " +
+                   "SELECT a.id_empleado, " +
+                   "  SUM(CASE WHEN t.id_dispositivo IS NULL THEN 1 ELSE 0 END), " +
+                   "  SUM(COALESCE(d.valor_adquisicion, 0) - COALESCE(t.valor, 0)) " +
+                   "FROM reemplazo_dispositivo r " +
+                   "JOIN asignacion_dispositivo a ON a.id = r.id_asignacion_original " +
+                   "JOIN dispositivo d ON d.id = r.id_dispositivo_reemplazo " +
+                   "LEFT JOIN tenencia_empleado_dispositivo t " +
+                   "  ON t.id_dispositivo = r.id_dispositivo_original AND t.id_empleado = a.id_empleado " +
+                   "WHERE r.id IN (:reemplazoIds) " +
+                   "GROUP BY a.id_empleado " +
+                   "ON CONFLICT (id_empleado) DO UPDATE SET " +
+                   "  cantidad_dispositivos = tenencia_empleado.cantidad_dispositivos + EXCLUDED.cantidad_dispositivos, " +
+                   "  valor_total = tenencia_empleado.valor_total + EXCLUDED.valor_total, " +
+                   "  ultima_actualizacion = CURRENT_TIMESTAMP",
+           nativeQuery = true)
+    int ajustarPorReemplazos(@Param("reemplazoIds") Collection<Integer> reemplazoIds);
+
+    /**
+     * Descuenta de la tenencia los dispositivos de las asignaciones activas de la solicitud
+     * (el valor registrado al entregarlos). Debe ejecutarse antes de eliminar sus filas de
+     * tenencia_empleado_dispositivo y de cerrar las asignaciones.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE tenencia_empleado te SET " +
+                   "  cantidad_dispositivos = te.cantidad_dispositivos - x.cantidad, " +
+                   "  valor_total = te.valor_total - x.valor, " +
+                   "  ultima_actualizacion = CURRENT_TIMESTAMP " +
+                   "FROM (SELECT t.id_empleado, COUNT(*) AS cantidad, SUM(t.valor) AS valor " +
+                   "      FROM detalle_devolucion dd " +
+                   "      JOIN asignacion_dispositivo a ON a.id = dd.id_asignacion " +
+                   "      JOIN tenencia_empleado_dispositivo t " +
+                   "        ON t.id_dispositivo = a.id_dispositivo AND t.id_empleado = a.id_empleado " +
+                   "      WHERE dd.id_solicitud_devolucion = :solicitudId " +
+                   "      AND a.id_estado_asignacion = :estadoActivaId " +
+                   "      GROUP BY t.id_empleado) x " +
+                   "WHERE te.id_empleado = x.id_empleado",
+           nativeQuery = true)
+    int liberarPorSolicitud(
+            @Param("solicitudId") Integer solicitudId,
+            @Param("estadoActivaId") Integer estadoActivaId);
+}
@@ -4,6 +4,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import pe.edu.upc.oss.group1.entity.catalogo.CatCondicionDevolucion;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +22,11 @@ public interface CatCondicionDevolucionRepository extends JpaRepository<CatCondi
      */
     Optional<CatCondicionDevolucion> findByCodigo(String codigo);
 
+    /**
+     * Busca varios registros por código (consulta IN, usada por las consultas por lote).
+     */
+    List<CatCondicionDevolucion> findByCodigoIn(Collection<String> codigos);
+
     /**
      * Verifica si existe una condición con el código dado.
      * @param codigo código a verificar
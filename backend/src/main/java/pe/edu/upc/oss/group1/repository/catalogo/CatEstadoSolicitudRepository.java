@@ -4,6 +4,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoSolicitud;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +22,11 @@ public interface CatEstadoSolicitudRepository extends JpaRepository<CatEstadoSol
      */
     Optional<CatEstadoSolicitud> findByCodigo(String codigo);
 
+    /**
+     * Busca varios registros por código (consulta IN, usada por las consultas por lote).
+     */
+    List<CatEstadoSolicitud> findByCodigoIn(Collection<String> codigos);
+
     /**
      * Verifica si existe un estado con el código dado.
      * @param codigo código a verificar
@@ -4,6 +4,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import pe.edu.upc.oss.group1.entity.catalogo.CatMarca;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,6 +28,11 @@ public interface CatMarcaRepository extends JpaRepository<CatMarca, Integer> {
      */
     Optional<CatMarca> findByCodigo(String codigo);
 
+    /**
+     * Busca varios registros por código (consulta IN, usada por las consultas por lote).
+     */
+    List<CatMarca> findByCodigoIn(Collection<String> codigos);
+
     /**
      * Verifica si existe una marca con el código dado.
      * Más eficiente que findByCodigo() cuando solo necesitas saber si existe.
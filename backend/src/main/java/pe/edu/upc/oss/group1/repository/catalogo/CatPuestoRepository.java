@@ -4,6 +4,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import pe.edu.upc.oss.group1.entity.catalogo.CatPuesto;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +22,11 @@ public interface CatPuestoRepository extends JpaRepository<CatPuesto, Integer> {
      */
     Optional<CatPuesto> findByCodigo(String codigo);
 
+    /**
+     * Busca varios registros por código (consulta IN, usada por las consultas por lote).
+     */
+    List<CatPuesto> findByCodigoIn(Collection<String> codigos);
+
     /**
      * Verifica si existe un puesto con el código dado.
      * @param codigo código a verificar
@@ -0,0 +1,58 @@
+package pe.edu.upc.oss.group1.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import pe.edu.upc.oss.group1.entity.AsignacionDispositivo;
+import pe.edu.upc.oss.group1.entity.Dispositivo;
+import pe.edu.upc.oss.group1.entity.Empleado;
+import pe.edu.upc.oss.group1.exception.BusinessValidationException;
+import pe.edu.upc.oss.group1.repository.DispositivoRepository;
+
+/**
+ * Servicio para asignar "cualquier dispositivo disponible" de un tipo, marca y modelo.
+ *
+ * El dispositivo se reserva con SELECT ... FOR UPDATE SKIP LOCKED y se asigna en la misma
+ * transacción: operadores simultáneos reciben dispositivos distintos en lugar de competir
+ * por la misma fila de findDispositivosDisponibles, sin esperas, reintentos ni errores
+ * por contención. El bloqueo se libera al confirmar, cuando el dispositivo ya no está disponible.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+@Slf4j
+public class AsignacionAutomaticaService {
+
+    private final DispositivoRepository dispositivoRepository;
+    private final EmpleadoService empleadoService;
+    private final AsignacionDispositivoService asignacionService;
+
+    /**
+     * Reserva el siguiente dispositivo disponible que cumpla el criterio y lo asigna al empleado.
+     *
+     * @param marcaId opcional
+     * @param modelo  opcional
+     */
+    public AsignacionDispositivo asignarDisponible(Integer tipoDispositivoId,
+                                                   Integer marcaId,
+                                                   String modelo,
+                                                   AsignacionDispositivo asignacion) {
+        log.info("Asignando dispositivo disponible de tipo ID {} (marca ID {}, modelo {}) a empleado ID {}",
+                tipoDispositivoId, marcaId, modelo, asignacion.getEmpleado().getId());
+
+        // Se valida antes de reservar para no bloquear un dispositivo que no se va a asignar
+        Empleado empleado = empleadoService.findById(asignacion.getEmpleado().getId());
+        if (!empleado.isActivo()) {
+            throw new BusinessValidationException("El empleado no está activo");
+        }
+
+        Dispositivo dispositivo = dispositivoRepository.reservarSiguienteDisponible(tipoDispositivoId, marcaId, modelo)
+                .orElseThrow(() -> new BusinessValidationException(
+                        "No hay dispositivos disponibles que cumplan el criterio solicitado"));
+        log.debug("Dispositivo ID {} reservado para la asignación", dispositivo.getId());
+
+        asignacion.setDispositivo(dispositivo);
+        return asignacionService.crear(asignacion);
+    }
+}
@@ -2,23 +2,32 @@ package pe.edu.upc.oss.group1.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import pe.edu.upc.oss.group1.cache.CacheNames;
 import pe.edu.upc.oss.group1.entity.AsignacionDispositivo;
 import pe.edu.upc.oss.group1.entity.Dispositivo;
 import pe.edu.upc.oss.group1.entity.Empleado;
+import pe.edu.upc.oss.group1.entity.RegistroEliminado;
 import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoAsignacion;
 import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoDispositivo;
+import pe.edu.upc.oss.group1.evento.EventoCicloVida;
+import pe.edu.upc.oss.group1.evento.TipoEventoCicloVida;
 import pe.edu.upc.oss.group1.exception.BusinessValidationException;
 import pe.edu.upc.oss.group1.exception.ResourceNotFoundException;
+import pe.edu.upc.oss.group1.persistencia.LecturaSinEstado;
 import pe.edu.upc.oss.group1.repository.AsignacionDispositivoRepository;
+import pe.edu.upc.oss.group1.repository.RegistroEliminadoRepository;
 import pe.edu.upc.oss.group1.repository.catalogo.CatEstadoAsignacionRepository;
 import pe.edu.upc.oss.group1.repository.catalogo.CatEstadoDispositivoRepository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Servicio para gestión de asignaciones de dispositivos a empleados.
@@ -33,19 +42,47 @@ public class AsignacionDispositivoService {
     private static final String ASIGNACION_NOT_FOUND_MSG = "Asignación no encontrada con ID: ";
 
     private final AsignacionDispositivoRepository asignacionRepository;
+    private final RegistroEliminadoRepository registroEliminadoRepository;
     private final EmpleadoService empleadoService;
     private final DispositivoService dispositivoService;
     private final HistorialDispositivoService historialService;
+    private final TenenciaEmpleadoService tenenciaService;
     private final CatEstadoAsignacionRepository estadoAsignacionRepository;
     private final CatEstadoDispositivoRepository estadoDispositivoRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LecturaSinEstado lecturaSinEstado;
 
     /**
-     * Retorna todas las asignaciones.
+     * Listados para LecturaSinEstado con todo lo que lee AsignacionDispositivoMapper:
+     * el dispositivo y el empleado completos (como en DispositivoService y EmpleadoService).
+     */
+    static final String LISTADO = "SELECT a FROM AsignacionDispositivo a " +
+            "JOIN FETCH a.dispositivo d " +
+            "JOIN FETCH d.tipoDispositivo " +
+            "JOIN FETCH d.marca " +
+            "JOIN FETCH d.estadoDispositivo " +
+            "LEFT JOIN FETCH d.proveedor " +
+            "JOIN FETCH a.empleado e " +
+            "JOIN FETCH e.area ar " +
+            "LEFT JOIN FETCH ar.areaSuperior " +
+            "JOIN FETCH e.puesto p " +
+            "LEFT JOIN FETCH p.area " +
+            "JOIN FETCH e.sede " +
+            "JOIN FETCH e.estadoEmpleado " +
+            "JOIN FETCH a.usuarioAsigna " +
+            "LEFT JOIN FETCH a.usuarioRecibe " +
+            "JOIN FETCH a.estadoAsignacion ea";
+    static final String ACTIVAS = LISTADO + " WHERE ea.codigo = 'ACTIVA'";
+
+    /**
+     * Retorna todas las asignaciones, sin registrarlas en el contexto de persistencia (LecturaSinEstado).
+     * Los listados generales leen así; las asignaciones de un empleado o de un dispositivo son
+     * pocas filas y siguen en el repositorio, igual que las consultas por ID y por lote.
      */
     @Transactional(readOnly = true)
     public List<AsignacionDispositivo> findAll() {
         log.debug("Buscando todas las asignaciones");
-        return asignacionRepository.findAll();
+        return lecturaSinEstado.listar(LISTADO, AsignacionDispositivo.class);
     }
 
     /**
@@ -54,7 +91,7 @@ public class AsignacionDispositivoService {
     @Transactional(readOnly = true)
     public List<AsignacionDispositivo> findAllActivas() {
         log.debug("Buscando asignaciones activas");
-        return asignacionRepository.findAllAsignacionesActivas();
+        return lecturaSinEstado.listar(ACTIVAS, AsignacionDispositivo.class);
     }
 
     /**
@@ -63,7 +100,7 @@ public class AsignacionDispositivoService {
     @Transactional(readOnly = true)
     public Page<AsignacionDispositivo> findAllActivas(Pageable pageable) {
         log.debug("Buscando asignaciones activas con paginación");
-        return asignacionRepository.findAllAsignacionesActivas(pageable);
+        return lecturaSinEstado.paginar(ACTIVAS, AsignacionDispositivo.class, Map.of(), pageable);
     }
 
     /**
@@ -86,6 +123,16 @@ public class AsignacionDispositivoService {
                 .orElseThrow(() -> new ResourceNotFoundException(ASIGNACION_NOT_FOUND_MSG + id));
     }
 
+    /**
+     * Busca varias asignaciones por ID con todas sus relaciones cargadas (no tienen código).
+     */
+    @Transactional(readOnly = true)
+    public ResultadoLote<AsignacionDispositivo> findLote(ConsultaLote consulta) {
+        log.debug("Buscando asignaciones por lote: {}", consulta);
+        return consulta.resolver(asignacionRepository::findAllByIdInWithRelations, null,
+                AsignacionDispositivo::getId, null);
+    }
+
     /**
      * Retorna asignaciones de un empleado.
      */
@@ -114,17 +161,18 @@ public class AsignacionDispositivoService {
     }
 
     /**
-     * Cuenta dispositivos asignados a un empleado.
+     * Cuenta dispositivos asignados a un empleado (desde el resumen de tenencia).
      */
     @Transactional(readOnly = true)
     public Long countDispositivosAsignados(Integer empleadoId) {
         log.debug("Contando dispositivos asignados al empleado ID: {}", empleadoId);
-        return asignacionRepository.countDispositivosAsignadosByEmpleado(empleadoId);
+        return tenenciaService.contarDispositivos(empleadoId);
     }
 
     /**
      * Crea una nueva asignación de dispositivo a empleado.
      */
+    @CacheEvict(cacheNames = {CacheNames.DISPOSITIVOS, CacheNames.ASIGNACIONES}, allEntries = true)
     public AsignacionDispositivo crear(AsignacionDispositivo asignacion) {
         log.info("Creando asignación de dispositivo ID {} a empleado ID {}",
                 asignacion.getDispositivo().getId(),
@@ -140,10 +188,9 @@ public class AsignacionDispositivoService {
             throw new BusinessValidationException("El dispositivo no está disponible para asignación");
         }
 
-        asignacionRepository.findAsignacionActivaByDispositivo(dispositivo.getId())
-                .ifPresent(a -> {
-                    throw new BusinessValidationException("El dispositivo ya está asignado");
-                });
+        if (tenenciaService.estaAsignado(dispositivo.getId())) {
+            throw new BusinessValidationException("El dispositivo ya está asignado");
+        }
 
         // Ensure full entities are set to avoid issues with mappers accessing null fields
         asignacion.setEmpleado(empleado);
@@ -161,7 +208,9 @@ public class AsignacionDispositivoService {
                 .orElseThrow(() -> new ResourceNotFoundException("Estado ASIGNADO no encontrado"));
         dispositivo.setEstadoDispositivo(estadoAsignado);
 
+        tenenciaService.registrarEntrega(empleado.getId(), dispositivo);
         historialService.registrarAsignacion(dispositivo, empleado, asignacion.getUsuarioAsigna());
+        eventPublisher.publishEvent(EventoCicloVida.deAsignacion(TipoEventoCicloVida.ASIGNACION_CREADA, saved));
 
         log.info("Asignación creada exitosamente con ID: {}", saved.getId());
         return asignacionRepository.findByIdWithRelations(saved.getId())
@@ -171,6 +220,7 @@ public class AsignacionDispositivoService {
     /**
      * Registra la devolución de un dispositivo asignado.
      */
+    @CacheEvict(cacheNames = {CacheNames.DISPOSITIVOS, CacheNames.ASIGNACIONES}, allEntries = true)
     public AsignacionDispositivo registrarDevolucion(Integer asignacionId, String observaciones, Integer usuarioRecibeId) {
         log.info("Registrando devolución de asignación ID: {}", asignacionId);
 
@@ -199,7 +249,9 @@ public class AsignacionDispositivoService {
                 .orElseThrow(() -> new ResourceNotFoundException("Estado DISPONIBLE no encontrado"));
         dispositivo.setEstadoDispositivo(estadoDisponible);
 
+        tenenciaService.registrarLiberacion(asignacion.getEmpleado().getId(), dispositivo.getId());
         historialService.registrarDevolucion(dispositivo, asignacion.getEmpleado(), asignacion.getUsuarioRecibe());
+        eventPublisher.publishEvent(EventoCicloVida.deAsignacion(TipoEventoCicloVida.DEVOLUCION_REGISTRADA, asignacion));
 
         log.info("Devolución registrada exitosamente");
         return updated;
@@ -208,6 +260,7 @@ public class AsignacionDispositivoService {
     /**
      * Cancela una asignación activa.
      */
+    @CacheEvict(cacheNames = {CacheNames.DISPOSITIVOS, CacheNames.ASIGNACIONES}, allEntries = true)
     public void cancelar(Integer asignacionId, String motivo) {
         log.info("Cancelando asignación ID: {}", asignacionId);
 
@@ -231,15 +284,22 @@ public class AsignacionDispositivoService {
                 .orElseThrow(() -> new ResourceNotFoundException("Estado DISPONIBLE no encontrado"));
         dispositivo.setEstadoDispositivo(estadoDisponible);
 
+        tenenciaService.registrarLiberacion(asignacion.getEmpleado().getId(), dispositivo.getId());
+        eventPublisher.publishEvent(EventoCicloVida.deAsignacion(TipoEventoCicloVida.ASIGNACION_CANCELADA, asignacion));
         log.info("Asignación cancelada exitosamente");
     }
 
     /**
      * Elimina una asignación.
      */
+    @CacheEvict(cacheNames = {CacheNames.DISPOSITIVOS, CacheNames.ASIGNACIONES}, allEntries = true)
     public void delete(Integer id) {
         log.warn("Eliminando asignación con ID: {}", id);
         AsignacionDispositivo asignacion = findById(id);
+        if (asignacion.isActiva()) {
+            tenenciaService.registrarLiberacion(asignacion.getEmpleado().getId(), asignacion.getDispositivo().getId());
+        }
         asignacionRepository.delete(asignacion);
+        registroEliminadoRepository.save(new RegistroEliminado(RegistroEliminado.ASIGNACIONES, id));
     }
 }
@@ -0,0 +1,223 @@
+package pe.edu.upc.oss.group1.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import pe.edu.upc.oss.group1.cache.CacheNames;
+import pe.edu.upc.oss.group1.cache.InvalidacionCacheBus;
+import pe.edu.upc.oss.group1.entity.CambioEstadoMasivo;
+import pe.edu.upc.oss.group1.evento.DispositivosModificados;
+import pe.edu.upc.oss.group1.evento.EventoCicloVida;
+import pe.edu.upc.oss.group1.evento.TipoEventoCicloVida;
+import pe.edu.upc.oss.group1.exception.BusinessValidationException;
+import pe.edu.upc.oss.group1.exception.ResourceNotFoundException;
+import pe.edu.upc.oss.group1.repository.CambioEstadoMasivoRepository;
+import pe.edu.upc.oss.group1.repository.DispositivoRepository;
+import pe.edu.upc.oss.group1.repository.DispositivoRepository.FilaCambioEstado;
+import pe.edu.upc.oss.group1.repository.UsuarioRepository;
+import pe.edu.upc.oss.group1.repository.catalogo.CatEstadoDispositivoRepository;
+import pe.edu.upc.oss.group1.repository.catalogo.CatTipoMovimientoRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Servicio para cambiar el estado de muchos dispositivos a la vez (p. ej. una línea de modelo a BAJA).
+ *
+ * El trabajo corre en segundo plano en lotes de {@value #TAMANIO_LOTE} dispositivos, cada lote en
+ * su propia transacción: los bloqueos de fila duran lo que tarda un lote y no todo el trabajo.
+ * Cada lote actualiza los estados y registra su historial con una sola sentencia
+ * (DispositivoRepository.cambiarEstadoConHistorial) y publica, como updateEstado de
+ * DispositivoService, un ESTADO_CAMBIADO por dispositivo que se entrega después del commit
+ * del lote. Si un lote falla, los anteriores quedan confirmados y el trabajo termina como
+ * FALLIDO; repetirlo omite los que ya cambiaron.
+ *
+ * Los trabajos se ejecutan de a uno por instancia. El progreso se guarda en la tabla
+ * cambio_estado_masivo en la transacción de cada lote, así que cualquier instancia lo
+ * responde; se conserva {@link #RETENCION} después de terminar. Si la instancia que ejecuta
+ * el trabajo se detiene, el trabajo queda EN_CURSO con el progreso del último lote confirmado.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+@Slf4j
+public class CambioEstadoMasivoService {
+
+    static final int TAMANIO_LOTE = 500;
+    private static final Duration RETENCION = Duration.ofHours(1);
+
+    private final DispositivoRepository dispositivoRepository;
+    private final CatEstadoDispositivoRepository estadoDispositivoRepository;
+    private final CatTipoMovimientoRepository tipoMovimientoRepository;
+    private final UsuarioRepository usuarioRepository;
+    private final CambioEstadoMasivoRepository cambioEstadoMasivoRepository;
+    private final InvalidacionCacheBus invalidacionCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ExecutorService ejecutor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("cambio-estado-masivo").daemon().factory());
+
+    /**
+     * Valida la solicitud, calcula el total de dispositivos afectados, registra el trabajo e
+     * inicia su ejecución en segundo plano cuando se confirma el registro.
+     */
+    public CambioEstadoMasivo iniciar(CriteriosCambioEstado criterios, Integer estadoId,
+                                      Integer usuarioId, String observacion) {
+        validarCriterios(criterios);
+
+        String estadoCodigo = estadoDispositivoRepository.findById(estadoId)
+                .orElseThrow(() -> new ResourceNotFoundException("Estado de dispositivo no encontrado con ID: " + estadoId))
+                .getCodigo();
+        if (!usuarioRepository.existsById(usuarioId)) {
+            throw new ResourceNotFoundException("Usuario no encontrado con ID: " + usuarioId);
+        }
+        Integer tipoMovimientoId = tipoMovimientoRepository.findByCodigo("CAMBIO_ESTADO")
+                .orElseThrow(() -> new ResourceNotFoundException("Tipo de movimiento CAMBIO_ESTADO no encontrado"))
+                .getId();
+
+        List<Integer> ids = criterios.porIds()
+                ? criterios.ids().stream().distinct().sorted().toList()
+                : null;
+        long total = ids != null
+                ? ids.size()
+                : dispositivoRepository.countParaCambioEstado(estadoId, criterios.tipoId(), criterios.marcaId(),
+                        criterios.modelo(), criterios.desde(), criterios.hasta());
+
+        cambioEstadoMasivoRepository.eliminarTerminadosAntesDe(LocalDateTime.now().minus(RETENCION));
+        CambioEstadoMasivo trabajo = cambioEstadoMasivoRepository.save(new CambioEstadoMasivo(estadoId, total));
+        log.info("Cambio de estado masivo {} iniciado: {} dispositivos a estado ID {}", trabajo.getId(), total, estadoId);
+
+        CriteriosCambioEstado ordenados = ids != null
+                ? new CriteriosCambioEstado(ids, null, null, null, null, null)
+                : criterios;
+        // El hilo del trabajo actualiza la fila de progreso: debe existir antes de que empiece
+        Runnable tarea = () -> ejecutar(trabajo, ordenados, estadoCodigo, tipoMovimientoId, usuarioId, observacion);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    ejecutor.execute(tarea);
+                }
+            });
+        } else {
+            ejecutor.execute(tarea);
+        }
+        return trabajo;
+    }
+
+    /**
+     * Retorna el progreso de un trabajo, iniciado en esta o en otra instancia.
+     */
+    @Transactional(readOnly = true)
+    public CambioEstadoMasivo findById(UUID id) {
+        return cambioEstadoMasivoRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Cambio de estado masivo no encontrado con ID: " + id));
+    }
+
+    /**
+     * Procesa el trabajo lote por lote. Por IDs recorre la lista ordenada; por filtro pide
+     * el siguiente lote a partir del último ID procesado.
+     */
+    void ejecutar(CambioEstadoMasivo trabajo, CriteriosCambioEstado criterios, String estadoCodigo,
+                  Integer tipoMovimientoId, Integer usuarioId, String observacion) {
+        Integer estadoId = trabajo.getEstadoDestinoId();
+        try {
+            int posicion = 0;
+            Integer ultimoId = 0;
+            while (true) {
+                List<Integer> lote;
+                if (criterios.porIds()) {
+                    List<Integer> ids = criterios.ids();
+                    lote = ids.subList(posicion, Math.min(posicion + TAMANIO_LOTE, ids.size()));
+                    posicion += lote.size();
+                } else {
+                    lote = dispositivoRepository.findIdsParaCambioEstado(estadoId, criterios.tipoId(),
+                            criterios.marcaId(), criterios.modelo(), criterios.desde(), criterios.hasta(),
+                            ultimoId, TAMANIO_LOTE);
+                }
+                if (lote.isEmpty()) {
+                    break;
+                }
+
+                Integer cambiados = transactionTemplate.execute(status -> {
+                    int n = cambiarLote(lote, estadoId, estadoCodigo, tipoMovimientoId, usuarioId, observacion);
+                    cambioEstadoMasivoRepository.registrarLote(trabajo.getId(), lote.size(), n);
+                    return n;
+                });
+                trabajo.registrarLote(lote.size(), cambiados != null ? cambiados : 0);
+                ultimoId = lote.get(lote.size() - 1);
+                log.debug("Cambio de estado masivo {}: {}/{} dispositivos procesados",
+                        trabajo.getId(), trabajo.getProcesados(), trabajo.getTotal());
+            }
+            trabajo.completar();
+            cambioEstadoMasivoRepository.save(trabajo);
+            log.info("Cambio de estado masivo {} completado: {} dispositivos cambiados de {} revisados",
+                    trabajo.getId(), trabajo.getCambiados(), trabajo.getProcesados());
+        } catch (RuntimeException e) {
+            trabajo.fallar(e.getMessage());
+            log.error("Cambio de estado masivo {} falló después de {} dispositivos",
+                    trabajo.getId(), trabajo.getProcesados(), e);
+            guardarFallido(trabajo);
+        }
+    }
+
+    /**
+     * Cambia el estado de los dispositivos del lote que aún no lo tienen. Los bloquea primero
+     * para saber exactamente cuáles cambian y publicar sus eventos con el titular vigente.
+     */
+    private int cambiarLote(List<Integer> lote, Integer estadoId, String estadoCodigo,
+                            Integer tipoMovimientoId, Integer usuarioId, String observacion) {
+        List<FilaCambioEstado> filas = dispositivoRepository.bloquearParaCambioEstado(lote, estadoId);
+        if (filas.isEmpty()) {
+            return 0;
+        }
+        List<Integer> ids = filas.stream().map(FilaCambioEstado::getId).toList();
+        int cambiados = dispositivoRepository.cambiarEstadoConHistorial(
+                ids, estadoId, tipoMovimientoId, usuarioId, observacion);
+
+        for (FilaCambioEstado fila : filas) {
+            eventPublisher.publishEvent(EventoCicloVida.deDispositivo(TipoEventoCicloVida.ESTADO_CAMBIADO,
+                    fila.getId(), fila.getCodigoActivo(), fila.getEmpleadoId(), fila.getSedeId(),
+                    fila.getAreaId(), estadoCodigo));
+        }
+        eventPublisher.publishEvent(DispositivosModificados.de(ids));
+        invalidacionCache.invalidar(CacheNames.DISPOSITIVOS);
+        return cambiados;
+    }
+
+    private void guardarFallido(CambioEstadoMasivo trabajo) {
+        try {
+            cambioEstadoMasivoRepository.save(trabajo);
+        } catch (RuntimeException e) {
+            log.error("No se pudo registrar el fallo del cambio de estado masivo {}", trabajo.getId(), e);
+        }
+    }
+
+    private static void validarCriterios(CriteriosCambioEstado criterios) {
+        if (criterios.porIds() && criterios.tieneFiltro()) {
+            throw new BusinessValidationException("Indique una lista de IDs o criterios de filtro, no ambos");
+        }
+        if (!criterios.porIds() && !criterios.tieneFiltro()) {
+            throw new BusinessValidationException("Indique una lista de IDs o al menos un criterio de filtro");
+        }
+        if (criterios.desde() != null && criterios.hasta() != null && criterios.desde().isAfter(criterios.hasta())) {
+            throw new BusinessValidationException("La fecha de adquisición inicial no puede ser posterior a la final");
+        }
+    }
+
+    @PreDestroy
+    void detener() {
+        ejecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,30 @@
+package pe.edu.upc.oss.group1.service;
+
+import pe.edu.upc.oss.group1.entity.AsignacionDispositivo;
+import pe.edu.upc.oss.group1.entity.BaseEntity;
+import pe.edu.upc.oss.group1.entity.Dispositivo;
+import pe.edu.upc.oss.group1.entity.Empleado;
+import pe.edu.upc.oss.group1.entity.RegistroEliminado;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Página de cambios de la sincronización incremental.
+ *
+ * @param marca        marca para pedir la siguiente página o, sin más páginas, la siguiente sincronización
+ * @param hayMas       si quedan cambios por leer en esta sincronización
+ * @param reiniciar    copia completa: el cliente descarta sus datos locales antes de aplicarla
+ * @param catalogos    catálogos modificados, por nombre de catálogo (el mismo de /api/v1/catalogos/...)
+ * @param empleados    empleados creados o modificados
+ * @param dispositivos dispositivos creados o modificados
+ * @param asignaciones asignaciones creadas o modificadas
+ * @param eliminados   registros eliminados físicamente
+ */
+public record CambiosSincronizacion(String marca, boolean hayMas, boolean reiniciar,
+                                    Map<String, List<BaseEntity>> catalogos,
+                                    List<Empleado> empleados,
+                                    List<Dispositivo> dispositivos,
+                                    List<AsignacionDispositivo> asignaciones,
+                                    List<RegistroEliminado> eliminados) {
+}
@@ -2,12 +2,15 @@ package pe.edu.upc.oss.group1.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import pe.edu.upc.oss.group1.cache.CacheNames;
 import pe.edu.upc.oss.group1.entity.catalogo.CatArea;
-import pe.edu.upc.oss.group1.exception.DuplicateResourceException;
 import pe.edu.upc.oss.group1.exception.ResourceNotFoundException;
 import pe.edu.upc.oss.group1.repository.catalogo.CatAreaRepository;
+import pe.edu.upc.oss.group1.unicidad.RestriccionUnica;
+import pe.edu.upc.oss.group1.unicidad.VerificadorUnicidad;
 
 import java.util.List;
 
@@ -22,19 +25,18 @@ import java.util.List;
 public class CatAreaService {
 
     private final CatAreaRepository catAreaRepository;
+    private final VerificadorUnicidad verificadorUnicidad;
 
     /**
      * Crea una nueva área.
-     * Valida que el código no esté duplicado.
+     * El código duplicado lo rechaza la restricción UNIQUE (VerificadorUnicidad).
      */
+    @CacheEvict(cacheNames = CacheNames.CAT_AREA, allEntries = true)
     public CatArea create(CatArea area) {
         log.debug("Creando área con código: {}", area.getCodigo());
 
-        if (catAreaRepository.existsByCodigo(area.getCodigo())) {
-            throw new DuplicateResourceException("Área", "código", area.getCodigo());
-        }
-
-        CatArea saved = catAreaRepository.save(area);
+        CatArea saved = verificadorUnicidad.guardar(() -> catAreaRepository.saveAndFlush(area),
+                RestriccionUnica.CAT_AREA_CODIGO.con(area.getCodigo()));
         log.info("Área creada exitosamente con ID: {}", saved.getId());
         return saved;
     }
@@ -48,6 +50,16 @@ public class CatAreaService {
         return catAreaRepository.findAll();
     }
 
+    /**
+     * Obtiene varias áreas por ID o por código, en bloques IN.
+     */
+    @Transactional(readOnly = true)
+    public ResultadoLote<CatArea> findLote(ConsultaLote consulta) {
+        log.debug("Obteniendo áreas por lote");
+        return consulta.resolver(catAreaRepository::findAllById, catAreaRepository::findByCodigoIn,
+                CatArea::getId, CatArea::getCodigo);
+    }
+
     /**
      * Obtiene solo las áreas activas.
      */
@@ -79,26 +91,22 @@ public class CatAreaService {
 
     /**
      * Actualiza un área existente.
-     * Valida que el código no esté duplicado (si se modifica).
+     * El código duplicado lo rechaza la restricción UNIQUE (VerificadorUnicidad).
      */
+    @CacheEvict(cacheNames = CacheNames.CAT_AREA, allEntries = true)
     public CatArea update(Integer id, CatArea area) {
         log.debug("Actualizando área con ID: {}", id);
 
         CatArea existing = findById(id);
 
-        // Validar código duplicado solo si cambió
-        if (!existing.getCodigo().equals(area.getCodigo()) &&
-            catAreaRepository.existsByCodigo(area.getCodigo())) {
-            throw new DuplicateResourceException("Área", "código", area.getCodigo());
-        }
-
         existing.setCodigo(area.getCodigo());
         existing.setNombre(area.getNombre());
         existing.setDescripcion(area.getDescripcion());
         existing.setAreaSuperior(area.getAreaSuperior());
         existing.setActivo(area.getActivo());
 
-        CatArea updated = catAreaRepository.save(existing);
+        CatArea updated = verificadorUnicidad.guardar(() -> catAreaRepository.saveAndFlush(existing),
+                RestriccionUnica.CAT_AREA_CODIGO.con(existing.getCodigo()));
         log.info("Área actualizada exitosamente con ID: {}", id);
         return updated;
     }
@@ -106,6 +114,7 @@ public class CatAreaService {
     /**
      * Elimina lógicamente un área (soft delete).
      */
+    @CacheEvict(cacheNames = CacheNames.CAT_AREA, allEntries = true)
     public void delete(Integer id) {
         log.debug("Eliminando (soft delete) área con ID: {}", id);
 
@@ -2,12 +2,16 @@ package pe.edu.upc.oss.group1.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import pe.edu.upc.oss.group1.cache.CacheNames;
 import pe.edu.upc.oss.group1.entity.catalogo.CatCondicionDevolucion;
-import pe.edu.upc.oss.group1.exception.DuplicateResourceException;
 import pe.edu.upc.oss.group1.exception.ResourceNotFoundException;
 import pe.edu.upc.oss.group1.repository.catalogo.CatCondicionDevolucionRepository;
+import pe.edu.upc.oss.group1.unicidad.RestriccionUnica;
+import pe.edu.upc.oss.group1.unicidad.VerificadorUnicidad;
 
 import java.util.List;
 
@@ -22,19 +26,18 @@ import java.util.List;
 public class CatCondicionDevolucionService {
 
     private final CatCondicionDevolucionRepository catCondicionDevolucionRepository;
+    private final VerificadorUnicidad verificadorUnicidad;
 
     /**
      * Crea una nueva condición de devolución.
-     * Valida que el código no esté duplicado.
+     * El código duplicado lo rechaza la restricción UNIQUE (VerificadorUnicidad).
      */
+    @CacheEvict(cacheNames = CacheNames.CAT_CONDICION_DEVOLUCION, allEntries = true)
     public CatCondicionDevolucion create(CatCondicionDevolucion condicionDevolucion) {
         log.debug("Creando condición de devolución con código: {}", condicionDevolucion.getCodigo());
 
-        if (catCondicionDevolucionRepository.existsByCodigo(condicionDevolucion.getCodigo())) {
-            throw new DuplicateResourceException("Condición de devolución", "código", condicionDevolucion.getCodigo());
-        }
-
-        CatCondicionDevolucion saved = catCondicionDevolucionRepository.save(condicionDevolucion);
+        CatCondicionDevolucion saved = verificadorUnicidad.guardar(() -> catCondicionDevolucionRepository.saveAndFlush(condicionDevolucion),
+                RestriccionUnica.CAT_CONDICION_DEVOLUCION_CODIGO.con(condicionDevolucion.getCodigo()));
         log.info("Condición de devolución creada exitosamente con ID: {}", saved.getId());
         return saved;
     }
@@ -43,15 +46,27 @@ public class CatCondicionDevolucionService {
      * Obtiene todas las condiciones de devolución.
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.CAT_CONDICION_DEVOLUCION, key = CacheNames.KEY_TODOS)
     public List<CatCondicionDevolucion> findAll() {
         log.debug("Obteniendo todas las condiciones de devolución");
         return catCondicionDevolucionRepository.findAll();
     }
 
+    /**
+     * Obtiene varias condiciones de devolución por ID o por código, en bloques IN.
+     */
+    @Transactional(readOnly = true)
+    public ResultadoLote<CatCondicionDevolucion> findLote(ConsultaLote consulta) {
+        log.debug("Obteniendo condiciones de devolución por lote");
+        return consulta.resolver(catCondicionDevolucionRepository::findAllById, catCondicionDevolucionRepository::findByCodigoIn,
+                CatCondicionDevolucion::getId, CatCondicionDevolucion::getCodigo);
+    }
+
     /**
      * Obtiene solo las condiciones activas.
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.CAT_CONDICION_DEVOLUCION, key = CacheNames.KEY_ACTIVOS)
     public List<CatCondicionDevolucion> findAllActive() {
         log.debug("Obteniendo condiciones de devolución activas");
         return catCondicionDevolucionRepository.findByActivoTrue();
@@ -79,25 +94,21 @@ public class CatCondicionDevolucionService {
 
     /**
      * Actualiza una condición de devolución existente.
-     * Valida que el código no esté duplicado (si se modifica).
+     * El código duplicado lo rechaza la restricción UNIQUE (VerificadorUnicidad).
      */
+    @CacheEvict(cacheNames = CacheNames.CAT_CONDICION_DEVOLUCION, allEntries = true)
     public CatCondicionDevolucion update(Integer id, CatCondicionDevolucion condicionDevolucion) {
         log.debug("Actualizando condición de devolución con ID: {}", id);
 
         CatCondicionDevolucion existing = findById(id);
 
-        // Validar código duplicado solo si cambió
-        if (!existing.getCodigo().equals(condicionDevolucion.getCodigo()) &&
-            catCondicionDevolucionRepository.existsByCodigo(condicionDevolucion.getCodigo())) {
-            throw new DuplicateResourceException("Condición de devolución", "código", condicionDevolucion.getCodigo());
-        }
-
         existing.setCodigo(condicionDevolucion.getCodigo());
         existing.setNombre(condicionDevolucion.getNombre());
         existing.setDescripcion(condicionDevolucion.getDescripcion());
         existing.setActivo(condicionDevolucion.getActivo());
 
-        CatCondicionDevolucion updated = catCondicionDevolucionRepository.save(existing);
+        CatCondicionDevolucion updated = verificadorUnicidad.guardar(() -> catCondicionDevolucionRepository.saveAndFlush(existing),
+                RestriccionUnica.CAT_CONDICION_DEVOLUCION_CODIGO.con(existing.getCodigo()));
         log.info("Condición de devolución actualizada exitosamente con ID: {}", id);
         return updated;
     }
@@ -105,6 +116,7 @@ public class CatCondicionDevolucionService {
     /**
      * Elimina lógicamente una condición de devolución (soft delete).
      */
+    @CacheEvict(cacheNames = CacheNames.CAT_CONDICION_DEVOLUCION, allEntries = true)
     public void delete(Integer id) {
         log.debug("Eliminando (soft delete) condición de devolución con ID: {}", id);
 
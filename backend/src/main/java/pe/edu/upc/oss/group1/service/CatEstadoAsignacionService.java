@@ -2,12 +2,16 @@ package pe.edu.upc.oss.group1.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import pe.edu.upc.oss.group1.cache.CacheNames;
 import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoAsignacion;
-import pe.edu.upc.oss.group1.exception.DuplicateResourceException;
 import pe.edu.upc.oss.group1.exception.ResourceNotFoundException;
 import pe.edu.upc.oss.group1.repository.catalogo.CatEstadoAsignacionRepository;
+import pe.edu.upc.oss.group1.unicidad.RestriccionUnica;
+import pe.edu.upc.oss.group1.unicidad.VerificadorUnicidad;
 
 import java.util.List;
 
@@ -22,19 +26,18 @@ import java.util.List;
 public class CatEstadoAsignacionService {
 
     private final CatEstadoAsignacionRepository catEstadoAsignacionRepository;
+    private final VerificadorUnicidad verificadorUnicidad;
 
     /**
      * Crea un nuevo estado de asignación.
-     * Valida que el código no esté duplicado.
+     * El código duplicado lo rechaza la restricción UNIQUE (VerificadorUnicidad).
      */
+    @CacheEvict(cacheNames = CacheNames.CAT_ESTADO_ASIGNACION, allEntries = true)
     public CatEstadoAsignacion create(CatEstadoAsignacion estadoAsignacion) {
         log.debug("Creando estado de asignación con código: {}", estadoAsignacion.getCodigo());
 
-        if (catEstadoAsignacionRepository.existsByCodigo(estadoAsignacion.getCodigo())) {
-            throw new DuplicateResourceException("Estado de asignación", "código", estadoAsignacion.getCodigo());
-        }
-
-        CatEstadoAsignacion saved = catEstadoAsignacionRepository.save(estadoAsignacion);
+        CatEstadoAsignacion saved = verificadorUnicidad.guardar(() -> catEstadoAsignacionRepository.saveAndFlush(estadoAsignacion),
+                RestriccionUnica.CAT_ESTADO_ASIGNACION_CODIGO.con(estadoAsignacion.getCodigo()));
         log.info("Estado de asignación creado exitosamente con ID: {}", saved.getId());
         return saved;
     }
@@ -43,15 +46,27 @@ public class CatEstadoAsignacionService {
      * Obtiene todos los estados de asignación.
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.CAT_ESTADO_ASIGNACION, key = CacheNames.KEY_TODOS)
     public List<CatEstadoAsignacion> findAll() {
         log.debug("Obteniendo todos los estados de asignación");
         return catEstadoAsignacionRepository.findAll();
     }
 
+    /**
+     * Obtiene varios estados de asignación por ID o por código, en bloques IN.
+     */
+    @Transactional(readOnly = true)
+    public ResultadoLote<CatEstadoAsignacion> findLote(ConsultaLote consulta) {
+        log.debug("Obteniendo estados de asignación por lote");
+        return consulta.resolver(catEstadoAsignacionRepository::findAllById, catEstadoAsignacionRepository::findByCodigoIn,
+                CatEstadoAsignacion::getId, CatEstadoAsignacion::getCodigo);
+    }
+
     /**
      * Obtiene solo los estados activos.
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.CAT_ESTADO_ASIGNACION, key = CacheNames.KEY_ACTIVOS)
     public List<CatEstadoAsignacion> findAllActive() {
         log.debug("Obteniendo estados de asignación activos");
         return catEstadoAsignacionRepository.findByActivoTrue();
@@ -79,25 +94,21 @@ public class CatEstadoAsignacionService {
 
     /**
      * Actualiza un estado de asignación existente.
-     * Valida que el código no esté duplicado (si se modifica).
+     * El código duplicado lo rechaza la restricción UNIQUE (VerificadorUnicidad).
      */
+    @CacheEvict(cacheNames = CacheNames.CAT_ESTADO_ASIGNACION, allEntries = true)
     public CatEstadoAsignacion update(Integer id, CatEstadoAsignacion estadoAsignacion) {
         log.debug("Actualizando estado de asignación con ID: {}", id);
 
         CatEstadoAsignacion existing = findById(id);
 
-        // Validar código duplicado solo si cambió
-        if (!existing.getCodigo().equals(estadoAsignacion.getCodigo()) &&
-            catEstadoAsignacionRepository.existsByCodigo(estadoAsignacion.getCodigo())) {
-            throw new DuplicateResourceException("Estado de asignación", "código", estadoAsignacion.getCodigo());
-        }
-
         existing.setCodigo(estadoAsignacion.getCodigo());
         existing.setNombre(estadoAsignacion.getNombre());
         existing.setDescripcion(estadoAsignacion.getDescripcion());
         existing.setActivo(estadoAsignacion.getActivo());
 
-        CatEstadoAsignacion updated = catEstadoAsignacionRepository.save(existing);
+        CatEstadoAsignacion updated = verificadorUnicidad.guardar(() -> catEstadoAsignacionRepository.saveAndFlush(existing),
+                RestriccionUnica.CAT_ESTADO_ASIGNACION_CODIGO.con(existing.getCodigo()));
         log.info("Estado de asignación actualizado exitosamente con ID: {}", id);
         return updated;
     }
@@ -105,6 +116,7 @@ public class CatEstadoAsignacionService {
     /**
      * Elimina lógicamente un estado de asignación (soft delete).
      */
+    @CacheEvict(cacheNames = CacheNames.CAT_ESTADO_ASIGNACION, allEntries = true)
     public void delete(Integer id) {
         log.debug("Eliminando (soft delete) estado de asignación con ID: {}", id);
 
@@ -2,12 +2,16 @@ package pe.edu.upc.oss.group1.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import pe.edu.upc.oss.group1.cache.CacheNames;
 import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoDispositivo;
-import pe.edu.upc.oss.group1.exception.DuplicateResourceException;
 import pe.edu.upc.oss.group1.exception.ResourceNotFoundException;
 import pe.edu.upc.oss.group1.repository.catalogo.CatEstadoDispositivoRepository;
+import pe.edu.upc.oss.group1.unicidad.RestriccionUnica;
+import pe.edu.upc.oss.group1.unicidad.VerificadorUnicidad;
 
 import java.util.List;
 
@@ -22,19 +26,18 @@ import java.util.List;
 public class CatEstadoDispositivoService {
 
     private final CatEstadoDispositivoRepository catEstadoDispositivoRepository;
+    private final VerificadorUnicidad verificadorUnicidad;
 
     /**
      * Crea un nuevo estado de dispositivo.
-     * Valida que el código no esté duplicado.
+     * El código duplicado lo rechaza la restricción UNIQUE (VerificadorUnicidad).
      */
+    @CacheEvict(cacheNames = CacheNames.CAT_ESTADO_DISPOSITIVO, allEntries = true)
     public CatEstadoDispositivo create(CatEstadoDispositivo estadoDispositivo) {
         log.debug("Creando estado de dispositivo con código: {}", estadoDispositivo.getCodigo());
 
-        if (catEstadoDispositivoRepository.existsByCodigo(estadoDispositivo.getCodigo())) {
-            throw new DuplicateResourceException("Estado de dispositivo", "código", estadoDispositivo.getCodigo());
-        }
-
-        CatEstadoDispositivo saved = catEstadoDispositivoRepository.save(estadoDispositivo);
+        CatEstadoDispositivo saved = verificadorUnicidad.guardar(() -> catEstadoDispositivoRepository.saveAndFlush(estadoDispositivo),
+                RestriccionUnica.CAT_ESTADO_DISPOSITIVO_CODIGO.con(estadoDispositivo.getCodigo()));
         log.info("Estado de dispositivo creado exitosamente con ID: {}", saved.getId());
         return saved;
     }
@@ -43,15 +46,27 @@ public class CatEstadoDispositivoService {
      * Obtiene todos los estados de dispositivo.
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.CAT_ESTADO_DISPOSITIVO, key = CacheNames.KEY_TODOS)
     public List<CatEstadoDispositivo> findAll() {
         log.debug("Obteniendo todos los estados de dispositivo");
         return catEstadoDispositivoRepository.findAll();
     }
 
+    /**
+     * Obtiene varios estados de dispositivo por ID o por código, en bloques IN.
+     */
+    @Transactional(readOnly = true)
+    public ResultadoLote<CatEstadoDispositivo> findLote(ConsultaLote consulta) {
+        log.debug("Obteniendo estados de dispositivo por lote");
+        return consulta.resolver(catEstadoDispositivoRepository::findAllById, catEstadoDispositivoRepository::findByCodigoIn,
+                CatEstadoDispositivo::getId, CatEstadoDispositivo::getCodigo);
+    }
+
     /**
      * Obtiene solo los estados activos.
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.CAT_ESTADO_DISPOSITIVO, key = CacheNames.KEY_ACTIVOS)
     public List<CatEstadoDispositivo> findAllActive() {
         log.debug("Obteniendo estados de dispositivo activos");
         return catEstadoDispositivoRepository.findByActivoTrue();
@@ -79,26 +94,22 @@ public class CatEstadoDispositivoService {
 
     /**
      * Actualiza un estado de dispositivo existente.
-     * Valida que el código no esté duplicado (si se modifica).
+     * El código duplicado lo rechaza la restricción UNIQUE (VerificadorUnicidad).
      */
+    @CacheEvict(cacheNames = CacheNames.CAT_ESTADO_DISPOSITIVO, allEntries = true)
     public CatEstadoDispositivo update(Integer id, CatEstadoDispositivo estadoDispositivo) {
         log.debug("Actualizando estado de dispositivo con ID: {}", id);
 
         CatEstadoDispositivo existing = findById(id);
 
-        // Validar código duplicado solo si cambió
-        if (!existing.getCodigo().equals(estadoDispositivo.getCodigo()) &&
-            catEstadoDispositivoRepository.existsByCodigo(estadoDispositivo.getCodigo())) {
-            throw new DuplicateResourceException("Estado de dispositivo", "código", estadoDispositivo.getCodigo());
-        }
-
         existing.setCodigo(estadoDispositivo.getCodigo());
         existing.setNombre(estadoDispositivo.getNombre());
         existing.setDescripcion(estadoDispositivo.getDescripcion());
         existing.setDisponibleAsignacion(estadoDispositivo.getDisponibleAsignacion());
         existing.setActivo(estadoDispositivo.getActivo());
 
-        CatEstadoDispositivo updated = catEstadoDispositivoRepository.save(existing);
+        CatEstadoDispositivo updated = verificadorUnicidad.guardar(() -> catEstadoDispositivoRepository.saveAndFlush(existing),
+                RestriccionUnica.CAT_ESTADO_DISPOSITIVO_CODIGO.con(existing.getCodigo()));
         log.info("Estado de dispositivo actualizado exitosamente con ID: {}", id);
         return updated;
     }
@@ -106,6 +117,7 @@ public class CatEstadoDispositivoService {
     /**
      * Elimina lógicamente un estado de dispositivo (soft delete).
      */
+    @CacheEvict(cacheNames = CacheNames.CAT_ESTADO_DISPOSITIVO, allEntries = true)
     public void delete(Integer id) {
         log.debug("Eliminando (soft delete) estado de dispositivo con ID: {}", id);
 
@@ -2,12 +2,16 @@ package pe.edu.upc.oss.group1.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import pe.edu.upc.oss.group1.cache.CacheNames;
 import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoEmpleado;
-import pe.edu.upc.oss.group1.exception.DuplicateResourceException;
 import pe.edu.upc.oss.group1.exception.ResourceNotFoundException;
 import pe.edu.upc.oss.group1.repository.catalogo.CatEstadoEmpleadoRepository;
+import pe.edu.upc.oss.group1.unicidad.RestriccionUnica;
+import pe.edu.upc.oss.group1.unicidad.VerificadorUnicidad;
 
 import java.util.List;
 
@@ -22,19 +26,18 @@ import java.util.List;
 public class CatEstadoEmpleadoService {
 
     private final CatEstadoEmpleadoRepository catEstadoEmpleadoRepository;
+    private final VerificadorUnicidad verificadorUnicidad;
 
     /**
      * Crea un nuevo estado de empleado.
-     * Valida que el código no esté duplicado.
+     * El código duplicado lo rechaza la restricción UNIQUE (VerificadorUnicidad).
      */
+    @CacheEvict(cacheNames = CacheNames.CAT_ESTADO_EMPLEADO, allEntries = true)
     public CatEstadoEmpleado create(CatEstadoEmpleado estadoEmpleado) {
         log.debug("Creando estado de empleado con código: {}", estadoEmpleado.getCodigo());
 
-        if (catEstadoEmpleadoRepository.existsByCodigo(estadoEmpleado.getCodigo())) {
-            throw new DuplicateResourceException("Estado de empleado", "código", estadoEmpleado.getCodigo());
-        }
-
-        CatEstadoEmpleado saved = catEstadoEmpleadoRepository.save(estadoEmpleado);
+        CatEstadoEmpleado saved = verificadorUnicidad.guardar(() -> catEstadoEmpleadoRepository.saveAndFlush(estadoEmpleado),
+                RestriccionUnica.CAT_ESTADO_EMPLEADO_CODIGO.con(estadoEmpleado.getCodigo()));
         log.info("Estado de empleado creado exitosamente con ID: {}", saved.getId());
         return saved;
     }
@@ -43,15 +46,27 @@ public class CatEstadoEmpleadoService {
      * Obtiene todos los estados de empleado.
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.CAT_ESTADO_EMPLEADO, key = CacheNames.KEY_TODOS)
     public List<CatEstadoEmpleado> findAll() {
         log.debug("Obteniendo todos los estados de empleado");
         return catEstadoEmpleadoRepository.findAll();
     }
 
+    /**
+     * Obtiene varios estados de empleado por ID o por código, en bloques IN.
+     */
+    @Transactional(readOnly = true)
+    public ResultadoLote<CatEstadoEmpleado> findLote(ConsultaLote consulta) {
+        log.debug("Obteniendo estados de empleado por lote");
+        return consulta.resolver(catEstadoEmpleadoRepository::findAllById, catEstadoEmpleadoRepository::findByCodigoIn,
+                CatEstadoEmpleado::getId, CatEstadoEmpleado::getCodigo);
+    }
+
     /**
      * Obtiene solo los estados activos.
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.CAT_ESTADO_EMPLEADO, key = CacheNames.KEY_ACTIVOS)
     public List<CatEstadoEmpleado> findAllActive() {
         log.debug("Obteniendo estados de empleado activos");
         return catEstadoEmpleadoRepository.findByActivoTrue();
@@ -79,25 +94,21 @@ public class CatEstadoEmpleadoService {
 
     /**
      * Actualiza un estado de empleado existente.
-     * Valida que el código no esté duplicado (si se modifica).
+     * El código duplicado lo rechaza la restricción UNIQUE (VerificadorUnicidad).
      */
+    @CacheEvict(cacheNames = CacheNames.CAT_ESTADO_EMPLEADO, allEntries = true)
     public CatEstadoEmpleado update(Integer id, CatEstadoEmpleado estadoEmpleado) {
         log.debug("Actualizando estado de empleado con ID: {}", id);
 
         CatEstadoEmpleado existing = findById(id);
 
-        // Validar código duplicado solo si cambió
-        if (!existing.getCodigo().equals(estadoEmpleado.getCodigo()) &&
-            catEstadoEmpleadoRepository.existsByCodigo(estadoEmpleado.getCodigo())) {
-            throw new DuplicateResourceException("Estado de empleado", "código", estadoEmpleado.getCodigo());
-        }
-
         existing.setCodigo(estadoEmpleado.getCodigo());
         existing.setNombre(estadoEmpleado.getNombre());
         existing.setDescripcion(estadoEmpleado.getDescripcion());
         existing.setActivo(estadoEmpleado.getActivo());
 
-        CatEstadoEmpleado updated = catEstadoEmpleadoRepository.save(existing);
+        CatEstadoEmpleado updated = verificadorUnicidad.guardar(() -> catEstadoEmpleadoRepository.saveAndFlush(existing),
+                RestriccionUnica.CAT_ESTADO_EMPLEADO_CODIGO.con(existing.getCodigo()));
         log.info("Estado de empleado actualizado exitosamente con ID: {}", id);
         return updated;
     }
@@ -106,6 +117,7 @@ public class CatEstadoEmpleadoService {
      * Elimina lógicamente un estado de empleado (soft delete).
      * Establece activo = false en lugar de eliminar físicamente.
      */
+    @CacheEvict(cacheNames = CacheNames.CAT_ESTADO_EMPLEADO, allEntries = true)
     public void delete(Integer id) {
         log.debug("Eliminando (soft delete) estado de empleado con ID: {}", id);
 
@@ -2,12 +2,16 @@ package pe.edu.upc.oss.group1.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import pe.edu.upc.oss.group1.cache.CacheNames;
 import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoReemplazo;
-import pe.edu.upc.oss.group1.exception.DuplicateResourceException;
 import pe.edu.upc.oss.group1.exception.ResourceNotFoundException;
 import pe.edu.upc.oss.group1.repository.catalogo.CatEstadoReemplazoRepository;
+import pe.edu.upc.oss.group1.unicidad.RestriccionUnica;
+import pe.edu.upc.oss.group1.unicidad.VerificadorUnicidad;
 
 import java.util.List;
 
@@ -22,19 +26,18 @@ import java.util.List;
 public class CatEstadoReemplazoService {
 
     private final CatEstadoReemplazoRepository catEstadoReemplazoRepository;
+    private final VerificadorUnicidad verificadorUnicidad;
 
     /**
      * Crea un nuevo estado de reemplazo.
-     * Valida que el código no esté duplicado.
+     * El código duplicado lo rechaza la restricción UNIQUE (VerificadorUnicidad).
      */
+    @CacheEvict(cacheNames = CacheNames.CAT_ESTADO_REEMPLAZO, allEntries = true)
     public CatEstadoReemplazo create(CatEstadoReemplazo estadoReemplazo) {
         log.debug("Creando estado de reemplazo con código: {}", estadoReemplazo.getCodigo());
 
-        if (catEstadoReemplazoRepository.existsByCodigo(estadoReemplazo.getCodigo())) {
-            throw new DuplicateResourceException("Estado de reemplazo", "código", estadoReemplazo.getCodigo());
-        }
-
-        CatEstadoReemplazo saved = catEstadoReemplazoRepository.save(estadoReemplazo);
+        CatEstadoReemplazo saved = verificadorUnicidad.guardar(() -> catEstadoReemplazoRepository.saveAndFlush(estadoReemplazo),
+                RestriccionUnica.CAT_ESTADO_REEMPLAZO_CODIGO.con(estadoReemplazo.getCodigo()));
         log.info("Estado de reemplazo creado exitosamente con ID: {}", saved.getId());
         return saved;
     }
@@ -43,15 +46,27 @@ public class CatEstadoReemplazoService {
      * Obtiene todos los estados de reemplazo.
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.CAT_ESTADO_REEMPLAZO, key = CacheNames.KEY_TODOS)
     public List<CatEstadoReemplazo> findAll() {
         log.debug("Obteniendo todos los estados de reemplazo");
         return catEstadoReemplazoRepository.findAll();
     }
 
+    /**
+     * Obtiene varios estados de reemplazo por ID o por código, en bloques IN.
+     */
+    @Transactional(readOnly = true)
+    public ResultadoLote<CatEstadoReemplazo> findLote(ConsultaLote consulta) {
+        log.debug("Obteniendo estados de reemplazo por lote");
+        return consulta.resolver(catEstadoReemplazoRepository::findAllById, catEstadoReemplazoRepository::findByCodigoIn,
+                CatEstadoReemplazo::getId, CatEstadoReemplazo::getCodigo);
+    }
+
     /**
      * Obtiene solo los estados activos.
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.CAT_ESTADO_REEMPLAZO, key = CacheNames.KEY_ACTIVOS)
     public List<CatEstadoReemplazo> findAllActive() {
         log.debug("Obteniendo estados de reemplazo activos");
         return catEstadoReemplazoRepository.findByActivoTrue();
@@ -79,25 +94,21 @@ public class CatEstadoReemplazoService {
 
     /**
      * Actualiza un estado de reemplazo existente.
-     * Valida que el código no esté duplicado (si se modifica).
+     * El código duplicado lo rechaza la restricción UNIQUE (VerificadorUnicidad).
      */
+    @CacheEvict(cacheNames = CacheNames.CAT_ESTADO_REEMPLAZO, allEntries = true)
     public CatEstadoReemplazo update(Integer id, CatEstadoReemplazo estadoReemplazo) {
         log.debug("Actualizando estado de reemplazo con ID: {}", id);
 
         CatEstadoReemplazo existing = findById(id);
 
-        // Validar código duplicado solo si cambió
-        if (!existing.getCodigo().equals(estadoReemplazo.getCodigo()) &&
-            catEstadoReemplazoRepository.existsByCodigo(estadoReemplazo.getCodigo())) {
-            throw new DuplicateResourceException("Estado de reemplazo", "código", estadoReemplazo.getCodigo());
-        }
-
         existing.setCodigo(estadoReemplazo.getCodigo());
         existing.setNombre(estadoReemplazo.getNombre());
         existing.setDescripcion(estadoReemplazo.getDescripcion());
         existing.setActivo(estadoReemplazo.getActivo());
 
-        CatEstadoReemplazo updated = catEstadoReemplazoRepository.save(existing);
+        CatEstadoReemplazo updated = verificadorUnicidad.guardar(() -> catEstadoReemplazoRepository.saveAndFlush(existing),
+                RestriccionUnica.CAT_ESTADO_REEMPLAZO_CODIGO.con(existing.getCodigo()));
         log.info("Estado de reemplazo actualizado exitosamente con ID: {}", id);
         return updated;
     }
@@ -105,6 +116,7 @@ public class CatEstadoReemplazoService {
     /**
      * Elimina lógicamente un estado de reemplazo (soft delete).
      */
+    @CacheEvict(cacheNames = CacheNames.CAT_ESTADO_REEMPLAZO, allEntries = true)
     public void delete(Integer id) {
         log.debug("Eliminando (soft delete) estado de reemplazo con ID: {}", id);
 
@@ -2,12 +2,16 @@ package pe.edu.upc.oss.group1.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import pe.edu.upc.oss.group1.cache.CacheNames;
 import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoSolicitud;
-import pe.edu.upc.oss.group1.exception.DuplicateResourceException;
 import pe.edu.upc.oss.group1.exception.ResourceNotFoundException;
 import pe.edu.upc.oss.group1.repository.catalogo.CatEstadoSolicitudRepository;
+import pe.edu.upc.oss.group1.unicidad.RestriccionUnica;
+import pe.edu.upc.oss.group1.unicidad.VerificadorUnicidad;
 
 import java.util.List;
 
@@ -22,19 +26,18 @@ import java.util.List;
 public class CatEstadoSolicitudService {
 
     private final CatEstadoSolicitudRepository catEstadoSolicitudRepository;
+    private final VerificadorUnicidad verificadorUnicidad;
 
     /**
      * Crea un nuevo estado de solicitud.
-     * Valida que el código no esté duplicado.
+     * El código duplicado lo rechaza la restricción UNIQUE (VerificadorUnicidad).
      */
+    @CacheEvict(cacheNames = CacheNames.CAT_ESTADO_SOLICITUD, allEntries = true)
     public CatEstadoSolicitud create(CatEstadoSolicitud estadoSolicitud) {
         log.debug("Creando estado de solicitud con código: {}", estadoSolicitud.getCodigo());
 
-        if (catEstadoSolicitudRepository.existsByCodigo(estadoSolicitud.getCodigo())) {
-            throw new DuplicateResourceException("Estado de solicitud", "código", estadoSolicitud.getCodigo());
-        }
-
-        CatEstadoSolicitud saved = catEstadoSolicitudRepository.save(estadoSolicitud);
+        CatEstadoSolicitud saved = verificadorUnicidad.guardar(() -> catEstadoSolicitudRepository.saveAndFlush(estadoSolicitud),
+                RestriccionUnica.CAT_ESTADO_SOLICITUD_CODIGO.con(estadoSolicitud.getCodigo()));
         log.info("Estado de solicitud creado exitosamente con ID: {}", saved.getId());
         return saved;
     }
@@ -43,15 +46,27 @@ public class CatEstadoSolicitudService {
      * Obtiene todos los estados de solicitud.
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.CAT_ESTADO_SOLICITUD, key = CacheNames.KEY_TODOS)
     public List<CatEstadoSolicitud> findAll() {
         log.debug("Obteniendo todos los estados de solicitud");
         return catEstadoSolicitudRepository.findAll();
     }
 
+    /**
+     * Obtiene varios estados de solicitud por ID o por código, en bloques IN.
+     */
+    @Transactional(readOnly = true)
+    public ResultadoLote<CatEstadoSolicitud> findLote(ConsultaLote consulta) {
+        log.debug("Obteniendo estados de solicitud por lote");
+        return consulta.resolver(catEstadoSolicitudRepository::findAllById, catEstadoSolicitudRepository::findByCodigoIn,
+                CatEstadoSolicitud::getId, CatEstadoSolicitud::getCodigo);
+    }
+
     /**
      * Obtiene solo los estados activos.
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.CAT_ESTADO_SOLICITUD, key = CacheNames.KEY_ACTIVOS)
     public List<CatEstadoSolicitud> findAllActive() {
         log.debug("Obteniendo estados de solicitud activos");
         return catEstadoSolicitudRepository.findByActivoTrue();
@@ -79,25 +94,21 @@ public class CatEstadoSolicitudService {
 
     /**
      * Actualiza un estado de solicitud existente.
-     * Valida que el código no esté duplicado (si se modifica).
+     * El código duplicado lo rechaza la restricción UNIQUE (VerificadorUnicidad).
      */
+    @CacheEvict(cacheNames = CacheNames.CAT_ESTADO_SOLICITUD, allEntries = true)
     public CatEstadoSolicitud update(Integer id, CatEstadoSolicitud estadoSolicitud) {
         log.debug("Actualizando estado de solicitud con ID: {}", id);
 
         CatEstadoSolicitud existing = findById(id);
 
-        // Validar código duplicado solo si cambió
-        if (!existing.getCodigo().equals(estadoSolicitud.getCodigo()) &&
-            catEstadoSolicitudRepository.existsByCodigo(estadoSolicitud.getCodigo())) {
-            throw new DuplicateResourceException("Estado de solicitud", "código", estadoSolicitud.getCodigo());
-        }
-
         existing.setCodigo(estadoSolicitud.getCodigo());
         existing.setNombre(estadoSolicitud.getNombre());
         existing.setDescripcion(estadoSolicitud.getDescripcion());
         existing.setActivo(estadoSolicitud.getActivo());
 
-        CatEstadoSolicitud updated = catEstadoSolicitudRepository.save(existing);
+        CatEstadoSolicitud updated = verificadorUnicidad.guardar(() -> catEstadoSolicitudRepository.saveAndFlush(existing),
+                RestriccionUnica.CAT_ESTADO_SOLICITUD_CODIGO.con(existing.getCodigo()));
         log.info("Estado de solicitud actualizado exitosamente con ID: {}", id);
         return updated;
     }
@@ -105,6 +116,7 @@ public class CatEstadoSolicitudService {
     /**
      * Elimina lógicamente un estado de solicitud (soft delete).
      */
+    @CacheEvict(cacheNames = CacheNames.CAT_ESTADO_SOLICITUD, allEntries = true)
     public void delete(Integer id) {
         log.debug("Eliminando (soft delete) estado de solicitud con ID: {}", id);
 
@@ -2,12 +2,16 @@ package pe.edu.upc.oss.group1.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import pe.edu.upc.oss.group1.cache.CacheNames;
 import pe.edu.upc.oss.group1.entity.catalogo.CatMotivoReemplazo;
-import pe.edu.upc.oss.group1.exception.DuplicateResourceException;
 import pe.edu.upc.oss.group1.exception.ResourceNotFoundException;
 import pe.edu.upc.oss.group1.repository.catalogo.CatMotivoReemplazoRepository;
+import pe.edu.upc.oss.group1.unicidad.RestriccionUnica;
+import pe.edu.upc.oss.group1.unicidad.VerificadorUnicidad;
 
 import java.util.List;
 
@@ -22,19 +26,18 @@ import java.util.List;
 public class CatMotivoReemplazoService {
 
     private final CatMotivoReemplazoRepository catMotivoReemplazoRepository;
+    private final VerificadorUnicidad verificadorUnicidad;
 
     /**
      * Crea un nuevo motivo de reemplazo.
-     * Valida que el código no esté duplicado.
+     * El código duplicado lo rechaza la restricción UNIQUE (VerificadorUnicidad).
      */
+    @CacheEvict(cacheNames = CacheNames.CAT_MOTIVO_REEMPLAZO, allEntries = true)
     public CatMotivoReemplazo create(CatMotivoReemplazo motivoReemplazo) {
         log.debug("Creando motivo de reemplazo con código: {}", motivoReemplazo.getCodigo());
 
-        if (catMotivoReemplazoRepository.existsByCodigo(motivoReemplazo.getCodigo())) {
-            throw new DuplicateResourceException("Motivo de reemplazo", "código", motivoReemplazo.getCodigo());
-        }
-
-        CatMotivoReemplazo saved = catMotivoReemplazoRepository.save(motivoReemplazo);
+        CatMotivoReemplazo saved = verificadorUnicidad.guardar(() -> catMotivoReemplazoRepository.saveAndFlush(motivoReemplazo),
+                RestriccionUnica.CAT_MOTIVO_REEMPLAZO_CODIGO.con(motivoReemplazo.getCodigo()));
         log.info("Motivo de reemplazo creado exitosamente con ID: {}", saved.getId());
         return saved;
     }
@@ -43,15 +46,27 @@ public class CatMotivoReemplazoService {
      * Obtiene todos los motivos de reemplazo.
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.CAT_MOTIVO_REEMPLAZO, key = CacheNames.KEY_TODOS)
     public List<CatMotivoReemplazo> findAll() {
         log.debug("Obteniendo todos los motivos de reemplazo");
         return catMotivoReemplazoRepository.findAll();
     }
 
+    /**
+     * Obtiene varios motivos de reemplazo por ID o por código, en bloques IN.
+     */
+    @Transactional(readOnly = true)
+    public ResultadoLote<CatMotivoReemplazo> findLote(ConsultaLote consulta) {
+        log.debug("Obteniendo motivos de reemplazo por lote");
+        return consulta.resolver(catMotivoReemplazoRepository::findAllById, catMotivoReemplazoRepository::findByCodigoIn,
+                CatMotivoReemplazo::getId, CatMotivoReemplazo::getCodigo);
+    }
+
     /**
      * Obtiene solo los motivos activos.
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.CAT_MOTIVO_REEMPLAZO, key = CacheNames.KEY_ACTIVOS)
     public List<CatMotivoReemplazo> findAllActive() {
         log.debug("Obteniendo motivos de reemplazo activos");
         return catMotivoReemplazoRepository.findByActivoTrue();
@@ -79,25 +94,21 @@ public class CatMotivoReemplazoService {
 
     /**
      * Actualiza un motivo de reemplazo existente.
-     * Valida que el código no esté duplicado (si se modifica).
+     * El código duplicado lo rechaza la restricción UNIQUE (VerificadorUnicidad).
      */
+    @CacheEvict(cacheNames = CacheNames.CAT_MOTIVO_REEMPLAZO, allEntries = true)
     public CatMotivoReemplazo update(Integer id, CatMotivoReemplazo motivoReemplazo) {
         log.debug("Actualizando motivo de reemplazo con ID: {}", id);
 
         CatMotivoReemplazo existing = findById(id);
 
-        // Validar código duplicado solo si cambió
-        if (!existing.getCodigo().equals(motivoReemplazo.getCodigo()) &&
-            catMotivoReemplazoRepository.existsByCodigo(motivoReemplazo.getCodigo())) {
-            throw new DuplicateResourceException("Motivo de reemplazo", "código", motivoReemplazo.getCodigo());
-        }
-
         existing.setCodigo(motivoReemplazo.getCodigo());
         existing.setNombre(motivoReemplazo.getNombre());
         existing.setDescripcion(motivoReemplazo.getDescripcion());
         existing.setActivo(motivoReemplazo.getActivo());
 
-        CatMotivoReemplazo updated = catMotivoReemplazoRepository.save(existing);
+        CatMotivoReemplazo updated = verificadorUnicidad.guardar(() -> catMotivoReemplazoRepository.saveAndFlush(existing),
+                RestriccionUnica.CAT_MOTIVO_REEMPLAZO_CODIGO.con(existing.getCodigo()));
         log.info("Motivo de reemplazo actualizado exitosamente con ID: {}", id);
         return updated;
     }
@@ -105,6 +116,7 @@ public class CatMotivoReemplazoService {
     /**
      * Elimina lógicamente un motivo de reemplazo (soft delete).
      */
+    @CacheEvict(cacheNames = CacheNames.CAT_MOTIVO_REEMPLAZO, allEntries = true)
     public void delete(Integer id) {
         log.debug("Eliminando (soft delete) motivo de reemplazo con ID: {}", id);
 
@@ -2,12 +2,16 @@ package pe.edu.upc.oss.group1.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import pe.edu.upc.oss.group1.cache.CacheNames;
 import pe.edu.upc.oss.group1.entity.catalogo.CatProveedor;
-import pe.edu.upc.oss.group1.exception.DuplicateResourceException;
 import pe.edu.upc.oss.group1.exception.ResourceNotFoundException;
 import pe.edu.upc.oss.group1.repository.catalogo.CatProveedorRepository;
+import pe.edu.upc.oss.group1.unicidad.RestriccionUnica;
+import pe.edu.upc.oss.group1.unicidad.VerificadorUnicidad;
 
 import java.util.List;
 
@@ -22,23 +26,19 @@ import java.util.List;
 public class CatProveedorService {
 
     private final CatProveedorRepository catProveedorRepository;
+    private final VerificadorUnicidad verificadorUnicidad;
 
     /**
      * Crea un nuevo proveedor.
-     * Valida que el código y RUC no estén duplicados.
+     * Código y RUC duplicados los rechazan las restricciones UNIQUE (VerificadorUnicidad).
      */
+    @CacheEvict(cacheNames = CacheNames.CAT_PROVEEDOR, allEntries = true)
     public CatProveedor create(CatProveedor proveedor) {
         log.debug("Creando proveedor con código: {}", proveedor.getCodigo());
 
-        if (catProveedorRepository.existsByCodigo(proveedor.getCodigo())) {
-            throw new DuplicateResourceException("Proveedor", "código", proveedor.getCodigo());
-        }
-
-        if (catProveedorRepository.existsByRuc(proveedor.getRuc())) {
-            throw new DuplicateResourceException("Proveedor", "RUC", proveedor.getRuc());
-        }
-
-        CatProveedor saved = catProveedorRepository.save(proveedor);
+        CatProveedor saved = verificadorUnicidad.guardar(() -> catProveedorRepository.saveAndFlush(proveedor),
+                RestriccionUnica.CAT_PROVEEDOR_CODIGO.con(proveedor.getCodigo()),
+                RestriccionUnica.CAT_PROVEEDOR_RUC.con(proveedor.getRuc()));
         log.info("Proveedor creado exitosamente con ID: {}", saved.getId());
         return saved;
     }
@@ -47,15 +47,27 @@ public class CatProveedorService {
      * Obtiene todos los proveedores.
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.CAT_PROVEEDOR, key = CacheNames.KEY_TODOS)
     public List<CatProveedor> findAll() {
         log.debug("Obteniendo todos los proveedores");
         return catProveedorRepository.findAll();
     }
 
+    /**
+     * Obtiene varios proveedores por ID o por código, en bloques IN.
+     */
+    @Transactional(readOnly = true)
+    public ResultadoLote<CatProveedor> findLote(ConsultaLote consulta) {
+        log.debug("Obteniendo proveedores por lote");
+        return consulta.resolver(catProveedorRepository::findAllById, catProveedorRepository::findByCodigoIn,
+                CatProveedor::getId, CatProveedor::getCodigo);
+    }
+
     /**
      * Obtiene solo los proveedores activos.
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.CAT_PROVEEDOR, key = CacheNames.KEY_ACTIVOS)
     public List<CatProveedor> findAllActive() {
         log.debug("Obteniendo proveedores activos");
         return catProveedorRepository.findByActivoTrue();
@@ -93,25 +105,14 @@ public class CatProveedorService {
 
     /**
      * Actualiza un proveedor existente.
-     * Valida que el código y RUC no estén duplicados (si se modifican).
+     * Código y RUC duplicados los rechazan las restricciones UNIQUE (VerificadorUnicidad).
      */
+    @CacheEvict(cacheNames = CacheNames.CAT_PROVEEDOR, allEntries = true)
     public CatProveedor update(Integer id, CatProveedor proveedor) {
         log.debug("Actualizando proveedor con ID: {}", id);
 
         CatProveedor existing = findById(id);
 
-        // Validar código duplicado solo si cambió
-        if (!existing.getCodigo().equals(proveedor.getCodigo()) &&
-            catProveedorRepository.existsByCodigo(proveedor.getCodigo())) {
-            throw new DuplicateResourceException("Proveedor", "código", proveedor.getCodigo());
-        }
-
-        // Validar RUC duplicado solo si cambió
-        if (!existing.getRuc().equals(proveedor.getRuc()) &&
-            catProveedorRepository.existsByRuc(proveedor.getRuc())) {
-            throw new DuplicateResourceException("Proveedor", "RUC", proveedor.getRuc());
-        }
-
         existing.setCodigo(proveedor.getCodigo());
         existing.setRazonSocial(proveedor.getRazonSocial());
         existing.setRuc(proveedor.getRuc());
@@ -120,7 +121,9 @@ public class CatProveedorService {
         existing.setDireccion(proveedor.getDireccion());
         existing.setActivo(proveedor.getActivo());
 
-        CatProveedor updated = catProveedorRepository.save(existing);
+        CatProveedor updated = verificadorUnicidad.guardar(() -> catProveedorRepository.saveAndFlush(existing),
+                RestriccionUnica.CAT_PROVEEDOR_CODIGO.con(existing.getCodigo()),
+                RestriccionUnica.CAT_PROVEEDOR_RUC.con(existing.getRuc()));
         log.info("Proveedor actualizado exitosamente con ID: {}", id);
         return updated;
     }
@@ -128,6 +131,7 @@ public class CatProveedorService {
     /**
      * Elimina lógicamente un proveedor (soft delete).
      */
+    @CacheEvict(cacheNames = CacheNames.CAT_PROVEEDOR, allEntries = true)
     public void delete(Integer id) {
         log.debug("Eliminando (soft delete) proveedor con ID: {}", id);
 
@@ -2,12 +2,15 @@ package pe.edu.upc.oss.group1.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import pe.edu.upc.oss.group1.cache.CacheNames;
 import pe.edu.upc.oss.group1.entity.catalogo.CatPuesto;
-import pe.edu.upc.oss.group1.exception.DuplicateResourceException;
 import pe.edu.upc.oss.group1.exception.ResourceNotFoundException;
 import pe.edu.upc.oss.group1.repository.catalogo.CatPuestoRepository;
+import pe.edu.upc.oss.group1.unicidad.RestriccionUnica;
+import pe.edu.upc.oss.group1.unicidad.VerificadorUnicidad;
 
 import java.util.List;
 
@@ -22,19 +25,18 @@ import java.util.List;
 public class CatPuestoService {
 
     private final CatPuestoRepository catPuestoRepository;
+    private final VerificadorUnicidad verificadorUnicidad;
 
     /**
      * Crea un nuevo puesto.
-     * Valida que el código no esté duplicado.
+     * El código duplicado lo rechaza la restricción UNIQUE (VerificadorUnicidad).
      */
+    @CacheEvict(cacheNames = CacheNames.CAT_PUESTO, allEntries = true)
     public CatPuesto create(CatPuesto puesto) {
         log.debug("Creando puesto con código: {}", puesto.getCodigo());
 
-        if (catPuestoRepository.existsByCodigo(puesto.getCodigo())) {
-            throw new DuplicateResourceException("Puesto", "código", puesto.getCodigo());
-        }
-
-        CatPuesto saved = catPuestoRepository.save(puesto);
+        CatPuesto saved = verificadorUnicidad.guardar(() -> catPuestoRepository.saveAndFlush(puesto),
+                RestriccionUnica.CAT_PUESTO_CODIGO.con(puesto.getCodigo()));
         log.info("Puesto creado exitosamente con ID: {}", saved.getId());
         return saved;
     }
@@ -48,6 +50,16 @@ public class CatPuestoService {
         return catPuestoRepository.findAll();
     }
 
+    /**
+     * Obtiene varios puestos por ID o por código, en bloques IN.
+     */
+    @Transactional(readOnly = true)
+    public ResultadoLote<CatPuesto> findLote(ConsultaLote consulta) {
+        log.debug("Obteniendo puestos por lote");
+        return consulta.resolver(catPuestoRepository::findAllById, catPuestoRepository::findByCodigoIn,
+                CatPuesto::getId, CatPuesto::getCodigo);
+    }
+
     /**
      * Obtiene solo los puestos activos.
      */
@@ -79,26 +91,22 @@ public class CatPuestoService {
 
     /**
      * Actualiza un puesto existente.
-     * Valida que el código no esté duplicado (si se modifica).
+     * El código duplicado lo rechaza la restricción UNIQUE (VerificadorUnicidad).
      */
+    @CacheEvict(cacheNames = CacheNames.CAT_PUESTO, allEntries = true)
     public CatPuesto update(Integer id, CatPuesto puesto) {
         log.debug("Actualizando puesto con ID: {}", id);
 
         CatPuesto existing = findById(id);
 
-        // Validar código duplicado solo si cambió
-        if (!existing.getCodigo().equals(puesto.getCodigo()) &&
-            catPuestoRepository.existsByCodigo(puesto.getCodigo())) {
-            throw new DuplicateResourceException("Puesto", "código", puesto.getCodigo());
-        }
-
         existing.setCodigo(puesto.getCodigo());
         existing.setNombre(puesto.getNombre());
         existing.setDescripcion(puesto.getDescripcion());
         existing.setArea(puesto.getArea());
         existing.setActivo(puesto.getActivo());
 
-        CatPuesto updated = catPuestoRepository.save(existing);
+        CatPuesto updated = verificadorUnicidad.guardar(() -> catPuestoRepository.saveAndFlush(existing),
+                RestriccionUnica.CAT_PUESTO_CODIGO.con(existing.getCodigo()));
         log.info("Puesto actualizado exitosamente con ID: {}", id);
         return updated;
     }
@@ -106,6 +114,7 @@ public class CatPuestoService {
     /**
      * Elimina lógicamente un puesto (soft delete).
      */
+    @CacheEvict(cacheNames = CacheNames.CAT_PUESTO, allEntries = true)
     public void delete(Integer id) {
         log.debug("Eliminando (soft delete) puesto con ID: {}", id);
 
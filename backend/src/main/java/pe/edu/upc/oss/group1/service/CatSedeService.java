@@ -2,12 +2,16 @@ package pe.edu.upc.oss.group1.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import pe.edu.upc.oss.group1.cache.CacheNames;
 import pe.edu.upc.oss.group1.entity.catalogo.CatSede;
-import pe.edu.upc.oss.group1.exception.DuplicateResourceException;
 import pe.edu.upc.oss.group1.exception.ResourceNotFoundException;
 import pe.edu.upc.oss.group1.repository.catalogo.CatSedeRepository;
+import pe.edu.upc.oss.group1.unicidad.RestriccionUnica;
+import pe.edu.upc.oss.group1.unicidad.VerificadorUnicidad;
 
 import java.util.List;
 
@@ -22,19 +26,18 @@ import java.util.List;
 public class CatSedeService {
 
     private final CatSedeRepository catSedeRepository;
+    private final VerificadorUnicidad verificadorUnicidad;
 
     /**
      * Crea una nueva sede.
-     * Valida que el código no esté duplicado.
+     * El código duplicado lo rechaza la restricción UNIQUE (VerificadorUnicidad).
      */
+    @CacheEvict(cacheNames = CacheNames.CAT_SEDE, allEntries = true)
     public CatSede create(CatSede sede) {
         log.debug("Creando sede con código: {}", sede.getCodigo());
 
-        if (catSedeRepository.existsByCodigo(sede.getCodigo())) {
-            throw new DuplicateResourceException("Sede", "código", sede.getCodigo());
-        }
-
-        CatSede saved = catSedeRepository.save(sede);
+        CatSede saved = verificadorUnicidad.guardar(() -> catSedeRepository.saveAndFlush(sede),
+                RestriccionUnica.CAT_SEDE_CODIGO.con(sede.getCodigo()));
         log.info("Sede creada exitosamente con ID: {}", saved.getId());
         return saved;
     }
@@ -43,15 +46,27 @@ public class CatSedeService {
      * Obtiene todas las sedes.
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.CAT_SEDE, key = CacheNames.KEY_TODOS)
     public List<CatSede> findAll() {
         log.debug("Obteniendo todas las sedes");
         return catSedeRepository.findAll();
     }
 
+    /**
+     * Obtiene varias sedes por ID o por código, en bloques IN.
+     */
+    @Transactional(readOnly = true)
+    public ResultadoLote<CatSede> findLote(ConsultaLote consulta) {
+        log.debug("Obteniendo sedes por lote");
+        return consulta.resolver(catSedeRepository::findAllById, catSedeRepository::findByCodigoIn,
+                CatSede::getId, CatSede::getCodigo);
+    }
+
     /**
      * Obtiene solo las sedes activas.
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.CAT_SEDE, key = CacheNames.KEY_ACTIVOS)
     public List<CatSede> findAllActive() {
         log.debug("Obteniendo sedes activas");
         return catSedeRepository.findByActivoTrue();
@@ -79,19 +94,14 @@ public class CatSedeService {
 
     /**
      * Actualiza una sede existente.
-     * Valida que el código no esté duplicado (si se modifica).
+     * El código duplicado lo rechaza la restricción UNIQUE (VerificadorUnicidad).
      */
+    @CacheEvict(cacheNames = CacheNames.CAT_SEDE, allEntries = true)
     public CatSede update(Integer id, CatSede sede) {
         log.debug("Actualizando sede con ID: {}", id);
 
         CatSede existing = findById(id);
 
-        // Validar código duplicado solo si cambió
-        if (!existing.getCodigo().equals(sede.getCodigo()) &&
-            catSedeRepository.existsByCodigo(sede.getCodigo())) {
-            throw new DuplicateResourceException("Sede", "código", sede.getCodigo());
-        }
-
         existing.setCodigo(sede.getCodigo());
         existing.setNombre(sede.getNombre());
         existing.setDireccion(sede.getDireccion());
@@ -99,7 +109,8 @@ public class CatSedeService {
         existing.setPais(sede.getPais());
         existing.setActivo(sede.getActivo());
 
-        CatSede updated = catSedeRepository.save(existing);
+        CatSede updated = verificadorUnicidad.guardar(() -> catSedeRepository.saveAndFlush(existing),
+                RestriccionUnica.CAT_SEDE_CODIGO.con(existing.getCodigo()));
         log.info("Sede actualizada exitosamente con ID: {}", id);
         return updated;
     }
@@ -107,6 +118,7 @@ public class CatSedeService {
     /**
      * Elimina lógicamente una sede (soft delete).
      */
+    @CacheEvict(cacheNames = CacheNames.CAT_SEDE, allEntries = true)
     public void delete(Integer id) {
         log.debug("Eliminando (soft delete) sede con ID: {}", id);
 
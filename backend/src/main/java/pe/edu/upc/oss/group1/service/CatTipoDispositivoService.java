@@ -2,12 +2,16 @@ package pe.edu.upc.oss.group1.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import pe.edu.upc.oss.group1.cache.CacheNames;
 import pe.edu.upc.oss.group1.entity.catalogo.CatTipoDispositivo;
-import pe.edu.upc.oss.group1.exception.DuplicateResourceException;
 import pe.edu.upc.oss.group1.exception.ResourceNotFoundException;
 import pe.edu.upc.oss.group1.repository.catalogo.CatTipoDispositivoRepository;
+import pe.edu.upc.oss.group1.unicidad.RestriccionUnica;
+import pe.edu.upc.oss.group1.unicidad.VerificadorUnicidad;
 
 import java.util.List;
 
@@ -22,19 +26,18 @@ import java.util.List;
 public class CatTipoDispositivoService {
 
     private final CatTipoDispositivoRepository catTipoDispositivoRepository;
+    private final VerificadorUnicidad verificadorUnicidad;
 
     /**
      * Crea un nuevo tipo de dispositivo.
-     * Valida que el código no esté duplicado.
+     * El código duplicado lo rechaza la restricción UNIQUE (VerificadorUnicidad).
      */
+    @CacheEvict(cacheNames = CacheNames.CAT_TIPO_DISPOSITIVO, allEntries = true)
     public CatTipoDispositivo create(CatTipoDispositivo tipoDispositivo) {
         log.debug("Creando tipo de dispositivo con código: {}", tipoDispositivo.getCodigo());
 
-        if (catTipoDispositivoRepository.existsByCodigo(tipoDispositivo.getCodigo())) {
-            throw new DuplicateResourceException("Tipo de dispositivo", "código", tipoDispositivo.getCodigo());
-        }
-
-        CatTipoDispositivo saved = catTipoDispositivoRepository.save(tipoDispositivo);
+        CatTipoDispositivo saved = verificadorUnicidad.guardar(() -> catTipoDispositivoRepository.saveAndFlush(tipoDispositivo),
+                RestriccionUnica.CAT_TIPO_DISPOSITIVO_CODIGO.con(tipoDispositivo.getCodigo()));
         log.info("Tipo de dispositivo creado exitosamente con ID: {}", saved.getId());
         return saved;
     }
@@ -43,15 +46,27 @@ public class CatTipoDispositivoService {
      * Obtiene todos los tipos de dispositivo.
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.CAT_TIPO_DISPOSITIVO, key = CacheNames.KEY_TODOS)
     public List<CatTipoDispositivo> findAll() {
         log.debug("Obteniendo todos los tipos de dispositivo");
         return catTipoDispositivoRepository.findAll();
     }
 
+    /**
+     * Obtiene varios tipos de dispositivo por ID o por código, en bloques IN.
+     */
+    @Transactional(readOnly = true)
+    public ResultadoLote<CatTipoDispositivo> findLote(ConsultaLote consulta) {
+        log.debug("Obteniendo tipos de dispositivo por lote");
+        return consulta.resolver(catTipoDispositivoRepository::findAllById, catTipoDispositivoRepository::findByCodigoIn,
+                CatTipoDispositivo::getId, CatTipoDispositivo::getCodigo);
+    }
+
     /**
      * Obtiene solo los tipos activos.
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.CAT_TIPO_DISPOSITIVO, key = CacheNames.KEY_ACTIVOS)
     public List<CatTipoDispositivo> findAllActive() {
         log.debug("Obteniendo tipos de dispositivo activos");
         return catTipoDispositivoRepository.findByActivoTrue();
@@ -79,26 +94,22 @@ public class CatTipoDispositivoService {
 
     /**
      * Actualiza un tipo de dispositivo existente.
-     * Valida que el código no esté duplicado (si se modifica).
+     * El código duplicado lo rechaza la restricción UNIQUE (VerificadorUnicidad).
      */
+    @CacheEvict(cacheNames = CacheNames.CAT_TIPO_DISPOSITIVO, allEntries = true)
     public CatTipoDispositivo update(Integer id, CatTipoDispositivo tipoDispositivo) {
         log.debug("Actualizando tipo de dispositivo con ID: {}", id);
 
         CatTipoDispositivo existing = findById(id);
 
-        // Validar código duplicado solo si cambió
-        if (!existing.getCodigo().equals(tipoDispositivo.getCodigo()) &&
-            catTipoDispositivoRepository.existsByCodigo(tipoDispositivo.getCodigo())) {
-            throw new DuplicateResourceException("Tipo de dispositivo", "código", tipoDispositivo.getCodigo());
-        }
-
         existing.setCodigo(tipoDispositivo.getCodigo());
         existing.setNombre(tipoDispositivo.getNombre());
         existing.setDescripcion(tipoDispositivo.getDescripcion());
         existing.setRequiereSerie(tipoDispositivo.getRequiereSerie());
         existing.setActivo(tipoDispositivo.getActivo());
 
-        CatTipoDispositivo updated = catTipoDispositivoRepository.save(existing);
+        CatTipoDispositivo updated = verificadorUnicidad.guardar(() -> catTipoDispositivoRepository.saveAndFlush(existing),
+                RestriccionUnica.CAT_TIPO_DISPOSITIVO_CODIGO.con(existing.getCodigo()));
         log.info("Tipo de dispositivo actualizado exitosamente con ID: {}", id);
         return updated;
     }
@@ -106,6 +117,7 @@ public class CatTipoDispositivoService {
     /**
      * Elimina lógicamente un tipo de dispositivo (soft delete).
      */
+    @CacheEvict(cacheNames = CacheNames.CAT_TIPO_DISPOSITIVO, allEntries = true)
     public void delete(Integer id) {
         log.debug("Eliminando (soft delete) tipo de dispositivo con ID: {}", id);
 
@@ -2,12 +2,16 @@ package pe.edu.upc.oss.group1.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import pe.edu.upc.oss.group1.cache.CacheNames;
 import pe.edu.upc.oss.group1.entity.catalogo.CatTipoMovimiento;
-import pe.edu.upc.oss.group1.exception.DuplicateResourceException;
 import pe.edu.upc.oss.group1.exception.ResourceNotFoundException;
 import pe.edu.upc.oss.group1.repository.catalogo.CatTipoMovimientoRepository;
+import pe.edu.upc.oss.group1.unicidad.RestriccionUnica;
+import pe.edu.upc.oss.group1.unicidad.VerificadorUnicidad;
 
 import java.util.List;
 
@@ -22,19 +26,18 @@ import java.util.List;
 public class CatTipoMovimientoService {
 
     private final CatTipoMovimientoRepository catTipoMovimientoRepository;
+    private final VerificadorUnicidad verificadorUnicidad;
 
     /**
      * Crea un nuevo tipo de movimiento.
-     * Valida que el código no esté duplicado.
+     * El código duplicado lo rechaza la restricción UNIQUE (VerificadorUnicidad).
      */
+    @CacheEvict(cacheNames = CacheNames.CAT_TIPO_MOVIMIENTO, allEntries = true)
     public CatTipoMovimiento create(CatTipoMovimiento tipoMovimiento) {
         log.debug("Creando tipo de movimiento con código: {}", tipoMovimiento.getCodigo());
 
-        if (catTipoMovimientoRepository.existsByCodigo(tipoMovimiento.getCodigo())) {
-            throw new DuplicateResourceException("Tipo de movimiento", "código", tipoMovimiento.getCodigo());
-        }
-
-        CatTipoMovimiento saved = catTipoMovimientoRepository.save(tipoMovimiento);
+        CatTipoMovimiento saved = verificadorUnicidad.guardar(() -> catTipoMovimientoRepository.saveAndFlush(tipoMovimiento),
+                RestriccionUnica.CAT_TIPO_MOVIMIENTO_CODIGO.con(tipoMovimiento.getCodigo()));
         log.info("Tipo de movimiento creado exitosamente con ID: {}", saved.getId());
         return saved;
     }
@@ -43,15 +46,27 @@ public class CatTipoMovimientoService {
      * Obtiene todos los tipos de movimiento.
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.CAT_TIPO_MOVIMIENTO, key = CacheNames.KEY_TODOS)
     public List<CatTipoMovimiento> findAll() {
         log.debug("Obteniendo todos los tipos de movimiento");
         return catTipoMovimientoRepository.findAll();
     }
 
+    /**
+     * Obtiene varios tipos de movimiento por ID o por código, en bloques IN.
+     */
+    @Transactional(readOnly = true)
+    public ResultadoLote<CatTipoMovimiento> findLote(ConsultaLote consulta) {
+        log.debug("Obteniendo tipos de movimiento por lote");
+        return consulta.resolver(catTipoMovimientoRepository::findAllById, catTipoMovimientoRepository::findByCodigoIn,
+                CatTipoMovimiento::getId, CatTipoMovimiento::getCodigo);
+    }
+
     /**
      * Obtiene solo los tipos activos.
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.CAT_TIPO_MOVIMIENTO, key = CacheNames.KEY_ACTIVOS)
     public List<CatTipoMovimiento> findAllActive() {
         log.debug("Obteniendo tipos de movimiento activos");
         return catTipoMovimientoRepository.findByActivoTrue();
@@ -79,25 +94,21 @@ public class CatTipoMovimientoService {
 
     /**
      * Actualiza un tipo de movimiento existente.
-     * Valida que el código no esté duplicado (si se modifica).
+     * El código duplicado lo rechaza la restricción UNIQUE (VerificadorUnicidad).
      */
+    @CacheEvict(cacheNames = CacheNames.CAT_TIPO_MOVIMIENTO, allEntries = true)
     public CatTipoMovimiento update(Integer id, CatTipoMovimiento tipoMovimiento) {
         log.debug("Actualizando tipo de movimiento con ID: {}", id);
 
         CatTipoMovimiento existing = findById(id);
 
-        // Validar código duplicado solo si cambió
-        if (!existing.getCodigo().equals(tipoMovimiento.getCodigo()) &&
-            catTipoMovimientoRepository.existsByCodigo(tipoMovimiento.getCodigo())) {
-            throw new DuplicateResourceException("Tipo de movimiento", "código", tipoMovimiento.getCodigo());
-        }
-
         existing.setCodigo(tipoMovimiento.getCodigo());
         existing.setNombre(tipoMovimiento.getNombre());
         existing.setDescripcion(tipoMovimiento.getDescripcion());
         existing.setActivo(tipoMovimiento.getActivo());
 
-        CatTipoMovimiento updated = catTipoMovimientoRepository.save(existing);
+        CatTipoMovimiento updated = verificadorUnicidad.guardar(() -> catTipoMovimientoRepository.saveAndFlush(existing),
+                RestriccionUnica.CAT_TIPO_MOVIMIENTO_CODIGO.con(existing.getCodigo()));
         log.info("Tipo de movimiento actualizado exitosamente con ID: {}", id);
         return updated;
     }
@@ -105,6 +116,7 @@ public class CatTipoMovimientoService {
     /**
      * Elimina lógicamente un tipo de movimiento (soft delete).
      */
+    @CacheEvict(cacheNames = CacheNames.CAT_TIPO_MOVIMIENTO, allEntries = true)
     public void delete(Integer id) {
         log.debug("Eliminando (soft delete) tipo de movimiento con ID: {}", id);
 
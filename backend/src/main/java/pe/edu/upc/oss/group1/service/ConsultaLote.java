@@ -0,0 +1,113 @@
+package pe.edu.upc.oss.group1.service;
+
+import pe.edu.upc.oss.group1.exception.BusinessValidationException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Consulta de varios registros a la vez por ID o por código (multi-get).
+ *
+ * Los identificadores se resuelven en bloques de {@value #TAMANIO_BLOQUE} con una consulta IN por
+ * bloque, en lugar de una consulta por identificador. Con hibernate.query.in_clause_parameter_padding
+ * los bloques incompletos reutilizan los mismos planes de consulta.
+ *
+ * @param ids     IDs a buscar (excluyente con codigos)
+ * @param codigos códigos a buscar (excluyente con ids)
+ */
+public record ConsultaLote(List<Integer> ids, List<String> codigos) {
+
+    /** Máximo de identificadores por consulta; acota también el largo de la URL. */
+    public static final int MAXIMO = 200;
+
+    static final int TAMANIO_BLOQUE = 100;
+
+    /**
+     * Valida que se pida exactamente una de las dos listas, sin vacíos y sin superar el máximo.
+     * Los identificadores repetidos se consultan una sola vez.
+     */
+    public static ConsultaLote de(List<Integer> ids, List<String> codigos) {
+        boolean porIds = ids != null && !ids.isEmpty();
+        boolean porCodigos = codigos != null && !codigos.isEmpty();
+        if (porIds == porCodigos) {
+            throw new BusinessValidationException("Debe indicar ids o codigos (solo uno de los dos)");
+        }
+        int cantidad = porIds ? ids.size() : codigos.size();
+        if (cantidad > MAXIMO) {
+            throw new BusinessValidationException("Se permiten máximo " + MAXIMO + " identificadores por consulta");
+        }
+        if (porIds) {
+            if (ids.contains(null)) {
+                throw new BusinessValidationException("Los IDs no pueden ser nulos");
+            }
+            return new ConsultaLote(ids.stream().distinct().toList(), null);
+        }
+        if (codigos.stream().anyMatch(c -> c == null || c.isBlank())) {
+            throw new BusinessValidationException("Los códigos no pueden estar vacíos");
+        }
+        return new ConsultaLote(null, codigos.stream().map(String::trim).distinct().toList());
+    }
+
+    /**
+     * Consulta por IDs solamente (registros sin código, p. ej. asignaciones).
+     */
+    public static ConsultaLote deIds(List<Integer> ids) {
+        return de(ids, null);
+    }
+
+    public boolean isPorIds() {
+        return ids != null;
+    }
+
+    /**
+     * Ejecuta la consulta que corresponda por bloques y ordena el resultado según lo pedido.
+     *
+     * @param porIds     consulta IN por IDs
+     * @param porCodigos consulta IN por códigos (null si el registro no tiene código)
+     * @param id         ID de un registro encontrado
+     * @param codigo     código de un registro encontrado
+     */
+    public <E> ResultadoLote<E> resolver(Function<Collection<Integer>, List<E>> porIds,
+                                         Function<Collection<String>, List<E>> porCodigos,
+                                         Function<E, Integer> id,
+                                         Function<E, String> codigo) {
+        if (isPorIds()) {
+            return ordenar(ids, buscar(ids, porIds, id));
+        }
+        if (porCodigos == null) {
+            throw new BusinessValidationException("Este recurso solo se puede consultar por ids");
+        }
+        return ordenar(codigos, buscar(codigos, porCodigos, codigo));
+    }
+
+    private static <K, E> Map<K, E> buscar(List<K> claves, Function<Collection<K>, List<E>> consulta,
+                                           Function<E, K> clave) {
+        Map<K, E> encontrados = new HashMap<>(claves.size() * 2);
+        for (int desde = 0; desde < claves.size(); desde += TAMANIO_BLOQUE) {
+            List<K> bloque = claves.subList(desde, Math.min(desde + TAMANIO_BLOQUE, claves.size()));
+            for (E entidad : consulta.apply(bloque)) {
+                encontrados.put(clave.apply(entidad), entidad);
+            }
+        }
+        return encontrados;
+    }
+
+    private static <K, E> ResultadoLote<E> ordenar(List<K> claves, Map<K, E> encontrados) {
+        Map<String, E> resultados = new LinkedHashMap<>();
+        List<String> noEncontrados = new ArrayList<>();
+        for (K clave : claves) {
+            E entidad = encontrados.get(clave);
+            if (entidad != null) {
+                resultados.put(String.valueOf(clave), entidad);
+            } else {
+                noEncontrados.add(String.valueOf(clave));
+            }
+        }
+        return new ResultadoLote<>(resultados, noEncontrados);
+    }
+}
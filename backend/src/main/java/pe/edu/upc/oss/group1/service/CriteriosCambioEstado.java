@@ -0,0 +1,32 @@
+package pe.edu.upc.oss.group1.service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Dispositivos a los que aplica un cambio de estado masivo: una lista de IDs o un filtro.
+ * Los criterios de filtro son opcionales y se combinan con AND.
+ *
+ * @param ids     IDs explícitos; si se indican, no se usan los demás criterios
+ * @param tipoId  tipo de dispositivo
+ * @param marcaId marca
+ * @param modelo  modelo exacto
+ * @param desde   fecha de adquisición mínima (inclusive)
+ * @param hasta   fecha de adquisición máxima (inclusive)
+ */
+public record CriteriosCambioEstado(
+        List<Integer> ids,
+        Integer tipoId,
+        Integer marcaId,
+        String modelo,
+        LocalDate desde,
+        LocalDate hasta) {
+
+    public boolean porIds() {
+        return ids != null && !ids.isEmpty();
+    }
+
+    public boolean tieneFiltro() {
+        return tipoId != null || marcaId != null || modelo != null || desde != null || hasta != null;
+    }
+}
@@ -0,0 +1,18 @@
+package pe.edu.upc.oss.group1.service;
+
+import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoDispositivo;
+import pe.edu.upc.oss.group1.entity.catalogo.CatMarca;
+import pe.edu.upc.oss.group1.entity.catalogo.CatTipoDispositivo;
+import pe.edu.upc.oss.group1.escaneo.ResumenEscaneo;
+
+/**
+ * Resultado de la lectura de una etiqueta: el resumen del dispositivo con sus catálogos.
+ *
+ * @param desdeIndice true si se resolvió con el índice en memoria, sin consultar la base
+ */
+public record DispositivoEscaneado(ResumenEscaneo resumen,
+                                   CatTipoDispositivo tipoDispositivo,
+                                   CatMarca marca,
+                                   CatEstadoDispositivo estadoDispositivo,
+                                   boolean desdeIndice) {
+}
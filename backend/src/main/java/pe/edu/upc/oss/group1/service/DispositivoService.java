@@ -2,20 +2,40 @@ package pe.edu.upc.oss.group1.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import pe.edu.upc.oss.group1.cache.CacheNames;
+import pe.edu.upc.oss.group1.entity.AsignacionDispositivo;
 import pe.edu.upc.oss.group1.entity.Dispositivo;
+import pe.edu.upc.oss.group1.entity.Empleado;
+import pe.edu.upc.oss.group1.entity.RegistroEliminado;
+import pe.edu.upc.oss.group1.evento.DispositivosModificados;
+import pe.edu.upc.oss.group1.evento.EventoCicloVida;
+import pe.edu.upc.oss.group1.evento.TipoEventoCicloVida;
 import pe.edu.upc.oss.group1.exception.BusinessValidationException;
 import pe.edu.upc.oss.group1.exception.DuplicateResourceException;
 import pe.edu.upc.oss.group1.exception.ResourceNotFoundException;
+import pe.edu.upc.oss.group1.persistencia.LecturaSinEstado;
+import pe.edu.upc.oss.group1.repository.AsignacionDispositivoRepository;
 import pe.edu.upc.oss.group1.repository.DispositivoRepository;
+import pe.edu.upc.oss.group1.repository.RegistroEliminadoRepository;
 import pe.edu.upc.oss.group1.repository.catalogo.CatEstadoDispositivoRepository;
 import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoDispositivo;
+import pe.edu.upc.oss.group1.unicidad.PrefiltroDispositivos;
+import pe.edu.upc.oss.group1.unicidad.RestriccionUnica;
+import pe.edu.upc.oss.group1.unicidad.ValorUnico;
+import pe.edu.upc.oss.group1.unicidad.VerificadorUnicidad;
 
-
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * Servicio para gestión de dispositivos IT.
@@ -27,16 +47,43 @@ import java.util.List;
 @Slf4j
 public class DispositivoService {
 
+    /** Máximo de dispositivos por registro masivo. */
+    public static final int MAXIMO_LOTE = 500;
+
     private final DispositivoRepository dispositivoRepository;
     private final CatEstadoDispositivoRepository catEstadoDispositivoRepository;
+    private final AsignacionDispositivoRepository asignacionRepository;
+    private final RegistroEliminadoRepository registroEliminadoRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final VerificadorUnicidad verificadorUnicidad;
+    private final PrefiltroDispositivos prefiltroDispositivos;
+    private final LecturaSinEstado lecturaSinEstado;
+
+    /**
+     * Listados para LecturaSinEstado: traen con JOIN FETCH todo lo que lee DispositivoMapper,
+     * porque fuera del contexto de persistencia los proxies no se pueden inicializar.
+     */
+    static final String LISTADO = "SELECT d FROM Dispositivo d " +
+            "JOIN FETCH d.tipoDispositivo " +
+            "JOIN FETCH d.marca " +
+            "JOIN FETCH d.estadoDispositivo e " +
+            "LEFT JOIN FETCH d.proveedor";
+    static final String DISPONIBLES = LISTADO + " WHERE e.disponibleAsignacion = true";
+    static final String POR_TIPO = LISTADO + " WHERE d.tipoDispositivo.id = :tipoId";
+    static final String BUSQUEDA = LISTADO + " WHERE " +
+            "LOWER(d.codigoActivo) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+            "LOWER(d.numeroSerie) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+            "LOWER(d.modelo) LIKE LOWER(CONCAT('%', :search, '%'))";
 
     /**
-     * Retorna todos los dispositivos.
+     * Retorna todos los dispositivos, sin registrarlos en el contexto de persistencia (LecturaSinEstado).
+     * Los listados y búsquedas leen así; las consultas de un dispositivo o de un lote
+     * (máximo ConsultaLote.MAXIMO) siguen en el repositorio, su contexto de persistencia es pequeño.
      */
     @Transactional(readOnly = true)
     public List<Dispositivo> findAll() {
         log.debug("Buscando todos los dispositivos");
-        return dispositivoRepository.findAll();
+        return lecturaSinEstado.listar(LISTADO, Dispositivo.class);
     }
 
     /**
@@ -45,7 +92,7 @@ public class DispositivoService {
     @Transactional(readOnly = true)
     public List<Dispositivo> findDisponibles() {
         log.debug("Buscando dispositivos disponibles");
-        return dispositivoRepository.findDispositivosDisponibles();
+        return lecturaSinEstado.listar(DISPONIBLES, Dispositivo.class);
     }
 
     /**
@@ -54,7 +101,7 @@ public class DispositivoService {
     @Transactional(readOnly = true)
     public Page<Dispositivo> findDisponibles(Pageable pageable) {
         log.debug("Buscando dispositivos disponibles con paginación");
-        return dispositivoRepository.findDispositivosDisponibles(pageable);
+        return lecturaSinEstado.paginar(DISPONIBLES, Dispositivo.class, Map.of(), pageable);
     }
 
     /**
@@ -87,6 +134,17 @@ public class DispositivoService {
                 .orElseThrow(() -> new ResourceNotFoundException("Dispositivo no encontrado con ID: " + id));
     }
 
+    /**
+     * Busca varios dispositivos por ID o código de activo, con sus relaciones cargadas.
+     */
+    @Transactional(readOnly = true)
+    public ResultadoLote<Dispositivo> findLote(ConsultaLote consulta) {
+        log.debug("Buscando dispositivos por lote: {}", consulta);
+        return consulta.resolver(dispositivoRepository::findAllByIdInWithRelations,
+                dispositivoRepository::findAllByCodigoActivoInWithRelations,
+                Dispositivo::getId, Dispositivo::getCodigoActivo);
+    }
+
     /**
      * Busca un dispositivo con su historial cargado.
      */
@@ -103,7 +161,7 @@ public class DispositivoService {
     @Transactional(readOnly = true)
     public List<Dispositivo> findByTipo(Integer tipoId) {
         log.debug("Buscando dispositivos del tipo ID: {}", tipoId);
-        return dispositivoRepository.findByTipoDispositivoIdWithRelations(tipoId);
+        return lecturaSinEstado.listar(POR_TIPO, Dispositivo.class, Map.of("tipoId", tipoId));
     }
 
     /**
@@ -112,50 +170,92 @@ public class DispositivoService {
     @Transactional(readOnly = true)
     public Page<Dispositivo> search(String searchTerm, Pageable pageable) {
         log.debug("Buscando dispositivos con término: {}", searchTerm);
-        return dispositivoRepository.searchDispositivos(searchTerm, pageable);
+        return lecturaSinEstado.paginar(BUSQUEDA, Dispositivo.class, Map.of("search", searchTerm), pageable);
     }
 
     /**
      * Crea un nuevo dispositivo.
+     * La unicidad de código y número de serie la valida la base al insertar.
      */
+    @CacheEvict(cacheNames = CacheNames.DISPOSITIVOS, allEntries = true)
     public Dispositivo create(Dispositivo dispositivo) {
         log.info("Creando nuevo dispositivo: {}", dispositivo.getCodigoActivo());
 
-        if (dispositivoRepository.existsByCodigoActivo(dispositivo.getCodigoActivo())) {
-            throw new DuplicateResourceException("Ya existe un dispositivo con el código: " + dispositivo.getCodigoActivo());
+        validateDispositivoData(dispositivo);
+
+        Dispositivo saved = verificadorUnicidad.guardar(() -> dispositivoRepository.saveAndFlush(dispositivo),
+                valoresUnicos(dispositivo));
+        prefiltroDispositivos.registrar(List.of(saved));
+        eventPublisher.publishEvent(DispositivosModificados.de(saved.getId()));
+        return saved;
+    }
+
+    /**
+     * Registra varios dispositivos en una sola transacción (p. ej. una orden de compra).
+     *
+     * Los códigos y series repetidos dentro del lote se rechazan en memoria. Contra la base,
+     * PrefiltroDispositivos descarta los que seguro no existen y solo el resto se confirma
+     * en una consulta IN por campo; normalmente ninguno, así que se insertan sin consultas
+     * previas. Si otro nodo insertó el mismo código mientras tanto, lo detiene la restricción UNIQUE.
+     */
+    @CacheEvict(cacheNames = CacheNames.DISPOSITIVOS, allEntries = true)
+    public List<Dispositivo> createLote(List<Dispositivo> dispositivos) {
+        log.info("Registrando lote de {} dispositivos", dispositivos.size());
+
+        if (dispositivos.isEmpty() || dispositivos.size() > MAXIMO_LOTE) {
+            throw new BusinessValidationException("El lote debe tener entre 1 y " + MAXIMO_LOTE + " dispositivos");
         }
 
-        if (dispositivo.getNumeroSerie() != null &&
-            dispositivoRepository.existsByNumeroSerie(dispositivo.getNumeroSerie())) {
-            throw new DuplicateResourceException("Ya existe un dispositivo con el número de serie: " + dispositivo.getNumeroSerie());
+        Set<String> codigos = new LinkedHashSet<>();
+        Set<String> series = new LinkedHashSet<>();
+        for (Dispositivo dispositivo : dispositivos) {
+            validateDispositivoData(dispositivo);
+            if (!codigos.add(dispositivo.getCodigoActivo())) {
+                throw new DuplicateResourceException("El código se repite en el lote: " + dispositivo.getCodigoActivo());
+            }
+            if (dispositivo.getNumeroSerie() != null && !series.add(dispositivo.getNumeroSerie())) {
+                throw new DuplicateResourceException("El número de serie se repite en el lote: " + dispositivo.getNumeroSerie());
+            }
         }
 
-        validateDispositivoData(dispositivo);
+        Set<String> codigosPosibles = prefiltroDispositivos.codigosPosibles(codigos);
+        if (!codigosPosibles.isEmpty()) {
+            List<String> existentes = dispositivoRepository.findCodigosActivoExistentes(codigosPosibles);
+            if (!existentes.isEmpty()) {
+                throw new DuplicateResourceException("Ya existen dispositivos con los códigos: " + String.join(", ", existentes));
+            }
+        }
+        Set<String> seriesPosibles = prefiltroDispositivos.seriesPosibles(series);
+        if (!seriesPosibles.isEmpty()) {
+            List<String> existentes = dispositivoRepository.findNumerosSerieExistentes(seriesPosibles);
+            if (!existentes.isEmpty()) {
+                throw new DuplicateResourceException("Ya existen dispositivos con los números de serie: " + String.join(", ", existentes));
+            }
+        }
 
-        return dispositivoRepository.save(dispositivo);
+        List<Dispositivo> saved = verificadorUnicidad.guardar(() -> dispositivoRepository.saveAllAndFlush(dispositivos),
+                dispositivos.stream().flatMap(d -> Arrays.stream(valoresUnicos(d))).toArray(ValorUnico[]::new));
+        prefiltroDispositivos.registrar(saved);
+        eventPublisher.publishEvent(DispositivosModificados.de(saved.stream().map(Dispositivo::getId).toList()));
+        log.info("Lote registrado: {} dispositivos ({} códigos y {} series confirmados contra la base)",
+                saved.size(), codigosPosibles.size(), seriesPosibles.size());
+        return saved;
     }
 
     /**
      * Actualiza un dispositivo existente.
      */
+    @CacheEvict(cacheNames = CacheNames.DISPOSITIVOS, allEntries = true)
     public Dispositivo update(Integer id, Dispositivo dispositivo) {
         log.info("Actualizando dispositivo con ID: {}", id);
 
         Dispositivo existing = findById(id);
 
-        if (!existing.getCodigoActivo().equals(dispositivo.getCodigoActivo()) &&
-            dispositivoRepository.existsByCodigoActivo(dispositivo.getCodigoActivo())) {
-            throw new DuplicateResourceException("Ya existe un dispositivo con el código: " + dispositivo.getCodigoActivo());
-        }
-
-        if (dispositivo.getNumeroSerie() != null &&
-            !dispositivo.getNumeroSerie().equals(existing.getNumeroSerie()) &&
-            dispositivoRepository.existsByNumeroSerie(dispositivo.getNumeroSerie())) {
-            throw new DuplicateResourceException("Ya existe un dispositivo con el número de serie: " + dispositivo.getNumeroSerie());
-        }
-
         validateDispositivoData(dispositivo);
 
+        Integer estadoAnteriorId = existing.getEstadoDispositivo() != null ? existing.getEstadoDispositivo().getId() : null;
+        boolean cambioEstado = !Objects.equals(estadoAnteriorId, dispositivo.getEstadoDispositivo().getId());
+
         existing.setCodigoActivo(dispositivo.getCodigoActivo());
         existing.setNumeroSerie(dispositivo.getNumeroSerie());
         existing.setTipoDispositivo(dispositivo.getTipoDispositivo());
@@ -168,12 +268,20 @@ public class DispositivoService {
         existing.setProveedor(dispositivo.getProveedor());
         existing.setObservaciones(dispositivo.getObservaciones());
 
-        return dispositivoRepository.save(existing);
+        Dispositivo updated = verificadorUnicidad.guardar(() -> dispositivoRepository.saveAndFlush(existing),
+                valoresUnicos(existing));
+        prefiltroDispositivos.registrar(List.of(updated));
+        eventPublisher.publishEvent(DispositivosModificados.de(id));
+        if (cambioEstado) {
+            publicarCambioEstado(updated);
+        }
+        return updated;
     }
 
     /**
      * Actualiza solo el estado y observación de un dispositivo.
      */
+    @CacheEvict(cacheNames = CacheNames.DISPOSITIVOS, allEntries = true)
     public Dispositivo updateEstado(Integer id, Integer estadoId, String observacion) {
         log.info("Actualizando estado de dispositivo ID: {} a Estado ID: {}", id, estadoId);
 
@@ -189,16 +297,33 @@ public class DispositivoService {
             existing.setObservaciones(observacion);
         }
 
-        return dispositivoRepository.save(existing);
+        Dispositivo updated = dispositivoRepository.save(existing);
+        publicarCambioEstado(updated);
+        return updated;
+    }
+
+    /**
+     * Publica ESTADO_CAMBIADO; el evento se entrega a los suscriptores SSE después del commit.
+     * Si el dispositivo está asignado, el evento lleva la sede/área del empleado titular.
+     */
+    private void publicarCambioEstado(Dispositivo dispositivo) {
+        Empleado titular = asignacionRepository.findAsignacionActivaByDispositivo(dispositivo.getId())
+                .map(AsignacionDispositivo::getEmpleado)
+                .orElse(null);
+        eventPublisher.publishEvent(
+                EventoCicloVida.deDispositivo(TipoEventoCicloVida.ESTADO_CAMBIADO, dispositivo, titular));
     }
 
     /**
      * Elimina un dispositivo.
      */
+    @CacheEvict(cacheNames = CacheNames.DISPOSITIVOS, allEntries = true)
     public void delete(Integer id) {
         log.warn("Eliminando dispositivo con ID: {}", id);
         Dispositivo dispositivo = findById(id);
         dispositivoRepository.delete(dispositivo);
+        registroEliminadoRepository.save(new RegistroEliminado(RegistroEliminado.DISPOSITIVOS, id));
+        eventPublisher.publishEvent(DispositivosModificados.de(id));
     }
 
     /**
@@ -222,4 +347,14 @@ public class DispositivoService {
             throw new BusinessValidationException("El valor de adquisición no puede ser negativo");
         }
     }
+
+    /**
+     * Código y número de serie, para el mensaje si la base rechaza el INSERT/UPDATE.
+     */
+    private static ValorUnico[] valoresUnicos(Dispositivo dispositivo) {
+        return new ValorUnico[] {
+                RestriccionUnica.DISPOSITIVO_CODIGO_ACTIVO.con(dispositivo.getCodigoActivo()),
+                RestriccionUnica.DISPOSITIVO_NUMERO_SERIE.con(dispositivo.getNumeroSerie())
+        };
+    }
 }
@@ -0,0 +1,210 @@
+package pe.edu.upc.oss.group1.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import pe.edu.upc.oss.group1.cache.CacheNames;
+import pe.edu.upc.oss.group1.cache.InvalidacionCacheBus;
+import pe.edu.upc.oss.group1.evento.DispositivosModificados;
+import pe.edu.upc.oss.group1.evento.EventoCicloVida;
+import pe.edu.upc.oss.group1.evento.TipoEventoCicloVida;
+import pe.edu.upc.oss.group1.exception.ResourceNotFoundException;
+import pe.edu.upc.oss.group1.repository.AsignacionDispositivoRepository;
+import pe.edu.upc.oss.group1.repository.DispositivoRepository;
+import pe.edu.upc.oss.group1.repository.HistorialDispositivoRepository;
+import pe.edu.upc.oss.group1.repository.ReemplazoDispositivoRepository;
+import pe.edu.upc.oss.group1.repository.ReemplazoDispositivoRepository.AsignacionCreada;
+import pe.edu.upc.oss.group1.repository.ReemplazoDispositivoRepository.FilaEjecucion;
+import pe.edu.upc.oss.group1.repository.TenenciaEmpleadoDispositivoRepository;
+import pe.edu.upc.oss.group1.repository.TenenciaEmpleadoRepository;
+import pe.edu.upc.oss.group1.repository.catalogo.CatEstadoAsignacionRepository;
+import pe.edu.upc.oss.group1.repository.catalogo.CatEstadoDispositivoRepository;
+import pe.edu.upc.oss.group1.repository.catalogo.CatEstadoReemplazoRepository;
+import pe.edu.upc.oss.group1.repository.catalogo.CatTipoMovimientoRepository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Servicio para ejecutar muchos reemplazos pendientes a la vez (campañas de renovación de equipos).
+ *
+ * Hace lo mismo que {@link ReemplazoDispositivoService#ejecutarReemplazo}, pero por lotes de
+ * {@value #TAMANIO_LOTE} reemplazos: cada lote se valida en memoria y se ejecuta con una sentencia
+ * de conjunto por tabla (asignaciones, dispositivos, reemplazos, historial, tenencia) en su propia
+ * transacción. Los reemplazos que no pasan la validación se informan como RECHAZADO sin afectar
+ * al resto; si una sentencia falla se revierte el lote completo y sus reemplazos quedan como FALLIDO.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+@Slf4j
+public class EjecucionReemplazoLoteService {
+
+    static final int TAMANIO_LOTE = 200;
+
+    private final ReemplazoDispositivoRepository reemplazoRepository;
+    private final AsignacionDispositivoRepository asignacionRepository;
+    private final DispositivoRepository dispositivoRepository;
+    private final HistorialDispositivoRepository historialRepository;
+    private final TenenciaEmpleadoRepository tenenciaRepository;
+    private final TenenciaEmpleadoDispositivoRepository tenenciaDispositivoRepository;
+    private final CatEstadoReemplazoRepository estadoReemplazoRepository;
+    private final CatEstadoAsignacionRepository estadoAsignacionRepository;
+    private final CatEstadoDispositivoRepository estadoDispositivoRepository;
+    private final CatTipoMovimientoRepository tipoMovimientoRepository;
+    private final InvalidacionCacheBus invalidacionCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Ejecuta los reemplazos indicados y retorna el resultado de cada uno, en el orden recibido.
+     * No abre una transacción propia: cada lote usa la suya.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<ResultadoEjecucionReemplazo> ejecutar(List<Integer> reemplazoIds) {
+        List<Integer> ids = reemplazoIds.stream().distinct().toList();
+        log.info("Ejecutando {} reemplazos en lotes de {}", ids.size(), TAMANIO_LOTE);
+        Catalogos catalogos = resolverCatalogos();
+
+        List<ResultadoEjecucionReemplazo> resultados = new ArrayList<>(ids.size());
+        for (int desde = 0; desde < ids.size(); desde += TAMANIO_LOTE) {
+            List<Integer> lote = ids.subList(desde, Math.min(desde + TAMANIO_LOTE, ids.size()));
+            try {
+                resultados.addAll(transactionTemplate.execute(status -> ejecutarLote(lote, catalogos)));
+            } catch (RuntimeException e) {
+                log.error("Falló el lote de reemplazos {}..{}; se revirtió completo", lote.get(0), lote.get(lote.size() - 1), e);
+                lote.forEach(id -> resultados.add(ResultadoEjecucionReemplazo.fallido(id, e.getMessage())));
+            }
+        }
+
+        long ejecutados = resultados.stream().filter(ResultadoEjecucionReemplazo::isEjecutado).count();
+        log.info("Ejecución en lote terminada: {} de {} reemplazos ejecutados", ejecutados, ids.size());
+        return resultados;
+    }
+
+    private List<ResultadoEjecucionReemplazo> ejecutarLote(List<Integer> lote, Catalogos catalogos) {
+        Map<Integer, FilaEjecucion> filas = reemplazoRepository.bloquearParaEjecucion(lote).stream()
+                .collect(Collectors.toMap(FilaEjecucion::getId, Function.identity()));
+
+        Map<Integer, ResultadoEjecucionReemplazo> resultados = new LinkedHashMap<>();
+        List<FilaEjecucion> validos = new ArrayList<>();
+        Set<Integer> asignacionesUsadas = new HashSet<>();
+        Set<Integer> dispositivosUsados = new HashSet<>();
+        for (Integer id : lote) {
+            FilaEjecucion fila = filas.get(id);
+            String rechazo = fila == null ? null : validar(fila, asignacionesUsadas, dispositivosUsados);
+            if (fila == null) {
+                resultados.put(id, ResultadoEjecucionReemplazo.noEncontrado(id));
+            } else if (rechazo != null) {
+                resultados.put(id, ResultadoEjecucionReemplazo.rechazado(id, rechazo));
+            } else {
+                resultados.put(id, null);
+                validos.add(fila);
+            }
+        }
+
+        if (!validos.isEmpty()) {
+            List<Integer> ids = validos.stream().map(FilaEjecucion::getId).toList();
+
+            // La tenencia se ajusta primero: usa el valor registrado del original antes de moverlo
+            tenenciaRepository.ajustarPorReemplazos(ids);
+            tenenciaDispositivoRepository.moverPorReemplazos(ids);
+            asignacionRepository.devolverPorReemplazo(ids, catalogos.asignacionDevuelta());
+            asignacionRepository.crearPorReemplazo(ids, catalogos.asignacionActiva());
+            dispositivoRepository.intercambiarPorReemplazo(ids, catalogos.dispositivoDisponible(), catalogos.dispositivoAsignado());
+            reemplazoRepository.actualizarEstado(ids, catalogos.reemplazoCompletado());
+            historialRepository.registrarReemplazos(ids, catalogos.movimientoReemplazo(), catalogos.movimientoAsignacion());
+
+            Map<Integer, Integer> asignacionesCreadas = new HashMap<>();
+            for (AsignacionCreada creada : reemplazoRepository.findAsignacionesCreadas(ids, catalogos.asignacionActiva())) {
+                asignacionesCreadas.put(creada.getReemplazoId(), creada.getAsignacionId());
+            }
+            for (FilaEjecucion fila : validos) {
+                Integer asignacionId = asignacionesCreadas.get(fila.getId());
+                resultados.put(fila.getId(), ResultadoEjecucionReemplazo.ejecutado(fila.getId(), asignacionId));
+                eventPublisher.publishEvent(EventoCicloVida.deAsignacion(TipoEventoCicloVida.REEMPLAZO_EJECUTADO,
+                        asignacionId, fila.getDispositivoReemplazoId(), fila.getCodigoDispositivoReemplazo(),
+                        fila.getEmpleadoId(), fila.getSedeId(), fila.getAreaId(), "ACTIVA"));
+            }
+            List<Integer> dispositivos = new ArrayList<>(validos.size() * 2);
+            for (FilaEjecucion fila : validos) {
+                dispositivos.add(fila.getDispositivoOriginalId());
+                dispositivos.add(fila.getDispositivoReemplazoId());
+            }
+            eventPublisher.publishEvent(DispositivosModificados.de(dispositivos));
+            invalidacionCache.invalidar(CacheNames.DISPOSITIVOS);
+            invalidacionCache.invalidar(CacheNames.ASIGNACIONES);
+        }
+
+        log.debug("Lote de reemplazos {}..{}: {} ejecutados de {}",
+                lote.get(0), lote.get(lote.size() - 1), validos.size(), lote.size());
+        return List.copyOf(resultados.values());
+    }
+
+    /**
+     * Mismas reglas que la ejecución individual y la creación del reemplazo, más las del lote:
+     * una asignación o un dispositivo de reemplazo no pueden aparecer en dos reemplazos.
+     * Retorna el motivo del rechazo, o null si el reemplazo puede ejecutarse.
+     */
+    private static String validar(FilaEjecucion fila, Set<Integer> asignacionesUsadas, Set<Integer> dispositivosUsados) {
+        if (!"PENDIENTE".equals(fila.getEstadoReemplazo())) {
+            return "El reemplazo no está en estado pendiente";
+        }
+        if (!"ACTIVA".equals(fila.getEstadoAsignacion())) {
+            return "La asignación original ya no está activa";
+        }
+        if (!Boolean.TRUE.equals(fila.getReemplazoDisponible())) {
+            return "El dispositivo de reemplazo no está disponible";
+        }
+        if (!asignacionesUsadas.add(fila.getAsignacionOriginalId())) {
+            return "La asignación original ya se reemplaza en otro reemplazo del lote";
+        }
+        if (!dispositivosUsados.add(fila.getDispositivoReemplazoId())) {
+            asignacionesUsadas.remove(fila.getAsignacionOriginalId());
+            return "El dispositivo de reemplazo ya se usa en otro reemplazo del lote";
+        }
+        return null;
+    }
+
+    private Catalogos resolverCatalogos() {
+        return new Catalogos(
+                estadoReemplazoRepository.findByCodigo("COMPLETADO")
+                        .orElseThrow(() -> new ResourceNotFoundException("Estado COMPLETADO no encontrado")).getId(),
+                estadoAsignacionRepository.findByCodigo("DEVUELTA")
+                        .orElseThrow(() -> new ResourceNotFoundException("Estado DEVUELTA no encontrado")).getId(),
+                estadoAsignacionRepository.findByCodigo("ACTIVA")
+                        .orElseThrow(() -> new ResourceNotFoundException("Estado ACTIVA no encontrado")).getId(),
+                estadoDispositivoRepository.findByCodigo("DISPONIBLE")
+                        .orElseThrow(() -> new ResourceNotFoundException("Estado DISPONIBLE no encontrado")).getId(),
+                estadoDispositivoRepository.findByCodigo("ASIGNADO")
+                        .orElseThrow(() -> new ResourceNotFoundException("Estado ASIGNADO no encontrado")).getId(),
+                tipoMovimientoRepository.findByCodigo("REEMPLAZO")
+                        .orElseThrow(() -> new ResourceNotFoundException("Tipo de movimiento REEMPLAZO no encontrado")).getId(),
+                tipoMovimientoRepository.findByCodigo("ASIGNACION")
+                        .orElseThrow(() -> new ResourceNotFoundException("Tipo de movimiento ASIGNACION no encontrado")).getId());
+    }
+
+    /**
+     * IDs de catálogo usados por las sentencias de conjunto; se resuelven una vez por ejecución.
+     */
+    private record Catalogos(
+            Integer reemplazoCompletado,
+            Integer asignacionDevuelta,
+            Integer asignacionActiva,
+            Integer dispositivoDisponible,
+            Integer dispositivoAsignado,
+            Integer movimientoReemplazo,
+            Integer movimientoAsignacion) {
+    }
+}
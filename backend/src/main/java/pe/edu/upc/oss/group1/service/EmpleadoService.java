@@ -7,12 +7,18 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import pe.edu.upc.oss.group1.entity.Empleado;
+import pe.edu.upc.oss.group1.entity.RegistroEliminado;
 import pe.edu.upc.oss.group1.exception.BusinessValidationException;
-import pe.edu.upc.oss.group1.exception.DuplicateResourceException;
 import pe.edu.upc.oss.group1.exception.ResourceNotFoundException;
+import pe.edu.upc.oss.group1.persistencia.LecturaSinEstado;
 import pe.edu.upc.oss.group1.repository.EmpleadoRepository;
+import pe.edu.upc.oss.group1.repository.RegistroEliminadoRepository;
+import pe.edu.upc.oss.group1.unicidad.RestriccionUnica;
+import pe.edu.upc.oss.group1.unicidad.ValorUnico;
+import pe.edu.upc.oss.group1.unicidad.VerificadorUnicidad;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Servicio para gestión de empleados.
@@ -25,14 +31,37 @@ import java.util.List;
 public class EmpleadoService {
 
     private final EmpleadoRepository empleadoRepository;
+    private final RegistroEliminadoRepository registroEliminadoRepository;
+    private final VerificadorUnicidad verificadorUnicidad;
+    private final LecturaSinEstado lecturaSinEstado;
 
     /**
-     * Retorna todos los empleados.
+     * Listados para LecturaSinEstado con todo lo que lee EmpleadoMapper, incluida el área
+     * superior que muestra CatAreaMapper y el área del puesto que muestra CatPuestoMapper.
+     */
+    static final String LISTADO = "SELECT e FROM Empleado e " +
+            "JOIN FETCH e.area a " +
+            "LEFT JOIN FETCH a.areaSuperior " +
+            "JOIN FETCH e.puesto p " +
+            "LEFT JOIN FETCH p.area " +
+            "JOIN FETCH e.sede " +
+            "JOIN FETCH e.estadoEmpleado ee";
+    static final String ACTIVOS = LISTADO + " WHERE ee.codigo = 'ACTIVO'";
+    static final String BUSQUEDA = LISTADO + " WHERE " +
+            "LOWER(e.nombre) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+            "LOWER(e.apellidoPaterno) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+            "LOWER(e.apellidoMaterno) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+            "LOWER(e.email) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+            "LOWER(e.codigoEmpleado) LIKE LOWER(CONCAT('%', :search, '%'))";
+
+    /**
+     * Retorna todos los empleados, sin registrarlos en el contexto de persistencia (LecturaSinEstado).
+     * Los listados y la búsqueda leen así; las consultas de un empleado o de un lote siguen en el repositorio.
      */
     @Transactional(readOnly = true)
     public List<Empleado> findAll() {
         log.debug("Buscando todos los empleados");
-        return empleadoRepository.findAll();
+        return lecturaSinEstado.listar(LISTADO, Empleado.class);
     }
 
     /**
@@ -41,7 +70,7 @@ public class EmpleadoService {
     @Transactional(readOnly = true)
     public List<Empleado> findAllActivos() {
         log.debug("Buscando empleados activos");
-        return empleadoRepository.findAllActivos();
+        return lecturaSinEstado.listar(ACTIVOS, Empleado.class);
     }
 
     /**
@@ -54,6 +83,17 @@ public class EmpleadoService {
                 .orElseThrow(() -> new ResourceNotFoundException("Empleado no encontrado con ID: " + id));
     }
 
+    /**
+     * Busca varios empleados por ID o código, con sus relaciones cargadas.
+     */
+    @Transactional(readOnly = true)
+    public ResultadoLote<Empleado> findLote(ConsultaLote consulta) {
+        log.debug("Buscando empleados por lote: {}", consulta);
+        return consulta.resolver(empleadoRepository::findAllByIdInWithRelations,
+                empleadoRepository::findAllByCodigoEmpleadoInWithRelations,
+                Empleado::getId, Empleado::getCodigoEmpleado);
+    }
+
     /**
      * Busca un empleado por su código.
      */
@@ -88,7 +128,7 @@ public class EmpleadoService {
     @Transactional(readOnly = true)
     public Page<Empleado> search(String searchTerm, Pageable pageable) {
         log.debug("Buscando empleados con término: {}", searchTerm);
-        return empleadoRepository.searchEmpleados(searchTerm, pageable);
+        return lecturaSinEstado.paginar(BUSQUEDA, Empleado.class, Map.of("search", searchTerm), pageable);
     }
 
     /**
@@ -107,17 +147,10 @@ public class EmpleadoService {
     public Empleado create(Empleado empleado) {
         log.info("Creando nuevo empleado: {}", empleado.getCodigoEmpleado());
 
-        if (empleadoRepository.existsByCodigoEmpleado(empleado.getCodigoEmpleado())) {
-            throw new DuplicateResourceException("Ya existe un empleado con el código: " + empleado.getCodigoEmpleado());
-        }
-
-        if (empleadoRepository.existsByEmail(empleado.getEmail())) {
-            throw new DuplicateResourceException("Ya existe un empleado con el email: " + empleado.getEmail());
-        }
-
         validateEmpleadoData(empleado);
 
-        return empleadoRepository.save(empleado);
+        return verificadorUnicidad.guardar(() -> empleadoRepository.saveAndFlush(empleado),
+                valoresUnicos(empleado));
     }
 
     /**
@@ -128,16 +161,6 @@ public class EmpleadoService {
 
         Empleado existing = findById(id);
 
-        if (!existing.getCodigoEmpleado().equals(empleado.getCodigoEmpleado()) &&
-            empleadoRepository.existsByCodigoEmpleado(empleado.getCodigoEmpleado())) {
-            throw new DuplicateResourceException("Ya existe un empleado con el código: " + empleado.getCodigoEmpleado());
-        }
-
-        if (!existing.getEmail().equals(empleado.getEmail()) &&
-            empleadoRepository.existsByEmail(empleado.getEmail())) {
-            throw new DuplicateResourceException("Ya existe un empleado con el email: " + empleado.getEmail());
-        }
-
         validateEmpleadoData(empleado);
 
         existing.setCodigoEmpleado(empleado.getCodigoEmpleado());
@@ -153,7 +176,8 @@ public class EmpleadoService {
         existing.setFechaTermino(empleado.getFechaTermino());
         existing.setEstadoEmpleado(empleado.getEstadoEmpleado());
 
-        return empleadoRepository.save(existing);
+        return verificadorUnicidad.guardar(() -> empleadoRepository.saveAndFlush(existing),
+                valoresUnicos(existing));
     }
 
     /**
@@ -163,6 +187,14 @@ public class EmpleadoService {
         log.warn("Eliminando empleado con ID: {}", id);
         Empleado empleado = findById(id);
         empleadoRepository.delete(empleado);
+        registroEliminadoRepository.save(new RegistroEliminado(RegistroEliminado.EMPLEADOS, id));
+    }
+
+    private static ValorUnico[] valoresUnicos(Empleado empleado) {
+        return new ValorUnico[] {
+                RestriccionUnica.EMPLEADO_CODIGO.con(empleado.getCodigoEmpleado()),
+                RestriccionUnica.EMPLEADO_EMAIL.con(empleado.getEmail())
+        };
     }
 
     /**
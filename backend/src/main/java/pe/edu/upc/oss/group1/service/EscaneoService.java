@@ -0,0 +1,73 @@
+package pe.edu.upc.oss.group1.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoDispositivo;
+import pe.edu.upc.oss.group1.entity.catalogo.CatMarca;
+import pe.edu.upc.oss.group1.entity.catalogo.CatTipoDispositivo;
+import pe.edu.upc.oss.group1.escaneo.IndiceEscaneo;
+import pe.edu.upc.oss.group1.escaneo.ResumenEscaneo;
+import pe.edu.upc.oss.group1.exception.ResourceNotFoundException;
+import pe.edu.upc.oss.group1.repository.DispositivoRepository;
+import pe.edu.upc.oss.group1.service.catalogo.CatMarcaService;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Servicio para la lectura de etiquetas (código de barras / QR) en las estaciones de almacén.
+ *
+ * Resuelve primero con IndiceEscaneo y solo consulta la base si el índice no responde
+ * (no cargado, dispositivo nuevo o con cambios sin releer). Los catálogos salen de los
+ * listados cacheados. Sin @Transactional: una lectura resuelta en memoria no toma conexión.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EscaneoService {
+
+    private final IndiceEscaneo indiceEscaneo;
+    private final DispositivoRepository dispositivoRepository;
+    private final CatTipoDispositivoService tipoDispositivoService;
+    private final CatMarcaService marcaService;
+    private final CatEstadoDispositivoService estadoDispositivoService;
+
+    /**
+     * Busca un dispositivo por el texto leído: código de activo o número de serie.
+     */
+    public DispositivoEscaneado buscar(String codigo) {
+        String texto = codigo.trim();
+        Optional<ResumenEscaneo> enIndice = indiceEscaneo.buscar(texto);
+        ResumenEscaneo resumen = enIndice
+                .or(() -> buscarEnBaseDeDatos(texto))
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Dispositivo no encontrado con código o número de serie: " + texto));
+
+        return new DispositivoEscaneado(resumen,
+                catalogo(tipoDispositivoService.findAll(), resumen.tipoDispositivoId(), CatTipoDispositivo::getId),
+                catalogo(marcaService.findAll(), resumen.marcaId(), CatMarca::getId),
+                catalogo(estadoDispositivoService.findAll(), resumen.estadoDispositivoId(), CatEstadoDispositivo::getId),
+                enIndice.isPresent());
+    }
+
+    private Optional<ResumenEscaneo> buscarEnBaseDeDatos(String texto) {
+        log.debug("Escaneo '{}' no resuelto en memoria; consultando la base", texto);
+        List<ResumenEscaneo> encontrados = dispositivoRepository.findResumenEscaneo(texto);
+        // El código de activo tiene prioridad si coincide con la serie de otro dispositivo
+        return encontrados.stream()
+                .filter(resumen -> texto.equals(resumen.codigoActivo()))
+                .findFirst()
+                .or(() -> encontrados.stream().findFirst());
+    }
+
+    private static <C> C catalogo(List<C> catalogo, Integer id, Function<C, Integer> getId) {
+        for (C item : catalogo) {
+            if (getId.apply(item).equals(id)) {
+                return item;
+            }
+        }
+        return null;
+    }
+}
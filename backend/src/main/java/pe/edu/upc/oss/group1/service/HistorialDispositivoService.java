@@ -7,21 +7,32 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import pe.edu.upc.oss.group1.entity.DatosHistorial;
 import pe.edu.upc.oss.group1.entity.Dispositivo;
 import pe.edu.upc.oss.group1.entity.Empleado;
 import pe.edu.upc.oss.group1.entity.HistorialDispositivo;
 import pe.edu.upc.oss.group1.entity.Usuario;
 import pe.edu.upc.oss.group1.entity.catalogo.CatTipoMovimiento;
 import pe.edu.upc.oss.group1.exception.ResourceNotFoundException;
+import pe.edu.upc.oss.group1.repository.DispositivoRepository;
+import pe.edu.upc.oss.group1.repository.EmpleadoRepository;
 import pe.edu.upc.oss.group1.repository.HistorialDispositivoRepository;
 import pe.edu.upc.oss.group1.repository.catalogo.CatTipoMovimientoRepository;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Servicio para gestión del historial de dispositivos.
  * Proporciona auditoría completa de movimientos y cambios.
+ *
+ * Al registrar solo se guardan ids y campos cambiados ({@link DatosHistorial});
+ * la descripción legible se arma al leer, resolviendo nombres y códigos
+ * de todos los registros devueltos con una consulta por tabla.
  */
 @Service
 @Transactional
@@ -31,6 +42,8 @@ public class HistorialDispositivoService {
 
     private final HistorialDispositivoRepository historialRepository;
     private final CatTipoMovimientoRepository tipoMovimientoRepository;
+    private final EmpleadoRepository empleadoRepository;
+    private final DispositivoRepository dispositivoRepository;
 
     /**
      * Retorna el historial completo de un dispositivo.
@@ -38,7 +51,7 @@ public class HistorialDispositivoService {
     @Transactional(readOnly = true)
     public List<HistorialDispositivo> findByDispositivo(Integer dispositivoId) {
         log.debug("Buscando historial del dispositivo ID: {}", dispositivoId);
-        return historialRepository.findByDispositivoIdOrderByFechaMovimientoDesc(dispositivoId);
+        return describir(historialRepository.findByDispositivoIdOrderByFechaMovimientoDesc(dispositivoId));
     }
 
     /**
@@ -47,7 +60,10 @@ public class HistorialDispositivoService {
     @Transactional(readOnly = true)
     public Page<HistorialDispositivo> findByDispositivo(Integer dispositivoId, Pageable pageable) {
         log.debug("Buscando historial del dispositivo ID {} con paginación", dispositivoId);
-        return historialRepository.findByDispositivoIdOrderByFechaMovimientoDesc(dispositivoId, pageable);
+        Page<HistorialDispositivo> historial =
+                historialRepository.findByDispositivoIdOrderByFechaMovimientoDesc(dispositivoId, pageable);
+        describir(historial.getContent());
+        return historial;
     }
 
     /**
@@ -56,7 +72,17 @@ public class HistorialDispositivoService {
     @Transactional(readOnly = true)
     public List<HistorialDispositivo> findUltimosMovimientos(Integer dispositivoId, int cantidad) {
         log.debug("Buscando últimos {} movimientos del dispositivo ID {}", cantidad, dispositivoId);
-        return historialRepository.findUltimosMovimientos(dispositivoId, PageRequest.of(0, cantidad));
+        return describir(historialRepository.findUltimosMovimientos(dispositivoId, PageRequest.of(0, cantidad)));
+    }
+
+    /**
+     * Retorna los movimientos en los que participó un empleado (asignaciones, devoluciones, reemplazos).
+     * Consulta el payload JSONB, resuelta por el índice GIN idx_historial_datos.
+     */
+    @Transactional(readOnly = true)
+    public List<HistorialDispositivo> findByEmpleado(Integer empleadoId) {
+        log.debug("Buscando historial del empleado ID: {}", empleadoId);
+        return describir(historialRepository.findByEmpleadoInvolucrado(empleadoId));
     }
 
     /**
@@ -72,7 +98,7 @@ public class HistorialDispositivoService {
         historial.setDispositivo(dispositivo);
         historial.setTipoMovimiento(tipoAsignacion);
         historial.setUsuario(usuario);
-        historial.setDescripcion(String.format("Asignado a %s", empleado.getNombreCompleto()));
+        historial.setDatos(DatosHistorial.deEmpleado(empleado.getId()));
         historial.setFechaMovimiento(LocalDateTime.now());
 
         return historialRepository.save(historial);
@@ -91,7 +117,7 @@ public class HistorialDispositivoService {
         historial.setDispositivo(dispositivo);
         historial.setTipoMovimiento(tipoDevolucion);
         historial.setUsuario(usuario);
-        historial.setDescripcion(String.format("Devuelto por %s", empleado.getNombreCompleto()));
+        historial.setDatos(DatosHistorial.deEmpleado(empleado.getId()));
         historial.setFechaMovimiento(LocalDateTime.now());
 
         return historialRepository.save(historial);
@@ -114,10 +140,7 @@ public class HistorialDispositivoService {
         historial.setDispositivo(dispositivoOriginal);
         historial.setTipoMovimiento(tipoReemplazo);
         historial.setUsuario(usuario);
-        historial.setDescripcion(String.format("Reemplazado por %s. Motivo: %s. Empleado: %s",
-                dispositivoReemplazo.getCodigoActivo(),
-                motivo,
-                empleado.getNombreCompleto()));
+        historial.setDatos(DatosHistorial.deReemplazo(empleado.getId(), dispositivoReemplazo.getId(), motivo));
         historial.setFechaMovimiento(LocalDateTime.now());
 
         return historialRepository.save(historial);
@@ -140,10 +163,7 @@ public class HistorialDispositivoService {
         historial.setDispositivo(dispositivo);
         historial.setTipoMovimiento(tipoCambio);
         historial.setUsuario(usuario);
-        historial.setDescripcion(descripcion != null ? descripcion :
-                String.format("Estado cambiado de %s a %s", estadoAnterior, estadoNuevo));
-        historial.setDatosAnteriores(estadoAnterior);
-        historial.setDatosNuevos(estadoNuevo);
+        historial.setDatos(DatosHistorial.deCambio("estado", estadoAnterior, estadoNuevo, descripcion));
         historial.setFechaMovimiento(LocalDateTime.now());
 
         return historialRepository.save(historial);
@@ -164,7 +184,7 @@ public class HistorialDispositivoService {
         historial.setDispositivo(dispositivo);
         historial.setTipoMovimiento(tipoMantenimiento);
         historial.setUsuario(usuario);
-        historial.setDescripcion(descripcion);
+        historial.setDatos(DatosHistorial.deObservacion(descripcion));
         historial.setFechaMovimiento(LocalDateTime.now());
 
         return historialRepository.save(historial);
@@ -188,9 +208,77 @@ public class HistorialDispositivoService {
         historial.setDispositivo(dispositivo);
         historial.setTipoMovimiento(tipoMovimiento);
         historial.setUsuario(usuario);
-        historial.setDescripcion(descripcion);
+        historial.setDatos(DatosHistorial.deObservacion(descripcion));
         historial.setFechaMovimiento(LocalDateTime.now());
 
         return historialRepository.save(historial);
     }
+
+    /**
+     * Arma la descripción de los registros que no la tienen almacenada.
+     * Los empleados y dispositivos referenciados se cargan en una sola consulta por tabla.
+     */
+    private List<HistorialDispositivo> describir(List<HistorialDispositivo> historial) {
+        Set<Integer> empleadoIds = new HashSet<>();
+        Set<Integer> dispositivoIds = new HashSet<>();
+        for (HistorialDispositivo registro : historial) {
+            DatosHistorial datos = registro.getDatos();
+            if (registro.getDescripcion() == null && datos != null) {
+                if (datos.empleadoId() != null) {
+                    empleadoIds.add(datos.empleadoId());
+                }
+                if (datos.dispositivoId() != null) {
+                    dispositivoIds.add(datos.dispositivoId());
+                }
+            }
+        }
+
+        Map<Integer, String> nombresEmpleado = new HashMap<>();
+        if (!empleadoIds.isEmpty()) {
+            for (Empleado empleado : empleadoRepository.findAllById(empleadoIds)) {
+                nombresEmpleado.put(empleado.getId(), empleado.getNombreCompleto());
+            }
+        }
+        Map<Integer, String> codigosDispositivo = new HashMap<>();
+        if (!dispositivoIds.isEmpty()) {
+            for (Dispositivo dispositivo : dispositivoRepository.findAllById(dispositivoIds)) {
+                codigosDispositivo.put(dispositivo.getId(), dispositivo.getCodigoActivo());
+            }
+        }
+
+        for (HistorialDispositivo registro : historial) {
+            if (registro.getDescripcion() == null) {
+                registro.setDescripcionRenderizada(renderizar(registro, nombresEmpleado, codigosDispositivo));
+            }
+        }
+        return historial;
+    }
+
+    private static String renderizar(HistorialDispositivo registro,
+                                     Map<Integer, String> nombresEmpleado,
+                                     Map<Integer, String> codigosDispositivo) {
+        DatosHistorial datos = registro.getDatos();
+        if (datos == null) {
+            return null;
+        }
+        String empleado = datos.empleadoId() != null ? nombresEmpleado.get(datos.empleadoId()) : null;
+
+        // Las partes sin dato (empleado o dispositivo eliminado, motivo vacío) se omiten
+        return switch (registro.getTipoMovimiento().getCodigo()) {
+            case "ASIGNACION" -> "Asignado" + parte(" a ", empleado);
+            case "DEVOLUCION" -> "Devuelto" + parte(" por ", empleado);
+            case "REEMPLAZO" -> "Reemplazado" + parte(" por ", codigosDispositivo.get(datos.dispositivoId()))
+                    + parte(". Motivo: ", datos.motivo()) + parte(". Empleado: ", empleado);
+            default -> {
+                DatosHistorial.Cambio estado = datos.cambio("estado");
+                yield datos.observacion() == null && estado != null
+                        ? "Estado cambiado" + parte(" de ", estado.de()) + parte(" a ", estado.a())
+                        : datos.observacion();
+            }
+        };
+    }
+
+    private static String parte(String prefijo, String valor) {
+        return valor != null ? prefijo + valor : "";
+    }
 }
@@ -0,0 +1,202 @@
+package pe.edu.upc.oss.group1.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import pe.edu.upc.oss.group1.entity.AsignacionDispositivo;
+import pe.edu.upc.oss.group1.entity.Dispositivo;
+import pe.edu.upc.oss.group1.entity.Empleado;
+import pe.edu.upc.oss.group1.entity.InventarioSnapshot;
+import pe.edu.upc.oss.group1.exception.BusinessValidationException;
+import pe.edu.upc.oss.group1.exception.DuplicateResourceException;
+import pe.edu.upc.oss.group1.exception.ResourceNotFoundException;
+import pe.edu.upc.oss.group1.repository.AsignacionDispositivoRepository;
+import pe.edu.upc.oss.group1.repository.DispositivoRepository;
+import pe.edu.upc.oss.group1.repository.EmpleadoRepository;
+import pe.edu.upc.oss.group1.repository.InventarioSnapshotRepository;
+import pe.edu.upc.oss.group1.repository.InventarioSnapshotTenenciaRepository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Servicio de consultas de tenencia a una fecha pasada (as-of).
+ *
+ * Periódicamente se guarda un snapshot con los dispositivos asignados al cierre de un día.
+ * Para consultar una fecha D se parte del snapshot más cercano anterior a D y se reproducen
+ * solo las asignaciones entregadas o devueltas entre su fecha de corte y D, de modo que el
+ * costo depende del intervalo entre snapshots y no del largo del historial.
+ * Las fechas de asignación y devolución son días: se responde el estado al cierre del día.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+@Slf4j
+public class InventarioHistoricoService {
+
+    /** Base de la reproducción cuando la fecha consultada es anterior al primer snapshot. */
+    private static final LocalDate SIN_SNAPSHOT = LocalDate.of(1900, 1, 1);
+
+    private final InventarioSnapshotRepository snapshotRepository;
+    private final InventarioSnapshotTenenciaRepository snapshotTenenciaRepository;
+    private final AsignacionDispositivoRepository asignacionRepository;
+    private final DispositivoRepository dispositivoRepository;
+    private final EmpleadoRepository empleadoRepository;
+
+    /**
+     * Retorna quién tenía el dispositivo al cierre de la fecha indicada.
+     */
+    @Transactional(readOnly = true)
+    public TenenciaHistorica findTenenciaDispositivo(Integer dispositivoId, LocalDate fecha) {
+        log.debug("Buscando tenencia del dispositivo ID {} al {}", dispositivoId, fecha);
+        validarFecha(fecha);
+
+        Dispositivo dispositivo = dispositivoRepository.findById(dispositivoId)
+                .orElseThrow(() -> new ResourceNotFoundException("Dispositivo", "id", dispositivoId));
+
+        return reproducir(List.of(dispositivo), fecha).get(0);
+    }
+
+    /**
+     * Retorna con paginación el inventario (dispositivos registrados y quién los tenía)
+     * al cierre de la fecha indicada.
+     */
+    @Transactional(readOnly = true)
+    public Page<TenenciaHistorica> findInventario(LocalDate fecha, Pageable pageable) {
+        log.debug("Buscando inventario al {} con paginación", fecha);
+        validarFecha(fecha);
+
+        Page<Dispositivo> dispositivos =
+                dispositivoRepository.findRegistradosAntesDe(fecha.plusDays(1).atStartOfDay(), pageable);
+        return new PageImpl<>(reproducir(dispositivos.getContent(), fecha),
+                dispositivos.getPageable(), dispositivos.getTotalElements());
+    }
+
+    /**
+     * Guarda un snapshot con los dispositivos asignados al cierre de la fecha de corte.
+     * Se arma con un INSERT ... SELECT sobre las asignaciones, sin pasar las filas por la aplicación.
+     */
+    public InventarioSnapshot crearSnapshot(LocalDate fechaCorte) {
+        log.info("Creando snapshot de inventario al {}", fechaCorte);
+
+        if (!fechaCorte.isBefore(LocalDate.now())) {
+            throw new BusinessValidationException("Solo se puede crear un snapshot de un día ya cerrado");
+        }
+        if (snapshotRepository.existsByFechaCorte(fechaCorte)) {
+            throw new DuplicateResourceException("Ya existe un snapshot de inventario al " + fechaCorte);
+        }
+
+        InventarioSnapshot snapshot = snapshotRepository.save(new InventarioSnapshot(fechaCorte));
+        snapshot.setCantidadAsignados(
+                snapshotTenenciaRepository.copiarAsignacionesVigentes(snapshot.getId(), fechaCorte));
+
+        log.info("Snapshot de inventario al {} creado con {} dispositivos asignados",
+                fechaCorte, snapshot.getCantidadAsignados());
+        return snapshot;
+    }
+
+    /**
+     * Crea el snapshot del día anterior según app.inventario.snapshot.cron.
+     * Con varias instancias, la restricción única de fecha_corte evita snapshots duplicados.
+     */
+    @Scheduled(cron = "${app.inventario.snapshot.cron}")
+    public void crearSnapshotPeriodico() {
+        LocalDate fechaCorte = LocalDate.now().minusDays(1);
+        if (snapshotRepository.existsByFechaCorte(fechaCorte)) {
+            log.debug("El snapshot de inventario al {} ya existe", fechaCorte);
+            return;
+        }
+        crearSnapshot(fechaCorte);
+    }
+
+    private void validarFecha(LocalDate fecha) {
+        if (fecha.isAfter(LocalDate.now())) {
+            throw new BusinessValidationException("La fecha de consulta no puede ser futura");
+        }
+    }
+
+    /**
+     * Reconstruye la tenencia de los dispositivos al cierre de la fecha:
+     * snapshot más cercano + asignaciones entregadas o devueltas después de su fecha de corte.
+     */
+    private List<TenenciaHistorica> reproducir(List<Dispositivo> dispositivos, LocalDate fecha) {
+        if (dispositivos.isEmpty()) {
+            return List.of();
+        }
+
+        List<Integer> dispositivoIds = new ArrayList<>(dispositivos.size());
+        for (Dispositivo dispositivo : dispositivos) {
+            dispositivoIds.add(dispositivo.getId());
+        }
+
+        Optional<InventarioSnapshot> snapshot =
+                snapshotRepository.findFirstByFechaCorteLessThanEqualOrderByFechaCorteDesc(fecha);
+        LocalDate desde = snapshot.map(InventarioSnapshot::getFechaCorte).orElse(SIN_SNAPSHOT);
+        Integer snapshotId = snapshot.map(InventarioSnapshot::getId).orElse(null);
+
+        // dispositivo -> asignación vigente
+        Map<Integer, Vigente> vigentes = new HashMap<>();
+        snapshot.ifPresent(s -> snapshotTenenciaRepository
+                .findByIdSnapshotAndIdDispositivoIn(s.getId(), dispositivoIds)
+                .forEach(t -> vigentes.put(t.getIdDispositivo(), new Vigente(t.getIdAsignacion(), t.getIdEmpleado()))));
+
+        if (desde.isBefore(fecha)) {
+            List<AsignacionDispositivo> movimientos =
+                    new ArrayList<>(asignacionRepository.findMovimientosEntre(dispositivoIds, snapshotId, desde, fecha));
+            // Por ID: una asignación posterior reemplaza a la anterior del mismo dispositivo
+            movimientos.sort(Comparator.comparing(AsignacionDispositivo::getId));
+            for (AsignacionDispositivo asignacion : movimientos) {
+                Integer dispositivoId = asignacion.getDispositivo().getId();
+                // Una cancelada no cuenta nunca (igual que sin snapshot): se quita si el snapshot la tenía
+                if (!asignacion.isCancelada() && estaVigente(asignacion, fecha)) {
+                    vigentes.put(dispositivoId, new Vigente(asignacion.getId(), asignacion.getEmpleado().getId()));
+                } else {
+                    vigentes.computeIfPresent(dispositivoId,
+                            (id, vigente) -> vigente.asignacionId().equals(asignacion.getId()) ? null : vigente);
+                }
+            }
+        }
+
+        Set<Integer> empleadoIds = new HashSet<>();
+        for (Vigente vigente : vigentes.values()) {
+            empleadoIds.add(vigente.empleadoId());
+        }
+        Map<Integer, Empleado> empleados = new HashMap<>();
+        if (!empleadoIds.isEmpty()) {
+            for (Empleado empleado : empleadoRepository.findAllById(empleadoIds)) {
+                empleados.put(empleado.getId(), empleado);
+            }
+        }
+
+        LocalDate fechaSnapshot = snapshot.map(InventarioSnapshot::getFechaCorte).orElse(null);
+        List<TenenciaHistorica> resultado = new ArrayList<>(dispositivos.size());
+        for (Dispositivo dispositivo : dispositivos) {
+            Vigente vigente = vigentes.get(dispositivo.getId());
+            resultado.add(vigente == null
+                    ? new TenenciaHistorica(dispositivo, null, null, fecha, fechaSnapshot)
+                    : new TenenciaHistorica(dispositivo, empleados.get(vigente.empleadoId()),
+                            vigente.asignacionId(), fecha, fechaSnapshot));
+        }
+        return resultado;
+    }
+
+    private static boolean estaVigente(AsignacionDispositivo asignacion, LocalDate fecha) {
+        return !asignacion.getFechaAsignacion().isAfter(fecha)
+                && (asignacion.getFechaDevolucion() == null || asignacion.getFechaDevolucion().isAfter(fecha));
+    }
+
+    private record Vigente(Integer asignacionId, Integer empleadoId) {
+    }
+}
@@ -0,0 +1,65 @@
+package pe.edu.upc.oss.group1.service;
+
+import pe.edu.upc.oss.group1.exception.BusinessValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Marca de sincronización que el servidor entrega al cliente y este devuelve en la siguiente
+ * consulta. Para el cliente es un texto opaco.
+ *
+ * - Entre sincronizaciones solo lleva "desde": se entregan los cambios posteriores a ese instante.
+ * - Mientras se pagina lleva además el corte de la sincronización (el "desde" de la siguiente),
+ *   el flujo en curso y la última posición (actualización, id) leída en ese flujo.
+ *
+ * @param desde      instante a partir del cual se leen los flujos que aún no empezaron
+ * @param corte      "desde" de la siguiente sincronización; null entre sincronizaciones
+ * @param flujo      flujo en curso; null entre sincronizaciones
+ * @param posicion   actualización de la última fila leída del flujo en curso
+ * @param posicionId id de la última fila leída del flujo en curso
+ */
+public record MarcaSincronizacion(LocalDateTime desde, LocalDateTime corte, String flujo,
+                                  LocalDateTime posicion, long posicionId) {
+
+    private static final String VERSION = "1";
+    private static final String SEPARADOR = "|";
+
+    public static MarcaSincronizacion entre(LocalDateTime desde) {
+        return new MarcaSincronizacion(desde, null, null, null, 0);
+    }
+
+    public boolean isEnCurso() {
+        return flujo != null;
+    }
+
+    public String codificar() {
+        String texto = isEnCurso()
+                ? String.join(SEPARADOR, VERSION, desde.toString(), corte.toString(), flujo,
+                        posicion.toString(), Long.toString(posicionId))
+                : String.join(SEPARADOR, VERSION, desde.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(texto.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static MarcaSincronizacion decodificar(String marca) {
+        try {
+            String[] partes = new String(Base64.getUrlDecoder().decode(marca), StandardCharsets.UTF_8)
+                    .split("\\" + SEPARADOR, -1);
+            if (!VERSION.equals(partes[0])) {
+                throw new BusinessValidationException("Marca de sincronización inválida");
+            }
+            if (partes.length == 2) {
+                return entre(LocalDateTime.parse(partes[1]));
+            }
+            if (partes.length == 6) {
+                return new MarcaSincronizacion(LocalDateTime.parse(partes[1]), LocalDateTime.parse(partes[2]),
+                        partes[3], LocalDateTime.parse(partes[4]), Long.parseLong(partes[5]));
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            // se informa abajo
+        }
+        throw new BusinessValidationException("Marca de sincronización inválida");
+    }
+}
@@ -0,0 +1,40 @@
+package pe.edu.upc.oss.group1.service;
+
+import pe.edu.upc.oss.group1.entity.AsignacionDispositivo;
+import pe.edu.upc.oss.group1.entity.Empleado;
+import pe.edu.upc.oss.group1.entity.HistorialDispositivo;
+import pe.edu.upc.oss.group1.entity.ReemplazoDispositivo;
+import pe.edu.upc.oss.group1.entity.SolicitudDevolucion;
+import pe.edu.upc.oss.group1.entity.TenenciaEmpleado;
+import pe.edu.upc.oss.group1.entity.TenenciaEmpleadoDispositivo;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Vista 360 de un empleado armada por {@link PerfilEmpleadoService}.
+ *
+ * Las secciones que no se pudieron leer a tiempo (o fallaron) quedan en null y su motivo
+ * aparece en {@code seccionesIncompletas}; el resto del perfil se devuelve igual.
+ */
+public record PerfilEmpleado(
+        Empleado empleado,
+        Tenencia tenencia,
+        List<AsignacionDispositivo> asignacionesActivas,
+        List<ReemplazoDispositivo> reemplazos,
+        List<SolicitudDevolucion> solicitudes,
+        List<HistorialDispositivo> historial,
+        Map<Seccion, String> seccionesIncompletas) {
+
+    public enum Seccion { TENENCIA, ASIGNACIONES_ACTIVAS, REEMPLAZOS, SOLICITUDES, HISTORIAL }
+
+    /**
+     * Resumen de tenencia y dispositivos en poder del empleado.
+     */
+    public record Tenencia(TenenciaEmpleado resumen, List<TenenciaEmpleadoDispositivo> dispositivos) {
+    }
+
+    public boolean isCompleto() {
+        return seccionesIncompletas.isEmpty();
+    }
+}
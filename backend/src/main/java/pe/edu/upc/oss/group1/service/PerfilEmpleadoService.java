@@ -0,0 +1,225 @@
+package pe.edu.upc.oss.group1.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import pe.edu.upc.oss.group1.entity.AsignacionDispositivo;
+import pe.edu.upc.oss.group1.entity.Empleado;
+import pe.edu.upc.oss.group1.entity.HistorialDispositivo;
+import pe.edu.upc.oss.group1.entity.ReemplazoDispositivo;
+import pe.edu.upc.oss.group1.entity.SolicitudDevolucion;
+import pe.edu.upc.oss.group1.exception.ServicioNoDisponibleException;
+import pe.edu.upc.oss.group1.service.PerfilEmpleado.Seccion;
+import pe.edu.upc.oss.group1.service.PerfilEmpleado.Tenencia;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Servicio que arma el perfil 360 de un empleado en una sola llamada.
+ *
+ * Cada sección (datos del empleado, tenencia, asignaciones activas, reemplazos, solicitudes de
+ * devolución e historial) se lee en paralelo en un hilo virtual, con su propia transacción de solo
+ * lectura y por lo tanto su propia conexión. Dos semáforos acotan las conexiones: uno por perfil,
+ * para que una pantalla no acapare el cupo, y uno del servicio compartido por todos los perfiles
+ * en curso, menor que el pool de Hikari, para que muchos perfiles a la vez no lo agoten.
+ *
+ * Todas las secciones comparten un plazo: la que no termina a tiempo o falla se omite y se informa
+ * en {@link PerfilEmpleado#seccionesIncompletas()}. La transacción de cada sección tiene como
+ * timeout el plazo restante, que Hibernate aplica a cada sentencia JDBC: una sección cancelada
+ * no retiene su conexión hasta que termine la consulta. Solo los datos del empleado son
+ * obligatorios: si el empleado no existe se propaga la excepción del servicio (404) y si no se
+ * leen a tiempo se responde 503.
+ *
+ * No es transaccional: no debe retener una conexión mientras espera a las secciones.
+ */
+@Service
+@Slf4j
+public class PerfilEmpleadoService implements DisposableBean {
+
+    private final EmpleadoService empleadoService;
+    private final TenenciaEmpleadoService tenenciaService;
+    private final AsignacionDispositivoService asignacionService;
+    private final ReemplazoDispositivoService reemplazoService;
+    private final SolicitudDevolucionService solicitudService;
+    private final HistorialDispositivoService historialService;
+    private final PlatformTransactionManager transactionManager;
+    private final ExecutorService lecturas = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore conexionesServicio;
+    private final int conexionesPorPerfil;
+    private final Duration timeoutSeccion;
+
+    public PerfilEmpleadoService(
+            EmpleadoService empleadoService,
+            TenenciaEmpleadoService tenenciaService,
+            AsignacionDispositivoService asignacionService,
+            ReemplazoDispositivoService reemplazoService,
+            SolicitudDevolucionService solicitudService,
+            HistorialDispositivoService historialService,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.perfil-empleado.conexiones:3}") int conexionesPorPerfil,
+            @Value("${app.perfil-empleado.conexiones-totales:5}") int conexionesTotales,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int tamanioPool,
+            @Value("${app.perfil-empleado.timeout-seccion:2s}") Duration timeoutSeccion) {
+        this.empleadoService = empleadoService;
+        this.tenenciaService = tenenciaService;
+        this.asignacionService = asignacionService;
+        this.reemplazoService = reemplazoService;
+        this.solicitudService = solicitudService;
+        this.historialService = historialService;
+        this.transactionManager = transactionManager;
+        // Siempre queda al menos una conexión del pool para el resto de la aplicación
+        int cupo = Math.max(1, Math.min(conexionesTotales, tamanioPool - 1));
+        if (cupo != conexionesTotales) {
+            log.warn("app.perfil-empleado.conexiones-totales={} no cabe en el pool de {}; se usa {}",
+                    conexionesTotales, tamanioPool, cupo);
+        }
+        this.conexionesServicio = new Semaphore(cupo, true);
+        this.conexionesPorPerfil = conexionesPorPerfil;
+        this.timeoutSeccion = timeoutSeccion;
+    }
+
+    /**
+     * Lee en paralelo todas las secciones del perfil y retorna las que terminaron dentro del plazo.
+     */
+    public PerfilEmpleado findByEmpleado(Integer empleadoId) {
+        log.debug("Armando perfil del empleado ID: {}", empleadoId);
+        long limite = System.nanoTime() + timeoutSeccion.toNanos();
+        Semaphore conexiones = new Semaphore(conexionesPorPerfil);
+
+        Future<Empleado> empleado = leer(conexiones, limite, () -> empleadoService.findById(empleadoId));
+        Future<Tenencia> tenencia = leer(conexiones, limite, () -> new Tenencia(
+                tenenciaService.findByEmpleado(empleadoId), tenenciaService.findDispositivos(empleadoId)));
+        Future<List<AsignacionDispositivo>> asignaciones =
+                leer(conexiones, limite, () -> asignacionService.findActivasByEmpleado(empleadoId));
+        Future<List<ReemplazoDispositivo>> reemplazos =
+                leer(conexiones, limite, () -> reemplazoService.findByEmpleado(empleadoId));
+        Future<List<SolicitudDevolucion>> solicitudes =
+                leer(conexiones, limite, () -> solicitudService.findByEmpleado(empleadoId));
+        Future<List<HistorialDispositivo>> historial =
+                leer(conexiones, limite, () -> historialService.findByEmpleado(empleadoId));
+
+        Map<Seccion, String> incompletas = new EnumMap<>(Seccion.class);
+        Empleado datosEmpleado;
+        try {
+            datosEmpleado = empleado.get(restante(limite), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            cancelar(tenencia, asignaciones, reemplazos, solicitudes, historial);
+            throw e.getCause() instanceof RuntimeException runtime ? runtime : new IllegalStateException(e.getCause());
+        } catch (TimeoutException | InterruptedException e) {
+            cancelar(empleado, tenencia, asignaciones, reemplazos, solicitudes, historial);
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            throw new ServicioNoDisponibleException(
+                    "No se pudieron leer los datos del empleado ID " + empleadoId + " a tiempo", e);
+        }
+
+        PerfilEmpleado perfil = new PerfilEmpleado(
+                datosEmpleado,
+                esperar(Seccion.TENENCIA, tenencia, limite, incompletas),
+                esperar(Seccion.ASIGNACIONES_ACTIVAS, asignaciones, limite, incompletas),
+                esperar(Seccion.REEMPLAZOS, reemplazos, limite, incompletas),
+                esperar(Seccion.SOLICITUDES, solicitudes, limite, incompletas),
+                esperar(Seccion.HISTORIAL, historial, limite, incompletas),
+                incompletas);
+
+        if (!perfil.isCompleto()) {
+            log.warn("Perfil del empleado ID {} incompleto: {}", empleadoId, incompletas);
+        }
+        return perfil;
+    }
+
+    /**
+     * Lanza la lectura en un hilo virtual; espera su turno de conexión (del perfil y del servicio)
+     * sin pasar el plazo y la ejecuta en una transacción cuyo timeout es el plazo restante.
+     */
+    private <T> Future<T> leer(Semaphore conexiones, long limite, Callable<T> lectura) {
+        return lecturas.submit(() -> {
+            if (!conexiones.tryAcquire(restante(limite), TimeUnit.NANOSECONDS)) {
+                throw new TimeoutException("sin conexión disponible dentro del plazo");
+            }
+            try {
+                if (!conexionesServicio.tryAcquire(restante(limite), TimeUnit.NANOSECONDS)) {
+                    throw new TimeoutException("sin conexión disponible dentro del plazo");
+                }
+                try {
+                    return enTransaccion(limite, lectura);
+                } finally {
+                    conexionesServicio.release();
+                }
+            } finally {
+                conexiones.release();
+            }
+        });
+    }
+
+    /**
+     * El timeout de una transacción es en segundos: se redondea hacia arriba el plazo restante.
+     */
+    private <T> T enTransaccion(long limite, Callable<T> lectura) throws TimeoutException {
+        long restante = restante(limite);
+        if (restante == 0) {
+            throw new TimeoutException("plazo agotado antes de leer");
+        }
+        TransactionTemplate transaccion = new TransactionTemplate(transactionManager);
+        transaccion.setReadOnly(true);
+        transaccion.setTimeout((int) Math.max(1, TimeUnit.NANOSECONDS.toSeconds(restante + 999_999_999L)));
+        return transaccion.execute(status -> {
+            try {
+                return lectura.call();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private static <T> T esperar(Seccion seccion, Future<T> futuro, long limite, Map<Seccion, String> incompletas) {
+        try {
+            return futuro.get(restante(limite), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            futuro.cancel(true);
+            incompletas.put(seccion, "Tiempo de espera agotado");
+        } catch (ExecutionException e) {
+            Throwable causa = e.getCause();
+            log.warn("Falló la sección {} del perfil: {}", seccion, causa.toString());
+            incompletas.put(seccion, causa instanceof TimeoutException
+                    ? "Tiempo de espera agotado" : "Error al leer la sección");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futuro.cancel(true);
+            incompletas.put(seccion, "Lectura interrumpida");
+        }
+        return null;
+    }
+
+    private static long restante(long limite) {
+        return Math.max(0, limite - System.nanoTime());
+    }
+
+    private static void cancelar(Future<?>... futuros) {
+        for (Future<?> futuro : futuros) {
+            futuro.cancel(true);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        lecturas.shutdownNow();
+    }
+}
@@ -2,14 +2,21 @@ package pe.edu.upc.oss.group1.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import pe.edu.upc.oss.group1.cache.CacheNames;
 import pe.edu.upc.oss.group1.entity.*;
 import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoAsignacion;
 import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoDispositivo;
 import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoReemplazo;
+import pe.edu.upc.oss.group1.evento.DispositivosModificados;
+import pe.edu.upc.oss.group1.evento.EventoCicloVida;
+import pe.edu.upc.oss.group1.evento.TipoEventoCicloVida;
 import pe.edu.upc.oss.group1.exception.BusinessValidationException;
 import pe.edu.upc.oss.group1.exception.ResourceNotFoundException;
+import pe.edu.upc.oss.group1.persistencia.LecturaSinEstado;
 import pe.edu.upc.oss.group1.repository.AsignacionDispositivoRepository;
 import pe.edu.upc.oss.group1.repository.ReemplazoDispositivoRepository;
 import pe.edu.upc.oss.group1.repository.catalogo.CatEstadoAsignacionRepository;
@@ -33,17 +40,41 @@ public class ReemplazoDispositivoService {
     private final AsignacionDispositivoRepository asignacionRepository;
     private final DispositivoService dispositivoService;
     private final HistorialDispositivoService historialService;
+    private final TenenciaEmpleadoService tenenciaService;
     private final CatEstadoReemplazoRepository estadoReemplazoRepository;
     private final CatEstadoDispositivoRepository estadoDispositivoRepository;
     private final CatEstadoAsignacionRepository estadoAsignacionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LecturaSinEstado lecturaSinEstado;
 
     /**
-     * Retorna todos los reemplazos.
+     * El mapper lee la asignación original completa, los dos dispositivos y el empleado:
+     * cada uno con los mismos catálogos que sus propios listados.
+     */
+    static final String LISTADO = "SELECT r FROM ReemplazoDispositivo r " +
+            "JOIN FETCH r.asignacionOriginal a " +
+            fetchDispositivo("a.dispositivo", "ad") +
+            fetchEmpleado("a.empleado", "ae") +
+            "JOIN FETCH a.usuarioAsigna " +
+            "LEFT JOIN FETCH a.usuarioRecibe " +
+            "JOIN FETCH a.estadoAsignacion " +
+            fetchDispositivo("r.dispositivoOriginal", "o") +
+            fetchDispositivo("r.dispositivoReemplazo", "n") +
+            fetchEmpleado("r.empleado", "e") +
+            "JOIN FETCH r.motivoReemplazo " +
+            "JOIN FETCH r.estadoReemplazo er " +
+            "JOIN FETCH r.usuarioRegistra";
+    static final String PENDIENTES = LISTADO + " WHERE er.codigo = 'PENDIENTE'";
+
+    /**
+     * Retorna todos los reemplazos, sin registrarlos en el contexto de persistencia (LecturaSinEstado).
+     * Los listados leen así; los reemplazos de un empleado son pocas filas y siguen en el
+     * repositorio, igual que las consultas por ID.
      */
     @Transactional(readOnly = true)
     public List<ReemplazoDispositivo> findAll() {
         log.debug("Buscando todos los reemplazos");
-        return reemplazoRepository.findAll();
+        return lecturaSinEstado.listar(LISTADO, ReemplazoDispositivo.class);
     }
 
     /**
@@ -52,7 +83,7 @@ public class ReemplazoDispositivoService {
     @Transactional(readOnly = true)
     public List<ReemplazoDispositivo> findPendientes() {
         log.debug("Buscando reemplazos pendientes");
-        return reemplazoRepository.findReemplazosPendientes();
+        return lecturaSinEstado.listar(PENDIENTES, ReemplazoDispositivo.class);
     }
 
     /**
@@ -127,6 +158,7 @@ public class ReemplazoDispositivoService {
     /**
      * Ejecuta un reemplazo aprobado.
      */
+    @CacheEvict(cacheNames = {CacheNames.DISPOSITIVOS, CacheNames.ASIGNACIONES}, allEntries = true)
     public ReemplazoDispositivo ejecutarReemplazo(Integer reemplazoId) {
         log.info("Ejecutando reemplazo ID: {}", reemplazoId);
 
@@ -167,6 +199,10 @@ public class ReemplazoDispositivoService {
                 .orElseThrow(() -> new ResourceNotFoundException("Estado ASIGNADO no encontrado"));
         dispositivoReemplazo.setEstadoDispositivo(estadoAsignado);
 
+        Integer empleadoId = asignacionOriginal.getEmpleado().getId();
+        tenenciaService.registrarLiberacion(empleadoId, dispositivoOriginal.getId());
+        tenenciaService.registrarEntrega(empleadoId, dispositivoReemplazo);
+
         CatEstadoReemplazo estadoCompletado = estadoReemplazoRepository.findByCodigo("COMPLETADO")
                 .orElseThrow(() -> new ResourceNotFoundException("Estado COMPLETADO no encontrado"));
         reemplazo.setEstadoReemplazo(estadoCompletado);
@@ -185,6 +221,8 @@ public class ReemplazoDispositivoService {
                 reemplazo.getEmpleado(),
                 reemplazo.getUsuarioRegistra());
 
+        eventPublisher.publishEvent(EventoCicloVida.deAsignacion(TipoEventoCicloVida.REEMPLAZO_EJECUTADO, nuevaAsignacion));
+        eventPublisher.publishEvent(DispositivosModificados.de(dispositivoOriginal.getId(), dispositivoReemplazo.getId()));
         log.info("Reemplazo ejecutado exitosamente");
         return updated;
     }
@@ -211,4 +249,22 @@ public class ReemplazoDispositivoService {
 
         log.info("Reemplazo cancelado exitosamente");
     }
+
+    private static String fetchDispositivo(String ruta, String alias) {
+        return "JOIN FETCH " + ruta + " " + alias + " " +
+                "JOIN FETCH " + alias + ".tipoDispositivo " +
+                "JOIN FETCH " + alias + ".marca " +
+                "JOIN FETCH " + alias + ".estadoDispositivo " +
+                "LEFT JOIN FETCH " + alias + ".proveedor ";
+    }
+
+    private static String fetchEmpleado(String ruta, String alias) {
+        return "JOIN FETCH " + ruta + " " + alias + " " +
+                "JOIN FETCH " + alias + ".area " + alias + "a " +
+                "LEFT JOIN FETCH " + alias + "a.areaSuperior " +
+                "JOIN FETCH " + alias + ".puesto " + alias + "p " +
+                "LEFT JOIN FETCH " + alias + "p.area " +
+                "JOIN FETCH " + alias + ".sede " +
+                "JOIN FETCH " + alias + ".estadoEmpleado ";
+    }
 }
@@ -0,0 +1,39 @@
+package pe.edu.upc.oss.group1.service;
+
+/**
+ * Resultado de un reemplazo dentro de una ejecución en lote ({@link EjecucionReemplazoLoteService}).
+ *
+ * @param reemplazoId  reemplazo solicitado
+ * @param resultado    qué pasó con él
+ * @param asignacionId asignación creada para el dispositivo de reemplazo, si se ejecutó
+ * @param mensaje      motivo del rechazo o error, si no se ejecutó
+ */
+public record ResultadoEjecucionReemplazo(
+        Integer reemplazoId,
+        Resultado resultado,
+        Integer asignacionId,
+        String mensaje) {
+
+    public enum Resultado { EJECUTADO, NO_ENCONTRADO, RECHAZADO, FALLIDO }
+
+    static ResultadoEjecucionReemplazo ejecutado(Integer reemplazoId, Integer asignacionId) {
+        return new ResultadoEjecucionReemplazo(reemplazoId, Resultado.EJECUTADO, asignacionId, null);
+    }
+
+    static ResultadoEjecucionReemplazo noEncontrado(Integer reemplazoId) {
+        return new ResultadoEjecucionReemplazo(reemplazoId, Resultado.NO_ENCONTRADO, null,
+                "Reemplazo no encontrado con ID: " + reemplazoId);
+    }
+
+    static ResultadoEjecucionReemplazo rechazado(Integer reemplazoId, String mensaje) {
+        return new ResultadoEjecucionReemplazo(reemplazoId, Resultado.RECHAZADO, null, mensaje);
+    }
+
+    static ResultadoEjecucionReemplazo fallido(Integer reemplazoId, String mensaje) {
+        return new ResultadoEjecucionReemplazo(reemplazoId, Resultado.FALLIDO, null, mensaje);
+    }
+
+    public boolean isEjecutado() {
+        return resultado == Resultado.EJECUTADO;
+    }
+}
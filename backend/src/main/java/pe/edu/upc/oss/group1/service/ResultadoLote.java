@@ -0,0 +1,13 @@
+package pe.edu.upc.oss.group1.service;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resultado de una {@link ConsultaLote}.
+ *
+ * @param encontrados   registros encontrados, indexados por el identificador pedido y en el orden pedido
+ * @param noEncontrados identificadores pedidos que no existen
+ */
+public record ResultadoLote<E>(Map<String, E> encontrados, List<String> noEncontrados) {
+}
@@ -0,0 +1,270 @@
+package pe.edu.upc.oss.group1.service;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import pe.edu.upc.oss.group1.entity.AsignacionDispositivo;
+import pe.edu.upc.oss.group1.entity.BaseEntity;
+import pe.edu.upc.oss.group1.entity.Dispositivo;
+import pe.edu.upc.oss.group1.entity.Empleado;
+import pe.edu.upc.oss.group1.entity.RegistroEliminado;
+import pe.edu.upc.oss.group1.entity.catalogo.*;
+import pe.edu.upc.oss.group1.exception.BusinessValidationException;
+import pe.edu.upc.oss.group1.repository.AsignacionDispositivoRepository;
+import pe.edu.upc.oss.group1.repository.DispositivoRepository;
+import pe.edu.upc.oss.group1.repository.EmpleadoRepository;
+import pe.edu.upc.oss.group1.repository.RegistroEliminadoRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Servicio de sincronización incremental para clientes que trabajan sin conexión.
+ *
+ * Entrega lo creado, modificado o eliminado después de una marca que emite el propio servidor.
+ * Los datos se recorren por flujos (catálogos, empleados, dispositivos, asignaciones y lápidas
+ * de eliminación), cada uno en orden de (COALESCE(ultima_actualizacion, fecha_creacion), id)
+ * con keyset, así que una sincronización después de un día sin conexión lee solo los cambios
+ * de ese día.
+ *
+ * - Una sincronización termina en el corte fijado al empezarla (ahora menos el margen), que es
+ *   el "desde" de la siguiente. El margen cubre transacciones largas y el desfase de reloj con la
+ *   BD: los cambios de esos minutos pueden llegar dos veces, el cliente aplica por id.
+ * - Una fila modificada mientras se pagina vuelve a llegar en la siguiente sincronización.
+ * - Sin marca, o con una marca anterior a la retención de lápidas, se entrega una copia completa
+ *   y la primera página indica reiniciar.
+ */
+@Service
+@Transactional
+@Slf4j
+public class SincronizacionService {
+
+    public static final int LIMITE_MAXIMO = 1000;
+
+    /** "desde" de una copia completa: anterior a cualquier fecha de creación. */
+    static final LocalDateTime INICIO = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private static final String ELIMINADOS = "eliminados";
+
+    /** Catálogos por el nombre de su endpoint, en orden de dependencia. */
+    private static final Map<String, Class<? extends BaseEntity>> CATALOGOS = catalogos();
+
+    private final EntityManager entityManager;
+    private final RegistroEliminadoRepository registroEliminadoRepository;
+    private final Duration margen;
+    private final Duration retencionEliminados;
+    private final List<Flujo<?>> flujos = new ArrayList<>();
+
+    public SincronizacionService(
+            EmpleadoRepository empleadoRepository,
+            DispositivoRepository dispositivoRepository,
+            AsignacionDispositivoRepository asignacionRepository,
+            RegistroEliminadoRepository registroEliminadoRepository,
+            EntityManager entityManager,
+            @Value("${app.sincronizacion.margen:2m}") Duration margen,
+            @Value("${app.sincronizacion.retencion-eliminados:30d}") Duration retencionEliminados) {
+        this.entityManager = entityManager;
+        this.registroEliminadoRepository = registroEliminadoRepository;
+        this.margen = margen;
+        this.retencionEliminados = retencionEliminados;
+
+        CATALOGOS.forEach((nombre, clase) -> flujos.add(new Flujo<BaseEntity>(nombre,
+                (desde, desdeId, cantidad) -> leerCatalogo(clase, desde, desdeId, cantidad),
+                catalogo -> actualizacion(catalogo.getUltimaActualizacion(), catalogo.getFechaCreacion()),
+                catalogo -> catalogo.getId().longValue(),
+                (pagina, filas) -> pagina.catalogos.put(nombre, filas))));
+        flujos.add(new Flujo<Empleado>(RegistroEliminado.EMPLEADOS,
+                (desde, desdeId, cantidad) -> empleadoRepository.findCambiosDesde(
+                        desde, Math.toIntExact(desdeId), PageRequest.of(0, cantidad)),
+                empleado -> actualizacion(empleado.getUltimaActualizacion(), empleado.getFechaCreacion()),
+                empleado -> empleado.getId().longValue(),
+                (pagina, filas) -> pagina.empleados.addAll(filas)));
+        flujos.add(new Flujo<Dispositivo>(RegistroEliminado.DISPOSITIVOS,
+                (desde, desdeId, cantidad) -> dispositivoRepository.findCambiosDesde(
+                        desde, Math.toIntExact(desdeId), PageRequest.of(0, cantidad)),
+                dispositivo -> actualizacion(dispositivo.getUltimaActualizacion(), dispositivo.getFechaCreacion()),
+                dispositivo -> dispositivo.getId().longValue(),
+                (pagina, filas) -> pagina.dispositivos.addAll(filas)));
+        flujos.add(new Flujo<AsignacionDispositivo>(RegistroEliminado.ASIGNACIONES,
+                (desde, desdeId, cantidad) -> asignacionRepository.findCambiosDesde(
+                        desde, Math.toIntExact(desdeId), PageRequest.of(0, cantidad)),
+                asignacion -> actualizacion(asignacion.getUltimaActualizacion(), asignacion.getFechaCreacion()),
+                asignacion -> asignacion.getId().longValue(),
+                (pagina, filas) -> pagina.asignaciones.addAll(filas)));
+        flujos.add(new Flujo<RegistroEliminado>(ELIMINADOS,
+                (desde, desdeId, cantidad) -> registroEliminadoRepository.findCambiosDesde(
+                        desde, desdeId, PageRequest.of(0, cantidad)),
+                RegistroEliminado::getFechaEliminacion,
+                RegistroEliminado::getId,
+                (pagina, filas) -> pagina.eliminados.addAll(filas)));
+    }
+
+    /**
+     * Retorna una página de cambios posteriores a la marca.
+     *
+     * @param marca  marca recibida en la respuesta anterior; null para la primera sincronización
+     * @param limite cantidad máxima de filas de la página, sumando todos los flujos (1 a LIMITE_MAXIMO)
+     */
+    @Transactional(readOnly = true)
+    public CambiosSincronizacion findCambios(String marca, int limite) {
+        if (limite < 1 || limite > LIMITE_MAXIMO) {
+            throw new BusinessValidationException("El límite de cambios debe estar entre 1 y " + LIMITE_MAXIMO);
+        }
+        LocalDateTime ahora = LocalDateTime.now();
+        MarcaSincronizacion actual = marca != null ? MarcaSincronizacion.decodificar(marca) : null;
+
+        boolean reiniciar = actual == null
+                || !actual.isEnCurso() && actual.desde().isBefore(ahora.minus(retencionEliminados));
+        if (reiniciar) {
+            if (actual != null) {
+                log.info("Marca de sincronización anterior a la retención de eliminados ({}): copia completa",
+                        actual.desde());
+            }
+            actual = MarcaSincronizacion.entre(INICIO);
+        }
+        if (!actual.isEnCurso()) {
+            actual = new MarcaSincronizacion(actual.desde(), ahora.minus(margen), flujos.get(0).nombre(),
+                    actual.desde(), 0);
+        }
+        log.debug("Buscando cambios desde {} (flujo {}, posición {}/{})",
+                actual.desde(), actual.flujo(), actual.posicion(), actual.posicionId());
+
+        int inicio = indice(actual.flujo());
+        Pagina pagina = new Pagina();
+        for (int i = inicio; i < flujos.size(); i++) {
+            Flujo<?> flujo = flujos.get(i);
+            // Una copia completa no necesita lápidas: el cliente no tiene nada que borrar
+            if (ELIMINADOS.equals(flujo.nombre()) && INICIO.equals(actual.desde())) {
+                continue;
+            }
+            LocalDateTime posicion = i == inicio ? actual.posicion() : actual.desde();
+            long posicionId = i == inicio ? actual.posicionId() : 0;
+            int restantes = limite - pagina.cantidad;
+            if (restantes == 0) {
+                return pagina.cerrar(new MarcaSincronizacion(actual.desde(), actual.corte(), flujo.nombre(),
+                        posicion, posicionId), true, reiniciar);
+            }
+            MarcaSincronizacion continuacion = leer(flujo, actual, posicion, posicionId, restantes, pagina);
+            if (continuacion != null) {
+                return pagina.cerrar(continuacion, true, reiniciar);
+            }
+        }
+        return pagina.cerrar(MarcaSincronizacion.entre(actual.corte()), false, reiniciar);
+    }
+
+    /**
+     * Elimina las lápidas vencidas según app.sincronizacion.depuracion-cron. Los clientes con una
+     * marca anterior a la retención reciben una copia completa, así que no pierden eliminaciones.
+     */
+    @Scheduled(cron = "${app.sincronizacion.depuracion-cron}")
+    public void depurarEliminados() {
+        int eliminadas = registroEliminadoRepository.eliminarAnterioresA(LocalDateTime.now().minus(retencionEliminados));
+        if (eliminadas > 0) {
+            log.info("Se depuraron {} lápidas de sincronización vencidas", eliminadas);
+        }
+    }
+
+    /**
+     * Lee el flujo desde la posición indicada. Si no entra completo en la página, retorna la marca
+     * para continuar después de la última fila entregada; si entra, retorna null.
+     */
+    private <T> MarcaSincronizacion leer(Flujo<T> flujo, MarcaSincronizacion actual, LocalDateTime posicion,
+                                         long posicionId, int restantes, Pagina pagina) {
+        List<T> filas = flujo.lector().leer(posicion, posicionId, restantes + 1);
+        if (filas.size() <= restantes) {
+            flujo.destino().accept(pagina, filas);
+            pagina.cantidad += filas.size();
+            return null;
+        }
+        List<T> entregadas = new ArrayList<>(filas.subList(0, restantes));
+        flujo.destino().accept(pagina, entregadas);
+        pagina.cantidad += restantes;
+        T ultima = entregadas.get(restantes - 1);
+        return new MarcaSincronizacion(actual.desde(), actual.corte(), flujo.nombre(),
+                flujo.fecha().apply(ultima), flujo.id().apply(ultima));
+    }
+
+    private List<BaseEntity> leerCatalogo(Class<? extends BaseEntity> clase, LocalDateTime desde,
+                                          long desdeId, int cantidad) {
+        String actualizacion = "COALESCE(c.ultimaActualizacion, c.fechaCreacion)";
+        String jpql = "SELECT c FROM " + clase.getSimpleName() + " c " +
+                "WHERE " + actualizacion + " >= :desde AND (" + actualizacion + " > :desde OR c.id > :desdeId) " +
+                "ORDER BY " + actualizacion + ", c.id";
+        return new ArrayList<>(entityManager.createQuery(jpql, clase)
+                .setParameter("desde", desde)
+                .setParameter("desdeId", Math.toIntExact(desdeId))
+                .setMaxResults(cantidad)
+                .getResultList());
+    }
+
+    private int indice(String nombre) {
+        for (int i = 0; i < flujos.size(); i++) {
+            if (flujos.get(i).nombre().equals(nombre)) {
+                return i;
+            }
+        }
+        throw new BusinessValidationException("Marca de sincronización inválida");
+    }
+
+    private static LocalDateTime actualizacion(LocalDateTime ultimaActualizacion, LocalDateTime fechaCreacion) {
+        return ultimaActualizacion != null ? ultimaActualizacion : fechaCreacion;
+    }
+
+    private static Map<String, Class<? extends BaseEntity>> catalogos() {
+        Map<String, Class<? extends BaseEntity>> catalogos = new LinkedHashMap<>();
+        catalogos.put("areas", CatArea.class);
+        catalogos.put("puestos", CatPuesto.class);
+        catalogos.put("sedes", CatSede.class);
+        catalogos.put("estados-empleado", CatEstadoEmpleado.class);
+        catalogos.put("tipos-dispositivo", CatTipoDispositivo.class);
+        catalogos.put("marcas", CatMarca.class);
+        catalogos.put("estados-dispositivo", CatEstadoDispositivo.class);
+        catalogos.put("proveedores", CatProveedor.class);
+        catalogos.put("estados-asignacion", CatEstadoAsignacion.class);
+        catalogos.put("motivos-reemplazo", CatMotivoReemplazo.class);
+        catalogos.put("estados-reemplazo", CatEstadoReemplazo.class);
+        catalogos.put("estados-solicitud", CatEstadoSolicitud.class);
+        catalogos.put("condiciones-devolucion", CatCondicionDevolucion.class);
+        catalogos.put("tipos-movimiento", CatTipoMovimiento.class);
+        return catalogos;
+    }
+
+    @FunctionalInterface
+    private interface Lector<T> {
+        List<T> leer(LocalDateTime desde, long desdeId, int cantidad);
+    }
+
+    /**
+     * Tabla recorrida por la sincronización: cómo leerla por keyset, la posición de cada fila
+     * y dónde se agregan sus filas en la página.
+     */
+    private record Flujo<T>(String nombre, Lector<T> lector, Function<T, LocalDateTime> fecha,
+                            Function<T, Long> id, BiConsumer<Pagina, List<T>> destino) {
+    }
+
+    private static final class Pagina {
+
+        private final Map<String, List<BaseEntity>> catalogos = new LinkedHashMap<>();
+        private final List<Empleado> empleados = new ArrayList<>();
+        private final List<Dispositivo> dispositivos = new ArrayList<>();
+        private final List<AsignacionDispositivo> asignaciones = new ArrayList<>();
+        private final List<RegistroEliminado> eliminados = new ArrayList<>();
+        private int cantidad;
+
+        CambiosSincronizacion cerrar(MarcaSincronizacion marca, boolean hayMas, boolean reiniciar) {
+            catalogos.values().removeIf(List::isEmpty);
+            return new CambiosSincronizacion(marca.codificar(), hayMas, reiniciar, catalogos,
+                    empleados, dispositivos, asignaciones, eliminados);
+        }
+    }
+}
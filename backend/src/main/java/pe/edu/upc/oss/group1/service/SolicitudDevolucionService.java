@@ -2,20 +2,37 @@ package pe.edu.upc.oss.group1.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import pe.edu.upc.oss.group1.cache.CacheNames;
 import pe.edu.upc.oss.group1.entity.Empleado;
 import pe.edu.upc.oss.group1.entity.SolicitudDevolucion;
 import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoSolicitud;
+import pe.edu.upc.oss.group1.evento.EventoCicloVida;
+import pe.edu.upc.oss.group1.evento.TipoEventoCicloVida;
 import pe.edu.upc.oss.group1.exception.BusinessValidationException;
 import pe.edu.upc.oss.group1.exception.ResourceNotFoundException;
+import pe.edu.upc.oss.group1.persistencia.LecturaSinEstado;
+import pe.edu.upc.oss.group1.repository.AsignacionDispositivoRepository;
+import pe.edu.upc.oss.group1.repository.DetalleDevolucionRepository;
+import pe.edu.upc.oss.group1.repository.DetalleDevolucionRepository.DevolucionPendiente;
+import pe.edu.upc.oss.group1.repository.DispositivoRepository;
+import pe.edu.upc.oss.group1.repository.HistorialDispositivoRepository;
 import pe.edu.upc.oss.group1.repository.SolicitudDevolucionRepository;
+import pe.edu.upc.oss.group1.repository.TenenciaEmpleadoDispositivoRepository;
+import pe.edu.upc.oss.group1.repository.TenenciaEmpleadoRepository;
+import pe.edu.upc.oss.group1.repository.catalogo.CatEstadoAsignacionRepository;
+import pe.edu.upc.oss.group1.repository.catalogo.CatEstadoDispositivoRepository;
 import pe.edu.upc.oss.group1.repository.catalogo.CatEstadoSolicitudRepository;
+import pe.edu.upc.oss.group1.repository.catalogo.CatTipoMovimientoRepository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Servicio para gestión de solicitudes de devolución de dispositivos.
@@ -27,17 +44,49 @@ import java.util.List;
 @Slf4j
 public class SolicitudDevolucionService {
 
+    /**
+     * Condiciones de devolución con las que el dispositivo pasa a revisión en lugar de quedar disponible
+     * (las mismas que {@link pe.edu.upc.oss.group1.entity.DetalleDevolucion#isCondicionDanada()}).
+     */
+    static final List<String> CONDICIONES_REVISION = List.of("MALO", "DANADO");
+
     private final SolicitudDevolucionRepository solicitudRepository;
+    private final DetalleDevolucionRepository detalleRepository;
+    private final AsignacionDispositivoRepository asignacionRepository;
+    private final DispositivoRepository dispositivoRepository;
+    private final HistorialDispositivoRepository historialRepository;
+    private final TenenciaEmpleadoRepository tenenciaRepository;
+    private final TenenciaEmpleadoDispositivoRepository tenenciaDispositivoRepository;
     private final EmpleadoService empleadoService;
     private final CatEstadoSolicitudRepository estadoSolicitudRepository;
+    private final CatEstadoAsignacionRepository estadoAsignacionRepository;
+    private final CatEstadoDispositivoRepository estadoDispositivoRepository;
+    private final CatTipoMovimientoRepository tipoMovimientoRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LecturaSinEstado lecturaSinEstado;
+
+    static final String LISTADO = "SELECT s FROM SolicitudDevolucion s " +
+            "JOIN FETCH s.empleado e " +
+            "JOIN FETCH e.area a " +
+            "LEFT JOIN FETCH a.areaSuperior " +
+            "JOIN FETCH e.puesto p " +
+            "LEFT JOIN FETCH p.area " +
+            "JOIN FETCH e.sede " +
+            "JOIN FETCH e.estadoEmpleado " +
+            "JOIN FETCH s.estadoSolicitud es " +
+            "JOIN FETCH s.usuarioSolicita " +
+            "LEFT JOIN FETCH s.usuarioRecibe";
+    static final String PENDIENTES = LISTADO + " WHERE es.codigo = 'PENDIENTE'";
 
     /**
-     * Retorna todas las solicitudes de devolución.
+     * Retorna todas las solicitudes de devolución, sin registrarlas en el contexto de persistencia
+     * (LecturaSinEstado). Los listados leen así; las atrasadas, las de un empleado y las consultas
+     * por ID (con sus detalles) siguen en el repositorio.
      */
     @Transactional(readOnly = true)
     public List<SolicitudDevolucion> findAll() {
         log.debug("Buscando todas las solicitudes de devolución");
-        return solicitudRepository.findAll();
+        return lecturaSinEstado.listar(LISTADO, SolicitudDevolucion.class);
     }
 
     /**
@@ -46,7 +95,7 @@ public class SolicitudDevolucionService {
     @Transactional(readOnly = true)
     public List<SolicitudDevolucion> findPendientes() {
         log.debug("Buscando solicitudes pendientes");
-        return solicitudRepository.findSolicitudesPendientes();
+        return lecturaSinEstado.listar(PENDIENTES, SolicitudDevolucion.class);
     }
 
     /**
@@ -55,7 +104,7 @@ public class SolicitudDevolucionService {
     @Transactional(readOnly = true)
     public Page<SolicitudDevolucion> findPendientes(Pageable pageable) {
         log.debug("Buscando solicitudes pendientes con paginación");
-        return solicitudRepository.findSolicitudesPendientes(pageable);
+        return lecturaSinEstado.paginar(PENDIENTES, SolicitudDevolucion.class, Map.of(), pageable);
     }
 
     /**
@@ -154,8 +203,15 @@ public class SolicitudDevolucionService {
     }
 
     /**
-     * Completa una solicitud de devolución.
+     * Completa una solicitud de devolución y cierra las asignaciones de sus detalles.
+     *
+     * Cada asignación aún activa queda devuelta, su dispositivo pasa a disponible o a revisión
+     * según la condición registrada en el detalle, sale de la tenencia del empleado y se registra
+     * en el historial. Todo se hace con sentencias de conjunto sobre los detalles de la solicitud,
+     * así que la cantidad de consultas no depende de cuántos dispositivos se devuelven.
+     * Las asignaciones que ya se devolvieron o cancelaron por separado se omiten.
      */
+    @CacheEvict(cacheNames = {CacheNames.DISPOSITIVOS, CacheNames.ASIGNACIONES}, allEntries = true)
     public SolicitudDevolucion completar(Integer solicitudId, Integer usuarioRecibeId) {
         log.info("Completando solicitud de devolución ID: {}", solicitudId);
 
@@ -172,6 +228,19 @@ public class SolicitudDevolucionService {
 
         CatEstadoSolicitud estadoCompletada = estadoSolicitudRepository.findByCodigo("COMPLETADA")
                 .orElseThrow(() -> new ResourceNotFoundException("Estado COMPLETADA no encontrado"));
+        Integer estadoActivaId = estadoAsignacionRepository.findByCodigo("ACTIVA")
+                .orElseThrow(() -> new ResourceNotFoundException("Estado ACTIVA no encontrado")).getId();
+
+        Integer usuarioHistorialId = usuarioRecibeId != null ? usuarioRecibeId
+                : solicitud.getUsuarioRecibe() != null ? solicitud.getUsuarioRecibe().getId()
+                : solicitud.getUsuarioSolicita().getId();
+
+        List<DevolucionPendiente> devoluciones = detalleRepository.bloquearDevolucionesPendientes(solicitudId, estadoActivaId);
+        if (!devoluciones.isEmpty()) {
+            cerrarAsignaciones(solicitudId, estadoActivaId, usuarioRecibeId, usuarioHistorialId);
+        }
+        log.info("Solicitud ID {}: {} asignaciones cerradas de {} detalles",
+                solicitudId, devoluciones.size(), solicitud.getDetalles().size());
 
         solicitud.setEstadoSolicitud(estadoCompletada);
         solicitud.setFechaDevolucionReal(LocalDate.now());
@@ -182,10 +251,43 @@ public class SolicitudDevolucionService {
 
         SolicitudDevolucion updated = solicitudRepository.save(solicitud);
 
+        Empleado empleado = updated.getEmpleado();
+        Integer sedeId = empleado.getSede() != null ? empleado.getSede().getId() : null;
+        Integer areaId = empleado.getArea() != null ? empleado.getArea().getId() : null;
+        for (DevolucionPendiente devolucion : devoluciones) {
+            eventPublisher.publishEvent(EventoCicloVida.deAsignacion(TipoEventoCicloVida.DEVOLUCION_REGISTRADA,
+                    devolucion.getAsignacionId(), devolucion.getDispositivoId(), devolucion.getCodigoActivo(),
+                    empleado.getId(), sedeId, areaId, "DEVUELTA"));
+        }
+        eventPublisher.publishEvent(EventoCicloVida.deSolicitud(TipoEventoCicloVida.SOLICITUD_COMPLETADA, updated));
         log.info("Solicitud completada exitosamente");
         return updated;
     }
 
+    /**
+     * Cierra las asignaciones activas de la solicitud. El orden importa: todas las sentencias
+     * filtran por asignación activa, así que la que las marca como devueltas va al final.
+     */
+    private void cerrarAsignaciones(Integer solicitudId, Integer estadoActivaId,
+                                    Integer usuarioRecibeId, Integer usuarioHistorialId) {
+        Integer estadoDevueltaId = estadoAsignacionRepository.findByCodigo("DEVUELTA")
+                .orElseThrow(() -> new ResourceNotFoundException("Estado DEVUELTA no encontrado")).getId();
+        Integer estadoDisponibleId = estadoDispositivoRepository.findByCodigo("DISPONIBLE")
+                .orElseThrow(() -> new ResourceNotFoundException("Estado DISPONIBLE no encontrado")).getId();
+        Integer estadoRevisionId = estadoDispositivoRepository.findByCodigo("EN_REVISION")
+                .orElseThrow(() -> new ResourceNotFoundException("Estado EN_REVISION no encontrado")).getId();
+        Integer tipoDevolucionId = tipoMovimientoRepository.findByCodigo("DEVOLUCION")
+                .orElseThrow(() -> new ResourceNotFoundException("Tipo de movimiento DEVOLUCION no encontrado")).getId();
+
+        // La tenencia se ajusta antes de eliminar sus filas: descuenta el valor registrado en ellas
+        tenenciaRepository.liberarPorSolicitud(solicitudId, estadoActivaId);
+        tenenciaDispositivoRepository.liberarPorSolicitud(solicitudId, estadoActivaId);
+        historialRepository.registrarDevoluciones(solicitudId, estadoActivaId, tipoDevolucionId, usuarioHistorialId);
+        dispositivoRepository.liberarPorSolicitud(solicitudId, estadoActivaId,
+                CONDICIONES_REVISION, estadoRevisionId, estadoDisponibleId);
+        asignacionRepository.devolverPorSolicitud(solicitudId, estadoActivaId, estadoDevueltaId, usuarioRecibeId);
+    }
+
     /**
      * Cancela una solicitud de devolución.
      */
@@ -0,0 +1,99 @@
+package pe.edu.upc.oss.group1.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import pe.edu.upc.oss.group1.entity.Dispositivo;
+import pe.edu.upc.oss.group1.entity.TenenciaEmpleado;
+import pe.edu.upc.oss.group1.entity.TenenciaEmpleadoDispositivo;
+import pe.edu.upc.oss.group1.repository.TenenciaEmpleadoDispositivoRepository;
+import pe.edu.upc.oss.group1.repository.TenenciaEmpleadoRepository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Servicio que mantiene el resumen de dispositivos en poder de cada empleado.
+ *
+ * Se invoca dentro de la transacción de asignación, devolución, cancelación y reemplazo;
+ * si la operación hace rollback, el resumen también.
+ * El valor total usa el valor de adquisición vigente al momento de la entrega,
+ * y al liberar se descuenta ese mismo valor.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+@Slf4j
+public class TenenciaEmpleadoService {
+
+    private final TenenciaEmpleadoRepository tenenciaRepository;
+    private final TenenciaEmpleadoDispositivoRepository tenenciaDispositivoRepository;
+
+    /**
+     * Retorna el resumen de tenencia del empleado (vacío si nunca tuvo dispositivos).
+     */
+    @Transactional(readOnly = true)
+    public TenenciaEmpleado findByEmpleado(Integer empleadoId) {
+        log.debug("Buscando tenencia del empleado ID: {}", empleadoId);
+        return tenenciaRepository.findById(empleadoId)
+                .orElseGet(() -> new TenenciaEmpleado(empleadoId));
+    }
+
+    /**
+     * Retorna los dispositivos en poder del empleado, ordenados por tipo.
+     */
+    @Transactional(readOnly = true)
+    public List<TenenciaEmpleadoDispositivo> findDispositivos(Integer empleadoId) {
+        log.debug("Buscando dispositivos en poder del empleado ID: {}", empleadoId);
+        return tenenciaDispositivoRepository.findByIdEmpleadoOrderByIdTipoDispositivoAscIdDispositivoAsc(empleadoId);
+    }
+
+    /**
+     * Cantidad de dispositivos en poder del empleado (lectura por PK, sin COUNT).
+     */
+    @Transactional(readOnly = true)
+    public long contarDispositivos(Integer empleadoId) {
+        return tenenciaRepository.findById(empleadoId)
+                .map(TenenciaEmpleado::getCantidadDispositivos)
+                .orElse(0);
+    }
+
+    /**
+     * Indica si el dispositivo está actualmente en poder de algún empleado.
+     */
+    @Transactional(readOnly = true)
+    public boolean estaAsignado(Integer dispositivoId) {
+        return tenenciaDispositivoRepository.existsById(dispositivoId);
+    }
+
+    /**
+     * Registra que el dispositivo pasa a poder del empleado.
+     */
+    public void registrarEntrega(Integer empleadoId, Dispositivo dispositivo) {
+        BigDecimal valor = dispositivo.getValorAdquisicion() != null
+                ? dispositivo.getValorAdquisicion()
+                : BigDecimal.ZERO;
+
+        // Primero el resumen: tenencia_empleado_dispositivo tiene FK hacia tenencia_empleado
+        tenenciaRepository.sumar(empleadoId, 1, valor);
+
+        tenenciaDispositivoRepository.save(new TenenciaEmpleadoDispositivo(
+                dispositivo.getId(), empleadoId, dispositivo.getTipoDispositivo().getId(), valor));
+        log.debug("Tenencia: dispositivo ID {} entregado al empleado ID {}", dispositivo.getId(), empleadoId);
+    }
+
+    /**
+     * Registra que el dispositivo deja de estar en poder del empleado.
+     */
+    public void registrarLiberacion(Integer empleadoId, Integer dispositivoId) {
+        tenenciaDispositivoRepository.findById(dispositivoId)
+                .filter(t -> t.getIdEmpleado().equals(empleadoId))
+                .ifPresentOrElse(t -> {
+                    tenenciaDispositivoRepository.delete(t);
+                    tenenciaRepository.ajustar(empleadoId, -1, t.getValor().negate());
+                    log.debug("Tenencia: dispositivo ID {} liberado por el empleado ID {}", dispositivoId, empleadoId);
+                }, () -> log.warn("Tenencia: el dispositivo ID {} no figuraba en poder del empleado ID {}",
+                        dispositivoId, empleadoId));
+    }
+}
@@ -0,0 +1,23 @@
+package pe.edu.upc.oss.group1.service;
+
+import pe.edu.upc.oss.group1.entity.Dispositivo;
+import pe.edu.upc.oss.group1.entity.Empleado;
+
+import java.time.LocalDate;
+
+/**
+ * Tenencia de un dispositivo al cierre de una fecha, reconstruida por {@link InventarioHistoricoService}.
+ *
+ * @param dispositivo   dispositivo consultado
+ * @param empleado      empleado que lo tenía, o null si estaba libre
+ * @param asignacionId  asignación vigente a esa fecha, o null
+ * @param fecha         fecha consultada
+ * @param fechaSnapshot fecha de corte del snapshot usado como base, o null si no había
+ */
+public record TenenciaHistorica(
+        Dispositivo dispositivo,
+        Empleado empleado,
+        Integer asignacionId,
+        LocalDate fecha,
+        LocalDate fechaSnapshot) {
+}
@@ -5,9 +5,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import pe.edu.upc.oss.group1.entity.Usuario;
-import pe.edu.upc.oss.group1.exception.DuplicateResourceException;
 import pe.edu.upc.oss.group1.exception.ResourceNotFoundException;
 import pe.edu.upc.oss.group1.repository.UsuarioRepository;
+import pe.edu.upc.oss.group1.unicidad.RestriccionUnica;
+import pe.edu.upc.oss.group1.unicidad.ValorUnico;
+import pe.edu.upc.oss.group1.unicidad.VerificadorUnicidad;
 
 import java.util.List;
 
@@ -22,6 +24,7 @@ import java.util.List;
 public class UsuarioService {
 
     private final UsuarioRepository usuarioRepository;
+    private final VerificadorUnicidad verificadorUnicidad;
 
     /**
      * Retorna todos los usuarios del sistema.
@@ -77,15 +80,8 @@ public class UsuarioService {
     public Usuario create(Usuario usuario) {
         log.info("Creando nuevo usuario: {}", usuario.getUsername());
 
-        if (usuarioRepository.existsByUsername(usuario.getUsername())) {
-            throw new DuplicateResourceException("Ya existe un usuario con el username: " + usuario.getUsername());
-        }
-
-        if (usuarioRepository.existsByEmail(usuario.getEmail())) {
-            throw new DuplicateResourceException("Ya existe un usuario con el email: " + usuario.getEmail());
-        }
-
-        return usuarioRepository.save(usuario);
+        return verificadorUnicidad.guardar(() -> usuarioRepository.saveAndFlush(usuario),
+                valoresUnicos(usuario));
     }
 
     /**
@@ -96,16 +92,6 @@ public class UsuarioService {
 
         Usuario existing = findById(id);
 
-        if (!existing.getUsername().equals(usuario.getUsername()) &&
-            usuarioRepository.existsByUsername(usuario.getUsername())) {
-            throw new DuplicateResourceException("Ya existe un usuario con el username: " + usuario.getUsername());
-        }
-
-        if (!existing.getEmail().equals(usuario.getEmail()) &&
-            usuarioRepository.existsByEmail(usuario.getEmail())) {
-            throw new DuplicateResourceException("Ya existe un usuario con el email: " + usuario.getEmail());
-        }
-
         existing.setUsername(usuario.getUsername());
         existing.setEmail(usuario.getEmail());
         existing.setNombreCompleto(usuario.getNombreCompleto());
@@ -115,7 +101,8 @@ public class UsuarioService {
             existing.setPasswordHash(usuario.getPasswordHash());
         }
 
-        return usuarioRepository.save(existing);
+        return verificadorUnicidad.guardar(() -> usuarioRepository.saveAndFlush(existing),
+                valoresUnicos(existing));
     }
 
     /**
@@ -136,4 +123,11 @@ public class UsuarioService {
         Usuario usuario = findById(id);
         usuarioRepository.delete(usuario);
     }
+
+    private static ValorUnico[] valoresUnicos(Usuario usuario) {
+        return new ValorUnico[] {
+                RestriccionUnica.USUARIO_USERNAME.con(usuario.getUsername()),
+                RestriccionUnica.USUARIO_EMAIL.con(usuario.getEmail())
+        };
+    }
 }
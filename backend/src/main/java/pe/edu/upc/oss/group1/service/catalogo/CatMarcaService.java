@@ -2,12 +2,19 @@ package pe.edu.upc.oss.group1.service.catalogo;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import pe.edu.upc.oss.group1.cache.CacheNames;
 import pe.edu.upc.oss.group1.entity.catalogo.CatMarca;
 import pe.edu.upc.oss.group1.exception.DuplicateResourceException;
 import pe.edu.upc.oss.group1.exception.ResourceNotFoundException;
 import pe.edu.upc.oss.group1.repository.catalogo.CatMarcaRepository;
+import pe.edu.upc.oss.group1.service.ConsultaLote;
+import pe.edu.upc.oss.group1.service.ResultadoLote;
+import pe.edu.upc.oss.group1.unicidad.RestriccionUnica;
+import pe.edu.upc.oss.group1.unicidad.VerificadorUnicidad;
 
 import java.util.List;
 
@@ -30,6 +37,7 @@ import java.util.List;
 public class CatMarcaService {
 
     private final CatMarcaRepository catMarcaRepository;
+    private final VerificadorUnicidad verificadorUnicidad;
 
     /**
      * Obtiene todas las marcas.
@@ -37,11 +45,22 @@ public class CatMarcaService {
      * @return Lista de todas las marcas (activas e inactivas)
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.CAT_MARCA, key = CacheNames.KEY_TODOS)
     public List<CatMarca> findAll() {
         log.debug("Buscando todas las marcas");
         return catMarcaRepository.findAll();
     }
 
+    /**
+     * Obtiene varias marcas por ID o por código, en bloques IN.
+     */
+    @Transactional(readOnly = true)
+    public ResultadoLote<CatMarca> findLote(ConsultaLote consulta) {
+        log.debug("Obteniendo marcas por lote");
+        return consulta.resolver(catMarcaRepository::findAllById, catMarcaRepository::findByCodigoIn,
+                CatMarca::getId, CatMarca::getCodigo);
+    }
+
     /**
      * Obtiene solo las marcas activas.
      * Útil para formularios donde solo quieres mostrar marcas disponibles.
@@ -49,6 +68,7 @@ public class CatMarcaService {
      * @return Lista de marcas activas
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.CAT_MARCA, key = CacheNames.KEY_ACTIVOS)
     public List<CatMarca> findAllActive() {
         log.debug("Buscando marcas activas");
         return catMarcaRepository.findByActivoTrue();
@@ -92,28 +112,24 @@ public class CatMarcaService {
      * Crea una nueva marca.
      *
      * Validaciones:
-     * - El código no debe existir previamente
+     * - El código no debe existir previamente (restricción UNIQUE, ver VerificadorUnicidad)
      * - Los campos obligatorios deben estar presentes
      *
      * @param marca Marca a crear
      * @return Marca creada con ID asignado
      * @throws DuplicateResourceException si el código ya existe
      */
+    @CacheEvict(cacheNames = CacheNames.CAT_MARCA, allEntries = true)
     public CatMarca create(CatMarca marca) {
         log.info("Creando nueva marca con código: {}", marca.getCodigo());
 
-        // Validar que el código no exista
-        if (catMarcaRepository.existsByCodigo(marca.getCodigo())) {
-            log.error("Intento de crear marca con código duplicado: {}", marca.getCodigo());
-            throw new DuplicateResourceException("Marca", "código", marca.getCodigo());
-        }
-
         // Si no se especifica, marca como activa por defecto
         if (marca.getActivo() == null) {
             marca.setActivo(true);
         }
 
-        CatMarca savedMarca = catMarcaRepository.save(marca);
+        CatMarca savedMarca = verificadorUnicidad.guardar(() -> catMarcaRepository.saveAndFlush(marca),
+                RestriccionUnica.CAT_MARCA_CODIGO.con(marca.getCodigo()));
         log.info("Marca creada exitosamente con ID: {}", savedMarca.getId());
         return savedMarca;
     }
@@ -123,7 +139,7 @@ public class CatMarcaService {
      *
      * Validaciones:
      * - La marca debe existir
-     * - Si se cambia el código, el nuevo código no debe existir
+     * - Si se cambia el código, el nuevo código no debe existir (restricción UNIQUE)
      *
      * @param id    ID de la marca a actualizar
      * @param marca Datos actualizados
@@ -131,26 +147,20 @@ public class CatMarcaService {
      * @throws ResourceNotFoundException   si la marca no existe
      * @throws DuplicateResourceException si el nuevo código ya existe
      */
+    @CacheEvict(cacheNames = CacheNames.CAT_MARCA, allEntries = true)
     public CatMarca update(Integer id, CatMarca marca) {
         log.info("Actualizando marca con ID: {}", id);
 
         // Verificar que la marca exista
         CatMarca existingMarca = findById(id);
 
-        // Si cambió el código, verificar que el nuevo no exista
-        if (!existingMarca.getCodigo().equals(marca.getCodigo())) {
-            if (catMarcaRepository.existsByCodigo(marca.getCodigo())) {
-                log.error("Intento de actualizar a código duplicado: {}", marca.getCodigo());
-                throw new DuplicateResourceException("Marca", "código", marca.getCodigo());
-            }
-        }
-
         // Actualizar campos
         existingMarca.setCodigo(marca.getCodigo());
         existingMarca.setNombre(marca.getNombre());
         existingMarca.setActivo(marca.getActivo());
 
-        CatMarca updatedMarca = catMarcaRepository.save(existingMarca);
+        CatMarca updatedMarca = verificadorUnicidad.guardar(() -> catMarcaRepository.saveAndFlush(existingMarca),
+                RestriccionUnica.CAT_MARCA_CODIGO.con(existingMarca.getCodigo()));
         log.info("Marca actualizada exitosamente con ID: {}", id);
         return updatedMarca;
     }
@@ -165,6 +175,7 @@ public class CatMarcaService {
      * @param id ID de la marca a eliminar
      * @throws ResourceNotFoundException si la marca no existe
      */
+    @CacheEvict(cacheNames = CacheNames.CAT_MARCA, allEntries = true)
     public void delete(Integer id) {
         log.info("Eliminando (desactivando) marca con ID: {}", id);
 
@@ -0,0 +1,29 @@
+package pe.edu.upc.oss.group1.sugerencia;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Catálogo que alimenta el autocompletado: nombre en la URL, región de cache cuya
+ * invalidación obliga a reconstruir su índice y lectura de sus elementos.
+ */
+public record FuenteSugerencias(String catalogo, String region, Supplier<List<Sugerencia>> lectura) {
+
+    public static <E> FuenteSugerencias de(String catalogo, String region, Supplier<List<E>> lectura,
+                                           Function<E, Integer> id, Function<E, String> codigo,
+                                           Function<E, String> nombre, Predicate<E> activo) {
+        return de(catalogo, region, lectura, id, codigo, nombre, elemento -> null, activo);
+    }
+
+    public static <E> FuenteSugerencias de(String catalogo, String region, Supplier<List<E>> lectura,
+                                           Function<E, Integer> id, Function<E, String> codigo,
+                                           Function<E, String> nombre, Function<E, String> alias,
+                                           Predicate<E> activo) {
+        return new FuenteSugerencias(catalogo, region, () -> lectura.get().stream()
+                .map(elemento -> new Sugerencia(id.apply(elemento), codigo.apply(elemento),
+                        nombre.apply(elemento), alias.apply(elemento), activo.test(elemento)))
+                .toList());
+    }
+}
@@ -0,0 +1,252 @@
+package pe.edu.upc.oss.group1.sugerencia;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Índice inmutable de un catálogo para el autocompletado.
+ *
+ * - Claves de prefijo ordenadas (nombre completo, cada palabra del nombre y del alias, código),
+ *   todas normalizadas con TextoBusqueda: un prefijo se resuelve con búsqueda binaria.
+ * - Trigramas de nombre, alias y código para coincidencias en medio de una palabra
+ *   ("top" encuentra "Laptop"), verificadas luego con contains.
+ *
+ * Orden del resultado: código exacto, nombre exacto, prefijo del nombre, prefijo del código,
+ * todas las palabras de la consulta como prefijos, coincidencia interna; a igual puntaje
+ * primero los activos, luego el nombre más corto y por último el orden alfabético.
+ */
+final class IndiceSugerencias {
+
+    static final int LARGO_NGRAMA = 3;
+
+    private static final int PUNTAJE_CODIGO_EXACTO = 100;
+    private static final int PUNTAJE_NOMBRE_EXACTO = 90;
+    private static final int PUNTAJE_PREFIJO_NOMBRE = 80;
+    private static final int PUNTAJE_PREFIJO_CODIGO = 70;
+    private static final int PUNTAJE_PREFIJO_PALABRAS = 60;
+    private static final int PUNTAJE_CONTIENE = 20;
+
+    private static final byte CLAVE_NOMBRE = 0;
+    private static final byte CLAVE_PALABRA = 1;
+    private static final byte CLAVE_CODIGO = 2;
+
+    private static final int[] SIN_ENTRADAS = new int[0];
+
+    private final Sugerencia[] entradas;
+    private final String[] nombres;
+    private final String[] alias;
+    private final String[] codigos;
+    private final String[] claves;
+    private final int[] entradaClave;
+    private final byte[] tipoClave;
+    /** Trigrama → entradas que lo contienen, en orden ascendente. */
+    private final Map<String, int[]> ngramas;
+
+    private IndiceSugerencias(Sugerencia[] entradas, String[] nombres, String[] alias, String[] codigos,
+                              String[] claves, int[] entradaClave, byte[] tipoClave, Map<String, int[]> ngramas) {
+        this.entradas = entradas;
+        this.nombres = nombres;
+        this.alias = alias;
+        this.codigos = codigos;
+        this.claves = claves;
+        this.entradaClave = entradaClave;
+        this.tipoClave = tipoClave;
+        this.ngramas = ngramas;
+    }
+
+    static IndiceSugerencias de(List<Sugerencia> sugerencias) {
+        int cantidad = sugerencias.size();
+        Sugerencia[] entradas = sugerencias.toArray(new Sugerencia[0]);
+        String[] nombres = new String[cantidad];
+        String[] alias = new String[cantidad];
+        String[] codigos = new String[cantidad];
+        List<Clave> claves = new ArrayList<>();
+        Map<String, List<Integer>> ngramas = new HashMap<>();
+
+        for (int e = 0; e < cantidad; e++) {
+            nombres[e] = TextoBusqueda.normalizar(entradas[e].nombre());
+            alias[e] = TextoBusqueda.normalizar(entradas[e].alias());
+            codigos[e] = TextoBusqueda.normalizar(entradas[e].codigo());
+            for (String texto : List.of(nombres[e], alias[e])) {
+                if (texto.isEmpty()) {
+                    continue;
+                }
+                claves.add(new Clave(texto, e, CLAVE_NOMBRE));
+                for (String palabra : texto.split(" ")) {
+                    claves.add(new Clave(palabra, e, CLAVE_PALABRA));
+                }
+                agregarNgramas(ngramas, texto, e);
+            }
+            if (!codigos[e].isEmpty()) {
+                claves.add(new Clave(codigos[e], e, CLAVE_CODIGO));
+                agregarNgramas(ngramas, codigos[e], e);
+            }
+        }
+
+        claves.sort(Comparator.comparing(Clave::texto));
+        String[] textos = new String[claves.size()];
+        int[] entradaClave = new int[claves.size()];
+        byte[] tipoClave = new byte[claves.size()];
+        for (int i = 0; i < claves.size(); i++) {
+            textos[i] = claves.get(i).texto();
+            entradaClave[i] = claves.get(i).entrada();
+            tipoClave[i] = claves.get(i).tipo();
+        }
+        Map<String, int[]> indiceNgramas = new HashMap<>(ngramas.size() * 2);
+        ngramas.forEach((ngrama, lista) -> indiceNgramas.put(ngrama,
+                lista.stream().mapToInt(Integer::intValue).toArray()));
+
+        return new IndiceSugerencias(entradas, nombres, alias, codigos, textos, entradaClave, tipoClave, indiceNgramas);
+    }
+
+    int getCantidad() {
+        return entradas.length;
+    }
+
+    /**
+     * Devuelve hasta {@code limite} sugerencias para el texto escrito, mejor puntaje primero.
+     */
+    List<Sugerencia> sugerir(String texto, int limite, boolean soloActivos) {
+        String consulta = TextoBusqueda.normalizar(texto);
+        if (consulta.isEmpty()) {
+            return List.of();
+        }
+        int[] puntajes = new int[entradas.length];
+
+        for (int i = primeraClave(consulta); i < claves.length && claves[i].startsWith(consulta); i++) {
+            boolean exacta = claves[i].length() == consulta.length();
+            int puntaje = switch (tipoClave[i]) {
+                case CLAVE_CODIGO -> exacta ? PUNTAJE_CODIGO_EXACTO : PUNTAJE_PREFIJO_CODIGO;
+                case CLAVE_NOMBRE -> exacta ? PUNTAJE_NOMBRE_EXACTO : PUNTAJE_PREFIJO_NOMBRE;
+                default -> PUNTAJE_PREFIJO_PALABRAS;
+            };
+            puntajes[entradaClave[i]] = Math.max(puntajes[entradaClave[i]], puntaje);
+        }
+
+        String[] palabras = consulta.split(" ");
+        if (palabras.length > 1) {
+            puntuarPalabras(palabras, puntajes);
+        }
+
+        if (consulta.length() >= LARGO_NGRAMA) {
+            for (int e : candidatosNgramas(consulta)) {
+                if (puntajes[e] == 0 && contiene(e, consulta)) {
+                    puntajes[e] = PUNTAJE_CONTIENE;
+                }
+            }
+        }
+
+        List<Integer> encontradas = new ArrayList<>();
+        for (int e = 0; e < entradas.length; e++) {
+            if (puntajes[e] > 0 && (!soloActivos || entradas[e].activo())) {
+                encontradas.add(e);
+            }
+        }
+        encontradas.sort(Comparator.<Integer>comparingInt(e -> -puntajes[e])
+                .thenComparing(e -> !entradas[e].activo())
+                .thenComparingInt(e -> nombres[e].length())
+                .thenComparing(e -> nombres[e])
+                .thenComparing(e -> entradas[e].id(), Comparator.nullsLast(Comparator.naturalOrder())));
+
+        return encontradas.stream()
+                .limit(limite)
+                .map(e -> entradas[e])
+                .toList();
+    }
+
+    /**
+     * "lap del" encuentra "Laptop Dell": cada palabra de la consulta debe ser prefijo
+     * de alguna palabra del nombre o del alias.
+     */
+    private void puntuarPalabras(String[] palabras, int[] puntajes) {
+        int[] coincidencias = new int[entradas.length];
+        for (String palabra : palabras) {
+            boolean[] vistas = new boolean[entradas.length];
+            for (int i = primeraClave(palabra); i < claves.length && claves[i].startsWith(palabra); i++) {
+                int e = entradaClave[i];
+                if (tipoClave[i] == CLAVE_PALABRA && !vistas[e]) {
+                    vistas[e] = true;
+                    coincidencias[e]++;
+                }
+            }
+        }
+        for (int e = 0; e < entradas.length; e++) {
+            if (coincidencias[e] == palabras.length) {
+                puntajes[e] = Math.max(puntajes[e], PUNTAJE_PREFIJO_PALABRAS);
+            }
+        }
+    }
+
+    /**
+     * Intersección de las listas de los trigramas de la consulta; vacía si alguno no existe.
+     */
+    private int[] candidatosNgramas(String consulta) {
+        int[] candidatos = null;
+        for (int i = 0; i + LARGO_NGRAMA <= consulta.length(); i++) {
+            int[] lista = ngramas.get(consulta.substring(i, i + LARGO_NGRAMA));
+            if (lista == null) {
+                return SIN_ENTRADAS;
+            }
+            candidatos = candidatos == null ? lista : interseccion(candidatos, lista);
+            if (candidatos.length == 0) {
+                return SIN_ENTRADAS;
+            }
+        }
+        return candidatos != null ? candidatos : SIN_ENTRADAS;
+    }
+
+    private boolean contiene(int e, String consulta) {
+        return nombres[e].contains(consulta) || alias[e].contains(consulta) || codigos[e].contains(consulta);
+    }
+
+    /** Primera posición cuya clave es mayor o igual al prefijo. */
+    private int primeraClave(String prefijo) {
+        int desde = 0;
+        int hasta = claves.length;
+        while (desde < hasta) {
+            int medio = (desde + hasta) >>> 1;
+            if (claves[medio].compareTo(prefijo) < 0) {
+                desde = medio + 1;
+            } else {
+                hasta = medio;
+            }
+        }
+        return desde;
+    }
+
+    private static void agregarNgramas(Map<String, List<Integer>> ngramas, String texto, int entrada) {
+        for (int i = 0; i + LARGO_NGRAMA <= texto.length(); i++) {
+            List<Integer> lista = ngramas.computeIfAbsent(texto.substring(i, i + LARGO_NGRAMA), k -> new ArrayList<>());
+            // Las entradas se recorren en orden: basta con mirar la última para no repetir
+            if (lista.isEmpty() || lista.get(lista.size() - 1) != entrada) {
+                lista.add(entrada);
+            }
+        }
+    }
+
+    private static int[] interseccion(int[] a, int[] b) {
+        int[] resultado = new int[Math.min(a.length, b.length)];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                resultado[k++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(resultado, k);
+    }
+
+    private record Clave(String texto, int entrada, byte tipo) {
+    }
+}
@@ -0,0 +1,92 @@
+package pe.edu.upc.oss.group1.sugerencia;
+
+import lombok.extern.slf4j.Slf4j;
+import pe.edu.upc.oss.group1.cache.InvalidacionCacheListener;
+import pe.edu.upc.oss.group1.exception.BusinessValidationException;
+import pe.edu.upc.oss.group1.exception.ResourceNotFoundException;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Autocompletado de catálogos resuelto en memoria, sin LIKE '%x%' por cada tecla.
+ *
+ * Cada catálogo tiene su IndiceSugerencias, que se arma en la primera consulta. Una escritura
+ * en un Cat*Service invalida su región de cache (aquí y en los demás nodos) y solo se descarta
+ * el índice de ese catálogo; la siguiente consulta lo vuelve a leer. Como la invalidación llega
+ * después del commit, el índice reconstruido ya ve el cambio.
+ *
+ * Se registra como bean en SugerenciasConfig, que declara los catálogos disponibles.
+ */
+@Slf4j
+public class MotorSugerencias implements InvalidacionCacheListener {
+
+    public static final int LIMITE_MAXIMO = 50;
+
+    private final Map<String, FuenteSugerencias> fuentes = new LinkedHashMap<>();
+    private final Set<String> regiones;
+    private final Map<String, IndiceSugerencias> indices = new ConcurrentHashMap<>();
+
+    public MotorSugerencias(List<FuenteSugerencias> fuentes) {
+        fuentes.forEach(fuente -> this.fuentes.put(fuente.catalogo(), fuente));
+        this.regiones = fuentes.stream().map(FuenteSugerencias::region).collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * Nombres de catálogo aceptados por sugerir(), tal como aparecen en la URL.
+     */
+    public Set<String> getCatalogos() {
+        return fuentes.keySet();
+    }
+
+    /**
+     * Sugerencias para el texto escrito, mejor coincidencia primero.
+     *
+     * @param catalogo    catálogo a consultar (ver getCatalogos())
+     * @param texto       lo escrito hasta el momento; sin distinguir mayúsculas ni tildes
+     * @param limite      cantidad máxima de resultados (1 a LIMITE_MAXIMO)
+     * @param soloActivos si se excluyen los elementos desactivados
+     */
+    public List<Sugerencia> sugerir(String catalogo, String texto, int limite, boolean soloActivos) {
+        FuenteSugerencias fuente = fuentes.get(catalogo);
+        if (fuente == null) {
+            throw new ResourceNotFoundException("Catálogo no encontrado: " + catalogo);
+        }
+        if (limite < 1 || limite > LIMITE_MAXIMO) {
+            throw new BusinessValidationException(
+                    "El límite de sugerencias debe estar entre 1 y " + LIMITE_MAXIMO);
+        }
+        // computeIfAbsent y remove sobre la misma clave se excluyen: una invalidación que llega
+        // durante la lectura espera y descarta el índice recién armado
+        return indices.computeIfAbsent(catalogo, clave -> construir(fuente))
+                .sugerir(texto, limite, soloActivos);
+    }
+
+    @Override
+    public Set<String> getRegiones() {
+        return regiones;
+    }
+
+    @Override
+    public void onInvalidacion(String region) {
+        fuentes.values().stream()
+                .filter(fuente -> fuente.region().equals(region))
+                .forEach(fuente -> {
+                    if (indices.remove(fuente.catalogo()) != null) {
+                        log.debug("Índice de sugerencias '{}' descartado por invalidación", fuente.catalogo());
+                    }
+                });
+    }
+
+    private IndiceSugerencias construir(FuenteSugerencias fuente) {
+        long inicio = System.nanoTime();
+        IndiceSugerencias indice = IndiceSugerencias.de(fuente.lectura().get());
+        log.debug("Índice de sugerencias '{}' armado: {} elementos en {} ms",
+                fuente.catalogo(), indice.getCantidad(), (System.nanoTime() - inicio) / 1_000_000);
+        return indice;
+    }
+}
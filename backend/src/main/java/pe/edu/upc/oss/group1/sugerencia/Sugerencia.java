@@ -0,0 +1,9 @@
+package pe.edu.upc.oss.group1.sugerencia;
+
+/**
+ * Elemento de catálogo tal como lo devuelve el autocompletado.
+ *
+ * @param alias texto adicional por el que también se encuentra (p. ej. nombre comercial); puede ser null
+ */
+public record Sugerencia(Integer id, String codigo, String nombre, String alias, boolean activo) {
+}
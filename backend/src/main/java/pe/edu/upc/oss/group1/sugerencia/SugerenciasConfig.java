@@ -0,0 +1,92 @@
+package pe.edu.upc.oss.group1.sugerencia;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import pe.edu.upc.oss.group1.cache.CacheNames;
+import pe.edu.upc.oss.group1.entity.catalogo.CatArea;
+import pe.edu.upc.oss.group1.entity.catalogo.CatCondicionDevolucion;
+import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoAsignacion;
+import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoDispositivo;
+import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoEmpleado;
+import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoReemplazo;
+import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoSolicitud;
+import pe.edu.upc.oss.group1.entity.catalogo.CatMarca;
+import pe.edu.upc.oss.group1.entity.catalogo.CatMotivoReemplazo;
+import pe.edu.upc.oss.group1.entity.catalogo.CatProveedor;
+import pe.edu.upc.oss.group1.entity.catalogo.CatPuesto;
+import pe.edu.upc.oss.group1.entity.catalogo.CatSede;
+import pe.edu.upc.oss.group1.entity.catalogo.CatTipoDispositivo;
+import pe.edu.upc.oss.group1.entity.catalogo.CatTipoMovimiento;
+import pe.edu.upc.oss.group1.repository.catalogo.CatAreaRepository;
+import pe.edu.upc.oss.group1.repository.catalogo.CatCondicionDevolucionRepository;
+import pe.edu.upc.oss.group1.repository.catalogo.CatEstadoAsignacionRepository;
+import pe.edu.upc.oss.group1.repository.catalogo.CatEstadoDispositivoRepository;
+import pe.edu.upc.oss.group1.repository.catalogo.CatEstadoEmpleadoRepository;
+import pe.edu.upc.oss.group1.repository.catalogo.CatEstadoReemplazoRepository;
+import pe.edu.upc.oss.group1.repository.catalogo.CatEstadoSolicitudRepository;
+import pe.edu.upc.oss.group1.repository.catalogo.CatMarcaRepository;
+import pe.edu.upc.oss.group1.repository.catalogo.CatMotivoReemplazoRepository;
+import pe.edu.upc.oss.group1.repository.catalogo.CatProveedorRepository;
+import pe.edu.upc.oss.group1.repository.catalogo.CatPuestoRepository;
+import pe.edu.upc.oss.group1.repository.catalogo.CatSedeRepository;
+import pe.edu.upc.oss.group1.repository.catalogo.CatTipoDispositivoRepository;
+import pe.edu.upc.oss.group1.repository.catalogo.CatTipoMovimientoRepository;
+
+import java.util.List;
+
+/**
+ * Catálogos disponibles en el autocompletado (GET /api/v1/catalogos/sugerencias/{catalogo}).
+ *
+ * El nombre de cada catálogo coincide con el segmento de URL de su controller CRUD.
+ * Proveedores se busca por razón social y también por nombre comercial.
+ */
+@Configuration
+public class SugerenciasConfig {
+
+    @Bean
+    public MotorSugerencias motorSugerencias(
+            CatAreaRepository areaRepository,
+            CatCondicionDevolucionRepository condicionDevolucionRepository,
+            CatEstadoAsignacionRepository estadoAsignacionRepository,
+            CatEstadoDispositivoRepository estadoDispositivoRepository,
+            CatEstadoEmpleadoRepository estadoEmpleadoRepository,
+            CatEstadoReemplazoRepository estadoReemplazoRepository,
+            CatEstadoSolicitudRepository estadoSolicitudRepository,
+            CatMarcaRepository marcaRepository,
+            CatMotivoReemplazoRepository motivoReemplazoRepository,
+            CatProveedorRepository proveedorRepository,
+            CatPuestoRepository puestoRepository,
+            CatSedeRepository sedeRepository,
+            CatTipoDispositivoRepository tipoDispositivoRepository,
+            CatTipoMovimientoRepository tipoMovimientoRepository) {
+        return new MotorSugerencias(List.of(
+                FuenteSugerencias.de("areas", CacheNames.CAT_AREA, areaRepository::findAll,
+                        CatArea::getId, CatArea::getCodigo, CatArea::getNombre, CatArea::isActivo),
+                FuenteSugerencias.de("condiciones-devolucion", CacheNames.CAT_CONDICION_DEVOLUCION, condicionDevolucionRepository::findAll,
+                        CatCondicionDevolucion::getId, CatCondicionDevolucion::getCodigo, CatCondicionDevolucion::getNombre, CatCondicionDevolucion::isActivo),
+                FuenteSugerencias.de("estados-asignacion", CacheNames.CAT_ESTADO_ASIGNACION, estadoAsignacionRepository::findAll,
+                        CatEstadoAsignacion::getId, CatEstadoAsignacion::getCodigo, CatEstadoAsignacion::getNombre, CatEstadoAsignacion::isActivo),
+                FuenteSugerencias.de("estados-dispositivo", CacheNames.CAT_ESTADO_DISPOSITIVO, estadoDispositivoRepository::findAll,
+                        CatEstadoDispositivo::getId, CatEstadoDispositivo::getCodigo, CatEstadoDispositivo::getNombre, CatEstadoDispositivo::isActivo),
+                FuenteSugerencias.de("estados-empleado", CacheNames.CAT_ESTADO_EMPLEADO, estadoEmpleadoRepository::findAll,
+                        CatEstadoEmpleado::getId, CatEstadoEmpleado::getCodigo, CatEstadoEmpleado::getNombre, CatEstadoEmpleado::isActivo),
+                FuenteSugerencias.de("estados-reemplazo", CacheNames.CAT_ESTADO_REEMPLAZO, estadoReemplazoRepository::findAll,
+                        CatEstadoReemplazo::getId, CatEstadoReemplazo::getCodigo, CatEstadoReemplazo::getNombre, CatEstadoReemplazo::isActivo),
+                FuenteSugerencias.de("estados-solicitud", CacheNames.CAT_ESTADO_SOLICITUD, estadoSolicitudRepository::findAll,
+                        CatEstadoSolicitud::getId, CatEstadoSolicitud::getCodigo, CatEstadoSolicitud::getNombre, CatEstadoSolicitud::isActivo),
+                FuenteSugerencias.de("marcas", CacheNames.CAT_MARCA, marcaRepository::findAll,
+                        CatMarca::getId, CatMarca::getCodigo, CatMarca::getNombre, CatMarca::isActivo),
+                FuenteSugerencias.de("motivos-reemplazo", CacheNames.CAT_MOTIVO_REEMPLAZO, motivoReemplazoRepository::findAll,
+                        CatMotivoReemplazo::getId, CatMotivoReemplazo::getCodigo, CatMotivoReemplazo::getNombre, CatMotivoReemplazo::isActivo),
+                FuenteSugerencias.de("proveedores", CacheNames.CAT_PROVEEDOR, proveedorRepository::findAll,
+                        CatProveedor::getId, CatProveedor::getCodigo, CatProveedor::getRazonSocial, CatProveedor::getNombreComercial, CatProveedor::isActivo),
+                FuenteSugerencias.de("puestos", CacheNames.CAT_PUESTO, puestoRepository::findAll,
+                        CatPuesto::getId, CatPuesto::getCodigo, CatPuesto::getNombre, CatPuesto::isActivo),
+                FuenteSugerencias.de("sedes", CacheNames.CAT_SEDE, sedeRepository::findAll,
+                        CatSede::getId, CatSede::getCodigo, CatSede::getNombre, CatSede::isActivo),
+                FuenteSugerencias.de("tipos-dispositivo", CacheNames.CAT_TIPO_DISPOSITIVO, tipoDispositivoRepository::findAll,
+                        CatTipoDispositivo::getId, CatTipoDispositivo::getCodigo, CatTipoDispositivo::getNombre, CatTipoDispositivo::isActivo),
+                FuenteSugerencias.de("tipos-movimiento", CacheNames.CAT_TIPO_MOVIMIENTO, tipoMovimientoRepository::findAll,
+                        CatTipoMovimiento::getId, CatTipoMovimiento::getCodigo, CatTipoMovimiento::getNombre, CatTipoMovimiento::isActivo)));
+    }
+}
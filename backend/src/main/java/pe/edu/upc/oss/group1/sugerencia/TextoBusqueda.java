@@ -0,0 +1,38 @@
+package pe.edu.upc.oss.group1.sugerencia;
+
+import java.text.Normalizer;
+
+/**
+ * Normalización de textos para las sugerencias: sin tildes, en minúsculas y con un solo
+ * espacio entre palabras ("Lápiz  Óptico-USB" → "lapiz optico usb").
+ */
+final class TextoBusqueda {
+
+    private TextoBusqueda() {
+    }
+
+    static String normalizar(String texto) {
+        if (texto == null || texto.isEmpty()) {
+            return "";
+        }
+        String descompuesto = Normalizer.normalize(texto, Normalizer.Form.NFD);
+        StringBuilder resultado = new StringBuilder(descompuesto.length());
+        boolean separador = false;
+        for (int i = 0; i < descompuesto.length(); i++) {
+            char c = descompuesto.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (Character.isLetterOrDigit(c)) {
+                if (separador && !resultado.isEmpty()) {
+                    resultado.append(' ');
+                }
+                separador = false;
+                resultado.append(Character.toLowerCase(c));
+            } else {
+                separador = true;
+            }
+        }
+        return resultado.toString();
+    }
+}
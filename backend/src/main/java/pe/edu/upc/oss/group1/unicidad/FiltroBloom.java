@@ -0,0 +1,69 @@
+package pe.edu.upc.oss.group1.unicidad;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom sobre textos: responde "seguro que no está" o "puede estar".
+ *
+ * Con n elementos y tasa de falsos positivos p usa -n·ln(p)/ln(2)² bits y k = bits/n·ln(2)
+ * funciones hash (doble hashing sobre un hash de 64 bits). Un millón de códigos al 1 %
+ * ocupa ~1.2 MB. Admite agregar concurrentemente mientras se consulta; no admite borrar.
+ */
+final class FiltroBloom {
+
+    private final AtomicLongArray bits;
+    private final long cantidadBits;
+    private final int funciones;
+
+    FiltroBloom(long elementosEsperados, double tasaFalsosPositivos) {
+        long n = Math.max(1, elementosEsperados);
+        long m = (long) Math.ceil(-n * Math.log(tasaFalsosPositivos) / (Math.log(2) * Math.log(2)));
+        this.cantidadBits = Math.max(64, (m + 63) / 64 * 64);
+        this.funciones = Math.max(1, (int) Math.round((double) cantidadBits / n * Math.log(2)));
+        this.bits = new AtomicLongArray((int) (cantidadBits / 64));
+    }
+
+    void agregar(String texto) {
+        long hash = hash(texto);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= funciones; i++) {
+            long posicion = Math.floorMod(h1 + (long) i * h2, cantidadBits);
+            int palabra = (int) (posicion >>> 6);
+            long mascara = 1L << posicion;
+            long actual;
+            do {
+                actual = bits.get(palabra);
+            } while ((actual & mascara) == 0 && !bits.compareAndSet(palabra, actual, actual | mascara));
+        }
+    }
+
+    boolean puedeContener(String texto) {
+        long hash = hash(texto);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= funciones; i++) {
+            long posicion = Math.floorMod(h1 + (long) i * h2, cantidadBits);
+            if ((bits.get((int) (posicion >>> 6)) & (1L << posicion)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long getBytes() {
+        return cantidadBits / 8;
+    }
+
+    /** FNV-1a de 64 bits con mezcla final (splitmix64). */
+    private static long hash(String texto) {
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < texto.length(); i++) {
+            h ^= texto.charAt(i);
+            h *= 0x100000001B3L;
+        }
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        return h ^ (h >>> 31);
+    }
+}
@@ -0,0 +1,137 @@
+package pe.edu.upc.oss.group1.unicidad;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import pe.edu.upc.oss.group1.entity.Dispositivo;
+import pe.edu.upc.oss.group1.escaneo.ResumenEscaneo;
+import pe.edu.upc.oss.group1.repository.DispositivoRepository;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Filtros de Bloom con los códigos de activo y números de serie existentes, para el registro
+ * masivo de dispositivos.
+ *
+ * Un código que el filtro descarta seguro no existe y no se consulta; solo los "puede estar"
+ * se confirman con una consulta IN. En un lote nuevo casi ninguno pasa el filtro, así que el
+ * registro hace los INSERT sin consultas previas.
+ *
+ * Se arma en la primera consulta y se rehace al vencer la vigencia. Las altas de este nodo
+ * se agregan con registrar(); las de otros nodos aparecen en la siguiente reconstrucción y
+ * mientras tanto las detiene la restricción UNIQUE (VerificadorUnicidad). Los códigos
+ * modificados o eliminados quedan como falsos positivos hasta reconstruir: solo cuestan
+ * una confirmación.
+ */
+@Component
+@Slf4j
+public class PrefiltroDispositivos {
+
+    private static final int TAMANIO_PAGINA = 10_000;
+
+    /** Margen sobre la cantidad actual para las altas posteriores a la construcción. */
+    private static final double HOLGURA = 1.25;
+
+    private final DispositivoRepository dispositivoRepository;
+    private final double tasaFalsosPositivos;
+    private final Duration vigencia;
+
+    private volatile Filtros filtros;
+
+    public PrefiltroDispositivos(DispositivoRepository dispositivoRepository,
+                                 @Value("${app.unicidad.prefiltro.tasa-falsos-positivos:0.01}") double tasaFalsosPositivos,
+                                 @Value("${app.unicidad.prefiltro.vigencia:1h}") Duration vigencia) {
+        this.dispositivoRepository = dispositivoRepository;
+        this.tasaFalsosPositivos = tasaFalsosPositivos;
+        this.vigencia = vigencia;
+    }
+
+    /**
+     * Códigos de activo que podrían existir ya; el resto seguro no existe.
+     */
+    public Set<String> codigosPosibles(Collection<String> codigos) {
+        return posibles(vigentes().codigos(), codigos);
+    }
+
+    /**
+     * Números de serie que podrían existir ya; el resto seguro no existe.
+     */
+    public Set<String> seriesPosibles(Collection<String> series) {
+        return posibles(vigentes().series(), series);
+    }
+
+    /**
+     * Incorpora dispositivos recién guardados en este nodo.
+     */
+    public void registrar(Collection<Dispositivo> dispositivos) {
+        Filtros actual = filtros;
+        if (actual == null) {
+            return;
+        }
+        for (Dispositivo dispositivo : dispositivos) {
+            actual.codigos().agregar(dispositivo.getCodigoActivo());
+            if (dispositivo.getNumeroSerie() != null) {
+                actual.series().agregar(dispositivo.getNumeroSerie());
+            }
+        }
+    }
+
+    private static Set<String> posibles(FiltroBloom filtro, Collection<String> valores) {
+        Set<String> posibles = new LinkedHashSet<>();
+        for (String valor : valores) {
+            if (filtro.puedeContener(valor)) {
+                posibles.add(valor);
+            }
+        }
+        return posibles;
+    }
+
+    private Filtros vigentes() {
+        Filtros actual = filtros;
+        if (actual == null || actual.vencido(vigencia)) {
+            synchronized (this) {
+                actual = filtros;
+                if (actual == null || actual.vencido(vigencia)) {
+                    actual = construir();
+                    filtros = actual;
+                }
+            }
+        }
+        return actual;
+    }
+
+    private Filtros construir() {
+        long comienzo = System.nanoTime();
+        long esperados = (long) (dispositivoRepository.count() * HOLGURA) + 1_000;
+        FiltroBloom codigos = new FiltroBloom(esperados, tasaFalsosPositivos);
+        FiltroBloom series = new FiltroBloom(esperados, tasaFalsosPositivos);
+        int ultimoId = 0;
+        List<ResumenEscaneo> pagina;
+        do {
+            pagina = dispositivoRepository.findResumenesEscaneo(ultimoId, PageRequest.of(0, TAMANIO_PAGINA));
+            for (ResumenEscaneo resumen : pagina) {
+                codigos.agregar(resumen.codigoActivo());
+                if (resumen.numeroSerie() != null) {
+                    series.agregar(resumen.numeroSerie());
+                }
+                ultimoId = resumen.id();
+            }
+        } while (pagina.size() == TAMANIO_PAGINA);
+
+        log.info("Prefiltro de duplicados armado: ~{} KB en {} ms",
+                (codigos.getBytes() + series.getBytes()) / 1024, (System.nanoTime() - comienzo) / 1_000_000);
+        return new Filtros(codigos, series, System.nanoTime());
+    }
+
+    private record Filtros(FiltroBloom codigos, FiltroBloom series, long construidoEn) {
+
+        boolean vencido(Duration vigencia) {
+            return System.nanoTime() - construidoEn >= vigencia.toNanos();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package pe.edu.upc.oss.group1.unicidad;
+
+import org.hibernate.exception.ConstraintViolationException;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Restricciones UNIQUE de la base (V13) con el mensaje de DuplicateResourceException que
+ * corresponde a cada una. Los nombres coinciden con los @UniqueConstraint de las entidades,
+ * así se reconocen igual en PostgreSQL y en H2.
+ */
+public enum RestriccionUnica {
+
+    CAT_AREA_CODIGO("uk_cat_area_codigo", "Área ya existe con código: '%s'"),
+    CAT_CONDICION_DEVOLUCION_CODIGO("uk_cat_condicion_devolucion_codigo", "Condición de devolución ya existe con código: '%s'"),
+    CAT_ESTADO_ASIGNACION_CODIGO("uk_cat_estado_asignacion_codigo", "Estado de asignación ya existe con código: '%s'"),
+    CAT_ESTADO_DISPOSITIVO_CODIGO("uk_cat_estado_dispositivo_codigo", "Estado de dispositivo ya existe con código: '%s'"),
+    CAT_ESTADO_EMPLEADO_CODIGO("uk_cat_estado_empleado_codigo", "Estado de empleado ya existe con código: '%s'"),
+    CAT_ESTADO_REEMPLAZO_CODIGO("uk_cat_estado_reemplazo_codigo", "Estado de reemplazo ya existe con código: '%s'"),
+    CAT_ESTADO_SOLICITUD_CODIGO("uk_cat_estado_solicitud_codigo", "Estado de solicitud ya existe con código: '%s'"),
+    CAT_MARCA_CODIGO("uk_cat_marca_codigo", "Marca ya existe con código: '%s'"),
+    CAT_MOTIVO_REEMPLAZO_CODIGO("uk_cat_motivo_reemplazo_codigo", "Motivo de reemplazo ya existe con código: '%s'"),
+    CAT_PROVEEDOR_CODIGO("uk_cat_proveedor_codigo", "Proveedor ya existe con código: '%s'"),
+    CAT_PROVEEDOR_RUC("uk_cat_proveedor_ruc", "Proveedor ya existe con RUC: '%s'"),
+    CAT_PUESTO_CODIGO("uk_cat_puesto_codigo", "Puesto ya existe con código: '%s'"),
+    CAT_SEDE_CODIGO("uk_cat_sede_codigo", "Sede ya existe con código: '%s'"),
+    CAT_TIPO_DISPOSITIVO_CODIGO("uk_cat_tipo_dispositivo_codigo", "Tipo de dispositivo ya existe con código: '%s'"),
+    CAT_TIPO_MOVIMIENTO_CODIGO("uk_cat_tipo_movimiento_codigo", "Tipo de movimiento ya existe con código: '%s'"),
+    DISPOSITIVO_CODIGO_ACTIVO("uk_dispositivo_codigo_activo", "Ya existe un dispositivo con el código: %s"),
+    DISPOSITIVO_NUMERO_SERIE("uk_dispositivo_numero_serie", "Ya existe un dispositivo con el número de serie: %s"),
+    EMPLEADO_CODIGO("uk_empleado_codigo_empleado", "Ya existe un empleado con el código: %s"),
+    EMPLEADO_EMAIL("uk_empleado_email", "Ya existe un empleado con el email: %s"),
+    USUARIO_USERNAME("uk_usuario_username", "Ya existe un usuario con el username: %s"),
+    USUARIO_EMAIL("uk_usuario_email", "Ya existe un usuario con el email: %s");
+
+    private final String nombre;
+    private final String mensaje;
+
+    RestriccionUnica(String nombre, String mensaje) {
+        this.nombre = nombre;
+        this.mensaje = mensaje;
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public String mensaje(Object valor) {
+        return String.format(mensaje, valor);
+    }
+
+    /**
+     * Asocia el valor que se intenta guardar, para armar el mensaje si se viola.
+     */
+    public ValorUnico con(Object valor) {
+        return new ValorUnico(this, valor);
+    }
+
+    /**
+     * Identifica la restricción violada a partir de la excepción de la escritura.
+     *
+     * PostgreSQL informa el nombre exacto; H2 lo incluye dentro de la descripción del índice
+     * ("PUBLIC.UK_..._INDEX_1 ON PUBLIC.TABLA(COLUMNA)"), por eso se busca como subcadena.
+     */
+    public static Optional<RestriccionUnica> de(Throwable error) {
+        for (Throwable causa = error; causa != null; causa = causa.getCause()) {
+            if (causa instanceof ConstraintViolationException violacion) {
+                String texto = violacion.getConstraintName() != null
+                        ? violacion.getConstraintName()
+                        : violacion.getSQLException().getMessage();
+                return buscar(texto);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<RestriccionUnica> buscar(String texto) {
+        if (texto == null) {
+            return Optional.empty();
+        }
+        String minusculas = texto.toLowerCase(Locale.ROOT);
+        for (RestriccionUnica restriccion : values()) {
+            if (minusculas.contains(restriccion.nombre)) {
+                return Optional.of(restriccion);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,7 @@
+package pe.edu.upc.oss.group1.unicidad;
+
+/**
+ * Valor que se intenta guardar en una columna con restricción UNIQUE.
+ */
+public record ValorUnico(RestriccionUnica restriccion, Object valor) {
+}
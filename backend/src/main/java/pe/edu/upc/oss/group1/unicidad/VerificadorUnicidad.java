@@ -0,0 +1,76 @@
+package pe.edu.upc.oss.group1.unicidad;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import pe.edu.upc.oss.group1.exception.DuplicateResourceException;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Unicidad garantizada por las restricciones UNIQUE de la base, sin existsBy* previos.
+ *
+ * Antes cada create/update hacía una o dos consultas existsBy* y luego el INSERT/UPDATE:
+ * tres idas a la base y, aun así, dos requests simultáneos podían pasar ambos la validación.
+ * Ahora se escribe directamente y, si la base rechaza la fila, la violación se traduce
+ * a DuplicateResourceException con el mismo mensaje que antes.
+ *
+ * La escritura debe forzar el flush (saveAndFlush) para que la violación ocurra dentro de
+ * guardar() y no al hacer commit. La transacción queda marcada para rollback, igual que
+ * con cualquier otra excepción del servicio.
+ */
+@Component
+@Slf4j
+public class VerificadorUnicidad {
+
+    /**
+     * Ejecuta la escritura y traduce las violaciones de unicidad conocidas.
+     *
+     * @param escritura guardado con flush (p. ej. {@code () -> repository.saveAndFlush(entidad)})
+     * @param valores   valores sujetos a restricción, para el mensaje de error. En un lote puede
+     *                  haber varios por restricción: se informa el que aparece en el error de la base
+     */
+    public <T> T guardar(Supplier<T> escritura, ValorUnico... valores) {
+        try {
+            return escritura.get();
+        } catch (DataIntegrityViolationException e) {
+            RestriccionUnica violada = RestriccionUnica.de(e).orElseThrow(() -> e);
+            Object valor = valorViolado(e, violada, valores);
+            log.debug("Violación de {} al guardar: {}", violada.getNombre(), valor);
+            throw new DuplicateResourceException(violada.mensaje(Objects.requireNonNullElse(valor, "?")));
+        }
+    }
+
+    /**
+     * Con un solo valor para la restricción, ese. Con varios, el más largo que figure en el
+     * mensaje de la base (PostgreSQL: "Key (col)=(valor)", H2: "VALUES ( 'valor' )"); el más
+     * largo para no confundir "LAP-1" con "LAP-10".
+     */
+    private static Object valorViolado(DataIntegrityViolationException e, RestriccionUnica violada,
+                                       ValorUnico... valores) {
+        Object unico = null;
+        int candidatos = 0;
+        for (ValorUnico valorUnico : valores) {
+            if (valorUnico.restriccion() == violada && valorUnico.valor() != null) {
+                unico = valorUnico.valor();
+                candidatos++;
+            }
+        }
+        if (candidatos <= 1) {
+            return unico;
+        }
+        String mensaje = e.getMessage() + " " + NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+        String encontrado = null;
+        for (ValorUnico valorUnico : valores) {
+            if (valorUnico.restriccion() == violada && valorUnico.valor() != null) {
+                String texto = valorUnico.valor().toString();
+                if (mensaje.contains(texto) && (encontrado == null || texto.length() > encontrado.length())) {
+                    encontrado = texto;
+                }
+            }
+        }
+        return encontrado;
+    }
+}
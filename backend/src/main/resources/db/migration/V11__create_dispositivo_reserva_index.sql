@@ -0,0 +1,15 @@
+-- ============================================================================
+-- V11: Índice para la reserva del siguiente dispositivo disponible
+-- ============================================================================
+-- Descripción: AsignacionAutomaticaService toma "el siguiente dispositivo
+--              disponible de un tipo" con SELECT ... ORDER BY id LIMIT 1
+--              FOR UPDATE SKIP LOCKED. Con (tipo, estado, id) el recorrido
+--              llega en orden de id a las filas disponibles del tipo y solo
+--              salta las que otra transacción tiene bloqueadas.
+--              Cubre además idx_dispositivo_tipo (prefijo), que se elimina.
+-- ============================================================================
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_dispositivo_tipo_estado
+    ON dispositivo(id_tipo_dispositivo, id_estado_dispositivo, id);
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_dispositivo_tipo;
@@ -0,0 +1,30 @@
+-- ============================================================================
+-- V14: Claves de idempotencia para reintentos de escrituras
+-- ============================================================================
+-- Descripción: Las integraciones reintentan POST de asignaciones, reemplazos,
+--              solicitudes de devolución y devoluciones cuando vence su timeout.
+--              Con el header Idempotency-Key la primera petición guarda aquí su
+--              respuesta y los reintentos la reciben tal cual, sin volver a
+--              ejecutar el servicio (IdempotenciaFilter). Un reintento cuesta
+--              una búsqueda por clave primaria.
+--              - huella: SHA-256 del método, ruta, parámetros y cuerpo; una clave
+--                reutilizada con otra petición se rechaza.
+--              - estado_http NULL: la primera petición sigue en curso.
+--              Las filas vencidas se depuran periódicamente por fecha_expiracion.
+-- ============================================================================
+
+CREATE TABLE clave_idempotencia (
+    clave VARCHAR(255) PRIMARY KEY,
+    huella BYTEA NOT NULL,
+    estado_http INTEGER,
+    tipo_contenido VARCHAR(100),
+    cuerpo BYTEA,
+    fecha_creacion TIMESTAMP NOT NULL,
+    fecha_expiracion TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_clave_idempotencia_expiracion ON clave_idempotencia (fecha_expiracion);
+
+COMMENT ON TABLE clave_idempotencia IS 'Respuestas guardadas por Idempotency-Key para responder reintentos sin reejecutar';
+COMMENT ON COLUMN clave_idempotencia.huella IS 'SHA-256 de método, ruta, parámetros y cuerpo de la petición original';
+COMMENT ON COLUMN clave_idempotencia.estado_http IS 'Código HTTP de la respuesta guardada; NULL mientras la petición original está en curso';
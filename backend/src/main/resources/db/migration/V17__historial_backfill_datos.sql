@@ -0,0 +1,102 @@
+-- ============================================================================
+-- V17: Conversión de las descripciones de texto del historial anteriores a V9
+-- ============================================================================
+-- Descripción: V9 convirtió datos_anteriores/datos_nuevos pero dejó la
+--              descripción completa en los registros existentes. Aquí se
+--              reconstruye el payload de esos registros y se libera la
+--              descripción cuando el texto que se arma al leer es el mismo:
+--              - ASIGNACION / DEVOLUCION: "Asignado a <nombre>" y
+--                "Devuelto por <nombre>" -> {"empleadoId"}, buscando entre los
+--                empleados que tuvieron asignado el dispositivo el de ese nombre.
+--              - REEMPLAZO: "Reemplazado por <código>. Motivo: <m>. Empleado: <n>"
+--                -> {"empleadoId","dispositivoId","motivo"} a partir del
+--                reemplazo registrado para ese par de dispositivos.
+--              - Cambio de estado con el texto por defecto: basta con el
+--                "cambios" que dejó V9.
+--              - Resto de movimientos: el texto libre pasa a "observacion".
+--              Quedan con descripción los movimientos de empleados o
+--              dispositivos que ya no coinciden (renombrados o eliminados).
+--              Por lotes de ids con COMMIT entre lotes, como V9
+--              (ver V17__historial_backfill_datos.sql.conf).
+-- ============================================================================
+
+DO $$
+DECLARE
+    v_lote  CONSTANT INTEGER := 10000;
+    v_desde INTEGER;
+    v_hasta INTEGER;
+BEGIN
+    SELECT min(id), max(id) INTO v_desde, v_hasta
+    FROM historial_dispositivo
+    WHERE descripcion IS NOT NULL;
+
+    WHILE v_desde <= v_hasta LOOP
+        -- Asignaciones y devoluciones: nombre completo como Empleado.getNombreCompleto()
+        UPDATE historial_dispositivo h
+        SET datos = jsonb_build_object('empleadoId', e.id),
+            descripcion = NULL
+        FROM cat_tipo_movimiento t, asignacion_dispositivo a, empleado e
+        WHERE t.id = h.id_tipo_movimiento
+          AND t.codigo IN ('ASIGNACION', 'DEVOLUCION')
+          AND h.id >= v_desde AND h.id < v_desde + v_lote
+          AND h.descripcion IS NOT NULL
+          AND h.datos IS NULL
+          AND a.id_dispositivo = h.id_dispositivo
+          AND e.id = a.id_empleado
+          AND h.descripcion = CASE t.codigo WHEN 'ASIGNACION' THEN 'Asignado a ' ELSE 'Devuelto por ' END
+              || trim(e.nombre || ' ' || e.apellido_paterno
+                      || CASE WHEN trim(e.apellido_materno) <> '' THEN ' ' || e.apellido_materno ELSE '' END);
+
+        -- Reemplazos
+        WITH legado AS (
+            SELECT h.id, h.id_dispositivo,
+                   regexp_match(h.descripcion, '^Reemplazado por (.*)\. Motivo: (.*)\. Empleado: (.*)$') AS partes
+            FROM historial_dispositivo h
+            JOIN cat_tipo_movimiento t ON t.id = h.id_tipo_movimiento
+            WHERE t.codigo = 'REEMPLAZO'
+              AND h.id >= v_desde AND h.id < v_desde + v_lote
+              AND h.descripcion IS NOT NULL
+              AND h.datos IS NULL
+        )
+        UPDATE historial_dispositivo h
+        SET datos = jsonb_strip_nulls(jsonb_build_object(
+                'empleadoId', e.id,
+                'dispositivoId', d.id,
+                'motivo', NULLIF(l.partes[2], 'null'))),
+            descripcion = NULL
+        FROM legado l
+        JOIN dispositivo d ON d.codigo_activo = l.partes[1]
+        JOIN reemplazo_dispositivo r ON r.id_dispositivo_original = l.id_dispositivo
+                                    AND r.id_dispositivo_reemplazo = d.id
+        JOIN empleado e ON e.id = r.id_empleado
+        WHERE h.id = l.id
+          AND l.partes[3] = trim(e.nombre || ' ' || e.apellido_paterno
+                  || CASE WHEN trim(e.apellido_materno) <> '' THEN ' ' || e.apellido_materno ELSE '' END);
+
+        -- Cambios de estado cuyo texto es el que se arma al leer
+        UPDATE historial_dispositivo h
+        SET descripcion = NULL
+        WHERE h.id >= v_desde AND h.id < v_desde + v_lote
+          AND h.descripcion IS NOT NULL
+          AND h.datos -> 'cambios' -> 'estado' ? 'de'
+          AND h.datos -> 'cambios' -> 'estado' ? 'a'
+          AND h.descripcion = 'Estado cambiado de ' || (h.datos -> 'cambios' -> 'estado' ->> 'de')
+                              || ' a ' || (h.datos -> 'cambios' -> 'estado' ->> 'a');
+
+        -- Texto libre (mantenimientos, bajas, cambios de estado con descripción propia)
+        UPDATE historial_dispositivo h
+        SET datos = COALESCE(h.datos, '{}'::jsonb) || jsonb_build_object('observacion', h.descripcion),
+            descripcion = NULL
+        FROM cat_tipo_movimiento t
+        WHERE t.id = h.id_tipo_movimiento
+          AND t.codigo NOT IN ('ASIGNACION', 'DEVOLUCION', 'REEMPLAZO')
+          AND h.id >= v_desde AND h.id < v_desde + v_lote
+          AND h.descripcion IS NOT NULL;
+
+        COMMIT;
+        v_desde := v_desde + v_lote;
+    END LOOP;
+END $$;
+
+COMMENT ON COLUMN historial_dispositivo.descripcion IS
+    'Descripción en texto de registros anteriores a V9 que no se pudieron convertir a datos (empleado o dispositivo ya no coinciden)';
@@ -0,0 +1,117 @@
+-- ============================================================================
+-- V8: Índices compuestos y parciales según las consultas de los repositorios
+-- ============================================================================
+-- Descripción: V3 solo creó índices de una columna. Aquí se crean índices
+--              con la forma exacta de las consultas frecuentes y se eliminan
+--              los que quedan cubiertos (prefijos de un compuesto o duplicados
+--              de una restricción UNIQUE), para no pagar su costo en escrituras.
+--              Se crean con CONCURRENTLY para no bloquear escrituras en tablas
+--              grandes (ver V8__create_query_shape_indexes.sql.conf).
+-- Verificación: QueryPlanRegressionIntegrationTest ejecuta EXPLAIN de cada consulta.
+-- ============================================================================
+
+-- ============================================================================
+-- ASIGNACION_DISPOSITIVO
+-- ============================================================================
+
+-- findAsignacionActivaByDispositivo, findByDispositivoId
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_asignacion_dispositivo_estado
+    ON asignacion_dispositivo(id_dispositivo, id_estado_asignacion);
+
+-- findAsignacionesActivasByEmpleado, countDispositivosAsignadosByEmpleado, findByEmpleadoId
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_asignacion_empleado_estado
+    ON asignacion_dispositivo(id_empleado, id_estado_asignacion);
+
+-- findDevolucionesByPeriodo: las asignaciones activas no tienen fecha de devolución
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_asignacion_fecha_devolucion
+    ON asignacion_dispositivo(fecha_devolucion)
+    WHERE fecha_devolucion IS NOT NULL;
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_asignacion_dispositivo;
+DROP INDEX CONCURRENTLY IF EXISTS idx_asignacion_empleado;
+
+-- ============================================================================
+-- HISTORIAL_DISPOSITIVO
+-- ============================================================================
+
+-- findByDispositivoIdOrderByFechaMovimientoDesc, findUltimosMovimientos,
+-- findByDispositivoAndTipoMovimiento: filtra y entrega ya ordenado
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_historial_dispositivo_fecha
+    ON historial_dispositivo(id_dispositivo, fecha_movimiento DESC);
+
+-- findByTipoMovimientoCodigo, countByTipoMovimiento
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_historial_tipo_fecha
+    ON historial_dispositivo(id_tipo_movimiento, fecha_movimiento DESC);
+
+-- findByUsuarioIdOrderByFechaMovimientoDesc
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_historial_usuario_fecha
+    ON historial_dispositivo(id_usuario, fecha_movimiento DESC);
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_historial_dispositivo;
+
+-- ============================================================================
+-- SOLICITUD_DEVOLUCION
+-- ============================================================================
+
+-- findSolicitudesAtrasadas: solo las que aún no se devolvieron
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_solicitud_atrasadas
+    ON solicitud_devolucion(fecha_devolucion_programada)
+    WHERE fecha_devolucion_real IS NULL;
+
+-- findSolicitudesByPeriodo
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_solicitud_fecha_solicitud
+    ON solicitud_devolucion(fecha_solicitud);
+
+-- findByUsuarioSolicitaId
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_solicitud_usuario_solicita
+    ON solicitud_devolucion(id_usuario_solicita);
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_solicitud_fecha_prog;
+
+-- ============================================================================
+-- DETALLE_DEVOLUCION
+-- ============================================================================
+
+-- countByCondicionDevolucion, findByCondicionCodigo
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_detalle_condicion
+    ON detalle_devolucion(id_condicion_devolucion);
+
+-- Cubierto por uq_detalle_solicitud_dispositivo (id_solicitud_devolucion, id_dispositivo)
+DROP INDEX CONCURRENTLY IF EXISTS idx_detalle_solicitud;
+
+-- ============================================================================
+-- REEMPLAZO_DISPOSITIVO
+-- ============================================================================
+
+-- findReemplazosByPeriodo
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reemplazo_fecha
+    ON reemplazo_dispositivo(fecha_reemplazo);
+
+-- countByMotivoReemplazo
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reemplazo_motivo
+    ON reemplazo_dispositivo(id_motivo_reemplazo);
+
+-- findByDispositivoReemplazoId, findByAsignacionOriginalId
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reemplazo_dispositivo_reemp
+    ON reemplazo_dispositivo(id_dispositivo_reemplazo);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reemplazo_asignacion
+    ON reemplazo_dispositivo(id_asignacion_original);
+
+-- ============================================================================
+-- DISPOSITIVO Y EMPLEADO
+-- ============================================================================
+
+-- findByMarcaId
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_dispositivo_marca
+    ON dispositivo(id_marca);
+
+-- findBySedeId
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_empleado_sede
+    ON empleado(id_sede);
+
+-- Duplicados de restricciones UNIQUE (ya indexadas)
+DROP INDEX CONCURRENTLY IF EXISTS idx_usuario_email;
+DROP INDEX CONCURRENTLY IF EXISTS idx_empleado_codigo;
+DROP INDEX CONCURRENTLY IF EXISTS idx_empleado_email;
+DROP INDEX CONCURRENTLY IF EXISTS idx_dispositivo_codigo;
+DROP INDEX CONCURRENTLY IF EXISTS idx_dispositivo_serie;
@@ -0,0 +1,91 @@
+package pe.edu.upc.oss.group1;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.stereotype.Service;
+import org.springframework.util.ClassUtils;
+import pe.edu.upc.oss.group1.entity.DatosHistorial;
+import pe.edu.upc.oss.group1.service.TenenciaHistorica;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.sql.Connection;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for OssRuntimeHints.
+ */
+class OssRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    OssRuntimeHintsTest() {
+        new OssRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void registerHints_ShouldAllowJacksonOnDatosHistorial() {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(DatosHistorial.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(DatosHistorial.Cambio.class).test(hints));
+    }
+
+    @Test
+    void registerHints_ShouldIncludeConnectionProxyAndFlywayScriptConfig() {
+        assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(Connection.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.resource()
+                .forResource("db/migration/V9__historial_datos_jsonb.sql.conf").test(hints));
+    }
+
+    @Test
+    void registerHints_ShouldAllowGrafoLecturaOnRecordAccessors() throws Exception {
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onMethod(TenenciaHistorica.class.getMethod("empleado")).test(hints));
+    }
+
+    @Test
+    void registerHints_ShouldCoverEveryRecordReturnedByServices() throws ClassNotFoundException {
+        ClassPathScanningCandidateComponentProvider escaner = new ClassPathScanningCandidateComponentProvider(false);
+        escaner.addIncludeFilter(new AnnotationTypeFilter(Service.class));
+
+        Set<Class<?>> registros = new HashSet<>();
+        for (BeanDefinition servicio : escaner.findCandidateComponents("pe.edu.upc.oss.group1.service")) {
+            Class<?> clase = ClassUtils.forName(servicio.getBeanClassName(), getClass().getClassLoader());
+            for (Method metodo : clase.getDeclaredMethods()) {
+                if (Modifier.isPublic(metodo.getModifiers())) {
+                    recolectarRecords(metodo.getGenericReturnType(), registros);
+                }
+            }
+        }
+
+        assertFalse(registros.isEmpty());
+        for (Class<?> registro : registros) {
+            for (RecordComponent componente : registro.getRecordComponents()) {
+                assertTrue(RuntimeHintsPredicates.reflection().onMethod(componente.getAccessor()).test(hints),
+                        "Falta registrar " + registro.getName());
+            }
+        }
+    }
+
+    private static void recolectarRecords(Type tipo, Set<Class<?>> registros) {
+        if (tipo instanceof ParameterizedType parametrizado) {
+            recolectarRecords(parametrizado.getRawType(), registros);
+            for (Type argumento : parametrizado.getActualTypeArguments()) {
+                recolectarRecords(argumento, registros);
+            }
+        } else if (tipo instanceof Class<?> clase && clase.isRecord() && registros.add(clase)) {
+            for (RecordComponent componente : clase.getRecordComponents()) {
+                recolectarRecords(componente.getGenericType(), registros);
+            }
+        }
+    }
+}
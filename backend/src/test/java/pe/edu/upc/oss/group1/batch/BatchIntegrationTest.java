@@ -0,0 +1,65 @@
+package pe.edu.upc.oss.group1.batch;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifica POST /api/v1/batch con las operaciones reales de BatchConfig: conversión y
+ * validación del cuerpo, errores de servicio y referencias a operaciones fallidas.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class BatchIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void ejecutar_WhenTodoONadaFalla_ShouldRespondWithFailedOperationStatus() throws Exception {
+        String batch = """
+                {"modo": "TODO_O_NADA", "operaciones": [
+                  {"operacion": "asignaciones.cancelar", "parametros": {"id": 999999, "motivo": "Duplicada"}}
+                ]}""";
+
+        mockMvc.perform(post("/api/v1/batch").contentType(MediaType.APPLICATION_JSON).content(batch))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.exitoso").value(false))
+                .andExpect(jsonPath("$.resultados[0].resultado").value("FALLIDA"))
+                .andExpect(jsonPath("$.resultados[0].error.error").value("RESOURCE_NOT_FOUND"));
+    }
+
+    @Test
+    void ejecutar_WhenPorOperacion_ShouldValidateBodiesAndFailDependents() throws Exception {
+        String batch = """
+                {"modo": "POR_OPERACION", "operaciones": [
+                  {"id": "sol", "operacion": "solicitudes-devolucion.crear", "cuerpo": {}},
+                  {"operacion": "detalles-devolucion.agregar",
+                   "cuerpo": {"solicitudDevolucionId": "${sol.id}", "dispositivoId": 1, "condicionDevolucionId": 1}}
+                ]}""";
+
+        mockMvc.perform(post("/api/v1/batch").contentType(MediaType.APPLICATION_JSON).content(batch))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.fallidas").value(2))
+                .andExpect(jsonPath("$.resultados[0].status").value(400))
+                .andExpect(jsonPath("$.resultados[1].status").value(424))
+                .andExpect(jsonPath("$.resultados[1].error.error").value("DEPENDENCY_FAILED"));
+    }
+
+    @Test
+    void ejecutar_WhenOperacionDesconocida_ShouldReturn400() throws Exception {
+        String batch = """
+                {"operaciones": [{"operacion": "dispositivos.eliminar", "parametros": {"id": 1}}]}""";
+
+        mockMvc.perform(post("/api/v1/batch").contentType(MediaType.APPLICATION_JSON).content(batch))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("BUSINESS_VALIDATION_ERROR"));
+    }
+}
@@ -0,0 +1,165 @@
+package pe.edu.upc.oss.group1.batch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import pe.edu.upc.oss.group1.dto.request.DetalleDevolucionRequest;
+import pe.edu.upc.oss.group1.exception.BusinessValidationException;
+import pe.edu.upc.oss.group1.exception.ResourceNotFoundException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for EjecutorBatch.
+ */
+class EjecutorBatchTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    private TransaccionesRegistradas transacciones;
+    private EntityManager entityManager;
+    private List<DetalleDevolucionRequest> detallesAgregados;
+    private EjecutorBatch ejecutor;
+
+    @BeforeEach
+    void setUp() {
+        transacciones = new TransaccionesRegistradas();
+        entityManager = mock(EntityManager.class);
+        detallesAgregados = new ArrayList<>();
+        List<OperacionBatch> operaciones = List.of(
+                new OperacionBatch("solicitudes.crear", HttpStatus.CREATED, entrada -> Map.of("id", 7)),
+                new OperacionBatch("detalles.agregar", HttpStatus.CREATED, entrada -> {
+                    DetalleDevolucionRequest detalle = entrada.cuerpo(DetalleDevolucionRequest.class);
+                    detallesAgregados.add(detalle);
+                    return Map.of("id", 100 + detallesAgregados.size());
+                }),
+                new OperacionBatch("solicitudes.completar", HttpStatus.OK, entrada -> {
+                    throw new ResourceNotFoundException("Solicitud no encontrada con ID: " + entrada.entero("id"));
+                }));
+        ejecutor = new EjecutorBatch(operaciones, new TransactionTemplate(transacciones), entityManager,
+                objectMapper, validator);
+    }
+
+    @Test
+    void ejecutar_WhenTodasExitosas_ShouldResolveReferencesInOneTransaction() {
+        ResultadoBatch resultado = ejecutor.ejecutar(List.of(
+                operacion("sol", "solicitudes.crear", "{}", null),
+                operacion(null, "detalles.agregar", detalle("${sol.id}", 12), null),
+                operacion(null, "detalles.agregar", detalle("${0.id}", 13), null)), ModoBatch.TODO_O_NADA);
+
+        assertTrue(resultado.isExitoso());
+        assertEquals(List.of(201, 201, 201), resultado.resultados().stream().map(ResultadoOperacion::estadoHttp).toList());
+        assertEquals(7, detallesAgregados.get(0).getSolicitudDevolucionId());
+        assertEquals(7, detallesAgregados.get(1).getSolicitudDevolucionId());
+        assertEquals(1, transacciones.commits);
+        assertEquals(0, transacciones.rollbacks);
+        verify(entityManager, times(3)).clear();
+    }
+
+    @Test
+    void ejecutar_WhenTodoONadaFalla_ShouldRollbackAndSkipRemaining() {
+        ResultadoBatch resultado = ejecutor.ejecutar(List.of(
+                operacion("sol", "solicitudes.crear", "{}", null),
+                operacion(null, "solicitudes.completar", null, "{\"id\":\"${sol.id}\"}"),
+                operacion(null, "detalles.agregar", detalle("${sol.id}", 12), null)), ModoBatch.TODO_O_NADA);
+
+        assertFalse(resultado.isExitoso());
+        assertEquals(List.of(EstadoOperacion.REVERTIDA, EstadoOperacion.FALLIDA, EstadoOperacion.NO_EJECUTADA),
+                resultado.resultados().stream().map(ResultadoOperacion::estado).toList());
+        ResultadoOperacion fallida = resultado.getPrimeraFallida();
+        assertEquals(404, fallida.estadoHttp());
+        assertEquals("Solicitud no encontrada con ID: 7", fallida.error().getMessage());
+        assertTrue(detallesAgregados.isEmpty());
+        assertEquals(0, transacciones.commits);
+        assertEquals(1, transacciones.rollbacks);
+    }
+
+    @Test
+    void ejecutar_WhenPorOperacion_ShouldCommitEachAndFailDependents() {
+        ResultadoBatch resultado = ejecutor.ejecutar(List.of(
+                operacion("det", "detalles.agregar", "{\"dispositivoId\":12}", null),
+                operacion(null, "detalles.agregar", detalle("${det.id}", 13), null),
+                operacion(null, "solicitudes.crear", "{}", null)), ModoBatch.POR_OPERACION);
+
+        assertEquals(List.of(EstadoOperacion.FALLIDA, EstadoOperacion.FALLIDA, EstadoOperacion.EXITOSA),
+                resultado.resultados().stream().map(ResultadoOperacion::estado).toList());
+        assertEquals("BUSINESS_VALIDATION_ERROR", resultado.resultados().get(0).error().getError());
+        assertEquals(424, resultado.resultados().get(1).estadoHttp());
+        assertEquals("DEPENDENCY_FAILED", resultado.resultados().get(1).error().getError());
+        assertEquals(1, transacciones.commits);
+        assertEquals(2, transacciones.rollbacks);
+    }
+
+    @Test
+    void ejecutar_WhenOperacionDesconocidaOReferenciaPosterior_ShouldRejectBeforeExecuting() {
+        assertThrows(BusinessValidationException.class, () -> ejecutor.ejecutar(List.of(
+                operacion(null, "solicitudes.borrar", "{}", null)), ModoBatch.TODO_O_NADA));
+        assertThrows(BusinessValidationException.class, () -> ejecutor.ejecutar(List.of(
+                operacion(null, "detalles.agregar", detalle("${sol.id}", 12), null),
+                operacion("sol", "solicitudes.crear", "{}", null)), ModoBatch.TODO_O_NADA));
+        assertThrows(BusinessValidationException.class, () -> ejecutor.ejecutar(List.of(
+                operacion("sol", "solicitudes.crear", "{}", null),
+                operacion("sol", "solicitudes.crear", "{}", null)), ModoBatch.POR_OPERACION));
+
+        assertEquals(0, transacciones.commits + transacciones.rollbacks);
+    }
+
+    private OperacionSolicitada operacion(String id, String nombre, String cuerpo, String parametros) {
+        try {
+            JsonNode nodoCuerpo = cuerpo != null ? objectMapper.readTree(cuerpo) : null;
+            JsonNode nodoParametros = parametros != null ? objectMapper.readTree(parametros) : null;
+            return new OperacionSolicitada(id, nombre, nodoCuerpo, nodoParametros);
+        } catch (Exception e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private static String detalle(String solicitud, int dispositivoId) {
+        return "{\"solicitudDevolucionId\":\"" + solicitud + "\",\"dispositivoId\":" + dispositivoId
+                + ",\"condicionDevolucionId\":1}";
+    }
+
+    /**
+     * Transaction manager sin base de datos que cuenta confirmaciones y reversiones.
+     */
+    private static class TransaccionesRegistradas implements PlatformTransactionManager {
+
+        private int commits;
+        private int rollbacks;
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            if (status.isRollbackOnly()) {
+                rollbacks++;
+            } else {
+                commits++;
+            }
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            rollbacks++;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package pe.edu.upc.oss.group1.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ClusterCacheManager.
+ */
+@ExtendWith(MockitoExtension.class)
+class ClusterCacheManagerTest {
+
+    private static final String OTRO_NODO = "otro-nodo";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ObjectProvider<InvalidacionCacheListener> listeners;
+
+    private InvalidacionCacheBus bus;
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(listeners.orderedStream()).thenAnswer(inv -> Stream.empty());
+        bus = new InvalidacionCacheBus(jdbcTemplate, listeners, false);
+        cache = new ClusterCacheManager(bus).getCache(CacheNames.CAT_SEDE);
+    }
+
+    @Test
+    void put_AfterMiss_ShouldStoreValue() {
+        assertNull(cache.get("activos"));
+
+        cache.put("activos", List.of("Lima"));
+
+        assertEquals(List.of("Lima"), cache.get("activos").get());
+    }
+
+    @Test
+    void put_WhenRegionInvalidatedSinceMiss_ShouldDiscardStaleValue() {
+        assertNull(cache.get("activos"));
+        // Otro nodo confirma una escritura mientras este lee la base
+        bus.recibir(OTRO_NODO + "|" + CacheNames.CAT_SEDE);
+
+        cache.put("activos", List.of("Lima"));
+
+        assertNull(cache.get("activos"));
+        cache.put("activos", List.of("Lima", "Arequipa"));
+        assertEquals(List.of("Lima", "Arequipa"), cache.get("activos").get());
+    }
+
+    @Test
+    void put_WhenOtherRegionInvalidated_ShouldStoreValue() {
+        assertNull(cache.get("activos"));
+        bus.recibir(OTRO_NODO + "|" + CacheNames.DISPOSITIVOS);
+
+        cache.put("activos", List.of("Lima"));
+
+        assertEquals(List.of("Lima"), cache.get("activos").get());
+    }
+
+    @Test
+    void evict_ShouldClearRegionLocally() {
+        cache.put("activos", List.of("Lima"));
+
+        cache.evict("activos");
+
+        assertNull(cache.get("activos"));
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
@@ -0,0 +1,106 @@
+package pe.edu.upc.oss.group1.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import pe.edu.upc.oss.group1.OssBackendApplication;
+import pe.edu.upc.oss.group1.entity.catalogo.CatSede;
+import pe.edu.upc.oss.group1.service.CatSedeService;
+
+import java.time.Duration;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration test: dos instancias de la aplicación sobre la misma base PostgreSQL.
+ * Una escritura en un nodo debe invalidar la cache del otro vía LISTEN/NOTIFY,
+ * y una transacción con rollback no debe invalidar nada.
+ */
+@Tag("postgres")
+@Testcontainers(disabledWithoutDocker = true)
+class InvalidacionCacheClusterIntegrationTest {
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private ConfigurableApplicationContext nodoA;
+    private ConfigurableApplicationContext nodoB;
+
+    @BeforeEach
+    void setUp() {
+        nodoA = iniciarNodo();
+        nodoB = iniciarNodo();
+        await().atMost(Duration.ofSeconds(10)).until(() ->
+                nodoA.getBean(PgNotifyInvalidacionListener.class).isEscuchando()
+                        && nodoB.getBean(PgNotifyInvalidacionListener.class).isEscuchando());
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodoA.close();
+        nodoB.close();
+    }
+
+    @Test
+    void create_EnOtroNodo_ShouldInvalidarCacheLocal() {
+        CatSedeService sedesA = nodoA.getBean(CatSedeService.class);
+        int sedesIniciales = sedesA.findAllActive().size();
+        Cache cacheA = nodoA.getBean(CacheManager.class).getCache(CacheNames.CAT_SEDE);
+        assertNotNull(cacheA.get("activos"));
+
+        nodoB.getBean(CatSedeService.class).create(nuevaSede("SEDE-CLUSTER"));
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> cacheA.get("activos") == null);
+        assertEquals(sedesIniciales + 1, sedesA.findAllActive().size());
+    }
+
+    @Test
+    void create_ConRollbackEnOtroNodo_ShouldMantenerCacheLocal() throws InterruptedException {
+        CatSedeService sedesA = nodoA.getBean(CatSedeService.class);
+        sedesA.findAllActive();
+        Cache cacheA = nodoA.getBean(CacheManager.class).getCache(CacheNames.CAT_SEDE);
+
+        TransactionTemplate tx = new TransactionTemplate(nodoB.getBean(PlatformTransactionManager.class));
+        tx.executeWithoutResult(status -> {
+            nodoB.getBean(CatSedeService.class).create(nuevaSede("SEDE-ROLLBACK"));
+            status.setRollbackOnly();
+        });
+
+        Thread.sleep(2_000);
+        assertNotNull(cacheA.get("activos"));
+    }
+
+    private static CatSede nuevaSede(String codigo) {
+        CatSede sede = new CatSede();
+        sede.setCodigo(codigo);
+        sede.setNombre("Sede " + codigo);
+        sede.setActivo(true);
+        return sede;
+    }
+
+    private static ConfigurableApplicationContext iniciarNodo() {
+        return new SpringApplicationBuilder(OssBackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.datasource.url=" + postgres.getJdbcUrl(),
+                        "--spring.datasource.username=" + postgres.getUsername(),
+                        "--spring.datasource.password=" + postgres.getPassword(),
+                        "--spring.datasource.driver-class-name=org.postgresql.Driver",
+                        "--spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+                        "--spring.jpa.hibernate.ddl-auto=validate",
+                        "--spring.flyway.enabled=true",
+                        "--app.cache.invalidacion.pg-notify.enabled=true");
+    }
+}
@@ -0,0 +1,74 @@
+package pe.edu.upc.oss.group1.concurrencia;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LimiteAdaptativo.
+ */
+class LimiteAdaptativoTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    void intentarAdmitir_WhenLimitReached_ShouldReject() {
+        LimiteAdaptativo limite = new LimiteAdaptativo(2, 1, 10);
+
+        assertTrue(limite.intentarAdmitir());
+        assertTrue(limite.intentarAdmitir());
+        assertFalse(limite.intentarAdmitir());
+
+        limite.liberar(10 * MS);
+        assertTrue(limite.intentarAdmitir());
+    }
+
+    @Test
+    void liberar_WhenLatencyStable_ShouldGrowLimit() {
+        LimiteAdaptativo limite = new LimiteAdaptativo(4, 1, 20);
+
+        saturar(limite, 200, 10 * MS);
+
+        assertEquals(20, limite.getLimite());
+    }
+
+    @Test
+    void liberar_WhenLatencyRises_ShouldShrinkLimit() {
+        LimiteAdaptativo limite = new LimiteAdaptativo(20, 2, 20);
+        saturar(limite, 200, 10 * MS);
+
+        saturar(limite, 50, 100 * MS);
+
+        assertTrue(limite.getLimite() < 20, "límite actual: " + limite.getLimite());
+        assertTrue(limite.getLimite() >= 2);
+    }
+
+    @Test
+    void liberar_WhenFewRequestsInFlight_ShouldKeepLimit() {
+        LimiteAdaptativo limite = new LimiteAdaptativo(10, 1, 50);
+
+        for (int i = 0; i < 100; i++) {
+            limite.intentarAdmitir();
+            limite.liberar(10 * MS);
+        }
+
+        assertEquals(10, limite.getLimite());
+    }
+
+    @Test
+    void constructor_WhenMaximoBelowMinimo_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new LimiteAdaptativo(5, 10, 4));
+    }
+
+    /**
+     * Ocupa todo el límite en cada ronda y libera una petición con la latencia dada.
+     */
+    private static void saturar(LimiteAdaptativo limite, int rondas, long rttNanos) {
+        for (int i = 0; i < rondas; i++) {
+            while (limite.intentarAdmitir()) {
+                // llena los cupos disponibles
+            }
+            limite.liberar(rttNanos);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package pe.edu.upc.oss.group1.concurrencia;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LimiteConcurrenciaFilter y ClasificadorEndpoint.
+ */
+class LimiteConcurrenciaFilterTest {
+
+    private final ClasificadorEndpoint clasificador = new ClasificadorEndpoint(
+            List.of("/api/v1/dispositivos", "/api/v1/historial-dispositivos/**"),
+            List.of("/api/v1/eventos/stream"));
+
+    private Map<ClaseEndpoint, LimiteAdaptativo> limites;
+    private Map<ClaseEndpoint, Counter> rechazos;
+    private LimiteConcurrenciaFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        limites = new EnumMap<>(ClaseEndpoint.class);
+        rechazos = new EnumMap<>(ClaseEndpoint.class);
+        for (ClaseEndpoint clase : ClaseEndpoint.values()) {
+            limites.put(clase, new LimiteAdaptativo(1, 1, 1));
+            rechazos.put(clase, registry.counter("oss.concurrencia.rechazos", "clase", clase.name()));
+        }
+        filter = new LimiteConcurrenciaFilter(clasificador, limites, rechazos, Duration.ofSeconds(2),
+                new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+
+    @Test
+    void clasificar_ShouldSeparateListadosInteractivosYEscrituras() {
+        assertEquals(ClaseEndpoint.LISTADO, clasificador.clasificar("GET", "/api/v1/dispositivos"));
+        assertEquals(ClaseEndpoint.LISTADO, clasificador.clasificar("GET", "/api/v1/historial-dispositivos/dispositivo/5"));
+        assertEquals(ClaseEndpoint.INTERACTIVO, clasificador.clasificar("GET", "/api/v1/dispositivos/5"));
+        assertEquals(ClaseEndpoint.ESCRITURA, clasificador.clasificar("POST", "/api/v1/dispositivos"));
+        assertNull(clasificador.clasificar("GET", "/api/v1/eventos/stream"));
+    }
+
+    @Test
+    void doFilter_WhenClaseSaturada_ShouldReturn503WithRetryAfter() throws Exception {
+        assertTrue(limites.get(ClaseEndpoint.LISTADO).intentarAdmitir());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/dispositivos"), response, chain);
+
+        assertEquals(503, response.getStatus());
+        assertEquals("2", response.getHeader("Retry-After"));
+        assertTrue(response.getContentAsString().contains("SERVICE_OVERLOADED"));
+        assertNull(chain.getRequest());
+        assertEquals(1.0, rechazos.get(ClaseEndpoint.LISTADO).count());
+    }
+
+    @Test
+    void doFilter_WhenOtraClaseSaturada_ShouldAdmitAndRelease() throws Exception {
+        assertTrue(limites.get(ClaseEndpoint.LISTADO).intentarAdmitir());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/dispositivos/5"), response, chain);
+
+        assertEquals(200, response.getStatus());
+        assertNotNull(chain.getRequest());
+        assertEquals(0, limites.get(ClaseEndpoint.INTERACTIVO).getEnCurso());
+    }
+}
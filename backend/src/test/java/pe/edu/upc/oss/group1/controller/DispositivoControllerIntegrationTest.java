@@ -1,28 +1,49 @@
 package pe.edu.upc.oss.group1.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import pe.edu.upc.oss.group1.dto.request.DispositivoEstadoMasivoRequest;
 import pe.edu.upc.oss.group1.dto.request.DispositivoRequest;
+import pe.edu.upc.oss.group1.entity.CambioEstadoMasivo;
 import pe.edu.upc.oss.group1.entity.Dispositivo;
+import pe.edu.upc.oss.group1.entity.Empleado;
+import pe.edu.upc.oss.group1.escaneo.ResumenEscaneo;
 import pe.edu.upc.oss.group1.exception.DuplicateResourceException;
 import pe.edu.upc.oss.group1.exception.ResourceNotFoundException;
+import pe.edu.upc.oss.group1.formato.FormatosBinariosConfig;
+import pe.edu.upc.oss.group1.service.CambioEstadoMasivoService;
+import pe.edu.upc.oss.group1.service.ConsultaLote;
+import pe.edu.upc.oss.group1.service.DispositivoEscaneado;
 import pe.edu.upc.oss.group1.service.DispositivoService;
+import pe.edu.upc.oss.group1.service.EscaneoService;
+import pe.edu.upc.oss.group1.service.InventarioHistoricoService;
+import pe.edu.upc.oss.group1.service.ResultadoLote;
+import pe.edu.upc.oss.group1.service.TenenciaHistorica;
 
 import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoDispositivo;
 import pe.edu.upc.oss.group1.entity.catalogo.CatMarca;
 import pe.edu.upc.oss.group1.entity.catalogo.CatProveedor;
 import pe.edu.upc.oss.group1.entity.catalogo.CatTipoDispositivo;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -31,6 +52,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * Integration tests for DispositivoController.
  */
 @WebMvcTest(DispositivoController.class)
+@Import(FormatosBinariosConfig.class)
 class DispositivoControllerIntegrationTest {
 
     @Autowired
@@ -42,6 +64,15 @@ class DispositivoControllerIntegrationTest {
     @MockBean
     private DispositivoService dispositivoService;
 
+    @MockBean
+    private InventarioHistoricoService inventarioService;
+
+    @MockBean
+    private CambioEstadoMasivoService cambioEstadoMasivoService;
+
+    @MockBean
+    private EscaneoService escaneoService;
+
     private Dispositivo dispositivo;
 
     @BeforeEach
@@ -88,6 +119,33 @@ class DispositivoControllerIntegrationTest {
         verify(dispositivoService, times(1)).findAll();
     }
 
+    @Test
+    void findAll_WhenAcceptCbor_ShouldReturnCborEncodedList() throws Exception {
+        when(dispositivoService.findAll()).thenReturn(List.of(dispositivo));
+
+        byte[] cuerpo = mockMvc.perform(get("/api/v1/dispositivos").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode lista = new CBORMapper().readTree(cuerpo);
+        assertEquals("DEVICE001", lista.get(0).get("codigoActivo").asText());
+    }
+
+    @Test
+    void findAll_WhenAcceptSmile_ShouldReturnSmileEncodedList() throws Exception {
+        when(dispositivoService.findAll()).thenReturn(List.of(dispositivo));
+
+        byte[] cuerpo = mockMvc.perform(get("/api/v1/dispositivos").accept(FormatosBinariosConfig.APPLICATION_SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(FormatosBinariosConfig.APPLICATION_SMILE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode lista = new SmileMapper().readTree(cuerpo);
+        assertEquals("DEVICE001", lista.get(0).get("codigoActivo").asText());
+        assertEquals("Dell", lista.get(0).get("marca").get("nombre").asText());
+    }
+
     @Test
     void findDisponibles_ShouldReturnAvailableDevices() throws Exception {
         // Arrange
@@ -116,6 +174,50 @@ class DispositivoControllerIntegrationTest {
         verify(dispositivoService, times(1)).findByIdWithRelations(1);
     }
 
+    @Test
+    void findLote_ShouldReturnResultsKeyedByCodigoAndMissingCodes() throws Exception {
+        // Arrange
+        when(dispositivoService.findLote(ConsultaLote.de(null, List.of("DEVICE001", "DEVICE999"))))
+                .thenReturn(new ResultadoLote<>(Map.of("DEVICE001", dispositivo), List.of("DEVICE999")));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/dispositivos/lote").param("codigos", "DEVICE001", "DEVICE999"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resultados.DEVICE001.id").value(1))
+                .andExpect(jsonPath("$.noEncontrados[0]").value("DEVICE999"));
+    }
+
+    @Test
+    void findLote_WhenIdsAndCodigosGiven_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/dispositivos/lote").param("ids", "1").param("codigos", "DEVICE001"))
+                .andExpect(status().isBadRequest());
+
+        verify(dispositivoService, never()).findLote(any());
+    }
+
+    @Test
+    void escanear_ShouldReturnSummaryWithCatalogs() throws Exception {
+        // Arrange
+        ResumenEscaneo resumen = new ResumenEscaneo(1, "DEVICE001", "SN123456", 1, 1, 1);
+        when(escaneoService.buscar("SN123456")).thenReturn(new DispositivoEscaneado(resumen,
+                dispositivo.getTipoDispositivo(), dispositivo.getMarca(), dispositivo.getEstadoDispositivo(), true));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/dispositivos/escaneo/SN123456"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.codigoActivo").value("DEVICE001"))
+                .andExpect(jsonPath("$.marca.nombre").value("Dell"))
+                .andExpect(jsonPath("$.estadoDispositivo.nombre").value("Disponible"));
+    }
+
+    @Test
+    void escanear_WhenNotFound_ShouldReturn404() throws Exception {
+        when(escaneoService.buscar("NADA")).thenThrow(new ResourceNotFoundException("Dispositivo no encontrado"));
+
+        mockMvc.perform(get("/api/v1/dispositivos/escaneo/NADA"))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void findByCodigoActivo_WhenExists_ShouldReturnDispositivo() throws Exception {
         // Arrange
@@ -223,4 +325,59 @@ class DispositivoControllerIntegrationTest {
 
         verify(dispositivoService, times(1)).findByTipo(1);
     }
+
+    @Test
+    void findTenencia_WithAsOf_ShouldReturnHolderAtThatDate() throws Exception {
+        // Arrange
+        Empleado empleado = new Empleado();
+        empleado.setId(7);
+        empleado.setCodigoEmpleado("EMP007");
+        LocalDate fecha = LocalDate.of(2024, 12, 31);
+        when(inventarioService.findTenenciaDispositivo(1, fecha))
+                .thenReturn(new TenenciaHistorica(dispositivo, empleado, 15, fecha, LocalDate.of(2024, 12, 29)));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/dispositivos/1/tenencia").param("asOf", "2024-12-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.codigoActivo").value("DEVICE001"))
+                .andExpect(jsonPath("$.empleadoId").value(7))
+                .andExpect(jsonPath("$.asignacionId").value(15))
+                .andExpect(jsonPath("$.fechaSnapshot").value("2024-12-29"));
+
+        verify(inventarioService, times(1)).findTenenciaDispositivo(1, fecha);
+    }
+
+    @Test
+    void updateEstadoMasivo_ShouldReturnAcceptedWithProgressLocation() throws Exception {
+        DispositivoEstadoMasivoRequest request = new DispositivoEstadoMasivoRequest();
+        request.setEstadoId(4);
+        request.setUsuarioId(1);
+        request.setTipoDispositivoId(1);
+        request.setModelo("Model X");
+        CambioEstadoMasivo trabajo = new CambioEstadoMasivo(4, 1200);
+        when(cambioEstadoMasivoService.iniciar(any(), eq(4), eq(1), isNull())).thenReturn(trabajo);
+
+        mockMvc.perform(post("/api/v1/dispositivos/estado-masivo")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/v1/dispositivos/estado-masivo/" + trabajo.getId()))
+                .andExpect(jsonPath("$.estado").value("EN_CURSO"))
+                .andExpect(jsonPath("$.total").value(1200))
+                .andExpect(jsonPath("$.procesados").value(0));
+    }
+
+    @Test
+    void updateEstadoMasivo_WithoutEstado_ShouldReturnBadRequest() throws Exception {
+        DispositivoEstadoMasivoRequest request = new DispositivoEstadoMasivoRequest();
+        request.setUsuarioId(1);
+        request.setIds(List.of(1, 2));
+
+        mockMvc.perform(post("/api/v1/dispositivos/estado-masivo")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+
+        verify(cambioEstadoMasivoService, never()).iniciar(any(), any(), any(), any());
+    }
 }
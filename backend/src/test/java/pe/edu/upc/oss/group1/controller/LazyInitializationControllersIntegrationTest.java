@@ -0,0 +1,277 @@
+package pe.edu.upc.oss.group1.controller;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.LazyInitializationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.MethodParameter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import pe.edu.upc.oss.group1.entity.AsignacionDispositivo;
+import pe.edu.upc.oss.group1.entity.DatosHistorial;
+import pe.edu.upc.oss.group1.entity.DetalleDevolucion;
+import pe.edu.upc.oss.group1.entity.Dispositivo;
+import pe.edu.upc.oss.group1.entity.Empleado;
+import pe.edu.upc.oss.group1.entity.HistorialDispositivo;
+import pe.edu.upc.oss.group1.entity.ReemplazoDispositivo;
+import pe.edu.upc.oss.group1.entity.SolicitudDevolucion;
+import pe.edu.upc.oss.group1.entity.Usuario;
+import pe.edu.upc.oss.group1.entity.catalogo.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Integration test con open-in-view deshabilitado: recorre todos los endpoints GET de los
+ * controllers sobre datos con todas las relaciones pobladas y falla si alguno lanza
+ * LazyInitializationException al mapear la respuesta fuera de la transacción.
+ *
+ * Cada tabla recibe un único registro (ID 1) y todos los códigos son "TEST",
+ * de modo que cualquier variable de ruta numérica o de texto apunta a datos existentes.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class LazyInitializationControllersIntegrationTest {
+
+    private static final String CODIGO = "TEST";
+    private static final String PAQUETE_CONTROLLERS = "pe.edu.upc.oss.group1.controller";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    @Qualifier("requestMappingHandlerMapping")
+    private RequestMappingHandlerMapping handlerMapping;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private static boolean datosCreados;
+
+    @BeforeEach
+    void setUp() {
+        if (!datosCreados) {
+            transactionTemplate.executeWithoutResult(status -> crearDatos());
+            datosCreados = true;
+        }
+    }
+
+    @Test
+    void endpointsGet_SinOpenInView_NoDebenLanzarLazyInitializationException() throws Exception {
+        List<String> fallos = new ArrayList<>();
+        int invocados = 0;
+
+        for (Map.Entry<RequestMappingInfo, HandlerMethod> entry : handlerMapping.getHandlerMethods().entrySet()) {
+            RequestMappingInfo info = entry.getKey();
+            HandlerMethod handler = entry.getValue();
+            if (!handler.getBeanType().getPackageName().startsWith(PAQUETE_CONTROLLERS)
+                    || !info.getMethodsCondition().getMethods().contains(RequestMethod.GET)
+                    || SseEmitter.class.isAssignableFrom(handler.getMethod().getReturnType())) {
+                continue;
+            }
+
+            for (String patron : info.getPatternValues()) {
+                MvcResult result = mockMvc.perform(construirPeticion(patron, handler)).andReturn();
+                invocados++;
+                if (causadoPorLazyInitialization(result.getResolvedException())) {
+                    fallos.add(patron + " -> " + result.getResolvedException().getMessage());
+                }
+            }
+        }
+
+        assertTrue(invocados > 50, "Se esperaban todos los endpoints GET, se invocaron " + invocados);
+        assertTrue(fallos.isEmpty(), "Endpoints con LazyInitializationException:\n" + String.join("\n", fallos));
+    }
+
+    private static MockHttpServletRequestBuilder construirPeticion(String patron, HandlerMethod handler) {
+        String uri = patron.replaceAll("\\{[^/]*?(?i:id)}", "1").replaceAll("\\{[^/]+}", CODIGO);
+        MockHttpServletRequestBuilder peticion = get(uri);
+        for (MethodParameter parametro : handler.getMethodParameters()) {
+            RequestParam requestParam = parametro.getParameterAnnotation(RequestParam.class);
+            if (requestParam == null || !requestParam.required()) {
+                continue;
+            }
+            parametro.initParameterNameDiscovery(new DefaultParameterNameDiscoverer());
+            String nombre = !requestParam.name().isEmpty() ? requestParam.name() : parametro.getParameterName();
+            peticion.param(nombre, valorDeEjemplo(parametro.getParameterType()));
+        }
+        return peticion;
+    }
+
+    private static String valorDeEjemplo(Class<?> tipo) {
+        if (tipo == Integer.class || tipo == Long.class || tipo == int.class || tipo == long.class) {
+            return "1";
+        }
+        if (tipo == LocalDate.class) {
+            return LocalDate.now().toString();
+        }
+        if (tipo == LocalDateTime.class) {
+            return LocalDateTime.now().withNano(0).toString();
+        }
+        return CODIGO;
+    }
+
+    private static boolean causadoPorLazyInitialization(Throwable error) {
+        for (Throwable actual = error; actual != null; actual = actual.getCause()) {
+            if (actual instanceof LazyInitializationException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void crearDatos() {
+        CatArea areaRaiz = catalogo(CatArea.class);
+        CatArea area = catalogo(CatArea.class, "TEST-SUB");
+        area.setAreaSuperior(areaRaiz);
+        entityManager.persist(area);
+
+        CatPuesto puesto = catalogo(CatPuesto.class, CODIGO);
+        puesto.setArea(area);
+        entityManager.persist(puesto);
+        CatSede sede = catalogo(CatSede.class);
+        CatEstadoEmpleado estadoEmpleado = catalogo(CatEstadoEmpleado.class);
+        CatTipoDispositivo tipo = catalogo(CatTipoDispositivo.class);
+        CatMarca marca = catalogo(CatMarca.class);
+        CatEstadoDispositivo estadoDispositivo = catalogo(CatEstadoDispositivo.class);
+        CatProveedor proveedor = catalogo(CatProveedor.class);
+        CatEstadoAsignacion estadoAsignacion = catalogo(CatEstadoAsignacion.class);
+        CatMotivoReemplazo motivo = catalogo(CatMotivoReemplazo.class);
+        CatEstadoReemplazo estadoReemplazo = catalogo(CatEstadoReemplazo.class);
+        CatEstadoSolicitud estadoSolicitud = catalogo(CatEstadoSolicitud.class);
+        CatCondicionDevolucion condicion = catalogo(CatCondicionDevolucion.class);
+        CatTipoMovimiento tipoMovimiento = catalogo(CatTipoMovimiento.class);
+
+        Usuario usuario = new Usuario();
+        usuario.setUsername(CODIGO);
+        usuario.setPasswordHash("hash");
+        usuario.setEmail("test@oss.test");
+        usuario.setNombreCompleto("Usuario Test");
+        entityManager.persist(usuario);
+
+        Empleado empleado = new Empleado();
+        empleado.setCodigoEmpleado(CODIGO);
+        empleado.setNombre("Nombre");
+        empleado.setApellidoPaterno("Apellido");
+        empleado.setEmail("empleado@oss.test");
+        empleado.setArea(area);
+        empleado.setPuesto(puesto);
+        empleado.setSede(sede);
+        empleado.setEstadoEmpleado(estadoEmpleado);
+        empleado.setFechaIngreso(LocalDate.now().minusYears(1));
+        entityManager.persist(empleado);
+
+        Dispositivo dispositivo = dispositivo(CODIGO, tipo, marca, estadoDispositivo, proveedor);
+        Dispositivo dispositivoReemplazo = dispositivo("TEST-REEMPLAZO", tipo, marca, estadoDispositivo, proveedor);
+
+        AsignacionDispositivo asignacion = new AsignacionDispositivo();
+        asignacion.setDispositivo(dispositivo);
+        asignacion.setEmpleado(empleado);
+        asignacion.setFechaAsignacion(LocalDate.now().minusDays(10));
+        asignacion.setUsuarioAsigna(usuario);
+        asignacion.setUsuarioRecibe(usuario);
+        asignacion.setEstadoAsignacion(estadoAsignacion);
+        entityManager.persist(asignacion);
+
+        HistorialDispositivo historial = new HistorialDispositivo();
+        historial.setDispositivo(dispositivo);
+        historial.setTipoMovimiento(tipoMovimiento);
+        historial.setUsuario(usuario);
+        historial.setDatos(DatosHistorial.deEmpleado(empleado.getId()));
+        historial.setFechaMovimiento(LocalDateTime.now());
+        entityManager.persist(historial);
+
+        SolicitudDevolucion solicitud = new SolicitudDevolucion();
+        solicitud.setEmpleado(empleado);
+        solicitud.setFechaSolicitud(LocalDate.now());
+        solicitud.setFechaTerminoEmpleado(LocalDate.now());
+        solicitud.setFechaDevolucionProgramada(LocalDate.now().plusDays(5));
+        solicitud.setEstadoSolicitud(estadoSolicitud);
+        solicitud.setUsuarioSolicita(usuario);
+        solicitud.setUsuarioRecibe(usuario);
+        entityManager.persist(solicitud);
+
+        DetalleDevolucion detalle = new DetalleDevolucion();
+        detalle.setSolicitudDevolucion(solicitud);
+        detalle.setDispositivo(dispositivo);
+        detalle.setAsignacion(asignacion);
+        detalle.setCondicionDevolucion(condicion);
+        entityManager.persist(detalle);
+
+        ReemplazoDispositivo reemplazo = new ReemplazoDispositivo();
+        reemplazo.setAsignacionOriginal(asignacion);
+        reemplazo.setDispositivoOriginal(dispositivo);
+        reemplazo.setDispositivoReemplazo(dispositivoReemplazo);
+        reemplazo.setEmpleado(empleado);
+        reemplazo.setFechaReemplazo(LocalDate.now());
+        reemplazo.setMotivoReemplazo(motivo);
+        reemplazo.setUsuarioRegistra(usuario);
+        reemplazo.setEstadoReemplazo(estadoReemplazo);
+        entityManager.persist(reemplazo);
+    }
+
+    private Dispositivo dispositivo(String codigo, CatTipoDispositivo tipo, CatMarca marca,
+                                    CatEstadoDispositivo estado, CatProveedor proveedor) {
+        Dispositivo dispositivo = new Dispositivo();
+        dispositivo.setCodigoActivo(codigo);
+        dispositivo.setNumeroSerie("SN-" + codigo);
+        dispositivo.setTipoDispositivo(tipo);
+        dispositivo.setMarca(marca);
+        dispositivo.setEstadoDispositivo(estado);
+        dispositivo.setProveedor(proveedor);
+        dispositivo.setFechaAdquisicion(LocalDate.now().minusYears(2));
+        dispositivo.setValorAdquisicion(new BigDecimal("1000.00"));
+        entityManager.persist(dispositivo);
+        return dispositivo;
+    }
+
+    private <T> T catalogo(Class<T> tipo) {
+        T entity = catalogo(tipo, CODIGO);
+        entityManager.persist(entity);
+        return entity;
+    }
+
+    /**
+     * Crea un catálogo con los campos obligatorios comunes; el llamador decide cuándo persistirlo.
+     */
+    private static <T> T catalogo(Class<T> tipo, String codigo) {
+        BeanWrapper catalogo = new BeanWrapperImpl(tipo);
+        catalogo.setPropertyValue("codigo", codigo);
+        for (String nombre : List.of("nombre", "razonSocial")) {
+            if (catalogo.isWritableProperty(nombre)) {
+                catalogo.setPropertyValue(nombre, "Catálogo " + codigo);
+            }
+        }
+        for (String bandera : List.of("activo", "requiereSerie", "disponibleAsignacion")) {
+            if (catalogo.isWritableProperty(bandera)) {
+                catalogo.setPropertyValue(bandera, true);
+            }
+        }
+        return tipo.cast(catalogo.getWrappedInstance());
+    }
+}
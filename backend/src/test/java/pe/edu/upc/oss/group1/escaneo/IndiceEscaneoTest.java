@@ -0,0 +1,131 @@
+package pe.edu.upc.oss.group1.escaneo;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import pe.edu.upc.oss.group1.cache.CacheNames;
+import pe.edu.upc.oss.group1.evento.DispositivosModificados;
+import pe.edu.upc.oss.group1.repository.DispositivoRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for IndiceEscaneo.
+ */
+@ExtendWith(MockitoExtension.class)
+class IndiceEscaneoTest {
+
+    private static final ResumenEscaneo LAPTOP = new ResumenEscaneo(1, "LAP-001", "SN-A", 3, 1, 1);
+    private static final ResumenEscaneo MONITOR = new ResumenEscaneo(2, "MON-001", "SN-B", 4, 1, 1);
+
+    @Mock
+    private DispositivoRepository dispositivoRepository;
+
+    /** Tareas del hilo actualizador, ejecutadas a mano para observar el estado intermedio. */
+    private final Queue<Runnable> tareas = new ArrayDeque<>();
+
+    private IndiceEscaneo indice;
+
+    @BeforeEach
+    void setUp() {
+        indice = new IndiceEscaneo(dispositivoRepository, true, 2, tareas::add);
+        when(dispositivoRepository.findResumenesEscaneo(eq(0), any())).thenReturn(List.of(LAPTOP, MONITOR));
+        when(dispositivoRepository.findResumenesEscaneo(eq(2), any())).thenReturn(List.of());
+        indice.iniciar();
+        ejecutarTareas();
+    }
+
+    @Test
+    void buscar_AfterLoad_ShouldResolveWithoutQuerying() {
+        assertEquals(Optional.of(LAPTOP), indice.buscar("LAP-001"));
+        assertEquals(Optional.of(MONITOR), indice.buscar("SN-B"));
+        assertEquals(Optional.empty(), indice.buscar("NO-EXISTE"));
+        verify(dispositivoRepository, times(2)).findResumenesEscaneo(anyInt(), any());
+    }
+
+    @Test
+    void buscar_WhileChangePending_ShouldDeferToDatabase() {
+        ResumenEscaneo asignado = new ResumenEscaneo(1, "LAP-001", "SN-A", 3, 1, 2);
+        when(dispositivoRepository.findResumenesEscaneoPorIds(List.of(1))).thenReturn(List.of(asignado));
+
+        indice.onDispositivosModificados(DispositivosModificados.de(1));
+
+        assertEquals(Optional.empty(), indice.buscar("LAP-001"));
+        assertEquals(Optional.of(MONITOR), indice.buscar("MON-001"));
+
+        ejecutarTareas();
+
+        assertEquals(Optional.of(asignado), indice.buscar("LAP-001"));
+    }
+
+    @Test
+    void refresco_WhenCodigoChanged_ShouldStopResolvingOldCodigo() {
+        ResumenEscaneo renombrado = new ResumenEscaneo(1, "LAP-100", "SN-A", 3, 1, 1);
+        when(dispositivoRepository.findResumenesEscaneoPorIds(List.of(1))).thenReturn(List.of(renombrado));
+
+        indice.onDispositivosModificados(DispositivosModificados.de(1));
+        ejecutarTareas();
+
+        assertEquals(Optional.empty(), indice.buscar("LAP-001"));
+        assertEquals(Optional.of(renombrado), indice.buscar("LAP-100"));
+        assertEquals(Optional.of(renombrado), indice.buscar("SN-A"));
+    }
+
+    @Test
+    void refresco_WhenDeleted_ShouldNotResolve() {
+        when(dispositivoRepository.findResumenesEscaneoPorIds(List.of(2))).thenReturn(List.of());
+
+        indice.onDispositivosModificados(DispositivosModificados.de(2));
+        ejecutarTareas();
+
+        assertEquals(Optional.empty(), indice.buscar("MON-001"));
+    }
+
+    @Test
+    void onInvalidacion_ShouldApplyRecentlyModifiedDevices() {
+        ResumenEscaneo nuevo = new ResumenEscaneo(7, "TAB-001", null, 5, 2, 1);
+        when(dispositivoRepository.findResumenesEscaneoModificadosDesde(any(LocalDateTime.class)))
+                .thenReturn(List.of(nuevo));
+
+        indice.onInvalidacion(CacheNames.DISPOSITIVOS);
+        indice.onInvalidacion(CacheNames.DISPOSITIVOS);
+        ejecutarTareas();
+
+        assertEquals(Optional.of(nuevo), indice.buscar("TAB-001"));
+        verify(dispositivoRepository, times(1)).findResumenesEscaneoModificadosDesde(any());
+    }
+
+    @Test
+    void recargar_ShouldDiscardAccumulatedChanges() {
+        ResumenEscaneo nuevo = new ResumenEscaneo(7, "TAB-001", null, 5, 2, 1);
+        when(dispositivoRepository.findResumenesEscaneoModificadosDesde(any())).thenReturn(List.of(nuevo));
+        indice.onInvalidacion(CacheNames.DISPOSITIVOS);
+        ejecutarTareas();
+        assertEquals(3, indice.getCantidad());
+
+        indice.recargar();
+        ejecutarTareas();
+
+        assertEquals(2, indice.getCantidad());
+        assertEquals(Optional.empty(), indice.buscar("TAB-001"));
+    }
+
+    private void ejecutarTareas() {
+        Runnable tarea;
+        while ((tarea = tareas.poll()) != null) {
+            tarea.run();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package pe.edu.upc.oss.group1.escaneo;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TablaEscaneo.
+ */
+class TablaEscaneoTest {
+
+    @Test
+    void buscar_ShouldResolveByCodigoOrSerie() {
+        TablaEscaneo tabla = new TablaEscaneo.Constructor()
+                .agregar(new ResumenEscaneo(1, "LAP-001", "SN-A", 3, 1, 2))
+                .agregar(new ResumenEscaneo(2, "LAP-002", null, 3, 2, 1))
+                .construir();
+
+        assertEquals(new ResumenEscaneo(1, "LAP-001", "SN-A", 3, 1, 2), tabla.buscar("LAP-001"));
+        assertEquals(1, tabla.buscar("SN-A").id());
+        assertNull(tabla.buscar("LAP-002").numeroSerie());
+        assertNull(tabla.buscar("LAP-003"));
+        assertNull(tabla.buscar(""));
+    }
+
+    @Test
+    void buscar_WhenTextIsCodigoOfOneAndSerieOfAnother_ShouldPreferCodigo() {
+        TablaEscaneo tabla = new TablaEscaneo.Constructor()
+                .agregar(new ResumenEscaneo(1, "X-1", "ABC", 1, 1, 1))
+                .agregar(new ResumenEscaneo(2, "ABC", null, 1, 1, 1))
+                .construir();
+
+        assertEquals(2, tabla.buscar("ABC").id());
+    }
+
+    @Test
+    void buscar_WithManyRows_ShouldFindEveryKey() {
+        TablaEscaneo.Constructor constructor = new TablaEscaneo.Constructor();
+        for (int id = 1; id <= 20_000; id++) {
+            constructor.agregar(new ResumenEscaneo(id, "ACT-" + id, "SÉRIE-" + id, id % 7, id % 5, id % 3));
+        }
+        TablaEscaneo tabla = constructor.construir();
+
+        assertEquals(20_000, tabla.getCantidad());
+        for (int id = 1; id <= 20_000; id += 97) {
+            assertEquals(id, tabla.buscar("ACT-" + id).id());
+            assertEquals(id, tabla.buscar("SÉRIE-" + id).id());
+            assertEquals("ACT-" + id, tabla.buscarPorId(id).codigoActivo());
+        }
+        assertNull(tabla.buscarPorId(20_001));
+    }
+
+    @Test
+    void agregar_WhenIdsNotAscending_ShouldThrow() {
+        TablaEscaneo.Constructor constructor = new TablaEscaneo.Constructor()
+                .agregar(new ResumenEscaneo(5, "A", null, 1, 1, 1));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> constructor.agregar(new ResumenEscaneo(4, "B", null, 1, 1, 1)));
+    }
+}
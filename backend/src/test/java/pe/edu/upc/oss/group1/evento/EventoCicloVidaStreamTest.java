@@ -0,0 +1,238 @@
+package pe.edu.upc.oss.group1.evento;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for EventoCicloVidaStream.
+ */
+class EventoCicloVidaStreamTest {
+
+    /** Tareas de envío, ejecutadas a mano para simular un cliente lento. */
+    private final Queue<Runnable> tareas = new ArrayDeque<>();
+
+    private final List<EmitterRegistrado> emitters = new ArrayList<>();
+
+    @Test
+    void suscriptor_ShouldFilterBySedeAndArea() {
+        EventoCicloVidaStream.Suscriptor filtrado =
+                new EventoCicloVidaStream.Suscriptor(new EmitterRegistrado(), 1, 10, 4);
+        EventoCicloVidaStream.Suscriptor todos =
+                new EventoCicloVidaStream.Suscriptor(new EmitterRegistrado(), null, null, 4);
+
+        assertTrue(filtrado.acepta(evento(1, 10)));
+        assertFalse(filtrado.acepta(evento(2, 10)));
+        assertFalse(filtrado.acepta(evento(1, 11)));
+        // Sin sede/área (equipo en almacén): llega a todos
+        assertTrue(filtrado.acepta(evento(null, null)));
+        assertTrue(todos.acepta(evento(2, 11)));
+    }
+
+    @Test
+    void suscriptor_WhenBufferFull_ShouldDropOldestAndReportCountBeforeNextEvent() throws IOException {
+        EmitterRegistrado emitter = new EmitterRegistrado();
+        EventoCicloVidaStream.Suscriptor suscriptor = new EventoCicloVidaStream.Suscriptor(emitter, null, null, 2);
+
+        assertTrue(suscriptor.encolar(pendiente(1)));
+        for (long id = 2; id <= 5; id++) {
+            assertFalse(suscriptor.encolar(pendiente(id)));
+        }
+        suscriptor.enviarPendientes();
+
+        assertEquals(List.of(
+                new Enviado(null, EventoCicloVidaStream.EVENTO_DESCARTADOS, 3L),
+                new Enviado("4", TipoEventoCicloVida.ESTADO_CAMBIADO.name(), null),
+                new Enviado("5", TipoEventoCicloVida.ESTADO_CAMBIADO.name(), null)), emitter.sinDatosDeEvento());
+    }
+
+    @Test
+    void suscriptor_AfterReportingDropped_ShouldResetCount() throws IOException {
+        EmitterRegistrado emitter = new EmitterRegistrado();
+        EventoCicloVidaStream.Suscriptor suscriptor = new EventoCicloVidaStream.Suscriptor(emitter, null, null, 1);
+        suscriptor.encolar(pendiente(1));
+        suscriptor.encolar(pendiente(2));
+        suscriptor.enviarPendientes();
+
+        suscriptor.encolar(pendiente(3));
+        suscriptor.enviarPendientes();
+
+        assertEquals(List.of(EventoCicloVidaStream.EVENTO_DESCARTADOS, "ESTADO_CAMBIADO", "ESTADO_CAMBIADO"),
+                emitter.nombres());
+    }
+
+    @Test
+    void onEvento_ShouldDeliverOnlyToMatchingSubscribers() {
+        EventoCicloVidaStream stream = new EventoCicloVidaStream(8, this::crearEmitter, Runnable::run);
+        stream.suscribir(1, null);
+        stream.suscribir(2, null);
+
+        stream.onEvento(evento(1, 10));
+        stream.onEvento(evento(null, null));
+
+        assertEquals(List.of("1", "2"), emitters.get(0).ids());
+        assertEquals(List.of("2"), emitters.get(1).ids());
+    }
+
+    @Test
+    void onEvento_WhileSending_ShouldBufferAndDrainWithOneTask() {
+        EventoCicloVidaStream stream = new EventoCicloVidaStream(2, this::crearEmitter, tareas::add);
+        stream.suscribir(null, null);
+
+        for (int i = 0; i < 3; i++) {
+            stream.onEvento(evento(1, 10));
+        }
+        assertEquals(1, tareas.size());
+        assertTrue(emitters.get(0).enviados.isEmpty());
+
+        tareas.poll().run();
+
+        assertEquals(List.of(EventoCicloVidaStream.EVENTO_DESCARTADOS, "ESTADO_CAMBIADO", "ESTADO_CAMBIADO"),
+                emitters.get(0).nombres());
+        assertEquals(1L, emitters.get(0).enviados.get(0).datos());
+        assertEquals(List.of("2", "3"), emitters.get(0).ids());
+
+        // Con el envío terminado, el siguiente evento vuelve a programar una tarea
+        stream.onEvento(evento(1, 10));
+        assertEquals(1, tareas.size());
+    }
+
+    @Test
+    void onEvento_WhenSendFails_ShouldRemoveSubscriber() {
+        EventoCicloVidaStream stream = new EventoCicloVidaStream(8, this::crearEmitter, Runnable::run);
+        stream.suscribir(null, null);
+        stream.suscribir(null, null);
+        emitters.get(0).desconectado = true;
+
+        stream.onEvento(evento(1, 10));
+        stream.onEvento(evento(1, 10));
+
+        assertEquals(1, stream.getCantidadSuscriptores());
+        assertEquals(List.of("1", "2"), emitters.get(1).ids());
+        assertEquals(1, emitters.get(0).intentos);
+    }
+
+    @Test
+    void suscribir_OnCompletionTimeoutOrError_ShouldRemoveSubscriber() {
+        EventoCicloVidaStream stream = new EventoCicloVidaStream(8, this::crearEmitter, Runnable::run);
+        stream.suscribir(null, null);
+        stream.suscribir(null, null);
+        stream.suscribir(null, null);
+        assertEquals(3, stream.getCantidadSuscriptores());
+
+        emitters.get(0).alCompletar.run();
+        emitters.get(1).alExpirar.run();
+        emitters.get(2).alFallar.accept(new IOException("Broken pipe"));
+
+        assertEquals(0, stream.getCantidadSuscriptores());
+        stream.onEvento(evento(1, 10));
+        assertTrue(emitters.stream().allMatch(emitter -> emitter.enviados.isEmpty()));
+    }
+
+    @Test
+    void destroy_ShouldDropAllSubscribers() {
+        EventoCicloVidaStream stream = new EventoCicloVidaStream(8, this::crearEmitter, Runnable::run);
+        stream.suscribir(null, null);
+
+        stream.destroy();
+
+        assertEquals(0, stream.getCantidadSuscriptores());
+    }
+
+    private SseEmitter crearEmitter() {
+        EmitterRegistrado emitter = new EmitterRegistrado();
+        emitters.add(emitter);
+        return emitter;
+    }
+
+    private static EventoCicloVidaStream.Pendiente pendiente(long id) {
+        return new EventoCicloVidaStream.Pendiente(id, evento(1, 10));
+    }
+
+    private static EventoCicloVida evento(Integer sedeId, Integer areaId) {
+        return EventoCicloVida.deDispositivo(TipoEventoCicloVida.ESTADO_CAMBIADO, 7, "LAP-007",
+                sedeId != null ? 3 : null, sedeId, areaId, "MANTENIMIENTO");
+    }
+
+    private record Enviado(String id, String nombre, Object datos) {
+    }
+
+    /**
+     * SseEmitter sin handler HTTP: guarda lo enviado y los callbacks registrados.
+     */
+    private static final class EmitterRegistrado extends SseEmitter {
+
+        private static final Pattern ID = Pattern.compile("^id:(.*)$", Pattern.MULTILINE);
+        private static final Pattern NOMBRE = Pattern.compile("^event:(.*)$", Pattern.MULTILINE);
+
+        private final List<Enviado> enviados = new ArrayList<>();
+        private boolean desconectado;
+        private int intentos;
+        private Runnable alCompletar;
+        private Runnable alExpirar;
+        private Consumer<Throwable> alFallar;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            intentos++;
+            if (desconectado) {
+                throw new IOException("Broken pipe");
+            }
+            StringBuilder texto = new StringBuilder();
+            Object datos = null;
+            for (DataWithMediaType parte : builder.build()) {
+                if (parte.getData() instanceof String cadena) {
+                    texto.append(cadena);
+                } else {
+                    datos = parte.getData();
+                }
+            }
+            enviados.add(new Enviado(buscar(ID, texto), buscar(NOMBRE, texto), datos));
+        }
+
+        @Override
+        public synchronized void onCompletion(Runnable callback) {
+            alCompletar = callback;
+        }
+
+        @Override
+        public synchronized void onTimeout(Runnable callback) {
+            alExpirar = callback;
+        }
+
+        @Override
+        public synchronized void onError(Consumer<Throwable> callback) {
+            alFallar = callback;
+        }
+
+        /** Lo enviado, sin el EventoCicloVida (solo el conteo de "eventos-descartados"). */
+        private List<Enviado> sinDatosDeEvento() {
+            return enviados.stream()
+                    .map(e -> new Enviado(e.id(), e.nombre(), e.datos() instanceof EventoCicloVida ? null : e.datos()))
+                    .toList();
+        }
+
+        private List<String> nombres() {
+            return enviados.stream().map(Enviado::nombre).toList();
+        }
+
+        private List<String> ids() {
+            return enviados.stream().map(Enviado::id).filter(id -> id != null).toList();
+        }
+
+        private static String buscar(Pattern patron, CharSequence texto) {
+            Matcher matcher = patron.matcher(texto);
+            return matcher.find() ? matcher.group(1) : null;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package pe.edu.upc.oss.group1.idempotencia;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import pe.edu.upc.oss.group1.entity.ClaveIdempotencia;
+import pe.edu.upc.oss.group1.repository.ClaveIdempotenciaRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica el ciclo reservar / completar / liberar sobre la tabla real (H2): la clave primaria
+ * es la que impide que dos peticiones con la misma clave se ejecuten.
+ */
+@SpringBootTest
+class AlmacenIdempotenciaIntegrationTest {
+
+    private static final byte[] HUELLA = new byte[32];
+
+    @Autowired
+    private AlmacenIdempotencia almacen;
+
+    @Autowired
+    private ClaveIdempotenciaRepository repository;
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void reservar_WhenClaveEnCurso_ShouldReturnExistingReservation() {
+        AlmacenIdempotencia.Reserva primera = almacen.reservar("clave-en-curso", HUELLA);
+        AlmacenIdempotencia.Reserva segunda = almacen.reservar("clave-en-curso", HUELLA);
+
+        assertTrue(primera.nueva());
+        assertFalse(segunda.nueva());
+        assertTrue(segunda.registro().isEnCurso());
+    }
+
+    @Test
+    void reservar_WhenClaveCompletada_ShouldReturnStoredResponse() {
+        AlmacenIdempotencia.Reserva reserva = almacen.reservar("clave-completada", HUELLA);
+        almacen.completar(reserva.registro(), 201, "application/json", "{\"id\":7}".getBytes(StandardCharsets.UTF_8));
+
+        AlmacenIdempotencia.Reserva reintento = almacen.reservar("clave-completada", HUELLA);
+
+        assertFalse(reintento.nueva());
+        assertEquals(201, reintento.registro().getEstadoHttp());
+        assertEquals("{\"id\":7}", new String(reintento.registro().getCuerpo(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void reservar_WhenReservaLiberadaOVencida_ShouldReserveAgain() {
+        almacen.liberar(almacen.reservar("clave-liberada", HUELLA).registro());
+        LocalDateTime ayer = LocalDateTime.now().minusDays(1);
+        repository.saveAndFlush(new ClaveIdempotencia("clave-vencida", HUELLA, ayer.minusDays(1), ayer));
+
+        assertTrue(almacen.reservar("clave-liberada", HUELLA).nueva());
+        assertTrue(almacen.reservar("clave-vencida", HUELLA).nueva());
+    }
+}
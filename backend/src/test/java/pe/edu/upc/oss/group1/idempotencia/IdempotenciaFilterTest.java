@@ -0,0 +1,221 @@
+package pe.edu.upc.oss.group1.idempotencia;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.servlet.Servlet;
+import jakarta.servlet.ServletConfig;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import pe.edu.upc.oss.group1.entity.ClaveIdempotencia;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for IdempotenciaFilter.
+ */
+class IdempotenciaFilterTest {
+
+    private static final String CLAVE = "8f14e45f-ceea-467f-a0e6-1d2e3f4a5b6c";
+    private static final String CUERPO = "{\"dispositivoId\":1,\"empleadoId\":2}";
+
+    private AlmacenIdempotencia almacen;
+    private IdempotenciaFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        almacen = mock(AlmacenIdempotencia.class);
+        filter = new IdempotenciaFilter(almacen,
+                List.of("/api/v1/asignaciones", "/api/v1/asignaciones/{id}/devolucion"),
+                Duration.ofSeconds(2), new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+
+    @Test
+    void doFilter_WhenClaveNueva_ShouldExecuteAndStoreResponse() throws Exception {
+        ClaveIdempotencia reserva = registro(huellaDe(peticion(CUERPO)));
+        when(almacen.reservar(eq(CLAVE), any())).thenReturn(new AlmacenIdempotencia.Reserva(true, reserva));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain(new ControllerSimulado(201, "{\"id\":7}"));
+
+        filter.doFilter(peticion(CUERPO), response, chain);
+
+        assertEquals(201, response.getStatus());
+        assertEquals("{\"id\":7}", response.getContentAsString());
+        verify(almacen).completar(eq(reserva), eq(201), eq("application/json"),
+                eq("{\"id\":7}".getBytes(StandardCharsets.UTF_8)));
+        verify(almacen, never()).liberar(any());
+    }
+
+    @Test
+    void doFilter_WhenReintentoCompletado_ShouldReplayWithoutExecuting() throws Exception {
+        ClaveIdempotencia guardada = registro(huellaDe(peticion(CUERPO)));
+        guardada.setEstadoHttp(201);
+        guardada.setTipoContenido("application/json");
+        guardada.setCuerpo("{\"id\":7}".getBytes(StandardCharsets.UTF_8));
+        when(almacen.reservar(eq(CLAVE), any())).thenReturn(new AlmacenIdempotencia.Reserva(false, guardada));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(peticion(CUERPO), response, chain);
+
+        assertNull(chain.getRequest());
+        assertEquals(201, response.getStatus());
+        assertEquals("true", response.getHeader(IdempotenciaFilter.HEADER_REPETIDA));
+        assertEquals("{\"id\":7}", response.getContentAsString());
+    }
+
+    @Test
+    void doFilter_WhenReintentoEnCurso_ShouldReturn409WithRetryAfter() throws Exception {
+        ClaveIdempotencia enCurso = registro(huellaDe(peticion(CUERPO)));
+        when(almacen.reservar(eq(CLAVE), any())).thenReturn(new AlmacenIdempotencia.Reserva(false, enCurso));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(peticion(CUERPO), response, chain);
+
+        assertNull(chain.getRequest());
+        assertEquals(409, response.getStatus());
+        assertEquals("2", response.getHeader("Retry-After"));
+        assertTrue(response.getContentAsString().contains("IDEMPOTENCY_REQUEST_IN_PROGRESS"));
+    }
+
+    @Test
+    void doFilter_WhenClaveReutilizadaConOtroCuerpo_ShouldReturn422() throws Exception {
+        ClaveIdempotencia guardada = registro(huellaDe(peticion("{\"dispositivoId\":9,\"empleadoId\":2}")));
+        guardada.setEstadoHttp(201);
+        when(almacen.reservar(eq(CLAVE), any())).thenReturn(new AlmacenIdempotencia.Reserva(false, guardada));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(peticion(CUERPO), response, chain);
+
+        assertNull(chain.getRequest());
+        assertEquals(422, response.getStatus());
+        assertTrue(response.getContentAsString().contains("IDEMPOTENCY_KEY_REUSED"));
+    }
+
+    @Test
+    void doFilter_WhenErrorDelServidor_ShouldReleaseReservation() throws Exception {
+        ClaveIdempotencia reserva = registro(huellaDe(peticion(CUERPO)));
+        when(almacen.reservar(eq(CLAVE), any())).thenReturn(new AlmacenIdempotencia.Reserva(true, reserva));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(peticion(CUERPO), response, new MockFilterChain(new ControllerSimulado(500, "{}")));
+
+        assertEquals(500, response.getStatus());
+        verify(almacen).liberar(reserva);
+        verify(almacen, never()).completar(any(), anyInt(), any(), any());
+    }
+
+    @Test
+    void doFilter_WhenSinHeaderORutaNoConfigurada_ShouldNotUseAlmacen() throws Exception {
+        MockHttpServletRequest sinHeader = new MockHttpServletRequest("POST", "/api/v1/asignaciones");
+        MockHttpServletRequest otraRuta = new MockHttpServletRequest("POST", "/api/v1/dispositivos");
+        otraRuta.addHeader(IdempotenciaFilter.HEADER_CLAVE, CLAVE);
+
+        filter.doFilter(sinHeader, new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(otraRuta, new MockHttpServletResponse(), new MockFilterChain());
+
+        verifyNoInteractions(almacen);
+    }
+
+    @Test
+    void huella_ShouldIgnoreParameterOrderButNotValues() throws Exception {
+        byte[] base = huellaDe(devolucion("observaciones=ok&usuarioRecibeId=3"));
+
+        assertArrayEquals(base, huellaDe(devolucion("usuarioRecibeId=3&observaciones=ok")));
+        assertFalse(Arrays.equals(base, huellaDe(devolucion("observaciones=ok&usuarioRecibeId=4"))));
+    }
+
+    @Test
+    void huella_ShouldDependOnAcceptHeader() throws Exception {
+        MockHttpServletRequest json = peticion(CUERPO);
+        json.addHeader("Accept", "application/json");
+        MockHttpServletRequest protobuf = peticion(CUERPO);
+        protobuf.addHeader("Accept", "application/x-protobuf");
+        MockHttpServletRequest otroJson = peticion(CUERPO);
+        otroJson.addHeader("Accept", "application/json");
+
+        byte[] base = huellaDe(json);
+
+        assertFalse(Arrays.equals(base, huellaDe(protobuf)));
+        assertFalse(Arrays.equals(base, huellaDe(peticion(CUERPO))));
+        assertArrayEquals(base, huellaDe(otroJson));
+    }
+
+    private static MockHttpServletRequest peticion(String cuerpo) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/asignaciones");
+        request.addHeader(IdempotenciaFilter.HEADER_CLAVE, CLAVE);
+        request.setContentType("application/json");
+        request.setContent(cuerpo.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private static MockHttpServletRequest devolucion(String query) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/asignaciones/5/devolucion");
+        request.setQueryString(query);
+        for (String par : query.split("&")) {
+            String[] partes = par.split("=");
+            request.addParameter(partes[0], partes[1]);
+        }
+        return request;
+    }
+
+    private static byte[] huellaDe(MockHttpServletRequest request) throws Exception {
+        return IdempotenciaFilter.huella(new PeticionReleible(request));
+    }
+
+    private static ClaveIdempotencia registro(byte[] huella) {
+        LocalDateTime ahora = LocalDateTime.now();
+        return new ClaveIdempotencia(CLAVE, huella, ahora, ahora.plusHours(24));
+    }
+
+    /**
+     * Servlet que lee el cuerpo como lo haría el controller y escribe una respuesta fija.
+     */
+    private record ControllerSimulado(int estado, String cuerpo) implements Servlet {
+
+        @Override
+        public void service(ServletRequest req, ServletResponse res)
+                throws IOException {
+            assertEquals(CUERPO, new String(req.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+            HttpServletResponse response = (HttpServletResponse) res;
+            response.setStatus(estado);
+            response.setContentType("application/json");
+            response.getWriter().write(cuerpo);
+        }
+
+        @Override
+        public void init(ServletConfig config) {
+        }
+
+        @Override
+        public ServletConfig getServletConfig() {
+            return null;
+        }
+
+        @Override
+        public String getServletInfo() {
+            return null;
+        }
+
+        @Override
+        public void destroy() {
+        }
+    }
+}
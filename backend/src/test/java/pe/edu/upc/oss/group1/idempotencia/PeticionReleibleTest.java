@@ -0,0 +1,92 @@
+package pe.edu.upc.oss.group1.idempotencia;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PeticionReleible.
+ */
+class PeticionReleibleTest {
+
+    private static final String CUERPO = "{\"dispositivoId\":1,\"empleadoId\":2}";
+
+    @Test
+    void getInputStream_ShouldRereadBodyAfterFingerprint() throws Exception {
+        PeticionReleible peticion = new PeticionReleible(request(CUERPO));
+
+        assertEquals(CUERPO, new String(peticion.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+        assertEquals(CUERPO, peticion.getReader().readLine());
+    }
+
+    @Test
+    void setReadListener_ShouldNotifyDataAvailableAndAllDataRead() throws Exception {
+        ServletInputStream entrada = new PeticionReleible(request(CUERPO)).getInputStream();
+        List<String> avisos = new ArrayList<>();
+        ByteArrayOutputStream leido = new ByteArrayOutputStream();
+
+        entrada.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                avisos.add("datos");
+                while (entrada.isReady() && !entrada.isFinished()) {
+                    leido.write(entrada.read());
+                }
+            }
+
+            @Override
+            public void onAllDataRead() {
+                avisos.add("fin");
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                avisos.add("error");
+            }
+        });
+
+        assertEquals(List.of("datos", "fin"), avisos);
+        assertEquals(CUERPO, leido.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void setReadListener_WithEmptyBody_ShouldOnlyNotifyAllDataRead() throws Exception {
+        ServletInputStream entrada = new PeticionReleible(request("")).getInputStream();
+        List<String> avisos = new ArrayList<>();
+
+        entrada.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() {
+                avisos.add("datos");
+            }
+
+            @Override
+            public void onAllDataRead() {
+                avisos.add("fin");
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                avisos.add("error");
+            }
+        });
+
+        assertEquals(List.of("fin"), avisos);
+    }
+
+    private static MockHttpServletRequest request(String cuerpo) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/asignaciones");
+        request.setContentType("application/json");
+        request.setContent(cuerpo.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
@@ -0,0 +1,112 @@
+package pe.edu.upc.oss.group1.persistencia;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import pe.edu.upc.oss.group1.entity.Empleado;
+import pe.edu.upc.oss.group1.entity.catalogo.CatArea;
+import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoEmpleado;
+import pe.edu.upc.oss.group1.entity.catalogo.CatPuesto;
+import pe.edu.upc.oss.group1.entity.catalogo.CatSede;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica que GrafoLectura carga lo que leen los mappers y no sigue la cadena de áreas superiores.
+ */
+@SpringBootTest
+@Transactional
+class GrafoLecturaIntegrationTest {
+
+    @Autowired
+    private GrafoLectura grafoLectura;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Integer empleadoId;
+    private Integer puestoId;
+
+    @BeforeEach
+    void setUp() {
+        // Gerencia > TI > Desarrollo
+        CatArea gerencia = area("GL-GER", null);
+        CatArea ti = area("GL-TI", gerencia);
+        CatArea desarrollo = area("GL-DEV", ti);
+
+        CatPuesto puesto = new CatPuesto();
+        puesto.setCodigo("GL-PUESTO");
+        puesto.setNombre("Desarrollador");
+        puesto.setArea(desarrollo);
+        entityManager.persist(puesto);
+
+        CatSede sede = new CatSede();
+        sede.setCodigo("GL-SEDE");
+        sede.setNombre("Sede");
+        entityManager.persist(sede);
+
+        CatEstadoEmpleado estado = new CatEstadoEmpleado();
+        estado.setCodigo("GL-ACTIVO");
+        estado.setNombre("Activo");
+        entityManager.persist(estado);
+
+        Empleado empleado = new Empleado();
+        empleado.setCodigoEmpleado("GL-EMP");
+        empleado.setNombre("Luis");
+        empleado.setApellidoPaterno("Rojas");
+        empleado.setEmail("luis.grafo@empresa.pe");
+        empleado.setArea(desarrollo);
+        empleado.setPuesto(puesto);
+        empleado.setSede(sede);
+        empleado.setEstadoEmpleado(estado);
+        empleado.setFechaIngreso(LocalDate.now());
+        entityManager.persist(empleado);
+
+        entityManager.flush();
+        entityManager.clear();
+        empleadoId = empleado.getId();
+        puestoId = puesto.getId();
+    }
+
+    @Test
+    void inicializar_Empleado_ShouldLoadMapperGraphButNotWholeAreaChain() {
+        Empleado empleado = entityManager.find(Empleado.class, empleadoId);
+
+        grafoLectura.inicializar(empleado);
+
+        CatArea desarrollo = empleado.getArea();
+        assertTrue(Hibernate.isInitialized(desarrollo));
+        assertTrue(Hibernate.isInitialized(empleado.getPuesto()));
+        assertTrue(Hibernate.isInitialized(empleado.getSede()));
+        assertTrue(Hibernate.isInitialized(empleado.getEstadoEmpleado()));
+        // CatAreaMapper lee el nombre del área superior, pero no el de la superior de esta
+        CatArea ti = desarrollo.getAreaSuperior();
+        assertTrue(Hibernate.isInitialized(ti));
+        assertFalse(Hibernate.isInitialized(ti.getAreaSuperior()));
+    }
+
+    @Test
+    void inicializar_Puesto_ShouldLoadAreaOnly() {
+        CatPuesto puesto = entityManager.find(CatPuesto.class, puestoId);
+
+        grafoLectura.inicializar(puesto);
+
+        assertTrue(Hibernate.isInitialized(puesto.getArea()));
+        assertFalse(Hibernate.isInitialized(puesto.getArea().getAreaSuperior()));
+    }
+
+    private CatArea area(String codigo, CatArea superior) {
+        CatArea area = new CatArea();
+        area.setCodigo(codigo);
+        area.setNombre(codigo);
+        area.setAreaSuperior(superior);
+        entityManager.persist(area);
+        return area;
+    }
+}
@@ -0,0 +1,344 @@
+package pe.edu.upc.oss.group1.persistencia;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import pe.edu.upc.oss.group1.dto.mapper.AsignacionDispositivoMapper;
+import pe.edu.upc.oss.group1.dto.mapper.DispositivoMapper;
+import pe.edu.upc.oss.group1.dto.mapper.EmpleadoMapper;
+import pe.edu.upc.oss.group1.dto.mapper.ReemplazoDispositivoMapper;
+import pe.edu.upc.oss.group1.dto.mapper.SolicitudDevolucionMapper;
+import pe.edu.upc.oss.group1.dto.response.AsignacionDispositivoResponse;
+import pe.edu.upc.oss.group1.dto.response.DispositivoResponse;
+import pe.edu.upc.oss.group1.dto.response.EmpleadoResponse;
+import pe.edu.upc.oss.group1.dto.response.ReemplazoDispositivoResponse;
+import pe.edu.upc.oss.group1.dto.response.SolicitudDevolucionResponse;
+import pe.edu.upc.oss.group1.entity.AsignacionDispositivo;
+import pe.edu.upc.oss.group1.entity.Dispositivo;
+import pe.edu.upc.oss.group1.entity.Empleado;
+import pe.edu.upc.oss.group1.entity.ReemplazoDispositivo;
+import pe.edu.upc.oss.group1.entity.SolicitudDevolucion;
+import pe.edu.upc.oss.group1.entity.Usuario;
+import pe.edu.upc.oss.group1.entity.catalogo.*;
+import pe.edu.upc.oss.group1.repository.DispositivoRepository;
+import pe.edu.upc.oss.group1.service.AsignacionDispositivoService;
+import pe.edu.upc.oss.group1.service.DispositivoService;
+import pe.edu.upc.oss.group1.service.EmpleadoService;
+import pe.edu.upc.oss.group1.service.ReemplazoDispositivoService;
+import pe.edu.upc.oss.group1.service.SolicitudDevolucionService;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica que los listados leídos con LecturaSinEstado (dispositivos, empleados, asignaciones,
+ * reemplazos y solicitudes de devolución) no dejan entities ni colecciones en el contexto de persistencia y que el mapper encuentra el
+ * grafo completo.
+ */
+@SpringBootTest
+@Transactional
+class LecturaSinEstadoIntegrationTest {
+
+    @Autowired
+    private DispositivoService dispositivoService;
+
+    @Autowired
+    private DispositivoRepository dispositivoRepository;
+
+    @Autowired
+    private EmpleadoService empleadoService;
+
+    @Autowired
+    private AsignacionDispositivoService asignacionService;
+
+    @Autowired
+    private ReemplazoDispositivoService reemplazoService;
+
+    @Autowired
+    private SolicitudDevolucionService solicitudService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Integer tipoId;
+
+    @BeforeEach
+    void setUp() {
+        CatTipoDispositivo tipo = new CatTipoDispositivo();
+        tipo.setCodigo("SE-TIPO");
+        tipo.setNombre("Monitor");
+        entityManager.persist(tipo);
+
+        CatMarca marca = new CatMarca();
+        marca.setCodigo("SE-MARCA");
+        marca.setNombre("Marca sin estado");
+        entityManager.persist(marca);
+
+        CatEstadoDispositivo estado = new CatEstadoDispositivo();
+        estado.setCodigo("SE-ESTADO");
+        estado.setNombre("Disponible");
+        estado.setDisponibleAsignacion(true);
+        entityManager.persist(estado);
+
+        Dispositivo primero = null;
+        Dispositivo asignado = null;
+        for (int i = 0; i < 3; i++) {
+            Dispositivo dispositivo = new Dispositivo();
+            dispositivo.setCodigoActivo("SE-" + i);
+            dispositivo.setTipoDispositivo(tipo);
+            dispositivo.setMarca(marca);
+            dispositivo.setEstadoDispositivo(estado);
+            entityManager.persist(dispositivo);
+            primero = primero != null ? primero : dispositivo;
+            asignado = dispositivo;
+        }
+        tipoId = tipo.getId();
+
+        // Gerencia > TI: el listado de empleados muestra el área superior de TI
+        CatArea gerencia = new CatArea();
+        gerencia.setCodigo("SE-GER");
+        gerencia.setNombre("Gerencia sin estado");
+        entityManager.persist(gerencia);
+        CatArea ti = new CatArea();
+        ti.setCodigo("SE-TI");
+        ti.setNombre("TI sin estado");
+        ti.setAreaSuperior(gerencia);
+        entityManager.persist(ti);
+        CatPuesto puesto = new CatPuesto();
+        puesto.setCodigo("SE-PUESTO");
+        puesto.setNombre("Analista");
+        puesto.setArea(ti);
+        entityManager.persist(puesto);
+        CatSede sede = new CatSede();
+        sede.setCodigo("SE-SEDE");
+        sede.setNombre("Sede sin estado");
+        entityManager.persist(sede);
+        CatEstadoEmpleado activo = catalogo(new CatEstadoEmpleado(), "ACTIVO");
+
+        Empleado empleado = new Empleado();
+        empleado.setCodigoEmpleado("SE-EMP");
+        empleado.setNombre("Rosa");
+        empleado.setApellidoPaterno("Sinestado");
+        empleado.setEmail("rosa.sinestado@empresa.pe");
+        empleado.setArea(ti);
+        empleado.setPuesto(puesto);
+        empleado.setSede(sede);
+        empleado.setEstadoEmpleado(activo);
+        empleado.setFechaIngreso(LocalDate.now());
+        entityManager.persist(empleado);
+
+        Usuario usuario = new Usuario();
+        usuario.setUsername("se.admin");
+        usuario.setPasswordHash("x");
+        usuario.setEmail("se.admin@empresa.pe");
+        usuario.setNombreCompleto("Administrador sin estado");
+        usuario.setActivo(true);
+        entityManager.persist(usuario);
+
+        AsignacionDispositivo asignacion = new AsignacionDispositivo();
+        asignacion.setDispositivo(asignado);
+        asignacion.setEmpleado(empleado);
+        asignacion.setUsuarioAsigna(usuario);
+        asignacion.setEstadoAsignacion(catalogo(new CatEstadoAsignacion(), "ACTIVA"));
+        asignacion.setFechaAsignacion(LocalDate.now());
+        entityManager.persist(asignacion);
+
+        CatMotivoReemplazo motivo = new CatMotivoReemplazo();
+        motivo.setCodigo("SE-FALLA");
+        motivo.setNombre("Falla sin estado");
+        entityManager.persist(motivo);
+        ReemplazoDispositivo reemplazo = new ReemplazoDispositivo();
+        reemplazo.setAsignacionOriginal(asignacion);
+        reemplazo.setDispositivoOriginal(asignado);
+        reemplazo.setDispositivoReemplazo(primero);
+        reemplazo.setEmpleado(empleado);
+        reemplazo.setFechaReemplazo(LocalDate.now());
+        reemplazo.setMotivoReemplazo(motivo);
+        reemplazo.setUsuarioRegistra(usuario);
+        reemplazo.setEstadoReemplazo(catalogo(new CatEstadoReemplazo(), "PENDIENTE"));
+        entityManager.persist(reemplazo);
+
+        SolicitudDevolucion solicitud = new SolicitudDevolucion();
+        solicitud.setEmpleado(empleado);
+        solicitud.setFechaSolicitud(LocalDate.now());
+        solicitud.setFechaTerminoEmpleado(LocalDate.now().plusDays(15));
+        solicitud.setFechaDevolucionProgramada(LocalDate.now().plusDays(15));
+        solicitud.setEstadoSolicitud(catalogo(new CatEstadoSolicitud(), "PENDIENTE"));
+        solicitud.setUsuarioSolicita(usuario);
+        solicitud.setObservaciones("Cese sin estado");
+        entityManager.persist(solicitud);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findAll_ShouldNotRegisterEntitiesOrCollectionsInPersistenceContext() {
+        List<Dispositivo> dispositivos = dispositivoService.findAll();
+
+        PersistenceContext contexto = entityManager.unwrap(SessionImplementor.class).getPersistenceContext();
+        assertEquals(0, contexto.getNumberOfManagedEntities());
+        assertTrue(contexto.getCollectionEntries() == null || contexto.getCollectionEntries().isEmpty());
+
+        List<DispositivoResponse> respuesta = DispositivoMapper.toResponseList(dispositivos);
+        DispositivoResponse leido = respuesta.stream()
+                .filter(dispositivo -> dispositivo.getCodigoActivo().equals("SE-0"))
+                .findFirst().orElseThrow();
+        assertEquals("Marca sin estado", leido.getMarca().getNombre());
+        assertEquals("Monitor", leido.getTipoDispositivo().getNombre());
+        assertTrue(leido.getDisponibleParaAsignacion());
+        assertNull(leido.getProveedor());
+    }
+
+    @Test
+    void findAll_ShouldReturnSameRowsAsRepository() {
+        List<Integer> esperados = dispositivoRepository.findAll().stream().map(Dispositivo::getId).sorted().toList();
+        entityManager.clear();
+
+        List<Integer> leidos = dispositivoService.findAll().stream().map(Dispositivo::getId).sorted().toList();
+
+        assertEquals(esperados, leidos);
+    }
+
+    @Test
+    void findDisponiblesPaginado_ShouldSortPageAndCountWithoutPersistenceContext() {
+        long disponibles = dispositivoService.findDisponibles().size();
+
+        Page<Dispositivo> pagina = dispositivoService.findDisponibles(
+                PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "codigoActivo")));
+
+        assertEquals(disponibles, pagina.getTotalElements());
+        assertEquals(2, pagina.getContent().size());
+        assertTrue(pagina.getContent().get(0).getCodigoActivo()
+                .compareTo(pagina.getContent().get(1).getCodigoActivo()) > 0);
+        assertSinEntities();
+        assertNotNull(DispositivoMapper.toResponsePage(pagina).getContent().get(0).getMarca());
+    }
+
+    @Test
+    void findByTipoAndSearch_ShouldReadWithoutPersistenceContext() {
+        assertEquals(3, dispositivoService.findByTipo(tipoId).size());
+        Page<Dispositivo> encontrados = dispositivoService.search("se-", PageRequest.of(0, 10));
+
+        assertTrue(encontrados.getContent().stream().anyMatch(d -> d.getCodigoActivo().equals("SE-2")));
+        assertSinEntities();
+    }
+
+    @Test
+    void empleadoListings_ShouldIncludeAreaSuperiorAndPuestoArea() {
+        List<Empleado> empleados = empleadoService.findAllActivos();
+        Page<Empleado> encontrados = empleadoService.search("sinestado", PageRequest.of(0, 10));
+
+        assertSinEntities();
+        assertEquals(1, encontrados.getTotalElements());
+        EmpleadoResponse leido = EmpleadoMapper.toResponseList(empleados).stream()
+                .filter(empleado -> empleado.getCodigoEmpleado().equals("SE-EMP"))
+                .findFirst().orElseThrow();
+        assertEquals("Gerencia sin estado", leido.getArea().getAreaSuperiorNombre());
+        assertEquals("TI sin estado", leido.getPuesto().getAreaNombre());
+        assertEquals("Sede sin estado", leido.getSede().getNombre());
+    }
+
+    @Test
+    void asignacionListings_ShouldMapDispositivoEmpleadoAndUsuarios() {
+        List<AsignacionDispositivo> activas = asignacionService.findAllActivas();
+        Page<AsignacionDispositivo> pagina = asignacionService.findAllActivas(PageRequest.of(0, 50));
+
+        assertSinEntities();
+        assertEquals(activas.size(), pagina.getTotalElements());
+        AsignacionDispositivoResponse leida = AsignacionDispositivoMapper.toResponseList(activas).stream()
+                .filter(asignacion -> asignacion.getDispositivo().getCodigoActivo().equals("SE-2"))
+                .findFirst().orElseThrow();
+        assertEquals("Marca sin estado", leida.getDispositivo().getMarca().getNombre());
+        assertEquals("Gerencia sin estado", leida.getEmpleado().getArea().getAreaSuperiorNombre());
+        assertEquals("se.admin", leida.getUsuarioAsigna().getUsername());
+        assertNull(leida.getUsuarioRecibe());
+    }
+
+    @Test
+    void reemplazoListings_ShouldMapAsignacionDispositivosAndEmpleado() {
+        List<ReemplazoDispositivo> todos = reemplazoService.findAll();
+        List<ReemplazoDispositivo> pendientes = reemplazoService.findPendientes();
+
+        assertSinEntities();
+        ReemplazoDispositivoResponse leido = ReemplazoDispositivoMapper.toResponseList(pendientes).stream()
+                .filter(reemplazo -> reemplazo.getMotivoReemplazo().getCodigo().equals("SE-FALLA"))
+                .findFirst().orElseThrow();
+        assertTrue(todos.stream().anyMatch(reemplazo -> reemplazo.getId().equals(leido.getId())));
+        assertEquals("SE-2", leido.getDispositivoOriginal().getCodigoActivo());
+        assertEquals("SE-0", leido.getDispositivoReemplazo().getCodigoActivo());
+        assertEquals("Marca sin estado", leido.getDispositivoReemplazo().getMarca().getNombre());
+        assertEquals("SE-2", leido.getAsignacionOriginal().getDispositivo().getCodigoActivo());
+        assertEquals("se.admin", leido.getAsignacionOriginal().getUsuarioAsigna().getUsername());
+        assertEquals("Gerencia sin estado", leido.getEmpleado().getArea().getAreaSuperiorNombre());
+        assertEquals("TI sin estado", leido.getAsignacionOriginal().getEmpleado().getPuesto().getAreaNombre());
+        assertEquals("se.admin", leido.getUsuarioRegistra().getUsername());
+        assertTrue(leido.getPendiente());
+    }
+
+    @Test
+    void solicitudListings_ShouldMapEmpleadoAndUsuarios() {
+        List<SolicitudDevolucion> todas = solicitudService.findAll();
+        List<SolicitudDevolucion> pendientes = solicitudService.findPendientes();
+        Page<SolicitudDevolucion> pagina = solicitudService.findPendientes(
+                PageRequest.of(0, 50, Sort.by("fechaSolicitud")));
+
+        assertSinEntities();
+        assertEquals(pendientes.size(), pagina.getTotalElements());
+        SolicitudDevolucionResponse leida = SolicitudDevolucionMapper.toResponseList(pagina.getContent()).stream()
+                .filter(solicitud -> "Cese sin estado".equals(solicitud.getObservaciones()))
+                .findFirst().orElseThrow();
+        assertTrue(todas.stream().anyMatch(solicitud -> solicitud.getId().equals(leida.getId())));
+        assertEquals("Gerencia sin estado", leida.getEmpleado().getArea().getAreaSuperiorNombre());
+        assertEquals("Sede sin estado", leida.getEmpleado().getSede().getNombre());
+        assertEquals("se.admin", leida.getUsuarioSolicita().getUsername());
+        assertNull(leida.getUsuarioRecibe());
+        assertTrue(leida.getPendiente());
+        assertFalse(leida.getCompletada());
+    }
+
+    @Test
+    void findDisponibles_ShouldReturnOnlyAvailableDevices() {
+        List<Dispositivo> disponibles = dispositivoService.findDisponibles();
+
+        assertTrue(disponibles.stream().anyMatch(dispositivo -> dispositivo.getCodigoActivo().equals("SE-1")));
+        assertTrue(disponibles.stream().allMatch(Dispositivo::isDisponibleParaAsignacion));
+    }
+
+    private void assertSinEntities() {
+        PersistenceContext contexto = entityManager.unwrap(SessionImplementor.class).getPersistenceContext();
+        assertEquals(0, contexto.getNumberOfManagedEntities());
+    }
+
+    /**
+     * Los códigos de estado (ACTIVO, ACTIVA, PENDIENTE) pueden existir ya en la base compartida por los tests.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T catalogo(T nuevo, String codigo) {
+        List<?> existentes = entityManager.createQuery(
+                        "SELECT c FROM " + nuevo.getClass().getSimpleName() + " c WHERE c.codigo = :codigo")
+                .setParameter("codigo", codigo).getResultList();
+        if (!existentes.isEmpty()) {
+            return (T) existentes.get(0);
+        }
+        switch (nuevo) {
+            case CatEstadoEmpleado c -> { c.setCodigo(codigo); c.setNombre(codigo); }
+            case CatEstadoAsignacion c -> { c.setCodigo(codigo); c.setNombre(codigo); }
+            case CatEstadoReemplazo c -> { c.setCodigo(codigo); c.setNombre(codigo); }
+            case CatEstadoSolicitud c -> { c.setCodigo(codigo); c.setNombre(codigo); }
+            default -> throw new IllegalArgumentException(nuevo.getClass().getName());
+        }
+        entityManager.persist(nuevo);
+        return nuevo;
+    }
+}
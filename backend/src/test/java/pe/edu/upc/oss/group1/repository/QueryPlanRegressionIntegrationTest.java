@@ -0,0 +1,271 @@
+package pe.edu.upc.oss.group1.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import pe.edu.upc.oss.group1.OssBackendApplication;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration test: ejecuta EXPLAIN sobre el SQL que genera cada consulta declarada
+ * en los repositorios, contra PostgreSQL con volumen de datos realista
+ * (db/seed/volumen_plan_consultas.sql), y falla si alguna recorre completa
+ * una tabla grande (Seq Scan) sin estar en la lista de excepciones documentada.
+ *
+ * El SQL se captura con un StatementInspector de Hibernate mientras se invoca
+ * el método del repositorio dentro de una transacción que termina en rollback.
+ * Se usa EXPLAIN (GENERIC_PLAN) para obtener el plan independiente de los valores
+ * de los parámetros, como el que reutiliza un PreparedStatement.
+ */
+@Tag("postgres")
+@Testcontainers(disabledWithoutDocker = true)
+class QueryPlanRegressionIntegrationTest {
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    /** Tablas cuyo recorrido completo es una regresión. */
+    private static final Set<String> TABLAS_GRANDES = Set.of(
+            "asignacion_dispositivo", "historial_dispositivo", "dispositivo", "empleado",
+            "solicitud_devolucion", "detalle_devolucion", "reemplazo_dispositivo");
+
+    /**
+     * Consultas a las que se permite Seq Scan, con el motivo. Son listados que devuelven
+     * una fracción grande de la tabla (filtran por un catálogo de pocos valores) o
+     * búsquedas con comodín inicial que ningún índice B-tree puede resolver.
+     */
+    private static final Map<String, String> EXCEPCIONES = Map.ofEntries(
+            Map.entry("DispositivoRepository.searchDispositivos", "LIKE '%texto%' sobre varias columnas"),
+            Map.entry("EmpleadoRepository.searchEmpleados", "LIKE '%texto%' sobre varias columnas"),
+            Map.entry("DispositivoRepository.findDispositivosDisponibles", "la mayoría de dispositivos está disponible"),
+            Map.entry("DispositivoRepository.findByEstadoDispositivoCodigo", "pocos estados, baja selectividad"),
+            Map.entry("DispositivoRepository.findByTipoDispositivoId", "pocos tipos, baja selectividad"),
+            Map.entry("DispositivoRepository.findByTipoDispositivoIdWithRelations", "pocos tipos, baja selectividad"),
+            Map.entry("DispositivoRepository.findByMarcaId", "pocas marcas, baja selectividad"),
+            Map.entry("DispositivoRepository.findRegistradosAntesDe", "inventario completo a una fecha, paginado"),
+            Map.entry("DispositivoRepository.countParaCambioEstado", "criterios opcionales, plan genérico sin filtro"),
+            Map.entry("DispositivoRepository.findIdsParaCambioEstado", "criterios opcionales; recorre por PK en lotes"),
+            Map.entry("DispositivoRepository.findResumenesEscaneoModificadosDesde",
+                    "plan genérico estima 1/3 de la tabla; con la fecha real usa idx_dispositivo_sincronizacion"),
+            Map.entry("EmpleadoRepository.findAllActivos", "la mayoría de empleados está activa"),
+            Map.entry("EmpleadoRepository.findByEstadoEmpleadoCodigo", "pocos estados, baja selectividad"),
+            Map.entry("EmpleadoRepository.findByAreaId", "pocas áreas, baja selectividad"),
+            Map.entry("EmpleadoRepository.findByAreaIdWithRelations", "pocas áreas, baja selectividad"),
+            Map.entry("EmpleadoRepository.findBySedeId", "pocas sedes, baja selectividad"),
+            Map.entry("AsignacionDispositivoRepository.findAllAsignacionesActivas", "filtra por código de estado vía join"),
+            Map.entry("HistorialDispositivoRepository.findByTipoMovimientoCodigo", "pocos tipos de movimiento"),
+            Map.entry("HistorialDispositivoRepository.countByTipoMovimiento", "pocos tipos de movimiento"),
+            Map.entry("DetalleDevolucionRepository.findByCondicionCodigo", "pocas condiciones"),
+            Map.entry("DetalleDevolucionRepository.countByCondicionDevolucion", "pocas condiciones"),
+            Map.entry("ReemplazoDispositivoRepository.findByEstadoCodigo", "pocos estados, baja selectividad"),
+            Map.entry("ReemplazoDispositivoRepository.findReemplazosPendientes", "pocos estados, baja selectividad"),
+            Map.entry("ReemplazoDispositivoRepository.countByMotivoReemplazo", "pocos motivos"),
+            Map.entry("SolicitudDevolucionRepository.findByEstadoCodigo", "pocos estados, baja selectividad"),
+            Map.entry("SolicitudDevolucionRepository.findSolicitudesPendientes", "pocos estados, baja selectividad"),
+            Map.entry("SolicitudDevolucionRepository.countByEstadoSolicitud", "pocos estados"));
+
+    private static final List<Class<?>> REPOSITORIOS = List.of(
+            AsignacionDispositivoRepository.class, DetalleDevolucionRepository.class,
+            DispositivoRepository.class, EmpleadoRepository.class, HistorialDispositivoRepository.class,
+            InventarioSnapshotRepository.class, InventarioSnapshotTenenciaRepository.class,
+            ReemplazoDispositivoRepository.class, SolicitudDevolucionRepository.class,
+            TenenciaEmpleadoRepository.class, TenenciaEmpleadoDispositivoRepository.class,
+            UsuarioRepository.class);
+
+    private static ConfigurableApplicationContext context;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeAll
+    static void iniciar() throws Exception {
+        context = new SpringApplicationBuilder(OssBackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.datasource.url=" + postgres.getJdbcUrl(),
+                        "--spring.datasource.username=" + postgres.getUsername(),
+                        "--spring.datasource.password=" + postgres.getPassword(),
+                        "--spring.datasource.driver-class-name=org.postgresql.Driver",
+                        "--spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+                        "--spring.jpa.hibernate.ddl-auto=validate",
+                        "--spring.flyway.enabled=true",
+                        "--spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                                + CapturaSql.class.getName());
+
+        try (Connection connection = context.getBean(DataSource.class).getConnection()) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/seed/volumen_plan_consultas.sql"));
+        }
+    }
+
+    @AfterAll
+    static void detener() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Test
+    void consultasDeclaradas_NoDebenRecorrerTablasGrandes() throws Exception {
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        List<String> regresiones = new ArrayList<>();
+
+        for (Class<?> repositorio : REPOSITORIOS) {
+            Object bean = context.getBean(repositorio);
+            for (Method metodo : repositorio.getDeclaredMethods()) {
+                if (metodo.isDefault() || metodo.isAnnotationPresent(Modifying.class)) {
+                    continue;
+                }
+                String nombre = repositorio.getSimpleName() + "." + metodo.getName();
+                List<String> sentencias = capturar(bean, metodo);
+                if (metodo.isAnnotationPresent(Query.class)) {
+                    assertFalse(sentencias.isEmpty(), "No se capturó SQL para " + nombre);
+                }
+
+                for (String sql : sentencias) {
+                    for (String tabla : tablasConSeqScan(jdbc, sql)) {
+                        if (TABLAS_GRANDES.contains(tabla) && !EXCEPCIONES.containsKey(nombre)) {
+                            regresiones.add(nombre + " -> Seq Scan on " + tabla + "\n    " + sql);
+                        }
+                    }
+                }
+            }
+        }
+
+        assertTrue(regresiones.isEmpty(),
+                "Consultas que recorren tablas grandes completas:\n" + String.join("\n", regresiones));
+    }
+
+    /**
+     * Invoca el método del repositorio en una transacción con rollback y devuelve el SQL emitido.
+     */
+    private List<String> capturar(Object bean, Method metodo) {
+        TransactionTemplate tx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        CapturaSql.SENTENCIAS.clear();
+        tx.executeWithoutResult(status -> {
+            try {
+                metodo.invoke(bean, argumentos(metodo));
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("No se pudo invocar " + metodo, e);
+            } finally {
+                status.setRollbackOnly();
+            }
+        });
+        return List.copyOf(CapturaSql.SENTENCIAS);
+    }
+
+    private static Object[] argumentos(Method metodo) {
+        Class<?>[] tipos = metodo.getParameterTypes();
+        Type[] genericos = metodo.getGenericParameterTypes();
+        Object[] valores = new Object[tipos.length];
+        for (int i = 0; i < tipos.length; i++) {
+            Class<?> tipo = tipos[i];
+            if (tipo == Integer.class) {
+                valores[i] = 1;
+            } else if (tipo == String.class) {
+                valores[i] = "ACTIVA";
+            } else if (tipo == LocalDate.class) {
+                valores[i] = LocalDate.now();
+            } else if (tipo == LocalDateTime.class) {
+                valores[i] = LocalDateTime.now();
+            } else if (tipo == BigDecimal.class) {
+                valores[i] = BigDecimal.ONE;
+            } else if (tipo == Pageable.class) {
+                valores[i] = PageRequest.of(0, 20);
+            } else if (tipo == Collection.class) {
+                boolean deTexto = genericos[i] instanceof ParameterizedType p
+                        && p.getActualTypeArguments()[0] == String.class;
+                valores[i] = deTexto ? List.of("ACTIVA", "BAJA", "X") : List.of(1, 2, 3);
+            } else {
+                throw new IllegalArgumentException("Tipo de parámetro no soportado en " + metodo + ": " + tipo);
+            }
+        }
+        return valores;
+    }
+
+    private List<String> tablasConSeqScan(JdbcTemplate jdbc, String sql) throws Exception {
+        String plan = jdbc.queryForObject("EXPLAIN (GENERIC_PLAN, FORMAT JSON) " + numerarParametros(sql), String.class);
+        List<String> tablas = new ArrayList<>();
+        recolectarSeqScans(objectMapper.readTree(plan).get(0).get("Plan"), tablas);
+        return tablas;
+    }
+
+    private static void recolectarSeqScans(JsonNode nodo, List<String> tablas) {
+        if ("Seq Scan".equals(nodo.path("Node Type").asText())) {
+            tablas.add(nodo.path("Relation Name").asText());
+        }
+        for (JsonNode hijo : nodo.path("Plans")) {
+            recolectarSeqScans(hijo, tablas);
+        }
+    }
+
+    /**
+     * Convierte los parámetros JDBC (?) en parámetros posicionales ($1, $2...) que acepta EXPLAIN.
+     */
+    private static String numerarParametros(String sql) {
+        StringBuilder resultado = new StringBuilder(sql.length() + 16);
+        int numero = 0;
+        boolean enLiteral = false;
+        for (char c : sql.toCharArray()) {
+            if (c == '\'') {
+                enLiteral = !enLiteral;
+            }
+            if (c == '?' && !enLiteral) {
+                resultado.append('$').append(++numero);
+            } else {
+                resultado.append(c);
+            }
+        }
+        return resultado.toString();
+    }
+
+    /**
+     * Registra las sentencias SELECT que Hibernate envía a la base de datos.
+     */
+    public static class CapturaSql implements StatementInspector {
+
+        static final List<String> SENTENCIAS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            String sinComentario = sql.replaceFirst("(?s)^\\s*/\\*.*?\\*/", "").trim();
+            if (sinComentario.regionMatches(true, 0, "select", 0, 6)) {
+                SENTENCIAS.add(sinComentario);
+            }
+            return sql;
+        }
+    }
+}
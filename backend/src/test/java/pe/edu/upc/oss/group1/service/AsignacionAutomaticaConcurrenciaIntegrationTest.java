@@ -0,0 +1,142 @@
+package pe.edu.upc.oss.group1.service;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import pe.edu.upc.oss.group1.OssBackendApplication;
+import pe.edu.upc.oss.group1.entity.AsignacionDispositivo;
+import pe.edu.upc.oss.group1.entity.Empleado;
+import pe.edu.upc.oss.group1.entity.Usuario;
+import pe.edu.upc.oss.group1.exception.BusinessValidationException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Stress test: muchos operadores piden a la vez "cualquier dispositivo disponible" del mismo tipo
+ * contra PostgreSQL. Con SKIP LOCKED cada uno debe recibir un dispositivo distinto, sin errores
+ * de contención, y los que sobran deben recibir "no hay dispositivos disponibles".
+ */
+@Tag("postgres")
+@Testcontainers(disabledWithoutDocker = true)
+class AsignacionAutomaticaConcurrenciaIntegrationTest {
+
+    private static final int DISPOSITIVOS = 40;
+    private static final int OPERADORES = 16;
+    private static final int SOLICITUDES = 60;
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static ConfigurableApplicationContext context;
+    private static int tipoId;
+    private static List<Integer> empleadoIds;
+    private static int usuarioId;
+
+    @BeforeAll
+    static void iniciar() {
+        context = new SpringApplicationBuilder(OssBackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.datasource.url=" + postgres.getJdbcUrl(),
+                        "--spring.datasource.username=" + postgres.getUsername(),
+                        "--spring.datasource.password=" + postgres.getPassword(),
+                        "--spring.datasource.driver-class-name=org.postgresql.Driver",
+                        "--spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+                        "--spring.jpa.hibernate.ddl-auto=validate",
+                        "--spring.flyway.enabled=true",
+                        "--spring.datasource.hikari.maximum-pool-size=" + (OPERADORES + 4));
+
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        tipoId = jdbc.queryForObject(
+                "INSERT INTO cat_tipo_dispositivo (codigo, nombre, requiere_serie, activo) " +
+                "VALUES ('STRESS', 'Stress', false, true) RETURNING id", Integer.class);
+        jdbc.update(
+                "INSERT INTO dispositivo (codigo_activo, id_tipo_dispositivo, id_marca, modelo, id_estado_dispositivo) " +
+                "SELECT 'STRESS-' || g, ?, (SELECT min(id) FROM cat_marca), 'M1', " +
+                "       (SELECT id FROM cat_estado_dispositivo WHERE codigo = 'DISPONIBLE') " +
+                "FROM generate_series(1, ?) g", tipoId, DISPOSITIVOS);
+        // Varios empleados: el resumen de tenencia se actualiza por fila de empleado
+        empleadoIds = jdbc.queryForList(
+                "SELECT e.id FROM empleado e JOIN cat_estado_empleado s ON s.id = e.id_estado_empleado " +
+                "WHERE s.codigo = 'ACTIVO' ORDER BY e.id", Integer.class);
+        usuarioId = jdbc.queryForObject("SELECT min(id) FROM usuario", Integer.class);
+    }
+
+    @AfterAll
+    static void detener() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Test
+    void asignarDisponible_Concurrente_ShouldClaimDistinctDispositivosWithoutErrors() throws Exception {
+        AsignacionAutomaticaService service = context.getBean(AsignacionAutomaticaService.class);
+        Set<Integer> asignados = ConcurrentHashMap.newKeySet();
+        AtomicInteger sinDisponibles = new AtomicInteger();
+        CountDownLatch largada = new CountDownLatch(1);
+
+        ExecutorService operadores = Executors.newFixedThreadPool(OPERADORES);
+        List<Future<?>> resultados = new ArrayList<>();
+        for (int i = 0; i < SOLICITUDES; i++) {
+            int empleadoId = empleadoIds.get(i % empleadoIds.size());
+            resultados.add(operadores.submit(() -> {
+                largada.await();
+                try {
+                    AsignacionDispositivo creada = service.asignarDisponible(tipoId, null, "M1", nuevaAsignacion(empleadoId));
+                    assertTrue(asignados.add(creada.getDispositivo().getId()),
+                            "Dispositivo asignado dos veces: " + creada.getDispositivo().getId());
+                } catch (BusinessValidationException e) {
+                    sinDisponibles.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        largada.countDown();
+
+        // Cualquier otra excepción (deadlock, PK duplicada en tenencia, timeout) hace fallar el get()
+        for (Future<?> resultado : resultados) {
+            resultado.get(60, TimeUnit.SECONDS);
+        }
+        operadores.shutdown();
+
+        assertEquals(DISPOSITIVOS, asignados.size());
+        assertEquals(SOLICITUDES - DISPOSITIVOS, sinDisponibles.get());
+
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        assertEquals(DISPOSITIVOS, jdbc.queryForObject(
+                "SELECT count(*) FROM asignacion_dispositivo a JOIN dispositivo d ON d.id = a.id_dispositivo " +
+                "WHERE d.id_tipo_dispositivo = ?", Integer.class, tipoId));
+    }
+
+    private static AsignacionDispositivo nuevaAsignacion(int empleadoId) {
+        Empleado empleado = new Empleado();
+        empleado.setId(empleadoId);
+        Usuario usuario = new Usuario();
+        usuario.setId(usuarioId);
+
+        AsignacionDispositivo asignacion = new AsignacionDispositivo();
+        asignacion.setEmpleado(empleado);
+        asignacion.setUsuarioAsigna(usuario);
+        return asignacion;
+    }
+}
@@ -0,0 +1,89 @@
+package pe.edu.upc.oss.group1.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import pe.edu.upc.oss.group1.entity.AsignacionDispositivo;
+import pe.edu.upc.oss.group1.entity.Dispositivo;
+import pe.edu.upc.oss.group1.entity.Empleado;
+import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoEmpleado;
+import pe.edu.upc.oss.group1.exception.BusinessValidationException;
+import pe.edu.upc.oss.group1.repository.DispositivoRepository;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AsignacionAutomaticaService.
+ */
+@ExtendWith(MockitoExtension.class)
+class AsignacionAutomaticaServiceTest {
+
+    @Mock
+    private DispositivoRepository dispositivoRepository;
+
+    @Mock
+    private EmpleadoService empleadoService;
+
+    @Mock
+    private AsignacionDispositivoService asignacionService;
+
+    @InjectMocks
+    private AsignacionAutomaticaService asignacionAutomaticaService;
+
+    private Empleado empleado;
+    private AsignacionDispositivo asignacion;
+
+    @BeforeEach
+    void setUp() {
+        CatEstadoEmpleado activo = new CatEstadoEmpleado();
+        activo.setCodigo("ACTIVO");
+
+        empleado = new Empleado();
+        empleado.setId(1);
+        empleado.setEstadoEmpleado(activo);
+
+        asignacion = new AsignacionDispositivo();
+        asignacion.setEmpleado(empleado);
+    }
+
+    @Test
+    void asignarDisponible_ShouldAssignReservedDispositivo() {
+        Dispositivo reservado = new Dispositivo();
+        reservado.setId(42);
+        when(empleadoService.findById(1)).thenReturn(empleado);
+        when(dispositivoRepository.reservarSiguienteDisponible(3, null, "XPS 13")).thenReturn(Optional.of(reservado));
+        when(asignacionService.crear(asignacion)).thenReturn(asignacion);
+
+        AsignacionDispositivo result = asignacionAutomaticaService.asignarDisponible(3, null, "XPS 13", asignacion);
+
+        assertSame(reservado, result.getDispositivo());
+        verify(asignacionService).crear(asignacion);
+    }
+
+    @Test
+    void asignarDisponible_WhenNoneAvailable_ShouldThrowException() {
+        when(empleadoService.findById(1)).thenReturn(empleado);
+        when(dispositivoRepository.reservarSiguienteDisponible(3, 2, null)).thenReturn(Optional.empty());
+
+        assertThrows(BusinessValidationException.class,
+                () -> asignacionAutomaticaService.asignarDisponible(3, 2, null, asignacion));
+        verify(asignacionService, never()).crear(any());
+    }
+
+    @Test
+    void asignarDisponible_WhenEmpleadoInactive_ShouldNotReserve() {
+        empleado.setEstadoEmpleado(new CatEstadoEmpleado());
+        when(empleadoService.findById(1)).thenReturn(empleado);
+
+        assertThrows(BusinessValidationException.class,
+                () -> asignacionAutomaticaService.asignarDisponible(3, null, null, asignacion));
+        verifyNoInteractions(dispositivoRepository);
+    }
+}
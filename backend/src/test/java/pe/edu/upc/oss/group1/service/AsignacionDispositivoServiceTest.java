@@ -6,11 +6,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import pe.edu.upc.oss.group1.entity.AsignacionDispositivo;
 import pe.edu.upc.oss.group1.entity.Dispositivo;
 import pe.edu.upc.oss.group1.entity.Empleado;
 import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoAsignacion;
 import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoDispositivo;
+import pe.edu.upc.oss.group1.evento.EventoCicloVida;
 import pe.edu.upc.oss.group1.exception.BusinessValidationException;
 import pe.edu.upc.oss.group1.exception.ResourceNotFoundException;
 import pe.edu.upc.oss.group1.repository.AsignacionDispositivoRepository;
@@ -42,12 +44,18 @@ class AsignacionDispositivoServiceTest {
     @Mock
     private HistorialDispositivoService historialService;
 
+    @Mock
+    private TenenciaEmpleadoService tenenciaService;
+
     @Mock
     private CatEstadoAsignacionRepository estadoAsignacionRepository;
 
     @Mock
     private CatEstadoDispositivoRepository estadoDispositivoRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private AsignacionDispositivoService asignacionService;
 
@@ -104,7 +112,7 @@ class AsignacionDispositivoServiceTest {
         // Arrange
         when(empleadoService.findById(1)).thenReturn(empleado);
         when(dispositivoService.findById(1)).thenReturn(dispositivo);
-        when(asignacionRepository.findAsignacionActivaByDispositivo(1)).thenReturn(Optional.empty());
+        when(tenenciaService.estaAsignado(1)).thenReturn(false);
         when(estadoAsignacionRepository.findByCodigo("ACTIVA")).thenReturn(Optional.of(estadoActiva));
         when(estadoDispositivoRepository.findByCodigo("ASIGNADO")).thenReturn(Optional.of(estadoAsignado));
         when(asignacionRepository.save(any(AsignacionDispositivo.class))).thenReturn(asignacion);
@@ -117,20 +125,21 @@ class AsignacionDispositivoServiceTest {
         assertNotNull(result);
         verify(asignacionRepository, times(1)).save(any(AsignacionDispositivo.class));
         verify(historialService, times(1)).registrarAsignacion(any(), any(), any());
+        verify(tenenciaService).registrarEntrega(1, dispositivo);
+        verify(eventPublisher).publishEvent(any(EventoCicloVida.class));
     }
 
     @Test
     void crear_WhenDispositivoAlreadyAssigned_ShouldThrowException() {
         // Arrange
-        AsignacionDispositivo existingAsignacion = new AsignacionDispositivo();
         when(empleadoService.findById(1)).thenReturn(empleado);
         when(dispositivoService.findById(1)).thenReturn(dispositivo);
-        when(asignacionRepository.findAsignacionActivaByDispositivo(1))
-                .thenReturn(Optional.of(existingAsignacion));
+        when(tenenciaService.estaAsignado(1)).thenReturn(true);
 
         // Act & Assert
         assertThrows(BusinessValidationException.class, () -> asignacionService.crear(asignacion));
         verify(asignacionRepository, never()).save(any());
+        verify(tenenciaService, never()).registrarEntrega(any(), any());
     }
 
     @Test
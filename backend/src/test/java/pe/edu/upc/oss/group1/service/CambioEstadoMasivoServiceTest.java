@@ -0,0 +1,230 @@
+package pe.edu.upc.oss.group1.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import pe.edu.upc.oss.group1.cache.CacheNames;
+import pe.edu.upc.oss.group1.cache.InvalidacionCacheBus;
+import pe.edu.upc.oss.group1.entity.CambioEstadoMasivo;
+import pe.edu.upc.oss.group1.evento.DispositivosModificados;
+import pe.edu.upc.oss.group1.evento.EventoCicloVida;
+import pe.edu.upc.oss.group1.evento.TipoEventoCicloVida;
+import pe.edu.upc.oss.group1.exception.BusinessValidationException;
+import pe.edu.upc.oss.group1.exception.ResourceNotFoundException;
+import pe.edu.upc.oss.group1.repository.CambioEstadoMasivoRepository;
+import pe.edu.upc.oss.group1.repository.DispositivoRepository;
+import pe.edu.upc.oss.group1.repository.DispositivoRepository.FilaCambioEstado;
+import pe.edu.upc.oss.group1.repository.UsuarioRepository;
+import pe.edu.upc.oss.group1.repository.catalogo.CatEstadoDispositivoRepository;
+import pe.edu.upc.oss.group1.repository.catalogo.CatTipoMovimientoRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CambioEstadoMasivoService.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CambioEstadoMasivoServiceTest {
+
+    private static final int ESTADO_BAJA = 4;
+    private static final int TIPO_CAMBIO_ESTADO = 5;
+    private static final int USUARIO = 1;
+
+    @Mock
+    private DispositivoRepository dispositivoRepository;
+
+    @Mock
+    private CatEstadoDispositivoRepository estadoDispositivoRepository;
+
+    @Mock
+    private CatTipoMovimientoRepository tipoMovimientoRepository;
+
+    @Mock
+    private UsuarioRepository usuarioRepository;
+
+    @Mock
+    private CambioEstadoMasivoRepository cambioEstadoMasivoRepository;
+
+    @Mock
+    private InvalidacionCacheBus invalidacionCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private CambioEstadoMasivoService service;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionTemplate.execute(any())).thenAnswer(inv ->
+                inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        // Por defecto ningún dispositivo del lote está ya en el estado destino
+        when(dispositivoRepository.bloquearParaCambioEstado(any(), anyInt())).thenAnswer(inv ->
+                inv.<List<Integer>>getArgument(0).stream()
+                        .map(id -> (FilaCambioEstado) new Fila(id, "ACT-" + id, null, null, null))
+                        .toList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.detener();
+    }
+
+    @Test
+    void ejecutar_PorIds_ShouldProcessInBoundedChunks() {
+        List<Integer> ids = IntStream.rangeClosed(1, 1200).boxed().toList();
+        when(dispositivoRepository.cambiarEstadoConHistorial(any(), eq(ESTADO_BAJA), eq(TIPO_CAMBIO_ESTADO), eq(USUARIO), any()))
+                .thenAnswer(inv -> inv.<List<Integer>>getArgument(0).size());
+        CambioEstadoMasivo trabajo = new CambioEstadoMasivo(ESTADO_BAJA, ids.size());
+
+        service.ejecutar(trabajo, new CriteriosCambioEstado(ids, null, null, null, null, null),
+                "BAJA", TIPO_CAMBIO_ESTADO, USUARIO, "Fin de vida útil");
+
+        verify(dispositivoRepository, times(3))
+                .cambiarEstadoConHistorial(any(), anyInt(), anyInt(), anyInt(), eq("Fin de vida útil"));
+        verify(invalidacionCache, times(3)).invalidar(CacheNames.DISPOSITIVOS);
+        verify(cambioEstadoMasivoRepository, times(2)).registrarLote(trabajo.getId(), 500, 500);
+        verify(cambioEstadoMasivoRepository).registrarLote(trabajo.getId(), 200, 200);
+        verify(cambioEstadoMasivoRepository).save(trabajo);
+        assertEquals(CambioEstadoMasivo.Estado.COMPLETADO, trabajo.getEstado());
+        assertEquals(1200, trabajo.getProcesados());
+        assertEquals(1200, trabajo.getCambiados());
+        assertEquals(100, trabajo.getPorcentaje());
+    }
+
+    @Test
+    void ejecutar_PorFiltro_ShouldContinueAfterLastProcessedId() {
+        List<Integer> primerLote = IntStream.rangeClosed(1, CambioEstadoMasivoService.TAMANIO_LOTE).boxed().toList();
+        LocalDate desde = LocalDate.of(2020, 1, 1);
+        when(dispositivoRepository.findIdsParaCambioEstado(ESTADO_BAJA, 2, null, "Latitude 5400", desde, null, 0,
+                CambioEstadoMasivoService.TAMANIO_LOTE)).thenReturn(primerLote);
+        when(dispositivoRepository.findIdsParaCambioEstado(ESTADO_BAJA, 2, null, "Latitude 5400", desde, null,
+                CambioEstadoMasivoService.TAMANIO_LOTE, CambioEstadoMasivoService.TAMANIO_LOTE)).thenReturn(List.of());
+        when(dispositivoRepository.cambiarEstadoConHistorial(any(), anyInt(), anyInt(), anyInt(), any())).thenReturn(480);
+        CambioEstadoMasivo trabajo = new CambioEstadoMasivo(ESTADO_BAJA, 500);
+
+        service.ejecutar(trabajo, new CriteriosCambioEstado(null, 2, null, "Latitude 5400", desde, null),
+                "BAJA", TIPO_CAMBIO_ESTADO, USUARIO, null);
+
+        assertEquals(CambioEstadoMasivo.Estado.COMPLETADO, trabajo.getEstado());
+        assertEquals(500, trabajo.getProcesados());
+        assertEquals(480, trabajo.getCambiados());
+    }
+
+    @Test
+    void ejecutar_WhenChunkFails_ShouldKeepProgressAndMarkFailed() {
+        List<Integer> ids = IntStream.rangeClosed(1, 700).boxed().toList();
+        when(dispositivoRepository.cambiarEstadoConHistorial(any(), anyInt(), anyInt(), anyInt(), any()))
+                .thenReturn(500)
+                .thenThrow(new IllegalStateException("deadlock detected"));
+        CambioEstadoMasivo trabajo = new CambioEstadoMasivo(ESTADO_BAJA, ids.size());
+
+        service.ejecutar(trabajo, new CriteriosCambioEstado(ids, null, null, null, null, null),
+                "BAJA", TIPO_CAMBIO_ESTADO, USUARIO, null);
+
+        assertEquals(CambioEstadoMasivo.Estado.FALLIDO, trabajo.getEstado());
+        assertEquals(500, trabajo.getCambiados());
+        assertEquals("deadlock detected", trabajo.getError());
+        verify(cambioEstadoMasivoRepository).save(trabajo);
+    }
+
+    @Test
+    void ejecutar_ShouldPublishEstadoCambiadoForEachChangedDeviceWithHolder() {
+        // El dispositivo 2 ya estaba en BAJA: no se bloquea, no cambia y no genera evento
+        doReturn(List.of(
+                new Fila(1, "ACT-1", 10, 100, 1000),
+                new Fila(3, "ACT-3", null, null, null)))
+                .when(dispositivoRepository).bloquearParaCambioEstado(List.of(1, 2, 3), ESTADO_BAJA);
+        when(dispositivoRepository.cambiarEstadoConHistorial(List.of(1, 3), ESTADO_BAJA, TIPO_CAMBIO_ESTADO, USUARIO, null))
+                .thenReturn(2);
+        CambioEstadoMasivo trabajo = new CambioEstadoMasivo(ESTADO_BAJA, 3);
+
+        service.ejecutar(trabajo, new CriteriosCambioEstado(List.of(1, 2, 3), null, null, null, null, null),
+                "BAJA", TIPO_CAMBIO_ESTADO, USUARIO, null);
+
+        ArgumentCaptor<Object> publicados = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, times(3)).publishEvent(publicados.capture());
+        List<EventoCicloVida> eventos = publicados.getAllValues().stream()
+                .filter(EventoCicloVida.class::isInstance).map(EventoCicloVida.class::cast).toList();
+        assertEquals(2, eventos.size());
+        EventoCicloVida asignado = eventos.get(0);
+        assertEquals(TipoEventoCicloVida.ESTADO_CAMBIADO, asignado.getTipo());
+        assertEquals(1, asignado.getDispositivoId());
+        assertEquals("BAJA", asignado.getEstado());
+        assertEquals(100, asignado.getSedeId());
+        assertEquals(1000, asignado.getAreaId());
+        assertNull(eventos.get(1).getSedeId());
+        verify(eventPublisher).publishEvent(new DispositivosModificados(List.of(1, 3)));
+        verify(cambioEstadoMasivoRepository).registrarLote(trabajo.getId(), 3, 2);
+        assertEquals(2, trabajo.getCambiados());
+    }
+
+    @Test
+    void ejecutar_WhenNoDeviceChanges_ShouldNotPublishNorInvalidate() {
+        doReturn(List.of()).when(dispositivoRepository).bloquearParaCambioEstado(any(), anyInt());
+        CambioEstadoMasivo trabajo = new CambioEstadoMasivo(ESTADO_BAJA, 2);
+
+        service.ejecutar(trabajo, new CriteriosCambioEstado(List.of(1, 2), null, null, null, null, null),
+                "BAJA", TIPO_CAMBIO_ESTADO, USUARIO, null);
+
+        verify(dispositivoRepository, never()).cambiarEstadoConHistorial(any(), anyInt(), anyInt(), anyInt(), any());
+        verifyNoInteractions(eventPublisher, invalidacionCache);
+        verify(cambioEstadoMasivoRepository).registrarLote(trabajo.getId(), 2, 0);
+        assertEquals(CambioEstadoMasivo.Estado.COMPLETADO, trabajo.getEstado());
+    }
+
+    @Test
+    void iniciar_WithoutIdsOrFilter_ShouldThrow() {
+        assertThrows(BusinessValidationException.class, () -> service.iniciar(
+                new CriteriosCambioEstado(List.of(), null, null, null, null, null), ESTADO_BAJA, USUARIO, null));
+
+        verifyNoInteractions(dispositivoRepository);
+    }
+
+    @Test
+    void iniciar_WithIdsAndFilter_ShouldThrow() {
+        assertThrows(BusinessValidationException.class, () -> service.iniciar(
+                new CriteriosCambioEstado(List.of(1), 2, null, null, null, null), ESTADO_BAJA, USUARIO, null));
+    }
+
+    @Test
+    void findById_WhenUnknown_ShouldThrow() {
+        assertThrows(ResourceNotFoundException.class, () -> service.findById(UUID.randomUUID()));
+    }
+
+    @Test
+    void findById_ShouldReadProgressFromDatabase() {
+        CambioEstadoMasivo trabajo = new CambioEstadoMasivo(ESTADO_BAJA, 10);
+        when(cambioEstadoMasivoRepository.findById(trabajo.getId())).thenReturn(Optional.of(trabajo));
+
+        assertSame(trabajo, service.findById(trabajo.getId()));
+    }
+
+    private record Fila(Integer getId, String getCodigoActivo, Integer getEmpleadoId,
+                        Integer getSedeId, Integer getAreaId) implements FilaCambioEstado {
+    }
+}
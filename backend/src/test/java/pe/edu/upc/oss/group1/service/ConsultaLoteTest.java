@@ -0,0 +1,88 @@
+package pe.edu.upc.oss.group1.service;
+
+import org.junit.jupiter.api.Test;
+import pe.edu.upc.oss.group1.entity.catalogo.CatMarca;
+import pe.edu.upc.oss.group1.exception.BusinessValidationException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ConsultaLote.
+ */
+class ConsultaLoteTest {
+
+    @Test
+    void de_WhenBothOrNoneGiven_ShouldThrow() {
+        assertThrows(BusinessValidationException.class, () -> ConsultaLote.de(List.of(1), List.of("DELL")));
+        assertThrows(BusinessValidationException.class, () -> ConsultaLote.de(null, List.of()));
+    }
+
+    @Test
+    void de_WhenOverMaximum_ShouldThrow() {
+        List<Integer> ids = IntStream.rangeClosed(1, ConsultaLote.MAXIMO + 1).boxed().toList();
+
+        assertThrows(BusinessValidationException.class, () -> ConsultaLote.de(ids, null));
+    }
+
+    @Test
+    void de_WhenBlankCodigo_ShouldThrow() {
+        assertThrows(BusinessValidationException.class, () -> ConsultaLote.de(null, List.of("DELL", " ")));
+    }
+
+    @Test
+    void resolver_ShouldQueryInBlocksAndKeepRequestOrder() {
+        List<Integer> ids = IntStream.rangeClosed(1, 150).boxed().toList();
+        List<Integer> bloques = new ArrayList<>();
+
+        ResultadoLote<CatMarca> resultado = ConsultaLote.deIds(ids).resolver(bloque -> {
+            bloques.add(bloque.size());
+            // Solo existen los IDs pares; se devuelven en orden inverso a propósito
+            return bloque.stream().filter(id -> id % 2 == 0).map(ConsultaLoteTest::marca).toList().reversed();
+        }, null, CatMarca::getId, CatMarca::getCodigo);
+
+        assertEquals(List.of(100, 50), bloques);
+        assertEquals(75, resultado.encontrados().size());
+        assertEquals("2", resultado.encontrados().keySet().iterator().next());
+        assertEquals(75, resultado.noEncontrados().size());
+        assertEquals("1", resultado.noEncontrados().get(0));
+    }
+
+    @Test
+    void resolver_ByCodigos_ShouldDeduplicateAndReportMissing() {
+        List<Collection<String>> consultas = new ArrayList<>();
+
+        ResultadoLote<CatMarca> resultado = ConsultaLote.de(null, List.of("HP", "DELL", "HP", "ACME"))
+                .resolver(bloque -> List.of(), bloque -> {
+                    consultas.add(bloque);
+                    return List.of(marca(1, "DELL"), marca(2, "HP"));
+                }, CatMarca::getId, CatMarca::getCodigo);
+
+        assertEquals(List.of(List.of("HP", "DELL", "ACME")), consultas);
+        assertEquals(List.of("HP", "DELL"), List.copyOf(resultado.encontrados().keySet()));
+        assertEquals(List.of("ACME"), resultado.noEncontrados());
+    }
+
+    @Test
+    void resolver_ByCodigosWithoutCodigoQuery_ShouldThrow() {
+        ConsultaLote consulta = ConsultaLote.de(null, List.of("X"));
+
+        assertThrows(BusinessValidationException.class,
+                () -> consulta.resolver(bloque -> List.<CatMarca>of(), null, CatMarca::getId, null));
+    }
+
+    private static CatMarca marca(Integer id) {
+        return marca(id, "M" + id);
+    }
+
+    private static CatMarca marca(Integer id, String codigo) {
+        CatMarca marca = new CatMarca();
+        marca.setId(id);
+        marca.setCodigo(codigo);
+        return marca;
+    }
+}
@@ -1,23 +1,33 @@
 package pe.edu.upc.oss.group1.service;
 
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import pe.edu.upc.oss.group1.entity.Dispositivo;
 import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoDispositivo;
 import pe.edu.upc.oss.group1.exception.DuplicateResourceException;
 import pe.edu.upc.oss.group1.exception.ResourceNotFoundException;
+import pe.edu.upc.oss.group1.persistencia.LecturaSinEstado;
+import pe.edu.upc.oss.group1.repository.AsignacionDispositivoRepository;
 import pe.edu.upc.oss.group1.repository.DispositivoRepository;
+import pe.edu.upc.oss.group1.unicidad.PrefiltroDispositivos;
+import pe.edu.upc.oss.group1.unicidad.VerificadorUnicidad;
 
 import pe.edu.upc.oss.group1.entity.catalogo.CatMarca;
 import pe.edu.upc.oss.group1.entity.catalogo.CatTipoDispositivo;
 
+import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -32,6 +42,21 @@ class DispositivoServiceTest {
     @Mock
     private DispositivoRepository dispositivoRepository;
 
+    @Mock
+    private AsignacionDispositivoRepository asignacionRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PrefiltroDispositivos prefiltroDispositivos;
+
+    @Mock
+    private LecturaSinEstado lecturaSinEstado;
+
+    @Spy
+    private VerificadorUnicidad verificadorUnicidad = new VerificadorUnicidad();
+
     @InjectMocks
     private DispositivoService dispositivoService;
 
@@ -64,14 +89,16 @@ class DispositivoServiceTest {
     void findAll_ShouldReturnAllDispositivos() {
         // Arrange
         List<Dispositivo> dispositivos = Arrays.asList(dispositivo, new Dispositivo());
-        when(dispositivoRepository.findAll()).thenReturn(dispositivos);
+        when(lecturaSinEstado.listar(DispositivoService.LISTADO, Dispositivo.class))
+                .thenReturn(dispositivos);
 
         // Act
         List<Dispositivo> result = dispositivoService.findAll();
 
         // Assert
         assertEquals(2, result.size());
-        verify(dispositivoRepository, times(1)).findAll();
+        verify(lecturaSinEstado, times(1)).listar(DispositivoService.LISTADO, Dispositivo.class);
+        verify(dispositivoRepository, never()).findAll();
     }
 
     @Test
@@ -100,39 +127,119 @@ class DispositivoServiceTest {
     @Test
     void create_WhenValidData_ShouldCreateDispositivo() {
         // Arrange
-        when(dispositivoRepository.existsByCodigoActivo("DEVICE001")).thenReturn(false);
-        when(dispositivoRepository.save(any(Dispositivo.class))).thenReturn(dispositivo);
+        when(dispositivoRepository.saveAndFlush(any(Dispositivo.class))).thenReturn(dispositivo);
 
         // Act
         Dispositivo result = dispositivoService.create(dispositivo);
 
         // Assert
         assertNotNull(result);
-        verify(dispositivoRepository, times(1)).save(any(Dispositivo.class));
+        verify(dispositivoRepository, times(1)).saveAndFlush(any(Dispositivo.class));
+        verify(dispositivoRepository, never()).existsByCodigoActivo(any());
+        verify(dispositivoRepository, never()).existsByNumeroSerie(any());
     }
 
     @Test
     void create_WhenCodigoActivoDuplicate_ShouldThrowException() {
         // Arrange
-        when(dispositivoRepository.existsByCodigoActivo("DEVICE001")).thenReturn(true);
+        when(dispositivoRepository.saveAndFlush(any(Dispositivo.class)))
+                .thenThrow(violacionUnica("uk_dispositivo_codigo_activo"));
+
+        // Act & Assert
+        DuplicateResourceException ex = assertThrows(DuplicateResourceException.class,
+                () -> dispositivoService.create(dispositivo));
+        assertEquals("Ya existe un dispositivo con el código: DEVICE001", ex.getMessage());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void create_WhenNumeroSerieDuplicate_ShouldThrowException() {
+        // Arrange
+        when(dispositivoRepository.saveAndFlush(any(Dispositivo.class)))
+                .thenThrow(violacionUnica("uk_dispositivo_numero_serie"));
 
         // Act & Assert
-        assertThrows(DuplicateResourceException.class, () -> dispositivoService.create(dispositivo));
-        verify(dispositivoRepository, never()).save(any());
+        DuplicateResourceException ex = assertThrows(DuplicateResourceException.class,
+                () -> dispositivoService.create(dispositivo));
+        assertEquals("Ya existe un dispositivo con el número de serie: SN123456", ex.getMessage());
+    }
+
+    @Test
+    void createLote_WhenPrefilterRulesOutAll_ShouldInsertWithoutQueries() {
+        // Arrange
+        Dispositivo otro = copia(dispositivo, "DEVICE002", "SN999");
+        otro.setId(2);
+        List<Dispositivo> lote = List.of(dispositivo, otro);
+        when(prefiltroDispositivos.codigosPosibles(any())).thenReturn(Set.of());
+        when(prefiltroDispositivos.seriesPosibles(any())).thenReturn(Set.of());
+        when(dispositivoRepository.saveAllAndFlush(lote)).thenReturn(lote);
+
+        // Act
+        List<Dispositivo> result = dispositivoService.createLote(lote);
+
+        // Assert
+        assertEquals(2, result.size());
+        verify(dispositivoRepository, never()).findCodigosActivoExistentes(any());
+        verify(dispositivoRepository, never()).findNumerosSerieExistentes(any());
+        verify(prefiltroDispositivos).registrar(lote);
+    }
+
+    @Test
+    void createLote_WhenPossibleDuplicateConfirmed_ShouldRejectWholeBatch() {
+        // Arrange
+        Dispositivo otro = copia(dispositivo, "DEVICE002", "SN999");
+        when(prefiltroDispositivos.codigosPosibles(any())).thenReturn(Set.of("DEVICE002"));
+        when(dispositivoRepository.findCodigosActivoExistentes(Set.of("DEVICE002"))).thenReturn(List.of("DEVICE002"));
+
+        // Act & Assert
+        DuplicateResourceException ex = assertThrows(DuplicateResourceException.class,
+                () -> dispositivoService.createLote(List.of(dispositivo, otro)));
+        assertEquals("Ya existen dispositivos con los códigos: DEVICE002", ex.getMessage());
+        verify(dispositivoRepository, never()).saveAllAndFlush(any());
+    }
+
+    @Test
+    void createLote_WhenConcurrentInsertViolatesUnique_ShouldReportViolatedCodigo() {
+        // Arrange: el prefiltro lo descartó, pero otro nodo lo insertó entre tanto
+        Dispositivo otro = copia(dispositivo, "DEVICE002", "SN999");
+        List<Dispositivo> lote = List.of(dispositivo, otro);
+        when(prefiltroDispositivos.codigosPosibles(any())).thenReturn(Set.of());
+        when(prefiltroDispositivos.seriesPosibles(any())).thenReturn(Set.of());
+        when(dispositivoRepository.saveAllAndFlush(lote)).thenThrow(violacionUnica("uk_dispositivo_codigo_activo",
+                "ERROR: duplicate key value violates unique constraint \"uk_dispositivo_codigo_activo\"\n"
+                        + "  Detail: Key (codigo_activo)=(DEVICE002) already exists."));
+
+        // Act & Assert
+        DuplicateResourceException ex = assertThrows(DuplicateResourceException.class,
+                () -> dispositivoService.createLote(lote));
+        assertEquals("Ya existe un dispositivo con el código: DEVICE002", ex.getMessage());
+        verify(prefiltroDispositivos, never()).registrar(any());
+    }
+
+    @Test
+    void createLote_WhenCodigoRepeatedInBatch_ShouldThrowWithoutQuerying() {
+        // Arrange
+        Dispositivo repetido = copia(dispositivo, "DEVICE001", null);
+
+        // Act & Assert
+        assertThrows(DuplicateResourceException.class,
+                () -> dispositivoService.createLote(List.of(dispositivo, repetido)));
+        verifyNoInteractions(prefiltroDispositivos);
     }
 
     @Test
     void findDisponibles_ShouldReturnOnlyAvailableDevices() {
         // Arrange
         List<Dispositivo> disponibles = Arrays.asList(dispositivo);
-        when(dispositivoRepository.findDispositivosDisponibles()).thenReturn(disponibles);
+        when(lecturaSinEstado.listar(DispositivoService.DISPONIBLES, Dispositivo.class))
+                .thenReturn(disponibles);
 
         // Act
         List<Dispositivo> result = dispositivoService.findDisponibles();
 
         // Assert
         assertEquals(1, result.size());
-        verify(dispositivoRepository, times(1)).findDispositivosDisponibles();
+        verify(lecturaSinEstado, times(1)).listar(DispositivoService.DISPONIBLES, Dispositivo.class);
     }
 
     @Test
@@ -169,13 +276,32 @@ class DispositivoServiceTest {
         updatedData.setEstadoDispositivo(estado);
 
         when(dispositivoRepository.findById(1)).thenReturn(Optional.of(dispositivo));
-        when(dispositivoRepository.save(any(Dispositivo.class))).thenReturn(dispositivo);
+        when(dispositivoRepository.saveAndFlush(any(Dispositivo.class))).thenReturn(dispositivo);
 
         // Act
         Dispositivo result = dispositivoService.update(1, updatedData);
 
         // Assert
         assertNotNull(result);
-        verify(dispositivoRepository, times(1)).save(any(Dispositivo.class));
+        verify(dispositivoRepository, times(1)).saveAndFlush(any(Dispositivo.class));
+    }
+
+    private static Dispositivo copia(Dispositivo base, String codigoActivo, String numeroSerie) {
+        Dispositivo copia = new Dispositivo();
+        copia.setCodigoActivo(codigoActivo);
+        copia.setNumeroSerie(numeroSerie);
+        copia.setTipoDispositivo(base.getTipoDispositivo());
+        copia.setMarca(base.getMarca());
+        copia.setEstadoDispositivo(base.getEstadoDispositivo());
+        return copia;
+    }
+
+    private static DataIntegrityViolationException violacionUnica(String restriccion) {
+        return violacionUnica(restriccion, "duplicate key");
+    }
+
+    private static DataIntegrityViolationException violacionUnica(String restriccion, String mensaje) {
+        return new DataIntegrityViolationException("duplicate key",
+                new ConstraintViolationException("duplicate key", new SQLException(mensaje, "23505"), restriccion));
     }
 }
@@ -0,0 +1,210 @@
+package pe.edu.upc.oss.group1.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import pe.edu.upc.oss.group1.cache.CacheNames;
+import pe.edu.upc.oss.group1.cache.InvalidacionCacheBus;
+import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoAsignacion;
+import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoDispositivo;
+import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoReemplazo;
+import pe.edu.upc.oss.group1.entity.catalogo.CatTipoMovimiento;
+import pe.edu.upc.oss.group1.evento.EventoCicloVida;
+import pe.edu.upc.oss.group1.repository.AsignacionDispositivoRepository;
+import pe.edu.upc.oss.group1.repository.DispositivoRepository;
+import pe.edu.upc.oss.group1.repository.HistorialDispositivoRepository;
+import pe.edu.upc.oss.group1.repository.ReemplazoDispositivoRepository;
+import pe.edu.upc.oss.group1.repository.ReemplazoDispositivoRepository.AsignacionCreada;
+import pe.edu.upc.oss.group1.repository.ReemplazoDispositivoRepository.FilaEjecucion;
+import pe.edu.upc.oss.group1.repository.TenenciaEmpleadoDispositivoRepository;
+import pe.edu.upc.oss.group1.repository.TenenciaEmpleadoRepository;
+import pe.edu.upc.oss.group1.repository.catalogo.CatEstadoAsignacionRepository;
+import pe.edu.upc.oss.group1.repository.catalogo.CatEstadoDispositivoRepository;
+import pe.edu.upc.oss.group1.repository.catalogo.CatEstadoReemplazoRepository;
+import pe.edu.upc.oss.group1.repository.catalogo.CatTipoMovimientoRepository;
+import pe.edu.upc.oss.group1.service.ResultadoEjecucionReemplazo.Resultado;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for EjecucionReemplazoLoteService.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class EjecucionReemplazoLoteServiceTest {
+
+    private static final int ASIGNACION_ACTIVA = 1;
+    private static final int ASIGNACION_DEVUELTA = 2;
+    private static final int REEMPLAZO_COMPLETADO = 3;
+
+    @Mock
+    private ReemplazoDispositivoRepository reemplazoRepository;
+
+    @Mock
+    private AsignacionDispositivoRepository asignacionRepository;
+
+    @Mock
+    private DispositivoRepository dispositivoRepository;
+
+    @Mock
+    private HistorialDispositivoRepository historialRepository;
+
+    @Mock
+    private TenenciaEmpleadoRepository tenenciaRepository;
+
+    @Mock
+    private TenenciaEmpleadoDispositivoRepository tenenciaDispositivoRepository;
+
+    @Mock
+    private CatEstadoReemplazoRepository estadoReemplazoRepository;
+
+    @Mock
+    private CatEstadoAsignacionRepository estadoAsignacionRepository;
+
+    @Mock
+    private CatEstadoDispositivoRepository estadoDispositivoRepository;
+
+    @Mock
+    private CatTipoMovimientoRepository tipoMovimientoRepository;
+
+    @Mock
+    private InvalidacionCacheBus invalidacionCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private EjecucionReemplazoLoteService service;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionTemplate.execute(any())).thenAnswer(inv ->
+                inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        CatEstadoReemplazo completado = new CatEstadoReemplazo();
+        completado.setId(REEMPLAZO_COMPLETADO);
+        when(estadoReemplazoRepository.findByCodigo("COMPLETADO")).thenReturn(Optional.of(completado));
+        when(estadoAsignacionRepository.findByCodigo("ACTIVA")).thenReturn(Optional.of(estadoAsignacion(ASIGNACION_ACTIVA)));
+        when(estadoAsignacionRepository.findByCodigo("DEVUELTA")).thenReturn(Optional.of(estadoAsignacion(ASIGNACION_DEVUELTA)));
+        when(estadoDispositivoRepository.findByCodigo(anyString())).thenReturn(Optional.of(new CatEstadoDispositivo()));
+        when(tipoMovimientoRepository.findByCodigo(anyString())).thenReturn(Optional.of(new CatTipoMovimiento()));
+    }
+
+    @Test
+    void ejecutar_ShouldRunSetBasedStatementsOncePerChunk() {
+        List<Integer> ids = IntStream.rangeClosed(1, 450).boxed().toList();
+        when(reemplazoRepository.bloquearParaEjecucion(any())).thenAnswer(inv ->
+                inv.<Collection<Integer>>getArgument(0).stream().map(id -> fila(id, 1000 + id, 2000 + id)).toList());
+
+        List<ResultadoEjecucionReemplazo> resultados = service.ejecutar(ids);
+
+        assertEquals(450, resultados.size());
+        assertTrue(resultados.stream().allMatch(ResultadoEjecucionReemplazo::isEjecutado));
+        verify(reemplazoRepository, times(3)).bloquearParaEjecucion(any());
+        verify(asignacionRepository, times(3)).crearPorReemplazo(any(), eq(ASIGNACION_ACTIVA));
+        verify(reemplazoRepository, times(3)).actualizarEstado(any(), eq(REEMPLAZO_COMPLETADO));
+        verify(invalidacionCache, times(3)).invalidar(CacheNames.ASIGNACIONES);
+        verify(eventPublisher, times(450)).publishEvent(any(EventoCicloVida.class));
+    }
+
+    @Test
+    void ejecutar_ShouldReportInvalidItemsWithoutBlockingTheRest() {
+        FilaEjecucion valido = fila(1, 101, 201);
+        FilaEjecucion completado = fila(2, 102, 202);
+        when(completado.getEstadoReemplazo()).thenReturn("COMPLETADO");
+        FilaEjecucion ocupado = fila(3, 103, 203);
+        when(ocupado.getReemplazoDisponible()).thenReturn(false);
+        FilaEjecucion repetido = fila(4, 104, 201);
+        when(reemplazoRepository.bloquearParaEjecucion(any())).thenReturn(List.of(valido, completado, ocupado, repetido));
+        AsignacionCreada creada = asignacionCreada(1, 900);
+        when(reemplazoRepository.findAsignacionesCreadas(List.of(1), ASIGNACION_ACTIVA)).thenReturn(List.of(creada));
+
+        List<ResultadoEjecucionReemplazo> resultados = service.ejecutar(List.of(1, 2, 3, 4, 99));
+
+        assertEquals(List.of(Resultado.EJECUTADO, Resultado.RECHAZADO, Resultado.RECHAZADO,
+                        Resultado.RECHAZADO, Resultado.NO_ENCONTRADO),
+                resultados.stream().map(ResultadoEjecucionReemplazo::resultado).toList());
+        assertEquals(900, resultados.get(0).asignacionId());
+        assertEquals("El dispositivo de reemplazo ya se usa en otro reemplazo del lote", resultados.get(3).mensaje());
+        verify(tenenciaRepository).ajustarPorReemplazos(List.of(1));
+        verify(asignacionRepository).devolverPorReemplazo(List.of(1), ASIGNACION_DEVUELTA);
+        verify(eventPublisher, times(1)).publishEvent(any(EventoCicloVida.class));
+    }
+
+    @Test
+    void ejecutar_WhenNothingValid_ShouldNotWrite() {
+        when(reemplazoRepository.bloquearParaEjecucion(any())).thenReturn(List.of());
+
+        List<ResultadoEjecucionReemplazo> resultados = service.ejecutar(List.of(7, 7));
+
+        assertEquals(1, resultados.size());
+        assertEquals(Resultado.NO_ENCONTRADO, resultados.get(0).resultado());
+        verify(asignacionRepository, never()).crearPorReemplazo(any(), anyInt());
+        verify(invalidacionCache, never()).invalidar(anyString());
+    }
+
+    @Test
+    void ejecutar_WhenChunkFails_ShouldMarkItFailedAndContinue() {
+        List<Integer> ids = IntStream.rangeClosed(1, 300).boxed().toList();
+        when(reemplazoRepository.bloquearParaEjecucion(any())).thenAnswer(inv ->
+                inv.<Collection<Integer>>getArgument(0).stream().map(id -> fila(id, 1000 + id, 2000 + id)).toList());
+        when(dispositivoRepository.intercambiarPorReemplazo(any(), any(), any()))
+                .thenThrow(new DataIntegrityViolationException("conflicto"))
+                .thenReturn(200);
+
+        List<ResultadoEjecucionReemplazo> resultados = service.ejecutar(ids);
+
+        assertEquals(200, resultados.stream().filter(r -> r.resultado() == Resultado.FALLIDO).count());
+        assertEquals(100, resultados.stream().filter(ResultadoEjecucionReemplazo::isEjecutado).count());
+        assertEquals(Resultado.FALLIDO, resultados.get(0).resultado());
+        assertEquals(Resultado.EJECUTADO, resultados.get(299).resultado());
+    }
+
+    private static CatEstadoAsignacion estadoAsignacion(int id) {
+        CatEstadoAsignacion estado = new CatEstadoAsignacion();
+        estado.setId(id);
+        return estado;
+    }
+
+    private static FilaEjecucion fila(int id, int asignacionOriginalId, int dispositivoReemplazoId) {
+        FilaEjecucion fila = mock(FilaEjecucion.class);
+        when(fila.getId()).thenReturn(id);
+        when(fila.getEstadoReemplazo()).thenReturn("PENDIENTE");
+        when(fila.getEstadoAsignacion()).thenReturn("ACTIVA");
+        when(fila.getAsignacionOriginalId()).thenReturn(asignacionOriginalId);
+        when(fila.getDispositivoReemplazoId()).thenReturn(dispositivoReemplazoId);
+        when(fila.getCodigoDispositivoReemplazo()).thenReturn("DEV-" + dispositivoReemplazoId);
+        when(fila.getReemplazoDisponible()).thenReturn(true);
+        when(fila.getEmpleadoId()).thenReturn(50);
+        return fila;
+    }
+
+    private static AsignacionCreada asignacionCreada(int reemplazoId, int asignacionId) {
+        AsignacionCreada creada = mock(AsignacionCreada.class);
+        when(creada.getReemplazoId()).thenReturn(reemplazoId);
+        when(creada.getAsignacionId()).thenReturn(asignacionId);
+        return creada;
+    }
+}
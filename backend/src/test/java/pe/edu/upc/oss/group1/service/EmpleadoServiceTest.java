@@ -1,12 +1,16 @@
 package pe.edu.upc.oss.group1.service;
 
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import pe.edu.upc.oss.group1.entity.Empleado;
+import pe.edu.upc.oss.group1.entity.RegistroEliminado;
 import pe.edu.upc.oss.group1.entity.catalogo.CatArea;
 import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoEmpleado;
 import pe.edu.upc.oss.group1.entity.catalogo.CatPuesto;
@@ -14,8 +18,12 @@ import pe.edu.upc.oss.group1.entity.catalogo.CatSede;
 import pe.edu.upc.oss.group1.exception.BusinessValidationException;
 import pe.edu.upc.oss.group1.exception.DuplicateResourceException;
 import pe.edu.upc.oss.group1.exception.ResourceNotFoundException;
+import pe.edu.upc.oss.group1.persistencia.LecturaSinEstado;
 import pe.edu.upc.oss.group1.repository.EmpleadoRepository;
+import pe.edu.upc.oss.group1.repository.RegistroEliminadoRepository;
+import pe.edu.upc.oss.group1.unicidad.VerificadorUnicidad;
 
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
@@ -31,6 +39,15 @@ class EmpleadoServiceTest {
     @Mock
     private EmpleadoRepository empleadoRepository;
 
+    @Mock
+    private RegistroEliminadoRepository registroEliminadoRepository;
+
+    @Spy
+    private VerificadorUnicidad verificadorUnicidad = new VerificadorUnicidad();
+
+    @Mock
+    private LecturaSinEstado lecturaSinEstado;
+
     @InjectMocks
     private EmpleadoService empleadoService;
 
@@ -74,12 +91,13 @@ class EmpleadoServiceTest {
 
     @Test
     void findAll_ShouldReturnAllEmployees() {
-        when(empleadoRepository.findAll()).thenReturn(Arrays.asList(empleado));
+        when(lecturaSinEstado.listar(EmpleadoService.LISTADO, Empleado.class)).thenReturn(Arrays.asList(empleado));
 
         List<Empleado> result = empleadoService.findAll();
 
         assertFalse(result.isEmpty());
         assertEquals(1, result.size());
+        verifyNoInteractions(empleadoRepository);
     }
 
     @Test
@@ -100,55 +118,49 @@ class EmpleadoServiceTest {
     }
 
     @Test
-    void create_WhenValid_ShouldCreateEmployee() {
-        when(empleadoRepository.existsByCodigoEmpleado(any())).thenReturn(false);
-        when(empleadoRepository.existsByEmail(any())).thenReturn(false);
-        when(empleadoRepository.save(any(Empleado.class))).thenReturn(empleado);
+    void create_WhenValid_ShouldCreateEmployeeWithoutExistsQueries() {
+        when(empleadoRepository.saveAndFlush(any(Empleado.class))).thenReturn(empleado);
 
         Empleado result = empleadoService.create(empleado);
 
         assertNotNull(result);
-        verify(empleadoRepository).save(empleado);
+        verify(empleadoRepository).saveAndFlush(empleado);
+        verify(empleadoRepository, never()).existsByCodigoEmpleado(any());
+        verify(empleadoRepository, never()).existsByEmail(any());
     }
 
     @Test
     void create_WhenCodeDuplicate_ShouldThrowException() {
-        when(empleadoRepository.existsByCodigoEmpleado("EMP001")).thenReturn(true);
+        when(empleadoRepository.saveAndFlush(any(Empleado.class)))
+                .thenThrow(violacionUnica("uk_empleado_codigo_empleado"));
 
-        assertThrows(DuplicateResourceException.class, () -> empleadoService.create(empleado));
-        verify(empleadoRepository, never()).save(any());
+        DuplicateResourceException ex = assertThrows(DuplicateResourceException.class,
+                () -> empleadoService.create(empleado));
+        assertEquals("Ya existe un empleado con el código: EMP001", ex.getMessage());
     }
 
     @Test
     void create_WhenEmailDuplicate_ShouldThrowException() {
-        when(empleadoRepository.existsByCodigoEmpleado("EMP001")).thenReturn(false);
-        when(empleadoRepository.existsByEmail("john.doe@example.com")).thenReturn(true);
+        when(empleadoRepository.saveAndFlush(any(Empleado.class)))
+                .thenThrow(violacionUnica("uk_empleado_email"));
 
-        assertThrows(DuplicateResourceException.class, () -> empleadoService.create(empleado));
-        verify(empleadoRepository, never()).save(any());
+        DuplicateResourceException ex = assertThrows(DuplicateResourceException.class,
+                () -> empleadoService.create(empleado));
+        assertEquals("Ya existe un empleado con el email: john.doe@example.com", ex.getMessage());
     }
 
     @Test
     void create_WhenMissingMandatoryFields_ShouldThrowException() {
         empleado.setArea(null); // Missing Area
-        
-        // Mocks for duplication checks are not strictly needed if validation fails first depending on order,
-        // but good practice to mock successful checks if we want to reach validation logic.
-        // In this service implementation, duplicate checks run BEFORE validation.
-        when(empleadoRepository.existsByCodigoEmpleado(any())).thenReturn(false);
-        when(empleadoRepository.existsByEmail(any())).thenReturn(false);
 
         assertThrows(BusinessValidationException.class, () -> empleadoService.create(empleado));
-        verify(empleadoRepository, never()).save(any());
+        verify(empleadoRepository, never()).saveAndFlush(any());
     }
 
     @Test
     void create_WhenInvalidDates_ShouldThrowException() {
         empleado.setFechaTermino(empleado.getFechaIngreso().minusDays(1)); // Termino before Ingreso
 
-        when(empleadoRepository.existsByCodigoEmpleado(any())).thenReturn(false);
-        when(empleadoRepository.existsByEmail(any())).thenReturn(false);
-
         assertThrows(BusinessValidationException.class, () -> empleadoService.create(empleado));
     }
 
@@ -165,13 +177,12 @@ class EmpleadoServiceTest {
         updateData.setFechaIngreso(LocalDate.now());
 
         when(empleadoRepository.findById(1)).thenReturn(Optional.of(empleado));
-        // exists checks shouldn't trigger because code/email haven't changed
-        when(empleadoRepository.save(any(Empleado.class))).thenReturn(empleado);
+        when(empleadoRepository.saveAndFlush(any(Empleado.class))).thenReturn(empleado);
 
         Empleado result = empleadoService.update(1, updateData);
 
         assertNotNull(result);
-        verify(empleadoRepository).save(any(Empleado.class));
+        verify(empleadoRepository).saveAndFlush(any(Empleado.class));
     }
 
     @Test
@@ -179,9 +190,15 @@ class EmpleadoServiceTest {
         Empleado updateData = new Empleado();
         updateData.setCodigoEmpleado("EMP002"); // Changing code
         updateData.setEmail("john.doe@example.com");
+        updateData.setArea(area);
+        updateData.setPuesto(puesto);
+        updateData.setSede(sede);
+        updateData.setEstadoEmpleado(estado);
+        updateData.setFechaIngreso(LocalDate.now());
 
         when(empleadoRepository.findById(1)).thenReturn(Optional.of(empleado));
-        when(empleadoRepository.existsByCodigoEmpleado("EMP002")).thenReturn(true);
+        when(empleadoRepository.saveAndFlush(any(Empleado.class)))
+                .thenThrow(violacionUnica("uk_empleado_codigo_empleado"));
 
         assertThrows(DuplicateResourceException.class, () -> empleadoService.update(1, updateData));
     }
@@ -193,5 +210,12 @@ class EmpleadoServiceTest {
         empleadoService.delete(1);
 
         verify(empleadoRepository).delete(empleado);
+        verify(registroEliminadoRepository).save(argThat(registro ->
+                RegistroEliminado.EMPLEADOS.equals(registro.getEntidad()) && registro.getIdRegistro() == 1));
+    }
+
+    private static DataIntegrityViolationException violacionUnica(String restriccion) {
+        return new DataIntegrityViolationException("duplicate key",
+                new ConstraintViolationException("duplicate key", new SQLException("duplicate key", "23505"), restriccion));
     }
 }
@@ -0,0 +1,146 @@
+package pe.edu.upc.oss.group1.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import pe.edu.upc.oss.group1.entity.DatosHistorial;
+import pe.edu.upc.oss.group1.entity.Dispositivo;
+import pe.edu.upc.oss.group1.entity.Empleado;
+import pe.edu.upc.oss.group1.entity.HistorialDispositivo;
+import pe.edu.upc.oss.group1.entity.Usuario;
+import pe.edu.upc.oss.group1.entity.catalogo.CatTipoMovimiento;
+import pe.edu.upc.oss.group1.repository.DispositivoRepository;
+import pe.edu.upc.oss.group1.repository.EmpleadoRepository;
+import pe.edu.upc.oss.group1.repository.HistorialDispositivoRepository;
+import pe.edu.upc.oss.group1.repository.catalogo.CatTipoMovimientoRepository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for HistorialDispositivoService.
+ */
+@ExtendWith(MockitoExtension.class)
+class HistorialDispositivoServiceTest {
+
+    @Mock
+    private HistorialDispositivoRepository historialRepository;
+
+    @Mock
+    private CatTipoMovimientoRepository tipoMovimientoRepository;
+
+    @Mock
+    private EmpleadoRepository empleadoRepository;
+
+    @Mock
+    private DispositivoRepository dispositivoRepository;
+
+    @InjectMocks
+    private HistorialDispositivoService historialService;
+
+    private Dispositivo dispositivo;
+    private Dispositivo dispositivoReemplazo;
+    private Empleado empleado;
+
+    @BeforeEach
+    void setUp() {
+        dispositivo = new Dispositivo();
+        dispositivo.setId(1);
+        dispositivo.setCodigoActivo("LAP-001");
+
+        dispositivoReemplazo = new Dispositivo();
+        dispositivoReemplazo.setId(2);
+        dispositivoReemplazo.setCodigoActivo("LAP-002");
+
+        empleado = new Empleado();
+        empleado.setId(7);
+        empleado.setNombre("Juan");
+        empleado.setApellidoPaterno("Pérez");
+    }
+
+    @Test
+    void registrarReemplazo_ShouldStoreIdsWithoutDescripcion() {
+        when(tipoMovimientoRepository.findByCodigo("REEMPLAZO")).thenReturn(Optional.of(tipo("REEMPLAZO")));
+        when(historialRepository.save(any(HistorialDispositivo.class))).thenAnswer(i -> i.getArgument(0));
+
+        historialService.registrarReemplazo(dispositivo, dispositivoReemplazo, empleado, new Usuario(), "Falla");
+
+        ArgumentCaptor<HistorialDispositivo> captor = ArgumentCaptor.forClass(HistorialDispositivo.class);
+        verify(historialRepository).save(captor.capture());
+        assertNull(captor.getValue().getDescripcion());
+        assertEquals(DatosHistorial.deReemplazo(7, 2, "Falla"), captor.getValue().getDatos());
+        verifyNoInteractions(empleadoRepository);
+    }
+
+    @Test
+    void findByDispositivo_ShouldRenderDescripcionesResolvingIdsInOneQuery() {
+        HistorialDispositivo asignacion = registro("ASIGNACION", DatosHistorial.deEmpleado(7));
+        HistorialDispositivo reemplazo = registro("REEMPLAZO", DatosHistorial.deReemplazo(7, 2, "Falla"));
+        HistorialDispositivo cambio = registro("CAMBIO_ESTADO",
+                DatosHistorial.deCambio("estado", "DISPONIBLE", "EN_REPARACION", null));
+        when(historialRepository.findByDispositivoIdOrderByFechaMovimientoDesc(1))
+                .thenReturn(List.of(asignacion, reemplazo, cambio));
+        when(empleadoRepository.findAllById(Set.of(7))).thenReturn(List.of(empleado));
+        when(dispositivoRepository.findAllById(Set.of(2))).thenReturn(List.of(dispositivoReemplazo));
+
+        historialService.findByDispositivo(1);
+
+        assertEquals("Asignado a " + empleado.getNombreCompleto(), asignacion.getDescripcionLegible());
+        assertEquals("Reemplazado por LAP-002. Motivo: Falla. Empleado: " + empleado.getNombreCompleto(),
+                reemplazo.getDescripcionLegible());
+        assertEquals("Estado cambiado de DISPONIBLE a EN_REPARACION", cambio.getDescripcionLegible());
+        verify(empleadoRepository, times(1)).findAllById(any());
+    }
+
+    @Test
+    void findByDispositivo_WhenReferencesMissing_ShouldSkipNullParts() {
+        HistorialDispositivo asignacion = registro("ASIGNACION", DatosHistorial.deEmpleado(99));
+        HistorialDispositivo reemplazo = registro("REEMPLAZO", DatosHistorial.deReemplazo(99, 2, null));
+        HistorialDispositivo cambio = registro("CAMBIO_ESTADO",
+                DatosHistorial.deCambio("estado", null, "DISPONIBLE", null));
+        when(historialRepository.findByDispositivoIdOrderByFechaMovimientoDesc(1))
+                .thenReturn(List.of(asignacion, reemplazo, cambio));
+        when(empleadoRepository.findAllById(Set.of(99))).thenReturn(List.of());
+        when(dispositivoRepository.findAllById(Set.of(2))).thenReturn(List.of(dispositivoReemplazo));
+
+        historialService.findByDispositivo(1);
+
+        assertEquals("Asignado", asignacion.getDescripcionLegible());
+        assertEquals("Reemplazado por LAP-002", reemplazo.getDescripcionLegible());
+        assertEquals("Estado cambiado a DISPONIBLE", cambio.getDescripcionLegible());
+    }
+
+    @Test
+    void findByDispositivo_WhenDescripcionStored_ShouldKeepIt() {
+        HistorialDispositivo antiguo = registro("ASIGNACION", null);
+        antiguo.setDescripcion("Asignado a Ana Torres");
+        when(historialRepository.findByDispositivoIdOrderByFechaMovimientoDesc(1)).thenReturn(List.of(antiguo));
+
+        historialService.findByDispositivo(1);
+
+        assertEquals("Asignado a Ana Torres", antiguo.getDescripcionLegible());
+        verifyNoInteractions(empleadoRepository, dispositivoRepository);
+    }
+
+    private static HistorialDispositivo registro(String codigoTipo, DatosHistorial datos) {
+        HistorialDispositivo historial = new HistorialDispositivo();
+        historial.setTipoMovimiento(tipo(codigoTipo));
+        historial.setDatos(datos);
+        return historial;
+    }
+
+    private static CatTipoMovimiento tipo(String codigo) {
+        CatTipoMovimiento tipo = new CatTipoMovimiento();
+        tipo.setCodigo(codigo);
+        return tipo;
+    }
+}
@@ -0,0 +1,172 @@
+package pe.edu.upc.oss.group1.service;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import pe.edu.upc.oss.group1.entity.AsignacionDispositivo;
+import pe.edu.upc.oss.group1.entity.Dispositivo;
+import pe.edu.upc.oss.group1.entity.Empleado;
+import pe.edu.upc.oss.group1.entity.Usuario;
+import pe.edu.upc.oss.group1.entity.InventarioSnapshot;
+import pe.edu.upc.oss.group1.entity.catalogo.*;
+import pe.edu.upc.oss.group1.repository.AsignacionDispositivoRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica sobre la base real (H2) que la reproducción desde un snapshot y la consulta sin
+ * snapshot coinciden cuando una asignación capturada por el snapshot se cancela después.
+ */
+@SpringBootTest
+@Transactional
+class InventarioHistoricoServiceIntegrationTest {
+
+    @Autowired
+    private InventarioHistoricoService inventarioService;
+
+    @Autowired
+    private AsignacionDispositivoService asignacionService;
+
+    @Autowired
+    private AsignacionDispositivoRepository asignacionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final LocalDate hoy = LocalDate.now();
+
+    private Dispositivo dispositivo;
+    private Empleado empleado;
+    private AsignacionDispositivo asignacion;
+    private Usuario usuario;
+    private CatEstadoAsignacion cancelada;
+
+    @BeforeEach
+    void setUp() {
+        CatTipoDispositivo tipo = catalogo(new CatTipoDispositivo(), "HIST-TIPO");
+        CatMarca marca = catalogo(new CatMarca(), "HIST-MARCA");
+        CatEstadoDispositivo asignado = catalogo(new CatEstadoDispositivo(), "HIST-ASIGNADO");
+        CatEstadoDispositivo disponible = new CatEstadoDispositivo();
+        disponible.setCodigo("DISPONIBLE");
+        disponible.setNombre("Disponible");
+        disponible.setDisponibleAsignacion(true);
+        entityManager.persist(disponible);
+        CatEstadoAsignacion activa = new CatEstadoAsignacion();
+        activa.setCodigo("ACTIVA");
+        activa.setNombre("Activa");
+        entityManager.persist(activa);
+        cancelada = new CatEstadoAsignacion();
+        cancelada.setCodigo("CANCELADA");
+        cancelada.setNombre("Cancelada");
+        entityManager.persist(cancelada);
+
+        dispositivo = new Dispositivo();
+        dispositivo.setCodigoActivo("HIST-1");
+        dispositivo.setTipoDispositivo(tipo);
+        dispositivo.setMarca(marca);
+        dispositivo.setEstadoDispositivo(asignado);
+        entityManager.persist(dispositivo);
+
+        CatArea area = catalogo(new CatArea(), "HIST-AREA");
+        CatPuesto puesto = catalogo(new CatPuesto(), "HIST-PUESTO");
+        puesto.setArea(area);
+        empleado = new Empleado();
+        empleado.setCodigoEmpleado("HIST-EMP");
+        empleado.setNombre("Ana");
+        empleado.setApellidoPaterno("Quispe");
+        empleado.setEmail("ana.hist@empresa.pe");
+        empleado.setArea(area);
+        empleado.setPuesto(puesto);
+        empleado.setSede(catalogo(new CatSede(), "HIST-SEDE"));
+        empleado.setEstadoEmpleado(catalogo(new CatEstadoEmpleado(), "HIST-ESTADO"));
+        empleado.setFechaIngreso(hoy.minusYears(1));
+        entityManager.persist(empleado);
+
+        usuario = new Usuario();
+        usuario.setUsername("hist.admin");
+        usuario.setPasswordHash("x");
+        usuario.setEmail("hist.admin@empresa.pe");
+        usuario.setNombreCompleto("Administrador");
+        usuario.setActivo(true);
+        entityManager.persist(usuario);
+
+        asignacion = new AsignacionDispositivo();
+        asignacion.setDispositivo(dispositivo);
+        asignacion.setEmpleado(empleado);
+        asignacion.setUsuarioAsigna(usuario);
+        asignacion.setEstadoAsignacion(activa);
+        asignacion.setFechaAsignacion(hoy.minusDays(10));
+        entityManager.persist(asignacion);
+        entityManager.flush();
+    }
+
+    @Test
+    void findTenenciaDispositivo_WhenSnapshotThenCancel_ShouldReportNoHolderOnBothPaths() {
+        // La base H2 es compartida con otros tests: el snapshot puede incluir más asignaciones
+        assertTrue(inventarioService.crearSnapshot(hoy.minusDays(5)).getCantidadAsignados() >= 1);
+        assertEquals(empleado.getId(),
+                inventarioService.findTenenciaDispositivo(dispositivo.getId(), hoy.minusDays(1)).empleado().getId());
+
+        asignacionService.cancelar(asignacion.getId(), "Registrada por error");
+        entityManager.flush();
+        entityManager.clear();
+
+        // Desde el snapshot (con reproducción) y antes del snapshot (sin él)
+        TenenciaHistorica conSnapshot = inventarioService.findTenenciaDispositivo(dispositivo.getId(), hoy.minusDays(1));
+        TenenciaHistorica sinSnapshot = inventarioService.findTenenciaDispositivo(dispositivo.getId(), hoy.minusDays(7));
+
+        assertEquals(hoy.minusDays(5), conSnapshot.fechaSnapshot());
+        assertNull(conSnapshot.empleado());
+        assertNull(conSnapshot.asignacionId());
+        assertNull(sinSnapshot.fechaSnapshot());
+        assertNull(sinSnapshot.empleado());
+    }
+
+    @Test
+    void findMovimientosEntre_ShouldFetchOnlyCancelledAssignmentsHeldBySnapshot() {
+        // Historial largo: canceladas antiguas del mismo dispositivo, anteriores al snapshot
+        for (int i = 0; i < 20; i++) {
+            AsignacionDispositivo antigua = new AsignacionDispositivo();
+            antigua.setDispositivo(dispositivo);
+            antigua.setEmpleado(empleado);
+            antigua.setUsuarioAsigna(usuario);
+            antigua.setEstadoAsignacion(cancelada);
+            antigua.setFechaAsignacion(hoy.minusDays(400 - i));
+            entityManager.persist(antigua);
+        }
+        entityManager.flush();
+        InventarioSnapshot snapshot = inventarioService.crearSnapshot(hoy.minusDays(5));
+        asignacionService.cancelar(asignacion.getId(), "Registrada por error");
+        entityManager.flush();
+        entityManager.clear();
+
+        List<AsignacionDispositivo> movimientos = asignacionRepository.findMovimientosEntre(
+                List.of(dispositivo.getId()), snapshot.getId(), hoy.minusDays(5), hoy.minusDays(1));
+        List<AsignacionDispositivo> sinSnapshot = asignacionRepository.findMovimientosEntre(
+                List.of(dispositivo.getId()), null, hoy.minusDays(500), hoy.minusDays(1));
+
+        assertEquals(List.of(asignacion.getId()), movimientos.stream().map(AsignacionDispositivo::getId).toList());
+        assertTrue(sinSnapshot.isEmpty());
+    }
+
+    private <T> T catalogo(T catalogo, String codigo) {
+        switch (catalogo) {
+            case CatTipoDispositivo c -> { c.setCodigo(codigo); c.setNombre(codigo); }
+            case CatMarca c -> { c.setCodigo(codigo); c.setNombre(codigo); }
+            case CatEstadoDispositivo c -> { c.setCodigo(codigo); c.setNombre(codigo); }
+            case CatArea c -> { c.setCodigo(codigo); c.setNombre(codigo); }
+            case CatPuesto c -> { c.setCodigo(codigo); c.setNombre(codigo); }
+            case CatSede c -> { c.setCodigo(codigo); c.setNombre(codigo); }
+            case CatEstadoEmpleado c -> { c.setCodigo(codigo); c.setNombre(codigo); }
+            default -> throw new IllegalArgumentException(catalogo.getClass().getName());
+        }
+        entityManager.persist(catalogo);
+        return catalogo;
+    }
+}
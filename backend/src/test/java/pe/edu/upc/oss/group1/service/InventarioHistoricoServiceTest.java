@@ -0,0 +1,190 @@
+package pe.edu.upc.oss.group1.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import pe.edu.upc.oss.group1.entity.AsignacionDispositivo;
+import pe.edu.upc.oss.group1.entity.Dispositivo;
+import pe.edu.upc.oss.group1.entity.Empleado;
+import pe.edu.upc.oss.group1.entity.InventarioSnapshot;
+import pe.edu.upc.oss.group1.entity.InventarioSnapshotTenencia;
+import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoAsignacion;
+import pe.edu.upc.oss.group1.exception.BusinessValidationException;
+import pe.edu.upc.oss.group1.exception.DuplicateResourceException;
+import pe.edu.upc.oss.group1.repository.AsignacionDispositivoRepository;
+import pe.edu.upc.oss.group1.repository.DispositivoRepository;
+import pe.edu.upc.oss.group1.repository.EmpleadoRepository;
+import pe.edu.upc.oss.group1.repository.InventarioSnapshotRepository;
+import pe.edu.upc.oss.group1.repository.InventarioSnapshotTenenciaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for InventarioHistoricoService.
+ */
+@ExtendWith(MockitoExtension.class)
+class InventarioHistoricoServiceTest {
+
+    private static final LocalDate CORTE = LocalDate.of(2024, 12, 1);
+    private static final LocalDate FECHA = LocalDate.of(2024, 12, 31);
+
+    @Mock
+    private InventarioSnapshotRepository snapshotRepository;
+
+    @Mock
+    private InventarioSnapshotTenenciaRepository snapshotTenenciaRepository;
+
+    @Mock
+    private AsignacionDispositivoRepository asignacionRepository;
+
+    @Mock
+    private DispositivoRepository dispositivoRepository;
+
+    @Mock
+    private EmpleadoRepository empleadoRepository;
+
+    @InjectMocks
+    private InventarioHistoricoService inventarioService;
+
+    private Dispositivo dispositivo;
+    private Empleado ana;
+    private Empleado luis;
+
+    @BeforeEach
+    void setUp() {
+        dispositivo = new Dispositivo();
+        dispositivo.setId(1);
+        ana = empleado(10);
+        luis = empleado(20);
+    }
+
+    @Test
+    void findTenenciaDispositivo_WithoutMovimientos_ShouldReturnSnapshotHolder() {
+        conSnapshotEnPoderDeAna(FECHA);
+        when(asignacionRepository.findMovimientosEntre(List.of(1), 5, CORTE, FECHA)).thenReturn(List.of());
+        when(empleadoRepository.findAllById(any())).thenReturn(List.of(ana));
+
+        TenenciaHistorica tenencia = inventarioService.findTenenciaDispositivo(1, FECHA);
+
+        assertSame(ana, tenencia.empleado());
+        assertEquals(100, tenencia.asignacionId());
+        assertEquals(CORTE, tenencia.fechaSnapshot());
+    }
+
+    @Test
+    void findTenenciaDispositivo_WhenReturnedAndReassignedAfterSnapshot_ShouldReturnNewHolder() {
+        conSnapshotEnPoderDeAna(FECHA);
+        when(asignacionRepository.findMovimientosEntre(List.of(1), 5, CORTE, FECHA)).thenReturn(List.of(
+                asignacion(101, luis, LocalDate.of(2024, 12, 10), null),
+                asignacion(100, ana, LocalDate.of(2024, 6, 1), LocalDate.of(2024, 12, 10))));
+        when(empleadoRepository.findAllById(any())).thenReturn(List.of(luis));
+
+        TenenciaHistorica tenencia = inventarioService.findTenenciaDispositivo(1, FECHA);
+
+        assertSame(luis, tenencia.empleado());
+        assertEquals(101, tenencia.asignacionId());
+    }
+
+    @Test
+    void findTenenciaDispositivo_WhenReturnedOnRequestedDay_ShouldReturnNoHolder() {
+        conSnapshotEnPoderDeAna(FECHA);
+        when(asignacionRepository.findMovimientosEntre(List.of(1), 5, CORTE, FECHA)).thenReturn(List.of(
+                asignacion(100, ana, LocalDate.of(2024, 6, 1), FECHA)));
+
+        TenenciaHistorica tenencia = inventarioService.findTenenciaDispositivo(1, FECHA);
+
+        assertNull(tenencia.empleado());
+        assertNull(tenencia.asignacionId());
+        verify(empleadoRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void findTenenciaDispositivo_WhenSnapshotAssignmentCancelledLater_ShouldReturnNoHolder() {
+        // El snapshot tomó la asignación 100 activa; después se canceló (sin fecha de devolución)
+        conSnapshotEnPoderDeAna(FECHA);
+        AsignacionDispositivo cancelada = asignacion(100, ana, LocalDate.of(2024, 6, 1), null);
+        CatEstadoAsignacion estadoCancelada = new CatEstadoAsignacion();
+        estadoCancelada.setCodigo("CANCELADA");
+        cancelada.setEstadoAsignacion(estadoCancelada);
+        when(asignacionRepository.findMovimientosEntre(List.of(1), 5, CORTE, FECHA)).thenReturn(List.of(cancelada));
+
+        TenenciaHistorica tenencia = inventarioService.findTenenciaDispositivo(1, FECHA);
+
+        assertNull(tenencia.empleado());
+        assertNull(tenencia.asignacionId());
+        verify(empleadoRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void findTenenciaDispositivo_OnSnapshotDate_ShouldNotReplay() {
+        conSnapshotEnPoderDeAna(CORTE);
+        when(empleadoRepository.findAllById(any())).thenReturn(List.of(ana));
+
+        TenenciaHistorica tenencia = inventarioService.findTenenciaDispositivo(1, CORTE);
+
+        assertSame(ana, tenencia.empleado());
+        verify(asignacionRepository, never()).findMovimientosEntre(anyList(), any(), any(), any());
+    }
+
+    @Test
+    void findTenenciaDispositivo_WhenFechaIsFuture_ShouldThrowException() {
+        assertThrows(BusinessValidationException.class,
+                () -> inventarioService.findTenenciaDispositivo(1, LocalDate.now().plusDays(1)));
+    }
+
+    @Test
+    void crearSnapshot_WhenAlreadyExists_ShouldThrowException() {
+        when(snapshotRepository.existsByFechaCorte(CORTE)).thenReturn(true);
+
+        assertThrows(DuplicateResourceException.class, () -> inventarioService.crearSnapshot(CORTE));
+        verify(snapshotTenenciaRepository, never()).copiarAsignacionesVigentes(any(), any());
+    }
+
+    /**
+     * Snapshot al CORTE en el que el dispositivo está en poder de Ana (asignación 100).
+     */
+    private void conSnapshotEnPoderDeAna(LocalDate fechaConsulta) {
+        InventarioSnapshot snapshot = new InventarioSnapshot(CORTE);
+        snapshot.setId(5);
+        when(dispositivoRepository.findById(1)).thenReturn(Optional.of(dispositivo));
+        when(snapshotRepository.findFirstByFechaCorteLessThanEqualOrderByFechaCorteDesc(fechaConsulta))
+                .thenReturn(Optional.of(snapshot));
+        when(snapshotTenenciaRepository.findByIdSnapshotAndIdDispositivoIn(5, List.of(1)))
+                .thenReturn(List.of(tenencia(1, ana.getId(), 100)));
+    }
+
+    private static Empleado empleado(int id) {
+        Empleado empleado = new Empleado();
+        empleado.setId(id);
+        return empleado;
+    }
+
+    private AsignacionDispositivo asignacion(int id, Empleado empleado, LocalDate desde, LocalDate hasta) {
+        AsignacionDispositivo asignacion = new AsignacionDispositivo();
+        asignacion.setId(id);
+        asignacion.setDispositivo(dispositivo);
+        asignacion.setEmpleado(empleado);
+        asignacion.setFechaAsignacion(desde);
+        asignacion.setFechaDevolucion(hasta);
+        return asignacion;
+    }
+
+    private static InventarioSnapshotTenencia tenencia(int dispositivoId, int empleadoId, int asignacionId) {
+        InventarioSnapshotTenencia tenencia = new InventarioSnapshotTenencia();
+        tenencia.setIdSnapshot(5);
+        tenencia.setIdDispositivo(dispositivoId);
+        tenencia.setIdEmpleado(empleadoId);
+        tenencia.setIdAsignacion(asignacionId);
+        return tenencia;
+    }
+}
@@ -0,0 +1,207 @@
+package pe.edu.upc.oss.group1.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.mockito.stubbing.Answer;
+import pe.edu.upc.oss.group1.entity.Empleado;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import pe.edu.upc.oss.group1.entity.TenenciaEmpleado;
+import pe.edu.upc.oss.group1.exception.ResourceNotFoundException;
+import pe.edu.upc.oss.group1.exception.ServicioNoDisponibleException;
+import pe.edu.upc.oss.group1.service.PerfilEmpleado.Seccion;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PerfilEmpleadoService.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PerfilEmpleadoServiceTest {
+
+    private static final int EMPLEADO = 5;
+
+    @Mock
+    private EmpleadoService empleadoService;
+
+    @Mock
+    private TenenciaEmpleadoService tenenciaService;
+
+    @Mock
+    private AsignacionDispositivoService asignacionService;
+
+    @Mock
+    private ReemplazoDispositivoService reemplazoService;
+
+    @Mock
+    private SolicitudDevolucionService solicitudService;
+
+    @Mock
+    private HistorialDispositivoService historialService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PerfilEmpleadoService perfilService;
+
+    @BeforeEach
+    void setUp() {
+        perfilService = crearServicio(3, 5, Duration.ofMillis(500));
+
+        Empleado empleado = new Empleado();
+        empleado.setId(EMPLEADO);
+        when(empleadoService.findById(EMPLEADO)).thenReturn(empleado);
+        when(tenenciaService.findByEmpleado(EMPLEADO)).thenReturn(new TenenciaEmpleado(EMPLEADO));
+        when(tenenciaService.findDispositivos(EMPLEADO)).thenReturn(List.of());
+        when(asignacionService.findActivasByEmpleado(EMPLEADO)).thenReturn(List.of());
+        when(reemplazoService.findByEmpleado(EMPLEADO)).thenReturn(List.of());
+        when(solicitudService.findByEmpleado(EMPLEADO)).thenReturn(List.of());
+        when(historialService.findByEmpleado(EMPLEADO)).thenReturn(List.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        perfilService.destroy();
+    }
+
+    @Test
+    void findByEmpleado_WhenAllSectionsRespond_ShouldBeComplete() {
+        PerfilEmpleado perfil = perfilService.findByEmpleado(EMPLEADO);
+
+        assertTrue(perfil.isCompleto());
+        assertEquals(EMPLEADO, perfil.empleado().getId());
+        assertNotNull(perfil.tenencia());
+        assertNotNull(perfil.historial());
+    }
+
+    @Test
+    void findByEmpleado_WhenSectionIsSlow_ShouldReturnPartialProfile() {
+        when(historialService.findByEmpleado(EMPLEADO)).thenAnswer(demora(5_000, List.of()));
+
+        long inicio = System.nanoTime();
+        PerfilEmpleado perfil = perfilService.findByEmpleado(EMPLEADO);
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - inicio).toMillis() < 3_000);
+        assertNull(perfil.historial());
+        assertEquals("Tiempo de espera agotado", perfil.seccionesIncompletas().get(Seccion.HISTORIAL));
+        assertNotNull(perfil.asignacionesActivas());
+        assertEquals(1, perfil.seccionesIncompletas().size());
+    }
+
+    @Test
+    void findByEmpleado_WhenSectionFails_ShouldReportIt() {
+        when(reemplazoService.findByEmpleado(EMPLEADO)).thenThrow(new IllegalStateException("conexión cerrada"));
+
+        PerfilEmpleado perfil = perfilService.findByEmpleado(EMPLEADO);
+
+        assertNull(perfil.reemplazos());
+        assertEquals("Error al leer la sección", perfil.seccionesIncompletas().get(Seccion.REEMPLAZOS));
+        assertFalse(perfil.isCompleto());
+    }
+
+    @Test
+    void findByEmpleado_WhenEmpleadoNotFound_ShouldPropagate() {
+        when(empleadoService.findById(EMPLEADO)).thenThrow(new ResourceNotFoundException("Empleado no encontrado"));
+
+        assertThrows(ResourceNotFoundException.class, () -> perfilService.findByEmpleado(EMPLEADO));
+    }
+
+    @Test
+    void findByEmpleado_ShouldNotExceedConnectionBudget() {
+        perfilService.destroy();
+        perfilService = crearServicio(2, 5, Duration.ofSeconds(5));
+        AtomicInteger enCurso = new AtomicInteger();
+        AtomicInteger maximo = new AtomicInteger();
+        Answer<Object> medir = inv -> {
+            maximo.accumulateAndGet(enCurso.incrementAndGet(), Math::max);
+            Thread.sleep(50);
+            enCurso.decrementAndGet();
+            return List.of();
+        };
+        when(asignacionService.findActivasByEmpleado(EMPLEADO)).thenAnswer(medir);
+        when(reemplazoService.findByEmpleado(EMPLEADO)).thenAnswer(medir);
+        when(solicitudService.findByEmpleado(EMPLEADO)).thenAnswer(medir);
+        when(historialService.findByEmpleado(EMPLEADO)).thenAnswer(medir);
+
+        PerfilEmpleado perfil = perfilService.findByEmpleado(EMPLEADO);
+
+        assertTrue(perfil.isCompleto());
+        assertTrue(maximo.get() <= 2, "Secciones simultáneas: " + maximo.get());
+    }
+
+    @Test
+    void findByEmpleado_ShouldShareConnectionBudgetAcrossProfiles() throws Exception {
+        perfilService.destroy();
+        perfilService = crearServicio(3, 2, Duration.ofSeconds(5));
+        AtomicInteger enCurso = new AtomicInteger();
+        AtomicInteger maximo = new AtomicInteger();
+        Answer<Object> medir = inv -> {
+            maximo.accumulateAndGet(enCurso.incrementAndGet(), Math::max);
+            Thread.sleep(30);
+            enCurso.decrementAndGet();
+            return List.of();
+        };
+        when(asignacionService.findActivasByEmpleado(EMPLEADO)).thenAnswer(medir);
+        when(reemplazoService.findByEmpleado(EMPLEADO)).thenAnswer(medir);
+        when(solicitudService.findByEmpleado(EMPLEADO)).thenAnswer(medir);
+        when(historialService.findByEmpleado(EMPLEADO)).thenAnswer(medir);
+
+        try (ExecutorService clientes = Executors.newFixedThreadPool(4)) {
+            List<CompletableFuture<PerfilEmpleado>> perfiles = List.of(
+                    CompletableFuture.supplyAsync(() -> perfilService.findByEmpleado(EMPLEADO), clientes),
+                    CompletableFuture.supplyAsync(() -> perfilService.findByEmpleado(EMPLEADO), clientes),
+                    CompletableFuture.supplyAsync(() -> perfilService.findByEmpleado(EMPLEADO), clientes),
+                    CompletableFuture.supplyAsync(() -> perfilService.findByEmpleado(EMPLEADO), clientes));
+            for (CompletableFuture<PerfilEmpleado> perfil : perfiles) {
+                assertTrue(perfil.get().isCompleto());
+            }
+        }
+        assertTrue(maximo.get() <= 2, "Secciones simultáneas entre perfiles: " + maximo.get());
+    }
+
+    @Test
+    void findByEmpleado_WhenEmpleadoIsSlow_ShouldThrowServicioNoDisponible() {
+        when(empleadoService.findById(EMPLEADO)).thenAnswer(demora(5_000, new Empleado()));
+
+        assertThrows(ServicioNoDisponibleException.class, () -> perfilService.findByEmpleado(EMPLEADO));
+    }
+
+    @Test
+    void findByEmpleado_ShouldRunSectionsInReadOnlyTransactionsBoundedByDeadline() {
+        perfilService.findByEmpleado(EMPLEADO);
+
+        ArgumentCaptor<TransactionDefinition> definiciones = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager, times(6)).getTransaction(definiciones.capture());
+        assertTrue(definiciones.getAllValues().stream().allMatch(definicion ->
+                definicion.isReadOnly() && definicion.getTimeout() == 1));
+    }
+
+    private PerfilEmpleadoService crearServicio(int conexiones, int conexionesTotales, Duration timeout) {
+        return new PerfilEmpleadoService(empleadoService, tenenciaService, asignacionService,
+                reemplazoService, solicitudService, historialService, transactionManager,
+                conexiones, conexionesTotales, 10, timeout);
+    }
+
+    private static Answer<Object> demora(long millis, Object resultado) {
+        return inv -> {
+            Thread.sleep(millis);
+            return resultado;
+        };
+    }
+}
@@ -6,11 +6,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import pe.edu.upc.oss.group1.entity.*;
 import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoAsignacion;
 import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoDispositivo;
 import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoReemplazo;
 import pe.edu.upc.oss.group1.entity.catalogo.CatMotivoReemplazo;
+import pe.edu.upc.oss.group1.evento.EventoCicloVida;
 import pe.edu.upc.oss.group1.exception.BusinessValidationException;
 import pe.edu.upc.oss.group1.repository.AsignacionDispositivoRepository;
 import pe.edu.upc.oss.group1.repository.ReemplazoDispositivoRepository;
@@ -36,11 +38,15 @@ class ReemplazoDispositivoServiceTest {
     @Mock
     private HistorialDispositivoService historialService;
     @Mock
+    private TenenciaEmpleadoService tenenciaService;
+    @Mock
     private CatEstadoReemplazoRepository estadoReemplazoRepository;
     @Mock
     private CatEstadoDispositivoRepository estadoDispositivoRepository;
     @Mock
     private CatEstadoAsignacionRepository estadoAsignacionRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private ReemplazoDispositivoService reemplazoService;
@@ -184,6 +190,9 @@ class ReemplazoDispositivoServiceTest {
         verify(asignacionRepository, times(2)).save(any(AsignacionDispositivo.class)); // 1 update, 1 create
         verify(historialService).registrarReemplazo(any(), any(), any(), any(), any());
         verify(historialService).registrarAsignacion(any(), any(), any());
+        verify(tenenciaService).registrarLiberacion(empleado.getId(), dispositivoOriginal.getId());
+        verify(tenenciaService).registrarEntrega(empleado.getId(), dispositivoReemplazo);
+        verify(eventPublisher).publishEvent(any(EventoCicloVida.class));
     }
 
     @Test
@@ -0,0 +1,158 @@
+package pe.edu.upc.oss.group1.service;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import pe.edu.upc.oss.group1.entity.BaseEntity;
+import pe.edu.upc.oss.group1.entity.Dispositivo;
+import pe.edu.upc.oss.group1.entity.RegistroEliminado;
+import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoDispositivo;
+import pe.edu.upc.oss.group1.entity.catalogo.CatMarca;
+import pe.edu.upc.oss.group1.entity.catalogo.CatTipoDispositivo;
+import pe.edu.upc.oss.group1.exception.BusinessValidationException;
+import pe.edu.upc.oss.group1.repository.DispositivoRepository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica la sincronización incremental sobre la base real (H2): paginación por keyset entre
+ * flujos, entrega de solo lo modificado después de la marca y lápidas de eliminación.
+ * En H2 no está el trigger de ultima_actualizacion; las pruebas la asignan con SQL.
+ */
+@SpringBootTest
+@Transactional
+class SincronizacionServiceIntegrationTest {
+
+    @Autowired
+    private SincronizacionService sincronizacionService;
+
+    @Autowired
+    private DispositivoService dispositivoService;
+
+    @Autowired
+    private DispositivoRepository dispositivoRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private CatMarca marca;
+    private List<Integer> dispositivoIds;
+
+    @BeforeEach
+    void setUp() {
+        CatTipoDispositivo tipo = new CatTipoDispositivo();
+        tipo.setCodigo("SYNC-TIPO");
+        tipo.setNombre("Tablet");
+        entityManager.persist(tipo);
+
+        marca = new CatMarca();
+        marca.setCodigo("SYNC-MARCA");
+        marca.setNombre("Marca sincronizada");
+        entityManager.persist(marca);
+
+        CatEstadoDispositivo estado = new CatEstadoDispositivo();
+        estado.setCodigo("SYNC-ESTADO");
+        estado.setNombre("Disponible");
+        entityManager.persist(estado);
+
+        dispositivoIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Dispositivo dispositivo = new Dispositivo();
+            dispositivo.setCodigoActivo("SYNC-" + i);
+            dispositivo.setTipoDispositivo(tipo);
+            dispositivo.setMarca(marca);
+            dispositivo.setEstadoDispositivo(estado);
+            dispositivoIds.add(dispositivoRepository.save(dispositivo).getId());
+        }
+        // Se leen de la base, como en una petición: la BD guarda las fechas en microsegundos
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findCambios_WhenSinMarca_ShouldPageFullCopyAcrossFlujos() {
+        CambiosSincronizacion primera = sincronizacionService.findCambios(null, 2);
+        assertTrue(primera.reiniciar());
+
+        List<Integer> recibidos = new ArrayList<>();
+        List<BaseEntity> marcas = new ArrayList<>();
+        CambiosSincronizacion pagina = primera;
+        int paginas = 1;
+        while (true) {
+            assertTrue(pagina.catalogos().values().stream().mapToInt(List::size).sum()
+                    + pagina.empleados().size() + pagina.dispositivos().size() + pagina.asignaciones().size() <= 2);
+            pagina.dispositivos().forEach(dispositivo -> recibidos.add(dispositivo.getId()));
+            marcas.addAll(pagina.catalogos().getOrDefault("marcas", List.of()));
+            if (!pagina.hayMas()) {
+                break;
+            }
+            pagina = sincronizacionService.findCambios(pagina.marca(), 2);
+            assertFalse(pagina.reiniciar());
+            paginas++;
+        }
+
+        assertTrue(paginas > 3);
+        assertTrue(recibidos.containsAll(dispositivoIds));
+        assertEquals(recibidos.size(), recibidos.stream().distinct().count());
+        assertTrue(marcas.stream().anyMatch(m -> m.getId().equals(marca.getId())));
+        assertTrue(pagina.eliminados().isEmpty());
+    }
+
+    @Test
+    void findCambios_WhenMarcaDeSincronizacionAnterior_ShouldReturnOnlyChangesAndDeletes() {
+        LocalDateTime ayer = LocalDateTime.now().minusDays(1);
+        jdbcTemplate.update("UPDATE dispositivo SET fecha_creacion = ? WHERE codigo_activo LIKE 'SYNC-%'",
+                Timestamp.valueOf(ayer));
+        entityManager.clear();
+        String marcaAnterior = MarcaSincronizacion.entre(ayer.plusHours(1)).codificar();
+
+        Integer modificado = dispositivoIds.get(1);
+        Integer eliminado = dispositivoIds.get(3);
+        jdbcTemplate.update("UPDATE dispositivo SET ultima_actualizacion = ? WHERE id = ?",
+                Timestamp.valueOf(LocalDateTime.now()), modificado);
+        dispositivoService.delete(eliminado);
+        entityManager.flush();
+        entityManager.clear();
+
+        CambiosSincronizacion cambios = sincronizacionService.findCambios(marcaAnterior, 500);
+
+        List<Integer> recibidos = cambios.dispositivos().stream().map(Dispositivo::getId).toList();
+        assertFalse(cambios.reiniciar());
+        assertFalse(cambios.hayMas());
+        assertTrue(recibidos.contains(modificado));
+        assertFalse(recibidos.contains(dispositivoIds.get(0)));
+        assertFalse(recibidos.contains(eliminado));
+        assertTrue(cambios.eliminados().stream().anyMatch(registro ->
+                RegistroEliminado.DISPOSITIVOS.equals(registro.getEntidad())
+                        && registro.getIdRegistro().equals(eliminado)));
+        assertFalse(MarcaSincronizacion.decodificar(cambios.marca()).isEnCurso());
+    }
+
+    @Test
+    void findCambios_WhenMarcaAnteriorALaRetencion_ShouldRestartWithFullCopy() {
+        String vencida = MarcaSincronizacion.entre(LocalDateTime.now().minusDays(90)).codificar();
+
+        CambiosSincronizacion cambios = sincronizacionService.findCambios(vencida, 500);
+
+        assertTrue(cambios.reiniciar());
+        assertTrue(cambios.dispositivos().stream().map(Dispositivo::getId).toList().containsAll(dispositivoIds));
+    }
+
+    @Test
+    void findCambios_WhenMarcaInvalida_ShouldThrowBusinessValidation() {
+        assertThrows(BusinessValidationException.class, () -> sincronizacionService.findCambios("no-es-una-marca", 10));
+        assertThrows(BusinessValidationException.class, () -> sincronizacionService.findCambios(null, 0));
+    }
+}
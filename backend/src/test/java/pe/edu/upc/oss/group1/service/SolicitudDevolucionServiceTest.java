@@ -0,0 +1,194 @@
+package pe.edu.upc.oss.group1.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import pe.edu.upc.oss.group1.entity.DetalleDevolucion;
+import pe.edu.upc.oss.group1.entity.Empleado;
+import pe.edu.upc.oss.group1.entity.SolicitudDevolucion;
+import pe.edu.upc.oss.group1.entity.Usuario;
+import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoAsignacion;
+import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoDispositivo;
+import pe.edu.upc.oss.group1.entity.catalogo.CatEstadoSolicitud;
+import pe.edu.upc.oss.group1.entity.catalogo.CatTipoMovimiento;
+import pe.edu.upc.oss.group1.evento.EventoCicloVida;
+import pe.edu.upc.oss.group1.exception.BusinessValidationException;
+import pe.edu.upc.oss.group1.repository.AsignacionDispositivoRepository;
+import pe.edu.upc.oss.group1.repository.DetalleDevolucionRepository;
+import pe.edu.upc.oss.group1.repository.DetalleDevolucionRepository.DevolucionPendiente;
+import pe.edu.upc.oss.group1.repository.DispositivoRepository;
+import pe.edu.upc.oss.group1.repository.HistorialDispositivoRepository;
+import pe.edu.upc.oss.group1.repository.SolicitudDevolucionRepository;
+import pe.edu.upc.oss.group1.repository.TenenciaEmpleadoDispositivoRepository;
+import pe.edu.upc.oss.group1.repository.TenenciaEmpleadoRepository;
+import pe.edu.upc.oss.group1.repository.catalogo.CatEstadoAsignacionRepository;
+import pe.edu.upc.oss.group1.repository.catalogo.CatEstadoDispositivoRepository;
+import pe.edu.upc.oss.group1.repository.catalogo.CatEstadoSolicitudRepository;
+import pe.edu.upc.oss.group1.repository.catalogo.CatTipoMovimientoRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for SolicitudDevolucionService.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SolicitudDevolucionServiceTest {
+
+    private static final int SOLICITUD = 7;
+    private static final int ASIGNACION_ACTIVA = 1;
+    private static final int ASIGNACION_DEVUELTA = 2;
+    private static final int DISPOSITIVO_DISPONIBLE = 3;
+    private static final int DISPOSITIVO_REVISION = 4;
+    private static final int USUARIO_SOLICITA = 20;
+
+    @Mock
+    private SolicitudDevolucionRepository solicitudRepository;
+
+    @Mock
+    private DetalleDevolucionRepository detalleRepository;
+
+    @Mock
+    private AsignacionDispositivoRepository asignacionRepository;
+
+    @Mock
+    private DispositivoRepository dispositivoRepository;
+
+    @Mock
+    private HistorialDispositivoRepository historialRepository;
+
+    @Mock
+    private TenenciaEmpleadoRepository tenenciaRepository;
+
+    @Mock
+    private TenenciaEmpleadoDispositivoRepository tenenciaDispositivoRepository;
+
+    @Mock
+    private EmpleadoService empleadoService;
+
+    @Mock
+    private CatEstadoSolicitudRepository estadoSolicitudRepository;
+
+    @Mock
+    private CatEstadoAsignacionRepository estadoAsignacionRepository;
+
+    @Mock
+    private CatEstadoDispositivoRepository estadoDispositivoRepository;
+
+    @Mock
+    private CatTipoMovimientoRepository tipoMovimientoRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private SolicitudDevolucionService solicitudService;
+
+    private SolicitudDevolucion solicitud;
+
+    @BeforeEach
+    void setUp() {
+        Empleado empleado = new Empleado();
+        empleado.setId(50);
+        Usuario solicita = new Usuario();
+        solicita.setId(USUARIO_SOLICITA);
+
+        solicitud = new SolicitudDevolucion();
+        solicitud.setId(SOLICITUD);
+        solicitud.setEmpleado(empleado);
+        solicitud.setUsuarioSolicita(solicita);
+        solicitud.setEstadoSolicitud(estadoSolicitud("PENDIENTE"));
+        solicitud.setDetalles(List.of(new DetalleDevolucion(), new DetalleDevolucion()));
+
+        when(solicitudRepository.findByIdWithDetalles(SOLICITUD)).thenReturn(Optional.of(solicitud));
+        when(solicitudRepository.save(any(SolicitudDevolucion.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(estadoSolicitudRepository.findByCodigo("COMPLETADA")).thenReturn(Optional.of(estadoSolicitud("COMPLETADA")));
+        when(estadoAsignacionRepository.findByCodigo("ACTIVA")).thenReturn(Optional.of(estadoAsignacion(ASIGNACION_ACTIVA)));
+        when(estadoAsignacionRepository.findByCodigo("DEVUELTA")).thenReturn(Optional.of(estadoAsignacion(ASIGNACION_DEVUELTA)));
+        when(estadoDispositivoRepository.findByCodigo("DISPONIBLE")).thenReturn(Optional.of(estadoDispositivo(DISPOSITIVO_DISPONIBLE)));
+        when(estadoDispositivoRepository.findByCodigo("EN_REVISION")).thenReturn(Optional.of(estadoDispositivo(DISPOSITIVO_REVISION)));
+        when(tipoMovimientoRepository.findByCodigo("DEVOLUCION")).thenReturn(Optional.of(new CatTipoMovimiento()));
+    }
+
+    @Test
+    void completar_ShouldCloseActiveAssignmentsWithSetBasedStatements() {
+        DevolucionPendiente primera = devolucion(100, 10);
+        DevolucionPendiente segunda = devolucion(101, 11);
+        when(detalleRepository.bloquearDevolucionesPendientes(SOLICITUD, ASIGNACION_ACTIVA))
+                .thenReturn(List.of(primera, segunda));
+
+        SolicitudDevolucion result = solicitudService.completar(SOLICITUD, null);
+
+        assertEquals("COMPLETADA", result.getEstadoSolicitud().getCodigo());
+        assertNotNull(result.getFechaDevolucionReal());
+        InOrder orden = inOrder(tenenciaRepository, tenenciaDispositivoRepository, historialRepository,
+                dispositivoRepository, asignacionRepository);
+        orden.verify(tenenciaRepository).liberarPorSolicitud(SOLICITUD, ASIGNACION_ACTIVA);
+        orden.verify(tenenciaDispositivoRepository).liberarPorSolicitud(SOLICITUD, ASIGNACION_ACTIVA);
+        orden.verify(historialRepository).registrarDevoluciones(eq(SOLICITUD), eq(ASIGNACION_ACTIVA), any(), eq(USUARIO_SOLICITA));
+        orden.verify(dispositivoRepository).liberarPorSolicitud(SOLICITUD, ASIGNACION_ACTIVA,
+                SolicitudDevolucionService.CONDICIONES_REVISION, DISPOSITIVO_REVISION, DISPOSITIVO_DISPONIBLE);
+        orden.verify(asignacionRepository).devolverPorSolicitud(SOLICITUD, ASIGNACION_ACTIVA, ASIGNACION_DEVUELTA, null);
+        verify(eventPublisher, times(3)).publishEvent(any(EventoCicloVida.class));
+    }
+
+    @Test
+    void completar_WhenAssignmentsAlreadyClosed_ShouldOnlyCompleteSolicitud() {
+        when(detalleRepository.bloquearDevolucionesPendientes(SOLICITUD, ASIGNACION_ACTIVA)).thenReturn(List.of());
+
+        solicitudService.completar(SOLICITUD, null);
+
+        verify(asignacionRepository, never()).devolverPorSolicitud(anyInt(), anyInt(), anyInt(), any());
+        verify(historialRepository, never()).registrarDevoluciones(anyInt(), anyInt(), any(), any());
+        verify(solicitudRepository).save(solicitud);
+        verify(eventPublisher, times(1)).publishEvent(any(EventoCicloVida.class));
+    }
+
+    @Test
+    void completar_WhenNotPendiente_ShouldThrow() {
+        solicitud.setEstadoSolicitud(estadoSolicitud("COMPLETADA"));
+
+        assertThrows(BusinessValidationException.class, () -> solicitudService.completar(SOLICITUD, null));
+        verify(detalleRepository, never()).bloquearDevolucionesPendientes(anyInt(), anyInt());
+    }
+
+    private static CatEstadoSolicitud estadoSolicitud(String codigo) {
+        CatEstadoSolicitud estado = new CatEstadoSolicitud();
+        estado.setCodigo(codigo);
+        return estado;
+    }
+
+    private static CatEstadoAsignacion estadoAsignacion(int id) {
+        CatEstadoAsignacion estado = new CatEstadoAsignacion();
+        estado.setId(id);
+        return estado;
+    }
+
+    private static CatEstadoDispositivo estadoDispositivo(int id) {
+        CatEstadoDispositivo estado = new CatEstadoDispositivo();
+        estado.setId(id);
+        return estado;
+    }
+
+    private static DevolucionPendiente devolucion(int asignacionId, int dispositivoId) {
+        DevolucionPendiente devolucion = mock(DevolucionPendiente.class);
+        when(devolucion.getAsignacionId()).thenReturn(asignacionId);
+        when(devolucion.getDispositivoId()).thenReturn(dispositivoId);
+        when(devolucion.getCodigoActivo()).thenReturn("DEV-" + dispositivoId);
+        return devolucion;
+    }
+}
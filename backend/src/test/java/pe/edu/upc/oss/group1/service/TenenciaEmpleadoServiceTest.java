@@ -0,0 +1,104 @@
+package pe.edu.upc.oss.group1.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import pe.edu.upc.oss.group1.entity.Dispositivo;
+import pe.edu.upc.oss.group1.entity.TenenciaEmpleadoDispositivo;
+import pe.edu.upc.oss.group1.entity.catalogo.CatTipoDispositivo;
+import pe.edu.upc.oss.group1.repository.TenenciaEmpleadoDispositivoRepository;
+import pe.edu.upc.oss.group1.repository.TenenciaEmpleadoRepository;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TenenciaEmpleadoService.
+ */
+@ExtendWith(MockitoExtension.class)
+class TenenciaEmpleadoServiceTest {
+
+    @Mock
+    private TenenciaEmpleadoRepository tenenciaRepository;
+
+    @Mock
+    private TenenciaEmpleadoDispositivoRepository tenenciaDispositivoRepository;
+
+    @InjectMocks
+    private TenenciaEmpleadoService tenenciaService;
+
+    private Dispositivo dispositivo;
+
+    @BeforeEach
+    void setUp() {
+        CatTipoDispositivo laptop = new CatTipoDispositivo();
+        laptop.setId(3);
+
+        dispositivo = new Dispositivo();
+        dispositivo.setId(10);
+        dispositivo.setTipoDispositivo(laptop);
+        dispositivo.setValorAdquisicion(new BigDecimal("1500.00"));
+    }
+
+    @Test
+    void registrarEntrega_ShouldUpsertSummaryBeforeDeviceRow() {
+        tenenciaService.registrarEntrega(1, dispositivo);
+
+        InOrder orden = inOrder(tenenciaRepository, tenenciaDispositivoRepository);
+        orden.verify(tenenciaRepository).sumar(1, 1, new BigDecimal("1500.00"));
+        ArgumentCaptor<TenenciaEmpleadoDispositivo> captor = ArgumentCaptor.forClass(TenenciaEmpleadoDispositivo.class);
+        orden.verify(tenenciaDispositivoRepository).save(captor.capture());
+        assertEquals(10, captor.getValue().getIdDispositivo());
+        assertEquals(3, captor.getValue().getIdTipoDispositivo());
+        assertTrue(captor.getValue().isNew());
+        verify(tenenciaRepository, never()).save(any());
+    }
+
+    @Test
+    void registrarEntrega_WithoutValorAdquisicion_ShouldAddZero() {
+        dispositivo.setValorAdquisicion(null);
+
+        tenenciaService.registrarEntrega(1, dispositivo);
+
+        verify(tenenciaRepository).sumar(1, 1, BigDecimal.ZERO);
+    }
+
+    @Test
+    void registrarLiberacion_ShouldSubtractValueRecordedAtDelivery() {
+        TenenciaEmpleadoDispositivo tenencia = new TenenciaEmpleadoDispositivo(10, 1, 3, new BigDecimal("1200.00"));
+        when(tenenciaDispositivoRepository.findById(10)).thenReturn(Optional.of(tenencia));
+
+        tenenciaService.registrarLiberacion(1, 10);
+
+        verify(tenenciaDispositivoRepository).delete(tenencia);
+        verify(tenenciaRepository).ajustar(1, -1, new BigDecimal("-1200.00"));
+    }
+
+    @Test
+    void registrarLiberacion_WhenHeldByOtherEmpleado_ShouldNotAdjust() {
+        TenenciaEmpleadoDispositivo tenencia = new TenenciaEmpleadoDispositivo(10, 2, 3, BigDecimal.TEN);
+        when(tenenciaDispositivoRepository.findById(10)).thenReturn(Optional.of(tenencia));
+
+        tenenciaService.registrarLiberacion(1, 10);
+
+        verify(tenenciaDispositivoRepository, never()).delete(any());
+        verify(tenenciaRepository, never()).ajustar(anyInt(), anyInt(), any());
+    }
+
+    @Test
+    void contarDispositivos_WhenNoTenencia_ShouldReturnZero() {
+        when(tenenciaRepository.findById(5)).thenReturn(Optional.empty());
+
+        assertEquals(0, tenenciaService.contarDispositivos(5));
+    }
+}
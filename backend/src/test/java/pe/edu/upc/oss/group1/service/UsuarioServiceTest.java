@@ -1,16 +1,21 @@
 package pe.edu.upc.oss.group1.service;
 
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import pe.edu.upc.oss.group1.entity.Usuario;
 import pe.edu.upc.oss.group1.exception.DuplicateResourceException;
 import pe.edu.upc.oss.group1.exception.ResourceNotFoundException;
 import pe.edu.upc.oss.group1.repository.UsuarioRepository;
+import pe.edu.upc.oss.group1.unicidad.VerificadorUnicidad;
 
+import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -25,6 +30,9 @@ class UsuarioServiceTest {
     @Mock
     private UsuarioRepository usuarioRepository;
 
+    @Spy
+    private VerificadorUnicidad verificadorUnicidad = new VerificadorUnicidad();
+
     @InjectMocks
     private UsuarioService usuarioService;
 
@@ -115,32 +123,33 @@ class UsuarioServiceTest {
     }
 
     @Test
-    void create_WhenValid_ShouldCreateUser() {
-        when(usuarioRepository.existsByUsername(any())).thenReturn(false);
-        when(usuarioRepository.existsByEmail(any())).thenReturn(false);
-        when(usuarioRepository.save(any(Usuario.class))).thenReturn(usuario);
+    void create_WhenValid_ShouldCreateUserWithoutExistsQueries() {
+        when(usuarioRepository.saveAndFlush(any(Usuario.class))).thenReturn(usuario);
 
         Usuario result = usuarioService.create(usuario);
 
         assertNotNull(result);
-        verify(usuarioRepository).save(usuario);
+        verify(usuarioRepository).saveAndFlush(usuario);
+        verify(usuarioRepository, never()).existsByUsername(any());
+        verify(usuarioRepository, never()).existsByEmail(any());
     }
 
     @Test
     void create_WhenUsernameExists_ShouldThrowException() {
-        when(usuarioRepository.existsByUsername(usuario.getUsername())).thenReturn(true);
+        when(usuarioRepository.saveAndFlush(any(Usuario.class))).thenThrow(violacionUnica("uk_usuario_username"));
 
-        assertThrows(DuplicateResourceException.class, () -> usuarioService.create(usuario));
-        verify(usuarioRepository, never()).save(any());
+        DuplicateResourceException ex = assertThrows(DuplicateResourceException.class,
+                () -> usuarioService.create(usuario));
+        assertEquals("Ya existe un usuario con el username: jperez", ex.getMessage());
     }
 
     @Test
     void create_WhenEmailExists_ShouldThrowException() {
-        when(usuarioRepository.existsByUsername(usuario.getUsername())).thenReturn(false);
-        when(usuarioRepository.existsByEmail(usuario.getEmail())).thenReturn(true);
+        when(usuarioRepository.saveAndFlush(any(Usuario.class))).thenThrow(violacionUnica("uk_usuario_email"));
 
-        assertThrows(DuplicateResourceException.class, () -> usuarioService.create(usuario));
-        verify(usuarioRepository, never()).save(any());
+        DuplicateResourceException ex = assertThrows(DuplicateResourceException.class,
+                () -> usuarioService.create(usuario));
+        assertEquals("Ya existe un usuario con el email: jperez@example.com", ex.getMessage());
     }
 
     @Test
@@ -152,14 +161,13 @@ class UsuarioServiceTest {
         updatedData.setPasswordHash("new_hash");
 
         when(usuarioRepository.findById(1)).thenReturn(Optional.of(usuario));
-        when(usuarioRepository.existsByUsername("jperez_updated")).thenReturn(false);
-        when(usuarioRepository.save(any(Usuario.class))).thenAnswer(i -> i.getArguments()[0]);
+        when(usuarioRepository.saveAndFlush(any(Usuario.class))).thenAnswer(i -> i.getArguments()[0]);
 
         Usuario result = usuarioService.update(1, updatedData);
 
         assertEquals("jperez_updated", result.getUsername());
         assertEquals("new_hash", result.getPasswordHash());
-        verify(usuarioRepository).save(any(Usuario.class));
+        verify(usuarioRepository).saveAndFlush(any(Usuario.class));
     }
 
     @Test
@@ -169,10 +177,11 @@ class UsuarioServiceTest {
         updatedData.setEmail("jperez@example.com");
 
         when(usuarioRepository.findById(1)).thenReturn(Optional.of(usuario));
-        when(usuarioRepository.existsByUsername("existing_user")).thenReturn(true);
+        when(usuarioRepository.saveAndFlush(any(Usuario.class))).thenThrow(violacionUnica("uk_usuario_username"));
 
-        assertThrows(DuplicateResourceException.class, () -> usuarioService.update(1, updatedData));
-        verify(usuarioRepository, never()).save(any());
+        DuplicateResourceException ex = assertThrows(DuplicateResourceException.class,
+                () -> usuarioService.update(1, updatedData));
+        assertEquals("Ya existe un usuario con el username: existing_user", ex.getMessage());
     }
 
     @Test
@@ -182,10 +191,11 @@ class UsuarioServiceTest {
         updatedData.setEmail("existing@example.com");
 
         when(usuarioRepository.findById(1)).thenReturn(Optional.of(usuario));
-        when(usuarioRepository.existsByEmail("existing@example.com")).thenReturn(true);
+        when(usuarioRepository.saveAndFlush(any(Usuario.class))).thenThrow(violacionUnica("uk_usuario_email"));
 
-        assertThrows(DuplicateResourceException.class, () -> usuarioService.update(1, updatedData));
-        verify(usuarioRepository, never()).save(any());
+        DuplicateResourceException ex = assertThrows(DuplicateResourceException.class,
+                () -> usuarioService.update(1, updatedData));
+        assertEquals("Ya existe un usuario con el email: existing@example.com", ex.getMessage());
     }
 
     @Test
@@ -207,4 +217,9 @@ class UsuarioServiceTest {
 
         verify(usuarioRepository).delete(usuario);
     }
+
+    private static DataIntegrityViolationException violacionUnica(String restriccion) {
+        return new DataIntegrityViolationException("duplicate key",
+                new ConstraintViolationException("duplicate key", new SQLException("duplicate key", "23505"), restriccion));
+    }
 }
@@ -0,0 +1,64 @@
+package pe.edu.upc.oss.group1.sugerencia;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for IndiceSugerencias.
+ */
+class IndiceSugerenciasTest {
+
+    private static final Sugerencia LAPTOP = new Sugerencia(1, "LAP", "Laptop", null, true);
+    private static final Sugerencia LAPTOP_GAMER = new Sugerencia(2, "LAPG", "Laptop Gamer", null, true);
+    private static final Sugerencia LAPIZ = new Sugerencia(3, "LOP", "Lápiz Óptico", null, true);
+    private static final Sugerencia TABLET = new Sugerencia(4, "TAB", "Tablet", null, false);
+    private static final Sugerencia DOCKING = new Sugerencia(5, "DOCK", "Docking Station Laptop", null, true);
+
+    private final IndiceSugerencias indice = IndiceSugerencias.de(List.of(LAPTOP, LAPTOP_GAMER, LAPIZ, TABLET, DOCKING));
+
+    @Test
+    void sugerir_ShouldIgnoreCaseAndAccents() {
+        assertEquals(List.of(LAPIZ), indice.sugerir("LAPIZ opt", 10, true));
+        assertEquals(List.of(LAPIZ), indice.sugerir("óptico", 10, true));
+    }
+
+    @Test
+    void sugerir_ShouldRankExactCodeThenNamePrefixThenWordPrefix() {
+        assertEquals(List.of(LAPTOP, LAPTOP_GAMER, DOCKING), indice.sugerir("laptop", 10, true));
+        assertEquals(List.of(LAPTOP_GAMER), indice.sugerir("lapg", 10, true));
+        // A igual puntaje: nombre más corto y luego orden alfabético
+        assertEquals(List.of(LAPTOP, LAPIZ, LAPTOP_GAMER, DOCKING), indice.sugerir("lap", 10, true));
+    }
+
+    @Test
+    void sugerir_ShouldMatchEveryWordAsPrefix() {
+        assertEquals(List.of(DOCKING), indice.sugerir("sta lap", 10, true));
+    }
+
+    @Test
+    void sugerir_ShouldMatchInsideWordsWithTrigrams() {
+        assertEquals(List.of(LAPTOP, LAPTOP_GAMER, DOCKING), indice.sugerir("ptop", 10, true));
+        assertEquals(List.of(), indice.sugerir("xyz", 10, true));
+    }
+
+    @Test
+    void sugerir_ShouldFilterInactiveAndApplyLimit() {
+        assertEquals(List.of(), indice.sugerir("tab", 10, true));
+        assertEquals(List.of(TABLET), indice.sugerir("tab", 10, false));
+        assertEquals(2, indice.sugerir("l", 2, true).size());
+        assertEquals(List.of(), indice.sugerir("  ", 10, true));
+    }
+
+    @Test
+    void sugerir_ShouldSearchByAlias() {
+        IndiceSugerencias proveedores = IndiceSugerencias.de(List.of(
+                new Sugerencia(1, "PROV-1", "Distribuidora Andina S.A.C.", "TecnoPerú", true)));
+
+        assertEquals(1, proveedores.sugerir("tecnoperu", 10, true).size());
+        assertEquals(1, proveedores.sugerir("andina", 10, true).size());
+        assertEquals(1, proveedores.sugerir("prov 1", 10, true).size());
+    }
+}
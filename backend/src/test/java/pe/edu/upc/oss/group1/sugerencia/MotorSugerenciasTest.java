@@ -0,0 +1,76 @@
+package pe.edu.upc.oss.group1.sugerencia;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pe.edu.upc.oss.group1.cache.CacheNames;
+import pe.edu.upc.oss.group1.exception.BusinessValidationException;
+import pe.edu.upc.oss.group1.exception.ResourceNotFoundException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MotorSugerencias.
+ */
+class MotorSugerenciasTest {
+
+    private final List<Sugerencia> marcas = new ArrayList<>(List.of(new Sugerencia(1, "DELL", "Dell", null, true)));
+    private final AtomicInteger lecturasMarcas = new AtomicInteger();
+    private final AtomicInteger lecturasSedes = new AtomicInteger();
+
+    private MotorSugerencias motor;
+
+    @BeforeEach
+    void setUp() {
+        motor = new MotorSugerencias(List.of(
+                new FuenteSugerencias("marcas", CacheNames.CAT_MARCA, () -> {
+                    lecturasMarcas.incrementAndGet();
+                    return List.copyOf(marcas);
+                }),
+                new FuenteSugerencias("sedes", CacheNames.CAT_SEDE, () -> {
+                    lecturasSedes.incrementAndGet();
+                    return List.of(new Sugerencia(1, "LIM", "Sede Lima", null, true));
+                })));
+    }
+
+    @Test
+    void sugerir_ShouldBuildIndexOnceAndReuseIt() {
+        motor.sugerir("marcas", "d", 10, true);
+        motor.sugerir("marcas", "de", 10, true);
+        motor.sugerir("marcas", "del", 10, true);
+
+        assertEquals(1, lecturasMarcas.get());
+        assertEquals(0, lecturasSedes.get());
+    }
+
+    @Test
+    void onInvalidacion_ShouldRebuildOnlyTheAffectedCatalog() {
+        motor.sugerir("marcas", "d", 10, true);
+        motor.sugerir("sedes", "l", 10, true);
+        marcas.add(new Sugerencia(2, "DLINK", "D-Link", null, true));
+
+        motor.onInvalidacion(CacheNames.CAT_MARCA);
+
+        assertEquals(2, motor.sugerir("marcas", "d", 10, true).size());
+        motor.sugerir("sedes", "l", 10, true);
+        assertEquals(2, lecturasMarcas.get());
+        assertEquals(1, lecturasSedes.get());
+    }
+
+    @Test
+    void getRegiones_ShouldContainEveryCatalogRegion() {
+        assertEquals(Set.of(CacheNames.CAT_MARCA, CacheNames.CAT_SEDE), motor.getRegiones());
+    }
+
+    @Test
+    void sugerir_WithUnknownCatalogOrInvalidLimit_ShouldThrow() {
+        assertThrows(ResourceNotFoundException.class, () -> motor.sugerir("colores", "a", 10, true));
+        assertThrows(BusinessValidationException.class, () -> motor.sugerir("marcas", "a", 0, true));
+        assertThrows(BusinessValidationException.class,
+                () -> motor.sugerir("marcas", "a", MotorSugerencias.LIMITE_MAXIMO + 1, true));
+    }
+}
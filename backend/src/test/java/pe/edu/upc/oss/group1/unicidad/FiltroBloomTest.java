@@ -0,0 +1,47 @@
+package pe.edu.upc.oss.group1.unicidad;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for FiltroBloom.
+ */
+class FiltroBloomTest {
+
+    @Test
+    void puedeContener_ShouldNeverMissAddedValues() {
+        FiltroBloom filtro = new FiltroBloom(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filtro.agregar("ACT-" + i);
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filtro.puedeContener("ACT-" + i));
+        }
+    }
+
+    @Test
+    void puedeContener_ShouldKeepFalsePositivesNearConfiguredRate() {
+        FiltroBloom filtro = new FiltroBloom(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filtro.agregar("ACT-" + i);
+        }
+
+        int falsosPositivos = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filtro.puedeContener("NUEVO-" + i)) {
+                falsosPositivos++;
+            }
+        }
+        assertTrue(falsosPositivos < 300, "Falsos positivos: " + falsosPositivos);
+    }
+
+    @Test
+    void puedeContener_WhenEmpty_ShouldRejectEverything() {
+        FiltroBloom filtro = new FiltroBloom(0, 0.01);
+
+        assertFalse(filtro.puedeContener("ACT-1"));
+        assertFalse(filtro.puedeContener(""));
+    }
+}
@@ -0,0 +1,63 @@
+package pe.edu.upc.oss.group1.unicidad;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import pe.edu.upc.oss.group1.entity.catalogo.CatProveedor;
+import pe.edu.upc.oss.group1.entity.catalogo.CatSede;
+import pe.edu.upc.oss.group1.exception.DuplicateResourceException;
+import pe.edu.upc.oss.group1.service.CatProveedorService;
+import pe.edu.upc.oss.group1.service.CatSedeService;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica que las restricciones con nombre de las entidades se reconozcan al violarse
+ * en la base real (H2), sin consultas existsBy* previas.
+ */
+@SpringBootTest
+@Transactional
+class VerificadorUnicidadIntegrationTest {
+
+    @Autowired
+    private CatSedeService sedeService;
+
+    @Autowired
+    private CatProveedorService proveedorService;
+
+    @Test
+    void create_WhenCodigoAlreadyExists_ShouldThrowDuplicateResource() {
+        sedeService.create(sede("UNI-SEDE"));
+
+        DuplicateResourceException ex = assertThrows(DuplicateResourceException.class,
+                () -> sedeService.create(sede("UNI-SEDE")));
+
+        assertEquals("Sede ya existe con código: 'UNI-SEDE'", ex.getMessage());
+    }
+
+    @Test
+    void create_WhenRucAlreadyExists_ShouldThrowDuplicateResource() {
+        proveedorService.create(proveedor("UNI-P1", "20999999991"));
+
+        DuplicateResourceException ex = assertThrows(DuplicateResourceException.class,
+                () -> proveedorService.create(proveedor("UNI-P2", "20999999991")));
+
+        assertEquals("Proveedor ya existe con RUC: '20999999991'", ex.getMessage());
+    }
+
+    private static CatSede sede(String codigo) {
+        CatSede sede = new CatSede();
+        sede.setCodigo(codigo);
+        sede.setNombre("Sede " + codigo);
+        return sede;
+    }
+
+    private static CatProveedor proveedor(String codigo, String ruc) {
+        CatProveedor proveedor = new CatProveedor();
+        proveedor.setCodigo(codigo);
+        proveedor.setRazonSocial("Proveedor " + codigo);
+        proveedor.setRuc(ruc);
+        return proveedor;
+    }
+}
@@ -0,0 +1,98 @@
+package pe.edu.upc.oss.group1.unicidad;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import pe.edu.upc.oss.group1.exception.DuplicateResourceException;
+
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for VerificadorUnicidad.
+ */
+class VerificadorUnicidadTest {
+
+    private final VerificadorUnicidad verificador = new VerificadorUnicidad();
+
+    @Test
+    void guardar_WhenNoViolation_ShouldReturnResult() {
+        assertEquals("ok", verificador.guardar(() -> "ok", RestriccionUnica.CAT_SEDE_CODIGO.con("LIM")));
+    }
+
+    @Test
+    void guardar_WithPostgresConstraintName_ShouldUseValueOfViolatedConstraint() {
+        DuplicateResourceException ex = assertThrows(DuplicateResourceException.class,
+                () -> verificador.guardar(() -> {
+                            throw violacion("uk_cat_proveedor_ruc", "23505");
+                        },
+                        RestriccionUnica.CAT_PROVEEDOR_CODIGO.con("PROV009"),
+                        RestriccionUnica.CAT_PROVEEDOR_RUC.con("20123456789")));
+
+        assertEquals("Proveedor ya existe con RUC: '20123456789'", ex.getMessage());
+    }
+
+    @Test
+    void guardar_WithH2IndexDescription_ShouldRecognizeConstraint() {
+        String descripcion = "\"PUBLIC.UK_DISPOSITIVO_NUMERO_SERIE_INDEX_3 ON PUBLIC.DISPOSITIVO(NUMERO_SERIE NULLS FIRST) "
+                + "VALUES ( /* 1 */ 'SN-1' )\"";
+
+        DuplicateResourceException ex = assertThrows(DuplicateResourceException.class,
+                () -> verificador.guardar(() -> {
+                    throw violacion(descripcion, "23505");
+                }, RestriccionUnica.DISPOSITIVO_NUMERO_SERIE.con("SN-1")));
+
+        assertEquals("Ya existe un dispositivo con el número de serie: SN-1", ex.getMessage());
+    }
+
+    @Test
+    void guardar_WithSeveralValuesPerConstraint_ShouldReportTheOneInDatabaseMessage() {
+        String mensaje = "\"PUBLIC.UK_DISPOSITIVO_CODIGO_ACTIVO_INDEX_1 ON PUBLIC.DISPOSITIVO(CODIGO_ACTIVO NULLS FIRST) "
+                + "VALUES ( /* 7 */ 'LAP-10' )\"";
+
+        DuplicateResourceException ex = assertThrows(DuplicateResourceException.class,
+                () -> verificador.guardar(() -> {
+                            throw violacion("uk_dispositivo_codigo_activo", mensaje, "23505");
+                        },
+                        RestriccionUnica.DISPOSITIVO_CODIGO_ACTIVO.con("LAP-1"),
+                        RestriccionUnica.DISPOSITIVO_NUMERO_SERIE.con("SN-10"),
+                        RestriccionUnica.DISPOSITIVO_CODIGO_ACTIVO.con("LAP-10"),
+                        RestriccionUnica.DISPOSITIVO_CODIGO_ACTIVO.con("LAP-2")));
+
+        assertEquals("Ya existe un dispositivo con el código: LAP-10", ex.getMessage());
+    }
+
+    @Test
+    void guardar_WithSeveralValuesNotInMessage_ShouldReportUnknownValue() {
+        DuplicateResourceException ex = assertThrows(DuplicateResourceException.class,
+                () -> verificador.guardar(() -> {
+                            throw violacion("uk_dispositivo_codigo_activo", "23505");
+                        },
+                        RestriccionUnica.DISPOSITIVO_CODIGO_ACTIVO.con("LAP-1"),
+                        RestriccionUnica.DISPOSITIVO_CODIGO_ACTIVO.con("LAP-2")));
+
+        assertEquals("Ya existe un dispositivo con el código: ?", ex.getMessage());
+    }
+
+    @Test
+    void guardar_WhenOtherIntegrityViolation_ShouldRethrowOriginal() {
+        DataIntegrityViolationException original = violacion("fk_dispositivo_marca", "23503");
+
+        DataIntegrityViolationException ex = assertThrows(DataIntegrityViolationException.class,
+                () -> verificador.guardar(() -> {
+                    throw original;
+                }));
+
+        assertSame(original, ex);
+    }
+
+    private static DataIntegrityViolationException violacion(String restriccion, String sqlState) {
+        return violacion(restriccion, "violación", sqlState);
+    }
+
+    private static DataIntegrityViolationException violacion(String restriccion, String mensaje, String sqlState) {
+        return new DataIntegrityViolationException("violación",
+                new ConstraintViolationException("violación", new SQLException(mensaje, sqlState), restriccion));
+    }
+}
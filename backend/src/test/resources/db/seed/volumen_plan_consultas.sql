@@ -0,0 +1,123 @@
+-- ============================================================================
+-- Datos de volumen para QueryPlanRegressionIntegrationTest
+-- ============================================================================
+-- Con pocas filas PostgreSQL prefiere Seq Scan aunque exista el índice; este
+-- script genera volúmenes y distribuciones parecidos a producción para que
+-- el plan elegido refleje la forma real de cada consulta.
+-- Proporciones: ~5% de asignaciones ACTIVA, el resto DEVUELTA/CANCELADA.
+-- ============================================================================
+
+INSERT INTO usuario (username, password_hash, email, nombre_completo, activo)
+SELECT 'seed' || g, 'x', 'seed' || g || '@oss.test', 'Usuario Seed ' || g, true
+FROM generate_series(1, 50) g;
+
+WITH area AS (SELECT array_agg(id ORDER BY id) ids FROM cat_area),
+     puesto AS (SELECT array_agg(id ORDER BY id) ids FROM cat_puesto),
+     sede AS (SELECT array_agg(id ORDER BY id) ids FROM cat_sede),
+     estado AS (SELECT array_agg(id ORDER BY id) ids FROM cat_estado_empleado)
+INSERT INTO empleado (codigo_empleado, nombre, apellido_paterno, email, id_area, id_puesto, id_sede,
+                      fecha_ingreso, id_estado_empleado)
+SELECT 'SEED' || g, 'Nombre' || g, 'Apellido' || g, 'empleado' || g || '@oss.test',
+       area.ids[1 + g % array_length(area.ids, 1)],
+       puesto.ids[1 + g % array_length(puesto.ids, 1)],
+       sede.ids[1 + g % array_length(sede.ids, 1)],
+       DATE '2015-01-01' + (g % 3000),
+       estado.ids[1 + g % array_length(estado.ids, 1)]
+FROM generate_series(1, 20000) g, area, puesto, sede, estado;
+
+WITH tipo AS (SELECT array_agg(id ORDER BY id) ids FROM cat_tipo_dispositivo),
+     marca AS (SELECT array_agg(id ORDER BY id) ids FROM cat_marca),
+     estado AS (SELECT array_agg(id ORDER BY id) ids FROM cat_estado_dispositivo)
+INSERT INTO dispositivo (codigo_activo, numero_serie, id_tipo_dispositivo, id_marca, modelo,
+                         id_estado_dispositivo, fecha_adquisicion, valor_adquisicion)
+SELECT 'SEED-' || g, 'SN-SEED-' || g,
+       tipo.ids[1 + g % array_length(tipo.ids, 1)],
+       marca.ids[1 + g % array_length(marca.ids, 1)],
+       'Modelo ' || (g % 200),
+       estado.ids[1 + g % array_length(estado.ids, 1)],
+       DATE '2018-01-01' + (g % 2000),
+       500 + (g % 2500)
+FROM generate_series(1, 50000) g, tipo, marca, estado;
+
+WITH d AS (SELECT min(id) base, count(*) n FROM dispositivo),
+     e AS (SELECT min(id) base, count(*) n FROM empleado),
+     u AS (SELECT min(id) base, count(*) n FROM usuario),
+     activa AS (SELECT id FROM cat_estado_asignacion WHERE codigo = 'ACTIVA'),
+     devuelta AS (SELECT id FROM cat_estado_asignacion WHERE codigo = 'DEVUELTA'),
+     cancelada AS (SELECT id FROM cat_estado_asignacion WHERE codigo = 'CANCELADA')
+INSERT INTO asignacion_dispositivo (id_dispositivo, id_empleado, fecha_asignacion, fecha_devolucion,
+                                    id_usuario_asigna, id_estado_asignacion)
+SELECT d.base + g % d.n,
+       e.base + (g * 7) % e.n,
+       DATE '2020-01-01' + (g % 2000),
+       CASE WHEN g % 20 = 0 THEN NULL ELSE DATE '2020-01-01' + (g % 2000) + (g % 300) END,
+       u.base + g % u.n,
+       CASE WHEN g % 20 = 0 THEN activa.id WHEN g % 20 = 1 THEN cancelada.id ELSE devuelta.id END
+FROM generate_series(1, 200000) g, d, e, u, activa, devuelta, cancelada;
+
+WITH d AS (SELECT min(id) base, count(*) n FROM dispositivo),
+     e AS (SELECT min(id) base, count(*) n FROM empleado),
+     u AS (SELECT min(id) base, count(*) n FROM usuario),
+     tipo AS (SELECT array_agg(id ORDER BY id) ids FROM cat_tipo_movimiento)
+INSERT INTO historial_dispositivo (id_dispositivo, id_tipo_movimiento, id_usuario, datos, fecha_movimiento)
+SELECT d.base + g % d.n,
+       tipo.ids[1 + g % array_length(tipo.ids, 1)],
+       u.base + g % u.n,
+       jsonb_build_object('empleadoId', e.base + (g * 3) % e.n),
+       TIMESTAMP '2020-01-01' + (g % 50000) * INTERVAL '1 hour'
+FROM generate_series(1, 500000) g, d, e, u, tipo;
+
+WITH e AS (SELECT min(id) base, count(*) n FROM empleado),
+     u AS (SELECT min(id) base, count(*) n FROM usuario),
+     estado AS (SELECT array_agg(id ORDER BY id) ids FROM cat_estado_solicitud)
+INSERT INTO solicitud_devolucion (id_empleado, fecha_solicitud, fecha_termino_empleado,
+                                  fecha_devolucion_programada, fecha_devolucion_real,
+                                  id_estado_solicitud, id_usuario_solicita)
+SELECT e.base + g % e.n,
+       DATE '2020-01-01' + (g % 2000),
+       DATE '2020-01-01' + (g % 2000),
+       DATE '2020-01-01' + (g % 2000) + 15,
+       CASE WHEN g % 10 = 0 THEN NULL ELSE DATE '2020-01-01' + (g % 2000) + 10 END,
+       estado.ids[1 + g % array_length(estado.ids, 1)],
+       u.base + g % u.n
+FROM generate_series(1, 20000) g, e, u, estado;
+
+WITH s AS (SELECT min(id) base, count(*) n FROM solicitud_devolucion),
+     a AS (SELECT min(id) base, count(*) n FROM asignacion_dispositivo),
+     cond AS (SELECT array_agg(id ORDER BY id) ids FROM cat_condicion_devolucion)
+INSERT INTO detalle_devolucion (id_solicitud_devolucion, id_dispositivo, id_asignacion, id_condicion_devolucion)
+SELECT s.base + g % s.n,
+       asig.id_dispositivo,
+       asig.id,
+       cond.ids[1 + g % array_length(cond.ids, 1)]
+FROM generate_series(1, 40000) g
+CROSS JOIN s
+CROSS JOIN a
+CROSS JOIN cond
+JOIN asignacion_dispositivo asig ON asig.id = a.base + g % a.n;
+
+WITH a AS (SELECT min(id) base, count(*) n FROM asignacion_dispositivo),
+     d AS (SELECT min(id) base, count(*) n FROM dispositivo),
+     u AS (SELECT min(id) base, count(*) n FROM usuario),
+     motivo AS (SELECT array_agg(id ORDER BY id) ids FROM cat_motivo_reemplazo),
+     estado AS (SELECT array_agg(id ORDER BY id) ids FROM cat_estado_reemplazo)
+INSERT INTO reemplazo_dispositivo (id_asignacion_original, id_dispositivo_original, id_dispositivo_reemplazo,
+                                   id_empleado, fecha_reemplazo, id_motivo_reemplazo,
+                                   id_usuario_registra, id_estado_reemplazo)
+SELECT asig.id,
+       asig.id_dispositivo,
+       d.base + (asig.id_dispositivo - d.base + 1) % d.n,
+       asig.id_empleado,
+       asig.fecha_asignacion + 30,
+       motivo.ids[1 + g % array_length(motivo.ids, 1)],
+       u.base + g % u.n,
+       estado.ids[1 + g % array_length(estado.ids, 1)]
+FROM generate_series(1, 10000) g
+CROSS JOIN a
+CROSS JOIN d
+CROSS JOIN u
+CROSS JOIN motivo
+CROSS JOIN estado
+JOIN asignacion_dispositivo asig ON asig.id = a.base + (g * 13) % a.n;
+
+ANALYZE;
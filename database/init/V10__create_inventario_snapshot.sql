@@ -0,0 +1,38 @@
+-- ============================================================================
+-- V10: Snapshots periódicos de tenencia para consultas a una fecha (as-of)
+-- ============================================================================
+-- Descripción: Para responder "quién tenía el dispositivo X el día D" o
+--              "cómo estaba el inventario al 31/12" sin recorrer todo el
+--              historial de asignaciones, se guarda periódicamente una foto
+--              compacta de qué dispositivo estaba en poder de qué empleado al
+--              cierre de un día (fecha_corte). Solo se guardan los dispositivos
+--              asignados; los que no figuran estaban libres.
+--              La consulta a una fecha D toma el snapshot más cercano anterior
+--              y reproduce solo las asignaciones/devoluciones entre fecha_corte
+--              y D (InventarioHistoricoService), así el costo queda acotado
+--              por el intervalo entre snapshots y no por el largo del historial.
+-- ============================================================================
+
+CREATE TABLE inventario_snapshot (
+    id SERIAL PRIMARY KEY,
+    fecha_corte DATE NOT NULL,
+    cantidad_asignados INTEGER NOT NULL DEFAULT 0,
+    fecha_creacion TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT uk_inventario_snapshot_fecha UNIQUE (fecha_corte)
+);
+
+CREATE TABLE inventario_snapshot_tenencia (
+    id_snapshot INTEGER NOT NULL,
+    id_dispositivo INTEGER NOT NULL,
+    id_empleado INTEGER NOT NULL,
+    id_asignacion INTEGER NOT NULL,
+
+    CONSTRAINT pk_inventario_snapshot_tenencia PRIMARY KEY (id_snapshot, id_dispositivo),
+    CONSTRAINT fk_snapshot_tenencia_snapshot FOREIGN KEY (id_snapshot)
+        REFERENCES inventario_snapshot(id) ON DELETE CASCADE
+);
+
+COMMENT ON TABLE inventario_snapshot IS 'Foto periódica de la tenencia de dispositivos al cierre de fecha_corte';
+COMMENT ON TABLE inventario_snapshot_tenencia IS 'Dispositivos en poder de un empleado al cierre de la fecha del snapshot';
+COMMENT ON COLUMN inventario_snapshot_tenencia.id_asignacion IS 'Asignación vigente; sin FK para conservar la foto aunque se depuren asignaciones';
@@ -0,0 +1,14 @@
+-- ============================================================================
+-- V12: Índice para la relectura incremental del índice de escaneo
+-- ============================================================================
+-- Descripción: IndiceEscaneo mantiene en memoria el resumen de cada
+--              dispositivo. Cuando otro nodo o un proceso masivo invalida la
+--              región de dispositivos, relee solo los modificados en los
+--              últimos minutos con
+--              COALESCE(ultima_actualizacion, fecha_creacion) >= ?
+--              (ultima_actualizacion es NULL hasta el primer UPDATE).
+--              El índice de expresión evita recorrer la tabla completa.
+-- ============================================================================
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_dispositivo_actualizacion
+    ON dispositivo ((COALESCE(ultima_actualizacion, fecha_creacion)));
@@ -0,0 +1,36 @@
+-- ============================================================================
+-- V13: Nombres explícitos para las restricciones UNIQUE
+-- ============================================================================
+-- Descripción: Los servicios ya no consultan existsBy* antes de cada INSERT o
+--              UPDATE: la unicidad la garantiza la base y VerificadorUnicidad
+--              traduce la violación a DuplicateResourceException según el
+--              nombre de la restricción. Las restricciones declaradas en línea
+--              (UNIQUE en la columna) tenían el nombre generado por PostgreSQL
+--              (<tabla>_<columna>_key); se renombran a uk_<tabla>_<columna>,
+--              igual que en las entidades JPA.
+--              El RUC de proveedor solo se validaba en la aplicación; se agrega
+--              su restricción (admite varios NULL).
+-- ============================================================================
+
+ALTER TABLE cat_estado_empleado RENAME CONSTRAINT cat_estado_empleado_codigo_key TO uk_cat_estado_empleado_codigo;
+ALTER TABLE cat_area RENAME CONSTRAINT cat_area_codigo_key TO uk_cat_area_codigo;
+ALTER TABLE cat_puesto RENAME CONSTRAINT cat_puesto_codigo_key TO uk_cat_puesto_codigo;
+ALTER TABLE cat_sede RENAME CONSTRAINT cat_sede_codigo_key TO uk_cat_sede_codigo;
+ALTER TABLE cat_tipo_dispositivo RENAME CONSTRAINT cat_tipo_dispositivo_codigo_key TO uk_cat_tipo_dispositivo_codigo;
+ALTER TABLE cat_marca RENAME CONSTRAINT cat_marca_codigo_key TO uk_cat_marca_codigo;
+ALTER TABLE cat_estado_dispositivo RENAME CONSTRAINT cat_estado_dispositivo_codigo_key TO uk_cat_estado_dispositivo_codigo;
+ALTER TABLE cat_proveedor RENAME CONSTRAINT cat_proveedor_codigo_key TO uk_cat_proveedor_codigo;
+ALTER TABLE cat_estado_asignacion RENAME CONSTRAINT cat_estado_asignacion_codigo_key TO uk_cat_estado_asignacion_codigo;
+ALTER TABLE cat_motivo_reemplazo RENAME CONSTRAINT cat_motivo_reemplazo_codigo_key TO uk_cat_motivo_reemplazo_codigo;
+ALTER TABLE cat_estado_reemplazo RENAME CONSTRAINT cat_estado_reemplazo_codigo_key TO uk_cat_estado_reemplazo_codigo;
+ALTER TABLE cat_estado_solicitud RENAME CONSTRAINT cat_estado_solicitud_codigo_key TO uk_cat_estado_solicitud_codigo;
+ALTER TABLE cat_condicion_devolucion RENAME CONSTRAINT cat_condicion_devolucion_codigo_key TO uk_cat_condicion_devolucion_codigo;
+ALTER TABLE cat_tipo_movimiento RENAME CONSTRAINT cat_tipo_movimiento_codigo_key TO uk_cat_tipo_movimiento_codigo;
+ALTER TABLE usuario RENAME CONSTRAINT usuario_username_key TO uk_usuario_username;
+ALTER TABLE usuario RENAME CONSTRAINT usuario_email_key TO uk_usuario_email;
+ALTER TABLE empleado RENAME CONSTRAINT empleado_codigo_empleado_key TO uk_empleado_codigo_empleado;
+ALTER TABLE empleado RENAME CONSTRAINT empleado_email_key TO uk_empleado_email;
+ALTER TABLE dispositivo RENAME CONSTRAINT dispositivo_codigo_activo_key TO uk_dispositivo_codigo_activo;
+ALTER TABLE dispositivo RENAME CONSTRAINT dispositivo_numero_serie_key TO uk_dispositivo_numero_serie;
+
+ALTER TABLE cat_proveedor ADD CONSTRAINT uk_cat_proveedor_ruc UNIQUE (ruc);
@@ -0,0 +1,113 @@
+-- ============================================================================
+-- V15: Sincronización incremental para clientes sin conexión
+-- ============================================================================
+-- Descripción: Las tablets de campo piden los cambios posteriores a una marca
+--              (GET /api/v1/sincronizacion/cambios) en lugar de descargar los
+--              listados completos. Un cambio se detecta por
+--              COALESCE(ultima_actualizacion, fecha_creacion).
+--              - Los catálogos no tenían ultima_actualizacion: se agrega con el
+--                mismo trigger update_ultima_actualizacion de V2. Las bajas de
+--                catálogos son lógicas (activo = FALSE), es decir, un UPDATE.
+--              - registro_eliminado guarda una lápida por cada dispositivo,
+--                empleado o asignación eliminado físicamente, para que los
+--                clientes también borren su copia. Se depuran al vencer la
+--                retención (app.sincronizacion.retencion-eliminados).
+-- ============================================================================
+
+ALTER TABLE cat_estado_empleado ADD COLUMN ultima_actualizacion TIMESTAMP;
+ALTER TABLE cat_area ADD COLUMN ultima_actualizacion TIMESTAMP;
+ALTER TABLE cat_puesto ADD COLUMN ultima_actualizacion TIMESTAMP;
+ALTER TABLE cat_sede ADD COLUMN ultima_actualizacion TIMESTAMP;
+ALTER TABLE cat_tipo_dispositivo ADD COLUMN ultima_actualizacion TIMESTAMP;
+ALTER TABLE cat_marca ADD COLUMN ultima_actualizacion TIMESTAMP;
+ALTER TABLE cat_estado_dispositivo ADD COLUMN ultima_actualizacion TIMESTAMP;
+ALTER TABLE cat_proveedor ADD COLUMN ultima_actualizacion TIMESTAMP;
+ALTER TABLE cat_estado_asignacion ADD COLUMN ultima_actualizacion TIMESTAMP;
+ALTER TABLE cat_motivo_reemplazo ADD COLUMN ultima_actualizacion TIMESTAMP;
+ALTER TABLE cat_estado_reemplazo ADD COLUMN ultima_actualizacion TIMESTAMP;
+ALTER TABLE cat_estado_solicitud ADD COLUMN ultima_actualizacion TIMESTAMP;
+ALTER TABLE cat_condicion_devolucion ADD COLUMN ultima_actualizacion TIMESTAMP;
+ALTER TABLE cat_tipo_movimiento ADD COLUMN ultima_actualizacion TIMESTAMP;
+
+CREATE TRIGGER trg_cat_estado_empleado_update
+    BEFORE UPDATE ON cat_estado_empleado
+    FOR EACH ROW
+    EXECUTE FUNCTION update_ultima_actualizacion();
+
+CREATE TRIGGER trg_cat_area_update
+    BEFORE UPDATE ON cat_area
+    FOR EACH ROW
+    EXECUTE FUNCTION update_ultima_actualizacion();
+
+CREATE TRIGGER trg_cat_puesto_update
+    BEFORE UPDATE ON cat_puesto
+    FOR EACH ROW
+    EXECUTE FUNCTION update_ultima_actualizacion();
+
+CREATE TRIGGER trg_cat_sede_update
+    BEFORE UPDATE ON cat_sede
+    FOR EACH ROW
+    EXECUTE FUNCTION update_ultima_actualizacion();
+
+CREATE TRIGGER trg_cat_tipo_dispositivo_update
+    BEFORE UPDATE ON cat_tipo_dispositivo
+    FOR EACH ROW
+    EXECUTE FUNCTION update_ultima_actualizacion();
+
+CREATE TRIGGER trg_cat_marca_update
+    BEFORE UPDATE ON cat_marca
+    FOR EACH ROW
+    EXECUTE FUNCTION update_ultima_actualizacion();
+
+CREATE TRIGGER trg_cat_estado_dispositivo_update
+    BEFORE UPDATE ON cat_estado_dispositivo
+    FOR EACH ROW
+    EXECUTE FUNCTION update_ultima_actualizacion();
+
+CREATE TRIGGER trg_cat_proveedor_update
+    BEFORE UPDATE ON cat_proveedor
+    FOR EACH ROW
+    EXECUTE FUNCTION update_ultima_actualizacion();
+
+CREATE TRIGGER trg_cat_estado_asignacion_update
+    BEFORE UPDATE ON cat_estado_asignacion
+    FOR EACH ROW
+    EXECUTE FUNCTION update_ultima_actualizacion();
+
+CREATE TRIGGER trg_cat_motivo_reemplazo_update
+    BEFORE UPDATE ON cat_motivo_reemplazo
+    FOR EACH ROW
+    EXECUTE FUNCTION update_ultima_actualizacion();
+
+CREATE TRIGGER trg_cat_estado_reemplazo_update
+    BEFORE UPDATE ON cat_estado_reemplazo
+    FOR EACH ROW
+    EXECUTE FUNCTION update_ultima_actualizacion();
+
+CREATE TRIGGER trg_cat_estado_solicitud_update
+    BEFORE UPDATE ON cat_estado_solicitud
+    FOR EACH ROW
+    EXECUTE FUNCTION update_ultima_actualizacion();
+
+CREATE TRIGGER trg_cat_condicion_devolucion_update
+    BEFORE UPDATE ON cat_condicion_devolucion
+    FOR EACH ROW
+    EXECUTE FUNCTION update_ultima_actualizacion();
+
+CREATE TRIGGER trg_cat_tipo_movimiento_update
+    BEFORE UPDATE ON cat_tipo_movimiento
+    FOR EACH ROW
+    EXECUTE FUNCTION update_ultima_actualizacion();
+
+CREATE TABLE registro_eliminado (
+    id BIGSERIAL PRIMARY KEY,
+    entidad VARCHAR(30) NOT NULL,
+    id_registro INTEGER NOT NULL,
+    fecha_eliminacion TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_registro_eliminado_fecha ON registro_eliminado (fecha_eliminacion, id);
+
+COMMENT ON TABLE registro_eliminado IS 'Lápidas de registros eliminados físicamente, para la sincronización incremental';
+COMMENT ON COLUMN registro_eliminado.entidad IS 'Nombre del flujo de sincronización (dispositivos, empleados, asignaciones)';
+COMMENT ON COLUMN registro_eliminado.id_registro IS 'ID del registro eliminado';
@@ -0,0 +1,22 @@
+-- ============================================================================
+-- V16: Índices para recorrer los cambios por (actualización, id)
+-- ============================================================================
+-- Descripción: La sincronización incremental recorre cada tabla grande por
+--              páginas con keyset sobre (COALESCE(ultima_actualizacion,
+--              fecha_creacion), id): una sincronización después de un día sin
+--              conexión lee solo las filas modificadas en ese día.
+--              idx_dispositivo_sincronizacion también resuelve la relectura del
+--              índice de escaneo, así que reemplaza a idx_dispositivo_actualizacion
+--              (V12). Los catálogos son tablas chicas y no necesitan índice.
+-- ============================================================================
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_dispositivo_sincronizacion
+    ON dispositivo ((COALESCE(ultima_actualizacion, fecha_creacion)), id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_empleado_sincronizacion
+    ON empleado ((COALESCE(ultima_actualizacion, fecha_creacion)), id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_asignacion_sincronizacion
+    ON asignacion_dispositivo ((COALESCE(ultima_actualizacion, fecha_creacion)), id);
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_dispositivo_actualizacion;
@@ -0,0 +1,30 @@
+-- ============================================================================
+-- V18: Progreso de los cambios de estado masivos
+-- ============================================================================
+-- Descripción: POST /api/v1/dispositivos/estado-masivo responde con el ID del
+--              trabajo y el cliente consulta el progreso con GET. El progreso
+--              se guardaba en memoria de la instancia que ejecuta el trabajo:
+--              detrás del balanceador, un GET que llegaba a otra instancia
+--              respondía 404. Ahora cada lote actualiza su fila en la misma
+--              transacción en la que cambia los dispositivos.
+--              Los trabajos terminados se depuran al iniciar uno nuevo, una
+--              hora después de fecha_fin.
+-- ============================================================================
+
+CREATE TABLE cambio_estado_masivo (
+    id UUID PRIMARY KEY,
+    id_estado_destino INTEGER NOT NULL REFERENCES cat_estado_dispositivo(id),
+    total BIGINT NOT NULL,
+    procesados BIGINT NOT NULL DEFAULT 0,
+    cambiados BIGINT NOT NULL DEFAULT 0,
+    estado VARCHAR(20) NOT NULL,
+    error VARCHAR(1000),
+    fecha_inicio TIMESTAMP NOT NULL,
+    fecha_fin TIMESTAMP
+);
+
+CREATE INDEX idx_cambio_estado_masivo_fecha_fin ON cambio_estado_masivo (fecha_fin);
+
+COMMENT ON TABLE cambio_estado_masivo IS 'Progreso de los cambios de estado masivos de dispositivos, consultable desde cualquier instancia';
+COMMENT ON COLUMN cambio_estado_masivo.procesados IS 'Dispositivos revisados en los lotes confirmados';
+COMMENT ON COLUMN cambio_estado_masivo.cambiados IS 'Dispositivos que cambiaron de estado (se omiten los que ya estaban en el estado destino)';
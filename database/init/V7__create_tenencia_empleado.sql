@@ -0,0 +1,66 @@
+-- ============================================================================
+-- V7: Resumen de tenencia de dispositivos por empleado
+-- ============================================================================
+-- Description: Mantiene por empleado la cantidad de dispositivos asignados,
+--              el valor total y los dispositivos que tiene por tipo, para no
+--              recalcularlos con COUNT/JOIN sobre asignacion_dispositivo.
+--              Se actualiza en la misma transacción que asigna, devuelve,
+--              cancela o reemplaza (TenenciaEmpleadoService).
+-- ============================================================================
+
+CREATE TABLE tenencia_empleado (
+    id_empleado INTEGER PRIMARY KEY,
+    cantidad_dispositivos INTEGER NOT NULL DEFAULT 0,
+    valor_total NUMERIC(12, 2) NOT NULL DEFAULT 0,
+    ultima_actualizacion TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_tenencia_empleado FOREIGN KEY (id_empleado)
+        REFERENCES empleado(id) ON DELETE CASCADE,
+    CONSTRAINT chk_tenencia_cantidad CHECK (cantidad_dispositivos >= 0)
+);
+
+-- Un dispositivo solo puede estar en poder de un empleado a la vez (PK)
+CREATE TABLE tenencia_empleado_dispositivo (
+    id_dispositivo INTEGER PRIMARY KEY,
+    id_empleado INTEGER NOT NULL,
+    id_tipo_dispositivo INTEGER NOT NULL,
+    valor NUMERIC(10, 2) NOT NULL DEFAULT 0,
+
+    CONSTRAINT fk_tenencia_disp_dispositivo FOREIGN KEY (id_dispositivo)
+        REFERENCES dispositivo(id) ON DELETE CASCADE,
+    CONSTRAINT fk_tenencia_disp_empleado FOREIGN KEY (id_empleado)
+        REFERENCES tenencia_empleado(id_empleado) ON DELETE CASCADE,
+    CONSTRAINT fk_tenencia_disp_tipo FOREIGN KEY (id_tipo_dispositivo)
+        REFERENCES cat_tipo_dispositivo(id) ON DELETE RESTRICT
+);
+
+CREATE INDEX idx_tenencia_disp_empleado ON tenencia_empleado_dispositivo(id_empleado, id_tipo_dispositivo);
+
+COMMENT ON TABLE tenencia_empleado IS 'Resumen por empleado de los dispositivos que tiene asignados';
+COMMENT ON TABLE tenencia_empleado_dispositivo IS 'Dispositivos actualmente en poder de cada empleado';
+
+-- ============================================================================
+-- Carga inicial desde las asignaciones activas
+-- ============================================================================
+
+INSERT INTO tenencia_empleado (id_empleado)
+SELECT id FROM empleado;
+
+INSERT INTO tenencia_empleado_dispositivo (id_dispositivo, id_empleado, id_tipo_dispositivo, valor)
+SELECT DISTINCT ON (a.id_dispositivo)
+       a.id_dispositivo, a.id_empleado, d.id_tipo_dispositivo, COALESCE(d.valor_adquisicion, 0)
+FROM asignacion_dispositivo a
+JOIN cat_estado_asignacion e ON e.id = a.id_estado_asignacion
+JOIN dispositivo d ON d.id = a.id_dispositivo
+WHERE e.codigo = 'ACTIVA'
+ORDER BY a.id_dispositivo, a.fecha_asignacion DESC, a.id DESC;
+
+UPDATE tenencia_empleado t
+SET cantidad_dispositivos = r.cantidad,
+    valor_total = r.valor
+FROM (
+    SELECT id_empleado, COUNT(*) AS cantidad, SUM(valor) AS valor
+    FROM tenencia_empleado_dispositivo
+    GROUP BY id_empleado
+) r
+WHERE r.id_empleado = t.id_empleado;
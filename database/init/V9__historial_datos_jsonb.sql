@@ -0,0 +1,57 @@
+-- ============================================================================
+-- V9: Datos estructurados (JSONB) en historial_dispositivo
+-- ============================================================================
+-- Descripción: El historial guardaba una descripción de texto armada con
+--              String.format (incluyendo el nombre completo del empleado) y
+--              dos columnas TEXT con el estado anterior y nuevo. Ahora cada
+--              registro guarda un payload JSONB compacto con ids y campos
+--              cambiados; la descripción se arma al leer.
+--              - datos: {"empleadoId":..,"dispositivoId":..,"motivo":..,
+--                        "observacion":..,"cambios":{"estado":{"de":..,"a":..}}}
+--              - descripcion queda solo para los registros anteriores a V9.
+--              La conversión de filas existentes se hace por lotes con COMMIT
+--              entre lotes para no mantener bloqueada la tabla completa
+--              (ver V9__historial_datos_jsonb.sql.conf).
+-- ============================================================================
+
+ALTER TABLE historial_dispositivo ADD COLUMN IF NOT EXISTS datos JSONB;
+
+ALTER TABLE historial_dispositivo ALTER COLUMN descripcion DROP NOT NULL;
+
+-- Las columnas TEXT solo contenían códigos de estado en texto plano (no JSON),
+-- por eso se convierten a strings JSON dentro de "cambios".
+DO $$
+DECLARE
+    v_lote  CONSTANT INTEGER := 10000;
+    v_desde INTEGER;
+    v_hasta INTEGER;
+BEGIN
+    SELECT min(id), max(id) INTO v_desde, v_hasta
+    FROM historial_dispositivo
+    WHERE datos_anteriores IS NOT NULL OR datos_nuevos IS NOT NULL;
+
+    WHILE v_desde <= v_hasta LOOP
+        UPDATE historial_dispositivo h
+        SET datos = jsonb_build_object('cambios', jsonb_build_object(
+                CASE WHEN t.codigo = 'CAMBIO_ESTADO' THEN 'estado' ELSE 'datos' END,
+                jsonb_strip_nulls(jsonb_build_object('de', h.datos_anteriores, 'a', h.datos_nuevos))))
+        FROM cat_tipo_movimiento t
+        WHERE t.id = h.id_tipo_movimiento
+          AND h.id >= v_desde AND h.id < v_desde + v_lote
+          AND h.datos IS NULL
+          AND (h.datos_anteriores IS NOT NULL OR h.datos_nuevos IS NOT NULL);
+
+        COMMIT;
+        v_desde := v_desde + v_lote;
+    END LOOP;
+END $$;
+
+ALTER TABLE historial_dispositivo DROP COLUMN IF EXISTS datos_anteriores;
+ALTER TABLE historial_dispositivo DROP COLUMN IF EXISTS datos_nuevos;
+
+-- Consultas por campo del payload: datos @> '{"empleadoId": 5}'
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_historial_datos
+    ON historial_dispositivo USING GIN (datos jsonb_path_ops);
+
+COMMENT ON COLUMN historial_dispositivo.descripcion IS 'Descripción en texto (solo registros anteriores a V9)';
+COMMENT ON COLUMN historial_dispositivo.datos IS 'Payload del movimiento: ids involucrados y campos cambiados (JSONB)';